@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.ui.tools.css;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Scans compiled classes, from directories or jars, and collects the referenced fields and
+ * methods and the string constants found in their constant pools. Java sources found along
+ * the way are handed to a source visitor, this is how the sources packaged in the domino-ui jars
+ * are read.
+ */
+public class ClassReferencesScanner {
+
+  private final Map<String, Set<String>> fieldNamesByClass = new HashMap<>();
+  private final Map<String, Set<String>> methodRefsByClass = new HashMap<>();
+  private final Map<String, Set<String>> stringsByClass = new HashMap<>();
+  private final List<SourceVisitor> sourceVisitors = new ArrayList<>();
+  private int scannedClasses;
+
+  /**
+   * Registers a visitor for the java sources found while scanning.
+   *
+   * @param sourceVisitor the visitor
+   * @return this scanner
+   */
+  public ClassReferencesScanner onSource(SourceVisitor sourceVisitor) {
+    this.sourceVisitors.add(sourceVisitor);
+    return this;
+  }
+
+  /**
+   * Scans a classes directory, a jar file or a single class file.
+   *
+   * @param path the path to scan
+   * @throws IOException if the path cannot be read
+   */
+  public void scan(Path path) throws IOException {
+    if (Files.isDirectory(path)) {
+      try (Stream<Path> files = Files.walk(path)) {
+        for (Path file : (Iterable<Path>) files::iterator) {
+          if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+              scanEntry(file.toString(), in);
+            }
+          }
+        }
+      }
+    } else if (path.toString().endsWith(".jar") || path.toString().endsWith(".zip")) {
+      try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(path))) {
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+          if (!entry.isDirectory()) {
+            scanEntry(entry.getName(), zip);
+          }
+        }
+      }
+    } else {
+      try (InputStream in = Files.newInputStream(path)) {
+        scanEntry(path.toString(), in);
+      }
+    }
+  }
+
+  private void scanEntry(String name, InputStream in) throws IOException {
+    if (name.endsWith(".class")) {
+      readConstantPool(new DataInputStream(in));
+      scannedClasses++;
+    } else if (name.endsWith(".java") && !sourceVisitors.isEmpty()) {
+      String source = new String(readAll(in), StandardCharsets.UTF_8);
+      for (SourceVisitor visitor : sourceVisitors) {
+        visitor.visit(name, source);
+      }
+    }
+  }
+
+  private void readConstantPool(DataInputStream in) throws IOException {
+    if (in.readInt() != 0xCAFEBABE) {
+      return;
+    }
+    in.readUnsignedShort();
+    in.readUnsignedShort();
+    int count = in.readUnsignedShort();
+    String[] utf8 = new String[count];
+    int[] stringRefs = new int[count];
+    int[] nameAndTypeRefs = new int[count];
+    int[] nameRefs = new int[count];
+    int[] classRefs = new int[count];
+    int[] ownerRefs = new int[count];
+    List<Integer> fieldRefs = new ArrayList<>();
+    List<Integer> methodRefs = new ArrayList<>();
+    List<Integer> stringConstants = new ArrayList<>();
+    for (int i = 1; i < count; i++) {
+      int tag = in.readUnsignedByte();
+      switch (tag) {
+        case 1:
+          utf8[i] = in.readUTF();
+          break;
+        case 3:
+        case 4:
+          in.readInt();
+          break;
+        case 5:
+        case 6:
+          in.readLong();
+          i++;
+          break;
+        case 7:
+          classRefs[i] = in.readUnsignedShort();
+          break;
+        case 16:
+        case 19:
+        case 20:
+          in.readUnsignedShort();
+          break;
+        case 8:
+          stringRefs[i] = in.readUnsignedShort();
+          stringConstants.add(i);
+          break;
+        case 9:
+          in.readUnsignedShort();
+          nameAndTypeRefs[i] = in.readUnsignedShort();
+          fieldRefs.add(i);
+          break;
+        case 10:
+        case 11:
+          ownerRefs[i] = in.readUnsignedShort();
+          nameAndTypeRefs[i] = in.readUnsignedShort();
+          methodRefs.add(i);
+          break;
+        case 17:
+        case 18:
+          in.readUnsignedShort();
+          in.readUnsignedShort();
+          break;
+        case 12:
+          nameRefs[i] = in.readUnsignedShort();
+          in.readUnsignedShort();
+          break;
+        case 15:
+          in.readUnsignedByte();
+          in.readUnsignedShort();
+          break;
+        default:
+          throw new IOException("Unsupported constant pool tag " + tag);
+      }
+    }
+    in.readUnsignedShort();
+    String className = utf8[classRefs[in.readUnsignedShort()]];
+    Set<String> fieldNames = fieldNamesByClass.computeIfAbsent(className, k -> new HashSet<>());
+    for (int fieldRef : fieldRefs) {
+      String name = utf8[nameRefs[nameAndTypeRefs[fieldRef]]];
+      if (name != null) {
+        fieldNames.add(name);
+      }
+    }
+    Set<String> methods = methodRefsByClass.computeIfAbsent(className, k -> new HashSet<>());
+    for (int methodRef : methodRefs) {
+      String owner = utf8[classRefs[ownerRefs[methodRef]]];
+      String name = utf8[nameRefs[nameAndTypeRefs[methodRef]]];
+      if (owner != null && name != null) {
+        methods.add(owner + "." + name);
+      }
+    }
+    Set<String> strings = stringsByClass.computeIfAbsent(className, k -> new HashSet<>());
+    for (int stringConstant : stringConstants) {
+      String value = utf8[stringRefs[stringConstant]];
+      if (value != null) {
+        strings.add(value);
+      }
+    }
+  }
+
+  private static byte[] readAll(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * @param classFilter tests the internal name, like {@code org/dominokit/Foo$1}, of the classes
+   *     whose references are included
+   * @return the names of the fields referenced by the scanned classes accepted by the filter
+   */
+  public Set<String> getFieldNames(Predicate<String> classFilter) {
+    return collect(fieldNamesByClass, classFilter);
+  }
+
+  /**
+   * @param classFilter tests the internal name, like {@code org/dominokit/Foo$1}, of the classes
+   *     whose references are included
+   * @return the methods referenced by the scanned classes accepted by the filter, each as the
+   *     internal name of the owner class followed by a dot and the method name, like {@code
+   *     org/dominokit/Foo.bar}
+   */
+  public Set<String> getMethodReferences(Predicate<String> classFilter) {
+    return collect(methodRefsByClass, classFilter);
+  }
+
+  /**
+   * @param classFilter tests the internal name, like {@code org/dominokit/Foo$1}, of the classes
+   *     whose strings are included
+   * @return the string constants of the scanned classes accepted by the filter
+   */
+  public Set<String> getStrings(Predicate<String> classFilter) {
+    return collect(stringsByClass, classFilter);
+  }
+
+  private static Set<String> collect(
+      Map<String, Set<String>> valuesByClass, Predicate<String> classFilter) {
+    Set<String> values = new HashSet<>();
+    valuesByClass.forEach(
+        (className, classValues) -> {
+          if (classFilter.test(className)) {
+            values.addAll(classValues);
+          }
+        });
+    return values;
+  }
+
+  /** @return the number of scanned class files */
+  public int getScannedClasses() {
+    return scannedClasses;
+  }
+
+  /** A visitor for the java sources found while scanning. */
+  @FunctionalInterface
+  public interface SourceVisitor {
+    /**
+     * @param name the source entry name
+     * @param source the source content
+     */
+    void visit(String name, String source);
+  }
+}
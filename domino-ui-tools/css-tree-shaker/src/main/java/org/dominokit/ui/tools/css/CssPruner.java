@@ -0,0 +1,414 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.ui.tools.css;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Removes the style rules whose selectors need a CSS class that is not used, and writes the
+ * remaining rules minified.
+ *
+ * <ul>
+ *   <li>A selector is kept when every class it requires is used, classes inside functional
+ *       pseudo classes like {@code :not(...)} are not required.
+ *   <li>Rules without classes, {@code @font-face} and other at-rules are kept.
+ *   <li>{@code @media}, {@code @supports}, {@code @layer} and {@code @container} blocks are pruned
+ *       recursively and dropped when empty.
+ *   <li>{@code @keyframes} are kept only when their name is referenced by a kept rule.
+ *   <li>{@code @charset} statements are dropped, the bundle declares its own charset.
+ * </ul>
+ */
+public class CssPruner {
+
+  private static final Pattern CLASS_PATTERN =
+      Pattern.compile("\\.((?:\\\\[0-9a-fA-F]{1,6} ?|\\\\.|[\\w-])+)");
+  private static final Pattern ESCAPE_PATTERN =
+      Pattern.compile("\\\\([0-9a-fA-F]{1,6}) ?|\\\\(.)");
+  private static final Pattern KEYFRAMES_PATTERN =
+      Pattern.compile("@(?:-\\w+-)?keyframes\\s+([^\\s{]+)");
+
+  private final Predicate<String> usedClass;
+  private final Set<String> cssClasses = new HashSet<>();
+  private final Set<String> keptClasses = new HashSet<>();
+  private int totalRules;
+  private int keptRules;
+
+  /** @param usedClass tests if a CSS class name, unescaped, is used */
+  public CssPruner(Predicate<String> usedClass) {
+    this.usedClass = usedClass;
+  }
+
+  /**
+   * Prunes a style sheet.
+   *
+   * @param css the style sheet content
+   * @return the pruned and minified style sheet
+   */
+  public String prune(String css) {
+    List<Node> nodes = parse(stripComments(css));
+    List<Node> kept = pruneNodes(nodes);
+    StringBuilder declarations = new StringBuilder();
+    collectDeclarations(kept, declarations);
+    StringBuilder out = new StringBuilder();
+    write(kept, declarations.toString(), out);
+    return out.toString();
+  }
+
+  /** @return all the CSS classes found in the pruned style sheets selectors */
+  public Set<String> getCssClasses() {
+    return cssClasses;
+  }
+
+  /** @return the CSS classes of the kept selectors */
+  public Set<String> getKeptClasses() {
+    return keptClasses;
+  }
+
+  /** @return the number of style rules read */
+  public int getTotalRules() {
+    return totalRules;
+  }
+
+  /** @return the number of style rules kept */
+  public int getKeptRules() {
+    return keptRules;
+  }
+
+  private List<Node> pruneNodes(List<Node> nodes) {
+    List<Node> kept = new ArrayList<>();
+    for (Node node : nodes) {
+      if (node.isGroup()) {
+        List<Node> children = pruneNodes(node.children);
+        if (!children.isEmpty()) {
+          kept.add(Node.group(node.prelude, children));
+        }
+      } else if (node.isStyleRule()) {
+        totalRules++;
+        List<String> selectors = new ArrayList<>();
+        for (String selector : splitTopLevel(node.prelude, ',')) {
+          if (isUsed(selector)) {
+            selectors.add(minifySelector(selector));
+          }
+        }
+        if (!selectors.isEmpty()) {
+          keptRules++;
+          kept.add(Node.rule(String.join(",", selectors), node.body));
+        }
+      } else {
+        kept.add(node);
+      }
+    }
+    return kept;
+  }
+
+  private boolean isUsed(String selector) {
+    Set<String> required = new HashSet<>();
+    Matcher matcher = CLASS_PATTERN.matcher(removeParentheses(selector));
+    while (matcher.find()) {
+      required.add(unescape(matcher.group(1)));
+    }
+    cssClasses.addAll(required);
+    for (String cssClass : required) {
+      if (!usedClass.test(cssClass)) {
+        return false;
+      }
+    }
+    keptClasses.addAll(required);
+    return true;
+  }
+
+  private void collectDeclarations(List<Node> nodes, StringBuilder declarations) {
+    for (Node node : nodes) {
+      if (node.isGroup()) {
+        collectDeclarations(node.children, declarations);
+      } else if (node.isStyleRule()) {
+        declarations.append(node.body).append(';');
+      }
+    }
+  }
+
+  private void write(List<Node> nodes, String declarations, StringBuilder out) {
+    for (Node node : nodes) {
+      if (node.isGroup()) {
+        out.append(minifySelector(node.prelude)).append('{');
+        write(node.children, declarations, out);
+        out.append('}');
+      } else if (node.body == null) {
+        out.append(minifySelector(node.prelude)).append(';');
+      } else {
+        Matcher keyframes = KEYFRAMES_PATTERN.matcher(node.prelude);
+        if (keyframes.find() && !referencesName(declarations, keyframes.group(1))) {
+          continue;
+        }
+        out.append(minifySelector(node.prelude)).append('{');
+        out.append(minifyBody(node.body)).append('}');
+      }
+    }
+  }
+
+  private static boolean referencesName(String declarations, String name) {
+    return Pattern.compile("(?<![\\w-])" + Pattern.quote(name) + "(?![\\w-])")
+        .matcher(declarations)
+        .find();
+  }
+
+  private static List<Node> parse(String css) {
+    List<Node> nodes = new ArrayList<>();
+    int index = 0;
+    int length = css.length();
+    while (index < length) {
+      int end = findTopLevel(css, index, "{;");
+      if (end < 0) {
+        break;
+      }
+      String prelude = css.substring(index, end).trim();
+      if (css.charAt(end) == ';') {
+        if (!prelude.isEmpty() && !prelude.startsWith("@charset")) {
+          nodes.add(Node.statement(prelude));
+        }
+        index = end + 1;
+        continue;
+      }
+      int close = findClosingBrace(css, end);
+      String body = css.substring(end + 1, close);
+      if (isGroupRule(prelude)) {
+        nodes.add(Node.group(prelude, parse(body)));
+      } else if (prelude.startsWith("@")) {
+        nodes.add(Node.atRule(prelude, body));
+      } else if (!prelude.isEmpty()) {
+        nodes.add(Node.rule(prelude, body));
+      }
+      index = close + 1;
+    }
+    return nodes;
+  }
+
+  private static boolean isGroupRule(String prelude) {
+    return prelude.startsWith("@media")
+        || prelude.startsWith("@supports")
+        || prelude.startsWith("@layer")
+        || prelude.startsWith("@container");
+  }
+
+  private static int findTopLevel(String css, int from, String chars) {
+    char quote = 0;
+    for (int i = from; i < css.length(); i++) {
+      char c = css.charAt(i);
+      if (quote != 0) {
+        if (c == '\\') {
+          i++;
+        } else if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+      } else if (c == '\\') {
+        i++;
+      } else if (chars.indexOf(c) >= 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int findClosingBrace(String css, int open) {
+    int depth = 0;
+    int index = open;
+    while (index >= 0 && index < css.length()) {
+      index = findTopLevel(css, index, "{}");
+      if (index < 0) {
+        break;
+      }
+      depth += css.charAt(index) == '{' ? 1 : -1;
+      if (depth == 0) {
+        return index;
+      }
+      index++;
+    }
+    return css.length();
+  }
+
+  private static List<String> splitTopLevel(String value, char separator) {
+    List<String> parts = new ArrayList<>();
+    int depth = 0;
+    int start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == '(' || c == '[') {
+        depth++;
+      } else if (c == ')' || c == ']') {
+        depth--;
+      } else if (c == separator && depth == 0) {
+        parts.add(value.substring(start, i));
+        start = i + 1;
+      }
+    }
+    parts.add(value.substring(start));
+    return parts;
+  }
+
+  private static String removeParentheses(String selector) {
+    StringBuilder sb = new StringBuilder();
+    int depth = 0;
+    for (int i = 0; i < selector.length(); i++) {
+      char c = selector.charAt(i);
+      if (c == '\\' && i + 1 < selector.length()) {
+        if (depth == 0) {
+          sb.append(c).append(selector.charAt(i + 1));
+        }
+        i++;
+      } else if (c == '(' || c == '[') {
+        depth++;
+      } else if (c == ')' || c == ']') {
+        depth--;
+      } else if (depth == 0) {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  static String unescape(String cssClass) {
+    Matcher matcher = ESCAPE_PATTERN.matcher(cssClass);
+    StringBuffer sb = new StringBuffer();
+    while (matcher.find()) {
+      String replacement;
+      if (matcher.group(1) != null) {
+        replacement = new String(Character.toChars(Integer.parseInt(matcher.group(1), 16)));
+      } else {
+        replacement = matcher.group(2);
+      }
+      matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+    }
+    matcher.appendTail(sb);
+    return sb.toString();
+  }
+
+  private static String stripComments(String css) {
+    StringBuilder sb = new StringBuilder(css.length());
+    char quote = 0;
+    for (int i = 0; i < css.length(); i++) {
+      char c = css.charAt(i);
+      if (quote != 0) {
+        sb.append(c);
+        if (c == '\\' && i + 1 < css.length()) {
+          sb.append(css.charAt(++i));
+        } else if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '/' && i + 1 < css.length() && css.charAt(i + 1) == '*') {
+        int end = css.indexOf("*/", i + 2);
+        i = end < 0 ? css.length() : end + 1;
+      } else {
+        if (c == '"' || c == '\'') {
+          quote = c;
+        }
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  private static String minifySelector(String selector) {
+    return minifyOutsideQuotes(
+        selector.trim(),
+        part -> part.replaceAll("\\s+", " ").replaceAll("\\s*([>+~,])\\s*", "$1"));
+  }
+
+  private static String minifyBody(String body) {
+    String minified =
+        minifyOutsideQuotes(
+            body.trim(),
+            part ->
+                part.replaceAll("\\s+", " ")
+                    .replaceAll("\\s*([;{}])\\s*", "$1")
+                    .replaceAll("(^|[;{])([\\w-]+)\\s*:\\s*", "$1$2:"));
+    return minified.endsWith(";") ? minified.substring(0, minified.length() - 1) : minified;
+  }
+
+  /**
+   * Applies the minifier to the parts of the text that are not quoted strings, the quoted strings,
+   * like {@code content: "a  b"} values or attribute selectors values, are kept as they are.
+   */
+  private static String minifyOutsideQuotes(String text, UnaryOperator<String> minifier) {
+    StringBuilder sb = new StringBuilder();
+    int start = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == '"' || c == '\'') {
+        int end = i + 1;
+        while (end < text.length() && text.charAt(end) != c) {
+          end += text.charAt(end) == '\\' ? 2 : 1;
+        }
+        end = Math.min(end + 1, text.length());
+        sb.append(minifier.apply(text.substring(start, i))).append(text, i, end);
+        start = end;
+        i = end - 1;
+      }
+    }
+    return sb.append(minifier.apply(text.substring(start))).toString();
+  }
+
+  private static class Node {
+    private final String prelude;
+    private final String body;
+    private final List<Node> children;
+    private final boolean styleRule;
+
+    private Node(String prelude, String body, List<Node> children, boolean styleRule) {
+      this.prelude = prelude;
+      this.body = body;
+      this.children = children;
+      this.styleRule = styleRule;
+    }
+
+    static Node rule(String selector, String body) {
+      return new Node(selector, body, null, true);
+    }
+
+    static Node group(String prelude, List<Node> children) {
+      return new Node(prelude, null, children, false);
+    }
+
+    static Node atRule(String prelude, String body) {
+      return new Node(prelude, body, null, false);
+    }
+
+    static Node statement(String prelude) {
+      return new Node(prelude, null, null, false);
+    }
+
+    boolean isGroup() {
+      return children != null;
+    }
+
+    boolean isStyleRule() {
+      return styleRule;
+    }
+  }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.ui.tools.css;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Produces a pruned and minified CSS bundle containing only the rules needed by an application.
+ *
+ * <p>The compiled application classes, and the domino-ui jars, are scanned for references to
+ * {@code CssClass} constants like {@code SpacingCss.dui_m_4} and for string constants that name
+ * CSS classes. The constants values are read from the {@code CssClass name = () -> "value";}
+ * declarations of the java sources packaged with domino-ui, then every style rule requiring a class
+ * that is not used is removed from the given style sheets.
+ *
+ * <p>String constants ending with a dash, like {@code "dui-hide-on-" + hideOn}, are treated as the
+ * prefix of class names completed at runtime and keep every class starting with them.
+ *
+ * <p>Usage:
+ *
+ * <pre>
+ * java -jar css-tree-shaker.jar \
+ *   --classes target/classes --classes domino-ui.jar --classes domino-ui-shared.jar \
+ *   --css webjars/domino-ui/css/domino-ui/dui-components \
+ *   --out target/domino-ui.min.css --report target/domino-ui-css-report.txt
+ * </pre>
+ *
+ * <ul>
+ *   <li>{@code --classes} a classes directory or jar to scan, repeatable
+ *   <li>{@code --sources} an extra sources directory or jar to read constants from, repeatable
+ *   <li>{@code --css} a style sheet or a directory of style sheets to prune, repeatable
+ *   <li>{@code --keep} a CSS class to keep even if not referenced, repeatable
+ *   <li>{@code --keep-prefix} keep every CSS class starting with the prefix, repeatable
+ *   <li>{@code --out} the bundle file to write
+ *   <li>{@code --report} the usage report file to write, optional
+ * </ul>
+ */
+public class CssTreeShaker {
+
+  private static final Pattern PACKAGE_PATTERN = Pattern.compile("package\\s+([\\w.]+)\\s*;");
+  private static final Pattern CONSTANT_PATTERN =
+      Pattern.compile("CssClass\\s+(\\w+)\\s*=\\s*\\(\\)\\s*->\\s*\"([^\"]*)\"\\s*;");
+  private static final Set<String> ALWAYS_KEPT = new HashSet<>(List.of("dui"));
+
+  /** Prefixes of the class names domino-ui builds at runtime, like {@code "dui-hide-on-" + x}. */
+  private static final Set<String> ALWAYS_KEPT_PREFIXES =
+      new HashSet<>(List.of("dui-hide-on-", "dui-show-on-", "dui-theme-accent-"));
+
+  /**
+   * Splits the string constants into class names, the U+0001 and U+0002 characters are the
+   * arguments placeholders of the string concatenation recipes compiled by javac.
+   */
+  private static final Pattern TOKENS_SEPARATOR = Pattern.compile("[\\s\\u0001\\u0002]+");
+
+  /**
+   * A string constant ending with a dash, with at least two name segments so that {@code "dui-"}
+   * does not keep every rule, is the prefix of a class name completed at runtime.
+   */
+  private static final Pattern PREFIX_PATTERN = Pattern.compile("[a-z][\\w]*(-[\\w]+)+-");
+
+  private final List<Path> classes = new ArrayList<>();
+  private final List<Path> sources = new ArrayList<>();
+  private final List<Path> styleSheets = new ArrayList<>();
+  private final Set<String> keep = new HashSet<>(ALWAYS_KEPT);
+  private final Set<String> keepPrefixes = new TreeSet<>(ALWAYS_KEPT_PREFIXES);
+  private Path out;
+  private Path report;
+
+  private final Map<String, Set<String>> constants = new HashMap<>();
+  private final Set<String> constantsClasses = new HashSet<>();
+  private final Set<String> usedClasses = new HashSet<>();
+
+  public static void main(String[] args) throws IOException {
+    CssTreeShaker shaker = new CssTreeShaker();
+    for (int i = 0; i < args.length; i++) {
+      String value = i + 1 < args.length ? args[i + 1] : null;
+      switch (args[i]) {
+        case "--classes":
+          shaker.classes.add(Paths.get(value));
+          break;
+        case "--sources":
+          shaker.sources.add(Paths.get(value));
+          break;
+        case "--css":
+          shaker.styleSheets.add(Paths.get(value));
+          break;
+        case "--keep":
+          shaker.keep.add(value);
+          break;
+        case "--keep-prefix":
+          shaker.keepPrefixes.add(value);
+          break;
+        case "--out":
+          shaker.out = Paths.get(value);
+          break;
+        case "--report":
+          shaker.report = Paths.get(value);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown argument " + args[i]);
+      }
+      i++;
+    }
+    if (shaker.classes.isEmpty() || shaker.styleSheets.isEmpty() || shaker.out == null) {
+      throw new IllegalArgumentException(
+          "Usage: --classes <dir|jar>... --css <file|dir>... --out <file> [--report <file>]"
+              + " [--sources <dir|jar>...] [--keep <class>...] [--keep-prefix <prefix>...]");
+    }
+    shaker.run();
+  }
+
+  private void run() throws IOException {
+    ClassReferencesScanner scanner = new ClassReferencesScanner().onSource(this::readConstants);
+    for (Path path : classes) {
+      scanner.scan(path);
+    }
+    ClassReferencesScanner sourcesScanner =
+        new ClassReferencesScanner().onSource(this::readConstants);
+    for (Path path : sources) {
+      sourcesScanner.scan(path);
+    }
+
+    Set<String> referencedConstants = new TreeSet<>();
+    for (String fieldName : scanner.getFieldNames(this::isNotConstantsClass)) {
+      Set<String> values = constants.get(fieldName);
+      if (values != null) {
+        referencedConstants.add(fieldName);
+        usedClasses.addAll(values);
+      }
+    }
+    for (String string : scanner.getStrings(this::isNotConstantsClass)) {
+      for (String token : TOKENS_SEPARATOR.split(string.trim())) {
+        if (PREFIX_PATTERN.matcher(token).matches()) {
+          keepPrefixes.add(token);
+        } else if (!token.isEmpty()) {
+          usedClasses.add(token);
+        }
+      }
+    }
+    usedClasses.addAll(keep);
+
+    CssPruner pruner = new CssPruner(this::isUsed);
+    StringBuilder bundle = new StringBuilder();
+    List<String> fileStats = new ArrayList<>();
+    long totalBefore = 0;
+    for (Path styleSheet : listStyleSheets()) {
+      String css = new String(Files.readAllBytes(styleSheet), StandardCharsets.UTF_8);
+      int rulesBefore = pruner.getTotalRules();
+      int keptBefore = pruner.getKeptRules();
+      String pruned = pruner.prune(css);
+      bundle.append(pruned);
+      totalBefore += css.getBytes(StandardCharsets.UTF_8).length;
+      fileStats.add(
+          String.format(
+              "%s: %d/%d rules, %d -> %d bytes",
+              styleSheet,
+              pruner.getKeptRules() - keptBefore,
+              pruner.getTotalRules() - rulesBefore,
+              css.getBytes(StandardCharsets.UTF_8).length,
+              pruned.getBytes(StandardCharsets.UTF_8).length));
+    }
+    if (!StandardCharsets.US_ASCII.newEncoder().canEncode(bundle)) {
+      bundle.insert(0, "@charset \"UTF-8\";");
+    }
+    byte[] output = bundle.toString().getBytes(StandardCharsets.UTF_8);
+    if (out.getParent() != null) {
+      Files.createDirectories(out.getParent());
+    }
+    Files.write(out, output);
+
+    String summary =
+        String.format(
+            "Scanned %d classes, %d CssClass constants known, %d referenced."
+                + " Kept %d/%d rules, %d -> %d bytes.",
+            scanner.getScannedClasses(),
+            constants.size(),
+            referencedConstants.size(),
+            pruner.getKeptRules(),
+            pruner.getTotalRules(),
+            totalBefore,
+            output.length);
+    System.out.println(summary);
+    if (report != null) {
+      writeReport(summary, fileStats, referencedConstants, pruner);
+    }
+  }
+
+  private boolean isUsed(String cssClass) {
+    if (usedClasses.contains(cssClass)) {
+      return true;
+    }
+    for (String prefix : keepPrefixes) {
+      if (cssClass.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void readConstants(String name, String source) {
+    if (!source.contains("CssClass")) {
+      return;
+    }
+    Matcher matcher = CONSTANT_PATTERN.matcher(source);
+    boolean declaresConstants = false;
+    while (matcher.find()) {
+      constants.computeIfAbsent(matcher.group(1), k -> new HashSet<>()).add(matcher.group(2));
+      declaresConstants = true;
+    }
+    Matcher packageMatcher = PACKAGE_PATTERN.matcher(source);
+    if (declaresConstants && packageMatcher.find()) {
+      String fileName = Paths.get(name).getFileName().toString();
+      constantsClasses.add(
+          packageMatcher.group(1).replace('.', '/')
+              + "/"
+              + fileName.substring(0, fileName.length() - ".java".length()));
+    }
+  }
+
+  /**
+   * The classes declaring the constants initialize all of them and hold every class name as a
+   * string, their references would keep all the rules.
+   */
+  private boolean isNotConstantsClass(String className) {
+    int nested = className.indexOf('$');
+    return !constantsClasses.contains(nested < 0 ? className : className.substring(0, nested));
+  }
+
+  private List<Path> listStyleSheets() throws IOException {
+    List<Path> files = new ArrayList<>();
+    for (Path path : styleSheets) {
+      if (Files.isDirectory(path)) {
+        try (Stream<Path> walk = Files.walk(path)) {
+          files.addAll(
+              walk.filter(file -> file.toString().endsWith(".css"))
+                  .filter(file -> !file.toString().endsWith(".min.css"))
+                  .sorted()
+                  .collect(Collectors.toList()));
+        }
+      } else {
+        files.add(path);
+      }
+    }
+    return files;
+  }
+
+  private void writeReport(
+      String summary, List<String> fileStats, Set<String> referencedConstants, CssPruner pruner)
+      throws IOException {
+    Set<String> keptClasses = new TreeSet<>(pruner.getKeptClasses());
+    Set<String> removedClasses = new TreeSet<>(pruner.getCssClasses());
+    removedClasses.removeAll(keptClasses);
+
+    if (report.getParent() != null) {
+      Files.createDirectories(report.getParent());
+    }
+    try (PrintStream writer =
+        new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8.name())) {
+      writer.println(summary);
+      writer.println();
+      writer.println("# Style sheets");
+      fileStats.forEach(writer::println);
+      writer.println();
+      writer.println("# Kept prefixes (" + keepPrefixes.size() + ")");
+      keepPrefixes.forEach(writer::println);
+      writer.println();
+      writer.println("# Referenced constants (" + referencedConstants.size() + ")");
+      referencedConstants.forEach(
+          constant -> writer.println(constant + " = " + String.join(" ", constants.get(constant))));
+      writer.println();
+      writer.println("# Kept classes (" + keptClasses.size() + ")");
+      keptClasses.forEach(writer::println);
+      writer.println();
+      writer.println("# Removed classes (" + removedClasses.size() + ")");
+      removedClasses.forEach(writer::println);
+    }
+  }
+}
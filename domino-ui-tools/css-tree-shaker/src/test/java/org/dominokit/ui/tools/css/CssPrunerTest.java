@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.ui.tools.css;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class CssPrunerTest {
+
+  private final CssPruner pruner = new CssPruner(used("a", "sm:p-1")::contains);
+
+  @Test
+  public void keepsOnlyTheRulesOfUsedClasses() {
+    assertEquals(".a{color:red}", pruner.prune(".a{color:red}.b{color:blue}"));
+    assertEquals(2, pruner.getTotalRules());
+    assertEquals(1, pruner.getKeptRules());
+    assertEquals(used("a", "b"), pruner.getCssClasses());
+    assertEquals(used("a"), pruner.getKeptClasses());
+  }
+
+  @Test
+  public void keepsTheUsedSelectorsOfASelectorList() {
+    assertEquals(".a{x:y}", pruner.prune(".a, .b > .c { x : y ; }"));
+  }
+
+  @Test
+  public void requiresAllTheClassesOfASelector() {
+    assertEquals("", pruner.prune(".a.b{x:y}"));
+    assertEquals(".a:not(.b){x:y}", pruner.prune(".a:not(.b){x:y}"));
+  }
+
+  @Test
+  public void keepsRulesWithoutClassesAndDropsCharset() {
+    assertEquals(
+        "div{x:y}@font-face{font-family:f;src:url(f.woff)}",
+        pruner.prune("@charset \"UTF-8\";div{x:y}@font-face{font-family:f;src:url(f.woff)}"));
+  }
+
+  @Test
+  public void prunesGroupRulesAndDropsTheEmptyOnes() {
+    assertEquals(
+        "@media (min-width:10px){.a{c:d}}",
+        pruner.prune(
+            "@media (max-width: 10px){.b{c:d}}@media (min-width:10px){.a{c:d}.b{e:f}}"));
+  }
+
+  @Test
+  public void keepsOnlyTheReferencedKeyframes() {
+    String keyframes = "@keyframes spin{to{transform:rotate(1turn)}}";
+    assertEquals(
+        keyframes + ".a{animation:spin 1s}", pruner.prune(keyframes + ".a{animation:spin 1s}"));
+    assertEquals("", pruner.prune(keyframes + ".b{animation:spin 1s}"));
+  }
+
+  @Test
+  public void unescapesTheClassNames() {
+    assertEquals(".sm\\:p-1{padding:1px}", pruner.prune(".sm\\:p-1{padding:1px}"));
+    assertEquals("a:b", CssPruner.unescape("a\\3A b"));
+  }
+
+  @Test
+  public void stripsCommentsOutsideOfStrings() {
+    assertEquals(
+        ".a{content:\"a  /* b */\"}", pruner.prune("/* c */.a{content:\"a  /* b */\"}"));
+  }
+
+  private static Set<String> used(String... classes) {
+    return new HashSet<>(Arrays.asList(classes));
+  }
+}
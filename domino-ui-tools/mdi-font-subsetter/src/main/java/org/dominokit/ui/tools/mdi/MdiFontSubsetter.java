@@ -0,0 +1,360 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.ui.tools.mdi;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import org.dominokit.ui.tools.css.ClassReferencesScanner;
+import org.dominokit.ui.tools.css.CssPruner;
+
+/**
+ * Produces a subset of the Material Design Icons webfont and style sheet holding only the icons an
+ * application uses.
+ *
+ * <p>The compiled application classes, and the domino-ui jars, are scanned for calls to the
+ * {@code Icons}, {@code IconsMeta} and category methods, like {@code Icons.account()} or {@code
+ * account_account_user()}, and for {@code "mdi-*"} string constants. The icon behind each method
+ * is read from the {@code MdiIcon.create("mdi-...")} sources packaged with domino-ui and its code
+ * point from the {@code MdiMetaData} source, falling back to the code points of the style sheet.
+ * Referencing a {@code *_Factory} class keeps every icon of its category.
+ *
+ * <p>The output directory follows the layout of the domino-ui webjar, it holds the subset fonts in
+ * {@code css/fonts} and the style sheet in {@code css/domino-ui/dui-components/mdi}, so it can be
+ * served in place of, or copied over, the webjar resources.
+ *
+ * <p>Usage:
+ *
+ * <pre>
+ * java -jar mdi-font-subsetter.jar \
+ *   --classes target/classes --classes domino-ui.jar \
+ *   --font webjars/domino-ui/css/fonts/materialdesignicons-webfont.ttf \
+ *   --css webjars/domino-ui/css/domino-ui/dui-components/mdi/materialdesignicons.css \
+ *   --out target/mdi --woff2-compress /usr/local/bin/woff2_compress
+ * </pre>
+ *
+ * <ul>
+ *   <li>{@code --classes} a classes directory or jar to scan, repeatable
+ *   <li>{@code --sources} an extra sources directory or jar to read the icons from, repeatable
+ *   <li>{@code --font} the TrueType font to subset
+ *   <li>{@code --css} the materialdesignicons style sheet
+ *   <li>{@code --keep} an icon name, like {@code account-box}, to keep even if not referenced,
+ *       repeatable
+ *   <li>{@code --out} the output directory
+ *   <li>{@code --woff2-compress} the woff2_compress executable, optional. The JDK has no Brotli
+ *       encoder, without it only the woff and truetype fonts are written
+ *   <li>{@code --report} the usage report file to write, optional
+ * </ul>
+ */
+public class MdiFontSubsetter {
+
+  private static final String ICONS_PACKAGE = "org/dominokit/domino/ui/icons/lib/";
+  private static final String FONTS_DIR = "css/fonts";
+  private static final String CSS_DIR = "css/domino-ui/dui-components/mdi";
+  private static final Pattern PACKAGE_PATTERN = Pattern.compile("package\\s+([\\w.]+)\\s*;");
+  private static final Pattern METHOD_PATTERN =
+      Pattern.compile(
+          "(\\w+)\\(\\)\\s*\\{\\s*return\\s+MdiIcon\\.create\\(\\s*\"mdi-([\\w-]+)\"");
+  private static final Pattern CSS_ICON_PATTERN =
+      Pattern.compile(
+          "\\.mdi-([\\w-]+)::?before\\s*\\{\\s*content:\\s*\"\\\\([0-9A-Fa-f]+)\"\\s*;?\\s*}");
+  private static final Pattern FONT_FACE_PATTERN = Pattern.compile("@font-face\\s*\\{[^}]*}");
+  private static final Pattern FONT_FAMILY_PATTERN = Pattern.compile("font-family:\\s*([^;}]+)");
+
+  private final List<Path> classes = new ArrayList<>();
+  private final List<Path> sources = new ArrayList<>();
+  private final Set<String> keep = new HashSet<>();
+  private Path font;
+  private Path css;
+  private Path out;
+  private Path woff2Compress;
+  private Path report;
+
+  private final Map<String, String> iconsByMethod = new HashMap<>();
+  private final Map<String, Integer> metaCodePoints = new HashMap<>();
+  private final Map<String, Integer> cssCodePoints = new TreeMap<>();
+  private final Set<String> usedIcons = new TreeSet<>();
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    MdiFontSubsetter subsetter = new MdiFontSubsetter();
+    for (int i = 0; i < args.length; i++) {
+      String value = i + 1 < args.length ? args[i + 1] : null;
+      switch (args[i]) {
+        case "--classes":
+          subsetter.classes.add(Paths.get(value));
+          break;
+        case "--sources":
+          subsetter.sources.add(Paths.get(value));
+          break;
+        case "--font":
+          subsetter.font = Paths.get(value);
+          break;
+        case "--css":
+          subsetter.css = Paths.get(value);
+          break;
+        case "--keep":
+          subsetter.keep.add(value.startsWith("mdi-") ? value.substring(4) : value);
+          break;
+        case "--out":
+          subsetter.out = Paths.get(value);
+          break;
+        case "--woff2-compress":
+          subsetter.woff2Compress = Paths.get(value);
+          break;
+        case "--report":
+          subsetter.report = Paths.get(value);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown argument " + args[i]);
+      }
+      i++;
+    }
+    if (subsetter.classes.isEmpty()
+        || subsetter.font == null
+        || subsetter.css == null
+        || subsetter.out == null) {
+      throw new IllegalArgumentException(
+          "Usage: --classes <dir|jar>... --font <ttf> --css <file> --out <dir>"
+              + " [--woff2-compress <executable>] [--report <file>] [--sources <dir|jar>...]"
+              + " [--keep <icon>...]");
+    }
+    subsetter.run();
+  }
+
+  private void run() throws IOException, InterruptedException {
+    ClassReferencesScanner scanner = new ClassReferencesScanner().onSource(this::readIcons);
+    for (Path path : classes) {
+      scanner.scan(path);
+    }
+    ClassReferencesScanner sourcesScanner = new ClassReferencesScanner().onSource(this::readIcons);
+    for (Path path : sources) {
+      sourcesScanner.scan(path);
+    }
+    String styleSheet = new String(Files.readAllBytes(css), StandardCharsets.UTF_8);
+    Matcher cssIcon = CSS_ICON_PATTERN.matcher(styleSheet);
+    while (cssIcon.find()) {
+      cssCodePoints.put(cssIcon.group(1), Integer.parseInt(cssIcon.group(2), 16));
+    }
+
+    Set<String> factories = new HashSet<>();
+    for (String methodRef : scanner.getMethodReferences(this::isNotIconsClass)) {
+      String owner = methodRef.substring(0, methodRef.lastIndexOf('.'));
+      if (owner.startsWith(ICONS_PACKAGE)) {
+        useMethod(methodRef);
+        if (outerClass(owner).endsWith("_Factory")) {
+          factories.add(outerClass(owner));
+        }
+      }
+    }
+    scanner
+        .getMethodReferences(className -> factories.contains(outerClass(className)))
+        .forEach(this::useMethod);
+    for (String string : scanner.getStrings(this::isNotIconsClass)) {
+      for (String token : string.trim().split("\\s+")) {
+        if (token.startsWith("mdi-") && cssCodePoints.containsKey(token.substring(4))) {
+          usedIcons.add(token.substring(4));
+        }
+      }
+    }
+    usedIcons.addAll(keep);
+
+    SortedMap<String, Integer> codePoints = new TreeMap<>();
+    Set<String> missing = new TreeSet<>();
+    for (String icon : usedIcons) {
+      Integer codePoint = metaCodePoints.getOrDefault(icon, cssCodePoints.get(icon));
+      if (codePoint == null) {
+        missing.add(icon);
+      } else {
+        codePoints.put(icon, codePoint);
+      }
+    }
+
+    byte[] ttf = Files.readAllBytes(font);
+    TrueTypeSubsetter subsetter = new TrueTypeSubsetter(ttf);
+    Map<Integer, Integer> glyphIds = subsetter.glyphIds(new HashSet<>(codePoints.values()));
+    codePoints
+        .entrySet()
+        .removeIf(entry -> !glyphIds.containsKey(entry.getValue()) && missing.add(entry.getKey()));
+    byte[] subsetTtf = subsetter.subset(glyphIds.keySet());
+    byte[] subsetWoff = WoffWriter.write(subsetTtf);
+
+    String fontName = font.getFileName().toString().replaceFirst("\\.ttf$", "");
+    Path fontsDir = out.resolve(FONTS_DIR);
+    Files.createDirectories(fontsDir);
+    Path ttfFile = fontsDir.resolve(fontName + ".ttf");
+    Path woffFile = fontsDir.resolve(fontName + ".woff");
+    Path woff2File = fontsDir.resolve(fontName + ".woff2");
+    Files.write(ttfFile, subsetTtf);
+    Files.write(woffFile, subsetWoff);
+    Files.deleteIfExists(woff2File);
+    if (woff2Compress != null) {
+      Process process =
+          new ProcessBuilder(woff2Compress.toString(), ttfFile.toString())
+              .redirectErrorStream(true)
+              .start();
+      process.getInputStream().transferTo(System.out);
+      if (process.waitFor() != 0 || !Files.exists(woff2File)) {
+        throw new IOException("Failed to compress " + ttfFile + " with " + woff2Compress);
+      }
+    }
+
+    CRC32 crc = new CRC32();
+    crc.update(subsetTtf);
+    String fontFace = fontFace(styleSheet, fontName, Long.toHexString(crc.getValue()));
+    CssPruner pruner =
+        new CssPruner(
+            cssClass ->
+                !cssClass.startsWith("mdi-")
+                    || !cssCodePoints.containsKey(cssClass.substring(4))
+                    || codePoints.containsKey(cssClass.substring(4)));
+    String pruned = pruner.prune(FONT_FACE_PATTERN.matcher(styleSheet).replaceFirst(""));
+    byte[] subsetCss = (fontFace + pruned).getBytes(StandardCharsets.UTF_8);
+    Path cssDir = out.resolve(CSS_DIR);
+    Files.createDirectories(cssDir);
+    String cssName = css.getFileName().toString().replaceFirst("(\\.min)?\\.css$", "");
+    Files.write(cssDir.resolve(cssName + ".css"), subsetCss);
+    Files.write(cssDir.resolve(cssName + ".min.css"), subsetCss);
+
+    String summary =
+        String.format(
+            "Scanned %d classes, %d icons known, %d used. Font %d -> %d bytes (ttf), %d bytes"
+                + " (woff)%s, style sheet %d -> %d bytes.",
+            scanner.getScannedClasses(),
+            cssCodePoints.size(),
+            codePoints.size(),
+            ttf.length,
+            subsetTtf.length,
+            subsetWoff.length,
+            Files.exists(woff2File) ? ", " + Files.size(woff2File) + " bytes (woff2)" : "",
+            styleSheet.getBytes(StandardCharsets.UTF_8).length,
+            subsetCss.length);
+    System.out.println(summary);
+    if (!missing.isEmpty()) {
+      System.out.println("Icons without a glyph: " + String.join(", ", missing));
+    }
+    if (report != null) {
+      writeReport(summary, codePoints, missing);
+    }
+  }
+
+  private void readIcons(String name, String source) {
+    Matcher packageMatcher = PACKAGE_PATTERN.matcher(source);
+    if (!packageMatcher.find()
+        || !(packageMatcher.group(1).replace('.', '/') + "/").equals(ICONS_PACKAGE)) {
+      return;
+    }
+    Matcher method = METHOD_PATTERN.matcher(source);
+    while (method.find()) {
+      iconsByMethod.put(method.group(1), method.group(2));
+    }
+    MdiMetaDataReader.read(source, (icon, codePoint, tags) -> metaCodePoints.put(icon, codePoint));
+  }
+
+  private void useMethod(String methodRef) {
+    String icon = iconsByMethod.get(methodRef.substring(methodRef.lastIndexOf('.') + 1));
+    if (icon != null) {
+      usedIcons.add(icon);
+    }
+  }
+
+  /**
+   * The generated icons classes hold every icon name and call every icon method, their references
+   * would keep all the glyphs.
+   */
+  private boolean isNotIconsClass(String className) {
+    return !className.startsWith(ICONS_PACKAGE);
+  }
+
+  private static String outerClass(String className) {
+    int nested = className.indexOf('$');
+    return nested < 0 ? className : className.substring(0, nested);
+  }
+
+  /**
+   * Rewrites the {@code @font-face} rule to point at the subset fonts, keeping the relative path
+   * of the original urls. The version parameter changes with the subset so caches do not serve a
+   * font with other glyphs.
+   */
+  private String fontFace(String styleSheet, String fontName, String version) {
+    Matcher fontFace = FONT_FACE_PATTERN.matcher(styleSheet);
+    String family = "\"Material Design Icons\"";
+    String prefix = "../fonts/";
+    if (fontFace.find()) {
+      Matcher familyMatcher = FONT_FAMILY_PATTERN.matcher(fontFace.group());
+      if (familyMatcher.find()) {
+        family = familyMatcher.group(1).trim();
+      }
+      Matcher url =
+          Pattern.compile("url\\(\\s*[\"']?([^\"')]*?)" + Pattern.quote(fontName))
+              .matcher(fontFace.group());
+      if (url.find()) {
+        prefix = url.group(1);
+      }
+    }
+    String location = prefix + fontName;
+    String query = "?v=" + version;
+    StringBuilder src = new StringBuilder();
+    if (Files.exists(out.resolve(FONTS_DIR).resolve(fontName + ".woff2"))) {
+      src.append("url(\"").append(location).append(".woff2").append(query).append("\")");
+      src.append(" format(\"woff2\"),");
+    }
+    src.append("url(\"").append(location).append(".woff").append(query).append("\")");
+    src.append(" format(\"woff\"),");
+    src.append("url(\"").append(location).append(".ttf").append(query).append("\")");
+    src.append(" format(\"truetype\")");
+    return "@font-face{font-family:"
+        + family
+        + ";src:"
+        + src
+        + ";font-weight:normal;font-style:normal}";
+  }
+
+  private void writeReport(
+      String summary, SortedMap<String, Integer> codePoints, Set<String> missing)
+      throws IOException {
+    if (report.getParent() != null) {
+      Files.createDirectories(report.getParent());
+    }
+    try (PrintStream writer =
+        new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8.name())) {
+      writer.println(summary);
+      writer.println();
+      writer.println("# Used icons (" + codePoints.size() + ")");
+      codePoints.forEach(
+          (icon, codePoint) ->
+              writer.println("mdi-" + icon + " U+" + Integer.toHexString(codePoint).toUpperCase()));
+      writer.println();
+      writer.println("# Icons without a glyph (" + missing.size() + ")");
+      missing.forEach(writer::println);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.ui.tools.mdi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the icons from the source of the generated {@code MdiMetaData} class, the packed string
+ * tables holding the metadata of every icon.
+ */
+class MdiMetaDataReader {
+
+  private static final String SEPARATOR = "\\|";
+  private static final Pattern LITERAL_PATTERN = Pattern.compile("\"((?:[^\"\\\\]++|\\\\.)*+)\"");
+
+  private MdiMetaDataReader() {}
+
+  /**
+   * @param source a java source, sources other than {@code MdiMetaData} are ignored
+   * @param visitor receives each icon of the source
+   */
+  static void read(String source, IconVisitor visitor) {
+    String[] strings = table(source, "STRINGS");
+    String[] icons = table(source, "ICONS");
+    if (strings == null || icons == null) {
+      return;
+    }
+    for (String record : icons) {
+      String[] fields = record.split(" ", -1);
+      List<String> tags = new ArrayList<>();
+      if (!fields[2].isEmpty()) {
+        for (String id : fields[2].split(",")) {
+          tags.add(strings[Integer.parseInt(id, 36)]);
+        }
+      }
+      visitor.visit(fields[0], Integer.parseInt(fields[1], 16), tags);
+    }
+  }
+
+  private static String[] table(String source, String name) {
+    Matcher table =
+        Pattern.compile("String\\[\\]\\s+" + name + "\\s*=\\s*\\{(.*?)}\\s*;", Pattern.DOTALL)
+            .matcher(source);
+    if (!table.find()) {
+      return null;
+    }
+    List<String> chunks = new ArrayList<>();
+    Matcher literal = LITERAL_PATTERN.matcher(table.group(1));
+    while (literal.find()) {
+      chunks.add(unescape(literal.group(1)));
+    }
+    return String.join("|", chunks).split(SEPARATOR, -1);
+  }
+
+  private static String unescape(String literal) {
+    StringBuilder value = new StringBuilder(literal.length());
+    for (int i = 0; i < literal.length(); i++) {
+      char c = literal.charAt(i);
+      if (c != '\\') {
+        value.append(c);
+        continue;
+      }
+      char escaped = literal.charAt(++i);
+      switch (escaped) {
+        case 'n':
+          value.append('\n');
+          break;
+        case 't':
+          value.append('\t');
+          break;
+        case 'r':
+          value.append('\r');
+          break;
+        case 'u':
+          value.append((char) Integer.parseInt(literal.substring(i + 1, i + 5), 16));
+          i += 4;
+          break;
+        default:
+          value.append(escaped);
+      }
+    }
+    return value.toString();
+  }
+
+  /** Receives the icons read from the metadata. */
+  @FunctionalInterface
+  interface IconVisitor {
+    /**
+     * @param name the icon name, like {@code account-box}
+     * @param codePoint the icon code point in the webfont
+     * @param tags the icon tags, like {@code Account / User}
+     */
+    void visit(String name, int codePoint, List<String> tags);
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.ui.tools.mdi;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.dominokit.ui.tools.css.ClassReferencesScanner;
+
+/**
+ * Writes the Material Design Icons as SVG {@code <symbol>} sprites, one sprite file per icon
+ * category, and an {@code index.json} mapping each sprite to the names of its icons.
+ *
+ * <p>The symbols are converted from the glyph outlines of the webfont, so the sprites always match
+ * the font shipped with domino-ui. Each symbol has the id {@code mdi-<name>}, the same as the icon
+ * CSS class, and a {@code 0 0 24 24} view box. An icon belongs to the sprite of its first tag,
+ * untagged icons are split by their first letter into {@code untagged-<letter>.svg} sprites.
+ *
+ * <p>Usage:
+ *
+ * <pre>
+ * java -cp mdi-font-subsetter.jar org.dominokit.ui.tools.mdi.MdiSpriteWriter \
+ *   --font css/fonts/materialdesignicons-webfont.ttf \
+ *   --sources domino-ui/src/main/java --out css/mdi-sprites
+ * </pre>
+ */
+public class MdiSpriteWriter {
+
+  /** The name of the file mapping the sprite chunks to their icons */
+  public static final String INDEX_FILE = "index.json";
+
+  private static final String UNTAGGED = "untagged";
+  private static final int VIEW_BOX = 24;
+  private static final int ON_CURVE = 0x01;
+  private static final int X_SHORT = 0x02;
+  private static final int Y_SHORT = 0x04;
+  private static final int REPEAT = 0x08;
+  private static final int X_SAME = 0x10;
+  private static final int Y_SAME = 0x20;
+
+  private final TrueTypeSubsetter font;
+  private final double scale;
+  private final int ascender;
+  private final Map<String, Map<String, Integer>> iconsByChunk = new TreeMap<>();
+
+  /**
+   * @param font the TrueType webfont content
+   * @throws IOException if the font is not a glyf based TrueType font
+   */
+  public MdiSpriteWriter(byte[] font) throws IOException {
+    this.font = new TrueTypeSubsetter(font);
+    this.scale = (double) VIEW_BOX / this.font.unitsPerEm();
+    this.ascender = this.font.ascender();
+  }
+
+  public static void main(String[] args) throws IOException {
+    Path font = null;
+    Path out = null;
+    List<Path> sources = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      String value = i + 1 < args.length ? args[i + 1] : null;
+      switch (args[i]) {
+        case "--font":
+          font = Paths.get(value);
+          break;
+        case "--sources":
+          sources.add(Paths.get(value));
+          break;
+        case "--out":
+          out = Paths.get(value);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown argument " + args[i]);
+      }
+      i++;
+    }
+    if (font == null || out == null || sources.isEmpty()) {
+      throw new IllegalArgumentException("Usage: --font <ttf> --sources <dir|jar>... --out <dir>");
+    }
+    MdiSpriteWriter writer = new MdiSpriteWriter(Files.readAllBytes(font));
+    ClassReferencesScanner scanner =
+        new ClassReferencesScanner()
+            .onSource((name, source) -> MdiMetaDataReader.read(source, writer::addIcon));
+    for (Path path : sources) {
+      scanner.scan(path);
+    }
+    writer.write(out);
+  }
+
+  /**
+   * Adds an icon to the sprite of its first tag.
+   *
+   * @param name the icon name, like {@code account-box}
+   * @param codePoint the icon code point in the webfont
+   * @param tags the icon tags, like {@code Account / User}
+   * @return this writer
+   */
+  public MdiSpriteWriter addIcon(String name, int codePoint, List<String> tags) {
+    iconsByChunk
+        .computeIfAbsent(
+            tags.isEmpty() ? UNTAGGED + "-" + name.charAt(0) : chunkName(tags.get(0)),
+            k -> new TreeMap<>())
+        .put(name, codePoint);
+    return this;
+  }
+
+  /**
+   * Writes a {@code <chunk>.svg} sprite per category and the {@code index.json} file.
+   *
+   * @param directory the output directory, its previous sprites are removed
+   * @throws IOException if the files cannot be written
+   */
+  public void write(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        if (file.toString().endsWith(".svg")) {
+          Files.delete(file);
+        }
+      }
+    }
+    StringBuilder index = new StringBuilder("{");
+    for (Map.Entry<String, Map<String, Integer>> chunk : iconsByChunk.entrySet()) {
+      Set<Integer> codePoints = Set.copyOf(chunk.getValue().values());
+      Map<Integer, Integer> glyphIds = font.glyphIds(codePoints);
+      StringBuilder sprite = new StringBuilder("<svg xmlns=\"http://www.w3.org/2000/svg\">");
+      List<String> names = new ArrayList<>();
+      chunk
+          .getValue()
+          .forEach(
+              (name, codePoint) -> {
+                Integer glyphId = glyphIds.get(codePoint);
+                if (glyphId != null) {
+                  names.add(name);
+                  sprite
+                      .append("<symbol id=\"mdi-")
+                      .append(name)
+                      .append("\" viewBox=\"0 0 24 24\"><path d=\"")
+                      .append(path(font.glyph(glyphId)))
+                      .append("\"/></symbol>");
+                }
+              });
+      sprite.append("</svg>");
+      if (names.isEmpty()) {
+        continue;
+      }
+      Files.write(
+          directory.resolve(chunk.getKey() + ".svg"),
+          sprite.toString().getBytes(StandardCharsets.UTF_8));
+      if (index.length() > 1) {
+        index.append(',');
+      }
+      index.append('"').append(chunk.getKey()).append("\":\"");
+      index.append(String.join(" ", names)).append('"');
+    }
+    index.append('}');
+    Files.write(directory.resolve(INDEX_FILE), index.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param tag an icon tag, like {@code Account / User}
+   * @return the sprite chunk name of the tag, like {@code account-user}
+   */
+  public static String chunkName(String tag) {
+    return tag.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+  }
+
+  /** Converts the quadratic outlines of a simple glyph into SVG path data. */
+  private String path(byte[] data) {
+    ByteBuffer glyph = ByteBuffer.wrap(data);
+    int contours = data.length == 0 ? 0 : glyph.getShort(0);
+    if (contours <= 0) {
+      return "";
+    }
+    int[] ends = new int[contours];
+    for (int i = 0; i < contours; i++) {
+      ends[i] = glyph.getShort(10 + i * 2) & 0xFFFF;
+    }
+    int points = ends[contours - 1] + 1;
+    int position = 10 + contours * 2;
+    position += 2 + (glyph.getShort(position) & 0xFFFF);
+    int[] flags = new int[points];
+    for (int i = 0; i < points; ) {
+      int flag = data[position++] & 0xFF;
+      flags[i++] = flag;
+      if ((flag & REPEAT) != 0) {
+        for (int repeat = data[position++] & 0xFF; repeat > 0 && i < points; repeat--) {
+          flags[i++] = flag;
+        }
+      }
+    }
+    int[] xs = new int[points];
+    int[] ys = new int[points];
+    position = readCoordinates(data, position, flags, xs, X_SHORT, X_SAME);
+    readCoordinates(data, position, flags, ys, Y_SHORT, Y_SAME);
+
+    StringBuilder path = new StringBuilder();
+    int start = 0;
+    for (int end : ends) {
+      appendContour(path, flags, xs, ys, start, end);
+      start = end + 1;
+    }
+    return path.toString();
+  }
+
+  private static int readCoordinates(
+      byte[] data, int position, int[] flags, int[] coordinates, int shortFlag, int sameFlag) {
+    int value = 0;
+    for (int i = 0; i < flags.length; i++) {
+      if ((flags[i] & shortFlag) != 0) {
+        int delta = data[position++] & 0xFF;
+        value += (flags[i] & sameFlag) != 0 ? delta : -delta;
+      } else if ((flags[i] & sameFlag) == 0) {
+        value += (short) (((data[position] & 0xFF) << 8) | (data[position + 1] & 0xFF));
+        position += 2;
+      }
+      coordinates[i] = value;
+    }
+    return position;
+  }
+
+  /**
+   * Two consecutive off curve points imply an on curve point half way between them, a contour
+   * without any on curve point starts at the middle of its last and first points.
+   */
+  private void appendContour(
+      StringBuilder path, int[] flags, int[] xs, int[] ys, int start, int end) {
+    int count = end - start + 1;
+    if (count < 2) {
+      return;
+    }
+    int first = -1;
+    for (int i = start; i <= end && first < 0; i++) {
+      if ((flags[i] & ON_CURVE) != 0) {
+        first = i;
+      }
+    }
+    double startX;
+    double startY;
+    int from;
+    int steps;
+    if (first < 0) {
+      startX = (xs[end] + xs[start]) / 2.0;
+      startY = (ys[end] + ys[start]) / 2.0;
+      from = start;
+      steps = count;
+    } else {
+      startX = xs[first];
+      startY = ys[first];
+      from = first + 1;
+      steps = count - 1;
+    }
+    path.append('M').append(point(startX, startY));
+    double[] control = null;
+    for (int step = 0; step < steps; step++) {
+      int i = start + (from - start + step) % count;
+      if ((flags[i] & ON_CURVE) != 0) {
+        if (control == null) {
+          path.append('L').append(point(xs[i], ys[i]));
+        } else {
+          path.append('Q').append(point(control[0], control[1]));
+          path.append(' ').append(point(xs[i], ys[i]));
+        }
+        control = null;
+      } else {
+        if (control != null) {
+          path.append('Q').append(point(control[0], control[1]));
+          path.append(' ').append(point((control[0] + xs[i]) / 2, (control[1] + ys[i]) / 2));
+        }
+        control = new double[] {xs[i], ys[i]};
+      }
+    }
+    if (control != null) {
+      path.append('Q').append(point(control[0], control[1]));
+      path.append(' ').append(point(startX, startY));
+    }
+    path.append('Z');
+  }
+
+  private String point(double x, double y) {
+    return number(x * scale) + " " + number((ascender - y) * scale);
+  }
+
+  private static String number(double value) {
+    return BigDecimal.valueOf(Math.round(value * 100), 2).stripTrailingZeros().toPlainString();
+  }
+}
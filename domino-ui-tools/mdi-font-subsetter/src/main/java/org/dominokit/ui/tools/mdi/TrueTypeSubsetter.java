@@ -0,0 +1,448 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.ui.tools.mdi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Subsets a glyf based TrueType font down to the glyphs of a set of code points.
+ *
+ * <p>The kept glyphs are renumbered in their original order, composite glyphs keep the glyphs
+ * they are made of. The {@code cmap} is rebuilt with a format 4 subtable for the BMP code points
+ * and a format 12 subtable for all of them, {@code loca} is written in the long format and {@code
+ * post} is reduced to format 3. Layout tables, like {@code GSUB}, refer to the original glyph ids
+ * and are dropped, as are tables this class does not know.
+ */
+public class TrueTypeSubsetter {
+
+  private static final int ARG_1_AND_2_ARE_WORDS = 0x0001;
+  private static final int WE_HAVE_A_SCALE = 0x0008;
+  private static final int MORE_COMPONENTS = 0x0020;
+  private static final int WE_HAVE_AN_X_AND_Y_SCALE = 0x0040;
+  private static final int WE_HAVE_A_TWO_BY_TWO = 0x0080;
+  private static final int CHECKSUM_MAGIC = 0xB1B0AFBA;
+
+  private static final List<String> COPIED_TABLES = Arrays.asList("OS/2", "name");
+
+  private final ByteBuffer font;
+  private final Map<String, ByteBuffer> tables = new TreeMap<>();
+  private final int numGlyphs;
+  private final boolean longLoca;
+
+  /**
+   * @param font the TrueType font content
+   * @throws IOException if the font is not a glyf based TrueType font
+   */
+  public TrueTypeSubsetter(byte[] font) throws IOException {
+    this.font = ByteBuffer.wrap(font);
+    if (this.font.getInt(0) != 0x00010000) {
+      throw new IOException("Not a TrueType font");
+    }
+    int count = this.font.getShort(4) & 0xFFFF;
+    for (int i = 0; i < count; i++) {
+      int record = 12 + i * 16;
+      String tag = new String(font, record, 4, StandardCharsets.US_ASCII);
+      int offset = this.font.getInt(record + 8);
+      int length = this.font.getInt(record + 12);
+      tables.put(tag, slice(offset, length));
+    }
+    for (String tag : Arrays.asList("cmap", "glyf", "head", "hhea", "hmtx", "loca", "maxp")) {
+      if (!tables.containsKey(tag)) {
+        throw new IOException("Missing required table " + tag);
+      }
+    }
+    this.numGlyphs = table("maxp").getShort(4) & 0xFFFF;
+    this.longLoca = table("head").getShort(50) == 1;
+  }
+
+  /**
+   * @param codePoints the code points to look up
+   * @return the glyph id of each code point mapped by the font, ordered by code point
+   */
+  public SortedMap<Integer, Integer> glyphIds(Set<Integer> codePoints) {
+    ByteBuffer cmap = table("cmap");
+    int count = cmap.getShort(2) & 0xFFFF;
+    ByteBuffer format4 = null;
+    ByteBuffer format12 = null;
+    for (int i = 0; i < count; i++) {
+      int platform = cmap.getShort(4 + i * 8) & 0xFFFF;
+      int encoding = cmap.getShort(6 + i * 8) & 0xFFFF;
+      int offset = cmap.getInt(8 + i * 8);
+      int format = cmap.getShort(offset) & 0xFFFF;
+      if (platform == 3 && encoding == 10 && format == 12) {
+        format12 = slice(cmap, offset);
+      } else if (platform == 3 && encoding == 1 && format == 4) {
+        format4 = slice(cmap, offset);
+      }
+    }
+    SortedMap<Integer, Integer> glyphIds = new TreeMap<>();
+    for (int codePoint : codePoints) {
+      int glyphId = 0;
+      if (format12 != null) {
+        glyphId = lookupFormat12(format12, codePoint);
+      } else if (format4 != null && codePoint <= 0xFFFF) {
+        glyphId = lookupFormat4(format4, codePoint);
+      }
+      if (glyphId > 0 && glyphId < numGlyphs) {
+        glyphIds.put(codePoint, glyphId);
+      }
+    }
+    return glyphIds;
+  }
+
+  /**
+   * Builds a font holding only the glyphs of the given code points, the {@code .notdef} glyph and
+   * the components of the kept composite glyphs.
+   *
+   * @param codePoints the code points to keep
+   * @return the subset font content
+   */
+  public byte[] subset(Set<Integer> codePoints) {
+    SortedMap<Integer, Integer> glyphIds = glyphIds(codePoints);
+
+    TreeSet<Integer> kept = new TreeSet<>();
+    kept.add(0);
+    Deque<Integer> pending = new ArrayDeque<>(glyphIds.values());
+    while (!pending.isEmpty()) {
+      int glyphId = pending.pop();
+      if (kept.add(glyphId)) {
+        pending.addAll(components(glyphId));
+      }
+    }
+    int[] newIds = new int[numGlyphs];
+    List<Integer> oldIds = new ArrayList<>(kept);
+    for (int i = 0; i < oldIds.size(); i++) {
+      newIds[oldIds.get(i)] = i;
+    }
+
+    Map<String, byte[]> out = new TreeMap<>();
+    ByteArrayOutputStream glyf = new ByteArrayOutputStream();
+    ByteBuffer loca = ByteBuffer.allocate((oldIds.size() + 1) * 4);
+    ByteBuffer hmtx = ByteBuffer.allocate(oldIds.size() * 4);
+    for (int oldId : oldIds) {
+      loca.putInt(glyf.size());
+      byte[] glyph = glyph(oldId);
+      remapComponents(glyph, newIds);
+      glyf.write(glyph, 0, glyph.length);
+      while (glyf.size() % 4 != 0) {
+        glyf.write(0);
+      }
+      hmtx.putShort((short) advanceWidth(oldId));
+      hmtx.putShort((short) leftSideBearing(oldId));
+    }
+    loca.putInt(glyf.size());
+    out.put("glyf", glyf.toByteArray());
+    out.put("loca", loca.array());
+    out.put("hmtx", hmtx.array());
+
+    byte[] head = copy("head");
+    ByteBuffer.wrap(head).putInt(8, 0).putShort(50, (short) 1);
+    out.put("head", head);
+    byte[] hhea = copy("hhea");
+    ByteBuffer.wrap(hhea).putShort(34, (short) oldIds.size());
+    out.put("hhea", hhea);
+    byte[] maxp = copy("maxp");
+    ByteBuffer.wrap(maxp).putShort(4, (short) oldIds.size());
+    out.put("maxp", maxp);
+    if (tables.containsKey("post")) {
+      byte[] post = Arrays.copyOf(copy("post"), 32);
+      ByteBuffer.wrap(post).putInt(0, 0x00030000);
+      out.put("post", post);
+    }
+    for (String tag : COPIED_TABLES) {
+      if (tables.containsKey(tag)) {
+        out.put(tag, copy(tag));
+      }
+    }
+    SortedMap<Integer, Integer> mapping = new TreeMap<>();
+    glyphIds.forEach((codePoint, glyphId) -> mapping.put(codePoint, newIds[glyphId]));
+    out.put("cmap", cmap(mapping));
+
+    return assemble(out);
+  }
+
+  private List<Integer> components(int glyphId) {
+    List<Integer> components = new ArrayList<>();
+    ByteBuffer glyph = ByteBuffer.wrap(glyph(glyphId));
+    if (glyph.capacity() == 0 || glyph.getShort(0) >= 0) {
+      return components;
+    }
+    int position = 10;
+    int flags;
+    do {
+      flags = glyph.getShort(position) & 0xFFFF;
+      components.add(glyph.getShort(position + 2) & 0xFFFF);
+      position += componentLength(flags);
+    } while ((flags & MORE_COMPONENTS) != 0);
+    return components;
+  }
+
+  private static void remapComponents(byte[] data, int[] newIds) {
+    ByteBuffer glyph = ByteBuffer.wrap(data);
+    if (data.length == 0 || glyph.getShort(0) >= 0) {
+      return;
+    }
+    int position = 10;
+    int flags;
+    do {
+      flags = glyph.getShort(position) & 0xFFFF;
+      glyph.putShort(position + 2, (short) newIds[glyph.getShort(position + 2) & 0xFFFF]);
+      position += componentLength(flags);
+    } while ((flags & MORE_COMPONENTS) != 0);
+  }
+
+  private static int componentLength(int flags) {
+    int length = 4 + ((flags & ARG_1_AND_2_ARE_WORDS) != 0 ? 4 : 2);
+    if ((flags & WE_HAVE_A_SCALE) != 0) {
+      length += 2;
+    } else if ((flags & WE_HAVE_AN_X_AND_Y_SCALE) != 0) {
+      length += 4;
+    } else if ((flags & WE_HAVE_A_TWO_BY_TWO) != 0) {
+      length += 8;
+    }
+    return length;
+  }
+
+  /**
+   * @param glyphId the glyph id
+   * @return the glyph data from the {@code glyf} table, empty for a glyph without outlines
+   */
+  byte[] glyph(int glyphId) {
+    ByteBuffer loca = table("loca");
+    int start;
+    int end;
+    if (longLoca) {
+      start = loca.getInt(glyphId * 4);
+      end = loca.getInt(glyphId * 4 + 4);
+    } else {
+      start = (loca.getShort(glyphId * 2) & 0xFFFF) * 2;
+      end = (loca.getShort(glyphId * 2 + 2) & 0xFFFF) * 2;
+    }
+    byte[] glyph = new byte[Math.max(0, end - start)];
+    ByteBuffer glyf = table("glyf");
+    glyf.position(start);
+    glyf.get(glyph);
+    return glyph;
+  }
+
+  /** @return the font design units per em */
+  int unitsPerEm() {
+    return table("head").getShort(18) & 0xFFFF;
+  }
+
+  /** @return the typographic ascender, in font design units */
+  int ascender() {
+    return table("hhea").getShort(4);
+  }
+
+  private int advanceWidth(int glyphId) {
+    int metrics = table("hhea").getShort(34) & 0xFFFF;
+    return table("hmtx").getShort(Math.min(glyphId, metrics - 1) * 4) & 0xFFFF;
+  }
+
+  private int leftSideBearing(int glyphId) {
+    int metrics = table("hhea").getShort(34) & 0xFFFF;
+    ByteBuffer hmtx = table("hmtx");
+    if (glyphId < metrics) {
+      return hmtx.getShort(glyphId * 4 + 2);
+    }
+    return hmtx.getShort(metrics * 4 + (glyphId - metrics) * 2);
+  }
+
+  private static int lookupFormat12(ByteBuffer subtable, int codePoint) {
+    int groups = subtable.getInt(12);
+    int low = 0;
+    int high = groups - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int group = 16 + middle * 12;
+      int start = subtable.getInt(group);
+      int end = subtable.getInt(group + 4);
+      if (codePoint < start) {
+        high = middle - 1;
+      } else if (codePoint > end) {
+        low = middle + 1;
+      } else {
+        return subtable.getInt(group + 8) + codePoint - start;
+      }
+    }
+    return 0;
+  }
+
+  private static int lookupFormat4(ByteBuffer subtable, int codePoint) {
+    int segments = (subtable.getShort(6) & 0xFFFF) / 2;
+    int endCodes = 14;
+    int startCodes = endCodes + segments * 2 + 2;
+    int idDeltas = startCodes + segments * 2;
+    int idRangeOffsets = idDeltas + segments * 2;
+    for (int i = 0; i < segments; i++) {
+      int end = subtable.getShort(endCodes + i * 2) & 0xFFFF;
+      if (codePoint > end) {
+        continue;
+      }
+      int start = subtable.getShort(startCodes + i * 2) & 0xFFFF;
+      if (codePoint < start) {
+        return 0;
+      }
+      int delta = subtable.getShort(idDeltas + i * 2);
+      int rangeOffset = subtable.getShort(idRangeOffsets + i * 2) & 0xFFFF;
+      if (rangeOffset == 0) {
+        return (codePoint + delta) & 0xFFFF;
+      }
+      int glyphIndex =
+          subtable.getShort(idRangeOffsets + i * 2 + rangeOffset + (codePoint - start) * 2)
+              & 0xFFFF;
+      return glyphIndex == 0 ? 0 : (glyphIndex + delta) & 0xFFFF;
+    }
+    return 0;
+  }
+
+  private static byte[] cmap(SortedMap<Integer, Integer> mapping) {
+    List<int[]> runs = new ArrayList<>();
+    int[] run = null;
+    for (Map.Entry<Integer, Integer> entry : mapping.entrySet()) {
+      int codePoint = entry.getKey();
+      int glyphId = entry.getValue();
+      if (run != null
+          && codePoint == run[1] + 1
+          && glyphId == run[2] + codePoint - run[0]
+          && (codePoint > 0xFFFF) == (run[0] > 0xFFFF)) {
+        run[1] = codePoint;
+      } else {
+        run = new int[] {codePoint, codePoint, glyphId};
+        runs.add(run);
+      }
+    }
+
+    List<int[]> bmpRuns = new ArrayList<>();
+    for (int[] candidate : runs) {
+      if (candidate[0] <= 0xFFFF && candidate[1] < 0xFFFF) {
+        bmpRuns.add(candidate);
+      }
+    }
+    bmpRuns.add(new int[] {0xFFFF, 0xFFFF, 0});
+    int segments = bmpRuns.size();
+    ByteBuffer format4 = ByteBuffer.allocate(16 + segments * 8);
+    int entrySelector = 31 - Integer.numberOfLeadingZeros(segments);
+    int searchRange = 2 << entrySelector;
+    format4.putShort((short) 4).putShort((short) format4.capacity()).putShort((short) 0);
+    format4.putShort((short) (segments * 2)).putShort((short) searchRange);
+    format4.putShort((short) entrySelector).putShort((short) (segments * 2 - searchRange));
+    bmpRuns.forEach(segment -> format4.putShort((short) segment[1]));
+    format4.putShort((short) 0);
+    bmpRuns.forEach(segment -> format4.putShort((short) segment[0]));
+    bmpRuns.forEach(segment -> format4.putShort((short) (segment[2] - segment[0])));
+    bmpRuns.forEach(segment -> format4.putShort((short) 0));
+
+    ByteBuffer format12 = ByteBuffer.allocate(16 + runs.size() * 12);
+    format12.putShort((short) 12).putShort((short) 0).putInt(format12.capacity()).putInt(0);
+    format12.putInt(runs.size());
+    runs.forEach(group -> format12.putInt(group[0]).putInt(group[1]).putInt(group[2]));
+
+    ByteBuffer cmap = ByteBuffer.allocate(20 + format4.capacity() + format12.capacity());
+    cmap.putShort((short) 0).putShort((short) 2);
+    cmap.putShort((short) 3).putShort((short) 1).putInt(20);
+    cmap.putShort((short) 3).putShort((short) 10).putInt(20 + format4.capacity());
+    cmap.put(format4.array()).put(format12.array());
+    return cmap.array();
+  }
+
+  private static byte[] assemble(Map<String, byte[]> tables) {
+    int count = tables.size();
+    int entrySelector = 31 - Integer.numberOfLeadingZeros(count);
+    int searchRange = 16 << entrySelector;
+    int size = 12 + count * 16;
+    for (byte[] data : tables.values()) {
+      size += padded(data.length);
+    }
+    ByteBuffer font = ByteBuffer.allocate(size);
+    font.putInt(0x00010000).putShort((short) count).putShort((short) searchRange);
+    font.putShort((short) entrySelector).putShort((short) (count * 16 - searchRange));
+    int offset = 12 + count * 16;
+    int headOffset = 0;
+    for (Map.Entry<String, byte[]> table : tables.entrySet()) {
+      byte[] data = table.getValue();
+      font.put(table.getKey().getBytes(StandardCharsets.US_ASCII));
+      font.putInt(checksum(data)).putInt(offset).putInt(data.length);
+      if ("head".equals(table.getKey())) {
+        headOffset = offset;
+      }
+      offset += padded(data.length);
+    }
+    for (byte[] data : tables.values()) {
+      font.put(data);
+      font.position(padded(font.position()));
+    }
+    byte[] content = font.array();
+    font.putInt(headOffset + 8, CHECKSUM_MAGIC - checksum(content));
+    return content;
+  }
+
+  /**
+   * @param data the table or font content
+   * @return the TrueType checksum, the sum of the content as big endian unsigned 32-bit integers
+   */
+  static int checksum(byte[] data) {
+    ByteBuffer buffer = ByteBuffer.wrap(Arrays.copyOf(data, padded(data.length)));
+    int sum = 0;
+    while (buffer.hasRemaining()) {
+      sum += buffer.getInt();
+    }
+    return sum;
+  }
+
+  static int padded(int length) {
+    return (length + 3) & ~3;
+  }
+
+  private ByteBuffer table(String tag) {
+    return tables.get(tag).duplicate();
+  }
+
+  private byte[] copy(String tag) {
+    ByteBuffer table = table(tag);
+    byte[] data = new byte[table.remaining()];
+    table.get(data);
+    return data;
+  }
+
+  private ByteBuffer slice(int offset, int length) {
+    ByteBuffer buffer = font.duplicate();
+    buffer.position(offset);
+    buffer.limit(offset + length);
+    return buffer.slice();
+  }
+
+  private static ByteBuffer slice(ByteBuffer buffer, int offset) {
+    ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(offset);
+    return duplicate.slice();
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.ui.tools.mdi;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/** Wraps an sfnt font, like the output of {@link TrueTypeSubsetter}, into a WOFF 1.0 file. */
+public class WoffWriter {
+
+  private static final int WOFF_SIGNATURE = 0x774F4646;
+  private static final int HEADER_SIZE = 44;
+  private static final int ENTRY_SIZE = 20;
+
+  private WoffWriter() {}
+
+  /**
+   * @param sfnt the font content
+   * @return the WOFF content, every table is zlib compressed unless that does not make it smaller
+   */
+  public static byte[] write(byte[] sfnt) {
+    ByteBuffer font = ByteBuffer.wrap(sfnt);
+    int count = font.getShort(4) & 0xFFFF;
+    List<byte[]> compressed = new ArrayList<>();
+    int size = HEADER_SIZE + count * ENTRY_SIZE;
+    int sfntSize = 12 + count * 16;
+    for (int i = 0; i < count; i++) {
+      int record = 12 + i * 16;
+      int offset = font.getInt(record + 8);
+      int length = font.getInt(record + 12);
+      byte[] data = Arrays.copyOfRange(sfnt, offset, offset + length);
+      byte[] deflated = deflate(data);
+      compressed.add(deflated.length < data.length ? deflated : data);
+      size += TrueTypeSubsetter.padded(compressed.get(i).length);
+      sfntSize += TrueTypeSubsetter.padded(length);
+    }
+
+    ByteBuffer woff = ByteBuffer.allocate(size);
+    woff.putInt(WOFF_SIGNATURE).putInt(font.getInt(0)).putInt(size);
+    woff.putShort((short) count).putShort((short) 0).putInt(sfntSize);
+    woff.putShort((short) 1).putShort((short) 0);
+    woff.putInt(0).putInt(0).putInt(0).putInt(0).putInt(0);
+    int offset = HEADER_SIZE + count * ENTRY_SIZE;
+    for (int i = 0; i < count; i++) {
+      int record = 12 + i * 16;
+      woff.putInt(font.getInt(record));
+      woff.putInt(offset).putInt(compressed.get(i).length);
+      woff.putInt(font.getInt(record + 12)).putInt(font.getInt(record + 4));
+      offset += TrueTypeSubsetter.padded(compressed.get(i).length);
+    }
+    for (byte[] data : compressed) {
+      woff.put(data);
+      woff.position(TrueTypeSubsetter.padded(woff.position()));
+    }
+    return woff.array();
+  }
+
+  private static byte[] deflate(byte[] data) {
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    try {
+      deflater.setInput(data);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+}
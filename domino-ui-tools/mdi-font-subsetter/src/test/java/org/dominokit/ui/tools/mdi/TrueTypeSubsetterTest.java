@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.ui.tools.mdi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.junit.Test;
+
+public class TrueTypeSubsetterTest {
+
+  private static final byte[] NOTDEF = {0, 1, 0, 0, 0, 0, 0, 10, 0, 10, 0, 0};
+  private static final byte[] SIMPLE = {0, 1, 0, 0, 0, 0, 0, 20, 0, 20, 0, 1};
+  private static final byte[] COMPONENT = {0, 1, 0, 0, 0, 0, 0, 30, 0, 30, 0, 2};
+  private static final byte[] COMPOSITE = {-1, -1, 0, 0, 0, 0, 0, 30, 0, 30, 0, 0, 0, 2, 5, 5};
+  private static final byte[] EMPTY = {};
+
+  private static final int BMP = 'A';
+  private static final int SUPPLEMENTARY = 0xF0001;
+
+  @Test(expected = IOException.class)
+  public void rejectsFontsThatAreNotTrueType() throws IOException {
+    new TrueTypeSubsetter(new byte[] {'O', 'T', 'T', 'O', 0, 0, 0, 0, 0, 0, 0, 0});
+  }
+
+  @Test(expected = IOException.class)
+  public void rejectsFontsWithoutTheRequiredTables() throws IOException {
+    Map<String, byte[]> tables = tables(format4());
+    tables.remove("loca");
+    new TrueTypeSubsetter(assemble(tables));
+  }
+
+  @Test
+  public void looksUpTheGlyphIdsInTheFormat4Cmap() throws IOException {
+    TrueTypeSubsetter subsetter = new TrueTypeSubsetter(font(format4()));
+    assertEquals(
+        mapping(BMP, 1, BMP + 2, 3, BMP + 3, 4),
+        subsetter.glyphIds(codePoints(BMP, BMP + 2, BMP + 3, BMP + 10)));
+  }
+
+  @Test
+  public void looksUpTheGlyphIdsInTheFormat12Cmap() throws IOException {
+    TrueTypeSubsetter subsetter = new TrueTypeSubsetter(font(format12()));
+    assertEquals(
+        mapping(SUPPLEMENTARY, 1, SUPPLEMENTARY + 1, 2),
+        subsetter.glyphIds(codePoints(SUPPLEMENTARY, SUPPLEMENTARY + 1, SUPPLEMENTARY + 10)));
+  }
+
+  @Test
+  public void keepsTheNotdefGlyphAndRenumbersTheKeptGlyphs() throws IOException {
+    byte[] subset = new TrueTypeSubsetter(font(format12())).subset(codePoints(0xF0002));
+    TrueTypeSubsetter subsetter = new TrueTypeSubsetter(subset);
+
+    assertEquals(mapping(SUPPLEMENTARY + 1, 1), subsetter.glyphIds(codePoints(0xF0001, 0xF0002)));
+    assertArrayEquals(NOTDEF, subsetter.glyph(0));
+    assertArrayEquals(COMPONENT, subsetter.glyph(1));
+    assertEquals(2, readShort(subset, "maxp", 4));
+  }
+
+  @Test
+  public void keepsAndRemapsTheComponentsOfCompositeGlyphs() throws IOException {
+    byte[] subset = new TrueTypeSubsetter(font(format4())).subset(codePoints(BMP + 2));
+    TrueTypeSubsetter subsetter = new TrueTypeSubsetter(subset);
+
+    assertEquals(mapping(BMP + 2, 2), subsetter.glyphIds(codePoints(BMP + 1, BMP + 2)));
+    assertArrayEquals(COMPONENT, subsetter.glyph(1));
+    byte[] composite = Arrays.copyOf(COMPOSITE, COMPOSITE.length);
+    composite[13] = 1;
+    assertArrayEquals(composite, subsetter.glyph(2));
+    assertEquals(3, readShort(subset, "maxp", 4));
+  }
+
+  @Test
+  public void keepsGlyphsWithoutOutlines() throws IOException {
+    TrueTypeSubsetter subsetter =
+        new TrueTypeSubsetter(new TrueTypeSubsetter(font(format4())).subset(codePoints(BMP + 3)));
+
+    assertEquals(mapping(BMP + 3, 1), subsetter.glyphIds(codePoints(BMP + 3)));
+    assertArrayEquals(EMPTY, subsetter.glyph(1));
+  }
+
+  @Test
+  public void writesTheMetricsOfTheKeptGlyphs() throws IOException {
+    byte[] subset = new TrueTypeSubsetter(font(format4())).subset(codePoints(BMP + 2));
+    TrueTypeSubsetter subsetter = new TrueTypeSubsetter(subset);
+
+    assertEquals(1000, subsetter.unitsPerEm());
+    assertEquals(800, subsetter.ascender());
+    assertEquals(1, readShort(subset, "head", 50));
+    assertEquals(3, readShort(subset, "hhea", 34));
+    int[] hmtx = new int[6];
+    for (int i = 0; i < hmtx.length; i++) {
+      hmtx[i] = readShort(subset, "hmtx", i * 2);
+    }
+    assertArrayEquals(new int[] {500, 10, 600, 30, 600, 40}, hmtx);
+  }
+
+  @Test
+  public void writesAFormat4CmapForTheBmpCodePoints() throws IOException {
+    byte[] subset =
+        new TrueTypeSubsetter(font(format4())).subset(codePoints(BMP, BMP + 1, BMP + 3));
+    // Hides the format 12 subtable so the lookups go through the format 4 one.
+    ByteBuffer.wrap(subset).putShort(tableOffset(subset, "cmap") + 14, (short) 0);
+    TrueTypeSubsetter subsetter = new TrueTypeSubsetter(subset);
+
+    assertEquals(
+        mapping(BMP, 1, BMP + 1, 2, BMP + 3, 3),
+        subsetter.glyphIds(codePoints(BMP, BMP + 1, BMP + 2, BMP + 3)));
+  }
+
+  @Test
+  public void writesAValidFontChecksum() throws IOException {
+    byte[] subset = new TrueTypeSubsetter(font(format4())).subset(codePoints(BMP, BMP + 2));
+
+    assertEquals(0xB1B0AFBA, TrueTypeSubsetter.checksum(subset));
+    assertEquals(0, subset.length % 4);
+  }
+
+  private static Set<Integer> codePoints(Integer... codePoints) {
+    return new HashSet<>(Arrays.asList(codePoints));
+  }
+
+  private static Map<Integer, Integer> mapping(int... codePointsAndGlyphIds) {
+    Map<Integer, Integer> mapping = new TreeMap<>();
+    for (int i = 0; i < codePointsAndGlyphIds.length; i += 2) {
+      mapping.put(codePointsAndGlyphIds[i], codePointsAndGlyphIds[i + 1]);
+    }
+    return mapping;
+  }
+
+  private static int readShort(byte[] font, String tag, int offset) {
+    return ByteBuffer.wrap(font).getShort(tableOffset(font, tag) + offset);
+  }
+
+  /** Maps the code points A to D to the glyphs 1 to 4. */
+  private static byte[] format4() {
+    ByteBuffer subtable = ByteBuffer.allocate(32);
+    subtable.putShort((short) 4).putShort((short) 32).putShort((short) 0);
+    subtable.putShort((short) 4).putShort((short) 4).putShort((short) 1).putShort((short) 0);
+    subtable.putShort((short) (BMP + 3)).putShort((short) 0xFFFF).putShort((short) 0);
+    subtable.putShort((short) BMP).putShort((short) 0xFFFF);
+    subtable.putShort((short) (1 - BMP)).putShort((short) 1);
+    subtable.putShort((short) 0).putShort((short) 0);
+    return cmap(1, subtable.array());
+  }
+
+  /** Maps the code points U+F0001 to U+F0004 to the glyphs 1 to 4. */
+  private static byte[] format12() {
+    ByteBuffer subtable = ByteBuffer.allocate(28);
+    subtable.putShort((short) 12).putShort((short) 0).putInt(28).putInt(0).putInt(1);
+    subtable.putInt(SUPPLEMENTARY).putInt(SUPPLEMENTARY + 3).putInt(1);
+    return cmap(10, subtable.array());
+  }
+
+  private static byte[] cmap(int encoding, byte[] subtable) {
+    ByteBuffer cmap = ByteBuffer.allocate(12 + subtable.length);
+    cmap.putShort((short) 0).putShort((short) 1);
+    cmap.putShort((short) 3).putShort((short) encoding).putInt(12).put(subtable);
+    return cmap.array();
+  }
+
+  private static byte[] font(byte[] cmap) {
+    return assemble(tables(cmap));
+  }
+
+  /**
+   * A font with a short {@code loca}, two long horizontal metrics and the glyphs {@code .notdef},
+   * a simple glyph, the component of the composite glyph, the composite glyph and an empty glyph.
+   */
+  private static Map<String, byte[]> tables(byte[] cmap) {
+    Map<String, byte[]> tables = new TreeMap<>();
+    tables.put("cmap", cmap);
+
+    ByteArrayOutputStream glyf = new ByteArrayOutputStream();
+    ByteBuffer loca = ByteBuffer.allocate(12);
+    for (byte[] glyph : Arrays.asList(NOTDEF, SIMPLE, COMPONENT, COMPOSITE, EMPTY)) {
+      loca.putShort((short) (glyf.size() / 2));
+      glyf.write(glyph, 0, glyph.length);
+    }
+    loca.putShort((short) (glyf.size() / 2));
+    tables.put("glyf", glyf.toByteArray());
+    tables.put("loca", loca.array());
+
+    ByteBuffer head = ByteBuffer.allocate(54);
+    head.putInt(0, 0x00010000).putShort(18, (short) 1000).putShort(50, (short) 0);
+    tables.put("head", head.array());
+    ByteBuffer hhea = ByteBuffer.allocate(36);
+    hhea.putInt(0, 0x00010000).putShort(4, (short) 800).putShort(34, (short) 2);
+    tables.put("hhea", hhea.array());
+    ByteBuffer hmtx = ByteBuffer.allocate(14);
+    hmtx.putShort((short) 500).putShort((short) 10).putShort((short) 600).putShort((short) 20);
+    hmtx.putShort((short) 30).putShort((short) 40).putShort((short) 50);
+    tables.put("hmtx", hmtx.array());
+    ByteBuffer maxp = ByteBuffer.allocate(6);
+    maxp.putInt(0x00005000).putShort((short) 5);
+    tables.put("maxp", maxp.array());
+    return tables;
+  }
+
+  private static byte[] assemble(Map<String, byte[]> tables) {
+    int size = 12 + tables.size() * 16;
+    for (byte[] data : tables.values()) {
+      size += TrueTypeSubsetter.padded(data.length);
+    }
+    ByteBuffer font = ByteBuffer.allocate(size);
+    font.putInt(0x00010000).putShort((short) tables.size()).position(12);
+    int offset = 12 + tables.size() * 16;
+    for (Map.Entry<String, byte[]> table : tables.entrySet()) {
+      font.put(table.getKey().getBytes(StandardCharsets.US_ASCII));
+      font.putInt(0).putInt(offset).putInt(table.getValue().length);
+      offset += TrueTypeSubsetter.padded(table.getValue().length);
+    }
+    for (byte[] data : tables.values()) {
+      font.put(data).position(TrueTypeSubsetter.padded(font.position()));
+    }
+    return font.array();
+  }
+
+  private static int tableOffset(byte[] font, String tag) {
+    ByteBuffer buffer = ByteBuffer.wrap(font);
+    for (int record = 12; ; record += 16) {
+      if (tag.equals(new String(font, record, 4, StandardCharsets.US_ASCII))) {
+        return buffer.getInt(record + 8);
+      }
+    }
+  }
+}
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.apache.commons.io.IOUtils;
+import org.dominokit.ui.tools.mdi.MdiSpriteWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,6 +51,7 @@ public class MdiIconsProcessingStep {
     generateIcons();
     updateFonts();
     updateCss();
+    updateSprites();
   }
 
   private static Path getIconRootPath() {
@@ -82,6 +84,25 @@ public class MdiIconsProcessingStep {
     copyCss("materialdesignicons.min.css.map");
   }
 
+  private static void updateSprites() {
+    try {
+      MdiSpriteWriter.main(
+          new String[] {
+            "--font",
+            Paths.get(
+                    getResourcePublicRootPath().toString(),
+                    "css/fonts/materialdesignicons-webfont.ttf")
+                .toString(),
+            "--sources",
+            Paths.get(getIconRootPath().toString(), "lib/MdiMetaData.java").toString(),
+            "--out",
+            Paths.get(getResourcePublicRootPath().toString(), "css/mdi-sprites").toString()
+          });
+    } catch (IOException e) {
+      LOGGER.error("", e);
+    }
+  }
+
   private static void copyFont(String fontName) {
     try (InputStream inputStream =
         new URL(
@@ -86,7 +86,8 @@ public class MdiIconsSourceWriter {
   private static final String MDI_ICON_TYPE = "org.dominokit.domino.ui.icons.MdiIcon";
   private static final String MDI_ICON_FACTORY_TYPE =
       "org.dominokit.domino.ui.icons.MdiIconsByTagFactory";
-  private static final String MDI_META_TYPE = "org.dominokit.domino.ui.icons.MdiMeta";
+  private static final String DATA_SEPARATOR = "|";
+  private static final int DATA_CHUNK_LENGTH = 8192;
 
   /** Constant <code>UNTAGGED="UnTagged"</code> */
   public static final String UNTAGGED = "UnTagged";
@@ -147,6 +148,7 @@ public class MdiIconsSourceWriter {
     types.add(generateMdiTagsConstants(tags));
     types.add(generateMdiByTagFactory(tags));
     types.add(generateAllMdiIconsWithMetaInterface());
+    types.add(generateMdiMetaData());
 
     return types;
   }
@@ -302,18 +304,9 @@ public class MdiIconsSourceWriter {
                   .addModifiers(Modifier.STATIC)
                   .returns(ClassName.bestGuess(MDI_ICON_TYPE))
                   .addStatement(
-                      "return $T.create($S, new $T($S, $S, $T.asList($L), $T.asList($L), $S, $S))",
+                      "return $T.create($S)",
                       ClassName.bestGuess(MDI_ICON_TYPE),
-                      "mdi-" + metaIconInfo.getName(),
-                      ClassName.bestGuess(MDI_META_TYPE),
-                      metaIconInfo.getName(),
-                      metaIconInfo.getCodepoint(),
-                      TypeName.get(Arrays.class),
-                      getStringLiteral(metaIconInfo.getTags()),
-                      TypeName.get(Arrays.class),
-                      getStringLiteral(metaIconInfo.getAliases()),
-                      metaIconInfo.getAuthor(),
-                      metaIconInfo.getVersion());
+                      "mdi-" + metaIconInfo.getName());
 
           if (metaIconInfo.isDeprecated()) {
             iconMethod.addAnnotation(Deprecated.class);
@@ -325,6 +318,79 @@ public class MdiIconsSourceWriter {
     return builder;
   }
 
+  /**
+   * The icons metadata packed as two string tables, read by {@code MdiMetaIndex} on the first
+   * metadata lookup instead of allocating a {@code MdiMeta} per icon method.
+   *
+   * <p>{@code STRINGS} holds every distinct tag, alias, author and version. {@code ICONS} holds a
+   * record per icon, {@code name codepoint tags aliases author version}, where the tags and aliases
+   * are comma separated base 36 indexes in {@code STRINGS}. The entries of both tables are
+   * separated by {@code |} and split in chunks to stay under the class file limit of a string
+   * constant.
+   */
+  private TypeSpec.Builder generateMdiMetaData() {
+    List<String> strings = new ArrayList<>();
+    Map<String, Integer> stringIds = new HashMap<>();
+    List<String> records = new ArrayList<>();
+    metaIconInfos.forEach(
+        metaIconInfo ->
+            records.add(
+                String.join(
+                    " ",
+                    metaIconInfo.getName(),
+                    metaIconInfo.getCodepoint(),
+                    stringIds(metaIconInfo.getTags(), strings, stringIds),
+                    stringIds(metaIconInfo.getAliases(), strings, stringIds),
+                    stringId(metaIconInfo.getAuthor(), strings, stringIds),
+                    stringId(metaIconInfo.getVersion(), strings, stringIds))));
+
+    return classBuilder("MdiMetaData")
+        .addField(dataField("STRINGS", strings))
+        .addField(dataField("ICONS", records));
+  }
+
+  private String stringIds(
+      List<String> values, List<String> strings, Map<String, Integer> stringIds) {
+    return values.stream()
+        .map(value -> stringId(value, strings, stringIds))
+        .collect(Collectors.joining(","));
+  }
+
+  private String stringId(String value, List<String> strings, Map<String, Integer> stringIds) {
+    String entry = isNull(value) ? "" : value;
+    int id =
+        stringIds.computeIfAbsent(
+            entry,
+            k -> {
+              strings.add(k);
+              return strings.size() - 1;
+            });
+    return Integer.toString(id, 36);
+  }
+
+  private FieldSpec dataField(String name, List<String> entries) {
+    List<String> chunks = new ArrayList<>();
+    StringBuilder chunk = new StringBuilder();
+    for (String entry : entries) {
+      if (chunk.length() > 0 && chunk.length() + entry.length() >= DATA_CHUNK_LENGTH) {
+        chunks.add(chunk.toString());
+        chunk.setLength(0);
+      }
+      if (chunk.length() > 0) {
+        chunk.append(DATA_SEPARATOR);
+      }
+      chunk.append(entry);
+    }
+    chunks.add(chunk.toString());
+
+    return FieldSpec.builder(
+            ArrayTypeName.of(String.class), name, Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+        .initializer(
+            "{$L}",
+            chunks.stream().map(value -> CodeBlock.of("$S", value)).collect(CodeBlock.joining(",")))
+        .build();
+  }
+
   private TypeSpec.Builder generateMdiIconsByTagInterface(Set<String> tags) {
     TypeSpec.Builder builder = interfaceBuilder("MdiIconsByTag").addModifiers(Modifier.PUBLIC);
 
@@ -421,11 +487,6 @@ public class MdiIconsSourceWriter {
     return tag.replace("/", "_").replace("+", "_").replace(" ", "");
   }
 
-  private String getStringLiteral(List<String> stringList) {
-    String literal = stringList.stream().map(s -> "\"" + s + "\"").collect(Collectors.joining(","));
-    return (isNull(literal) || literal.isEmpty()) ? "" : literal;
-  }
-
   private String unreservedKeywordName(String str) {
     if (RESERVED_KEYWORDS.contains(str)) {
       return str + "_";
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.config;
+
+/**
+ * Implementations of this interface can be used to configure defaults for {@link
+ * org.dominokit.domino.ui.icons.MdiIcon}
+ */
+public interface IconsConfig extends ComponentConfig {
+
+  /**
+   * Use this method to render the MDI icons as inline SVGs from the {@code <symbol>} sprites
+   * instead of the webfont glyphs. The sprites are split by icon category and fetched when an icon
+   * of the category is first rendered, the webfont is then never downloaded.
+   *
+   * <p>Defaults to : {@code false}
+   *
+   * @return a boolean, true to use the SVG sprites
+   */
+  default boolean isMdiSvgSprites() {
+    return false;
+  }
+
+  /**
+   * Use this method to define the url of the directory holding the MDI SVG sprites and their
+   * {@code index.json}, relative to the page or absolute. The sprites are packaged in the
+   * domino-ui webjar under {@code css/mdi-sprites/}.
+   *
+   * <p>Defaults to : {@code css/mdi-sprites/}
+   *
+   * @return a String url ending with a {@code /}
+   */
+  default String getMdiSpritesUrl() {
+    return "css/mdi-sprites/";
+  }
+}
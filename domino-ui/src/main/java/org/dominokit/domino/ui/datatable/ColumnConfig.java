@@ -25,6 +25,7 @@ import elemental2.dom.HTMLTableCellElement;
 import elemental2.dom.Node;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.elements.TableRowElement;
@@ -37,6 +38,8 @@ import org.dominokit.domino.ui.utils.ComponentMeta;
 import org.dominokit.domino.ui.utils.DominoElement;
 import org.dominokit.domino.ui.utils.ElementsFactory;
 import org.dominokit.domino.ui.utils.ScreenMedia;
+import org.gwtproject.i18n.client.NumberFormat;
+import org.gwtproject.i18n.shared.DateTimeFormat;
 
 /**
  * Represents the configuration for a column within a data table.
@@ -64,6 +67,7 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
   private CellTextAlign headerCellTextAlign = CellTextAlign.LEFT;
   private CellRenderer<T> cellRenderer;
   private CellRenderer<T> editableCellRenderer;
+  private Function<? super T, String> cellTextProvider;
   private HeaderElementSupplier headerElementSupplier = columnTitle -> text(columnTitle);
   private CellStyler<T> headerStyler = element -> {};
   private CellStyler<T> cellStyler = element -> {};
@@ -358,6 +362,7 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
    */
   public ColumnConfig<T> setCellRenderer(CellRenderer<T> cellRenderer) {
     this.cellRenderer = cellRenderer;
+    this.cellTextProvider = null;
     if (isNull(editableCellRenderer)) {
       this.editableCellRenderer = cellRenderer;
     }
@@ -392,6 +397,80 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
     return this;
   }
 
+  /**
+   * Renders the cells of this column as plain text. The text is written to the cell {@code
+   * textContent} without calling a {@link CellRenderer}, and the {@link RowCell} of the cell is
+   * only created when it is requested from the row, see {@link TableRow#getCell(String)}, when the
+   * row is edited or when a plugin requires row cells, see {@link
+   * org.dominokit.domino.ui.datatable.plugins.DataTablePlugin#requiresRowCells()}.
+   *
+   * @param valueProvider provides the cell value of a record, rendered with {@link
+   *     String#valueOf(Object)}, a null value renders an empty cell
+   * @return the current instance for chaining
+   */
+  public ColumnConfig<T> setTextCell(Function<? super T, ?> valueProvider) {
+    this.cellTextProvider =
+        record -> {
+          Object value = valueProvider.apply(record);
+          return isNull(value) ? "" : String.valueOf(value);
+        };
+    return this;
+  }
+
+  /**
+   * Renders the cells of this column as formatted numbers, see {@link #setTextCell(Function)}.
+   *
+   * @param valueProvider provides the cell value of a record, a null value renders an empty cell
+   * @param format the number format
+   * @return the current instance for chaining
+   */
+  public ColumnConfig<T> setNumberCell(
+      Function<? super T, ? extends Number> valueProvider, NumberFormat format) {
+    this.cellTextProvider =
+        record -> {
+          Number value = valueProvider.apply(record);
+          return isNull(value) ? "" : format.format(value);
+        };
+    return this;
+  }
+
+  /**
+   * Renders the cells of this column as formatted dates, see {@link #setTextCell(Function)}.
+   *
+   * @param valueProvider provides the cell value of a record, a null value renders an empty cell
+   * @param format the date format
+   * @return the current instance for chaining
+   */
+  public ColumnConfig<T> setDateCell(
+      Function<? super T, ? extends Date> valueProvider, DateTimeFormat format) {
+    this.cellTextProvider =
+        record -> {
+          Date value = valueProvider.apply(record);
+          return isNull(value) ? "" : format.format(value);
+        };
+    return this;
+  }
+
+  /**
+   * Checks if the cells of this column are rendered as plain text, see {@link
+   * #setTextCell(Function)}.
+   *
+   * @return true if the column is a text column, false otherwise
+   */
+  public boolean isTextCell() {
+    return nonNull(cellTextProvider);
+  }
+
+  /**
+   * Gets the text of a cell of a text column, see {@link #setTextCell(Function)}.
+   *
+   * @param record the row record
+   * @return the cell text
+   */
+  public String getCellText(T record) {
+    return cellTextProvider.apply(record);
+  }
+
   /**
    * Styles the header using the provided header styler.
    *
@@ -471,14 +550,12 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
    * @param element the element to apply styles to
    */
   public void applyScreenMedia(Element element) {
-    DominoElement<Element> thElement = elements.elementOf(element);
-
     if (nonNull(showOn)) {
-      thElement.showOn(showOn);
+      elements.elementOf(element).showOn(showOn);
     }
 
     if (nonNull(hideOn)) {
-      thElement.hideOn(hideOn);
+      elements.elementOf(element).hideOn(hideOn);
     }
   }
 
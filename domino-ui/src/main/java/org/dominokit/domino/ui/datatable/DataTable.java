@@ -15,26 +15,35 @@
  */
 package org.dominokit.domino.ui.datatable;
 
+import static java.util.Collections.singletonList;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.store.DataChangedEvent.ChangeType.INSERTED;
 import static org.dominokit.domino.ui.utils.Domino.div;
 import static org.dominokit.domino.ui.utils.Domino.table;
 import static org.dominokit.domino.ui.utils.Domino.tbody;
 import static org.dominokit.domino.ui.utils.Domino.tfoot;
 import static org.dominokit.domino.ui.utils.Domino.thead;
 
+import elemental2.core.JsWeakMap;
 import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.Event;
 import elemental2.dom.EventListener;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.Node;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.datatable.events.DataSortEvent;
 import org.dominokit.domino.ui.datatable.events.OnBeforeDataChangeEvent;
@@ -43,6 +52,8 @@ import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.model.SearchContext;
+import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
+import org.dominokit.domino.ui.datatable.store.DataChangedEvent.RecordsChange;
 import org.dominokit.domino.ui.datatable.store.DataStore;
 import org.dominokit.domino.ui.elements.DivElement;
 import org.dominokit.domino.ui.elements.TBodyElement;
@@ -89,10 +100,19 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
   private List<T> data = new ArrayList<>();
   private boolean selectable = true;
   private List<TableRow<T>> tableRows = new ArrayList<>();
+  private VirtualScrollRenderer<T> virtualScrollRenderer;
+  private SelectionModel<T> selectionModel = new KeySetSelectionModel<>();
+  private boolean retainSelection = false;
+  private final List<T> pendingRecords = new ArrayList<>();
+  private int pendingPosition = 0;
+  private int pendingRenderFrame = -1;
 
   private boolean selectionListenersPaused = false;
 
   private Map<String, List<TableEventListener>> events = new HashMap<>();
+  private final JsWeakMap<Element, TableRow<T>> rowsByElement = new JsWeakMap<>();
+  private final Map<String, List<RowEventListener<T>>> rowEventListeners = new HashMap<>();
+  private final EventListener rowEventsDispatcher = this::dispatchRowEvent;
 
   private final SearchContext<T> searchContext = new SearchContext<>(this);
 
@@ -136,7 +156,13 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
           double scrollLeft = new Double(tableElement.element().scrollLeft).intValue();
           tableElement.setAttribute("dui-data-v-scroll", scrollTop);
           tableElement.setAttribute("dui-data-h-scroll", scrollLeft);
+          if (isVirtualScroll()) {
+            virtualScrollRenderer.scheduleUpdate();
+          }
         });
+    if (tableConfig.isVirtualScroll()) {
+      this.virtualScrollRenderer = new VirtualScrollRenderer<>(this);
+    }
     this.dataStore.onDataChanged(
         dataChangedEvent -> {
           fireTableEvent(
@@ -149,7 +175,9 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
                     dataChangedEvent.getSortDir().get(), dataChangedEvent.getSortColumn().get()));
           }
 
-          if (dataChangedEvent.isAppend()) {
+          if (dataChangedEvent.isIncremental()) {
+            applyChanges(dataChangedEvent.getNewData(), dataChangedEvent.getChanges());
+          } else if (dataChangedEvent.isAppend()) {
             appendData(dataChangedEvent.getNewData());
           } else {
             setData(dataChangedEvent.getNewData());
@@ -166,6 +194,9 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
                 getDynamicStyleSheet().flush();
               },
               0);
+          if (isVirtualScroll()) {
+            virtualScrollRenderer.scheduleUpdate();
+          }
         });
     addCss(dui_datatable_hover, dui_datatable_striped);
   }
@@ -229,7 +260,7 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
       this.dataStore.load();
     }
 
-    if (tableConfig.isFixed()) {
+    if (tableConfig.isFixed() || tableConfig.isVirtualScroll()) {
       tableElement.setMaxHeight(tableConfig.getFixedBodyHeight());
     }
 
@@ -275,7 +306,15 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
    * @return the current DataTable instance
    */
   public DataTable<T> setData(List<T> data) {
+    cancelProgressiveRendering();
     this.data = data;
+    if (!retainSelection) {
+      selectionModel.clear();
+    }
+    if (isVirtualScroll()) {
+      virtualScrollRenderer.setRecords(data);
+      return this;
+    }
     tableRows.clear();
     removeRecordsHandler.removeRows(this);
     if (nonNull(data) && !data.isEmpty()) {
@@ -291,7 +330,10 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
    * @return the current DataTable instance
    */
   public DataTable<T> appendData(List<T> newData) {
-    if (nonNull(this.data)) {
+    if (nonNull(this.data) && isVirtualScroll()) {
+      this.data.addAll(newData);
+      virtualScrollRenderer.refresh();
+    } else if (nonNull(this.data)) {
       addRows(newData, this.data.size());
       this.data.addAll(newData);
     } else {
@@ -300,6 +342,105 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     return this;
   }
 
+  /**
+   * Patches the rendered rows using the granular changes of an incremental data change, only the
+   * rows of the inserted, removed or updated records are touched. When the rendered rows do not map
+   * one to one to the records, for example with grouped or tree rows, the table falls back to
+   * rendering all the rows again.
+   *
+   * @param newData the records after applying the changes
+   * @param changes the ordered list of changes
+   */
+  private void applyChanges(List<T> newData, List<RecordsChange<T>> changes) {
+    if (isVirtualScroll()) {
+      deselectRemovedRecords(newData);
+      this.data = newData;
+      virtualScrollRenderer.setRecords(newData);
+      return;
+    }
+    if (isNull(this.data) || !tableConfig.isDefaultRowAppender()) {
+      setData(newData);
+      return;
+    }
+    int expectedRows = this.data.size();
+    int firstShiftedIndex = Integer.MAX_VALUE;
+    boolean rowsAdded = false;
+    boolean selectionChanged = false;
+    for (RecordsChange<T> change : changes) {
+      int index = change.getIndex();
+      if (tableRows.size() != expectedRows
+          || index < 0
+          || index + (INSERTED.equals(change.getType()) ? 0 : change.getCount()) > expectedRows) {
+        setData(newData);
+        return;
+      }
+      switch (change.getType()) {
+        case INSERTED:
+          Node before = index < tableRows.size() ? tableRows.get(index).element() : null;
+          for (int i = 0; i < change.getRecords().size(); i++) {
+            TableRow<T> tableRow = new TableRow<>(change.getRecords().get(i), index + i, this);
+            tableConfig.getPlugins().forEach(plugin -> plugin.onBeforeAddRow(this, tableRow));
+            tableConfig.drawRecord(this, tableRow, before);
+            tableRows.add(index + i, tableRow);
+          }
+          expectedRows += change.getCount();
+          firstShiftedIndex = Math.min(firstShiftedIndex, index);
+          rowsAdded = true;
+          break;
+        case REMOVED:
+          for (int i = 0; i < change.getCount(); i++) {
+            TableRow<T> tableRow = tableRows.remove(index);
+            if (tableRow.isSelected()) {
+              selectionModel.deselect(singletonList(tableRow.getRecord()));
+              selectionChanged = true;
+            }
+            tableRow.detachRow();
+          }
+          expectedRows -= change.getCount();
+          firstShiftedIndex = Math.min(firstShiftedIndex, index);
+          break;
+        case UPDATED:
+          for (int i = 0; i < change.getRecords().size(); i++) {
+            TableRow<T> tableRow = tableRows.get(index + i);
+            if (tableRow.isSelected()) {
+              selectionModel.deselect(singletonList(tableRow.getRecord()));
+              selectionModel.select(singletonList(change.getRecords().get(i)));
+            }
+            tableRow.patchRecord(change.getRecords().get(i));
+          }
+          break;
+      }
+    }
+    for (int index = firstShiftedIndex; index < tableRows.size(); index++) {
+      tableRows.get(index).setIndex(index);
+    }
+    this.data = newData;
+    if (rowsAdded) {
+      tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
+    }
+    if (selectionChanged) {
+      triggerDeselectionListeners(null, getSelection());
+    }
+  }
+
+  /**
+   * Removes the records that are no longer in the table data from the selection, the selected
+   * records that are not part of the current data, for example from other pages, are kept.
+   *
+   * @param newData the records after applying the changes
+   */
+  private void deselectRemovedRecords(List<T> newData) {
+    if (selectionModel.size() == 0 || isNull(this.data)) {
+      return;
+    }
+    Set<T> remaining = new HashSet<>(newData);
+    List<T> removed =
+        this.data.stream()
+            .filter(record -> !remaining.contains(record))
+            .collect(Collectors.toList());
+    selectionModel.deselect(removed);
+  }
+
   /**
    * Adds rows to the data table based on the provided data and starting index.
    *
@@ -308,6 +449,20 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
    */
   private void addRows(List<T> data, int initialIndex) {
     tableConfig.getColumns().forEach(ColumnConfig::clearShowHideListeners);
+    for (DataTablePlugin<T> plugin : tableConfig.getPlugins()) {
+      if (plugin.renderRows(DataTable.this, data, initialIndex)) {
+        tableConfig.getPlugins().forEach(p -> p.onAllRowsAdded(DataTable.this));
+        return;
+      }
+    }
+    if (tableConfig.isProgressiveRendering()) {
+      boolean rendering = isProgressiveRenderingPending();
+      pendingRecords.addAll(data);
+      if (!rendering) {
+        renderPendingRows();
+      }
+      return;
+    }
 
     for (int index = 0; index < data.size(); index++) {
       TableRow<T> tableRow = new TableRow<>(data.get(index), initialIndex + index, this);
@@ -320,6 +475,50 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
   }
 
+  /**
+   * Renders the pending rows of a progressive rendering until the frame budget is consumed, then
+   * schedules the rendering of the remaining rows in the next animation frame. Once all the pending
+   * rows are rendered the plugins are notified that all rows are added.
+   */
+  private void renderPendingRows() {
+    pendingRenderFrame = -1;
+    double start = DomGlobal.performance.now();
+    // at least one row is rendered per frame, so a small frame budget still makes progress
+    boolean first = true;
+    while (pendingPosition < pendingRecords.size()
+        && (first || DomGlobal.performance.now() - start < tableConfig.getRenderFrameBudget())) {
+      first = false;
+      TableRow<T> tableRow =
+          new TableRow<>(pendingRecords.get(pendingPosition++), tableRows.size(), this);
+      tableConfig.getPlugins().forEach(plugin -> plugin.onBeforeAddRow(DataTable.this, tableRow));
+      tableConfig.drawRecord(DataTable.this, tableRow);
+      tableRows.add(tableRow);
+    }
+
+    if (pendingPosition < pendingRecords.size()) {
+      pendingRenderFrame = DomGlobal.requestAnimationFrame(timestamp -> renderPendingRows());
+    } else {
+      pendingRecords.clear();
+      pendingPosition = 0;
+      tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
+    }
+  }
+
+  /** @return true if a progressive rendering is still rendering rows. */
+  private boolean isProgressiveRenderingPending() {
+    return pendingPosition < pendingRecords.size();
+  }
+
+  /** Cancels an in-flight progressive rendering, the remaining rows will not be rendered. */
+  private void cancelProgressiveRendering() {
+    if (pendingRenderFrame >= 0) {
+      DomGlobal.cancelAnimationFrame(pendingRenderFrame);
+      pendingRenderFrame = -1;
+    }
+    pendingRecords.clear();
+    pendingPosition = 0;
+  }
+
   /**
    * Returns the current data present in the table.
    *
@@ -448,6 +647,83 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     return tableElement;
   }
 
+  /**
+   * Registers the element of a drawn row so that the row can be resolved from the events of the
+   * table body, see {@link #findRow(Event)}.
+   *
+   * @param tableRow the drawn row
+   */
+  void registerRow(TableRow<T> tableRow) {
+    rowsByElement.set(tableRow.element(), tableRow);
+  }
+
+  /**
+   * Finds the row of this table that contains the target of an event.
+   *
+   * @param evt the event
+   * @return the row containing the event target, or empty if the target is not inside a row of
+   *     this table
+   */
+  public Optional<TableRow<T>> findRow(Event evt) {
+    Element element = Js.uncheckedCast(evt.target);
+    while (nonNull(element) && element != tbody.element()) {
+      TableRow<T> tableRow = rowsByElement.get(element);
+      if (nonNull(tableRow)) {
+        return Optional.of(tableRow);
+      }
+      element = element.parentElement;
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Adds a listener for the events of the table rows. The events are listened to by a single
+   * listener on the table body and dispatched to the row that contains the event target, so the
+   * cost of the listener does not grow with the number of rows.
+   *
+   * @param type the event type, like {@code click}
+   * @param listener the row event listener
+   * @return the current DataTable instance
+   */
+  public DataTable<T> addRowEventListener(String type, RowEventListener<T> listener) {
+    rowEventListeners
+        .computeIfAbsent(
+            type,
+            k -> {
+              tbody.element().addEventListener(k, rowEventsDispatcher);
+              return new ArrayList<>();
+            })
+        .add(listener);
+    return this;
+  }
+
+  /**
+   * Removes a listener added with {@link #addRowEventListener(String, RowEventListener)}.
+   *
+   * @param type the event type, like {@code click}
+   * @param listener the row event listener
+   * @return the current DataTable instance
+   */
+  public DataTable<T> removeRowEventListener(String type, RowEventListener<T> listener) {
+    List<RowEventListener<T>> listeners = rowEventListeners.get(type);
+    if (nonNull(listeners) && listeners.remove(listener) && listeners.isEmpty()) {
+      rowEventListeners.remove(type);
+      tbody.element().removeEventListener(type, rowEventsDispatcher);
+    }
+    return this;
+  }
+
+  private void dispatchRowEvent(Event evt) {
+    List<RowEventListener<T>> listeners = rowEventListeners.get(evt.type);
+    if (nonNull(listeners)) {
+      findRow(evt)
+          .ifPresent(
+              tableRow ->
+                  new ArrayList<>(listeners)
+                      .forEach(listener -> listener.onRowEvent(evt, tableRow)));
+    }
+  }
+
   /**
    * Retrieves the body element of the table, which contains the data rows.
    *
@@ -550,10 +826,18 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
 
   /**
    * Retrieves a list of the records associated with the table rows that are currently selected.
+   * Only the selected records of the current table data are returned, use {@link
+   * #getSelectionModel()} to get the selected records that are not part of the current data.
    *
    * @return a list of records corresponding to selected table rows
    */
   public List<T> getSelectedRecords() {
+    if (isVirtualScroll()) {
+      if (isNull(data)) {
+        return new ArrayList<>();
+      }
+      return data.stream().filter(selectionModel::isSelected).collect(Collectors.toList());
+    }
     return tableRows.stream()
         .filter(TableRow::isSelected)
         .map(TableRow::getRecord)
@@ -585,6 +869,9 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
    * @return a list of records corresponding to root table rows
    */
   public List<T> getRecords() {
+    if (isVirtualScroll()) {
+      return nonNull(data) ? new ArrayList<>(data) : new ArrayList<>();
+    }
     return getRows().stream()
         .filter(TableRow::isRoot)
         .map(TableRow::getRecord)
@@ -607,22 +894,34 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
   }
 
   /**
-   * Selects all rows in the table that meet the provided selection condition.
+   * Selects all rows in the table that meet the provided selection condition. In virtual scroll
+   * mode the records that are not rendered are selected too, as the condition can only be evaluated
+   * for the rendered rows. Records that are already selected stay selected. The selection listeners
+   * are triggered once after all rows are selected.
    *
    * @param selectionCondition the condition determining which rows should be selected
    * @return the current DataTable instance
    */
   public DataTable<T> selectAll(SelectionCondition<T> selectionCondition) {
-    if (tableConfig.isMultiSelect() && !tableRows.isEmpty()) {
+    if (tableConfig.isMultiSelect() && isVirtualScroll() && nonNull(data)) {
+      Set<T> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
       for (TableRow<T> tableRow : tableRows) {
-        if (selectionCondition.isAllowSelection(this, tableRow)) {
-          withPauseSelectionListenersToggle(
-              true,
-              field -> {
-                tableRow.select();
-              });
+        if (!selectionCondition.isAllowSelection(this, tableRow)) {
+          rejected.add(tableRow.getRecord());
         }
       }
+      selectionModel.select(
+          data.stream().filter(record -> !rejected.contains(record)).collect(Collectors.toList()));
+    }
+    if (tableConfig.isMultiSelect() && !tableRows.isEmpty()) {
+      withBulkSelection(
+          () -> {
+            for (TableRow<T> tableRow : tableRows) {
+              if (selectionCondition.isAllowSelection(this, tableRow)) {
+                tableRow.select();
+              }
+            }
+          });
       triggerSelectionListeners(null, getSelection());
       fireTableEvent(SelectAllEvent.of(true, selectionCondition));
     }
@@ -636,30 +935,193 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
   }
 
   /**
-   * Deselects all rows in the table that meet the provided selection condition.
+   * Deselects all rows in the table that meet the provided selection condition. The selected
+   * records that are not rendered are deselected too, the condition is only evaluated for the
+   * rendered rows. The deselection listeners are triggered once after all rows are deselected.
    *
    * @param selectionCondition the condition determining which rows should be deselected
    * @return the current DataTable instance
    */
   public DataTable<T> deselectAll(SelectionCondition<T> selectionCondition) {
+    List<T> keptRecords =
+        tableRows.stream()
+            .filter(TableRow::isSelected)
+            .filter(tableRow -> !selectionCondition.isAllowSelection(this, tableRow))
+            .map(TableRow::getRecord)
+            .collect(Collectors.toList());
+    selectionModel.clear();
+    selectionModel.select(keptRecords);
     if (!tableRows.isEmpty()) {
-      for (TableRow<T> tableRow : tableRows) {
-        if (tableRow.isSelected()) {
-          if (selectionCondition.isAllowSelection(this, tableRow)) {
-            withPauseSelectionListenersToggle(
-                true,
-                field -> {
-                  tableRow.deselect();
-                });
-          }
-        }
-      }
+      withBulkSelection(
+          () -> {
+            for (TableRow<T> tableRow : tableRows) {
+              if (tableRow.isSelected() && selectionCondition.isAllowSelection(this, tableRow)) {
+                tableRow.deselect();
+              }
+            }
+          });
       triggerDeselectionListeners(null, new ArrayList<>());
       fireTableEvent(SelectAllEvent.of(false, selectionCondition));
     }
     return this;
   }
 
+  /**
+   * Selects the provided records, the records do not need to be part of the current table data, so
+   * for example passing the filtered records of a local data store selects all the matching
+   * records across all the pages without rendering them. The rendered rows of these records are
+   * selected and the selection listeners are triggered once after all records are selected.
+   *
+   * @param records the records to be selected
+   * @return the current DataTable instance
+   */
+  public DataTable<T> selectRecords(Collection<T> records) {
+    selectionModel.select(records);
+    withBulkSelection(
+        () -> {
+          for (TableRow<T> tableRow : tableRows) {
+            if (!tableRow.isSelected() && selectionModel.isSelected(tableRow.getRecord())) {
+              tableRow.select();
+            }
+          }
+        });
+    triggerSelectionListeners(null, getSelection());
+    return this;
+  }
+
+  /**
+   * Deselects the provided records, the rendered rows of these records are deselected and the
+   * deselection listeners are triggered once after all records are deselected.
+   *
+   * @param records the records to be deselected
+   * @return the current DataTable instance
+   */
+  public DataTable<T> deselectRecords(Collection<T> records) {
+    selectionModel.deselect(records);
+    withBulkSelection(
+        () -> {
+          for (TableRow<T> tableRow : tableRows) {
+            if (tableRow.isSelected() && !selectionModel.isSelected(tableRow.getRecord())) {
+              tableRow.deselect();
+            }
+          }
+        });
+    triggerDeselectionListeners(null, getSelection());
+    return this;
+  }
+
+  /**
+   * Runs the provided selection changes with the table selection listeners paused, the caller is
+   * responsible for triggering the listeners once after the changes.
+   */
+  private void withBulkSelection(Runnable changes) {
+    boolean paused = this.selectionListenersPaused;
+    this.selectionListenersPaused = true;
+    try {
+      changes.run();
+    } finally {
+      this.selectionListenersPaused = paused;
+    }
+  }
+
+  /**
+   * Checks if the provided record is selected, this is a lookup in the table {@link
+   * SelectionModel} and does not depend on the record being rendered.
+   *
+   * @param record the record to check
+   * @return true if the record is selected, false otherwise
+   */
+  public boolean isRecordSelected(T record) {
+    return nonNull(record) && selectionModel.isSelected(record);
+  }
+
+  /**
+   * Keeps the records selection in sync with the rows selection.
+   *
+   * @param tableRow the row that has been selected or deselected
+   */
+  void onRowSelectionChanged(TableRow<T> tableRow) {
+    if (tableRow.isSelected()) {
+      selectionModel.select(singletonList(tableRow.getRecord()));
+    } else {
+      selectionModel.deselect(singletonList(tableRow.getRecord()));
+    }
+  }
+
+  /**
+   * Triggers the table selection or deselection listeners for a row selection change, the selected
+   * rows are only collected when the listeners are not paused so that bulk selections do not
+   * collect them for every row.
+   *
+   * @param tableRow the row that has been selected or deselected
+   */
+  void fireRowSelectionChanged(TableRow<T> tableRow) {
+    if (this.selectionListenersPaused) {
+      return;
+    }
+    if (tableRow.isSelected()) {
+      triggerSelectionListeners(tableRow, getSelection());
+    } else {
+      triggerDeselectionListeners(tableRow, getSelection());
+    }
+  }
+
+  /**
+   * Sets the model holding the selected records of this table, the current selection is moved to
+   * the new model.
+   *
+   * @param selectionModel the new selection model
+   * @return the current DataTable instance
+   */
+  public DataTable<T> setSelectionModel(SelectionModel<T> selectionModel) {
+    if (nonNull(selectionModel) && selectionModel != this.selectionModel) {
+      selectionModel.select(this.selectionModel.getSelectedRecords());
+      this.selectionModel = selectionModel;
+    }
+    return this;
+  }
+
+  /**
+   * Gets the model holding the selected records of this table, including the selected records
+   * that are not part of the current table data.
+   *
+   * @return the selection model
+   */
+  public SelectionModel<T> getSelectionModel() {
+    return selectionModel;
+  }
+
+  /**
+   * Sets whether the selection is kept when new data is set to the table, when enabled the rows of
+   * selected records are rendered as selected, for example when navigating back to a page.
+   *
+   * @param retainSelection true to keep the selection, false to clear it when new data is set
+   * @return the current DataTable instance
+   */
+  public DataTable<T> setRetainSelection(boolean retainSelection) {
+    this.retainSelection = retainSelection;
+    return this;
+  }
+
+  /**
+   * Checks if the selection is kept when new data is set to the table.
+   *
+   * @return true if the selection is kept, false otherwise
+   */
+  public boolean isRetainSelection() {
+    return retainSelection;
+  }
+
+  /**
+   * Checks if the table is rendering its rows in virtual scroll mode.
+   *
+   * @return true if virtual scroll is enabled, false otherwise
+   * @see TableConfig#setVirtualScroll(boolean)
+   */
+  public boolean isVirtualScroll() {
+    return nonNull(virtualScrollRenderer);
+  }
+
   /**
    * Determines if the table rows are selectable.
    *
@@ -966,6 +1428,23 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     void onSelectionChanged(List<TableRow<T>> selectedTableRows, List<T> selectedRecords);
   }
 
+  /**
+   * A listener for the events of the table rows, see {@link #addRowEventListener(String,
+   * RowEventListener)}.
+   *
+   * @param <T> the type of data in the table
+   */
+  @FunctionalInterface
+  public interface RowEventListener<T> {
+    /**
+     * Invoked when an event is fired inside a row of the table.
+     *
+     * @param evt the event
+     * @param tableRow the row that contains the event target
+     */
+    void onRowEvent(Event evt, TableRow<T> tableRow);
+  }
+
   /**
    * Represents a filter for local rows in the table.
    *
@@ -84,6 +84,8 @@ public interface DataTableStyles {
 
   CssClass dui_datatable_drop_row = () -> "dui-datatable-drop-row";
 
+  CssClass dui_datatable_virtual_spacer = () -> "dui-datatable-virtual-spacer";
+
   CssClass table_row_filtered = () -> "table-row-filtered";
 
   CssClass fixed_width = () -> "fixed-width";
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.dominokit.domino.ui.datatable.store.RecordKeyProvider;
+
+/**
+ * The default {@link SelectionModel}, the selected records are kept in a map by their keys so that
+ * checking if a record is selected is a constant time lookup regardless of the number of selected
+ * records.
+ *
+ * <p>Without a {@link RecordKeyProvider} the record itself is used as the key, a key provider
+ * should be used when the records are reloaded as new instances, so that a reloaded record is still
+ * recognized as selected.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+public class KeySetSelectionModel<T> implements SelectionModel<T> {
+
+  private final Map<Object, T> selectedRecords = new LinkedHashMap<>();
+  private final RecordKeyProvider<T> recordKeyProvider;
+
+  /** Creates a selection model that uses the records themselves as keys. */
+  public KeySetSelectionModel() {
+    this(record -> record);
+  }
+
+  /**
+   * Creates a selection model that identifies the records by the keys of the provided key
+   * provider.
+   *
+   * @param recordKeyProvider The provider of the records keys.
+   */
+  public KeySetSelectionModel(RecordKeyProvider<T> recordKeyProvider) {
+    this.recordKeyProvider = isNull(recordKeyProvider) ? record -> record : recordKeyProvider;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isSelected(T record) {
+    return !selectedRecords.isEmpty()
+        && selectedRecords.containsKey(recordKeyProvider.getKey(record));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void select(Collection<? extends T> records) {
+    for (T record : records) {
+      selectedRecords.put(recordKeyProvider.getKey(record), record);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void deselect(Collection<? extends T> records) {
+    if (selectedRecords.isEmpty()) {
+      return;
+    }
+    for (T record : records) {
+      selectedRecords.remove(recordKeyProvider.getKey(record));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    selectedRecords.clear();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return selectedRecords.size();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<T> getSelectedRecords() {
+    return new ArrayList<>(selectedRecords.values());
+  }
+}
@@ -16,12 +16,16 @@
 
 package org.dominokit.domino.ui.datatable;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
 
 import elemental2.dom.HTMLTableCellElement;
+import java.util.HashSet;
+import java.util.Set;
 import org.dominokit.domino.ui.utils.DominoElement;
+import org.dominokit.domino.ui.utils.HasSelectionListeners.SelectionListener;
 
 /**
  * The {@code RowCell} class represents a cell within a data table row. It encapsulates the cell's
@@ -41,6 +45,15 @@ public class RowCell<T> {
    */
   private final CellRenderer.CellInfo<T> cellInfo;
 
+  /** The listener that shows and hides this cell with its column. */
+  private ColumnShowHideListener showHideListener;
+
+  /** The row selection listeners added by the last render of this cell. */
+  private Set<SelectionListener<? super TableRow<T>, ? super TableRow<T>>> selectionListeners;
+
+  /** The row deselection listeners added by the last render of this cell. */
+  private Set<SelectionListener<? super TableRow<T>, ? super TableRow<T>>> deselectionListeners;
+
   /** The default cell renderer used when no custom renderer is specified. */
   private CellRenderer<T> defaultCellRenderer = cell -> elements.text();
 
@@ -71,6 +84,13 @@ public class RowCell<T> {
   public void updateCell() {
     DominoElement<HTMLTableCellElement> cellElement = elements.elementOf(cellInfo.getElement());
     cellElement.clearElement();
+    TableRow<T> tableRow = cellInfo.getTableRow();
+    if (nonNull(selectionListeners)) {
+      tableRow.getSelectionListeners().removeAll(selectionListeners);
+      tableRow.getDeselectionListeners().removeAll(deselectionListeners);
+      selectionListeners = null;
+      deselectionListeners = null;
+    }
 
     if (nonNull(columnConfig.getTextAlign())) {
       cellElement.addCss(columnConfig.getTextAlign());
@@ -80,7 +100,19 @@ public class RowCell<T> {
       columnConfig.getHeadElement().addCss(columnConfig.getHeaderTextAlign());
     }
 
-    if (cellInfo.getTableRow().isEditable()) {
+    boolean editable = cellInfo.getTableRow().isEditable();
+    boolean textCell =
+        columnConfig.isTextCell() && (!editable || isNull(columnConfig.getEditableCellRenderer()));
+    if (textCell) {
+      cellInfo.getElement().textContent = columnConfig.getCellText(cellInfo.getRecord());
+      return;
+    }
+
+    Set<SelectionListener<? super TableRow<T>, ? super TableRow<T>>> previousSelection =
+        new HashSet<>(tableRow.getSelectionListeners());
+    Set<SelectionListener<? super TableRow<T>, ? super TableRow<T>>> previousDeselection =
+        new HashSet<>(tableRow.getDeselectionListeners());
+    if (editable) {
       if (nonNull(columnConfig.getEditableCellRenderer())) {
         cellElement.appendChild(columnConfig.getEditableCellRenderer().asElement(cellInfo));
       } else {
@@ -93,6 +125,30 @@ public class RowCell<T> {
         cellElement.appendChild(defaultCellRenderer.asElement(cellInfo));
       }
     }
+    // the listeners added by the renderer are removed when the cell is rendered again, the
+    // listeners added to the row by other means are kept
+    selectionListeners = new HashSet<>(tableRow.getSelectionListeners());
+    selectionListeners.removeAll(previousSelection);
+    deselectionListeners = new HashSet<>(tableRow.getDeselectionListeners());
+    deselectionListeners.removeAll(previousDeselection);
+  }
+
+  /**
+   * Sets the listener that shows and hides this cell with its column.
+   *
+   * @param showHideListener The column show/hide listener of this cell.
+   */
+  void setShowHideListener(ColumnShowHideListener showHideListener) {
+    this.showHideListener = showHideListener;
+  }
+
+  /**
+   * Gets the listener that shows and hides this cell with its column.
+   *
+   * @return The column show/hide listener of this cell, or null if not set.
+   */
+  ColumnShowHideListener getShowHideListener() {
+    return showHideListener;
   }
 
   /**
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The {@code SelectionModel} interface defines how a {@link DataTable} keeps track of its selected
+ * records. The selection is held by records rather than by the rendered rows, so records stay
+ * selected while they are not rendered, for example on other pages or outside the virtual scroll
+ * window.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ * @see KeySetSelectionModel
+ * @see DataTable#setSelectionModel(SelectionModel)
+ */
+public interface SelectionModel<T> {
+
+  /**
+   * Checks if the provided record is selected, this is called for every rendered row and should be
+   * a constant time lookup.
+   *
+   * @param record The record to check.
+   * @return {@code true} if the record is selected, {@code false} otherwise.
+   */
+  boolean isSelected(T record);
+
+  /**
+   * Adds the provided records to the selection.
+   *
+   * @param records The records to be selected.
+   */
+  void select(Collection<? extends T> records);
+
+  /**
+   * Removes the provided records from the selection.
+   *
+   * @param records The records to be deselected.
+   */
+  void deselect(Collection<? extends T> records);
+
+  /** Removes all the records from the selection. */
+  void clear();
+
+  /**
+   * Gets the number of the selected records.
+   *
+   * @return The number of the selected records.
+   */
+  int size();
+
+  /**
+   * Gets all the selected records, including the records that are not rendered.
+   *
+   * @return A list of the selected records in the order they were selected.
+   */
+  List<T> getSelectedRecords();
+}
@@ -22,6 +22,7 @@ import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
 
 import elemental2.dom.DOMRect;
 import elemental2.dom.HTMLElement;
+import elemental2.dom.Node;
 import java.util.*;
 import java.util.function.Consumer;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
@@ -59,8 +60,14 @@ public class TableConfig<T>
   private boolean lazyLoad = true;
   private boolean multiSelect = true;
   private boolean stickyHeader = false;
+  private boolean virtualScroll = false;
+  private int virtualRowHeight = 36;
+  private int virtualOverscan = 10;
+  private boolean progressiveRendering = false;
+  private double renderFrameBudget = 8;
   private RowAppender<T> rowAppender =
       (dataTable, tableRow) -> dataTable.bodyElement().appendChild(tableRow.element());
+  private boolean defaultRowAppender = true;
   private DirtyRecordProvider<T> dirtyRecordProvider = original -> original;
   private SaveDirtyRecordHandler<T> saveDirtyRecordHandler = (originalRecord, dirtyRecord) -> {};
 
@@ -182,6 +189,25 @@ public class TableConfig<T>
     } else {
       rowAppender.appendRow(dataTable, tableRow);
     }
+    dataTable.registerRow(tableRow);
+
+    getPlugins().forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
+  }
+
+  /**
+   * Draws a record (row) at a specific position of the table body, the row is inserted before the
+   * provided node instead of being appended using the configured row appender. This is used by the
+   * virtual scroll mode and when patching the rows from incremental data changes.
+   *
+   * @param dataTable The DataTable in which the record is to be drawn.
+   * @param tableRow The table row that represents the record.
+   * @param before The node before which the row will be inserted, or null to append the row.
+   */
+  void drawRecord(DataTable<T> dataTable, TableRow<T> tableRow, Node before) {
+    tableRow.render();
+    tableRow.addCss(isOdd(tableRow.getIndex()) ? dui_odd : dui_even);
+    dataTable.bodyElement().element().insertBefore(tableRow.element(), before);
+    dataTable.registerRow(tableRow);
 
     getPlugins().forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
   }
@@ -372,9 +398,20 @@ public class TableConfig<T>
   public void setRowAppender(RowAppender<T> rowAppender) {
     if (nonNull(rowAppender)) {
       this.rowAppender = rowAppender;
+      this.defaultRowAppender = false;
     }
   }
 
+  /**
+   * Checks if the rows are appended using the default row appender, which appends the rows in the
+   * same order of the records.
+   *
+   * @return {@code true} if no custom row appender is set, {@code false} otherwise.
+   */
+  boolean isDefaultRowAppender() {
+    return defaultRowAppender;
+  }
+
   /**
    * Retrieves the list of plugins attached to the DataTable, sorted in their natural order.
    *
@@ -611,6 +648,129 @@ public class TableConfig<T>
     return this;
   }
 
+  /**
+   * Checks if the DataTable is in virtual scroll mode.
+   *
+   * @return {@code true} if only the rows within the scroll viewport are rendered, {@code false}
+   *     otherwise.
+   */
+  public boolean isVirtualScroll() {
+    return virtualScroll;
+  }
+
+  /**
+   * Enables or disables the virtual scroll mode. In this mode only the rows intersecting the table
+   * scroll viewport, plus an overscan buffer, are rendered while spacer rows preserve the total
+   * scroll height, and the rendered rows are recycled while scrolling. The table body height is
+   * limited by {@link #getFixedBodyHeight()} and all rows are expected to have the same height
+   * defined by {@link #getVirtualRowHeight()}.
+   *
+   * @param virtualScroll {@code true} to enable virtual scroll mode, {@code false} to disable.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setVirtualScroll(boolean virtualScroll) {
+    this.virtualScroll = virtualScroll;
+    return this;
+  }
+
+  /**
+   * Retrieves the row height used to calculate the rendered rows window in virtual scroll mode.
+   *
+   * @return The row height in pixels.
+   */
+  public int getVirtualRowHeight() {
+    return virtualRowHeight;
+  }
+
+  /**
+   * Sets the row height used to calculate the rendered rows window in virtual scroll mode.
+   *
+   * @param virtualRowHeight The row height in pixels.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setVirtualRowHeight(int virtualRowHeight) {
+    if (virtualRowHeight > 0) {
+      this.virtualRowHeight = virtualRowHeight;
+    }
+    return this;
+  }
+
+  /**
+   * Retrieves the number of extra rows rendered above and below the scroll viewport in virtual
+   * scroll mode.
+   *
+   * @return The number of overscan rows.
+   */
+  public int getVirtualOverscan() {
+    return virtualOverscan;
+  }
+
+  /**
+   * Sets the number of extra rows rendered above and below the scroll viewport in virtual scroll
+   * mode.
+   *
+   * @param virtualOverscan The number of overscan rows.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setVirtualOverscan(int virtualOverscan) {
+    this.virtualOverscan = Math.max(0, virtualOverscan);
+    return this;
+  }
+
+  /**
+   * Checks if the DataTable renders the rows progressively.
+   *
+   * @return {@code true} if the rows are rendered in chunks across animation frames, {@code false}
+   *     otherwise.
+   */
+  public boolean isProgressiveRendering() {
+    return progressiveRendering;
+  }
+
+  /**
+   * Enables or disables the progressive rendering mode. In this mode the rows of a data load are
+   * rendered in chunks, each chunk is rendered within one animation frame and stops once the frame
+   * budget defined by {@link #getRenderFrameBudget()} is consumed, so the browser stays responsive
+   * while rendering a large number of rows. The plugins {@code onAllRowsAdded} is called once the
+   * last chunk is rendered, and a newer data load cancels the rendering of the remaining rows.
+   *
+   * <p>The {@link org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent} of a data load is
+   * fired with the new data right away, while the rows are still being rendered, listeners that
+   * need the rendered rows should rely on the plugins {@code onAllRowsAdded} instead.
+   *
+   * @param progressiveRendering {@code true} to enable progressive rendering, {@code false} to
+   *     disable.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setProgressiveRendering(boolean progressiveRendering) {
+    this.progressiveRendering = progressiveRendering;
+    return this;
+  }
+
+  /**
+   * Retrieves the time budget of rendering rows within a single animation frame in progressive
+   * rendering mode.
+   *
+   * @return The frame budget in milliseconds.
+   */
+  public double getRenderFrameBudget() {
+    return renderFrameBudget;
+  }
+
+  /**
+   * Sets the time budget of rendering rows within a single animation frame in progressive rendering
+   * mode, at least one row is rendered in each frame regardless of the budget.
+   *
+   * @param renderFrameBudget The frame budget in milliseconds.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setRenderFrameBudget(double renderFrameBudget) {
+    if (renderFrameBudget > 0) {
+      this.renderFrameBudget = renderFrameBudget;
+    }
+    return this;
+  }
+
   /**
    * Sets the minimum width of the table.
    *
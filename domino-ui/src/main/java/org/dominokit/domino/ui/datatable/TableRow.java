@@ -24,10 +24,12 @@ import elemental2.dom.HTMLTableRowElement;
 import java.util.*;
 import org.dominokit.domino.ui.datatable.events.RowRecordUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
+import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.forms.FieldsGrouping;
 import org.dominokit.domino.ui.forms.validations.ValidationResult;
 import org.dominokit.domino.ui.style.BooleanCssClass;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
+import org.dominokit.domino.ui.utils.ElementTemplate;
 import org.dominokit.domino.ui.utils.HasSelectionListeners;
 import org.dominokit.domino.ui.utils.Selectable;
 
@@ -44,13 +46,19 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
         DataTableStyles {
   private T record;
   private boolean selected = false;
-  private final int index;
+  private int index;
   private DataTable<T> dataTable;
   private Map<String, RowCell<T>> rowCells;
+  private Map<String, TextCell<T>> textCells;
 
   private Map<String, String> flags;
 
-  private HTMLTableRowElement element = tr().element();
+  private static final ElementTemplate<HTMLTableRowElement> ROW_TEMPLATE =
+      ElementTemplate.of(() -> tr().addCss(dui_datatable_row).element());
+  private static final ElementTemplate<HTMLTableCellElement> CELL_TEMPLATE =
+      ElementTemplate.of(() -> td().addCss(dui_datatable_td).element());
+
+  private HTMLTableRowElement element = ROW_TEMPLATE.create();
 
   private List<RowListener<T>> listeners;
   private boolean editable = false;
@@ -66,7 +74,8 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
   private boolean draggable = true;
 
   /**
-   * Constructs a table row with the given record, index, and parent table.
+   * Constructs a table row with the given record, index, and parent table, the row is marked as
+   * selected when its record is selected in the table selection model.
    *
    * @param record The data record for this row.
    * @param index The index of this row.
@@ -77,7 +86,10 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
     this.index = index;
     this.dataTable = dataTable;
     init(this);
-    addCss(dui_datatable_row);
+    if (nonNull(dataTable) && dataTable.isRecordSelected(record)) {
+      this.selected = true;
+      addCss(dui_datatable_row_selected);
+    }
   }
 
   /**
@@ -125,8 +137,9 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
                   tableRow.doSelect(false);
                 }
               });
+      this.dataTable.onRowSelectionChanged(this);
       triggerSelectionListeners(this, this);
-      this.dataTable.triggerSelectionListeners(this, dataTable.getSelection());
+      this.dataTable.fireRowSelectionChanged(this);
     }
     return this;
   }
@@ -165,8 +178,9 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
     if (deselectParent) {
       Optional.ofNullable(parent).ifPresent(tableRow -> tableRow.doDeselect(true, false));
     }
+    this.dataTable.onRowSelectionChanged(this);
     triggerDeselectionListeners(this, this);
-    this.dataTable.triggerDeselectionListeners(this, dataTable.getSelection());
+    this.dataTable.fireRowSelectionChanged(this);
     return this;
   }
 
@@ -503,6 +517,89 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
     return index;
   }
 
+  /**
+   * Binds this row to a different record and index, this is used to recycle rendered rows when the
+   * data table is in virtual scroll mode. The selection state is restored from the data table
+   * records selection, the cells are updated later with {@link #patchRecord(Object)}.
+   *
+   * @param record The new record to be set in the row.
+   * @param index The new index of the row.
+   */
+  void rebind(T record, int index) {
+    setIndex(index);
+    this.record = record;
+    this.selected = dataTable.isRecordSelected(record);
+    addCss(BooleanCssClass.of(dui_datatable_row_selected, selected));
+  }
+
+  /**
+   * Replaces the record of this row and updates the row cells in place without notifying the data
+   * table listeners about a full data update. The selection listeners the cell renderers added for
+   * the previous record are replaced by the cells, the other row listeners are kept.
+   *
+   * @param record The new record to be set in the row.
+   */
+  void patchRecord(T record) {
+    this.record = record;
+    updateCells();
+    this.dataTable.fireTableEvent(new RowRecordUpdatedEvent<>(this));
+  }
+
+  /**
+   * Changes the index of this row, this is used when rows are inserted or removed before this row
+   * without re-rendering it.
+   *
+   * @param index The new index of the row.
+   */
+  void setIndex(int index) {
+    if (this.index != index) {
+      this.index = index;
+      boolean odd = index % 2 > 0;
+      (odd ? dui_even : dui_odd).remove(this);
+      addCss(odd ? dui_odd : dui_even);
+    }
+  }
+
+  /**
+   * Removes this row from the table body and stops its cells from listening to the columns
+   * show/hide changes.
+   */
+  void detachRow() {
+    if (nonNull(rowCells)) {
+      rowCells
+          .values()
+          .forEach(
+              rowCell -> {
+                if (nonNull(rowCell.getShowHideListener())) {
+                  rowCell.getColumnConfig().removeShowHideListener(rowCell.getShowHideListener());
+                }
+              });
+    }
+    if (nonNull(textCells)) {
+      textCells
+          .values()
+          .forEach(textCell -> textCell.columnConfig.removeShowHideListener(textCell));
+    }
+    element().remove();
+  }
+
+  /**
+   * Updates the cells of this row from the current record, the text cells are updated without
+   * creating their {@link RowCell} unless the row is being edited.
+   */
+  private void updateCells() {
+    if (editable) {
+      getCells().values().forEach(RowCell::updateCell);
+      return;
+    }
+    if (nonNull(textCells)) {
+      textCells.values().forEach(textCell -> textCell.update(record));
+    }
+    if (nonNull(rowCells)) {
+      rowCells.values().forEach(RowCell::updateCell);
+    }
+  }
+
   /** Updates the row with the current record. */
   public void updateRow() {
     updateRow(this.record);
@@ -515,7 +612,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
    */
   public void updateRow(T record) {
     this.record = record;
-    getCells().values().forEach(RowCell::updateCell);
+    updateCells();
     this.dataTable.fireTableEvent(new RowRecordUpdatedEvent<>(this));
     this.dataTable.fireTableEvent(
         new TableDataUpdatedEvent<>(
@@ -555,6 +652,18 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
     if (isNull(rowCells)) {
       this.rowCells = new HashMap<>();
     }
+    if (nonNull(textCells)) {
+      textCells.forEach(
+          (name, textCell) -> {
+            RowCell<T> rowCell =
+                new RowCell<>(
+                    new CellRenderer.CellInfo<>(this, textCell.columnConfig, textCell.element),
+                    textCell.columnConfig);
+            rowCell.setShowHideListener(textCell);
+            rowCells.put(name, rowCell);
+          });
+      textCells = null;
+    }
     return rowCells;
   }
 
@@ -663,7 +772,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
    * @param columnConfig The configuration information for the column to which this cell belongs.
    */
   public void renderCell(ColumnConfig<T> columnConfig) {
-    HTMLTableCellElement cellElement = td().addCss(dui_datatable_td).element();
+    HTMLTableCellElement cellElement = CELL_TEMPLATE.create();
 
     ColumnCssRuleMeta.get(columnConfig)
         .ifPresent(
@@ -671,8 +780,12 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
                 meta.cssRules()
                     .forEach(
                         columnCssRule ->
-                            elementOf(cellElement)
-                                .addCss(columnCssRule.getCssRule().getCssClass())));
+                            cellElement.classList.add(columnCssRule.getCssRule().getCssClass())));
+
+    if (columnConfig.isTextCell() && !editable && !requiresRowCells()) {
+      renderTextCell(columnConfig, cellElement);
+      return;
+    }
 
     RowCell<T> rowCell =
         new RowCell<>(new CellRenderer.CellInfo<>(this, columnConfig, cellElement), columnConfig);
@@ -694,7 +807,41 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
         .getTableConfig()
         .getPlugins()
         .forEach(plugin -> plugin.onAfterAddCell(dataTable, this, rowCell));
-    columnConfig.addShowHideListener(DefaultColumnShowHideListener.of(cellElement));
+    DefaultColumnShowHideListener showHideListener = DefaultColumnShowHideListener.of(cellElement);
+    rowCell.setShowHideListener(showHideListener);
+    columnConfig.addShowHideListener(showHideListener);
+  }
+
+  /**
+   * Renders the cell of a text column by writing the cell text directly, the {@link RowCell} of the
+   * cell is created later if it is requested.
+   */
+  private void renderTextCell(ColumnConfig<T> columnConfig, HTMLTableCellElement cellElement) {
+    TextCell<T> textCell = new TextCell<>(columnConfig, cellElement);
+    textCell.update(record);
+    if (nonNull(columnConfig.getTextAlign())) {
+      columnConfig.getTextAlign().getCssClass().apply(cellElement);
+    }
+    columnConfig.applyScreenMedia(cellElement);
+    columnConfig.applyCellStyle(cellElement);
+    if (columnConfig.isHidden()) {
+      elementOf(cellElement).hide();
+    }
+    if (isNull(textCells)) {
+      this.textCells = new HashMap<>();
+    }
+    textCells.put(columnConfig.getName(), textCell);
+    element().appendChild(cellElement);
+    columnConfig.addShowHideListener(textCell);
+  }
+
+  private boolean requiresRowCells() {
+    for (DataTablePlugin<T> plugin : dataTable.getTableConfig().getPlugins()) {
+      if (plugin.requiresRowCells()) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
@@ -816,4 +963,20 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
       dataTable.getTableConfig().getColumns().forEach(tableRow::renderCell);
     }
   }
+
+  /** A rendered cell of a text column that has no {@link RowCell} yet. */
+  private static class TextCell<T> extends DefaultColumnShowHideListener {
+    private final ColumnConfig<T> columnConfig;
+    private final HTMLTableCellElement element;
+
+    private TextCell(ColumnConfig<T> columnConfig, HTMLTableCellElement element) {
+      super(element);
+      this.columnConfig = columnConfig;
+      this.element = element;
+    }
+
+    private void update(T record) {
+      element.textContent = columnConfig.getCellText(record);
+    }
+  }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable;
+
+import static java.util.Objects.isNull;
+import static org.dominokit.domino.ui.utils.Domino.*;
+import static org.dominokit.domino.ui.utils.Unit.px;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLTableElement;
+import elemental2.dom.Node;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
+import org.dominokit.domino.ui.elements.TDElement;
+import org.dominokit.domino.ui.elements.TableRowElement;
+
+/**
+ * Renders the rows of a {@link DataTable} in virtual scroll mode, only the rows intersecting the
+ * table scroll viewport plus an overscan buffer are rendered, while a top and a bottom spacer rows
+ * preserve the total scroll height. Rows leaving the viewport are kept in a pool and recycled for
+ * the records entering the viewport.
+ *
+ * @param <T> The type of the data table records.
+ */
+class VirtualScrollRenderer<T> implements DataTableStyles {
+
+  private final DataTable<T> dataTable;
+  private final TDElement topSpacerCell = td();
+  private final TDElement bottomSpacerCell = td();
+  private final TableRowElement topSpacer =
+      tr().addCss(dui_datatable_row, dui_datatable_virtual_spacer).appendChild(topSpacerCell);
+  private final TableRowElement bottomSpacer =
+      tr().addCss(dui_datatable_row, dui_datatable_virtual_spacer).appendChild(bottomSpacerCell);
+  private final Map<Integer, TableRow<T>> renderedRows = new HashMap<>();
+  private final List<TableRow<T>> recycledRows = new ArrayList<>();
+  private List<T> records = new ArrayList<>();
+  private boolean updateScheduled = false;
+
+  /**
+   * Creates a renderer for the provided data table.
+   *
+   * @param dataTable The data table to render the rows for.
+   */
+  VirtualScrollRenderer(DataTable<T> dataTable) {
+    this.dataTable = dataTable;
+  }
+
+  /**
+   * Replaces the records rendered by this renderer, the currently rendered rows are released to the
+   * pool and rebound to the new records.
+   *
+   * @param records The new records list.
+   */
+  void setRecords(List<T> records) {
+    this.records = isNull(records) ? new ArrayList<>() : records;
+    renderedRows.values().forEach(this::release);
+    renderedRows.clear();
+    render();
+  }
+
+  /** Renders the rows window again, this is used when records are appended to the same list. */
+  void refresh() {
+    render();
+  }
+
+  /**
+   * Schedules a render of the rows window in the next animation frame, multiple calls within the
+   * same frame result in a single render.
+   */
+  void scheduleUpdate() {
+    if (!updateScheduled) {
+      updateScheduled = true;
+      DomGlobal.requestAnimationFrame(
+          timestamp -> {
+            updateScheduled = false;
+            render();
+          });
+    }
+  }
+
+  private void render() {
+    TableConfig<T> tableConfig = dataTable.getTableConfig();
+    ensureSpacers(tableConfig);
+
+    int rowHeight = tableConfig.getVirtualRowHeight();
+    int overscan = tableConfig.getVirtualOverscan();
+    HTMLTableElement scrollElement = dataTable.tableElement().element();
+    double viewHeight =
+        scrollElement.clientHeight > 0 ? scrollElement.clientHeight : rowHeight * overscan;
+    double scrollTop =
+        Math.max(0, scrollElement.scrollTop - dataTable.headerElement().element().offsetHeight);
+
+    int visibleCount = (int) Math.ceil(viewHeight / rowHeight) + 1;
+    int first =
+        Math.min(
+            (int) Math.floor(scrollTop / rowHeight), Math.max(0, records.size() - visibleCount));
+    int start = Math.max(0, first - overscan);
+    int end = Math.min(records.size(), first + visibleCount + overscan);
+
+    boolean changed = false;
+    Iterator<Map.Entry<Integer, TableRow<T>>> iterator = renderedRows.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Integer, TableRow<T>> entry = iterator.next();
+      if (entry.getKey() < start || entry.getKey() >= end) {
+        release(entry.getValue());
+        iterator.remove();
+        changed = true;
+      }
+    }
+
+    int firstKeptIndex = end;
+    for (int index = start; index < end; index++) {
+      if (renderedRows.containsKey(index)) {
+        firstKeptIndex = index;
+        break;
+      }
+    }
+    Node firstKept =
+        firstKeptIndex < end ? renderedRows.get(firstKeptIndex).element() : bottomSpacer.element();
+
+    for (int index = start; index < end; index++) {
+      if (!renderedRows.containsKey(index)) {
+        Node before = index < firstKeptIndex ? firstKept : bottomSpacer.element();
+        renderedRows.put(index, obtainRow(index, before));
+        changed = true;
+      }
+    }
+
+    topSpacerCell.setHeight(px.of(start * rowHeight));
+    topSpacer.toggleDisplay(start > 0);
+    bottomSpacerCell.setHeight(px.of((records.size() - end) * rowHeight));
+    bottomSpacer.toggleDisplay(end < records.size());
+
+    List<TableRow<T>> rows = dataTable.getRows();
+    rows.clear();
+    for (int index = start; index < end; index++) {
+      rows.add(renderedRows.get(index));
+    }
+
+    if (changed) {
+      tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(dataTable));
+    }
+  }
+
+  private TableRow<T> obtainRow(int index, Node before) {
+    T record = records.get(index);
+    List<DataTablePlugin<T>> plugins = dataTable.getTableConfig().getPlugins();
+    if (!recycledRows.isEmpty()) {
+      TableRow<T> tableRow = recycledRows.remove(recycledRows.size() - 1);
+      plugins.forEach(plugin -> plugin.onRowRebind(dataTable, tableRow));
+      tableRow.rebind(record, index);
+      plugins.forEach(plugin -> plugin.onBeforeAddRow(dataTable, tableRow));
+      dataTable.bodyElement().element().insertBefore(tableRow.element(), before);
+      tableRow.patchRecord(record);
+      plugins.forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
+      return tableRow;
+    }
+    TableRow<T> tableRow = new TableRow<>(record, index, dataTable);
+    plugins.forEach(plugin -> plugin.onBeforeAddRow(dataTable, tableRow));
+    dataTable.getTableConfig().drawRecord(dataTable, tableRow, before);
+    return tableRow;
+  }
+
+  private void release(TableRow<T> tableRow) {
+    tableRow.element().remove();
+    recycledRows.add(tableRow);
+  }
+
+  private void ensureSpacers(TableConfig<T> tableConfig) {
+    if (!dataTable.bodyElement().element().contains(topSpacer.element())) {
+      renderedRows.values().forEach(this::release);
+      renderedRows.clear();
+      dataTable.bodyElement().clearElement();
+      dataTable.bodyElement().appendChild(topSpacer).appendChild(bottomSpacer);
+    }
+    int columnsCount = tableConfig.getColumns().size();
+    topSpacerCell.setAttribute("colspan", String.valueOf(columnsCount));
+    bottomSpacerCell.setAttribute("colspan", String.valueOf(columnsCount));
+  }
+}
@@ -16,9 +16,12 @@
 
 package org.dominokit.domino.ui.datatable.events;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
- * The {@code RecordDraggedOutEvent} class represents an event that is fired when a record is
- * dragged out of a DataTable.
+ * The {@code RecordDraggedOutEvent} class represents an event that is fired when a record, or a
+ * batch of records dragged together, is dragged out of a DataTable.
  *
  * @param <T> the type of data in the DataTable
  * @see org.dominokit.domino.ui.datatable.events.TableEvent
@@ -28,7 +31,7 @@ public class RecordDraggedOutEvent<T> implements TableEvent {
   /** The event type for the record-dragged-out event. */
   public static final String RECORD_DRAGGED_OUT = "record-dragged-out";
 
-  private final T draggedOutRecord;
+  private final List<T> draggedOutRecords;
 
   /**
    * Creates a new {@code RecordDraggedOutEvent} with the specified dragged out record.
@@ -36,7 +39,16 @@ public class RecordDraggedOutEvent<T> implements TableEvent {
    * @param draggedOutRecord the record that was dragged out
    */
   public RecordDraggedOutEvent(T draggedOutRecord) {
-    this.draggedOutRecord = draggedOutRecord;
+    this(Collections.singletonList(draggedOutRecord));
+  }
+
+  /**
+   * Creates a new {@code RecordDraggedOutEvent} for a batch of records dragged out together.
+   *
+   * @param draggedOutRecords the records that were dragged out, in their table order
+   */
+  public RecordDraggedOutEvent(List<T> draggedOutRecords) {
+    this.draggedOutRecords = draggedOutRecords;
   }
 
   /**
@@ -50,11 +62,21 @@ public class RecordDraggedOutEvent<T> implements TableEvent {
   }
 
   /**
-   * Retrieves the record that was dragged out of the DataTable.
+   * Retrieves the record that was dragged out of the DataTable, the first one when a batch of
+   * records is dragged out.
    *
    * @return the dragged out record
    */
   public T getDraggedOutRecord() {
-    return draggedOutRecord;
+    return draggedOutRecords.get(0);
+  }
+
+  /**
+   * Retrieves all the records that were dragged out of the DataTable.
+   *
+   * @return the dragged out records, in their table order
+   */
+  public List<T> getDraggedOutRecords() {
+    return draggedOutRecords;
   }
 }
@@ -16,9 +16,12 @@
 
 package org.dominokit.domino.ui.datatable.events;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
- * The {@code RecordDroppedEvent} class represents an event that is fired when a record is dropped
- * onto another record in a DataTable.
+ * The {@code RecordDroppedEvent} class represents an event that is fired when a record, or a batch
+ * of records dragged together, is dropped onto another record in a DataTable.
  *
  * @param <T> the type of data in the DataTable
  * @see org.dominokit.domino.ui.datatable.events.TableEvent
@@ -28,7 +31,7 @@ public class RecordDroppedEvent<T> implements TableEvent {
   /** The event type for the record-dropped event. */
   public static final String RECORD_DROPPED = "record-dropped";
 
-  private final T droppedRecord;
+  private final List<T> droppedRecords;
   private final T targetRecord;
 
   /**
@@ -38,7 +41,17 @@ public class RecordDroppedEvent<T> implements TableEvent {
    * @param targetRecord the record onto which the dropped record was placed
    */
   public RecordDroppedEvent(T droppedRecord, T targetRecord) {
-    this.droppedRecord = droppedRecord;
+    this(Collections.singletonList(droppedRecord), targetRecord);
+  }
+
+  /**
+   * Creates a new {@code RecordDroppedEvent} for a batch of records dropped together.
+   *
+   * @param droppedRecords the records that were dropped, in their table order
+   * @param targetRecord the record onto which the dropped records were placed
+   */
+  public RecordDroppedEvent(List<T> droppedRecords, T targetRecord) {
+    this.droppedRecords = droppedRecords;
     this.targetRecord = targetRecord;
   }
 
@@ -53,12 +66,21 @@ public class RecordDroppedEvent<T> implements TableEvent {
   }
 
   /**
-   * Retrieves the dropped record.
+   * Retrieves the dropped record, the first one when a batch of records is dropped.
    *
    * @return the dropped record
    */
   public T getDroppedRecord() {
-    return droppedRecord;
+    return droppedRecords.get(0);
+  }
+
+  /**
+   * Retrieves all the dropped records.
+   *
+   * @return the dropped records, in their table order
+   */
+  public List<T> getDroppedRecords() {
+    return droppedRecords;
   }
 
   /**
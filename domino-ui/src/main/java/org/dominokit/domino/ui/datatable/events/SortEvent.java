@@ -16,6 +16,9 @@
 
 package org.dominokit.domino.ui.datatable.events;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
 
@@ -38,6 +41,9 @@ public class SortEvent<T> implements TableEvent {
   /** The column configuration for the sorted column. */
   private final ColumnConfig<T> columnConfig;
 
+  /** The sorted columns in order of precedence. */
+  private final List<ColumnSort<T>> sorts;
+
   /**
    * Constructs a new {@code SortEvent} with the specified sorting direction and column
    * configuration.
@@ -48,6 +54,23 @@ public class SortEvent<T> implements TableEvent {
   public SortEvent(SortDirection sortDirection, ColumnConfig<T> columnConfig) {
     this.sortDirection = sortDirection;
     this.columnConfig = columnConfig;
+    this.sorts = Collections.singletonList(new ColumnSort<>(sortDirection, columnConfig));
+  }
+
+  /**
+   * Constructs a new multi-column {@code SortEvent}, the records are sorted by the first sort and
+   * each following sort is only used to order records that are equal in all the previous sorts.
+   * {@link #getSortDirection()} and {@link #getColumnConfig()} return the first sort.
+   *
+   * @param sorts the sorted columns in order of precedence, must not be empty
+   */
+  public SortEvent(List<ColumnSort<T>> sorts) {
+    if (sorts.isEmpty()) {
+      throw new IllegalArgumentException("A sort event requires at least one sorted column.");
+    }
+    this.sortDirection = sorts.get(0).getSortDirection();
+    this.columnConfig = sorts.get(0).getColumnConfig();
+    this.sorts = Collections.unmodifiableList(new ArrayList<>(sorts));
   }
 
   /**
@@ -77,4 +100,62 @@ public class SortEvent<T> implements TableEvent {
   public String getType() {
     return SORT_EVENT;
   }
+
+  /**
+   * Retrieves all the sorted columns in order of precedence, for a single column sort the list
+   * contains only the sorted column.
+   *
+   * @return the unmodifiable list of the sorted columns
+   */
+  public List<ColumnSort<T>> getSorts() {
+    return sorts;
+  }
+
+  /**
+   * Checks if the records are sorted by more than one column.
+   *
+   * @return true if more than one column is sorted
+   */
+  public boolean isMultiSort() {
+    return sorts.size() > 1;
+  }
+
+  /**
+   * The sort direction of one column in a multi-column sort.
+   *
+   * @param <T> the type of items in the DataTable
+   */
+  public static class ColumnSort<T> {
+    private final SortDirection sortDirection;
+    private final ColumnConfig<T> columnConfig;
+
+    /**
+     * Constructs a new {@code ColumnSort}.
+     *
+     * @param sortDirection the sorting direction
+     * @param columnConfig the column configuration
+     */
+    public ColumnSort(SortDirection sortDirection, ColumnConfig<T> columnConfig) {
+      this.sortDirection = sortDirection;
+      this.columnConfig = columnConfig;
+    }
+
+    /**
+     * Retrieves the sorting direction of the column.
+     *
+     * @return the sorting direction
+     */
+    public SortDirection getSortDirection() {
+      return sortDirection;
+    }
+
+    /**
+     * Retrieves the column configuration of the sorted column.
+     *
+     * @return the column configuration
+     */
+    public ColumnConfig<T> getColumnConfig() {
+      return columnConfig;
+    }
+  }
 }
@@ -111,6 +111,32 @@ public interface DataTablePlugin<T>
    */
   default void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {}
 
+  /**
+   * Called before a rendered row is bound to another record, like when the rows are recycled in
+   * virtual scroll mode. Plugins reset here the row state they set up for the previous record, then
+   * {@link #onBeforeAddRow(DataTable, TableRow)} and {@link #onRowAdded(DataTable, TableRow)} are
+   * called again for the new record.
+   *
+   * @param dataTable The DataTable instance.
+   * @param tableRow The TableRow being bound to another record.
+   */
+  default void onRowRebind(DataTable<T> dataTable, TableRow<T> tableRow) {}
+
+  /**
+   * Called before the rows of the records are added to the DataTable. A plugin that builds the rows
+   * of the records itself, for example to only render some of them, adds them here and returns
+   * {@code true}, then the table does not add a row per record. {@link
+   * #onAllRowsAdded(DataTable)} is still called once the plugin is done.
+   *
+   * @param dataTable The DataTable instance.
+   * @param records The records to be added.
+   * @param initialIndex The index of the first record in the table data.
+   * @return true if the plugin has added the rows of the records, false otherwise.
+   */
+  default boolean renderRows(DataTable<T> dataTable, List<T> records, int initialIndex) {
+    return false;
+  }
+
   /**
    * Called after all rows are added to the DataTable.
    *
@@ -143,6 +169,18 @@ public interface DataTablePlugin<T>
    */
   default void onAfterAddCell(DataTable<T> dataTable, TableRow<T> tableRow, RowCell<T> rowCell) {}
 
+  /**
+   * Checks if this plugin needs a {@link RowCell} for every rendered cell. The cells of text
+   * columns, see {@link org.dominokit.domino.ui.datatable.ColumnConfig#setTextCell}, are rendered
+   * without a RowCell and are only passed to {@link #onBeforeAddCell} and {@link #onAfterAddCell}
+   * when at least one plugin returns true.
+   *
+   * @return true if the plugin requires row cells for text columns, false otherwise.
+   */
+  default boolean requiresRowCells() {
+    return false;
+  }
+
   /** {@inheritDoc} */
   @Override
   default void handleEvent(TableEvent event) {}
@@ -19,6 +19,8 @@ import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.DataTableStyles.*;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
+import elemental2.dom.DragEvent;
+import elemental2.dom.Event;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.Text;
 import java.util.ArrayList;
@@ -26,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.CellRenderer;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
@@ -34,9 +37,9 @@ import org.dominokit.domino.ui.datatable.events.RecordDraggedOutEvent;
 import org.dominokit.domino.ui.datatable.events.RecordDroppedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.dnd.DragSource;
-import org.dominokit.domino.ui.dnd.Draggable;
 import org.dominokit.domino.ui.dnd.DropZone;
 import org.dominokit.domino.ui.elements.DivElement;
+import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.icons.Icon;
 import org.dominokit.domino.ui.icons.lib.Icons;
 
@@ -60,7 +63,6 @@ import org.dominokit.domino.ui.icons.lib.Icons;
 public class DragDropPlugin<T> implements DataTablePlugin<T> {
 
   private DropZone dropZone;
-  private DragSource dragSource;
   private TableRow<T> emptyDropRow;
   private DataTable<T> dataTable;
   private Supplier<Icon<?>> emptyDropIconSupplier = Icons::vector_point_plus;
@@ -68,10 +70,15 @@ public class DragDropPlugin<T> implements DataTablePlugin<T> {
   private DivElement emptyDropArea;
   private Text emptyDropText;
   private final List<DataTable<T>> otherDataTables = new ArrayList<>();
+  private boolean dragSelection = true;
+  private String draggedId;
+  private List<TableRow<T>> draggedRows = Collections.emptyList();
+  private List<T> draggedRecords = Collections.emptyList();
 
   /**
    * Initializes the DragDropPlugin with the given DataTable. This method sets up the drag-and-drop
-   * functionality.
+   * functionality, the drag and drop events of all the rows are handled by listeners of the table
+   * body.
    *
    * @param dataTable The DataTable to which the drag-and-drop behavior will be added.
    */
@@ -79,8 +86,23 @@ public class DragDropPlugin<T> implements DataTablePlugin<T> {
   public void init(DataTable<T> dataTable) {
     this.dataTable = dataTable;
     dropZone = new DropZone();
-    dragSource = new DragSource();
     initEmptyDropArea(dataTable);
+    dataTable
+        .addRowEventListener(EventType.dragstart.getName(), this::onDragStart)
+        .addRowEventListener(EventType.dragend.getName(), (evt, tableRow) -> endDrag())
+        .addRowEventListener(
+            EventType.dragover.getName(),
+            (evt, tableRow) -> {
+              evt.preventDefault();
+              tableRow.addCss(DropZone.DRAG_OVER);
+            })
+        .addRowEventListener(
+            EventType.dragleave.getName(),
+            (evt, tableRow) -> {
+              evt.preventDefault();
+              tableRow.removeCss(DropZone.DRAG_OVER);
+            })
+        .addRowEventListener(EventType.drop.getName(), this::onDrop);
   }
 
   /**
@@ -147,37 +169,116 @@ public class DragDropPlugin<T> implements DataTablePlugin<T> {
    */
   @Override
   public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
-    Draggable<TableRow<T>> draggable = Draggable.of(tableRow);
-    draggable.setConfig(tableRow::isDraggable);
-    dragSource.addDraggable(draggable);
-    dropZone.addDropTarget(
-        tableRow, draggableId -> moveItem(dataTable, tableRow.getRecord(), draggableId));
+    tableRow.element().draggable = true;
   }
 
   /**
-   * Moves an item within the DataTable or to another DataTable when it is dropped.
+   * Clears the drag over state of a row before it is bound to another record.
    *
-   * @param dataTable The DataTable containing the item.
-   * @param record The record to be moved.
-   * @param draggableId The unique identifier of the draggable item.
+   * @param dataTable The DataTable of the row.
+   * @param tableRow The row being bound to another record.
    */
-  private void moveItem(DataTable<T> dataTable, T record, String draggableId) {
-    Optional<TableRow<T>> optionalTableRow = find(draggableId, dataTable);
+  @Override
+  public void onRowRebind(DataTable<T> dataTable, TableRow<T> tableRow) {
+    tableRow.removeCss(DropZone.DRAG_OVER);
+  }
 
-    if (optionalTableRow.isPresent()) {
-      dataTable.fireTableEvent(
-          new RecordDroppedEvent<>(optionalTableRow.get().getRecord(), record));
+  /**
+   * Starts dragging a row, the drag is cancelled if the row is not draggable. When the row is
+   * selected in a multi selection table the whole selection is dragged as one batch. The dragged
+   * rows are kept until the drop so that the drop target resolves them by the draggable id without
+   * searching the rows.
+   *
+   * @param evt The dragstart event.
+   * @param tableRow The dragged row.
+   */
+  private void onDragStart(Event evt, TableRow<T> tableRow) {
+    if (tableRow.isDraggable()) {
+      endDrag();
+      if (dragSelection
+          && tableRow.isSelected()
+          && dataTable.getTableConfig().isMultiSelect()
+          && dataTable.getSelectedRecords().size() > 1) {
+        this.draggedRecords = dataTable.getSelectedRecords();
+        this.draggedRows = dataTable.getSelectedItems();
+      } else {
+        this.draggedRecords = Collections.singletonList(tableRow.getRecord());
+        this.draggedRows = Collections.singletonList(tableRow);
+      }
+      this.draggedId = tableRow.getDominoId();
+      DragEvent dragEvent = Js.uncheckedCast(evt);
+      dragEvent.dataTransfer.setData(DragSource.DRAGGABLE_ID, draggedId);
+      dragEvent.dataTransfer.dropEffect = "move";
+      draggedRows.forEach(row -> row.addCss(DragSource.DRAGGING));
     } else {
-      for (DataTable<T> otherDataTable : otherDataTables) {
-        optionalTableRow = find(draggableId, otherDataTable);
-        if (optionalTableRow.isPresent()) {
-          otherDataTable.fireTableEvent(
-              new RecordDraggedOutEvent<>(optionalTableRow.get().getRecord()));
-          dataTable.fireTableEvent(
-              new RecordDroppedEvent<>(optionalTableRow.get().getRecord(), record));
-        }
+      evt.preventDefault();
+    }
+  }
+
+  /** Clears the dragged rows of this table. */
+  private void endDrag() {
+    draggedRows.forEach(row -> row.removeCss(DragSource.DRAGGING));
+    this.draggedId = null;
+    this.draggedRows = Collections.emptyList();
+    this.draggedRecords = Collections.emptyList();
+  }
+
+  /**
+   * Fires the drop events of the dragged item for the row it is dropped on.
+   *
+   * @param evt The drop event.
+   * @param tableRow The row the item is dropped on.
+   */
+  private void onDrop(Event evt, TableRow<T> tableRow) {
+    evt.preventDefault();
+    tableRow.removeCss(DropZone.DRAG_OVER);
+    DragEvent dragEvent = Js.uncheckedCast(evt);
+    moveItem(
+        dataTable, tableRow.getRecord(), dragEvent.dataTransfer.getData(DragSource.DRAGGABLE_ID));
+  }
+
+  /**
+   * Moves the dragged records within the DataTable or from a linked DataTable when they are
+   * dropped, the records dragged together are moved with a single event.
+   *
+   * @param dataTable The DataTable the records are dropped in.
+   * @param record The record the dragged records are dropped on, or null to append them.
+   * @param draggableId The unique identifier of the drag.
+   */
+  private void moveItem(DataTable<T> dataTable, T record, String draggableId) {
+    if (isDragging(draggableId)) {
+      List<T> records = draggedRecords;
+      endDrag();
+      dataTable.fireTableEvent(new RecordDroppedEvent<>(records, record));
+      return;
+    }
+    for (DataTable<T> otherDataTable : otherDataTables) {
+      Optional<DragDropPlugin<T>> linkedPlugin = dragDropPlugin(otherDataTable);
+      if (linkedPlugin.isPresent() && linkedPlugin.get().isDragging(draggableId)) {
+        List<T> records = linkedPlugin.get().draggedRecords;
+        linkedPlugin.get().endDrag();
+        otherDataTable.fireTableEvent(new RecordDraggedOutEvent<>(records));
+        dataTable.fireTableEvent(new RecordDroppedEvent<>(records, record));
+        return;
+      }
+    }
+  }
+
+  /**
+   * Finds the DragDropPlugin of a DataTable, the plugin is looked up when the rows are dropped so a
+   * linked table can get its plugin after it has been linked.
+   *
+   * @param dataTable The DataTable.
+   * @return The DragDropPlugin of the table, or an empty Optional if it has none.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> Optional<DragDropPlugin<T>> dragDropPlugin(DataTable<T> dataTable) {
+    for (DataTablePlugin<T> plugin : dataTable.getTableConfig().getPlugins()) {
+      if (plugin instanceof DragDropPlugin) {
+        return Optional.of((DragDropPlugin<T>) plugin);
       }
     }
+    return Optional.empty();
   }
 
   /**
@@ -196,23 +297,19 @@ public class DragDropPlugin<T> implements DataTablePlugin<T> {
   }
 
   /**
-   * Finds a TableRow by its unique identifier (draggableId) within a DataTable.
+   * Checks if the rows of this table are being dragged with the provided draggable id.
    *
-   * @param draggableId The unique identifier of the draggable item.
-   * @param dataTable The DataTable in which to search for the TableRow.
-   * @return An Optional containing the TableRow if found; otherwise, an empty Optional.
+   * @param draggableId The unique identifier of the drag.
+   * @return true if this table started the drag, false otherwise.
    */
-  private Optional<TableRow<T>> find(String draggableId, DataTable<T> dataTable) {
-    if (nonNull(dataTable.querySelector("[domino-uuid='" + draggableId + "']"))) {
-      return dataTable.getRows().stream()
-          .filter(row -> row.getDominoId().equals(draggableId))
-          .findFirst();
-    }
-    return Optional.empty();
+  private boolean isDragging(String draggableId) {
+    return nonNull(draggedId) && draggedId.equals(draggableId);
   }
 
   /**
-   * Links this plugin with another DataTable, allowing drag-and-drop between them.
+   * Links this plugin with another DataTable, allowing the rows of the other DataTable to be
+   * dropped into this one. The other DataTable must use a DragDropPlugin to make its rows
+   * draggable, the plugin can be added to it after the tables are linked.
    *
    * @param other The DataTable to link with.
    */
@@ -223,6 +320,18 @@ public class DragDropPlugin<T> implements DataTablePlugin<T> {
     }
   }
 
+  /**
+   * Sets whether dragging a selected row of a multi selection table drags all the selected rows
+   * as one batch. Defaults to {@code true}.
+   *
+   * @param dragSelection {@code true} to drag the selected rows together.
+   * @return This plugin instance for method chaining.
+   */
+  public DragDropPlugin<T> setDragSelection(boolean dragSelection) {
+    this.dragSelection = dragSelection;
+    return this;
+  }
+
   /**
    * Sets the supplier for the empty drop area icon.
    *
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.plugins;
+
+import java.util.TreeMap;
+
+/**
+ * The running count, sum, minimum and maximum of numeric values that are added and removed
+ * incrementally, used by the plugins aggregating the values of the data table records as they
+ * change.
+ *
+ * <p>The sum is compensated so that adding and removing values does not accumulate rounding
+ * errors, and the count of each distinct value is kept so the minimum and maximum are still known
+ * after a value is removed.
+ */
+public class RunningAggregate {
+
+  private final TreeMap<Double, Integer> values = new TreeMap<>();
+  private int count;
+  private double sum;
+  private double compensation;
+
+  /**
+   * Adds a value to the aggregate.
+   *
+   * @param value The value to add.
+   */
+  public void add(double value) {
+    count++;
+    accumulate(value);
+    values.merge(value, 1, Integer::sum);
+  }
+
+  /**
+   * Removes a value previously added to the aggregate, removing a value that was not added has no
+   * effect.
+   *
+   * @param value The value to remove.
+   */
+  public void remove(double value) {
+    if (!values.containsKey(value)) {
+      return;
+    }
+    values.computeIfPresent(value, (key, valueCount) -> valueCount == 1 ? null : valueCount - 1);
+    count--;
+    if (count == 0) {
+      sum = 0;
+      compensation = 0;
+    } else {
+      accumulate(-value);
+    }
+  }
+
+  /** Removes all the values from the aggregate. */
+  public void clear() {
+    values.clear();
+    count = 0;
+    sum = 0;
+    compensation = 0;
+  }
+
+  private void accumulate(double value) {
+    double total = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) {
+      compensation += (sum - total) + value;
+    } else {
+      compensation += (value - total) + sum;
+    }
+    sum = total;
+  }
+
+  /** @return {@code true} if the aggregate has no values. */
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  /** @return The number of values in the aggregate. */
+  public int getCount() {
+    return count;
+  }
+
+  /** @return The sum of the values, 0 if the aggregate has no values. */
+  public double getSum() {
+    return sum + compensation;
+  }
+
+  /** @return The average of the values, or null if the aggregate has no values. */
+  public Double getAverage() {
+    return count == 0 ? null : getSum() / count;
+  }
+
+  /** @return The smallest value, or null if the aggregate has no values. */
+  public Double getMin() {
+    return values.isEmpty() ? null : values.firstKey();
+  }
+
+  /** @return The largest value, or null if the aggregate has no values. */
+  public Double getMax() {
+    return values.isEmpty() ? null : values.lastKey();
+  }
+}
@@ -267,6 +267,17 @@ public class ResizeColumnsPlugin<T>
     }
   }
 
+  /**
+   * Requires row cells for text columns when the cell content is clipped, so they get the
+   * ellipsis style in {@link #onBeforeAddCell}.
+   *
+   * @return true if the cell content is clipped, false otherwise.
+   */
+  @Override
+  public boolean requiresRowCells() {
+    return config.isClipContent();
+  }
+
   /**
    * Sets the configuration for the ResizeColumnsPlugin.
    *
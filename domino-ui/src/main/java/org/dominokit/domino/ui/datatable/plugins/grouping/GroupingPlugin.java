@@ -16,10 +16,14 @@
 
 package org.dominokit.domino.ui.datatable.plugins.grouping;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
+import elemental2.dom.DocumentFragment;
+import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLTableCellElement;
+import elemental2.dom.HTMLTableRowElement;
 import elemental2.dom.Node;
 import java.util.*;
 import java.util.function.Supplier;
@@ -28,18 +32,31 @@ import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableConfig;
 import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.datatable.events.OnBeforeDataChangeEvent;
+import org.dominokit.domino.ui.datatable.events.RowRecordUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.icons.ToggleIcon;
 import org.dominokit.domino.ui.icons.ToggleMdiIcon;
 import org.dominokit.domino.ui.icons.lib.Icons;
 import org.dominokit.domino.ui.utils.ComponentMeta;
+import org.dominokit.domino.ui.utils.Unit;
 
 /**
  * The {@code GroupingPlugin} class provides the functionality to group data in a {@link DataTable}
  * based on a grouping criteria. It allows expanding and collapsing groups of rows, making it easier
  * to navigate and manage large datasets.
  *
+ * <p>The table records are grouped in a {@link RecordsGrouping} instead of their rows, then all the
+ * groups are rendered at once in the groups order. Groups can be nested by adding more group
+ * levels, sorted with a groups comparator and can aggregate record values, the aggregates are
+ * available to the group renderer through {@link DataGroup#fromCell(CellRenderer.CellInfo)}. The
+ * plugin only creates the rows of the expanded groups, the rows of a collapsed group are created
+ * when the group is expanded for the first time and are detached when it is collapsed again.
+ *
+ * <p>The groups are ordered once all the rows are added, so grouping does not support the virtual
+ * scroll, and the progressive rendering is disabled for a grouped table as nothing could be shown
+ * before its last rows are rendered.
+ *
  * <p><strong>Usage example:</strong>
  *
  * <pre>
@@ -65,9 +82,19 @@ import org.dominokit.domino.ui.utils.ComponentMeta;
  */
 public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowAppender<T> {
 
+  private static final String GROUP_MEMBER = "dataGroupMember";
+  private static final int GROUP_INDENT = 20;
+
   private Map<String, DataGroup<T>> dataGroups = new HashMap<>();
-  private final GroupSupplier<T> groupSupplier;
+  private final List<GroupSupplier<T>> groupSuppliers = new ArrayList<>();
+  private final RecordsGrouping<T> grouping = RecordsGrouping.create();
+  private final Map<RecordsGrouping.Member<T>, TableRow<T>> memberRows = new HashMap<>();
+  private final Map<RecordsGrouping.Member<T>, Integer> memberIndexes = new HashMap<>();
+  private final Set<String> collapsedGroups = new HashSet<>();
+  private DataTable<T> dataTable;
   private CellRenderer<T> groupRenderer;
+  private int renderPass;
+  private TableRow<T> keysRow;
   private Supplier<ToggleIcon<?, ?>> groupExpandedCollapseIconSupplier =
       () -> ToggleMdiIcon.create(Icons.minus_box(), Icons.plus_box());
 
@@ -78,18 +105,24 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
    * @param groupRenderer The cell renderer for rendering group headers.
    */
   public GroupingPlugin(GroupSupplier<T> groupSupplier, CellRenderer<T> groupRenderer) {
-    this.groupSupplier = groupSupplier;
+    this.groupSuppliers.add(groupSupplier);
     this.groupRenderer = groupRenderer;
   }
 
   /**
-   * Initializes the grouping plugin and adds it to the DataTable.
+   * Initializes the grouping plugin and adds it to the DataTable, the progressive rendering of
+   * the table is disabled.
    *
    * @param dataTable The DataTable instance to which this plugin will be added.
+   * @throws IllegalStateException if the table uses virtual scroll.
    */
   @Override
   public void init(DataTable<T> dataTable) {
-    dataTable.getTableConfig().setRowAppender(this);
+    if (dataTable.getTableConfig().isVirtualScroll()) {
+      throw new IllegalStateException("The grouping plugin does not support virtual scroll.");
+    }
+    this.dataTable = dataTable;
+    dataTable.getTableConfig().setProgressiveRendering(false).setRowAppender(this);
   }
 
   /**
@@ -105,72 +138,259 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
   }
 
   /**
-   * Appends a row to the DataTable. Handles grouping of rows based on the group criteria.
+   * Adds a nested group level, the rows of each group are grouped again by the provided supplier.
+   *
+   * @param groupSupplier The supplier for grouping the records of the new level.
+   * @return This {@code GroupingPlugin} instance for method chaining.
+   */
+  public GroupingPlugin<T> addGroupLevel(GroupSupplier<T> groupSupplier) {
+    this.groupSuppliers.add(groupSupplier);
+    return this;
+  }
+
+  /**
+   * Sets the comparator used to order the groups of the same level, by default the groups are
+   * ordered by their first record.
+   *
+   * @param groupsComparator The groups comparator.
+   * @return This {@code GroupingPlugin} instance for method chaining.
+   */
+  public GroupingPlugin<T> setGroupsComparator(
+      Comparator<? super RecordsGrouping.Group<T>> groupsComparator) {
+    grouping.setGroupsComparator(groupsComparator);
+    return this;
+  }
+
+  /**
+   * Registers a record value to be aggregated for every group, the count, sum, minimum, maximum and
+   * average of the value are kept up to date when the rows records are updated.
+   *
+   * @param name The name of the aggregate.
+   * @param valueProvider The provider of the record value.
+   * @return This {@code GroupingPlugin} instance for method chaining.
+   */
+  public GroupingPlugin<T> addAggregate(
+      String name, RecordsGrouping.AggregateValueProvider<T> valueProvider) {
+    grouping.addAggregate(name, valueProvider);
+    return this;
+  }
+
+  /**
+   * Groups the records and renders the groups, only the rows of the expanded groups are created.
+   *
+   * @param dataTable The DataTable instance.
+   * @param records The records added to the table.
+   * @param initialIndex The index of the first record in the table data.
+   * @return true, the rows are always added by this plugin.
+   */
+  @Override
+  public boolean renderRows(DataTable<T> dataTable, List<T> records, int initialIndex) {
+    if (initialIndex == 0) {
+      clearGrouping();
+    }
+    for (int i = 0; i < records.size(); i++) {
+      T record = records.get(i);
+      memberIndexes.put(grouping.add(record, groupKeys(record)), initialIndex + i);
+    }
+    renderGroups();
+    return true;
+  }
+
+  /**
+   * The rows of the groups are created and attached to the table body by this plugin in the groups
+   * order, so nothing is appended here.
    *
    * @param dataTable The DataTable instance.
    * @param tableRow The TableRow to append.
    */
   @Override
-  public void appendRow(DataTable<T> dataTable, TableRow<T> tableRow) {
-    String groupId = groupSupplier.getRecordGroupId(tableRow);
-    if (!dataGroups.containsKey(groupId)) {
-      HTMLTableCellElement cellElement =
-          elements
-              .td()
-              .setAttribute("colspan", dataTable.getTableConfig().getColumns().size() + "")
-              .element();
-      CellRenderer.CellInfo<T> cellInfo = new CellRenderer.CellInfo<>(tableRow, cellElement);
-      DataGroup<T> dataGroup = new DataGroup<>(tableRow, cellInfo);
-
-      ToggleIcon<?, ?> groupIconSupplier =
-          groupExpandedCollapseIconSupplier
-              .get()
-              .clickable()
-              .toggleOnClick(true)
-              .addClickListener(evt -> dataGroup.toggleGroup());
-      dataGroup.setGroupIconSupplier(groupIconSupplier).setGroupRenderer(groupRenderer).render();
-
-      dataTable
-          .bodyElement()
-          .appendChild(elements.tr().css("data-table-group-row").appendChild(cellElement));
-      dataTable.bodyElement().appendChild(tableRow.element());
+  public void appendRow(DataTable<T> dataTable, TableRow<T> tableRow) {}
+
+  /**
+   * Gets the group keys of a record, the group suppliers are given a row holding the record that is
+   * not rendered, so the records can be grouped without creating their rows.
+   */
+  private List<String> groupKeys(T record) {
+    if (isNull(keysRow)) {
+      keysRow = new TableRow<>(record, -1, dataTable);
+    } else {
+      keysRow.setRecord(record);
+    }
+    List<String> keys = new ArrayList<>(groupSuppliers.size());
+    groupSuppliers.forEach(groupSupplier -> keys.add(groupSupplier.getRecordGroupId(keysRow)));
+    return keys;
+  }
+
+  private void clearGrouping() {
+    grouping.clear();
+    memberRows.clear();
+    memberIndexes.clear();
+  }
+
+  /**
+   * Attaches the header rows of all the groups and the rows of the expanded groups to the table
+   * body in a single pass, the header rows of the groups that no longer exist are removed.
+   */
+  private void renderGroups() {
+    renderPass++;
+    DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+    grouping.getGroups().forEach(group -> appendGroup(group, fragment));
+    dataGroups
+        .values()
+        .removeIf(
+            dataGroup -> {
+              if (dataGroup.renderPass != renderPass) {
+                dataGroup.headerRow.remove();
+                return true;
+              }
+              return false;
+            });
+    dataTable.bodyElement().appendChild(fragment);
+  }
+
+  private void appendGroup(RecordsGrouping.Group<T> group, Node container) {
+    String groupId = groupId(group);
+    DataGroup<T> dataGroup = dataGroups.get(groupId);
+    if (isNull(dataGroup)) {
+      dataGroup = createDataGroup(groupId, group);
       dataGroups.put(groupId, dataGroup);
+    }
+    dataGroup.group = group;
+    dataGroup.renderPass = renderPass;
+    container.appendChild(dataGroup.headerRow);
+    if (dataGroup.expanded) {
+      appendGroupContent(dataGroup, container);
+    } else {
+      detachGroupContent(group);
+    }
+    dataGroup.render();
+  }
+
+  private void appendGroupContent(DataGroup<T> dataGroup, Node container) {
+    List<RecordsGrouping.Group<T>> subGroups = dataGroup.group.getSubGroups();
+    if (subGroups.isEmpty()) {
+      dataGroup.rowsCount = 0;
+      for (RecordsGrouping.Member<T> member : dataGroup.group.getMembers()) {
+        TableRow<T> tableRow = memberRow(member);
+        dataGroup.addRow(tableRow);
+        container.appendChild(tableRow.element());
+      }
     } else {
-      DataGroup<T> dataGroup = dataGroups.get(groupId);
-      Node nextSibling = dataGroup.lastRow.element().nextSibling;
-      if (nonNull(nextSibling)) {
-        elements.elementOf(dataTable.bodyElement()).insertBefore(tableRow.element(), nextSibling);
-      } else {
-        dataTable.bodyElement().appendChild(tableRow.element());
+      subGroups.forEach(subGroup -> appendGroup(subGroup, container));
+    }
+  }
+
+  private void detachGroupContent(RecordsGrouping.Group<T> group) {
+    for (RecordsGrouping.Group<T> subGroup : group.getSubGroups()) {
+      DataGroup<T> dataGroup = dataGroups.get(groupId(subGroup));
+      if (nonNull(dataGroup)) {
+        dataGroup.renderPass = renderPass;
+        dataGroup.headerRow.remove();
+      }
+      detachGroupContent(subGroup);
+    }
+    for (RecordsGrouping.Member<T> member : group.getMembers()) {
+      TableRow<T> tableRow = memberRows.get(member);
+      if (nonNull(tableRow)) {
+        tableRow.element().remove();
       }
+    }
+  }
 
-      dataGroup.lastRow = tableRow;
-      dataGroup.addRow(tableRow);
+  /** Gets the row of a member, the row is created and rendered the first time it is shown. */
+  private TableRow<T> memberRow(RecordsGrouping.Member<T> member) {
+    TableRow<T> tableRow = memberRows.get(member);
+    if (isNull(tableRow)) {
+      TableRow<T> newRow = new TableRow<>(member.getRecord(), memberIndexes.get(member), dataTable);
+      newRow.applyMeta(new GroupMember<>(member));
+      TableConfig<T> tableConfig = dataTable.getTableConfig();
+      tableConfig.getPlugins().forEach(plugin -> plugin.onBeforeAddRow(dataTable, newRow));
+      tableConfig.drawRecord(dataTable, newRow);
+      dataTable.getRows().add(newRow);
+      memberRows.put(member, newRow);
+      tableRow = newRow;
     }
+    return tableRow;
   }
 
-  /** Expands all groups in the DataTable. */
-  public void expandAll() {
-    for (DataGroup<T> dataGroup : dataGroups.values()) {
-      if (!dataGroup.expanded) {
-        dataGroup.toggleGroup();
-        dataGroup.getGroupIconSupplier().toggle();
+  /**
+   * Attaches or detaches the content of a group after it has been expanded or collapsed, the
+   * visible rows of an expanded group are inserted after its header row at once.
+   */
+  private void onGroupToggled(DataGroup<T> dataGroup) {
+    if (dataGroup.expanded) {
+      collapsedGroups.remove(dataGroup.id);
+      Node parentNode = dataGroup.headerRow.parentNode;
+      if (nonNull(parentNode)) {
+        DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+        appendGroupContent(dataGroup, fragment);
+        parentNode.insertBefore(fragment, dataGroup.headerRow.nextSibling);
       }
+    } else {
+      collapsedGroups.add(dataGroup.id);
+      detachGroupContent(dataGroup.group);
+    }
+  }
+
+  private DataGroup<T> createDataGroup(String groupId, RecordsGrouping.Group<T> group) {
+    HTMLTableCellElement cellElement =
+        elements
+            .td()
+            .setAttribute("colspan", dataTable.getTableConfig().getColumns().size() + "")
+            .element();
+    DataGroup<T> dataGroup =
+        new DataGroup<>(this, groupId, group, cellElement, !collapsedGroups.contains(groupId));
+    dataGroup.headerRow =
+        elements.tr().css("data-table-group-row").appendChild(cellElement).element();
+    ToggleIcon<?, ?> groupIconSupplier =
+        groupExpandedCollapseIconSupplier
+            .get()
+            .clickable()
+            .toggleOnClick(true)
+            .addClickListener(evt -> dataGroup.toggleGroup());
+    if (!dataGroup.expanded) {
+      groupIconSupplier.toggle();
     }
+    dataGroup.setGroupIconSupplier(groupIconSupplier).setGroupRenderer(groupRenderer);
+    return dataGroup;
+  }
+
+  private static String groupId(RecordsGrouping.Group<?> group) {
+    return isNull(group.getParent())
+        ? String.valueOf(group.getKey())
+        : groupId(group.getParent()) + "/" + group.getKey();
+  }
+
+  /** Expands all groups in the DataTable. */
+  public void expandAll() {
+    setAllExpanded(true);
   }
 
   /** Collapses all groups in the DataTable. */
   public void collapseAll() {
+    setAllExpanded(false);
+  }
+
+  private void setAllExpanded(boolean expanded) {
     for (DataGroup<T> dataGroup : dataGroups.values()) {
-      if (dataGroup.expanded) {
-        dataGroup.toggleGroup();
+      if (dataGroup.expanded != expanded) {
+        dataGroup.expanded = expanded;
         dataGroup.getGroupIconSupplier().toggle();
       }
     }
+    if (expanded) {
+      collapsedGroups.clear();
+    } else {
+      collapsedGroups.addAll(dataGroups.keySet());
+    }
+    if (nonNull(dataTable)) {
+      renderGroups();
+    }
   }
 
   /**
-   * Retrieves the data groups created by this plugin.
+   * Retrieves the data groups created by this plugin, the groups are keyed by their group id, the
+   * id of a nested group is prefixed with the ids of its parent groups separated by {@code /}.
    *
    * @return A map of data groups.
    */
@@ -179,41 +399,95 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
   }
 
   /**
-   * Handles events triggered on the DataTable.
+   * Retrieves the grouping holding the groups of the rows records and their aggregates.
+   *
+   * @return The records grouping.
+   */
+  public RecordsGrouping<T> getGrouping() {
+    return grouping;
+  }
+
+  /**
+   * Handles events triggered on the DataTable. The grouping is cleared before new data is set, and
+   * when a row record is updated only the aggregates of its groups are updated unless the record
+   * has moved to another group.
    *
    * @param event The TableEvent to handle.
    */
   @Override
+  @SuppressWarnings("unchecked")
   public void handleEvent(TableEvent event) {
     if (event.getType().equalsIgnoreCase(OnBeforeDataChangeEvent.ON_BEFORE_DATA_CHANGE)) {
-      dataGroups.clear();
+      if (!((OnBeforeDataChangeEvent<T>) event).isAppend()) {
+        clearGrouping();
+      }
+    } else if (RowRecordUpdatedEvent.RECORD_UPDATED.equals(event.getType())) {
+      TableRow<T> tableRow = ((RowRecordUpdatedEvent<T>) event).getTableRow();
+      Optional<GroupMember<T>> groupMember = tableRow.getMeta(GROUP_MEMBER);
+      groupMember.ifPresent(
+          meta -> {
+            T record = tableRow.getRecord();
+            if (grouping.update(meta.member, record, groupKeys(record))) {
+              renderGroups();
+            } else {
+              for (RecordsGrouping.Group<T> group = meta.member.getGroup();
+                  nonNull(group);
+                  group = group.getParent()) {
+                DataGroup<T> dataGroup = dataGroups.get(groupId(group));
+                if (nonNull(dataGroup)) {
+                  dataGroup.render();
+                }
+              }
+            }
+          });
     }
   }
 
   /**
-   * The {@code DataGroup} class represents a group of data rows in the DataTable. It is used for
-   * grouping and rendering data rows as a single group.
+   * The {@code DataGroup} class represents a group of data rows in the DataTable. It renders the
+   * group header row of a {@link RecordsGrouping.Group} and expands or collapses its rows.
    */
   public static class DataGroup<T> implements ComponentMeta {
 
     /** The key for identifying {@code DataGroup} instances in TableRow metadata. */
     private static final String KEY = "dataGroup";
 
-    private List<TableRow<T>> groupRows = new ArrayList<>();
-    private TableRow<T> lastRow;
+    private final GroupingPlugin<T> plugin;
+    private final String id;
+    private final HTMLTableCellElement cellElement;
+    private HTMLTableRowElement headerRow;
+    private RecordsGrouping.Group<T> group;
     private CellRenderer.CellInfo<T> cellInfo;
-    private boolean expanded = true;
+    private boolean expanded;
+    private int rowsCount;
+    private int renderPass;
     private ToggleIcon<?, ?> groupIconSupplier;
     private CellRenderer<T> groupRenderer;
 
+    private DataGroup(
+        GroupingPlugin<T> plugin,
+        String id,
+        RecordsGrouping.Group<T> group,
+        HTMLTableCellElement cellElement,
+        boolean expanded) {
+      this.plugin = plugin;
+      this.id = id;
+      this.group = group;
+      this.cellElement = cellElement;
+      this.expanded = expanded;
+    }
+
     /**
      * Creates a new {@code DataGroup} instance with the given lastRow and cellInfo.
      *
      * @param lastRow The last TableRow in the group.
      * @param cellInfo The CellInfo containing the group cell element.
+     * @deprecated the groups are created by the {@link GroupingPlugin} from its records grouping,
+     *     a group created with this constructor is not managed by any plugin
      */
+    @Deprecated
     public DataGroup(TableRow<T> lastRow, CellRenderer.CellInfo<T> cellInfo) {
-      this.lastRow = lastRow;
+      this(null, null, null, cellInfo.getElement(), true);
       this.cellInfo = cellInfo;
       addRow(lastRow);
     }
@@ -229,10 +503,27 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
       return tableRow.getMeta(KEY);
     }
 
+    /**
+     * Retrieves the {@code DataGroup} of a group header cell, this is used by the group renderer
+     * to read the group and its aggregates.
+     *
+     * @param <T> The data type of the TableRow.
+     * @param cellInfo The CellInfo passed to the group renderer.
+     * @return An Optional containing the DataGroup, or an empty Optional for other cells.
+     */
+    public static <T> Optional<DataGroup<T>> fromCell(CellRenderer.CellInfo<T> cellInfo) {
+      if (cellInfo instanceof GroupCellInfo) {
+        return Optional.of(((GroupCellInfo<T>) cellInfo).dataGroup);
+      }
+      return Optional.empty();
+    }
+
     /** Toggles the visibility of the group's rows (expanding/collapsing the group). */
     public void toggleGroup() {
       expanded = !expanded;
-      groupRows.forEach(tableRow -> elements.elementOf(tableRow.element()).toggleDisplay(expanded));
+      if (nonNull(plugin)) {
+        plugin.onGroupToggled(this);
+      }
     }
 
     /**
@@ -241,11 +532,30 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
      * @param tableRow The TableRow to add to the group.
      */
     public void addRow(TableRow<T> tableRow) {
-      groupRows.add(tableRow);
-      tableRow.addCss(isOdd(tableRow) ? dui_odd : dui_even);
+      boolean odd = rowsCount++ % 2 > 0;
+      (odd ? dui_even : dui_odd).remove(tableRow);
+      tableRow.addCss(odd ? dui_odd : dui_even);
       tableRow.applyMeta(this);
     }
 
+    /**
+     * Retrieves the group of records represented by this {@code DataGroup}.
+     *
+     * @return The records group.
+     */
+    public RecordsGrouping.Group<T> getGroup() {
+      return group;
+    }
+
+    /**
+     * Checks if the group is expanded.
+     *
+     * @return {@code true} if the group rows are shown, {@code false} otherwise.
+     */
+    public boolean isExpanded() {
+      return expanded;
+    }
+
     /**
      * Sets the group expanded/collapse icon supplier for the group headers.
      *
@@ -288,17 +598,32 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
     }
 
     /**
-     * Checks if the TableRow is an odd row within the group.
-     *
-     * @param tableRow The TableRow to check.
-     * @return True if the TableRow is odd, false otherwise.
+     * Renders the group header cell with the provided group icon and group renderer, the header is
+     * rendered for the first record of the group.
      */
-    private boolean isOdd(TableRow<T> tableRow) {
-      return groupRows.indexOf(tableRow) % 2 > 0;
-    }
-
-    /** Renders the group header cell with the provided group icon and group renderer. */
     public void render() {
+      if (nonNull(group)) {
+        RecordsGrouping.Member<T> first = firstMember(group);
+        if (isNull(first)) {
+          return;
+        }
+        TableRow<T> firstRow = plugin.memberRows.get(first);
+        if (isNull(firstRow)) {
+          // the group is collapsed, its header is rendered from a row that is not rendered
+          firstRow =
+              nonNull(cellInfo) && cellInfo.getRecord() == first.getRecord()
+                  ? cellInfo.getTableRow()
+                  : new TableRow<>(
+                      first.getRecord(), plugin.memberIndexes.get(first), plugin.dataTable);
+        }
+        if (isNull(cellInfo) || cellInfo.getTableRow() != firstRow) {
+          cellInfo = new GroupCellInfo<>(firstRow, cellElement, this);
+        }
+      }
+      if (isNull(cellInfo)) {
+        return;
+      }
+      int level = isNull(group) ? 0 : group.getLevel();
       elements
           .elementOf(cellInfo.getElement())
           .clearElement()
@@ -306,6 +631,7 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
               elements
                   .div()
                   .addCss(dui_flex, dui_gap_2, dui_items_center, dui_p_1)
+                  .setPaddingLeft(level > 0 ? Unit.px.of(level * GROUP_INDENT) : "")
                   .appendChild(groupIconSupplier)
                   .appendChild(
                       elements
@@ -313,6 +639,43 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
                           .addCss(dui_grow_1)
                           .appendChild(groupRenderer.asElement(cellInfo))));
     }
+
+    private RecordsGrouping.Member<T> firstMember(RecordsGrouping.Group<T> group) {
+      List<RecordsGrouping.Group<T>> subGroups = group.getSubGroups();
+      if (subGroups.isEmpty()) {
+        List<RecordsGrouping.Member<T>> members = group.getMembers();
+        return members.isEmpty() ? null : members.get(0);
+      }
+      return firstMember(subGroups.get(0));
+    }
+  }
+
+  /**
+   * The cell info passed to the group renderer, it gives access to the rendered {@link
+   * DataGroup}.
+   */
+  private static class GroupCellInfo<T> extends CellRenderer.CellInfo<T> {
+    private final DataGroup<T> dataGroup;
+
+    private GroupCellInfo(
+        TableRow<T> tableRow, HTMLTableCellElement element, DataGroup<T> dataGroup) {
+      super(tableRow, element);
+      this.dataGroup = dataGroup;
+    }
+  }
+
+  /** Row meta holding the grouping member of the row record. */
+  private static class GroupMember<T> implements ComponentMeta {
+    private final RecordsGrouping.Member<T> member;
+
+    private GroupMember(RecordsGrouping.Member<T> member) {
+      this.member = member;
+    }
+
+    @Override
+    public String getKey() {
+      return GROUP_MEMBER;
+    }
   }
 
   /**
@@ -324,7 +687,8 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
   public interface GroupSupplier<T> {
 
     /**
-     * Gets the group criteria for a TableRow.
+     * Gets the group criteria for a TableRow, the records are grouped before their rows are
+     * rendered so the criteria should only be read from the row record.
      *
      * @param tableRow The TableRow for which to determine the group criteria.
      * @return The group criteria.
@@ -0,0 +1,415 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.plugins.grouping;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.dominokit.domino.ui.datatable.plugins.RunningAggregate;
+
+/**
+ * The {@code RecordsGrouping} class groups records by a list of group keys, one key per group
+ * level, independent of how the records are rendered. Each group keeps the count of its records and
+ * the aggregates of the registered values, the aggregates are updated incrementally when a record
+ * is added, updated or removed instead of being recomputed from all the group records.
+ *
+ * <p>The groups of the same level are kept in the order they were first created unless a groups
+ * comparator is set, the records of a group are kept in the order they were added.
+ *
+ * @param <T> The type of the grouped records.
+ */
+public class RecordsGrouping<T> {
+
+  private final Map<String, AggregateValueProvider<T>> aggregates = new LinkedHashMap<>();
+  private final Group<T> root = new Group<>(this, null, null);
+  private Comparator<? super Group<T>> groupsComparator;
+  private int size;
+
+  /**
+   * Creates a new empty grouping.
+   *
+   * @param <T> The type of the grouped records.
+   * @return A new {@code RecordsGrouping} instance.
+   */
+  public static <T> RecordsGrouping<T> create() {
+    return new RecordsGrouping<>();
+  }
+
+  /**
+   * Registers a value to be aggregated for every group, the records already in the grouping are
+   * aggregated again.
+   *
+   * @param name The name of the aggregate, used to read the aggregate values from the groups.
+   * @param valueProvider The provider of the record value, a null value is not aggregated.
+   * @return This {@code RecordsGrouping} instance for method chaining.
+   */
+  public RecordsGrouping<T> addAggregate(String name, AggregateValueProvider<T> valueProvider) {
+    List<Member<T>> members = getMembers(root, new ArrayList<>());
+    clear();
+    aggregates.put(name, valueProvider);
+    members.forEach(member -> add(member, member.record, member.group.getKeys()));
+    return this;
+  }
+
+  /**
+   * Sets the comparator used to order the groups of the same level.
+   *
+   * @param groupsComparator The groups comparator, or null to keep the groups creation order.
+   * @return This {@code RecordsGrouping} instance for method chaining.
+   */
+  public RecordsGrouping<T> setGroupsComparator(Comparator<? super Group<T>> groupsComparator) {
+    this.groupsComparator = groupsComparator;
+    invalidateOrder(root);
+    return this;
+  }
+
+  /**
+   * Adds a record to the group identified by the provided keys, the missing groups are created.
+   *
+   * @param record The record to add.
+   * @param groupKeys The group key of each level, starting from the top level.
+   * @return The member representing the record in this grouping, used to update or remove it.
+   */
+  public Member<T> add(T record, List<?> groupKeys) {
+    return add(new Member<>(), record, groupKeys);
+  }
+
+  private Member<T> add(Member<T> member, T record, List<?> groupKeys) {
+    Group<T> group = root;
+    for (Object key : groupKeys) {
+      group = group.getOrCreateSubGroup(key);
+    }
+    member.record = record;
+    member.group = group;
+    member.values = values(record);
+    group.members.add(member);
+    for (Group<T> current = group; nonNull(current); current = current.parent) {
+      current.add(member.values);
+    }
+    size++;
+    return member;
+  }
+
+  /**
+   * Replaces the record of a member, the member is moved to another group when the group keys have
+   * changed, otherwise only the aggregates of its groups are updated.
+   *
+   * @param member The member of the updated record.
+   * @param record The new record.
+   * @param groupKeys The group key of each level for the new record.
+   * @return {@code true} if the member has been moved to another group, {@code false} otherwise.
+   */
+  public boolean update(Member<T> member, T record, List<?> groupKeys) {
+    if (!member.group.getKeys().equals(groupKeys)) {
+      remove(member);
+      add(member, record, groupKeys);
+      return true;
+    }
+    for (Group<T> current = member.group; nonNull(current); current = current.parent) {
+      current.remove(member.values);
+    }
+    member.record = record;
+    member.values = values(record);
+    for (Group<T> current = member.group; nonNull(current); current = current.parent) {
+      current.add(member.values);
+    }
+    return false;
+  }
+
+  /**
+   * Removes a member from its group, the groups left without records are removed.
+   *
+   * @param member The member to remove.
+   */
+  public void remove(Member<T> member) {
+    if (isNull(member.group) || !member.group.members.remove(member)) {
+      return;
+    }
+    for (Group<T> current = member.group; nonNull(current); current = current.parent) {
+      current.remove(member.values);
+      if (current.count == 0 && nonNull(current.parent)) {
+        current.parent.subGroups.remove(current.key);
+        current.parent.sortedSubGroups = null;
+      }
+    }
+    member.group = null;
+    size--;
+  }
+
+  /** Removes all the records and groups. */
+  public void clear() {
+    root.subGroups.clear();
+    root.sortedSubGroups = null;
+    root.members.clear();
+    root.count = 0;
+    root.aggregates.clear();
+    size = 0;
+  }
+
+  /**
+   * Gets the top level groups.
+   *
+   * @return The top level groups, in the groups order.
+   */
+  public List<Group<T>> getGroups() {
+    return root.getSubGroups();
+  }
+
+  /**
+   * Gets the number of the grouped records.
+   *
+   * @return The number of records.
+   */
+  public int size() {
+    return size;
+  }
+
+  private Double[] values(T record) {
+    Double[] values = new Double[aggregates.size()];
+    int index = 0;
+    for (AggregateValueProvider<T> valueProvider : aggregates.values()) {
+      Number value = valueProvider.getValue(record);
+      values[index++] = isNull(value) ? null : value.doubleValue();
+    }
+    return values;
+  }
+
+  private int aggregateIndex(String name) {
+    int index = 0;
+    for (String aggregate : aggregates.keySet()) {
+      if (aggregate.equals(name)) {
+        return index;
+      }
+      index++;
+    }
+    return -1;
+  }
+
+  private List<Member<T>> getMembers(Group<T> group, List<Member<T>> members) {
+    members.addAll(group.members);
+    group.subGroups.values().forEach(subGroup -> getMembers(subGroup, members));
+    return members;
+  }
+
+  private void invalidateOrder(Group<T> group) {
+    group.sortedSubGroups = null;
+    group.subGroups.values().forEach(this::invalidateOrder);
+  }
+
+  /**
+   * A group of records, a group has either sub groups or records. The aggregates of a group cover
+   * all the records of its sub groups.
+   *
+   * @param <T> The type of the grouped records.
+   */
+  public static class Group<T> {
+    private final RecordsGrouping<T> grouping;
+    private final Group<T> parent;
+    private final Object key;
+    private final Map<Object, Group<T>> subGroups = new LinkedHashMap<>();
+    private final Set<Member<T>> members = new LinkedHashSet<>();
+    private final Map<Integer, RunningAggregate> aggregates = new HashMap<>();
+    private List<Group<T>> sortedSubGroups;
+    private int count;
+
+    private Group(RecordsGrouping<T> grouping, Group<T> parent, Object key) {
+      this.grouping = grouping;
+      this.parent = parent;
+      this.key = key;
+    }
+
+    private Group<T> getOrCreateSubGroup(Object key) {
+      Group<T> group = subGroups.get(key);
+      if (isNull(group)) {
+        group = new Group<>(grouping, this, key);
+        subGroups.put(key, group);
+        sortedSubGroups = null;
+      }
+      return group;
+    }
+
+    private void add(Double[] values) {
+      count++;
+      for (int i = 0; i < values.length; i++) {
+        if (nonNull(values[i])) {
+          aggregates.computeIfAbsent(i, index -> new RunningAggregate()).add(values[i]);
+        }
+      }
+    }
+
+    private void remove(Double[] values) {
+      count--;
+      for (int i = 0; i < values.length; i++) {
+        RunningAggregate aggregate = aggregates.get(i);
+        if (nonNull(values[i]) && nonNull(aggregate)) {
+          aggregate.remove(values[i]);
+        }
+      }
+    }
+
+    /** @return The key of this group in its level. */
+    public Object getKey() {
+      return key;
+    }
+
+    /** @return The keys of this group and its parent groups, starting from the top level. */
+    public List<Object> getKeys() {
+      List<Object> keys = new ArrayList<>();
+      for (Group<T> current = this; nonNull(current.parent); current = current.parent) {
+        keys.add(0, current.key);
+      }
+      return keys;
+    }
+
+    /** @return The level of this group, the top level groups have the level 0. */
+    public int getLevel() {
+      int level = -1;
+      for (Group<T> current = this; nonNull(current.parent); current = current.parent) {
+        level++;
+      }
+      return level;
+    }
+
+    /** @return The parent group, or null for a top level group. */
+    public Group<T> getParent() {
+      return isNull(parent) || isNull(parent.parent) ? null : parent;
+    }
+
+    /** @return The sub groups of this group, in the groups order. */
+    public List<Group<T>> getSubGroups() {
+      if (isNull(sortedSubGroups)) {
+        sortedSubGroups = new ArrayList<>(subGroups.values());
+        if (nonNull(grouping.groupsComparator)) {
+          sortedSubGroups.sort(grouping.groupsComparator);
+        }
+      }
+      return Collections.unmodifiableList(sortedSubGroups);
+    }
+
+    /** @return The records of this group, in the order they were added. */
+    public List<T> getRecords() {
+      List<T> records = new ArrayList<>(members.size());
+      members.forEach(member -> records.add(member.record));
+      return records;
+    }
+
+    /** @return The members of this group, in the order they were added. */
+    public List<Member<T>> getMembers() {
+      return new ArrayList<>(members);
+    }
+
+    /** @return The number of records in this group, including the records of its sub groups. */
+    public int getCount() {
+      return count;
+    }
+
+    /**
+     * @param name The aggregate name.
+     * @return The sum of the aggregate values, or null if the group has no values.
+     */
+    public Double getSum(String name) {
+      RunningAggregate aggregate = getAggregate(name);
+      return isNull(aggregate) ? null : aggregate.getSum();
+    }
+
+    /**
+     * @param name The aggregate name.
+     * @return The minimum of the aggregate values, or null if the group has no values.
+     */
+    public Double getMin(String name) {
+      RunningAggregate aggregate = getAggregate(name);
+      return isNull(aggregate) ? null : aggregate.getMin();
+    }
+
+    /**
+     * @param name The aggregate name.
+     * @return The maximum of the aggregate values, or null if the group has no values.
+     */
+    public Double getMax(String name) {
+      RunningAggregate aggregate = getAggregate(name);
+      return isNull(aggregate) ? null : aggregate.getMax();
+    }
+
+    /**
+     * @param name The aggregate name.
+     * @return The average of the aggregate values, or null if the group has no values.
+     */
+    public Double getAverage(String name) {
+      RunningAggregate aggregate = getAggregate(name);
+      return isNull(aggregate) ? null : aggregate.getAverage();
+    }
+
+    private RunningAggregate getAggregate(String name) {
+      RunningAggregate aggregate = aggregates.get(grouping.aggregateIndex(name));
+      return isNull(aggregate) || aggregate.isEmpty() ? null : aggregate;
+    }
+
+    @Override
+    public String toString() {
+      return Objects.toString(key);
+    }
+  }
+
+  /**
+   * A record in the grouping, the member is used to update or remove the record without searching
+   * for it.
+   *
+   * @param <T> The type of the grouped records.
+   */
+  public static class Member<T> {
+    private T record;
+    private Group<T> group;
+    private Double[] values;
+
+    private Member() {}
+
+    /** @return The record of this member. */
+    public T getRecord() {
+      return record;
+    }
+
+    /** @return The group of this member, or null if the member has been removed. */
+    public Group<T> getGroup() {
+      return group;
+    }
+  }
+
+  /**
+   * A functional interface providing the value of a record to be aggregated.
+   *
+   * @param <T> The type of the grouped records.
+   */
+  @FunctionalInterface
+  public interface AggregateValueProvider<T> {
+
+    /**
+     * @param record The record.
+     * @return The value to aggregate, or null to skip the record.
+     */
+    Number getValue(T record);
+  }
+}
@@ -80,6 +80,9 @@ public class RowMarkerPlugin<T> implements DataTablePlugin<T>, DataTableStyles {
 
     if (nonNull(color)) {
       tableRow.addCss(color);
+      tableRow.applyMeta(RowMarkerMeta.of(color));
+    } else {
+      tableRow.removeMeta(RowMarkerMeta.DOMINO_ROW_MARKER_META);
     }
   }
 
@@ -16,10 +16,14 @@
 
 package org.dominokit.domino.ui.datatable.plugins.menu;
 
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.menu.MenuStyles.dui_context_menu_target_open;
+
 import java.util.Optional;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
+import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.menu.Menu;
 import org.dominokit.domino.ui.menu.MenuTarget;
 
@@ -31,6 +35,7 @@ import org.dominokit.domino.ui.menu.MenuTarget;
 public class RowContextMenuPlugin<T> implements DataTablePlugin<T> {
 
   private final Menu<?> menu;
+  private TableRow<T> openRow;
 
   /**
    * Creates a new {@link RowContextMenuPlugin} instance with the specified context menu.
@@ -45,15 +50,40 @@ public class RowContextMenuPlugin<T> implements DataTablePlugin<T> {
   /**
    * {@inheritDoc}
    *
-   * <p>Adds the context menu to the specified row when a new row is added to the DataTable.
+   * <p>Uses the table body as the single target of the context menu, the row that is right clicked
+   * is resolved from the event and set as the {@link RowContextMenuMeta} of the target before the
+   * menu opens. Right clicks outside the rows do not open the menu.
    *
    * @param dataTable The DataTable to which this plugin is applied.
-   * @param tableRow The TableRow to which the context menu is added.
    */
   @Override
-  public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
-    this.menu.addTarget(
-        MenuTarget.of(tableRow.element()).applyMeta(RowContextMenuMeta.of(tableRow)));
+  public void init(DataTable<T> dataTable) {
+    MenuTarget bodyTarget = MenuTarget.of(dataTable.bodyElement().element());
+    dataTable
+        .bodyElement()
+        .addEventListener(
+            EventType.contextmenu,
+            evt -> {
+              Optional<TableRow<T>> tableRow = dataTable.findRow(evt);
+              if (tableRow.isPresent()) {
+                openRow(tableRow.get());
+                bodyTarget.applyMeta(RowContextMenuMeta.of(tableRow.get()));
+              } else {
+                evt.stopImmediatePropagation();
+              }
+            });
+    this.menu.addTarget(bodyTarget);
+    this.menu.addCloseListener(component -> openRow(null));
+  }
+
+  private void openRow(TableRow<T> tableRow) {
+    if (nonNull(openRow)) {
+      openRow.removeCss(dui_context_menu_target_open);
+    }
+    this.openRow = tableRow;
+    if (nonNull(tableRow)) {
+      tableRow.addCss(dui_context_menu_target_open);
+    }
   }
 
   /**
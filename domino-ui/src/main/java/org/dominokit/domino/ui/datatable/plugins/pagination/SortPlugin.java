@@ -21,9 +21,13 @@ import static org.dominokit.domino.ui.datatable.plugins.PluginsConstants.DUI_DT_
 import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.dom.HTMLElement;
+import elemental2.dom.MouseEvent;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.events.DataSortEvent;
@@ -37,7 +41,8 @@ import org.dominokit.domino.ui.utils.DominoElement;
 
 /**
  * A plugin for adding sorting functionality to a DataTable. This plugin allows users to click on
- * the table headers to sort the data in ascending or descending order.
+ * the table headers to sort the data in ascending or descending order, and when multi-column sort
+ * is enabled to shift-click on more headers to sort the records by several columns.
  *
  * @param <T> The type of data in the DataTable.
  */
@@ -46,6 +51,8 @@ public class SortPlugin<T>
 
   private SortContext currentSortContext;
   private Map<String, SortContext> sortContainers = new HashMap<>();
+  private Map<String, ColumnConfig<T>> sortColumns = new HashMap<>();
+  private List<SortContext> sortOrder = new ArrayList<>();
   private DataTable<T> dataTable;
   private SortPluginConfig config = new SortPluginConfig();
 
@@ -70,6 +77,7 @@ public class SortPlugin<T>
     if (column.isSortable()) {
       SortContext sortContext = new SortContext(column.getSortKey(), config);
       sortContainers.put(column.getSortKey(), sortContext);
+      sortColumns.put(column.getSortKey(), column);
       column.appendChild(div().addCss(dui_order_100).appendChild(sortContext.sortElement));
       column.getHeadElement().addCss(dui_cursor_pointer, dui_disable_text_select);
       column
@@ -78,8 +86,14 @@ public class SortPlugin<T>
               EventType.click.getName(),
               evt -> {
                 if (this.dataTable.getMeta(DUI_DT_COL_RESIZING).isEmpty()) {
-                  updateSort(sortContext);
-                  fireSortEvent(currentSortContext.sortDirection, column);
+                  MouseEvent mouseEvent = Js.uncheckedCast(evt);
+                  if (mouseEvent.shiftKey && config.isMultiSort() && !sortOrder.isEmpty()) {
+                    updateMultiSort(sortContext);
+                    fireMultiSortEvent(column);
+                  } else {
+                    updateSort(sortContext);
+                    fireSortEvent(currentSortContext.sortDirection, column);
+                  }
                 }
               });
     }
@@ -90,10 +104,42 @@ public class SortPlugin<T>
         && !currentSortContext.columnName.equals(sortContext.columnName)) {
       currentSortContext.clear();
     }
+    clearSortOrder(sortContext);
     sortContext.update(true);
     currentSortContext = sortContext;
   }
 
+  /**
+   * Adds the column to the sorted columns, or flips its sort direction if it is already sorted,
+   * without clearing the other sorted columns. A column sort that is flipped to no sort is removed
+   * from the sorted columns.
+   *
+   * @param sortContext The sort context of the clicked column.
+   */
+  private void updateMultiSort(SortContext sortContext) {
+    if (!sortOrder.contains(sortContext)) {
+      sortContext.sortDirection = SortDirection.NONE;
+      sortOrder.add(sortContext);
+    }
+    sortContext.update(true);
+    if (SortDirection.NONE.equals(sortContext.sortDirection)) {
+      sortOrder.remove(sortContext);
+    }
+    currentSortContext = sortContext;
+  }
+
+  /**
+   * Clears the sort state of all sorted columns except the provided one, which becomes the only
+   * sorted column.
+   *
+   * @param sortContext The sort context of the column to keep.
+   */
+  private void clearSortOrder(SortContext sortContext) {
+    sortOrder.stream().filter(context -> context != sortContext).forEach(SortContext::clear);
+    sortOrder.clear();
+    sortOrder.add(sortContext);
+  }
+
   /**
    * Sorts the table data in the specified direction for the given column.
    *
@@ -117,6 +163,29 @@ public class SortPlugin<T>
     dataTable.fireTableEvent(new SortEvent<>(direction, column));
   }
 
+  /**
+   * Fires a SortEvent with all the sorted columns in the order they were added, falls back to a
+   * single column SortEvent when less than two columns are sorted.
+   *
+   * @param column The clicked column.
+   */
+  private void fireMultiSortEvent(ColumnConfig<T> column) {
+    if (sortOrder.isEmpty()) {
+      fireSortEvent(SortDirection.NONE, column);
+    } else if (sortOrder.size() == 1) {
+      SortContext sortContext = sortOrder.get(0);
+      fireSortEvent(sortContext.sortDirection, sortColumns.get(sortContext.columnName));
+    } else {
+      List<SortEvent.ColumnSort<T>> sorts = new ArrayList<>();
+      for (SortContext sortContext : sortOrder) {
+        sorts.add(
+            new SortEvent.ColumnSort<>(
+                sortContext.sortDirection, sortColumns.get(sortContext.columnName)));
+      }
+      dataTable.fireTableEvent(new SortEvent<>(sorts));
+    }
+  }
+
   /**
    * Handles sorting-related events, such as DataSortEvent.
    *
@@ -129,6 +198,7 @@ public class SortPlugin<T>
       if (sortContainers.containsKey(dataSortEvent.getSortColumn())) {
         SortContext sortContext = sortContainers.get(dataSortEvent.getSortColumn());
         sortContext.sortDirection = dataSortEvent.getSortDirection();
+        clearSortOrder(sortContext);
         sortContext.update(false);
         currentSortContext = sortContext;
       }
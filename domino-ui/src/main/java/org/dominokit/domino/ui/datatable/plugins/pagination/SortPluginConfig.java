@@ -32,6 +32,7 @@ public class SortPluginConfig implements PluginConfig {
   private Supplier<Icon<?>> descendingIcon = Icons::sort_descending;
   private Supplier<Icon<?>> unsortedIcon = Icons::sort;
   private boolean showIconOnSortedColumnOnly = false;
+  private boolean multiSort = true;
 
   /**
    * Checks if tri-state sorting is enabled.
@@ -139,4 +140,26 @@ public class SortPluginConfig implements PluginConfig {
     this.showIconOnSortedColumnOnly = showIconOnSortedColumnOnly;
     return this;
   }
+
+  /**
+   * Checks if multi-column sort is enabled.
+   *
+   * @return {@code true} if shift-clicking a column header adds it to the sorted columns, {@code
+   *     false} otherwise.
+   */
+  public boolean isMultiSort() {
+    return multiSort;
+  }
+
+  /**
+   * Sets whether multi-column sort is enabled, when enabled shift-clicking a column header adds the
+   * column to the sorted columns instead of replacing the current sort.
+   *
+   * @param multiSort {@code true} to enable multi-column sort, {@code false} to disable.
+   * @return This SortPluginConfig instance for method chaining.
+   */
+  public SortPluginConfig setMultiSort(boolean multiSort) {
+    this.multiSort = multiSort;
+    return this;
+  }
 }
@@ -44,16 +44,26 @@ public class DoubleClickPlugin<T> implements DataTablePlugin<T> {
   }
 
   /**
-   * Adds double-click event handling for newly added table rows. When a row is double-clicked, the
+   * Adds double-click event handling for the table rows. When a row is double-clicked, the
    * double-click handler {@link DoubleClickHandler#onDoubleClick(TableRow)} is executed.
    *
    * @param dataTable The DataTable to which this plugin is applied.
-   * @param tableRow The table row to which the double-click event handling is added.
+   */
+  @Override
+  public void init(DataTable<T> dataTable) {
+    dataTable.addRowEventListener(
+        EventType.dblclick.getName(), (evt, tableRow) -> handler.onDoubleClick(tableRow));
+  }
+
+  /**
+   * Marks newly added table rows as clickable.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   * @param tableRow The added table row.
    */
   @Override
   public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
     tableRow.addCss(dui_cursor_pointer);
-    tableRow.addEventListener(EventType.dblclick, evt -> handler.onDoubleClick(tableRow));
   }
 
   /**
@@ -154,6 +154,20 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
     this.dataTable = dataTable;
   }
 
+  /**
+   * Collapses the details of a row before it is bound to another record, so the details of the
+   * previous record are not shown for the new one.
+   *
+   * @param dataTable The DataTable of the row.
+   * @param tableRow The row being bound to another record.
+   */
+  @Override
+  public void onRowRebind(DataTable<T> dataTable, TableRow<T> tableRow) {
+    if (nonNull(expandedRow) && tableRow.equals(expandedRow.getCellInfo().getTableRow())) {
+      expandedRow.collapse();
+    }
+  }
+
   /**
    * Handles table events, specifically handling the expand/collapse events.
    *
@@ -43,16 +43,26 @@ public class RowClickPlugin<T> implements DataTablePlugin<T> {
   }
 
   /**
-   * Adds click event handling for newly added table rows. When a row is clicked, the click handler
-   * {@link ClickHandler#onClick(TableRow)} is executed.
+   * Adds click event handling for the table rows. When a row is clicked, the click handler {@link
+   * ClickHandler#onClick(TableRow)} is executed.
    *
    * @param dataTable The DataTable to which this plugin is applied.
-   * @param tableRow The table row to which the click event handling is added.
+   */
+  @Override
+  public void init(DataTable<T> dataTable) {
+    dataTable.addRowEventListener(
+        EventType.click.getName(), (evt, tableRow) -> handler.onClick(tableRow));
+  }
+
+  /**
+   * Marks newly added table rows as clickable.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   * @param tableRow The added table row.
    */
   @Override
   public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
     tableRow.addCss(dui_cursor_pointer);
-    tableRow.addEventListener(EventType.click.getName(), evt -> handler.onClick(tableRow));
   }
 
   /**
@@ -17,7 +17,6 @@
 package org.dominokit.domino.ui.datatable.plugins.selection;
 
 import static java.util.Collections.singletonList;
-import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.DataTableStyles.dui_datatable_row_selected;
 import static org.dominokit.domino.ui.forms.FormsStyles.dui_form_select_check_box;
@@ -32,10 +31,10 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.*;
-import org.dominokit.domino.ui.datatable.events.OnBeforeDataChangeEvent;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
+import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.forms.CheckBox;
 import org.dominokit.domino.ui.icons.Icon;
 import org.dominokit.domino.ui.icons.lib.Icons;
@@ -56,7 +55,6 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
   private TableRow<T> lastSelected;
   private CheckBoxCreator<T> checkBoxCreator = tableRow -> CheckBox.create();
   private DataTable<T> datatable;
-  private List<T> oldSelection = new ArrayList<>();
   private boolean retainSelectionOnDataChange = false;
   private CheckBox headerCheckBox;
 
@@ -109,6 +107,28 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
     return Optional.empty();
   }
 
+  /**
+   * Toggles the selection of a row when it is clicked in single selection mode, the clicks of all
+   * the rows are handled by a single listener of the table body.
+   *
+   * @param dataTable The DataTable instance to which this plugin is applied.
+   */
+  @Override
+  public void init(DataTable<T> dataTable) {
+    dataTable.addRowEventListener(
+        EventType.click.getName(),
+        (evt, tableRow) -> {
+          if (!dataTable.getTableConfig().isMultiSelect()
+              && selectionCondition.isAllowSelection(dataTable, tableRow)) {
+            if (tableRow.isSelected()) {
+              tableRow.deselect();
+            } else {
+              tableRow.select();
+            }
+          }
+        });
+  }
+
   /**
    * This method is called after the DataTable has been added, allowing the plugin to access and
    * reference the DataTable.
@@ -118,6 +138,7 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
   @Override
   public void onAfterAddTable(DataTable<T> dataTable) {
     this.datatable = dataTable;
+    dataTable.setRetainSelection(retainSelectionOnDataChange);
   }
 
   /**
@@ -158,19 +179,6 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
   private Element createSingleSelectCell(DataTable<T> dataTable, CellRenderer.CellInfo<T> cell) {
     Element clonedIndicator = Js.uncheckedCast(singleSelectIndicator.get());
     elementOf(clonedIndicator).addCss(dui_fg_accent);
-    cell.getTableRow()
-        .element()
-        .addEventListener(
-            "click",
-            evt -> {
-              if (selectionCondition.isAllowSelection(dataTable, cell.getTableRow())) {
-                if (cell.getTableRow().isSelected()) {
-                  cell.getTableRow().deselect();
-                } else {
-                  cell.getTableRow().select();
-                }
-              }
-            });
     cell.getTableRow()
         .addSelectionListener(
             (source, row) -> {
@@ -226,7 +234,14 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
     checkBox.addClickListener(
         evt -> {
           MouseEvent mouseEvent = Js.cast(evt);
-          if (mouseEvent.shiftKey) {
+          if (mouseEvent.shiftKey && dataTable.isVirtualScroll()) {
+            int startIndex = getStartSelectionIndex(dataTable);
+            int endIndex = tableRow.getIndex();
+            List<T> records = new ArrayList<>(dataTable.getData());
+            dataTable.selectRecords(
+                records.subList(
+                    Math.min(startIndex, endIndex), Math.max(startIndex, endIndex) + 1));
+          } else if (mouseEvent.shiftKey) {
             int startIndex = getStartSelectionIndex(dataTable);
             int endIndex = tableRow.getIndex();
             int increment = startIndex < endIndex ? 1 : -1;
@@ -320,15 +335,23 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
   }
 
   private void updateHeaderCheckBox(List<TableRow<T>> selectedRows) {
-    long selectableCount =
-        this.datatable.getRows().stream()
-            .filter(tableRow -> selectionCondition.isAllowSelection(this.datatable, tableRow))
-            .count();
-    if (selectedRows.size() > 0 && selectedRows.size() < selectableCount) {
+    long selectedCount;
+    long selectableCount;
+    if (this.datatable.isVirtualScroll()) {
+      selectedCount = this.datatable.getSelectedRecords().size();
+      selectableCount = this.datatable.getData().size();
+    } else {
+      selectedCount = selectedRows.size();
+      selectableCount =
+          this.datatable.getRows().stream()
+              .filter(tableRow -> selectionCondition.isAllowSelection(this.datatable, tableRow))
+              .count();
+    }
+    if (selectedCount > 0 && selectedCount < selectableCount) {
       headerCheckBox.indeterminate();
-    } else if (selectedRows.size() == selectableCount) {
+    } else if (selectedCount == selectableCount) {
       headerCheckBox.check(true);
-    } else if (selectedRows.isEmpty()) {
+    } else if (selectedCount == 0) {
       headerCheckBox.uncheck(true);
     }
   }
@@ -364,54 +387,57 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
   }
 
   /**
-   * Sets whether to retain row selection on data changes in the DataTable.
+   * Sets whether to retain row selection on data changes in the DataTable. The selected records are
+   * kept in the DataTable selection model, so the rows of these records are rendered as selected
+   * whenever they are shown again, for example when navigating between pages.
    *
    * @param retainSelectionOnDataChange `true` to retain row selection, `false` otherwise.
    * @return This `SelectionPlugin` instance for method chaining.
+   * @see DataTable#setRetainSelection(boolean)
    */
   public SelectionPlugin<T> setRetainSelectionOnDataChange(boolean retainSelectionOnDataChange) {
     this.retainSelectionOnDataChange = retainSelectionOnDataChange;
+    if (nonNull(datatable)) {
+      datatable.setRetainSelection(retainSelectionOnDataChange);
+    }
     return this;
   }
 
   /**
-   * Handles the addition of a row to the DataTable. If selection retention is enabled and the row
-   * was previously selected, it re-selects the row.
+   * Handles the addition of a row to the DataTable. A row rendered as selected from the retained
+   * selection is deselected when the selection condition no longer allows selecting it, otherwise
+   * it replaces the row previously rendered for its record as the selected row, so that selecting
+   * another row deselects it rather than the detached one.
    *
    * @param dataTable The DataTable to which this plugin is applied.
    * @param tableRow The row to be added.
    */
   @Override
   public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
-    if (retainSelectionOnDataChange) {
-      if (nonNull(oldSelection)
-          && !oldSelection.isEmpty()
-          && oldSelection.contains(tableRow.getRecord())) {
-        if (isNull(selectionCondition)
-            || selectionCondition.isAllowSelection(dataTable, tableRow)) {
-          tableRow.select();
-        }
+    if (!tableRow.isSelected()) {
+      return;
+    }
+    if (!selectionCondition.isAllowSelection(dataTable, tableRow)) {
+      tableRow.deselect();
+    } else if (dataTable.getTableConfig().isMultiSelect()) {
+      if (nonNull(lastSelected) && Objects.equals(lastSelected.getRecord(), tableRow.getRecord())) {
+        this.lastSelected = tableRow;
       }
+    } else {
+      this.selectedRow = tableRow;
     }
   }
 
   /**
-   * Handles DataTable events, specifically retaining the selection on data change events.
+   * Handles DataTable events, specifically updating the header check box on data change events.
    *
    * @param event The DataTable event.
    */
   @Override
   public void handleEvent(TableEvent event) {
-    if (retainSelectionOnDataChange) {
-      if (OnBeforeDataChangeEvent.ON_BEFORE_DATA_CHANGE.equals(event.getType())) {
-        this.oldSelection = this.datatable.getSelectedRecords();
-      }
-    }
-
-    if (TableDataUpdatedEvent.DATA_UPDATED.equals(event.getType())) {
-      if (this.datatable.getTableConfig().isMultiSelect()) {
-        updateHeaderCheckBox(this.datatable.getSelectedItems());
-      }
+    if (TableDataUpdatedEvent.DATA_UPDATED.equals(event.getType())
+        && this.datatable.getTableConfig().isMultiSelect()) {
+      updateHeaderCheckBox(this.datatable.getSelectedItems());
     }
   }
 
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.plugins.summary;
+
+import static java.util.Objects.isNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.plugins.RunningAggregate;
+import org.dominokit.domino.ui.utils.ComponentMeta;
+import org.gwtproject.i18n.client.NumberFormat;
+
+/**
+ * A column meta that aggregates the values of a column over the records of a {@link
+ * org.dominokit.domino.ui.datatable.DataTable}, the aggregate is maintained incrementally by the
+ * {@link SummaryPlugin} and rendered in the column summary cells.
+ *
+ * <p>Example:
+ *
+ * <pre>
+ * column.applyMeta(ColumnAggregator.sum(Order::getTotal));
+ * </pre>
+ *
+ * @param <T> The type of data in the DataTable.
+ */
+public class ColumnAggregator<T> implements ComponentMeta {
+
+  /** The unique key for identifying the aggregator associated with a column. */
+  public static final String COLUMN_AGGREGATOR_META = "column-aggregator-meta";
+
+  private final AggregateType type;
+  private final Function<? super T, ?> valueProvider;
+  private Function<Number, String> formatter = ColumnAggregator::format;
+
+  private int count;
+  private final RunningAggregate numbers = new RunningAggregate();
+  private final Map<Object, Integer> valueCounts = new HashMap<>();
+  private Number renderedValue;
+
+  private ColumnAggregator(AggregateType type, Function<? super T, ?> valueProvider) {
+    this.type = type;
+    this.valueProvider = valueProvider;
+  }
+
+  /**
+   * @param valueProvider provides the value of a record, {@code null} values are skipped
+   * @return an aggregator summing the values of the records
+   */
+  public static <T> ColumnAggregator<T> sum(Function<? super T, ? extends Number> valueProvider) {
+    return new ColumnAggregator<>(AggregateType.SUM, valueProvider);
+  }
+
+  /** @return an aggregator counting the records */
+  public static <T> ColumnAggregator<T> count() {
+    return new ColumnAggregator<>(AggregateType.COUNT, record -> record);
+  }
+
+  /**
+   * @param valueProvider provides the value of a record
+   * @return an aggregator counting the records with a non {@code null} value
+   */
+  public static <T> ColumnAggregator<T> count(Function<? super T, ?> valueProvider) {
+    return new ColumnAggregator<>(AggregateType.COUNT, valueProvider);
+  }
+
+  /**
+   * @param valueProvider provides the value of a record, {@code null} values are skipped
+   * @return an aggregator averaging the values of the records
+   */
+  public static <T> ColumnAggregator<T> average(
+      Function<? super T, ? extends Number> valueProvider) {
+    return new ColumnAggregator<>(AggregateType.AVERAGE, valueProvider);
+  }
+
+  /**
+   * @param valueProvider provides the value of a record, {@code null} values are skipped
+   * @return an aggregator of the smallest value of the records
+   */
+  public static <T> ColumnAggregator<T> min(Function<? super T, ? extends Number> valueProvider) {
+    return new ColumnAggregator<>(AggregateType.MIN, valueProvider);
+  }
+
+  /**
+   * @param valueProvider provides the value of a record, {@code null} values are skipped
+   * @return an aggregator of the largest value of the records
+   */
+  public static <T> ColumnAggregator<T> max(Function<? super T, ? extends Number> valueProvider) {
+    return new ColumnAggregator<>(AggregateType.MAX, valueProvider);
+  }
+
+  /**
+   * @param valueProvider provides the value of a record, {@code null} values are skipped
+   * @return an aggregator counting the distinct values of the records
+   */
+  public static <T> ColumnAggregator<T> distinctCount(Function<? super T, ?> valueProvider) {
+    return new ColumnAggregator<>(AggregateType.DISTINCT_COUNT, valueProvider);
+  }
+
+  /**
+   * Retrieves the aggregator associated with a given column configuration.
+   *
+   * @param column The {@link ColumnConfig} for which to retrieve the aggregator.
+   * @param <T> The type of data in the DataTable.
+   * @return An {@link Optional} containing the {@code ColumnAggregator} if found, or an empty
+   *     {@code Optional} if not found.
+   */
+  public static <T> Optional<ColumnAggregator<T>> get(ColumnConfig<?> column) {
+    return column.getMeta(COLUMN_AGGREGATOR_META);
+  }
+
+  /** @return the type of this aggregator */
+  public AggregateType getType() {
+    return type;
+  }
+
+  /**
+   * @return the current aggregate, {@code null} for an average, min or max over no values. Counts
+   *     are {@link Integer}s, the other aggregates are {@link Double}s.
+   */
+  public Number getValue() {
+    switch (type) {
+      case COUNT:
+        return count;
+      case SUM:
+        return numbers.getSum();
+      case AVERAGE:
+        return numbers.getAverage();
+      case MIN:
+        return numbers.getMin();
+      case MAX:
+        return numbers.getMax();
+      default:
+        return valueCounts.size();
+    }
+  }
+
+  /** @return the current aggregate formatted for display, empty when there is no aggregate */
+  public String getFormattedValue() {
+    Number value = getValue();
+    return isNull(value) ? "" : formatter.apply(value);
+  }
+
+  /**
+   * Sets the function formatting the aggregate in the summary cells, the default prints whole
+   * numbers without fraction digits and rounds the other numbers to 10 fraction digits.
+   *
+   * @param formatter the aggregate formatter
+   * @return same aggregator instance
+   */
+  public ColumnAggregator<T> setFormatter(Function<Number, String> formatter) {
+    this.formatter = isNull(formatter) ? ColumnAggregator::format : formatter;
+    return this;
+  }
+
+  /**
+   * Extracts the value aggregated for a record, the plugin keeps the extracted values so that a
+   * record mutated in place can still be removed from the aggregate.
+   */
+  Object valueOf(T record) {
+    return isNull(record) ? null : valueProvider.apply(record);
+  }
+
+  void add(Object value) {
+    if (isNull(value)) {
+      return;
+    }
+    if (isNumeric()) {
+      numbers.add(((Number) value).doubleValue());
+    } else {
+      count++;
+      valueCounts.merge(value, 1, Integer::sum);
+    }
+  }
+
+  /** Removes a value from the aggregate, values that were not added are ignored. */
+  void remove(Object value) {
+    if (isNull(value)) {
+      return;
+    }
+    if (isNumeric()) {
+      numbers.remove(((Number) value).doubleValue());
+    } else if (valueCounts.containsKey(value)) {
+      count--;
+      valueCounts.computeIfPresent(value, (key, current) -> current > 1 ? current - 1 : null);
+    }
+  }
+
+  private boolean isNumeric() {
+    return !AggregateType.COUNT.equals(type) && !AggregateType.DISTINCT_COUNT.equals(type);
+  }
+
+  void clear() {
+    count = 0;
+    numbers.clear();
+    valueCounts.clear();
+  }
+
+  /**
+   * Marks the current aggregate as rendered.
+   *
+   * @return {@code true} if the aggregate changed since it was last rendered
+   */
+  boolean markRendered() {
+    Number value = getValue();
+    boolean changed = isNull(value) ? !isNull(renderedValue) : !value.equals(renderedValue);
+    renderedValue = value;
+    return changed;
+  }
+
+  private static String format(Number value) {
+    return NumberFormat.getFormat("0.##########").format(value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getKey() {
+    return COLUMN_AGGREGATOR_META;
+  }
+
+  /** The aggregate computed by a {@link ColumnAggregator}. */
+  public enum AggregateType {
+    SUM,
+    COUNT,
+    AVERAGE,
+    MIN,
+    MAX,
+    DISTINCT_COUNT
+  }
+}
@@ -16,10 +16,13 @@
 
 package org.dominokit.domino.ui.datatable.plugins.summary;
 
+import static java.util.Objects.isNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.dom.HTMLTableCellElement;
 import elemental2.dom.Node;
+import java.util.Optional;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
 
 /**
  * The {@code SummaryCellRenderer} functional interface is used for rendering summary cells in a
@@ -49,6 +52,7 @@ public interface SummaryCellRenderer<T, S> {
   class SummaryCellInfo<T, S> {
     private final SummaryRow<T, S> summaryRow;
     private final HTMLTableCellElement element;
+    private final ColumnConfig<T> columnConfig;
 
     /**
      * Creates a new instance of {@code SummaryCellInfo} with the provided summary row and HTML
@@ -58,8 +62,22 @@ public interface SummaryCellRenderer<T, S> {
      * @param element The HTML table cell element representing the summary cell.
      */
     public SummaryCellInfo(SummaryRow<T, S> summaryRow, HTMLTableCellElement element) {
+      this(summaryRow, element, null);
+    }
+
+    /**
+     * Creates a new instance of {@code SummaryCellInfo} with the provided summary row, HTML table
+     * cell element and the column of the cell.
+     *
+     * @param summaryRow The summary row containing the summary cell.
+     * @param element The HTML table cell element representing the summary cell.
+     * @param columnConfig The column of the summary cell.
+     */
+    public SummaryCellInfo(
+        SummaryRow<T, S> summaryRow, HTMLTableCellElement element, ColumnConfig<T> columnConfig) {
       this.summaryRow = summaryRow;
       this.element = element;
+      this.columnConfig = columnConfig;
     }
 
     /**
@@ -88,5 +106,24 @@ public interface SummaryCellRenderer<T, S> {
     public S getRecord() {
       return summaryRow.getRecord();
     }
+
+    /**
+     * Gets the column of the summary cell.
+     *
+     * @return The column configuration, or {@code null} if the cell info was created without it.
+     */
+    public ColumnConfig<T> getColumnConfig() {
+      return columnConfig;
+    }
+
+    /**
+     * Gets the aggregator of the summary cell column, its current value can be used to render the
+     * cell.
+     *
+     * @return An {@link Optional} containing the column {@link ColumnAggregator} if any.
+     */
+    public Optional<ColumnAggregator<T>> getAggregator() {
+      return isNull(columnConfig) ? Optional.empty() : ColumnAggregator.get(columnConfig);
+    }
   }
 }
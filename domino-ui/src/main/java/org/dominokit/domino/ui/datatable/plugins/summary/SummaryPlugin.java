@@ -17,15 +17,27 @@
 package org.dominokit.domino.ui.datatable.plugins.summary;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.TableRow;
+import org.dominokit.domino.ui.datatable.events.OnBeforeDataChangeEvent;
+import org.dominokit.domino.ui.datatable.events.RowRecordUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.datatable.plugins.HasPluginConfig;
+import org.dominokit.domino.ui.datatable.store.DataChangedEvent;
+import org.dominokit.domino.ui.datatable.store.DataChangedEvent.RecordsChange;
+import org.dominokit.domino.ui.datatable.store.DataStore;
+import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
 import org.dominokit.domino.ui.elements.TFootElement;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 
@@ -42,6 +54,11 @@ import org.dominokit.domino.ui.utils.BaseDominoElement;
  * summaryPlugin.setSummaryRecords(summaryDataList);
  * </code></pre>
  *
+ * <p>Columns with a {@link ColumnAggregator} meta get their aggregate maintained by the plugin, the
+ * aggregates are updated from the granular changes of the data store and from the edited rows, and
+ * only the summary cells of the aggregates that changed are updated. When no summary records are
+ * set a single summary row is rendered for the aggregates.
+ *
  * @param <T> The type of data in the DataTable.
  * @param <S> The type of data in the summary row.
  */
@@ -52,6 +69,15 @@ public class SummaryPlugin<T, S>
   private DataTable<T> dataTable;
   private TFootElement footer;
   private SummaryPluginConfig config = SummaryPluginConfig.of();
+  private final List<String> aggregatedColumns = new ArrayList<>();
+  private final List<ColumnAggregator<T>> aggregators = new ArrayList<>();
+  private final List<Object[]> loadedValues = new ArrayList<>();
+  private final Map<T, Object[]> filteredValues = new IdentityHashMap<>();
+  private boolean filteredAggregated = false;
+  private LocalListDataStore<T> localDataStore;
+  private AggregationScope aggregationScope = AggregationScope.FILTERED;
+  private boolean customSummaryRecords = false;
+  private boolean dataChanging = false;
 
   /**
    * Initializes the SummaryPlugin with the DataTable.
@@ -61,6 +87,22 @@ public class SummaryPlugin<T, S>
   @Override
   public void init(DataTable<T> dataTable) {
     this.dataTable = dataTable;
+    for (ColumnConfig<T> column : dataTable.getTableConfig().getColumns()) {
+      ColumnAggregator.<T>get(column)
+          .ifPresent(
+              aggregator -> {
+                aggregatedColumns.add(column.getName());
+                aggregators.add(aggregator);
+              });
+    }
+    if (!aggregators.isEmpty()) {
+      DataStore<T> dataStore = dataTable.getDataStore();
+      dataStore.onDataChanged(this::onDataChanged);
+      if (dataStore instanceof LocalListDataStore) {
+        localDataStore = (LocalListDataStore<T>) dataStore;
+        localDataStore.onFilteredRecordsChanged(this::onFilteredRecordsChanged);
+      }
+    }
   }
 
   /**
@@ -82,33 +124,272 @@ public class SummaryPlugin<T, S>
    */
   public SummaryPlugin<T, S> setSummaryRecords(Collection<S> records) {
     removeSummaryRecords();
+    this.customSummaryRecords = true;
     if (this.config.isRemoveOnEmptyData() && this.dataTable.getRecords().isEmpty()) {
       return this;
     }
     List<S> recordsList = new ArrayList<>(records);
     for (int i = 0; i < recordsList.size(); i++) {
-      SummaryRow<T, S> summaryRow = new SummaryRow<>(recordsList.get(i), i, this.dataTable);
-      summaryRow.render();
-      footer.appendChild(summaryRow);
-      summaryRows.add(summaryRow);
+      appendSummaryRow(recordsList.get(i), i);
     }
     return this;
   }
 
+  private void appendSummaryRow(S record, int index) {
+    SummaryRow<T, S> summaryRow = new SummaryRow<>(record, index, this.dataTable);
+    summaryRow.render();
+    footer.appendChild(summaryRow);
+    summaryRows.add(summaryRow);
+  }
+
   public void removeSummaryRecords() {
     summaryRows.forEach(BaseDominoElement::remove);
     summaryRows.clear();
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public void handleEvent(TableEvent event) {
     if (TableDataUpdatedEvent.DATA_UPDATED.equals(event.getType())) {
       if (config.isRemoveOnEmptyData() && ((TableDataUpdatedEvent<T>) event).getData().isEmpty()) {
         removeSummaryRecords();
       }
+    } else if (aggregators.isEmpty()) {
+      return;
+    } else if (OnBeforeDataChangeEvent.ON_BEFORE_DATA_CHANGE.equals(event.getType())) {
+      // rows patched while the table applies a store change are aggregated from the store change
+      this.dataChanging = true;
+    } else if (RowRecordUpdatedEvent.RECORD_UPDATED.equals(event.getType()) && !dataChanging) {
+      onRowRecordUpdated(((RowRecordUpdatedEvent<T>) event).getTableRow());
+    }
+  }
+
+  /**
+   * Applies a data store change. In the page scope granular changes are applied to the aggregates
+   * of the changed records only, and a full data change aggregates the loaded records again. In the
+   * filtered scope the aggregates follow the filtered records changes of the store instead, so
+   * changing the page or sorting the records keeps the aggregates.
+   */
+  private void onDataChanged(DataChangedEvent<T> event) {
+    this.dataChanging = false;
+    if (isFilteredScope()) {
+      if (!filteredAggregated) {
+        aggregateFiltered();
+      }
+    } else if (!event.isIncremental() || !applyChanges(event.getChanges())) {
+      if (!event.isAppend()) {
+        loadedValues.clear();
+        aggregators.forEach(ColumnAggregator::clear);
+      }
+      event.getNewData().forEach(this::addLoaded);
+    }
+    updateAggregateCells();
+  }
+
+  /**
+   * Applies the records that left and entered the filtered records of the store to the aggregates,
+   * the values kept for the removed records are removed as the records may have been changed in
+   * place.
+   */
+  private void onFilteredRecordsChanged(List<T> removed, List<T> added) {
+    if (!isFilteredScope() || !filteredAggregated) {
+      return;
+    }
+    for (T record : removed) {
+      Object[] values = filteredValues.remove(record);
+      if (nonNull(values)) {
+        unAggregate(values);
+      }
+    }
+    added.forEach(this::addFiltered);
+    updateAggregateCells();
+  }
+
+  private void aggregateFiltered() {
+    aggregators.forEach(ColumnAggregator::clear);
+    filteredValues.clear();
+    localDataStore.getFilteredRecords().forEach(this::addFiltered);
+    filteredAggregated = true;
+  }
+
+  private void addFiltered(T record) {
+    Object[] values = valuesOf(record);
+    filteredValues.put(record, values);
+    aggregate(values);
+  }
+
+  private void addLoaded(T record) {
+    Object[] values = valuesOf(record);
+    loadedValues.add(values);
+    aggregate(values);
+  }
+
+  /**
+   * Applies the ordered granular changes to the values of the loaded records and the aggregates.
+   *
+   * @return {@code false} without changing anything if the changes do not match the loaded records
+   */
+  private boolean applyChanges(List<RecordsChange<T>> changes) {
+    int size = loadedValues.size();
+    for (RecordsChange<T> change : changes) {
+      boolean inserted = DataChangedEvent.ChangeType.INSERTED.equals(change.getType());
+      if (change.getIndex() < 0 || change.getIndex() + (inserted ? 0 : change.getCount()) > size) {
+        return false;
+      }
+      size += inserted ? change.getCount() : 0;
+      size -= DataChangedEvent.ChangeType.REMOVED.equals(change.getType()) ? change.getCount() : 0;
+    }
+    for (RecordsChange<T> change : changes) {
+      int index = change.getIndex();
+      switch (change.getType()) {
+        case INSERTED:
+          for (int i = 0; i < change.getRecords().size(); i++) {
+            Object[] values = valuesOf(change.getRecords().get(i));
+            loadedValues.add(index + i, values);
+            aggregate(values);
+          }
+          break;
+        case REMOVED:
+          List<Object[]> removed = loadedValues.subList(index, index + change.getCount());
+          removed.forEach(this::unAggregate);
+          removed.clear();
+          break;
+        case UPDATED:
+          for (int i = 0; i < change.getRecords().size(); i++) {
+            replace(index + i, change.getRecords().get(i));
+          }
+          break;
+      }
+    }
+    return true;
+  }
+
+  /** Replaces the aggregated values of an edited row record. */
+  private void onRowRecordUpdated(TableRow<T> tableRow) {
+    if (isFilteredScope()) {
+      Object[] values = filteredValues.get(tableRow.getRecord());
+      if (nonNull(values)) {
+        unAggregate(values);
+        addFiltered(tableRow.getRecord());
+        updateAggregateCells();
+      }
+      return;
+    }
+    int index = tableRow.getIndex();
+    if (tableRow.isRoot() && index >= 0 && index < loadedValues.size()) {
+      replace(index, tableRow.getRecord());
+      updateAggregateCells();
     }
   }
 
+  /**
+   * Replaces the values of a loaded record, the previous values are kept rather than extracted
+   * again because an edited record may have been changed in place.
+   */
+  private void replace(int index, T record) {
+    unAggregate(loadedValues.get(index));
+    Object[] values = valuesOf(record);
+    loadedValues.set(index, values);
+    aggregate(values);
+  }
+
+  private Object[] valuesOf(T record) {
+    Object[] values = new Object[aggregators.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = aggregators.get(i).valueOf(record);
+    }
+    return values;
+  }
+
+  private void aggregate(Object[] values) {
+    for (int i = 0; i < values.length; i++) {
+      aggregators.get(i).add(values[i]);
+    }
+  }
+
+  private void unAggregate(Object[] values) {
+    for (int i = 0; i < values.length; i++) {
+      aggregators.get(i).remove(values[i]);
+    }
+  }
+
+  private boolean isFilteredScope() {
+    return AggregationScope.FILTERED.equals(aggregationScope) && nonNull(localDataStore);
+  }
+
+  /** Updates the summary cells of the columns whose aggregate changed since it was rendered. */
+  private void updateAggregateCells() {
+    if (isNull(footer)) {
+      return;
+    }
+    if (summaryRows.isEmpty()) {
+      if (!customSummaryRecords
+          && !(config.isRemoveOnEmptyData() && dataTable.getRecords().isEmpty())) {
+        appendSummaryRow(null, 0);
+      }
+      aggregators.forEach(ColumnAggregator::markRendered);
+      return;
+    }
+    for (int i = 0; i < aggregators.size(); i++) {
+      if (aggregators.get(i).markRendered()) {
+        String columnName = aggregatedColumns.get(i);
+        for (SummaryRow<T, S> summaryRow : summaryRows) {
+          SummaryRowCell<T, S> cell = summaryRow.getCell(columnName);
+          if (nonNull(cell)) {
+            cell.updateCell();
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Sets the records the column aggregates are computed over, defaults to {@link
+   * AggregationScope#FILTERED}.
+   *
+   * @param aggregationScope the aggregation scope
+   * @return This SummaryPlugin instance.
+   */
+  public SummaryPlugin<T, S> setAggregationScope(AggregationScope aggregationScope) {
+    AggregationScope scope =
+        isNull(aggregationScope) ? AggregationScope.FILTERED : aggregationScope;
+    if (!scope.equals(this.aggregationScope)) {
+      this.aggregationScope = scope;
+      if (nonNull(dataTable) && !aggregators.isEmpty()) {
+        reaggregate();
+      }
+    }
+    return this;
+  }
+
+  /** Aggregates the records of the current aggregation scope again. */
+  private void reaggregate() {
+    filteredValues.clear();
+    filteredAggregated = false;
+    loadedValues.clear();
+    if (isFilteredScope()) {
+      aggregateFiltered();
+    } else {
+      aggregators.forEach(ColumnAggregator::clear);
+      dataTable.getData().forEach(this::addLoaded);
+    }
+    updateAggregateCells();
+  }
+
+  /** @return the records the column aggregates are computed over */
+  public AggregationScope getAggregationScope() {
+    return aggregationScope;
+  }
+
+  /**
+   * @param columnName the column name
+   * @return An {@link Optional} containing the aggregator of the column, if any.
+   */
+  public Optional<ColumnAggregator<T>> getAggregator(String columnName) {
+    int index = aggregatedColumns.indexOf(columnName);
+    return index < 0 ? Optional.empty() : Optional.of(aggregators.get(index));
+  }
+
   /**
    * Sets the configuration for the SummaryPlugin.
    *
@@ -145,4 +426,15 @@ public class SummaryPlugin<T, S>
   public int order() {
     return 10;
   }
+
+  /** The records the column aggregates are computed over. */
+  public enum AggregationScope {
+    /**
+     * All the records matching the current search, regardless of the pagination. Only a {@link
+     * LocalListDataStore} exposes these records, other data stores aggregate the loaded records.
+     */
+    FILTERED,
+    /** The records loaded in the table, like the records of the current page. */
+    PAGE
+  }
 }
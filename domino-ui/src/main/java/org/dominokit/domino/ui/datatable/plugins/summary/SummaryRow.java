@@ -190,7 +190,8 @@ public class SummaryRow<T, S> extends BaseDominoElement<HTMLTableRowElement, Sum
 
     SummaryRowCell<T, S> rowCell =
         new SummaryRowCell<>(
-            new SummaryCellRenderer.SummaryCellInfo<>(this, cellElement.element()), columnConfig);
+            new SummaryCellRenderer.SummaryCellInfo<>(this, cellElement.element(), columnConfig),
+            columnConfig);
     rowCell.updateCell();
     addCell(rowCell);
 
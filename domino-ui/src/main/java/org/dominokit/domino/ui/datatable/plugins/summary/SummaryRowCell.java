@@ -36,7 +36,10 @@ public class SummaryRowCell<T, S> {
 
   private final ColumnConfig<T> columnConfig;
   private final SummaryCellRenderer.SummaryCellInfo<T, S> cellInfo;
-  private SummaryCellRenderer<T, S> defaultCellRenderer = cell -> elements.text();
+  private SummaryCellRenderer<T, S> defaultCellRenderer =
+      cell ->
+          elements.text(
+              cell.getAggregator().map(ColumnAggregator::getFormattedValue).orElse(""));
 
   /**
    * Constructs a new {@code SummaryRowCell} for the given column configuration and summary cell
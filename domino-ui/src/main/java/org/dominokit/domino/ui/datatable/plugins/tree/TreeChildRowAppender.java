@@ -16,7 +16,7 @@
 
 package org.dominokit.domino.ui.datatable.plugins.tree;
 
-import static java.util.Objects.nonNull;
+import static java.util.Objects.isNull;
 
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableConfig;
@@ -42,26 +42,16 @@ public class TreeChildRowAppender<T> implements TableConfig.RowAppender<T> {
   }
 
   /**
-   * Appends a row to the DataTable based on the provided configuration.
+   * Appends a root row to the DataTable. Child rows are not attached here, the {@link
+   * TreeGridPlugin} attaches all the visible rows below a parent row at once when the parent row is
+   * expanded.
    *
    * @param dataTable The DataTable to which the row should be appended.
    * @param tableRow The TableRow to be appended.
    */
   @Override
   public void appendRow(DataTable<T> dataTable, TableRow<T> tableRow) {
-    if (config.isLazy()) {
-      if (nonNull(tableRow.getParent())) {
-        TableRow<T> parentRow = tableRow.getParent();
-        if (parentRow.getChildren().isEmpty()) {
-          dataTable.bodyElement().insertAfter(tableRow, parentRow);
-        } else {
-          TableRow<T> otherNode = parentRow.getChildren().get(parentRow.getChildren().size() - 1);
-          dataTable.bodyElement().insertAfter(tableRow, otherNode);
-        }
-      } else {
-        dataTable.bodyElement().appendChild(tableRow.element());
-      }
-    } else {
+    if (isNull(tableRow.getParent())) {
       dataTable.bodyElement().appendChild(tableRow.element());
     }
   }
@@ -16,13 +16,16 @@
 
 package org.dominokit.domino.ui.datatable.plugins.tree;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
+import elemental2.dom.DocumentFragment;
+import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLTableCellElement;
+import elemental2.dom.Node;
 import java.util.*;
-import java.util.stream.Collectors;
 import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.*;
 import org.dominokit.domino.ui.datatable.events.*;
@@ -68,6 +71,8 @@ public class TreeGridPlugin<T>
 
   public static final String TREE_GRID_EXPAND_COLLAPSE = "plugin-utility-column";
 
+  private static final String TREE_GRID_ROW_EXPANDED = "tree-grid-row-expanded";
+
   public static final int BASE_PADDING = 10;
 
   public static final String ICON_ORDER = "10";
@@ -88,9 +93,13 @@ public class TreeGridPlugin<T>
    * to keep track of the tree state.
    *
    * @param dataTable The DataTable to which this plugin is being added.
+   * @throws IllegalStateException if the table uses virtual scroll.
    */
   @Override
   public void init(DataTable<T> dataTable) {
+    if (dataTable.getTableConfig().isVirtualScroll()) {
+      throw new IllegalStateException("The tree grid plugin does not support virtual scroll.");
+    }
     this.dataTable = dataTable;
     this.dataTable.applyMeta(TreeStateMeta.create());
   }
@@ -107,7 +116,9 @@ public class TreeGridPlugin<T>
   }
 
   /**
-   * Expands a specific row in the DataTable.
+   * Expands a specific row in the DataTable. The child rows are only created the first time their
+   * parent is expanded, and all the visible rows below the expanded row are attached to the table
+   * body in a single pass.
    *
    * @param row The TableRow to expand.
    * @param recursive Whether to recursively expand child rows.
@@ -115,61 +126,96 @@ public class TreeGridPlugin<T>
   public void expandRow(TableRow<T> row, boolean recursive) {
     this.dataTable.fireTableEvent(new TreeRowOnBeforeExpandEvent<>(row));
     if (config.isLazy()) {
-      TreeGridRowSubItemsMeta.get(row)
-          .ifPresent(
-              meta -> {
-                meta.getRecords(
-                    row,
-                    items -> {
-                      if (hasChildren(items)) {
-                        if (nonNull(config.getParentRowCellsSupplier())) {
-                          row.applyMeta(RowRendererMeta.of(new TreeGridRowRenderer<>(this)));
-                          row.clearElement();
-                          row.render();
-                          applyIndent(row);
-                        }
-                        addRowChildren(row);
-                        expand(row, recursive);
-                        if (row.isRoot()) {
-                          increment();
-                        }
-                      } else {
-                        row.removeMeta(RowRendererMeta.TABLE_ROW_RENDERER_META);
-                        row.clearElement();
-                        row.render();
-                        applyIndent(row);
-                      }
-                      TreeStateMeta.get(this.dataTable)
-                          .ifPresent(
-                              treeStateMeta -> {
-                                treeStateMeta.onRowExpanded(row);
-                              });
-                      this.dataTable.fireTableEvent(new TreeRowExpandedEvent<>(row));
-                    });
-              });
+      expandLazy(
+          row,
+          recursive,
+          () -> {
+            renderVisibleRows(row);
+            onRowExpanded(row);
+          });
     } else {
-      expand(row, recursive);
-      if (row.isRoot()) {
-        increment();
+      loadRowChildren(row);
+      if (recursive) {
+        expandDescendants(row);
       }
+      expand(row);
       this.dataTable.fireTableEvent(new TreeRowExpandedEvent<>(row));
     }
   }
 
   /**
-   * Handles the event when a new row is added to the DataTable. If the TreeGridPlugin is not
-   * configured as lazy, it adds the children of the row to the table. If the added row was
-   * previously expanded, it ensures that the child rows are visible as well.
+   * Loads the children of a row from a lazy store and marks the row as expanded without attaching
+   * its children. With a recursive expand the loaded children are expanded the same way, so the
+   * caller can attach the whole loaded subtree once it is notified.
+   *
+   * @param row The TableRow to expand.
+   * @param recursive Whether to recursively expand child rows.
+   * @param onSubtreeLoaded Called once the row, and its descendants for a recursive expand, are
+   *     loaded.
+   */
+  private void expandLazy(TableRow<T> row, boolean recursive, Runnable onSubtreeLoaded) {
+    Optional<TreeGridRowSubItemsMeta<T>> subItemsMeta = TreeGridRowSubItemsMeta.get(row);
+    if (!subItemsMeta.isPresent()) {
+      onSubtreeLoaded.run();
+      return;
+    }
+    subItemsMeta
+        .get()
+        .getRecords(
+            row,
+            items -> {
+              if (hasChildren(items)) {
+                if (nonNull(config.getParentRowCellsSupplier())) {
+                  row.applyMeta(RowRendererMeta.of(new TreeGridRowRenderer<>(this)));
+                  row.clearElement();
+                  row.render();
+                  applyIndent(row);
+                }
+                addRowChildren(row, items.get());
+                markExpanded(row);
+              } else {
+                row.removeMeta(RowRendererMeta.TABLE_ROW_RENDERER_META);
+                row.clearElement();
+                row.render();
+                applyIndent(row);
+              }
+              List<TableRow<T>> children =
+                  recursive ? new ArrayList<>(row.getChildren()) : Collections.emptyList();
+              if (children.isEmpty()) {
+                onSubtreeLoaded.run();
+                return;
+              }
+              int[] pending = {children.size()};
+              for (TableRow<T> child : children) {
+                this.dataTable.fireTableEvent(new TreeRowOnBeforeExpandEvent<>(child));
+                expandLazy(
+                    child,
+                    true,
+                    () -> {
+                      onRowExpanded(child);
+                      if (--pending[0] == 0) {
+                        onSubtreeLoaded.run();
+                      }
+                    });
+              }
+            });
+  }
+
+  private void onRowExpanded(TableRow<T> row) {
+    TreeStateMeta.get(this.dataTable).ifPresent(treeStateMeta -> treeStateMeta.onRowExpanded(row));
+    this.dataTable.fireTableEvent(new TreeRowExpandedEvent<>(row));
+  }
+
+  /**
+   * Handles the event when a new row is added to the DataTable. The children of the row are not
+   * created here, they are created when the row is expanded. If the added row was previously
+   * expanded, it is expanded again.
    *
    * @param dataTable The DataTable to which the row is added.
    * @param tableRow The TableRow that was added.
    */
   @Override
   public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
-    if (!config.isLazy()) {
-      addRowChildren(tableRow);
-    }
-
     TreeStateMeta.get(this.dataTable)
         .ifPresent(
             treeStateMeta -> {
@@ -192,62 +238,85 @@ public class TreeGridPlugin<T>
   }
 
   /**
-   * Adds child rows to the given parent TableRow based on the TreeGridRowSubItemsMeta information.
-   * If the parent row already has children, the new child rows are added after the existing ones.
+   * Creates the child rows of a row from the records of a non lazy store, the rows are only created
+   * once and kept while the row is collapsed.
+   *
+   * @param tableRow The parent TableRow.
+   */
+  private void loadRowChildren(TableRow<T> tableRow) {
+    if (tableRow.getChildren().isEmpty()) {
+      TreeGridRowSubItemsMeta.get(tableRow)
+          .ifPresent(
+              meta ->
+                  meta.getRecords(
+                      tableRow,
+                      items -> items.ifPresent(records -> addRowChildren(tableRow, records))));
+    }
+  }
+
+  /**
+   * Creates the child rows of the given parent TableRow. The child rows are rendered but not
+   * attached to the table body, they are attached by {@link #renderVisibleRows(TableRow)} when
+   * their parent is expanded. Nothing is created if the parent row already has children.
    *
    * @param tableRow The parent TableRow to which child rows are added.
+   * @param items The records of the child rows.
    */
-  private void addRowChildren(TableRow<T> tableRow) {
-    TreeGridRowSubItemsMeta.get(tableRow)
-        .ifPresent(
-            meta -> {
-              meta.getRecords(
-                  tableRow,
-                  rowItems -> {
-                    rowItems.ifPresent(
-                        items -> {
-                          if (tableRow.getChildren().isEmpty()) {
-                            List<T> records = new ArrayList<>(items);
-                            for (int i = 0; i < records.size(); i++) {
-                              TableRow<T> subRow = new TableRow<>(records.get(i), i, dataTable);
-                              subRow.hide();
-                              TreeGridRowLevel treeGridRowLevel =
-                                  tableRow
-                                      .getMeta(TREE_GRID_ROW_LEVEL)
-                                      .map(o -> (TreeGridRowLevel) o)
-                                      .orElse(new TreeGridRowLevel(1));
-                              tableRow.applyMeta(treeGridRowLevel);
-                              subRow.applyMeta(new TreeGridRowLevel(treeGridRowLevel.level + 1));
-                              subRow.setParent(tableRow);
-                              subRow.applyMeta(
-                                  RowAppenderMeta.of(new TreeChildRowAppender<>(config)));
-                              dataTable
-                                  .getTableConfig()
-                                  .getPlugins()
-                                  .forEach(plugin -> plugin.onBeforeAddRow(dataTable, subRow));
-
-                              dataTable.getTableConfig().drawRecord(dataTable, subRow);
-                              dataTable.getRows().add(subRow);
-                              tableRow.getChildren().add(subRow);
-                              applyIndent(subRow);
-                            }
-                          } else {
-                            Map<T, TableRow<T>> rowsMap =
-                                tableRow.getChildren().stream()
-                                    .collect(Collectors.toMap(TableRow::getRecord, row -> row));
-                            List<T> records = new ArrayList<>(items);
-                            records.forEach(
-                                record -> {
-                                  TableRow<T> nodeRow = rowsMap.get(record);
-
-                                  TableRow<T> otherNode =
-                                      tableRow.getChildren().get(tableRow.getChildren().size() - 1);
-                                  dataTable.bodyElement().insertAfter(nodeRow, otherNode);
-                                });
-                          }
-                        });
-                  });
-            });
+  private void addRowChildren(TableRow<T> tableRow, Collection<T> items) {
+    if (!tableRow.getChildren().isEmpty()) {
+      return;
+    }
+    TreeGridRowLevel treeGridRowLevel =
+        tableRow
+            .getMeta(TREE_GRID_ROW_LEVEL)
+            .map(o -> (TreeGridRowLevel) o)
+            .orElse(new TreeGridRowLevel(1));
+    tableRow.applyMeta(treeGridRowLevel);
+    List<T> records = new ArrayList<>(items);
+    for (int i = 0; i < records.size(); i++) {
+      TableRow<T> subRow = new TableRow<>(records.get(i), i, dataTable);
+      subRow.applyMeta(new TreeGridRowLevel(treeGridRowLevel.level + 1));
+      subRow.setParent(tableRow);
+      subRow.applyMeta(RowAppenderMeta.of(new TreeChildRowAppender<>(config)));
+      dataTable
+          .getTableConfig()
+          .getPlugins()
+          .forEach(plugin -> plugin.onBeforeAddRow(dataTable, subRow));
+
+      dataTable.getTableConfig().drawRecord(dataTable, subRow);
+      dataTable.getRows().add(subRow);
+      tableRow.getChildren().add(subRow);
+      applyIndent(subRow);
+    }
+  }
+
+  /**
+   * Attaches the visible rows below a row to the table body, the visible rows are the children of
+   * the row and, recursively, the children of the expanded ones. The rows are collected in order
+   * into a document fragment and inserted after the row at once, moving the rows that are already
+   * attached. Nothing is attached while the row itself is not attached.
+   *
+   * @param row The expanded TableRow.
+   */
+  private void renderVisibleRows(TableRow<T> row) {
+    Node parentNode = row.element().parentNode;
+    if (isNull(parentNode)) {
+      return;
+    }
+    List<TableRow<T>> visibleRows = new ArrayList<>();
+    collectVisibleRows(row, visibleRows);
+    DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+    visibleRows.forEach(visibleRow -> fragment.appendChild(visibleRow.element()));
+    parentNode.insertBefore(fragment, row.element().nextSibling);
+  }
+
+  private void collectVisibleRows(TableRow<T> row, List<TableRow<T>> visibleRows) {
+    for (TableRow<T> child : row.getChildren()) {
+      visibleRows.add(child);
+      if (isExpanded(child)) {
+        collectVisibleRows(child, visibleRows);
+      }
+    }
   }
 
   /**
@@ -291,14 +360,15 @@ public class TreeGridPlugin<T>
   }
 
   /**
-   * Expands all rows in the DataTable. If "recursive" is set to true, child rows will also be
-   * expanded.
+   * Expands all the root rows in the DataTable. If "recursive" is set to true, child rows will also
+   * be expanded, with a non lazy store the whole tree is expanded first and then each root row
+   * attaches its visible rows in a single pass.
    *
    * @param recursive If true, child rows will also be expanded; otherwise, only the parent rows are
    *     expanded.
    */
   public void expandAllRows(boolean recursive) {
-    dataTable.getRows().forEach(tableRow -> expandRow(tableRow, recursive));
+    dataTable.getRootRows().forEach(tableRow -> expandRow(tableRow, recursive));
   }
 
   /**
@@ -310,28 +380,44 @@ public class TreeGridPlugin<T>
     collapse(row);
   }
 
-  /** Collapses all rows in the DataTable, hiding child rows if any. */
+  /** Collapses all the expanded root rows in the DataTable, hiding child rows if any. */
   public void collapseAllRows() {
-    dataTable.getRows().forEach(this::collapseRow);
+    dataTable.getRootRows().stream().filter(this::isExpanded).forEach(this::collapse);
   }
 
   /**
-   * Expands a specific TableRow, making it visible, and optionally expanding its child rows
-   * recursively.
+   * Expands the descendants of a row without attaching them, the child rows are created as needed.
+   * The caller attaches the visible rows once the whole subtree is expanded.
    *
-   * @param row The TableRow to expand.
-   * @param recursive If true, child rows are expanded recursively; otherwise, only the direct child
-   *     rows are expanded.
+   * @param row The TableRow whose descendants are expanded.
    */
-  private void expand(TableRow<T> row, boolean recursive) {
-    showRow(row);
+  private void expandDescendants(TableRow<T> row) {
     for (TableRow<T> child : row.getChildren()) {
-      showRow(child);
-      if (recursive) {
-        expandRow(child, recursive);
-      }
+      this.dataTable.fireTableEvent(new TreeRowOnBeforeExpandEvent<>(child));
+      loadRowChildren(child);
+      expandDescendants(child);
+      markExpanded(child);
+      this.dataTable.fireTableEvent(new TreeRowExpandedEvent<>(child));
     }
+  }
 
+  /**
+   * Marks a TableRow as expanded and attaches its visible child rows.
+   *
+   * @param row The TableRow to expand.
+   */
+  private void expand(TableRow<T> row) {
+    markExpanded(row);
+    renderVisibleRows(row);
+  }
+
+  private void markExpanded(TableRow<T> row) {
+    if (!isExpanded(row)) {
+      row.applyMeta(new TreeGridRowExpanded());
+      if (row.isRoot()) {
+        increment();
+      }
+    }
     Optional<TreeGridRowToggleIcon> iconMeta = row.getMeta(TREE_GRID_ROW_TOGGLE_ICON);
     iconMeta.ifPresent(
         meta -> {
@@ -344,21 +430,25 @@ public class TreeGridPlugin<T>
         });
   }
 
-  /**
-   * Makes a TableRow visible by displaying it in the DataTable.
-   *
-   * @param row The TableRow to show.
-   */
-  private void showRow(TableRow<T> row) {
-    row.show();
+  private boolean isExpanded(TableRow<T> row) {
+    return row.getMeta(TREE_GRID_ROW_EXPANDED).isPresent();
   }
 
   /**
-   * Collapses a specific TableRow, hiding it, and optionally collapsing its child rows recursively.
+   * Collapses a specific TableRow, detaching its child rows and collapsing them recursively. With a
+   * lazy store the child rows are removed and loaded again on the next expand.
    *
    * @param row The TableRow to collapse.
    */
   private void collapse(TableRow<T> row) {
+    Set<TableRow<T>> removedRows = new HashSet<>();
+    collapse(row, removedRows);
+    if (!removedRows.isEmpty()) {
+      dataTable.getRows().removeAll(removedRows);
+    }
+  }
+
+  private void collapse(TableRow<T> row, Set<TableRow<T>> removedRows) {
     this.dataTable.fireTableEvent(new TreeRowOnBeforeCollapseEvent<>(row));
     Optional<TreeGridRowToggleIcon> iconMeta = row.getMeta(TREE_GRID_ROW_TOGGLE_ICON);
     iconMeta.ifPresent(
@@ -374,16 +464,20 @@ public class TreeGridPlugin<T>
     for (TableRow<T> child : row.getChildren()) {
       if (config.isLazy()) {
         child.remove();
+        removedRows.add(child);
       } else {
-        child.hide();
+        child.element().remove();
       }
-      collapse(child);
+      collapse(child, removedRows);
     }
     if (config.isLazy()) {
       row.getChildren().clear();
     }
-    if (row.isRoot()) {
-      decrement();
+    if (isExpanded(row)) {
+      row.removeMeta(TREE_GRID_ROW_EXPANDED);
+      if (row.isRoot()) {
+        decrement();
+      }
     }
     TreeStateMeta.get(this.dataTable).ifPresent(treeStateMeta -> treeStateMeta.onRowCollapsed(row));
     this.dataTable.fireTableEvent(new TreeRowCollapsedEvent<>(row));
@@ -644,6 +738,14 @@ public class TreeGridPlugin<T>
     }
   }
 
+  /** Inner class marking a tree grid row as expanded. */
+  private static class TreeGridRowExpanded implements ComponentMeta {
+    @Override
+    public String getKey() {
+      return TREE_GRID_ROW_EXPANDED;
+    }
+  }
+
   /** Inner class representing the toggle icon for a tree grid row. */
   private static class TreeGridRowToggleIcon implements ComponentMeta {
     private final Icon<?> icon;
@@ -17,8 +17,10 @@
 package org.dominokit.domino.ui.datatable.plugins.tree;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.utils.ComponentMeta;
@@ -52,11 +54,11 @@ public class TreeStateMeta<T> implements ComponentMeta {
   /** The key used to access this metadata. */
   public static final String TREE_STATE_TABLE_META = "tree-state-table-meta";
 
-  /** The list of expanded records. */
-  private List<T> expandedRecords = new ArrayList<>();
+  /** The set of expanded records. */
+  private Set<T> expandedRecords = new LinkedHashSet<>();
 
-  /** A temporary list of expanded records. */
-  private List<T> tempExpandedRecords = new ArrayList<>();
+  /** A temporary set of expanded records. */
+  private Set<T> tempExpandedRecords = new LinkedHashSet<>();
 
   /**
    * Creates a new instance of <code>TreeStateMeta</code>.
@@ -110,9 +112,8 @@ public class TreeStateMeta<T> implements ComponentMeta {
 
   /** Marks all rows as added after all rows have been added. */
   public void onAllRowsAdded() {
-    this.expandedRecords.clear();
-    this.expandedRecords.addAll(tempExpandedRecords);
-    this.tempExpandedRecords.clear();
+    this.expandedRecords = tempExpandedRecords;
+    this.tempExpandedRecords = new LinkedHashSet<>();
   }
 
   /**
@@ -130,7 +131,7 @@ public class TreeStateMeta<T> implements ComponentMeta {
    * @return A list of expanded records.
    */
   public List<T> getExpandedRecords() {
-    return expandedRecords;
+    return new ArrayList<>(expandedRecords);
   }
 
   /** {@inheritDoc} */
@@ -104,11 +104,13 @@ public class LocalTreeDataStore<T> extends LocalListDataStore<T> implements Tree
   @Override
   public void onSearchChanged(SearchEvent event) {
     if (nonNull(getSearchFilter())) {
+      List<T> previous = filtered;
       setLastSearch(event);
       filtered =
           original.stream()
               .filter(record -> getSearchFilter().filterRecord(event, record))
               .collect(Collectors.toList());
+      fireFilteredChanges(previous);
       if (nonNull(getLastSort())) {
         sort(getLastSort());
       }
@@ -23,6 +23,7 @@ import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
 import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
 import org.dominokit.domino.ui.datatable.store.RecordsSorter;
 import org.dominokit.domino.ui.datatable.store.SearchFilter;
+import org.dominokit.domino.ui.datatable.store.SortKeyProvider;
 import org.dominokit.domino.ui.pagination.HasPagination;
 
 /**
@@ -75,6 +76,12 @@ public class SubItemsStore<T> extends LocalListDataStore<T> {
     return parent.getRecordsSorter();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public SortKeyProvider<T> getSortKeyProvider() {
+    return parent.getSortKeyProvider();
+  }
+
   /** {@inheritDoc} */
   @Override
   public SortFunction<T> getSortFunction() {
@@ -0,0 +1,420 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.model.Category;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.model.FilterTypes;
+import org.dominokit.domino.ui.datatable.model.Operator;
+
+/**
+ * A built-in {@link SearchFilter} that evaluates the {@link Filter}s of a search event against the
+ * values extracted from the records by a value extractor registered for each filter field.
+ *
+ * <p>The filters of a search event are compiled once into typed predicates based on their {@link
+ * FilterTypes} and {@link Operator}, the filter values are parsed once and each record is then
+ * only tested against the compiled predicates. A filter with the {@link #ALL_FIELDS} field name,
+ * like the one added by the table search box, matches a record if any registered field matches.
+ *
+ * <p>The filter is also a {@link RefinableSearchFilter}, so when a search only narrows the previous
+ * one, for example typing more characters in a text header filter or tightening a range, the data
+ * store filters the previous results instead of all the records.
+ *
+ * <p>Filters for fields without a registered value extractor, filters with empty values and
+ * operators that cannot be evaluated per record, like {@code isInTop}, do not filter out any
+ * record.
+ *
+ * <pre>
+ * LocalListDataStore&lt;Person&gt; store = new LocalListDataStore&lt;&gt;();
+ * store.setSearchFilter(
+ *     CompiledSearchFilter.&lt;Person&gt;create()
+ *         .withField("name", Person::getName)
+ *         .withField("age", Person::getAge));
+ * </pre>
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+public class CompiledSearchFilter<T> implements RefinableSearchFilter<T> {
+
+  /** The field name of filters that search in all the registered fields. */
+  public static final String ALL_FIELDS = "*";
+
+  private final Map<String, Function<? super T, ?>> valueExtractors = new LinkedHashMap<>();
+  private SearchEvent compiledEvent;
+  private List<CompiledFilter<T>> compiledFilters = new ArrayList<>();
+
+  /**
+   * Creates a new instance without any registered field.
+   *
+   * @param <T> The type of data representing the records in the data table.
+   * @return a new instance.
+   */
+  public static <T> CompiledSearchFilter<T> create() {
+    return new CompiledSearchFilter<>();
+  }
+
+  /**
+   * Registers the value extractor of a filter field, the field name must match the filter key of
+   * the column, the extracted values are expected to match the filter type of the field, for
+   * example a {@link Number} for numeric filters or a {@link Date} for date and time filters.
+   *
+   * @param fieldName The filter field name.
+   * @param valueExtractor The function extracting the field value from a record.
+   * @return This filter instance.
+   */
+  public CompiledSearchFilter<T> withField(
+      String fieldName, Function<? super T, ?> valueExtractor) {
+    valueExtractors.put(fieldName, valueExtractor);
+    compiledEvent = null;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean filterRecord(SearchEvent event, T record) {
+    for (CompiledFilter<T> filter : compile(event)) {
+      if (!filter.matcher.test(record)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isNarrowing(SearchEvent previous, SearchEvent next) {
+    List<CompiledFilter<T>> nextFilters = compile(next);
+    for (CompiledFilter<T> previousFilter : compileFilters(previous)) {
+      boolean narrowed = false;
+      for (CompiledFilter<T> nextFilter : nextFilters) {
+        if (nextFilter.narrows(previousFilter)) {
+          narrowed = true;
+          break;
+        }
+      }
+      if (!narrowed) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private List<CompiledFilter<T>> compile(SearchEvent event) {
+    if (event != compiledEvent) {
+      compiledFilters = compileFilters(event);
+      compiledEvent = event;
+    }
+    return compiledFilters;
+  }
+
+  private List<CompiledFilter<T>> compileFilters(SearchEvent event) {
+    List<CompiledFilter<T>> filters = new ArrayList<>();
+    for (Filter filter : event.getFilters()) {
+      CompiledFilter<T> compiledFilter = compile(filter);
+      if (nonNull(compiledFilter)) {
+        filters.add(compiledFilter);
+      }
+    }
+    return filters;
+  }
+
+  private CompiledFilter<T> compile(Filter filter) {
+    if (isNull(filter.getFieldName())) {
+      return null;
+    }
+    CompiledFilter<T> compiled = new CompiledFilter<>(filter);
+    Predicate<Object> valueMatcher;
+    if (Operator.is_Null.equals(compiled.operator)) {
+      valueMatcher = value -> isNull(value);
+    } else if (Operator.isNotNull.equals(compiled.operator)) {
+      valueMatcher = value -> nonNull(value);
+    } else if (compiled.values.isEmpty() || isBlank(compiled.values.get(0))) {
+      return null;
+    } else {
+      valueMatcher = compileValueMatcher(compiled);
+    }
+    if (isNull(valueMatcher)) {
+      return null;
+    }
+
+    if (ALL_FIELDS.equals(compiled.fieldName)) {
+      List<Function<? super T, ?>> extractors = new ArrayList<>(valueExtractors.values());
+      compiled.matcher =
+          record -> {
+            for (Function<? super T, ?> extractor : extractors) {
+              if (valueMatcher.test(extractor.apply(record))) {
+                return true;
+              }
+            }
+            return extractors.isEmpty();
+          };
+    } else {
+      Function<? super T, ?> extractor = valueExtractors.get(compiled.fieldName);
+      if (isNull(extractor)) {
+        return null;
+      }
+      compiled.matcher = record -> valueMatcher.test(extractor.apply(record));
+    }
+    return compiled;
+  }
+
+  private Predicate<Object> compileValueMatcher(CompiledFilter<T> filter) {
+    try {
+      switch (filter.type) {
+        case INTEGER:
+        case LONG:
+        case SHORT:
+        case DOUBLE:
+        case FLOAT:
+        case DECIMAL:
+          filter.bounds = parseBounds(filter.values, Double::parseDouble);
+          return comparisonMatcher(filter, CompiledSearchFilter::numberKey);
+        case DATE:
+          filter.bounds =
+              parseBounds(filter.values, value -> dayKey(new Date(parseMillis(value))));
+          return comparisonMatcher(filter, value -> dateKey(value, CompiledSearchFilter::dayKey));
+        case TIME:
+          filter.bounds =
+              parseBounds(filter.values, value -> minuteKey(new Date(parseMillis(value))));
+          return comparisonMatcher(
+              filter, value -> dateKey(value, CompiledSearchFilter::minuteKey));
+        case BOOLEAN:
+          return equalityMatcher(
+              filter.operator,
+              Collections.singletonList(filter.values.get(0).toLowerCase()),
+              true);
+        case ENUM:
+          return equalityMatcher(filter.operator, filter.values, false);
+        case STRING:
+        default:
+          return textMatcher(filter);
+      }
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Predicate<Object> textMatcher(CompiledFilter<?> filter) {
+    String query = filter.values.get(0).toLowerCase();
+    Operator operator = filter.operator;
+    if (Operator.like.equals(operator) || Operator.isContains.equals(operator)) {
+      return value -> nonNull(value) && text(value).contains(query);
+    } else if (Operator.notLike.equals(operator) || Operator.notContains.equals(operator)) {
+      return value -> isNull(value) || !text(value).contains(query);
+    } else if (Operator.isEqualTo.equals(operator)) {
+      return value -> nonNull(value) && text(value).equals(query);
+    } else if (Operator.notEquals.equals(operator)) {
+      return value -> isNull(value) || !text(value).equals(query);
+    } else if (Operator.startsWith.equals(operator)) {
+      return value -> nonNull(value) && text(value).startsWith(query);
+    } else if (Operator.endsWith.equals(operator)) {
+      return value -> nonNull(value) && text(value).endsWith(query);
+    } else if (Operator.containsAny.equals(operator) || Operator.containsAll.equals(operator)) {
+      boolean all = Operator.containsAll.equals(operator);
+      List<String> queries = new ArrayList<>();
+      filter.values.forEach(item -> queries.add(item.toLowerCase()));
+      return value -> {
+        if (isNull(value)) {
+          return false;
+        }
+        String text = text(value);
+        for (String item : queries) {
+          if (text.contains(item) != all) {
+            return !all;
+          }
+        }
+        return all;
+      };
+    }
+    return null;
+  }
+
+  private static Predicate<Object> equalityMatcher(
+      Operator operator, List<String> values, boolean ignoreCase) {
+    Function<Object, String> text =
+        ignoreCase ? CompiledSearchFilter::text : value -> String.valueOf(value);
+    if (Operator.like.equals(operator)
+        || Operator.isEqualTo.equals(operator)
+        || Operator.containsAny.equals(operator)) {
+      return value -> nonNull(value) && values.contains(text.apply(value));
+    } else if (Operator.notEquals.equals(operator) || Operator.notLike.equals(operator)) {
+      return value -> isNull(value) || !values.contains(text.apply(value));
+    }
+    return null;
+  }
+
+  private static Predicate<Object> comparisonMatcher(
+      CompiledFilter<?> filter, ToDoubleFunction<Object> keyFunction) {
+    double[] bounds = filter.bounds;
+    double first = bounds[0];
+    Operator operator = filter.operator;
+    if (Operator.like.equals(operator) || Operator.isEqualTo.equals(operator)) {
+      return value -> keyFunction.applyAsDouble(value) == first;
+    } else if (Operator.notEquals.equals(operator)) {
+      return value -> keyFunction.applyAsDouble(value) != first;
+    } else if (Operator.lessThan.equals(operator)) {
+      return value -> keyFunction.applyAsDouble(value) < first;
+    } else if (Operator.lessThanOrEquals.equals(operator)) {
+      return value -> keyFunction.applyAsDouble(value) <= first;
+    } else if (Operator.greaterThan.equals(operator)) {
+      return value -> keyFunction.applyAsDouble(value) > first;
+    } else if (Operator.greaterThanOrEquals.equals(operator)) {
+      return value -> keyFunction.applyAsDouble(value) >= first;
+    } else if (Operator.between.equals(operator) && bounds.length > 1) {
+      double last = bounds[1];
+      return value -> {
+        double key = keyFunction.applyAsDouble(value);
+        return key >= first && key <= last;
+      };
+    }
+    return null;
+  }
+
+  private static double[] parseBounds(List<String> values, ToDoubleFunction<String> parser) {
+    double[] bounds = new double[Math.min(values.size(), 2)];
+    for (int i = 0; i < bounds.length; i++) {
+      bounds[i] = parser.applyAsDouble(values.get(i).trim());
+    }
+    return bounds;
+  }
+
+  private static long parseMillis(String value) {
+    return (long) Double.parseDouble(value);
+  }
+
+  private static double numberKey(Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    if (nonNull(value)) {
+      try {
+        return Double.parseDouble(String.valueOf(value));
+      } catch (NumberFormatException e) {
+        return Double.NaN;
+      }
+    }
+    return Double.NaN;
+  }
+
+  private static double dateKey(Object value, ToDoubleFunction<Date> keyFunction) {
+    if (value instanceof Date) {
+      return keyFunction.applyAsDouble((Date) value);
+    }
+    if (value instanceof Number) {
+      return keyFunction.applyAsDouble(new Date(((Number) value).longValue()));
+    }
+    return Double.NaN;
+  }
+
+  @SuppressWarnings("deprecation")
+  private static double dayKey(Date date) {
+    return (date.getYear() * 10000d) + (date.getMonth() * 100d) + date.getDate();
+  }
+
+  @SuppressWarnings("deprecation")
+  private static double minuteKey(Date date) {
+    return (date.getHours() * 60d) + date.getMinutes();
+  }
+
+  private static String text(Object value) {
+    return String.valueOf(value).toLowerCase();
+  }
+
+  private static boolean isBlank(String value) {
+    return isNull(value) || value.trim().isEmpty();
+  }
+
+  /**
+   * A filter compiled into a record predicate, holding a snapshot of the filter definition so that
+   * it can be compared with the filters of later searches.
+   */
+  private static class CompiledFilter<T> {
+    private final String fieldName;
+    private final Category category;
+    private final FilterTypes type;
+    private final Operator operator;
+    private final List<String> values;
+    private double[] bounds;
+    private Predicate<T> matcher;
+
+    private CompiledFilter(Filter filter) {
+      this.fieldName = filter.getFieldName();
+      this.category = filter.getCategory();
+      this.type = isNull(filter.getType()) ? FilterTypes.STRING : filter.getType();
+      this.operator = isNull(filter.getOperator()) ? Operator.like : filter.getOperator();
+      this.values =
+          isNull(filter.getValues()) ? new ArrayList<>() : new ArrayList<>(filter.getValues());
+    }
+
+    /**
+     * Checks if every record matching this filter also matches the previous filter.
+     *
+     * @param previous the filter of the previous search.
+     * @return true if this filter narrows the previous filter.
+     */
+    private boolean narrows(CompiledFilter<T> previous) {
+      if (!fieldName.equals(previous.fieldName)
+          || category != previous.category
+          || type != previous.type
+          || !operator.equals(previous.operator)) {
+        return false;
+      }
+      if (values.equals(previous.values)) {
+        return true;
+      }
+      if (nonNull(bounds) && nonNull(previous.bounds)) {
+        if (Operator.greaterThan.equals(operator)
+            || Operator.greaterThanOrEquals.equals(operator)) {
+          return bounds[0] >= previous.bounds[0];
+        } else if (Operator.lessThan.equals(operator)
+            || Operator.lessThanOrEquals.equals(operator)) {
+          return bounds[0] <= previous.bounds[0];
+        } else if (Operator.between.equals(operator)
+            && bounds.length > 1
+            && previous.bounds.length > 1) {
+          return bounds[0] >= previous.bounds[0] && bounds[1] <= previous.bounds[1];
+        }
+        return false;
+      }
+      if (FilterTypes.STRING.equals(type) && !values.isEmpty() && !previous.values.isEmpty()) {
+        String query = values.get(0).toLowerCase();
+        String previousQuery = previous.values.get(0).toLowerCase();
+        if (Operator.like.equals(operator) || Operator.isContains.equals(operator)) {
+          return query.contains(previousQuery);
+        } else if (Operator.startsWith.equals(operator)) {
+          return query.startsWith(previousQuery);
+        } else if (Operator.endsWith.equals(operator)) {
+          return query.endsWith(previousQuery);
+        }
+      }
+      return false;
+    }
+  }
+}
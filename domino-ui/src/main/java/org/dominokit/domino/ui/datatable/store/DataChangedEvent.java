@@ -16,6 +16,8 @@
 
 package org.dominokit.domino.ui.datatable.store;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
@@ -32,6 +34,7 @@ public class DataChangedEvent<T> {
   private final int totalCount;
   private final Optional<SortDirection> sortDir;
   private final Optional<String> sortColumn;
+  private final List<RecordsChange<T>> changes;
 
   /**
    * Constructs a new {@code DataChangedEvent} with the provided data and total count.
@@ -45,6 +48,7 @@ public class DataChangedEvent<T> {
     this.append = false;
     this.sortDir = Optional.empty();
     this.sortColumn = Optional.empty();
+    this.changes = Collections.emptyList();
   }
 
   /**
@@ -63,6 +67,7 @@ public class DataChangedEvent<T> {
     this.append = false;
     this.sortDir = Optional.of(sortDirection);
     this.sortColumn = Optional.of(sortColumn);
+    this.changes = Collections.emptyList();
   }
 
   /**
@@ -79,6 +84,7 @@ public class DataChangedEvent<T> {
     this.totalCount = totalCount;
     this.sortDir = Optional.empty();
     this.sortColumn = Optional.empty();
+    this.changes = Collections.emptyList();
   }
 
   /**
@@ -103,6 +109,26 @@ public class DataChangedEvent<T> {
     this.totalCount = totalCount;
     this.sortDir = Optional.of(sortDirection);
     this.sortColumn = Optional.of(sortColumn);
+    this.changes = Collections.emptyList();
+  }
+
+  /**
+   * Constructs a new incremental {@code DataChangedEvent}, the changes describe how the previously
+   * loaded records were turned into the new records so that a listener can patch only the affected
+   * records instead of reloading all of them.
+   *
+   * @param newData The list of new data records after applying the changes.
+   * @param totalCount The total count of records.
+   * @param changes The ordered list of changes, each change index is relative to the records list
+   *     after applying the changes that precede it.
+   */
+  public DataChangedEvent(List<T> newData, int totalCount, List<RecordsChange<T>> changes) {
+    this.newData = newData;
+    this.totalCount = totalCount;
+    this.append = false;
+    this.sortDir = Optional.empty();
+    this.sortColumn = Optional.empty();
+    this.changes = new ArrayList<>(changes);
   }
 
   /**
@@ -149,4 +175,108 @@ public class DataChangedEvent<T> {
   public Optional<String> getSortColumn() {
     return sortColumn;
   }
+
+  /**
+   * Gets the ordered list of changes carried by this event.
+   *
+   * @return The list of changes, empty if the event is a full data reload.
+   */
+  public List<RecordsChange<T>> getChanges() {
+    return changes;
+  }
+
+  /**
+   * Checks if this event carries granular changes that can be applied to the previously loaded
+   * records.
+   *
+   * @return {@code true} if the event has changes, {@code false} if it is a full data reload.
+   */
+  public boolean isIncremental() {
+    return !changes.isEmpty();
+  }
+
+  /** The type of change applied to a range of records. */
+  public enum ChangeType {
+    /** Records were inserted starting at the change index. */
+    INSERTED,
+    /** Records were removed starting at the change index. */
+    REMOVED,
+    /** Records starting at the change index were replaced by the change records. */
+    UPDATED
+  }
+
+  /**
+   * Describes a single change applied to a contiguous range of records.
+   *
+   * @param <T> The type of data representing the records in the data table.
+   */
+  public static class RecordsChange<T> {
+    private final ChangeType type;
+    private final int index;
+    private final int count;
+    private final List<T> records;
+
+    private RecordsChange(ChangeType type, int index, int count, List<T> records) {
+      this.type = type;
+      this.index = index;
+      this.count = count;
+      this.records = records;
+    }
+
+    /**
+     * Creates a change for records inserted at the specified index.
+     *
+     * @param index The index of the first inserted record.
+     * @param records The inserted records.
+     * @param <T> The type of the records.
+     * @return A new change instance.
+     */
+    public static <T> RecordsChange<T> inserted(int index, List<T> records) {
+      return new RecordsChange<>(ChangeType.INSERTED, index, records.size(), records);
+    }
+
+    /**
+     * Creates a change for records removed starting at the specified index.
+     *
+     * @param index The index of the first removed record.
+     * @param count The number of removed records.
+     * @param <T> The type of the records.
+     * @return A new change instance.
+     */
+    public static <T> RecordsChange<T> removed(int index, int count) {
+      return new RecordsChange<>(ChangeType.REMOVED, index, count, Collections.emptyList());
+    }
+
+    /**
+     * Creates a change for records replaced starting at the specified index.
+     *
+     * @param index The index of the first updated record.
+     * @param records The new records.
+     * @param <T> The type of the records.
+     * @return A new change instance.
+     */
+    public static <T> RecordsChange<T> updated(int index, List<T> records) {
+      return new RecordsChange<>(ChangeType.UPDATED, index, records.size(), records);
+    }
+
+    /** @return The type of this change. */
+    public ChangeType getType() {
+      return type;
+    }
+
+    /** @return The index of the first record affected by this change. */
+    public int getIndex() {
+      return index;
+    }
+
+    /** @return The number of records affected by this change. */
+    public int getCount() {
+      return count;
+    }
+
+    /** @return The inserted or updated records, empty for removed records. */
+    public List<T> getRecords() {
+      return records;
+    }
+  }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.List;
+
+/**
+ * The {@code FilteredRecordsListener} functional interface is notified of the records entering and
+ * leaving the filtered records of a {@link LocalListDataStore}, the records matching the current
+ * search regardless of their order and of the pagination. Sorting the records or changing the page
+ * does not notify the listener.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+@FunctionalInterface
+public interface FilteredRecordsListener<T> {
+
+  /**
+   * Called when records enter or leave the filtered records. An updated record is reported as the
+   * removal of the previous record followed by the addition of the new one, even when the record
+   * was updated in place.
+   *
+   * @param removed The records that left the filtered records.
+   * @param added The records that entered the filtered records.
+   */
+  void onFilteredRecordsChanged(List<T> removed, List<T> added);
+}
@@ -16,6 +16,7 @@
 
 package org.dominokit.domino.ui.datatable.store;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.events.RecordDraggedOutEvent.RECORD_DRAGGED_OUT;
 import static org.dominokit.domino.ui.datatable.events.RecordDroppedEvent.RECORD_DROPPED;
@@ -25,11 +26,16 @@ import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGI
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.dominokit.domino.ui.datatable.events.*;
 import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+import org.dominokit.domino.ui.datatable.store.DataChangedEvent.RecordsChange;
 import org.dominokit.domino.ui.pagination.HasPagination;
 
 /**
@@ -41,12 +47,14 @@ import org.dominokit.domino.ui.pagination.HasPagination;
 public class LocalListDataStore<T> implements DataStore<T> {
 
   private final List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
+  private final List<FilteredRecordsListener<T>> filteredListeners = new ArrayList<>();
 
   protected final List<T> original;
   protected List<T> filtered;
   private HasPagination pagination;
   private SearchFilter<T> searchFilter;
   private RecordsSorter<T> recordsSorter;
+  private SortKeyProvider<T> sortKeyProvider;
   private SortFunction<T> sortFunction;
   private SortEvent<T> lastSort;
   private SearchEvent lastSearch;
@@ -54,30 +62,69 @@ public class LocalListDataStore<T> implements DataStore<T> {
   private String autoSortBy = "*";
   private SortDirection autoSortDirection = SortDirection.ASC;
   private boolean autoSortApplied = false;
+  private boolean filteredMirrorsOriginal = true;
+  private RecordKeyProvider<T> recordKeyProvider;
+  private RecordsIndex<T> originalIndex;
+  private RecordsIndex<T> filteredIndex;
+  private List<T> sortedRecords;
+  private SortEvent<T> sortedBy;
+  private boolean searchRefinable = false;
 
   private DragDropRecordActions<T> dragDropRecordActions =
       new DragDropRecordActions<T>() {
         @Override
         public void onDropped(T droppedRecord, T target) {
-          int movedIndex = filtered.indexOf(droppedRecord);
-          int targetIndex = filtered.size();
-          if (nonNull(target)) {
-            targetIndex = filtered.indexOf(target);
+          onDropped(Collections.singletonList(droppedRecord), target);
+        }
+
+        /**
+         * Moves the dropped records in a single pass over the filtered records, they are placed
+         * after the target when they are dragged downwards and before it otherwise.
+         */
+        @Override
+        public void onDropped(List<T> droppedRecords, T target) {
+          Set<Object> droppedKeys = keysOf(droppedRecords);
+          Object targetKey = isNull(target) ? null : keyOf(target);
+          if (nonNull(targetKey) && droppedKeys.contains(targetKey)) {
+            return;
           }
-          if (movedIndex > -1) {
-            filtered.remove(movedIndex);
+          List<T> remaining = new ArrayList<>(filtered.size());
+          int firstDroppedIndex = -1;
+          int targetIndex = -1;
+          for (int index = 0; index < filtered.size(); index++) {
+            T record = filtered.get(index);
+            Object key = keyOf(record);
+            if (droppedKeys.contains(key)) {
+              firstDroppedIndex = firstDroppedIndex < 0 ? index : firstDroppedIndex;
+            } else {
+              if (nonNull(targetKey) && targetKey.equals(key)) {
+                targetIndex = remaining.size();
+                if (firstDroppedIndex > -1) {
+                  targetIndex++;
+                }
+              }
+              remaining.add(record);
+            }
           }
-          if (targetIndex > -1) {
-            filtered.add(targetIndex, droppedRecord);
+          if (isNull(targetKey)) {
+            targetIndex = remaining.size();
+          } else if (targetIndex < 0) {
+            return;
           }
+          remaining.addAll(targetIndex, droppedRecords);
+          filtered.clear();
+          filtered.addAll(remaining);
         }
 
         @Override
         public void onDraggedOut(T draggedOutRecord) {
-          int removedIndex = filtered.indexOf(draggedOutRecord);
-          if (removedIndex > -1) {
-            filtered.remove(removedIndex);
-          }
+          onDraggedOut(Collections.singletonList(draggedOutRecord));
+        }
+
+        @Override
+        public void onDraggedOut(List<T> draggedOutRecords) {
+          Set<Object> draggedOutKeys = keysOf(draggedOutRecords);
+          filtered.removeIf(record -> draggedOutKeys.contains(keyOf(record)));
         }
       };
 
@@ -107,13 +154,49 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param data The list of data records.
    */
   public void setData(List<T> data) {
+    List<T> previous = copyFiltered();
     this.original.clear();
     this.original.addAll(data);
     this.filtered.clear();
     this.filtered.addAll(original);
+    this.filteredMirrorsOriginal = true;
+    invalidateIndexes();
+    invalidateSort();
+    searchRefinable = false;
+    fireFilteredChanges(previous);
     load();
   }
 
+  /**
+   * Gets the record key provider used to index the records positions.
+   *
+   * @return The record key provider, or {@code null} if the records are not indexed.
+   */
+  public RecordKeyProvider<T> getRecordKeyProvider() {
+    return recordKeyProvider;
+  }
+
+  /**
+   * Sets a record key provider used to index the records positions by their keys, when set the
+   * records to be updated or removed, and the dragged and dropped records, are looked up by their
+   * keys instead of scanning the records list which makes batch updates and removals run in near
+   * linear time. Records with equal keys are considered the same record.
+   *
+   * @param recordKeyProvider The record key provider, or {@code null} to disable the indexing.
+   * @return This data store instance.
+   */
+  public LocalListDataStore<T> setRecordKeyProvider(RecordKeyProvider<T> recordKeyProvider) {
+    this.recordKeyProvider = recordKeyProvider;
+    if (nonNull(recordKeyProvider)) {
+      this.originalIndex = new RecordsIndex<>(recordKeyProvider);
+      this.filteredIndex = new RecordsIndex<>(recordKeyProvider);
+    } else {
+      this.originalIndex = null;
+      this.filteredIndex = null;
+    }
+    return this;
+  }
+
   /**
    * Gets the search filter used for filtering records.
    *
@@ -131,6 +214,7 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   public LocalListDataStore<T> setSearchFilter(SearchFilter<T> searchFilter) {
     this.searchFilter = searchFilter;
+    this.searchRefinable = false;
     return this;
   }
 
@@ -142,6 +226,7 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   public LocalListDataStore<T> setAutoSort(boolean autoSort) {
     this.autoSort = autoSort;
+    invalidateSort();
     return this;
   }
 
@@ -153,6 +238,7 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   public LocalListDataStore<T> setAutoSortBy(String autoSortBy) {
     this.autoSortBy = autoSortBy;
+    invalidateSort();
     return this;
   }
 
@@ -164,6 +250,7 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   public LocalListDataStore<T> setAutoSortDirection(SortDirection autoSortDirection) {
     this.autoSortDirection = autoSortDirection;
+    invalidateSort();
     return this;
   }
 
@@ -219,6 +306,33 @@ public class LocalListDataStore<T> implements DataStore<T> {
       RecordsSorter<T> recordsSorter, SortFunction<T> sortFunction) {
     this.recordsSorter = recordsSorter;
     this.sortFunction = sortFunction;
+    invalidateSort();
+    return this;
+  }
+
+  /**
+   * Gets the sort key provider used for sorting records.
+   *
+   * @return The sort key provider, or {@code null} if the records are sorted using the records
+   *     sorter comparators.
+   */
+  public SortKeyProvider<T> getSortKeyProvider() {
+    return sortKeyProvider;
+  }
+
+  /**
+   * Sets a sort key provider used for sorting records instead of the records sorter comparators,
+   * the sort keys of each record are extracted once per sort and the records are then ordered by
+   * comparing the extracted keys, which avoids deriving expensive keys like formatted strings or
+   * dates in every comparison. The sort function is not used when a sort key provider is set.
+   *
+   * @param sortKeyProvider The sort key provider, or {@code null} to sort using the records
+   *     sorter.
+   * @return This data store instance.
+   */
+  public LocalListDataStore<T> setSortKeyProvider(SortKeyProvider<T> sortKeyProvider) {
+    this.sortKeyProvider = sortKeyProvider;
+    invalidateSort();
     return this;
   }
 
@@ -264,6 +378,71 @@ public class LocalListDataStore<T> implements DataStore<T> {
     listeners.remove(dataChangeListener);
   }
 
+  /**
+   * Registers a listener to be notified of the records entering and leaving the filtered records,
+   * including the records outside the loaded page. Sorting the records or changing the page does
+   * not notify the listener.
+   *
+   * @param listener The listener to register.
+   */
+  public void onFilteredRecordsChanged(FilteredRecordsListener<T> listener) {
+    filteredListeners.add(listener);
+  }
+
+  /**
+   * Removes a listener registered with {@link #onFilteredRecordsChanged(FilteredRecordsListener)}.
+   *
+   * @param listener The listener to remove.
+   */
+  public void removeFilteredRecordsListener(FilteredRecordsListener<T> listener) {
+    filteredListeners.remove(listener);
+  }
+
+  /**
+   * Copies the filtered records before they are changed in place, so that the change can be
+   * reported to the filtered records listeners with {@link #fireFilteredChanges(List)}.
+   *
+   * @return A copy of the filtered records, or null if no filtered records listener is registered.
+   */
+  protected List<T> copyFiltered() {
+    return filteredListeners.isEmpty() ? null : new ArrayList<>(filtered);
+  }
+
+  /**
+   * Notifies the filtered records listeners of the records that left and entered the filtered
+   * records since the provided previous filtered records, the records are compared by identity.
+   *
+   * @param previous The previous filtered records, nothing is fired if null.
+   */
+  protected void fireFilteredChanges(List<T> previous) {
+    if (isNull(previous) || filteredListeners.isEmpty()) {
+      return;
+    }
+    Set<T> previousRecords = Collections.newSetFromMap(new IdentityHashMap<>());
+    previousRecords.addAll(previous);
+    Set<T> currentRecords = Collections.newSetFromMap(new IdentityHashMap<>());
+    currentRecords.addAll(filtered);
+    List<T> removed = new ArrayList<>();
+    for (T record : previous) {
+      if (!currentRecords.contains(record)) {
+        removed.add(record);
+      }
+    }
+    List<T> added = new ArrayList<>();
+    for (T record : filtered) {
+      if (!previousRecords.contains(record)) {
+        added.add(record);
+      }
+    }
+    fireFilteredChanges(removed, added);
+  }
+
+  private void fireFilteredChanges(List<T> removed, List<T> added) {
+    if (!removed.isEmpty() || !added.isEmpty()) {
+      filteredListeners.forEach(listener -> listener.onFilteredRecordsChanged(removed, added));
+    }
+  }
+
   /**
    * Handles various table-related events such as search, sort, pagination, and record manipulation.
    *
@@ -296,9 +475,12 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param event The record dragged out event.
    */
   private void handleDraggedOutEvent(RecordDraggedOutEvent<T> event) {
-    T rowToRemove = event.getDraggedOutRecord();
-
-    dragDropRecordActions.onDraggedOut(rowToRemove);
+    List<T> previous = copyFiltered();
+    dragDropRecordActions.onDraggedOut(event.getDraggedOutRecords());
+    filteredMirrorsOriginal = false;
+    searchRefinable = false;
+    invalidateIndexes();
+    fireFilteredChanges(previous);
 
     fireUpdate(true);
   }
@@ -309,26 +491,36 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param event The record dropped event.
    */
   private void handleDropEvent(RecordDroppedEvent<T> event) {
-    T movedRow = event.getDroppedRecord();
-    T targetRow = event.getTargetRecord();
-
-    dragDropRecordActions.onDropped(movedRow, targetRow);
+    List<T> previous = copyFiltered();
+    dragDropRecordActions.onDropped(event.getDroppedRecords(), event.getTargetRecord());
+    filteredMirrorsOriginal = false;
+    searchRefinable = false;
+    invalidateIndexes();
+    invalidateSort();
+    fireFilteredChanges(previous);
 
     fireUpdate(true);
   }
 
   /**
-   * Handles the event when a search is performed.
+   * Handles the event when a search is performed. When the search filter is a {@link
+   * RefinableSearchFilter} and the search only narrows the previous search, the previous results
+   * are filtered instead of all the records.
    *
    * @param event The search event.
    */
   public void onSearchChanged(SearchEvent event) {
     if (nonNull(getSearchFilter())) {
+      List<T> previous = filtered;
+      List<T> records = isRefinedSearch(event) ? filtered : original;
       setLastSearch(event);
+      filteredMirrorsOriginal = false;
       filtered =
-          original.stream()
+          records.stream()
               .filter(record -> getSearchFilter().filterRecord(event, record))
               .collect(Collectors.toList());
+      searchRefinable = true;
+      fireFilteredChanges(previous);
       if (nonNull(getLastSort())) {
         sort(getLastSort());
       }
@@ -336,13 +528,28 @@ public class LocalListDataStore<T> implements DataStore<T> {
     }
   }
 
+  /**
+   * Checks if the search event can be applied to the results of the previous search, this is the
+   * case when the records did not change since the previous search and the search filter confirms
+   * the new search only narrows it.
+   *
+   * @param event The search event.
+   * @return {@code true} if the previous results can be refined, {@code false} otherwise.
+   */
+  private boolean isRefinedSearch(SearchEvent event) {
+    return searchRefinable
+        && nonNull(getLastSearch())
+        && getSearchFilter() instanceof RefinableSearchFilter
+        && ((RefinableSearchFilter<T>) getSearchFilter()).isNarrowing(getLastSearch(), event);
+  }
+
   /**
    * Handles the event when a sorting action is performed.
    *
    * @param event The sort event.
    */
   private void onSortChanged(SortEvent<T> event) {
-    if (nonNull(this.getRecordsSorter())) {
+    if (canSort()) {
       setLastSort(event);
       sort(event);
       fireUpdate(false);
@@ -386,16 +593,79 @@ public class LocalListDataStore<T> implements DataStore<T> {
   }
 
   /**
-   * Sorts the filtered records based on the given sorting event.
+   * Sorts the filtered records based on the given sorting event, the records are sorted by all the
+   * sorted columns of the event in order of precedence. The sort is skipped if the filtered records
+   * are already sorted by the same event and did not change since.
    *
    * @param event The sorting event containing sort information.
    */
   public void sort(SortEvent<T> event) {
-    getSortFunction()
-        .sort(
-            filtered,
-            getRecordsSorter()
-                .onSortChange(event.getColumnConfig().getSortKey(), event.getSortDirection()));
+    if (sortedRecords == filtered && sortedBy == event) {
+      return;
+    }
+    filteredMirrorsOriginal = false;
+    invalidateIndexes();
+    if (nonNull(getSortKeyProvider())) {
+      List<String> sortBy = new ArrayList<>();
+      List<SortDirection> directions = new ArrayList<>();
+      for (SortEvent.ColumnSort<T> sort : event.getSorts()) {
+        sortBy.add(sort.getColumnConfig().getSortKey());
+        directions.add(sort.getSortDirection());
+      }
+      RecordsSorting.sortByKeys(filtered, getSortKeyProvider(), sortBy, directions);
+    } else {
+      sortFiltered(RecordsSorting.comparator(getRecordsSorter(), event));
+    }
+    sortedRecords = filtered;
+    sortedBy = event;
+  }
+
+  /**
+   * Sorts the filtered records using the auto sort column and direction, unless they are already
+   * sorted and did not change since.
+   */
+  private void autoSort() {
+    if (sortedRecords == filtered && isNull(sortedBy)) {
+      return;
+    }
+    filteredMirrorsOriginal = false;
+    invalidateIndexes();
+    if (nonNull(getSortKeyProvider())) {
+      RecordsSorting.sortByKeys(
+          filtered,
+          getSortKeyProvider(),
+          Collections.singletonList(getAutoSortBy()),
+          Collections.singletonList(getAutoSortDirection()));
+    } else {
+      sortFiltered(getRecordsSorter().onSortChange(getAutoSortBy(), getAutoSortDirection()));
+    }
+    sortedRecords = filtered;
+    sortedBy = null;
+  }
+
+  private void sortFiltered(Comparator<T> comparator) {
+    if (nonNull(getSortFunction())) {
+      getSortFunction().sort(filtered, comparator);
+    } else {
+      filtered.sort(comparator);
+    }
+  }
+
+  /**
+   * Checks if the records can be sorted, either by a records sorter or a sort key provider.
+   *
+   * @return {@code true} if the records can be sorted, {@code false} otherwise.
+   */
+  private boolean canSort() {
+    return nonNull(getRecordsSorter()) || nonNull(getSortKeyProvider());
+  }
+
+  /**
+   * Marks the filtered records order as invalid so that they are sorted again on the next update.
+   */
+  private void invalidateSort() {
+    this.sortedRecords = null;
+    this.sortedBy = null;
   }
 
   /**
@@ -479,6 +749,7 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   public void setSortFunction(SortFunction<T> sortFunction) {
     this.sortFunction = sortFunction;
+    invalidateSort();
   }
 
   /**
@@ -492,25 +763,21 @@ public class LocalListDataStore<T> implements DataStore<T> {
 
   /**
    * Fires a data update event to all registered data change listeners. Optionally, applies sorting
-   * to the updated data.
+   * to the filtered records before taking the updated data, the sorting is skipped when the
+   * filtered records are already sorted and did not change since, for example on a page change.
    *
    * @param applySort {@code true} to apply sorting to the updated data, {@code false} to skip
    *     sorting.
    */
   private void fireUpdate(boolean applySort) {
-    List<T> updateRecords = getUpdateRecords();
-    if (applySort) {
-      if (nonNull(getLastSort()) && nonNull(getRecordsSorter())) {
-        updateRecords.sort(
-            getRecordsSorter()
-                .onSortChange(
-                    getLastSort().getColumnConfig().getSortKey(),
-                    getLastSort().getSortDirection()));
-      } else if (isAutoSort() && nonNull(getRecordsSorter())) {
-        updateRecords.sort(
-            getRecordsSorter().onSortChange(getAutoSortBy(), getAutoSortDirection()));
+    if (applySort && canSort()) {
+      if (nonNull(getLastSort())) {
+        sort(getLastSort());
+      } else if (isAutoSort()) {
+        autoSort();
       }
     }
+    List<T> updateRecords = getUpdateRecords();
     if (!isAutoSortApplied()) {
       setAutoSortApplied(true);
       listeners.forEach(
@@ -534,23 +801,39 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   private List<T> getUpdateRecords() {
     if (nonNull(getPagination())) {
-      int fromIndex = getPagination().getPageSize() * (getPagination().activePage() - 1);
-      int toIndex = Math.min(fromIndex + getPagination().getPageSize(), filtered.size());
-      return new ArrayList<>(filtered.subList(fromIndex, toIndex));
+      int fromIndex = getPageFromIndex();
+      return new ArrayList<>(filtered.subList(fromIndex, getPageToIndex(fromIndex)));
     } else {
       return new ArrayList<>(filtered);
     }
   }
 
+  /** @return the index in the filtered records of the first record of the current page. */
+  private int getPageFromIndex() {
+    if (nonNull(getPagination())) {
+      return getPagination().getPageSize() * (getPagination().activePage() - 1);
+    }
+    return 0;
+  }
+
+  /**
+   * @param fromIndex the index of the first record of the current page.
+   * @return the index in the filtered records after the last record of the current page.
+   */
+  private int getPageToIndex(int fromIndex) {
+    if (nonNull(getPagination())) {
+      return Math.min(fromIndex + getPagination().getPageSize(), filtered.size());
+    }
+    return filtered.size();
+  }
+
   /**
    * Adds a single record to the data store, updating both the original and filtered lists.
    *
    * @param record The record to be added.
    */
   public void addRecord(T record) {
-    original.add(record);
-    List<T> newData = new ArrayList<>(original);
-    setData(newData);
+    addRecords(Collections.singletonList(record));
   }
 
   /**
@@ -561,9 +844,20 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param record The record to be added.
    */
   public void insertRecord(int index, T record) {
-    original.add(index, record);
-    List<T> newData = new ArrayList<>(original);
-    setData(newData);
+    if (canPatchStructure()) {
+      original.add(index, record);
+      filtered.add(index, record);
+      searchRefinable = false;
+      invalidateIndexes();
+      fireFilteredChanges(Collections.emptyList(), Collections.singletonList(record));
+      fireChanges(
+          Collections.singletonList(
+              RecordsChange.inserted(index, Collections.singletonList(record))));
+    } else {
+      original.add(index, record);
+      List<T> newData = new ArrayList<>(original);
+      setData(newData);
+    }
   }
 
   /**
@@ -572,10 +866,20 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param record The record to be removed.
    */
   public void removeRecord(T record) {
-    if (original.contains(record)) {
-      original.remove(record);
-      filtered.remove(record);
-      load();
+    if (canPatchStructure()) {
+      removeRecords(Collections.singletonList(record));
+    } else {
+      int index = indexOfOriginal(record);
+      if (index > -1) {
+        original.remove(index);
+        int filteredIndex = indexOfFiltered(record);
+        if (filteredIndex > -1) {
+          fireFilteredChanges(
+              Collections.singletonList(filtered.remove(filteredIndex)), Collections.emptyList());
+        }
+        invalidateIndexes();
+        load();
+      }
     }
   }
 
@@ -596,7 +900,7 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param record The new record to replace the existing record.
    */
   public void updateRecord(T record) {
-    updateRecord(original.indexOf(record), record);
+    updateRecord(indexOfOriginal(record), record);
   }
 
   /**
@@ -607,7 +911,9 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param record The new record to replace the existing record.
    */
   public void updateRecord(int index, T record) {
-    internalUpdate(index, record, true);
+    if (index >= 0 && index < original.size()) {
+      updateRecords(index, Collections.singletonList(record));
+    }
   }
 
   /**
@@ -616,10 +922,14 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param records A collection of new records to replace the existing records.
    */
   public void updateRecords(Collection<T> records) {
+    List<RecordsChange<T>> changes = new ArrayList<>();
+    List<T> replaced = new ArrayList<>();
+    List<T> replacements = new ArrayList<>();
     for (T record : records) {
-      internalUpdate(original.indexOf(record), record, false);
+      internalUpdate(indexOfOriginal(record), record, changes, replaced, replacements);
     }
-    load();
+    fireFilteredChanges(replaced, replacements);
+    fireUpdateChanges(changes);
   }
 
   /**
@@ -630,13 +940,17 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param records A collection of new records to replace the existing records.
    */
   public void updateRecords(int startIndex, Collection<T> records) {
+    List<RecordsChange<T>> changes = new ArrayList<>();
+    List<T> replaced = new ArrayList<>();
+    List<T> replacements = new ArrayList<>();
     for (T record : records) {
       if (startIndex >= original.size()) {
         break;
       }
-      internalUpdate(startIndex++, record, false);
+      internalUpdate(startIndex++, record, changes, replaced, replacements);
     }
-    load();
+    fireFilteredChanges(replaced, replacements);
+    fireUpdateChanges(changes);
   }
 
   /**
@@ -645,17 +959,39 @@ public class LocalListDataStore<T> implements DataStore<T> {
    *
    * @param index The index of the record to be updated.
    * @param record The new record to replace the existing record.
-   * @param load Specifies whether to trigger a data load after the update.
+   * @param changes The list to which the change of the currently loaded records is added, if the
+   *     updated record is part of the loaded records.
+   * @param replaced The list to which the previous record is added, if it is a filtered record.
+   * @param replacements The list to which the new record is added, if it replaced a filtered
+   *     record.
    */
-  private void internalUpdate(int index, T record, boolean load) {
+  private void internalUpdate(
+      int index,
+      T record,
+      List<RecordsChange<T>> changes,
+      List<T> replaced,
+      List<T> replacements) {
     if (index >= 0 && index < original.size()) {
+      invalidateSort();
+      searchRefinable = false;
       T oldRecord = original.get(index);
       original.set(index, record);
-      if (filtered.contains(oldRecord)) {
-        filtered.set(filtered.indexOf(oldRecord), record);
+      if (nonNull(originalIndex)) {
+        originalIndex.replaced(oldRecord, record, index);
       }
-      if (load) {
-        load();
+      int filteredIndex = indexOfFiltered(oldRecord);
+      if (filteredIndex > -1) {
+        filtered.set(filteredIndex, record);
+        if (nonNull(this.filteredIndex)) {
+          this.filteredIndex.replaced(oldRecord, record, filteredIndex);
+        }
+        replaced.add(oldRecord);
+        replacements.add(record);
+        int fromIndex = getPageFromIndex();
+        if (filteredIndex >= fromIndex && filteredIndex < getPageToIndex(fromIndex)) {
+          changes.add(
+              RecordsChange.updated(filteredIndex - fromIndex, Collections.singletonList(record)));
+        }
       }
     }
   }
@@ -666,9 +1002,20 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param records A collection of records to be added.
    */
   public void addRecords(Collection<T> records) {
-    original.addAll(records);
-    List<T> newData = new ArrayList<>(original);
-    setData(newData);
+    if (canPatchStructure()) {
+      int index = filtered.size();
+      original.addAll(records);
+      filtered.addAll(records);
+      searchRefinable = false;
+      invalidateIndexes();
+      fireFilteredChanges(Collections.emptyList(), new ArrayList<>(records));
+      fireChanges(
+          Collections.singletonList(RecordsChange.inserted(index, new ArrayList<>(records))));
+    } else {
+      original.addAll(records);
+      List<T> newData = new ArrayList<>(original);
+      setData(newData);
+    }
   }
 
   /**
@@ -680,9 +1027,7 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   @Deprecated
   public void removeRecord(Collection<T> records) {
-    original.removeAll(records);
-    filtered.removeAll(records);
-    load();
+    removeRecords(records);
   }
 
   /**
@@ -691,9 +1036,156 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param records A collection of records to be removed.
    */
   public void removeRecords(Collection<T> records) {
-    original.removeAll(records);
-    filtered.removeAll(records);
-    load();
+    if (canPatchStructure()) {
+      Set<Object> toRemove = keysOf(records);
+      List<T> kept = new ArrayList<>(original.size());
+      List<RecordsChange<T>> changes = new ArrayList<>();
+      List<T> removed = new ArrayList<>();
+      int rangeEnd = -1;
+      for (int index = original.size() - 1; index >= -1; index--) {
+        boolean remove = index > -1 && toRemove.contains(keyOf(original.get(index)));
+        if (remove) {
+          removed.add(original.get(index));
+        }
+        if (remove && rangeEnd < 0) {
+          rangeEnd = index;
+        } else if (!remove && rangeEnd > -1) {
+          changes.add(RecordsChange.removed(index + 1, rangeEnd - index));
+          rangeEnd = -1;
+        }
+        if (index > -1 && !remove) {
+          kept.add(original.get(index));
+        }
+      }
+      Collections.reverse(kept);
+      original.clear();
+      original.addAll(kept);
+      filtered.clear();
+      filtered.addAll(kept);
+      invalidateIndexes();
+      fireFilteredChanges(removed, Collections.emptyList());
+      fireChanges(changes);
+    } else {
+      List<T> previous = copyFiltered();
+      if (nonNull(recordKeyProvider)) {
+        Set<Object> toRemove = keysOf(records);
+        original.removeIf(record -> toRemove.contains(keyOf(record)));
+        filtered.removeIf(record -> toRemove.contains(keyOf(record)));
+      } else {
+        original.removeAll(records);
+        filtered.removeAll(records);
+      }
+      invalidateIndexes();
+      fireFilteredChanges(previous);
+      load();
+    }
+  }
+
+  /**
+   * Finds the position of a record in the original records, using the records index if a record
+   * key provider is set.
+   *
+   * @param record The record to look up.
+   * @return The index of the record, or -1 if not found.
+   */
+  private int indexOfOriginal(T record) {
+    if (nonNull(originalIndex)) {
+      return originalIndex.indexOf(original, record);
+    }
+    return original.indexOf(record);
+  }
+
+  /**
+   * Finds the position of a record in the filtered records, using the records index if a record
+   * key provider is set.
+   *
+   * @param record The record to look up.
+   * @return The index of the record, or -1 if not found.
+   */
+  private int indexOfFiltered(T record) {
+    if (nonNull(filteredIndex)) {
+      return filteredIndex.indexOf(filtered, record);
+    }
+    return filtered.indexOf(record);
+  }
+
+  /**
+   * @param record the record.
+   * @return the key of the record if a record key provider is set, otherwise the record itself.
+   */
+  private Object keyOf(T record) {
+    return nonNull(recordKeyProvider) ? recordKeyProvider.getKey(record) : record;
+  }
+
+  /**
+   * @param records the records.
+   * @return a set of the keys of the records.
+   */
+  private Set<Object> keysOf(Collection<T> records) {
+    Set<Object> keys = new HashSet<>();
+    for (T record : records) {
+      keys.add(keyOf(record));
+    }
+    return keys;
+  }
+
+  /** Invalidates the records indexes after a structural change of the records lists. */
+  private void invalidateIndexes() {
+    if (nonNull(originalIndex)) {
+      originalIndex.invalidate();
+      filteredIndex.invalidate();
+    }
+  }
+
+  /**
+   * Checks if records insertions and removals can be sent to the listeners as incremental changes,
+   * this is only possible when the filtered records mirror the original records with no search or
+   * sort applied, and without pagination as the page boundaries would shift.
+   *
+   * @return {@code true} if the changes can be fired incrementally, {@code false} otherwise.
+   */
+  private boolean canPatchStructure() {
+    return filteredMirrorsOriginal && canPatch() && isNull(getPagination());
+  }
+
+  /**
+   * Checks if in place changes can be sent to the listeners as incremental changes, this is only
+   * possible when no sort is applied as an updated record could change the records order.
+   *
+   * @return {@code true} if the changes can be fired incrementally, {@code false} otherwise.
+   */
+  private boolean canPatch() {
+    boolean sortApplied = canSort() && (nonNull(getLastSort()) || isAutoSort());
+    return isAutoSortApplied() && !sortApplied;
+  }
+
+  /**
+   * Fires the changes of updated records incrementally if possible, otherwise reloads the data.
+   *
+   * @param changes The changes of the loaded records.
+   */
+  private void fireUpdateChanges(List<RecordsChange<T>> changes) {
+    if (canPatch()) {
+      fireChanges(changes);
+    } else {
+      load();
+    }
+  }
+
+  /**
+   * Fires an incremental data change event to all registered data change listeners.
+   *
+   * @param changes The ordered list of changes applied to the loaded records.
+   */
+  private void fireChanges(List<RecordsChange<T>> changes) {
+    if (changes.isEmpty()) {
+      return;
+    }
+    List<T> updateRecords = getUpdateRecords();
+    listeners.forEach(
+        dataChangeListener ->
+            dataChangeListener.onDataChanged(
+                new DataChangedEvent<>(updateRecords, filtered.size(), changes)));
   }
 
   /**
@@ -739,11 +1231,33 @@ public class LocalListDataStore<T> implements DataStore<T> {
      */
     void onDropped(T droppedRecord, T target);
 
+    /**
+     * Invoked when a batch of records dragged together is dropped onto a target record, the
+     * records are expected to be moved as a single update. By default each record is dropped
+     * separately.
+     *
+     * @param droppedRecords The records that were dropped, in their table order.
+     * @param target The target record onto which the dropped records were placed.
+     */
+    default void onDropped(List<T> droppedRecords, T target) {
+      droppedRecords.forEach(droppedRecord -> onDropped(droppedRecord, target));
+    }
+
     /**
      * Invoked when a record is dragged out of the data store.
      *
      * @param draggedOutRecord The record that was dragged out.
      */
     void onDraggedOut(T draggedOutRecord);
+
+    /**
+     * Invoked when a batch of records dragged together is dragged out of the data store. By default
+     * each record is dragged out separately.
+     *
+     * @param draggedOutRecords The records that were dragged out.
+     */
+    default void onDraggedOut(List<T> draggedOutRecords) {
+      draggedOutRecords.forEach(draggedOutRecord -> onDraggedOut(draggedOutRecord));
+    }
   }
 }
@@ -22,7 +22,11 @@ import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
 import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
 import org.dominokit.domino.ui.datatable.events.SearchEvent;
@@ -49,6 +53,9 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
   private SearchFilter<T> searchFilter;
   private RecordsSorter<T> recordsSorter;
   private SortEvent<T> lastSort;
+  private RecordKeyProvider<T> recordKeyProvider;
+  private RecordsIndex<T> originalIndex;
+  private RecordsIndex<T> filteredIndex;
 
   /**
    * Creates a new instance of {@link LocalListScrollingDataSource} with the specified page size.
@@ -159,9 +166,112 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
     this.original.addAll(data);
     this.filtered.clear();
     this.filtered.addAll(original);
+    invalidateIndexes();
     load();
   }
 
+  /**
+   * Gets the record key provider used to index the records positions.
+   *
+   * @return The record key provider, or {@code null} if the records are not indexed.
+   */
+  public RecordKeyProvider<T> getRecordKeyProvider() {
+    return recordKeyProvider;
+  }
+
+  /**
+   * Sets a record key provider used to index the records positions by their keys, when set the
+   * records to be updated or removed are looked up by their keys instead of scanning the records
+   * list which makes batch updates and removals run in near linear time. Records with equal keys
+   * are considered the same record.
+   *
+   * @param recordKeyProvider The record key provider, or {@code null} to disable the indexing.
+   * @return This data source instance for method chaining.
+   */
+  public LocalListScrollingDataSource<T> setRecordKeyProvider(
+      RecordKeyProvider<T> recordKeyProvider) {
+    this.recordKeyProvider = recordKeyProvider;
+    if (nonNull(recordKeyProvider)) {
+      this.originalIndex = new RecordsIndex<>(recordKeyProvider);
+      this.filteredIndex = new RecordsIndex<>(recordKeyProvider);
+    } else {
+      this.originalIndex = null;
+      this.filteredIndex = null;
+    }
+    return this;
+  }
+
+  /**
+   * Updates a single record in the data source by replacing the existing record with the same key,
+   * or the equal record if no record key provider is set.
+   *
+   * @param record The new record to replace the existing record.
+   */
+  public void updateRecord(T record) {
+    updateRecords(Collections.singletonList(record));
+  }
+
+  /**
+   * Updates multiple records in the data source by replacing the existing records with the same
+   * keys, or the equal records if no record key provider is set. The already loaded records are
+   * reloaded without resetting the loaded pages.
+   *
+   * @param records A collection of new records to replace the existing records.
+   */
+  public void updateRecords(Collection<T> records) {
+    boolean updated = false;
+    for (T record : records) {
+      int index = indexOf(original, originalIndex, record);
+      if (index > -1) {
+        T oldRecord = original.get(index);
+        original.set(index, record);
+        if (nonNull(originalIndex)) {
+          originalIndex.replaced(oldRecord, record, index);
+        }
+        int filteredPosition = indexOf(filtered, filteredIndex, oldRecord);
+        if (filteredPosition > -1) {
+          filtered.set(filteredPosition, record);
+          if (nonNull(filteredIndex)) {
+            filteredIndex.replaced(oldRecord, record, filteredPosition);
+          }
+          updated = true;
+        }
+      }
+    }
+    if (updated) {
+      if (nonNull(lastSort) && nonNull(recordsSorter)) {
+        sortFiltered(lastSort);
+      }
+      reloadLoadedPages();
+    }
+  }
+
+  /**
+   * Removes multiple records from the data source, the records are matched by their keys, or by
+   * equality if no record key provider is set. The already loaded records are reloaded without
+   * resetting the loaded pages.
+   *
+   * @param records A collection of records to be removed.
+   */
+  public void removeRecords(Collection<T> records) {
+    int size = original.size();
+    if (nonNull(recordKeyProvider)) {
+      Set<Object> toRemove = new HashSet<>();
+      for (T record : records) {
+        toRemove.add(recordKeyProvider.getKey(record));
+      }
+      original.removeIf(record -> toRemove.contains(recordKeyProvider.getKey(record)));
+      filtered.removeIf(record -> toRemove.contains(recordKeyProvider.getKey(record)));
+    } else {
+      original.removeAll(records);
+      filtered.removeAll(records);
+    }
+    if (original.size() != size) {
+      invalidateIndexes();
+      reloadLoadedPages();
+    }
+  }
+
   /**
    * Registers a data change listener to receive updates when the data in the data source changes.
    *
@@ -202,6 +312,34 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
                     filtered.size())));
   }
 
+  /**
+   * Fires a data update of all the records of the currently loaded pages, used after records are
+   * updated or removed so that the data table keeps its scroll position.
+   */
+  private void reloadLoadedPages() {
+    int loadedPages = pageIndex == 0 ? initialLoadedPages : pageIndex + 1;
+    int toIndex = Math.min(pageSize * Math.max(loadedPages, 1), filtered.size());
+    listeners.forEach(
+        dataChangeListener ->
+            dataChangeListener.onDataChanged(
+                new DataChangedEvent<>(
+                    new ArrayList<>(filtered.subList(0, toIndex)), false, filtered.size())));
+  }
+
+  private int indexOf(List<T> records, RecordsIndex<T> index, T record) {
+    if (nonNull(index)) {
+      return index.indexOf(records, record);
+    }
+    return records.indexOf(record);
+  }
+
+  private void invalidateIndexes() {
+    if (nonNull(originalIndex)) {
+      originalIndex.invalidate();
+      filteredIndex.invalidate();
+    }
+  }
+
   private int getToIndex(int fromIndex) {
     if (pageIndex == 0 && initialLoadedPages > 1) {
       int toIndex = fromIndex + (initialLoadedPages * pageSize);
@@ -281,14 +419,17 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
   private void onSort(SortEvent<T> event) {
     if (nonNull(this.recordsSorter)) {
       this.lastSort = event;
-      filtered.sort(
-          recordsSorter.onSortChange(
-              event.getColumnConfig().getSortKey(), event.getSortDirection()));
+      sortFiltered(event);
       pageIndex = 0;
       fireUpdate(false);
     }
   }
 
+  private void sortFiltered(SortEvent<T> event) {
+    filtered.sort(RecordsSorting.comparator(recordsSorter, event));
+    invalidateIndexes();
+  }
+
   /**
    * Gets the filtered records based on the current filtering criteria.
    *
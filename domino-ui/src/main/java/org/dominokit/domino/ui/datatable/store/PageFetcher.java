@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * Fetches a page of records for a {@link RemoteDataStore}, typically from a server.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+@FunctionalInterface
+public interface PageFetcher<T> {
+
+  /**
+   * Starts fetching the requested page. The implementation completes the request by calling {@link
+   * PageRequest#onSuccess(java.util.List, int)} or {@link PageRequest#onFailure(Throwable)}, and
+   * should abort the underlying call when the request is cancelled, see {@link
+   * PageRequest#onCancel(Runnable)}.
+   *
+   * @param request The page request.
+   */
+  void fetch(PageRequest<T> request);
+}
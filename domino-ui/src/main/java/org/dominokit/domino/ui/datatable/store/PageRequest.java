@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+
+/**
+ * A request for a single page of records issued by a {@link RemoteDataStore} to its {@link
+ * PageFetcher}. A request completes once, results delivered after it was completed or cancelled
+ * are ignored, so a late response can never overwrite the data of a newer request.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+public class PageRequest<T> {
+
+  private final int page;
+  private final int pageSize;
+  private final SearchEvent search;
+  private final SortEvent<T> sort;
+  private final Object cacheKey;
+  private final Callback<T> callback;
+  private final List<Runnable> cancelHandlers = new ArrayList<>();
+  private boolean cancelled;
+  private boolean completed;
+
+  PageRequest(
+      int page,
+      int pageSize,
+      SearchEvent search,
+      SortEvent<T> sort,
+      Object cacheKey,
+      Callback<T> callback) {
+    this.page = page;
+    this.pageSize = pageSize;
+    this.search = search;
+    this.sort = sort;
+    this.cacheKey = cacheKey;
+    this.callback = callback;
+  }
+
+  /** @return The requested page number, starting from 1. */
+  public int getPage() {
+    return page;
+  }
+
+  /** @return The number of records per page. */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /** @return The index of the first requested record, starting from 0. */
+  public int getOffset() {
+    return (page - 1) * pageSize;
+  }
+
+  /** @return The search applied to the records, if any. */
+  public Optional<SearchEvent> getSearch() {
+    return Optional.ofNullable(search);
+  }
+
+  /** @return The sort applied to the records, if any. */
+  public Optional<SortEvent<T>> getSort() {
+    return Optional.ofNullable(sort);
+  }
+
+  /** @return true if the request was superseded by a newer request. */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Registers a handler to be called when the request is cancelled, use it to abort the underlying
+   * call. The handler is called right away if the request is already cancelled.
+   *
+   * @param cancelHandler The cancel handler.
+   * @return This request.
+   */
+  public PageRequest<T> onCancel(Runnable cancelHandler) {
+    if (cancelled) {
+      cancelHandler.run();
+    } else if (!completed) {
+      cancelHandlers.add(cancelHandler);
+    }
+    return this;
+  }
+
+  /**
+   * Completes the request with the fetched records.
+   *
+   * @param records The records of the requested page.
+   * @param totalCount The total number of records matching the search.
+   */
+  public void onSuccess(List<T> records, int totalCount) {
+    if (complete()) {
+      callback.onSuccess(this, records, totalCount);
+    }
+  }
+
+  /**
+   * Completes the request with a failure.
+   *
+   * @param error The failure cause.
+   */
+  public void onFailure(Throwable error) {
+    if (complete()) {
+      callback.onFailure(this, error);
+    }
+  }
+
+  Object getCacheKey() {
+    return cacheKey;
+  }
+
+  boolean isPending() {
+    return !completed && !cancelled;
+  }
+
+  void cancel() {
+    if (isPending()) {
+      this.cancelled = true;
+      List<Runnable> handlers = new ArrayList<>(cancelHandlers);
+      cancelHandlers.clear();
+      handlers.forEach(Runnable::run);
+    }
+  }
+
+  private boolean complete() {
+    if (isPending()) {
+      this.completed = true;
+      cancelHandlers.clear();
+      return true;
+    }
+    return false;
+  }
+
+  interface Callback<T> {
+    void onSuccess(PageRequest<T> request, List<T> records, int totalCount);
+
+    void onFailure(PageRequest<T> request, Throwable error);
+  }
+
+  static boolean inFlight(PageRequest<?> request) {
+    return nonNull(request) && request.isPending();
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * The {@code RecordKeyProvider} functional interface defines a contract for extracting a unique key
+ * from a record, the key is used by the local data stores to index the records positions so that
+ * looking up records for updates and removals does not require scanning the records list.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+@FunctionalInterface
+public interface RecordKeyProvider<T> {
+
+  /**
+   * Gets the unique key of the provided record, the key must implement {@code equals} and {@code
+   * hashCode} and must not change while the record is in the data store.
+   *
+   * @param record The record.
+   * @return The unique key of the record.
+   */
+  Object getKey(T record);
+}
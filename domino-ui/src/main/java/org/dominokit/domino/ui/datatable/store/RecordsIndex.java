@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a record key to position index for a list of records, the index is built lazily on the
+ * first lookup and rebuilt only after it is invalidated by a structural change of the list, or when
+ * a lookup hits a stale position.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+class RecordsIndex<T> {
+
+  private final RecordKeyProvider<T> keyProvider;
+  private final Map<Object, Integer> positions = new HashMap<>();
+  private List<T> records;
+  private boolean valid = false;
+
+  /**
+   * Creates an index using the provided key provider.
+   *
+   * @param keyProvider The provider of the records keys.
+   */
+  RecordsIndex(RecordKeyProvider<T> keyProvider) {
+    this.keyProvider = keyProvider;
+  }
+
+  /**
+   * Finds the position of a record in the provided list using its key.
+   *
+   * @param records The indexed list of records.
+   * @param record The record to look up.
+   * @return The position of the first record with the same key, or -1 if not found.
+   */
+  int indexOf(List<T> records, T record) {
+    if (!valid || this.records != records) {
+      rebuild(records);
+    }
+    Object key = keyProvider.getKey(record);
+    Integer position = positions.get(key);
+    if (nonNull(position)
+        && (position >= records.size()
+            || !key.equals(keyProvider.getKey(records.get(position))))) {
+      rebuild(records);
+      position = positions.get(key);
+    }
+    return isNull(position) ? -1 : position;
+  }
+
+  /**
+   * Updates the index after a record is replaced in place without a structural change.
+   *
+   * @param oldRecord The replaced record.
+   * @param newRecord The new record.
+   * @param index The position of the replaced record.
+   */
+  void replaced(T oldRecord, T newRecord, int index) {
+    if (valid) {
+      Object oldKey = keyProvider.getKey(oldRecord);
+      Object newKey = keyProvider.getKey(newRecord);
+      if (!oldKey.equals(newKey)) {
+        positions.remove(oldKey);
+        positions.put(newKey, index);
+      }
+    }
+  }
+
+  /** Marks the index as invalid so that it is rebuilt on the next lookup. */
+  void invalidate() {
+    this.valid = false;
+  }
+
+  private void rebuild(List<T> records) {
+    this.records = records;
+    positions.clear();
+    for (int index = records.size() - 1; index >= 0; index--) {
+      positions.put(keyProvider.getKey(records.get(index)), index);
+    }
+    this.valid = true;
+  }
+}
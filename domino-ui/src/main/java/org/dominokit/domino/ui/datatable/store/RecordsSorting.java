@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+
+/**
+ * Sorting helpers shared by the local data stores to sort records by one or more sort fields, all
+ * the sorts are stable so records with equal keys keep their relative order.
+ */
+class RecordsSorting {
+
+  private RecordsSorting() {}
+
+  /**
+   * Creates a comparator that compares records by the sorts of the event in order, a later sort is
+   * only used when the records are equal in all the previous sorts.
+   *
+   * @param recordsSorter The records sorter providing the comparator of each sort.
+   * @param event The sort event.
+   * @param <T> The type of the records.
+   * @return The comparator.
+   */
+  static <T> Comparator<T> comparator(RecordsSorter<T> recordsSorter, SortEvent<T> event) {
+    Comparator<T> comparator = null;
+    for (SortEvent.ColumnSort<T> sort : event.getSorts()) {
+      Comparator<T> next =
+          recordsSorter.onSortChange(sort.getColumnConfig().getSortKey(), sort.getSortDirection());
+      comparator = isNull(comparator) ? next : comparator.thenComparing(next);
+    }
+    return comparator;
+  }
+
+  /**
+   * Sorts the records by the keys extracted by the sort key provider, the keys of each record are
+   * extracted only once and sorts with {@link SortDirection#NONE} are ignored.
+   *
+   * @param records The records to sort in place.
+   * @param sortKeyProvider The sort keys provider.
+   * @param sortBy The sort fields in order.
+   * @param directions The direction of each sort field.
+   * @param <T> The type of the records.
+   */
+  static <T> void sortByKeys(
+      List<T> records,
+      SortKeyProvider<T> sortKeyProvider,
+      List<String> sortBy,
+      List<SortDirection> directions) {
+    List<String> fields = new ArrayList<>();
+    List<Boolean> descending = new ArrayList<>();
+    for (int i = 0; i < sortBy.size(); i++) {
+      if (!SortDirection.NONE.equals(directions.get(i))) {
+        fields.add(sortBy.get(i));
+        descending.add(SortDirection.DESC.equals(directions.get(i)));
+      }
+    }
+    if (fields.isEmpty() || records.size() < 2) {
+      return;
+    }
+
+    List<KeyedRecord<T>> keyedRecords = new ArrayList<>(records.size());
+    for (T record : records) {
+      Object[] keys = new Object[fields.size()];
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = sortKeyProvider.getSortKey(fields.get(i), record);
+      }
+      keyedRecords.add(new KeyedRecord<>(record, keys));
+    }
+
+    keyedRecords.sort(
+        (first, second) -> {
+          for (int i = 0; i < first.keys.length; i++) {
+            int result = compareKeys(first.keys[i], second.keys[i]);
+            if (result != 0) {
+              return descending.get(i) ? -result : result;
+            }
+          }
+          return 0;
+        });
+
+    for (int i = 0; i < keyedRecords.size(); i++) {
+      records.set(i, keyedRecords.get(i).record);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compareKeys(Object first, Object second) {
+    if (first == second) {
+      return 0;
+    }
+    if (isNull(first)) {
+      return -1;
+    }
+    if (isNull(second)) {
+      return 1;
+    }
+    return ((Comparable<Object>) first).compareTo(second);
+  }
+
+  private static class KeyedRecord<T> {
+    private final T record;
+    private final Object[] keys;
+
+    private KeyedRecord(T record, Object[] keys) {
+      this.record = record;
+      this.keys = keys;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+
+/**
+ * A {@link SearchFilter} that can tell when a search only narrows a previous search, in which case
+ * the data store filters the results of the previous search instead of filtering all the records
+ * again.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+public interface RefinableSearchFilter<T> extends SearchFilter<T> {
+
+  /**
+   * Checks if every record matching the next search event also matches the previous search event.
+   *
+   * @param previous The previous search event.
+   * @param next The next search event.
+   * @return {@code true} if the next search only narrows the previous search, {@code false}
+   *     otherwise.
+   */
+  boolean isNarrowing(SearchEvent previous, SearchEvent next);
+}
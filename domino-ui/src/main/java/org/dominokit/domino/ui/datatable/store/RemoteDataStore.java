@@ -0,0 +1,413 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
+import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
+import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
+
+import elemental2.dom.DomGlobal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.pagination.HasPagination;
+
+/**
+ * A {@link DataStore} that loads the records page by page through a {@link PageFetcher}.
+ *
+ * <ul>
+ *   <li>Search events are debounced, so typing in a search box issues a single request.
+ *   <li>A new request cancels the request it supersedes, and the responses of cancelled requests
+ *       are ignored.
+ *   <li>Recently loaded pages are kept in a least recently used cache keyed by the search, the
+ *       sort and the page, so flipping back to a page does not go to the server again.
+ *   <li>The page after the displayed one is prefetched into the cache.
+ * </ul>
+ *
+ * <p>The store works with the {@code SimplePaginationPlugin}, {@code AdvancedPaginationPlugin}
+ * and {@code ScrollingPaginationPlugin} by passing the plugin pagination to {@link
+ * #setPagination(HasPagination)}.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+public class RemoteDataStore<T> implements DataStore<T> {
+
+  private final PageFetcher<T> pageFetcher;
+  private final List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
+  private HasPagination<?> pagination;
+  private int pageSize = 10;
+  private int searchDelay = 300;
+  private int cacheSize = 10;
+  private boolean prefetchNextPage = true;
+  private Consumer<Throwable> failureHandler = error -> {};
+
+  private SearchEvent lastSearch;
+  private SortEvent<T> lastSort;
+  private double searchTimer = -1;
+  private PageRequest<T> currentRequest;
+  private PageRequest<T> prefetchRequest;
+  private final Map<Object, CachedPage<T>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+  private final PageRequest.Callback<T> requestCallback =
+      new PageRequest.Callback<T>() {
+        @Override
+        public void onSuccess(PageRequest<T> request, List<T> records, int totalCount) {
+          onPageLoaded(request, new CachedPage<>(records, totalCount));
+        }
+
+        @Override
+        public void onFailure(PageRequest<T> request, Throwable error) {
+          if (request == currentRequest) {
+            currentRequest = null;
+            failureHandler.accept(error);
+          } else if (request == prefetchRequest) {
+            prefetchRequest = null;
+          }
+        }
+      };
+
+  /**
+   * Creates a remote data store.
+   *
+   * @param pageFetcher The function fetching the pages of records.
+   */
+  public RemoteDataStore(PageFetcher<T> pageFetcher) {
+    this.pageFetcher = pageFetcher;
+  }
+
+  /**
+   * Creates a remote data store.
+   *
+   * @param pageFetcher The function fetching the pages of records.
+   * @param pageSize The number of records per page used when no pagination is set.
+   */
+  public RemoteDataStore(PageFetcher<T> pageFetcher, int pageSize) {
+    this(pageFetcher);
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Gets the pagination component associated with this data store.
+   *
+   * @return The pagination component.
+   */
+  public HasPagination<?> getPagination() {
+    return pagination;
+  }
+
+  /**
+   * Sets the pagination component for this data store, the page size and the active page are read
+   * from the pagination.
+   *
+   * @param pagination The pagination component.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setPagination(HasPagination<?> pagination) {
+    this.pagination = pagination;
+    return this;
+  }
+
+  /** @return The delay in milliseconds used to debounce search events. */
+  public int getSearchDelay() {
+    return searchDelay;
+  }
+
+  /**
+   * Sets the delay used to debounce search events, only the last search event received within the
+   * delay is sent to the server.
+   *
+   * @param searchDelay The delay in milliseconds, 0 to search right away.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setSearchDelay(int searchDelay) {
+    this.searchDelay = Math.max(0, searchDelay);
+    return this;
+  }
+
+  /** @return The maximum number of cached pages. */
+  public int getCacheSize() {
+    return cacheSize;
+  }
+
+  /**
+   * Sets the maximum number of cached pages, the least recently used pages are evicted first.
+   *
+   * @param cacheSize The maximum number of cached pages, 0 to disable the cache.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setCacheSize(int cacheSize) {
+    this.cacheSize = Math.max(0, cacheSize);
+    evict();
+    return this;
+  }
+
+  /** @return true if the page after the displayed one is prefetched. */
+  public boolean isPrefetchNextPage() {
+    return prefetchNextPage;
+  }
+
+  /**
+   * Enables or disables the prefetching of the page after the displayed one.
+   *
+   * @param prefetchNextPage true to prefetch the next page.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setPrefetchNextPage(boolean prefetchNextPage) {
+    this.prefetchNextPage = prefetchNextPage;
+    return this;
+  }
+
+  /**
+   * Sets a handler to be notified when loading the displayed page fails, failures of prefetch
+   * requests are ignored.
+   *
+   * @param failureHandler The failure handler.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setFailureHandler(Consumer<Throwable> failureHandler) {
+    this.failureHandler = isNull(failureHandler) ? error -> {} : failureHandler;
+    return this;
+  }
+
+  /** @return The last search applied to the records, or null. */
+  public SearchEvent getLastSearch() {
+    return lastSearch;
+  }
+
+  /** @return The last sort applied to the records, or null. */
+  public SortEvent<T> getLastSort() {
+    return lastSort;
+  }
+
+  /** @return true if a request for the displayed page is in progress. */
+  public boolean isLoading() {
+    return PageRequest.inFlight(currentRequest);
+  }
+
+  /** Clears the cached pages, the next page change goes to the server. */
+  public void invalidateCache() {
+    cache.clear();
+    cancel(prefetchRequest);
+    prefetchRequest = null;
+  }
+
+  @Override
+  public void onDataChanged(StoreDataChangeListener<T> dataChangeListener) {
+    listeners.add(dataChangeListener);
+  }
+
+  @Override
+  public void removeDataChangeListener(StoreDataChangeListener<T> dataChangeListener) {
+    listeners.remove(dataChangeListener);
+  }
+
+  /** Clears the cache and reloads the active page from the server. */
+  @Override
+  public void load() {
+    invalidateCache();
+    loadPage(getActivePage());
+  }
+
+  /**
+   * Handles the search, sort and pagination events of the data table.
+   *
+   * @param event The table event to handle.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public void handleEvent(TableEvent event) {
+    switch (event.getType()) {
+      case SEARCH_EVENT:
+        onSearchChanged((SearchEvent) event);
+        break;
+      case SORT_EVENT:
+        this.lastSort = (SortEvent<T>) event;
+        loadPage(getActivePage());
+        break;
+      case PAGINATION_EVENT:
+        loadPage(getActivePage());
+        break;
+    }
+  }
+
+  private void onSearchChanged(SearchEvent event) {
+    if (searchTimer >= 0) {
+      DomGlobal.clearTimeout(searchTimer);
+      searchTimer = -1;
+    }
+    if (searchDelay == 0) {
+      applySearch(event);
+    } else {
+      searchTimer =
+          DomGlobal.setTimeout(
+              p0 -> {
+                searchTimer = -1;
+                applySearch(event);
+              },
+              searchDelay);
+    }
+  }
+
+  private void applySearch(SearchEvent event) {
+    this.lastSearch = event;
+    if (nonNull(pagination) && pagination.activePage() > 1) {
+      pagination.gotoPage(1, true);
+    }
+    loadPage(1);
+  }
+
+  private void loadPage(int page) {
+    int size = getPageSize();
+    Object cacheKey = cacheKey(page, size);
+    CachedPage<T> cached = cache.get(cacheKey);
+    if (nonNull(cached)) {
+      cancel(currentRequest);
+      currentRequest = null;
+      fireUpdate(page, cached);
+      prefetch(page + 1, cached.totalCount);
+      return;
+    }
+    if (PageRequest.inFlight(currentRequest) && currentRequest.getCacheKey().equals(cacheKey)) {
+      return;
+    }
+    cancel(currentRequest);
+    if (PageRequest.inFlight(prefetchRequest) && prefetchRequest.getCacheKey().equals(cacheKey)) {
+      currentRequest = prefetchRequest;
+      prefetchRequest = null;
+      return;
+    }
+    cancel(prefetchRequest);
+    prefetchRequest = null;
+    currentRequest = newRequest(page, size, cacheKey);
+    pageFetcher.fetch(currentRequest);
+  }
+
+  private void prefetch(int page, int totalCount) {
+    int size = getPageSize();
+    if (!prefetchNextPage || cacheSize == 0 || (page - 1) * size >= totalCount) {
+      return;
+    }
+    Object cacheKey = cacheKey(page, size);
+    if (cache.containsKey(cacheKey)) {
+      return;
+    }
+    if (PageRequest.inFlight(prefetchRequest)) {
+      if (prefetchRequest.getCacheKey().equals(cacheKey)) {
+        return;
+      }
+      cancel(prefetchRequest);
+    }
+    prefetchRequest = newRequest(page, size, cacheKey);
+    pageFetcher.fetch(prefetchRequest);
+  }
+
+  private PageRequest<T> newRequest(int page, int size, Object cacheKey) {
+    return new PageRequest<>(page, size, lastSearch, lastSort, cacheKey, requestCallback);
+  }
+
+  private void onPageLoaded(PageRequest<T> request, CachedPage<T> page) {
+    if (cacheSize > 0) {
+      cache.put(request.getCacheKey(), page);
+      evict();
+    }
+    if (request == currentRequest) {
+      currentRequest = null;
+      fireUpdate(request.getPage(), page);
+      prefetch(request.getPage() + 1, page.totalCount);
+    } else if (request == prefetchRequest) {
+      prefetchRequest = null;
+    }
+  }
+
+  private void fireUpdate(int page, CachedPage<T> cachedPage) {
+    if (nonNull(pagination)) {
+      if (pagination.getTotalCount() != cachedPage.totalCount) {
+        pagination.updatePagesByTotalCount(cachedPage.totalCount, true);
+      }
+      if (pagination.activePage() != page) {
+        pagination.gotoPage(page, true);
+      }
+    }
+    listeners.forEach(
+        dataChangeListener ->
+            dataChangeListener.onDataChanged(
+                new DataChangedEvent<>(
+                    new ArrayList<>(cachedPage.records), cachedPage.totalCount)));
+  }
+
+  private void evict() {
+    while (cache.size() > cacheSize) {
+      Object eldest = cache.keySet().iterator().next();
+      cache.remove(eldest);
+    }
+  }
+
+  private void cancel(PageRequest<T> request) {
+    if (nonNull(request)) {
+      request.cancel();
+    }
+  }
+
+  private int getActivePage() {
+    if (nonNull(pagination)) {
+      return Math.max(1, pagination.activePage());
+    }
+    return 1;
+  }
+
+  private int getPageSize() {
+    if (nonNull(pagination)) {
+      return pagination.getPageSize();
+    }
+    return pageSize;
+  }
+
+  /**
+   * The cache key of a page, searches are compared by their filters and sorts by their columns sort
+   * keys and directions.
+   */
+  private Object cacheKey(int page, int size) {
+    List<Object> sorts = new ArrayList<>();
+    if (nonNull(lastSort)) {
+      for (SortEvent.ColumnSort<T> sort : lastSort.getSorts()) {
+        sorts.add(sort.getColumnConfig().getSortKey());
+        sorts.add(sort.getSortDirection());
+      }
+    }
+    return Arrays.asList(
+        isNull(lastSearch) ? Collections.emptyList() : lastSearch.getFilters(), sorts, page, size);
+  }
+
+  private static class CachedPage<T> {
+    private final List<T> records;
+    private final int totalCount;
+
+    private CachedPage(List<T> records, int totalCount) {
+      this.records = new ArrayList<>(records);
+      this.totalCount = totalCount;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * The {@code SortKeyProvider} functional interface defines a contract for extracting the sort key
+ * of a record for a sort field, the local data stores extract the keys of all records once per sort
+ * and compare the extracted keys instead of deriving them again in every comparison.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+@FunctionalInterface
+public interface SortKeyProvider<T> {
+
+  /**
+   * Gets the sort key of a record for the specified sort field, {@code null} keys are sorted before
+   * the non null keys in ascending order.
+   *
+   * @param sortBy The name of the field by which the records should be sorted.
+   * @param record The record.
+   * @return The sort key of the record, or {@code null}.
+   */
+  Comparable<?> getSortKey(String sortBy, T record);
+}
@@ -34,7 +34,10 @@ import java.util.Map;
 public class DragSource {
 
   /** Constant representing a CSS class used to denote an element is currently being dragged. */
-  static final String DRAGGING = "dragging";
+  public static final String DRAGGING = "dragging";
+
+  /** The data transfer format holding the id of the dragged element. */
+  public static final String DRAGGABLE_ID = "draggable_id";
 
   /** Map of draggable elements indexed by their ID. */
   private final Map<String, Draggable> draggables = new HashMap<>();
@@ -123,7 +123,7 @@ public class Draggable<E extends IsElement<? extends HTMLElement>> {
   private void onDragStart(Event evt, E draggable, String id) {
     if (config.isEnabled()) {
       DragEvent e = (DragEvent) evt;
-      e.dataTransfer.setData("draggable_id", id);
+      e.dataTransfer.setData(DragSource.DRAGGABLE_ID, id);
       e.dataTransfer.dropEffect = "move";
       draggable.element().classList.add(DragSource.DRAGGING);
       dragStartListener.accept(draggable);
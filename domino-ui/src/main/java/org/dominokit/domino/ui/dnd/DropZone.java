@@ -40,6 +40,9 @@ import org.dominokit.domino.ui.utils.DominoElement;
  */
 public class DropZone {
 
+  /** Constant representing a CSS class used to denote a dragged element is over a drop target. */
+  public static final String DRAG_OVER = "drag-over";
+
   /** Map containing the drop targets. */
   private final Map<HTMLElement, DropTarget> dropTargets = new HashMap<>();
 
@@ -103,7 +106,6 @@ public class DropZone {
   /** Inner class representing a drop target. */
   private static class DropTarget {
 
-    private static final String DRAG_OVER = "drag-over";
     private final DominoElement<? extends HTMLElement> element;
     private final DropListener dropListener;
     private final EventListener onDragOver;
@@ -137,7 +139,7 @@ public class DropZone {
       evt.preventDefault();
       element.removeCss(DRAG_OVER);
       DragEvent e = (DragEvent) evt;
-      String draggableId = e.dataTransfer.getData("draggable_id");
+      String draggableId = e.dataTransfer.getData(DragSource.DRAGGABLE_ID);
       dropListener.onDrop(draggableId);
     }
 
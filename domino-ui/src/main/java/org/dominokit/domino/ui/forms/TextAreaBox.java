@@ -25,13 +25,11 @@ import org.dominokit.domino.ui.elements.DivElement;
 import org.dominokit.domino.ui.elements.SpanElement;
 import org.dominokit.domino.ui.utils.DominoElement;
 import org.dominokit.domino.ui.utils.FillerElement;
-import org.dominokit.domino.ui.utils.IntersectionObserver;
-import org.dominokit.domino.ui.utils.IntersectionObserverEntry;
-import org.dominokit.domino.ui.utils.IntersectionObserverOptions;
 import org.dominokit.domino.ui.utils.LazyChild;
 import org.dominokit.domino.ui.utils.PostfixElement;
 import org.dominokit.domino.ui.utils.PrefixElement;
 import org.dominokit.domino.ui.utils.PrimaryAddOnElement;
+import org.dominokit.domino.ui.utils.SharedIntersectionObserver;
 
 /**
  * The TextAreaBox class is a form field component for text areas, providing features such as prefix
@@ -58,7 +56,6 @@ public class TextAreaBox extends CountableInputFormField<TextAreaBox, HTMLTextAr
 
   private DivElement header;
   private FillerElement headerFiller;
-  private IntersectionObserver intersectionObserver;
 
   /**
    * Factory method to create a new instance of {@link TextAreaBox}.
@@ -110,18 +107,14 @@ public class TextAreaBox extends CountableInputFormField<TextAreaBox, HTMLTextAr
                     .element()
                     .setAttribute("data-scroll", getInputElement().element().scrollTop));
 
-    intersectionObserver =
-        new IntersectionObserver(
-            entries -> {
-              IntersectionObserverEntry entry = entries.asList().get(0);
-              if (entry.getIsIntersecting()) {
-                adjustHeight();
-                intersectionObserver.unobserve(this.element());
-                intersectionObserver.disconnect();
-              }
-            },
-            IntersectionObserverOptions.create());
-    intersectionObserver.observe(this.element());
+    SharedIntersectionObserver.observe(
+        this.element(),
+        entry -> {
+          if (entry.getIsIntersecting()) {
+            adjustHeight();
+            SharedIntersectionObserver.unobserve(this.element());
+          }
+        });
   }
 
   @Override
@@ -0,0 +1,442 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.forms.suggest;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.dominokit.domino.ui.IsElement;
+
+/**
+ * A suggestions store that loads the suggestions from a remote source using a {@link
+ * SuggestionsLoader}.
+ *
+ * <p>The loaded suggestions are cached per search value in a least recently used cache, so typing
+ * the same value again does not load it again. Only one load is in flight at a time: a search for
+ * the same value joins the in flight load, a search for another value cancels it, and the
+ * responses of superseded searches are never delivered. When a cached response for a prefix of the
+ * search value is complete, the suggestions are filtered locally from it instead of being loaded.
+ *
+ * <pre>
+ * RemoteSuggestionsStore&lt;Country, Element, SuggestOption&lt;Country&gt;&gt; store =
+ *     RemoteSuggestionsStore.create(
+ *         (searchValue, handler) -&gt; {
+ *           Request request = countriesService.search(searchValue, 50, countries -&gt;
+ *               handler.onLoaded(toOptions(countries), countries.size() &lt; 50));
+ *           return request::cancel;
+ *         });
+ * </pre>
+ *
+ * @param <T> The type of data associated with the suggestion options.
+ * @param <E> The type of UI element that represents the suggestion options.
+ * @param <O> The type of suggestion options.
+ */
+public class RemoteSuggestionsStore<T, E extends IsElement<?>, O extends Option<T, E, O>>
+    implements SuggestionsStore<T, E, O> {
+
+  private static final int DEFAULT_CACHE_SIZE = 50;
+
+  private final SuggestionsLoader<T, E, O> loader;
+  private final Map<String, LoadedSuggestions<O>> cache =
+      new LinkedHashMap<String, LoadedSuggestions<O>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LoadedSuggestions<O>> eldest) {
+          return size() > cacheSize;
+        }
+      };
+  private int cacheSize = DEFAULT_CACHE_SIZE;
+  private boolean localRefinement = true;
+  private PendingLoad pendingLoad;
+  private SuggestionFilter<T, E, O> suggestionFilter =
+      (searchValue, suggestItem) -> suggestItem.getMenuItem().onSearch(searchValue, false);
+  private OptionFinder<T, O> optionFinder = (value, handler) -> handler.accept(null);
+  private MissingSuggestProvider<T, E, O> missingValueProvider;
+  private MissingEntryProvider<T, E, O> missingEntryProvider;
+
+  /**
+   * Creates a {@code RemoteSuggestionsStore} with the provided loader.
+   *
+   * @param loader The loader of the suggestions of a search value.
+   */
+  public RemoteSuggestionsStore(SuggestionsLoader<T, E, O> loader) {
+    this.loader = loader;
+  }
+
+  /**
+   * Creates a new {@code RemoteSuggestionsStore} with the provided loader.
+   *
+   * @param <T> The type of data associated with the suggestion options.
+   * @param <E> The type of UI element that represents the suggestion options.
+   * @param <O> The type of suggestion options.
+   * @param loader The loader of the suggestions of a search value.
+   * @return A new {@code RemoteSuggestionsStore}.
+   */
+  public static <T, E extends IsElement<?>, O extends Option<T, E, O>>
+      RemoteSuggestionsStore<T, E, O> create(SuggestionsLoader<T, E, O> loader) {
+    return new RemoteSuggestionsStore<>(loader);
+  }
+
+  /**
+   * Filters the suggestions for the given search value, from the cache when possible otherwise
+   * using the loader, and invokes the provided {@link SuggestionsHandler} unless another search is
+   * started before the suggestions are loaded.
+   *
+   * @param searchValue The search value to filter the suggestions.
+   * @param suggestionsHandler The handler to invoke with the filtered suggestions.
+   */
+  @Override
+  public void filter(String searchValue, SuggestionsHandler<T, E, O> suggestionsHandler) {
+    String value = isNull(searchValue) ? "" : searchValue;
+    Optional<List<O>> cached = getCached(value);
+    if (cached.isPresent()) {
+      cancelPendingLoad();
+      suggestionsHandler.onSuggestionsReady(cached.get());
+      return;
+    }
+    if (nonNull(pendingLoad) && pendingLoad.searchValue.equals(value)) {
+      pendingLoad.suggestionsHandler = suggestionsHandler;
+      return;
+    }
+    cancelPendingLoad();
+    PendingLoad load = new PendingLoad(value, suggestionsHandler);
+    this.pendingLoad = load;
+    load.request = loader.load(value, load);
+  }
+
+  /**
+   * Gets the suggestions of a search value from the cache, or filters them locally from the
+   * complete cached suggestions of the longest cached prefix of the search value. The returned
+   * options are shown again, as the local filtering may have hidden them for another search value.
+   */
+  private Optional<List<O>> getCached(String searchValue) {
+    LoadedSuggestions<O> loaded = cache.get(searchValue);
+    if (nonNull(loaded)) {
+      return Optional.of(show(loaded.suggestions));
+    }
+    if (!localRefinement) {
+      return Optional.empty();
+    }
+    String prefix = null;
+    for (Map.Entry<String, LoadedSuggestions<O>> entry : cache.entrySet()) {
+      if (entry.getValue().complete
+          && searchValue.startsWith(entry.getKey())
+          && (isNull(prefix) || entry.getKey().length() > prefix.length())) {
+        prefix = entry.getKey();
+      }
+    }
+    if (isNull(prefix)) {
+      return Optional.empty();
+    }
+    List<O> refined = new ArrayList<>();
+    for (O suggestion : cache.get(prefix).suggestions) {
+      if (filterItem(searchValue, suggestion)) {
+        refined.add(suggestion);
+      }
+    }
+    cache.put(searchValue, new LoadedSuggestions<>(refined, true));
+    return Optional.of(show(refined));
+  }
+
+  private List<O> show(List<O> suggestions) {
+    suggestions.forEach(suggestion -> suggestion.getMenuItem().show());
+    return suggestions;
+  }
+
+  private void cancelPendingLoad() {
+    if (nonNull(pendingLoad)) {
+      PendingLoad load = pendingLoad;
+      this.pendingLoad = null;
+      if (nonNull(load.request)) {
+        load.request.cancel();
+      }
+    }
+  }
+
+  /**
+   * Finds a suggestion option by the provided value in the cached suggestions, otherwise uses the
+   * option finder of this store, and invokes the given handler with the result.
+   *
+   * @param searchValue The value to find.
+   * @param handler The handler to invoke with the result.
+   */
+  @Override
+  public void find(T searchValue, Consumer<O> handler) {
+    if (isNull(searchValue)) {
+      handler.accept(null);
+      return;
+    }
+    for (LoadedSuggestions<O> loaded : cache.values()) {
+      for (O suggestion : loaded.suggestions) {
+        if (Objects.equals(suggestion.getValue(), searchValue)) {
+          handler.accept(suggestion);
+          return;
+        }
+      }
+    }
+    optionFinder.find(searchValue, handler);
+  }
+
+  /**
+   * Filters a suggestion option based on the provided search value, this is used to refine the
+   * cached suggestions locally.
+   *
+   * @param searchValue The search value to filter the suggestion option.
+   * @param suggestItem The suggestion option to filter.
+   * @return {@code true} if the suggestion option matches the search value, otherwise {@code
+   *     false}.
+   */
+  @Override
+  public boolean filterItem(String searchValue, O suggestItem) {
+    return suggestionFilter.filter(searchValue, suggestItem);
+  }
+
+  /**
+   * Sets the suggestion filter used to refine the cached suggestions locally.
+   *
+   * @param suggestionFilter The suggestion filter to set.
+   * @return This {@code RemoteSuggestionsStore} for method chaining.
+   */
+  public RemoteSuggestionsStore<T, E, O> setSuggestionFilter(
+      SuggestionFilter<T, E, O> suggestionFilter) {
+    if (nonNull(suggestionFilter)) {
+      this.suggestionFilter = suggestionFilter;
+    }
+    return this;
+  }
+
+  /**
+   * Sets whether the suggestions of a search value are filtered locally from the complete cached
+   * suggestions of one of its prefixes, this requires the suggestions of a search value to always
+   * be a subset of the suggestions of its prefixes. Defaults to {@code true}.
+   *
+   * @param localRefinement {@code true} to refine the cached suggestions locally.
+   * @return This {@code RemoteSuggestionsStore} for method chaining.
+   */
+  public RemoteSuggestionsStore<T, E, O> setLocalRefinement(boolean localRefinement) {
+    this.localRefinement = localRefinement;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of search values whose suggestions are cached, the least recently used
+   * ones are removed first. Defaults to 50.
+   *
+   * @param cacheSize The maximum number of cached search values.
+   * @return This {@code RemoteSuggestionsStore} for method chaining.
+   */
+  public RemoteSuggestionsStore<T, E, O> setCacheSize(int cacheSize) {
+    this.cacheSize = Math.max(0, cacheSize);
+    new ArrayList<>(cache.keySet())
+        .subList(0, Math.max(0, cache.size() - this.cacheSize))
+        .forEach(cache::remove);
+    return this;
+  }
+
+  /**
+   * Removes all the cached suggestions and cancels the pending load, this should be called when
+   * the remote suggestions change.
+   *
+   * @return This {@code RemoteSuggestionsStore} for method chaining.
+   */
+  public RemoteSuggestionsStore<T, E, O> clearCache() {
+    cancelPendingLoad();
+    cache.clear();
+    return this;
+  }
+
+  /**
+   * Sets the finder used to find the option of a value that is not in the cached suggestions, for
+   * example when the value of the suggest box is set before any search.
+   *
+   * @param optionFinder The option finder to set.
+   * @return This {@code RemoteSuggestionsStore} for method chaining.
+   */
+  public RemoteSuggestionsStore<T, E, O> setOptionFinder(OptionFinder<T, O> optionFinder) {
+    if (nonNull(optionFinder)) {
+      this.optionFinder = optionFinder;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the missing suggestion provider for this store.
+   *
+   * @param missingValueProvider The missing suggestion provider to set.
+   * @return This {@code RemoteSuggestionsStore} for method chaining.
+   */
+  public RemoteSuggestionsStore<T, E, O> setMissingValueProvider(
+      MissingSuggestProvider<T, E, O> missingValueProvider) {
+    this.missingValueProvider = missingValueProvider;
+    return this;
+  }
+
+  /**
+   * Sets the missing entry provider for this store.
+   *
+   * @param missingEntryProvider The missing entry provider to set.
+   * @return This {@code RemoteSuggestionsStore} for method chaining.
+   */
+  public RemoteSuggestionsStore<T, E, O> setMissingEntryProvider(
+      MissingEntryProvider<T, E, O> missingEntryProvider) {
+    this.missingEntryProvider = missingEntryProvider;
+    return this;
+  }
+
+  /**
+   * Gets the missing suggestion provider for this store. If not set, a default provider that
+   * returns an empty optional will be used.
+   *
+   * @return The missing suggestion provider.
+   */
+  @Override
+  public MissingSuggestProvider<T, E, O> getMessingSuggestionProvider() {
+    if (isNull(missingValueProvider)) {
+      return missingValue -> Optional.empty();
+    }
+    return missingValueProvider;
+  }
+
+  /**
+   * Gets the missing entry provider for this store. If not set, a default provider that returns an
+   * empty optional will be used.
+   *
+   * @return The missing entry provider.
+   */
+  @Override
+  public MissingEntryProvider<T, E, O> getMessingEntryProvider() {
+    if (isNull(missingEntryProvider)) {
+      return inputValue -> Optional.empty();
+    }
+    return missingEntryProvider;
+  }
+
+  /** A load of the suggestions of a search value that is still waiting for its response. */
+  private class PendingLoad implements LoadHandler<O> {
+    private final String searchValue;
+    private SuggestionsHandler<T, E, O> suggestionsHandler;
+    private LoadRequest request;
+
+    private PendingLoad(String searchValue, SuggestionsHandler<T, E, O> suggestionsHandler) {
+      this.searchValue = searchValue;
+      this.suggestionsHandler = suggestionsHandler;
+    }
+
+    @Override
+    public void onLoaded(List<O> suggestions, boolean complete) {
+      if (pendingLoad == this) {
+        pendingLoad = null;
+        List<O> loaded = new ArrayList<>(suggestions);
+        cache.put(searchValue, new LoadedSuggestions<>(loaded, complete));
+        suggestionsHandler.onSuggestionsReady(loaded);
+      }
+    }
+
+    @Override
+    public void onFailed(Throwable error) {
+      if (pendingLoad == this) {
+        pendingLoad = null;
+        suggestionsHandler.onSuggestionsReady(Collections.emptyList());
+      }
+    }
+  }
+
+  /** The cached suggestions of a search value. */
+  private static class LoadedSuggestions<O> {
+    private final List<O> suggestions;
+    private final boolean complete;
+
+    private LoadedSuggestions(List<O> suggestions, boolean complete) {
+      this.suggestions = suggestions;
+      this.complete = complete;
+    }
+  }
+
+  /**
+   * A functional interface for loading the suggestions of a search value from a remote source.
+   *
+   * @param <T> The type of data associated with the suggestion options.
+   * @param <E> The type of UI element that represents the suggestion options.
+   * @param <O> The type of suggestion options.
+   */
+  @FunctionalInterface
+  public interface SuggestionsLoader<T, E extends IsElement<?>, O extends Option<T, E, O>> {
+    /**
+     * Starts loading the suggestions of a search value.
+     *
+     * @param searchValue The search value.
+     * @param handler The handler to call with the loaded suggestions or the failure.
+     * @return The request used to cancel the load when it is superseded, or null if the load
+     *     cannot be cancelled.
+     */
+    LoadRequest load(String searchValue, LoadHandler<O> handler);
+  }
+
+  /**
+   * A handler for the response of a {@link SuggestionsLoader}.
+   *
+   * @param <O> The type of suggestion options.
+   */
+  public interface LoadHandler<O> {
+    /**
+     * Called with the loaded suggestions.
+     *
+     * @param suggestions The loaded suggestions.
+     * @param complete {@code true} if the suggestions are all the matches of the search value, and
+     *     not a limited page of them, so the suggestions of longer search values can be filtered
+     *     locally.
+     */
+    void onLoaded(List<O> suggestions, boolean complete);
+
+    /**
+     * Called when the suggestions could not be loaded, the suggest box shows no suggestions.
+     *
+     * @param error The load error.
+     */
+    void onFailed(Throwable error);
+  }
+
+  /** A functional interface for cancelling a load of a {@link SuggestionsLoader}. */
+  @FunctionalInterface
+  public interface LoadRequest {
+    /** Cancels the load, its response is ignored even if it is still delivered. */
+    void cancel();
+  }
+
+  /**
+   * A functional interface for finding the option of a value that is not in the cached suggestions.
+   *
+   * @param <T> The type of data associated with the suggestion options.
+   * @param <O> The type of suggestion options.
+   */
+  @FunctionalInterface
+  public interface OptionFinder<T, O> {
+    /**
+     * Finds the option of a value.
+     *
+     * @param value The value to find.
+     * @param handler The handler to call with the found option, or with null if not found.
+     */
+    void find(T value, Consumer<O> handler);
+  }
+}
@@ -24,6 +24,9 @@ public class IconsStyles {
   /** Represents the Material Design Icons (MDI) CSS class. */
   public static final CssClass dui_mdi = () -> "mdi";
 
+  /** Represents the CSS class for MDI icons rendered from the SVG sprites. */
+  public static final CssClass dui_mdi_svg = () -> "dui-mdi-svg";
+
   /** Represents the CSS class for labeled icons. */
   public static final CssClass dui_labeled_icon = () -> "dui-labeled-icon";
 
@@ -85,6 +85,9 @@ public class MdiIcon extends Icon<MdiIcon> implements CanChangeIcon<MdiIcon> {
   /** Creates a blank MdiIcon with no initial icon representation. */
   private MdiIcon() {
     this.icon = i().addCss(dui, dui_mdi).toDominoElement();
+    if (MdiSprites.isEnabled()) {
+      MdiSprites.attach(this.icon.element());
+    }
     init(this);
   }
 
@@ -17,19 +17,24 @@ package org.dominokit.domino.ui.icons;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Represents metadata for a Material Design Icon (MDI). This class contains information about the
  * icon's name, codepoint, aliases, tags, author, and version.
+ *
+ * <p>The metadata of the icons created by name, like {@code Icons.account()}, is looked up from
+ * {@link MdiMetaIndex} the first time it is read.
  */
 public class MdiMeta {
 
   private final String name;
-  private final String codepoint;
-  private final List<String> aliases;
-  private final List<String> tags;
-  private final String author;
-  private final String version;
+  private String codepoint;
+  private List<String> aliases;
+  private List<String> tags;
+  private String author;
+  private String version;
+  private boolean resolved;
 
   /**
    * Constructs an instance of {@code MdiMeta} with the specified metadata.
@@ -54,16 +59,32 @@ public class MdiMeta {
     this.tags = tags;
     this.author = author;
     this.version = version;
+    this.resolved = true;
   }
 
   /**
-   * Constructs an instance of {@code MdiMeta} with the specified name. This constructor initializes
-   * the other metadata fields with empty values or empty lists.
+   * Constructs an instance of {@code MdiMeta} with the specified name. The other metadata fields
+   * are looked up from {@link MdiMetaIndex} when first read, and are empty values or empty lists
+   * for an unknown icon.
    *
    * @param name The name of the MDI icon.
    */
   MdiMeta(String name) {
-    this(name, "", new ArrayList<>(), new ArrayList<>(), "", "");
+    this.name = name;
+  }
+
+  private MdiMeta resolve() {
+    if (!resolved) {
+      resolved = true;
+      Optional<MdiMeta> meta = MdiMetaIndex.find(name);
+      this.codepoint = meta.map(MdiMeta::getCodepoint).orElse("");
+      this.aliases =
+          meta.map(found -> new ArrayList<>(found.getAliases())).orElseGet(ArrayList::new);
+      this.tags = meta.map(found -> new ArrayList<>(found.getTags())).orElseGet(ArrayList::new);
+      this.author = meta.map(MdiMeta::getAuthor).orElse("");
+      this.version = meta.map(MdiMeta::getVersion).orElse("");
+    }
+    return this;
   }
 
   /**
@@ -81,7 +102,7 @@ public class MdiMeta {
    * @return The codepoint as a string.
    */
   public String getCodepoint() {
-    return codepoint;
+    return resolve().codepoint;
   }
 
   /**
@@ -90,7 +111,7 @@ public class MdiMeta {
    * @return A list of alias names.
    */
   public List<String> getAliases() {
-    return aliases;
+    return resolve().aliases;
   }
 
   /**
@@ -99,7 +120,7 @@ public class MdiMeta {
    * @return A list of tag names.
    */
   public List<String> getTags() {
-    return tags;
+    return resolve().tags;
   }
 
   /**
@@ -108,7 +129,7 @@ public class MdiMeta {
    * @return The author's name or source information.
    */
   public String getAuthor() {
-    return author;
+    return resolve().author;
   }
 
   /**
@@ -117,6 +138,6 @@ public class MdiMeta {
    * @return The icon's version information.
    */
   public String getVersion() {
-    return version;
+    return resolve().version;
   }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.icons;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.dominokit.domino.ui.icons.lib.MdiMetaData;
+
+/**
+ * Looks up the metadata of the Material Design Icons.
+ *
+ * <p>The metadata is generated as the packed string tables of {@link MdiMetaData} rather than a
+ * {@link MdiMeta} allocation per icon. The tables are decoded on the first lookup, then each
+ * {@link MdiMeta} is created on the first lookup of its icon and cached.
+ *
+ * <p>Usage Example:
+ *
+ * <pre>
+ * MdiMetaIndex.find("account-box").ifPresent(meta -&gt; meta.getTags());
+ * MdiMetaIndex.getNames(MdiTags.ACCOUNT_USER).forEach(name -&gt; MdiIcon.create("mdi-" + name));
+ * </pre>
+ */
+public final class MdiMetaIndex {
+
+  private static final String SEPARATOR = "\\|";
+
+  private static String[] strings;
+  private static Map<String, String> recordByName;
+  private static Map<String, String> nameByCodepoint;
+  private static Map<String, List<String>> namesByTag;
+  private static final Map<String, MdiMeta> metaByName = new HashMap<>();
+
+  private MdiMetaIndex() {}
+
+  /**
+   * Finds the metadata of an icon.
+   *
+   * @param name The icon name without the {@code mdi-} prefix, like {@code account-box}.
+   * @return The icon metadata, or an empty optional for an unknown icon.
+   */
+  public static Optional<MdiMeta> find(String name) {
+    if (isNull(name)) {
+      return Optional.empty();
+    }
+    MdiMeta meta = metaByName.get(name);
+    if (isNull(meta)) {
+      String record = records().get(name);
+      if (isNull(record)) {
+        return Optional.empty();
+      }
+      meta = decode(record);
+      metaByName.put(name, meta);
+    }
+    return Optional.of(meta);
+  }
+
+  /**
+   * Finds the metadata of the icon with a codepoint.
+   *
+   * @param codepoint The icon codepoint in hexadecimal, like {@code F0006}.
+   * @return The icon metadata, or an empty optional if no icon has the codepoint.
+   */
+  public static Optional<MdiMeta> findByCodepoint(String codepoint) {
+    if (isNull(codepoint)) {
+      return Optional.empty();
+    }
+    if (isNull(nameByCodepoint)) {
+      nameByCodepoint = new HashMap<>();
+      records().forEach((name, record) -> nameByCodepoint.put(fields(record)[1], name));
+    }
+    return find(nameByCodepoint.get(codepoint.toUpperCase()));
+  }
+
+  /**
+   * Lists the icons of a tag.
+   *
+   * @param tag The tag, one of the {@code MdiTags} constants, the empty tag lists the untagged
+   *     icons.
+   * @return The names of the icons of the tag, without the {@code mdi-} prefix.
+   */
+  public static List<String> getNames(String tag) {
+    if (isNull(namesByTag)) {
+      namesByTag = new HashMap<>();
+      records()
+          .forEach(
+              (name, record) -> {
+                List<String> tags = values(fields(record)[2]);
+                if (tags.isEmpty()) {
+                  tags.add("");
+                }
+                for (String iconTag : tags) {
+                  namesByTag.computeIfAbsent(iconTag, k -> new ArrayList<>()).add(name);
+                }
+              });
+    }
+    return new ArrayList<>(namesByTag.getOrDefault(tag, new ArrayList<>()));
+  }
+
+  private static Map<String, String> records() {
+    if (isNull(recordByName)) {
+      strings = String.join("|", MdiMetaData.STRINGS).split(SEPARATOR, -1);
+      recordByName = new LinkedHashMap<>();
+      for (String chunk : MdiMetaData.ICONS) {
+        for (String record : chunk.split(SEPARATOR)) {
+          recordByName.put(record.substring(0, record.indexOf(' ')), record);
+        }
+      }
+    }
+    return recordByName;
+  }
+
+  private static MdiMeta decode(String record) {
+    String[] fields = fields(record);
+    return new MdiMeta(
+        fields[0],
+        fields[1],
+        values(fields[3]),
+        values(fields[2]),
+        string(fields[4]),
+        string(fields[5]));
+  }
+
+  private static String[] fields(String record) {
+    return record.split(" ", -1);
+  }
+
+  private static List<String> values(String ids) {
+    List<String> values = new ArrayList<>();
+    if (!ids.isEmpty()) {
+      for (String id : ids.split(",")) {
+        values.add(string(id));
+      }
+    }
+    return values;
+  }
+
+  private static String string(String id) {
+    return strings[Integer.parseInt(id, 36)];
+  }
+}
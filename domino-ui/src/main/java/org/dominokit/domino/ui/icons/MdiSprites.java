@@ -0,0 +1,247 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.icons;
+
+import static elemental2.dom.DomGlobal.document;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.core.Global;
+import elemental2.core.JsArray;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.MutationObserver;
+import elemental2.dom.MutationObserverInit;
+import elemental2.dom.MutationRecord;
+import elemental2.promise.Promise;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+import org.dominokit.domino.ui.utils.DominoUIConfig;
+
+/**
+ * Renders {@link MdiIcon}s as inline SVGs referencing the symbols of the MDI sprites, see {@link
+ * org.dominokit.domino.ui.config.IconsConfig#isMdiSvgSprites()}.
+ *
+ * <p>The sprites are split by icon category, the {@code index.json} listing the icons of each
+ * sprite is fetched on the first render and a sprite is fetched when one of its icons is first
+ * rendered. The symbols are inserted in a single hidden element of the document and referenced
+ * with {@code <use href="#mdi-name">}.
+ *
+ * <p>The icon shown follows the {@code mdi-*} CSS class of the icon element, a single mutation
+ * observer watches the class attribute of the icons so the icons switched by swapping their CSS
+ * classes, like {@link ToggleMdiIcon} and {@link StateChangeMdiIcon}, keep working.
+ */
+public final class MdiSprites {
+
+  private static final String INDEX_FILE = "index.json";
+  private static final String ICON_PREFIX = "mdi-";
+  private static final int INITIAL_RETRY_DELAY = 1000;
+  private static final int MAX_RETRY_DELAY = 60000;
+
+  private static Map<String, String> spriteByIcon;
+  private static Promise<Map<String, String>> indexRequest;
+  private static final Set<String> requestedSprites = new HashSet<>();
+  private static final Set<Element> pendingIcons = new LinkedHashSet<>();
+  private static int retryDelay = INITIAL_RETRY_DELAY;
+  private static MutationObserver classObserver;
+  private static HTMLElement symbolsHost;
+
+  private MdiSprites() {}
+
+  /** @return true if the MDI icons are rendered from the SVG sprites */
+  public static boolean isEnabled() {
+    return DominoUIConfig.CONFIG.getUIConfig().isMdiSvgSprites();
+  }
+
+  /**
+   * Fetches the sprites holding the given icons ahead of their first render.
+   *
+   * @param icons the icon names or CSS classes, like {@code account} or {@code mdi-account}
+   */
+  public static void preload(String... icons) {
+    loadIndex()
+        .then(
+            index -> {
+              for (String icon : icons) {
+                loadSprite(index.get(icon.startsWith(ICON_PREFIX) ? icon.substring(4) : icon));
+              }
+              return null;
+            });
+  }
+
+  /**
+   * Renders an icon element from the sprites, an {@code <svg><use></svg>} child is added to it and
+   * kept in sync with its {@code mdi-*} CSS class.
+   *
+   * @param iconElement the {@code <i class="mdi">} element of an {@link MdiIcon}
+   */
+  static void attach(Element iconElement) {
+    iconElement.classList.add(IconsStyles.dui_mdi_svg.getCssClass());
+    Element svg = document.createElementNS("http://www.w3.org/2000/svg", "svg");
+    svg.setAttribute("aria-hidden", "true");
+    svg.appendChild(document.createElementNS("http://www.w3.org/2000/svg", "use"));
+    iconElement.appendChild(svg);
+
+    if (isNull(classObserver)) {
+      classObserver =
+          new MutationObserver(
+              (JsArray<MutationRecord> records, MutationObserver observer) -> {
+                MutationRecord[] recordsArray =
+                    Js.uncheckedCast(records.asArray(new MutationRecord[records.length]));
+                for (MutationRecord record : recordsArray) {
+                  sync(Js.uncheckedCast(record.target));
+                }
+                return null;
+              });
+    }
+    MutationObserverInit init = MutationObserverInit.create();
+    init.setAttributes(true);
+    init.setAttributeFilter(new String[] {"class"});
+    classObserver.observe(iconElement, init);
+    sync(iconElement);
+  }
+
+  private static void sync(Element iconElement) {
+    if (isNull(spriteByIcon)) {
+      if (pendingIcons.add(iconElement)) {
+        loadIndex();
+      }
+      return;
+    }
+    Element use = iconElement.querySelector(":scope > svg > use");
+    if (isNull(use)) {
+      return;
+    }
+    String icon = currentIcon(iconElement);
+    if (isNull(icon)) {
+      use.removeAttribute("href");
+    } else {
+      if (!("#" + icon).equals(use.getAttribute("href"))) {
+        use.setAttribute("href", "#" + icon);
+      }
+      loadSprite(spriteByIcon.get(icon.substring(ICON_PREFIX.length())));
+    }
+  }
+
+  private static String currentIcon(Element iconElement) {
+    for (int i = 0; i < iconElement.classList.length; i++) {
+      String cssClass = iconElement.classList.item(i);
+      if (cssClass.startsWith(ICON_PREFIX)
+          && spriteByIcon.containsKey(cssClass.substring(ICON_PREFIX.length()))) {
+        return cssClass;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Fetches the index once, a failed fetch is kept until it is retried after a delay that doubles
+   * with each failure, so the icons rendered in the meantime do not fetch the index again.
+   */
+  private static Promise<Map<String, String>> loadIndex() {
+    if (isNull(indexRequest)) {
+      indexRequest =
+          fetchText(INDEX_FILE)
+              .then(
+                  text -> {
+                    Map<String, String> index = new HashMap<>();
+                    JsPropertyMap<String> sprites = Js.uncheckedCast(Global.JSON.parse(text));
+                    sprites.forEach(
+                        sprite -> {
+                          for (String icon : sprites.get(sprite).split(" ")) {
+                            index.put(icon, sprite);
+                          }
+                        });
+                    spriteByIcon = index;
+                    retryDelay = INITIAL_RETRY_DELAY;
+                    List<Element> icons = new ArrayList<>(pendingIcons);
+                    pendingIcons.clear();
+                    icons.forEach(MdiSprites::sync);
+                    return Promise.resolve(index);
+                  })
+              .catch_(
+                  error -> {
+                    DomGlobal.console.warn("Unable to load the MDI sprites index", error);
+                    DomGlobal.setTimeout(
+                        ignore -> {
+                          indexRequest = null;
+                          if (!pendingIcons.isEmpty()) {
+                            loadIndex();
+                          }
+                        },
+                        retryDelay);
+                    retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+                    return Promise.reject(error);
+                  });
+    }
+    return indexRequest;
+  }
+
+  private static void loadSprite(String sprite) {
+    if (isNull(sprite) || !requestedSprites.add(sprite)) {
+      return;
+    }
+    fetchText(sprite + ".svg")
+        .then(
+            text -> {
+              Element container = document.createElement("div");
+              container.innerHTML = text;
+              if (nonNull(container.firstElementChild)) {
+                getSymbolsHost().appendChild(container.firstElementChild);
+              }
+              return null;
+            })
+        .catch_(
+            error -> {
+              DomGlobal.console.warn("Unable to load the MDI sprite " + sprite, error);
+              requestedSprites.remove(sprite);
+              return null;
+            });
+  }
+
+  private static Promise<String> fetchText(String file) {
+    return DomGlobal.fetch(DominoUIConfig.CONFIG.getUIConfig().getMdiSpritesUrl() + file)
+        .then(
+            response ->
+                response.ok
+                    ? response.text()
+                    : Promise.reject(response.status + " " + response.statusText));
+  }
+
+  private static HTMLElement getSymbolsHost() {
+    if (isNull(symbolsHost)) {
+      symbolsHost = Js.uncheckedCast(document.createElement("div"));
+      symbolsHost.setAttribute("aria-hidden", "true");
+      symbolsHost.classList.add("dui-mdi-sprites");
+      if (nonNull(document.body)) {
+        document.body.appendChild(symbolsHost);
+      } else {
+        // the symbols are collected in the detached host until the body is parsed
+        document.addEventListener(
+            "DOMContentLoaded", evt -> document.body.appendChild(symbolsHost));
+      }
+    }
+    return symbolsHost;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.icons.lib;
+
+/** This is a generated class, please don't modify */
+public class MdiMetaData {
+  public static final String[] STRINGS = {
+    "Developer / Languages|Michael Richins|4.0.96|Math|Colton Wiscombe|5.9.55|Alpha / Numeric|writing-system-arabic|Haley Halcyon|4.9.95|writing-system-hebrew|writing-system-devanagari|writing-system-thai|wireless|Simran|1.5.54|access-point-success|access-point-tick|5.4.55|Michael Irigoyen|3.2.89|Account / User|Home Automation|person|user|Google|Alert / Error|user-alert|account-warning|user-warning|person-alert|person-warning|Austin Andrews|user-alert-outline|account-warning-outline|user-warning-outline|person-warning-outline|person-alert-outline|Coffeemate|3.0.39|account-download|6.2.95|account-download-outline|user-arrow-left|person-arrow-left|user-arrow-left-outline|person-arrow-left-outline|user-arrow-right|person-arrow-right|user-arrow-right-outline|person-arrow-right-outline|account-upload|account-upload-outline|account-online|user-online|Andrej Sharapov|6.9.96|user-online-outline|account-online-outline|selfie|user-box|person-box|contact|switch-account|user-box-multiple|account-boxes|user-boxes|person-box-multiple|person-boxes|2.4.85|4.1.95|selfie-outline|user-box-outline|portrait|contact-outline|person-box-outline|user-cancel|user-block|person-cancel|person-block|4.8.95|user-cancel-outline|user-block-outline|person-cancel-outline|person-block-outline|Jeff Anders|7.0.96|Banking|Currency|Jacob Wright|4.2.95|user-check|account-tick|user-tick|person-check|person-tick|how-to-reg|account-success|account-tick-outline|user-check-outline|user-tick-outline|person-check-outline|person-tick-outline|how-to-reg-outline|account-success-outline|user-child|person-child|guardian|2.7.94|user-child-circle|person-child-circle|guardian-circle|Sascha Wohlgemuth|4.3.95|user-circle|person-circle|user-circle-outline|person-circle-outline|Date / Time|user-clock|account-pending|person-clock|user-clock-outline|account-pending-outline|person-clock-outline|Settings|account-settings|account-settings-outline|user-convert|person-convert|Agriculture|rancher|Augustin Ursu|3.7.94|rancher-outline|6.1.95|account-payment|cardholder|account-payment-outline|cardholder-outline|user-details|person-details|1.6.50|person-details-outline|user-details-outline|Edit / Modify|user-edit|person-edit|1.8.36|account-view|account-view-outline|4.7.95|account-funnel|leads|account-funnel-outline|leads-outline|user-group|users-group|person-group|people-group|accounts-group|GreenTurtwig|2.1.99|user-group-outline|users-group-outline|person-group-outline|people-group-outline|accounts-group-outline|worker|construction|worker-outline|construction-outline|Contributors|6.6.96|Medical / Hospital|user-heart|person-heart|2.2.43|user-heart-outline|person-heart-outline|account-disability|patient|account-disability-outline|patient-outline|user-key|person-key|REJack|user-key-outline|person-key-outline|Lock|account-security|account-secure|user-lock|person-lock|4.4.95|account-unlocked|user-unlocked|user-lock-open|6.5.95|user-lock-open-outline|user-unlocked-outline|account-unlocked-outline|account-security-outline|account-secure-outline|person-lock-outline|user-lock-outline|user-minus|person-minus|user-minus-outline|person-minus-outline|Peter Noble|2.8.94|people|user-multiple|group|accounts|users|person-multiple|user-multiple-check|account-multiple-tick|accounts-check|accounts-tick|users-check|users-tick|user-multiple-tick|person-multiple-check|person-multiple-tick|people-check|people-tick|account-multiple-success|Roberto Graham|2.3.50|user-multiple-check-outline|account-multiple-tick-outline|accounts-check-outline|accounts-tick-outline|users-check-outline|users-tick-outline|user-multiple-tick-outline|person-multiple-check-outline|person-multiple-tick-outline|people-check-outline|people-tick-outline|account-multiple-success-outline|4.6.95|user-multiple-minus|accounts-minus|users-minus|people-minus|person-multiple-minus|accounts-minus-outline|people-minus-outline|user-multiple-minus-outline|users-minus-outline|person-multiple-minus-outline|user-multiple-outline|people-outline|accounts-outline|users-outline|user-multiple-plus|group-add|accounts-plus|users-plus|person-multiple-plus|people-plus|person-multiple-add|people-add|account-multiple-add|accounts-add|user-multiple-add|users-add|invite|group-add-outline|user-multiple-plus-outline|accounts-plus-outline|users-plus-outline|person-multiple-plus-outline|people-plus-outline|person-multiple-add-outline|people-add-outline|account-multiple-add-outline|accounts-add-outline|user-multiple-add-outline|users-add-outline|2.1.19|user-multiple-remove|person-multiple-remove|user-multiple-remove-outline|person-multiple-remove-outline|artist|artist-outline|3.3.92|user-network|person-network|user-network-outline|person-network-outline|user-off|person-off|user-off-outline|person-off-outline|user-outline|perm-identity|person-outline|register|user-plus|person-add|account-add|person-plus|user-add|person-add-outline|register-outline|user-plus-outline|account-add-outline|person-plus-outline|user-add-outline|user-help|account-question-mark|account-help|user-question|person-question|person-help|account-question-mark-outline|user-help-outline|account-help-outline|user-question-outline|person-question-outline|person-help-outline|François Risoud|user-remove|person-remove|user-remove-outline|person-remove-outline|account-student|account-graduation|account-student-outline|account-graduation-outline|user-search|person-search|user-search-outline|person-search-outline|user-settings|person-settings|user-star|person-star|account-favorite|user-star-outline|person-star-outline|user-supervisor|person-supervisor|user-supervisor-circle|person-supervisor-circle|user-switch|accounts-switch|users-switch|person-switch|people-switch|account-cache|6.4.95|account-cache-outline|Matthew Terry|7.1.96|People / Family|person-tie|user-tie|Transportation + Flying|account-pilot|6.3.95|account-pilot-outline|business-woman|6.8.96|record-voice-over|speak|talk|speaking|talking|3.7.95|account-service|account-service-outline|ads|ads-off|Automotive|ac-unit|water-filter|filter|3.4.93|3.5.94|air-dehumidifier|5.2.45|Transportation + Other|hot-air-balloon|hot-air-balloon-outline|Navigation|aeroplane|airplanemode-active|flight|local-airport|flight-mode|plane|airplace-success|airplane-tick|airplane-schedule|airplane-time|airplane-date|airplane-settings|aeroplane-landing|flight-land|plane-landing|airplane-location|airplane-gps|aeroplane-off|airplanemode-inactive|flight-mode-off|plane-off|airplane-find|aeroplane-takeoff|flight-takeoff|plane-takeoff|airplane-take-off|Places|access-alarms|alarm-clock|Notification|2.0.46|alarm-on|alarm-tick|alarm-clock-check|alarm-clock-tick|alarm-success|alarms|alarm-clock-multiple|alarm-clocks|alarm-clock-off|5.6.55|add-alarm|alarm-clock-plus|alarm-clock-add|alarm-add|alarm-clock-snooze|1.7.12|Audio|Music|vinyl|record|warning|report-problem|warning-box|warning-box-outline|warning-circle|error|alert-circle-success|4.5.95|alert-circle-success-outline|warning-circle-outline|error-outline|git-issue|new-releases|warning-decagram|warning-decagram-outline|5.3.45|Alessandro Rossignoli|warning-octagon|report|stop-alert|warning-octagon-outline|stop-alert-outline|warning-octagram|1.9.32|warning-octagram-outline|warning-outline|align-horizontal-centre|Text / Content / Format|align-vertical-centre|infinity|forever|infinity-box|forever-box|forever-box-outline|infinity-box-outline|hand|rash|germ|alphabet-a|letter-a|alphabet-a-box|letter-a-box|alphabet-a-box-outline|letter-a-box-outline|alphabet-a-circle|letter-a-circle|alphabet-a-circle-outline|letter-a-circle-outline|alphabet-b|letter-b|alphabet-b-box|letter-b-box|alphabet-b-box-outline|letter-b-box-outline|alphabet-b-circle|letter-b-circle|alphabet-b-circle-outline|letter-b-circle-outline|alphabet-c|letter-c|alphabet-c-box|letter-c-box|alphabet-c-box-outline|letter-c-box-outline|alphabet-c-circle|letter-c-circle|alphabet-c-circle-outline|letter-c-circle-outline|alphabet-d|letter-d|drive|alphabet-d-box|letter-d-box|alphabet-d-box-outline|letter-d-box-outline|alphabet-d-circle|letter-d-circle|alphabet-d-circle-outline|letter-d-circle-outline|alphabet-e|letter-e|alphabet-e-box|letter-e-box|alphabet-e-box-outline|letter-e-box-outline|alphabet-e-circle",
+    "letter-e-circle|alphabet-e-circle-outline|letter-e-circle-outline|alphabet-f|letter-f|alphabet-f-box|letter-f-box|alphabet-f-box-outline|letter-f-box-outline|alphabet-f-circle|letter-f-circle|alphabet-f-circle-outline|letter-f-circle-outline|alphabet-g|letter-g|alphabet-g-box|letter-g-box|alphabet-g-box-outline|letter-g-box-outline|alphabet-g-circle|letter-g-circle|alphabet-g-circle-outline|letter-g-circle-outline|alphabet-h|letter-h|alphabet-h-box|letter-h-box|alphabet-h-box-outline|letter-h-box-outline|alphabet-h-circle|letter-h-circle|alphabet-h-circle-outline|letter-h-circle-outline|helipad|alphabet-i|letter-i|roman-numeral-1|alphabet-i-box|letter-i-box|alphabet-i-box-outline|letter-i-box-outline|alphabet-i-circle|letter-i-circle|alphabet-i-circle-outline|letter-i-circle-outline|alphabet-j|letter-j|alphabet-j-box|letter-j-box|alphabet-j-box-outline|letter-j-box-outline|alphabet-j-circle|letter-j-circle|alphabet-j-circle-outline|letter-j-circle-outline|alphabet-k|letter-k|alphabet-k-box|letter-k-box|alphabet-k-box-outline|letter-k-box-outline|alphabet-k-circle|letter-k-circle|alphabet-k-circle-outline|letter-k-circle-outline|alphabet-l|letter-l|alphabet-l-box|letter-l-box|alphabet-l-box-outline|letter-l-box-outline|alphabet-l-circle|letter-l-circle|alphabet-l-circle-outline|letter-l-circle-outline|alphabet-m|letter-m|alphabet-m-box|letter-m-box|alphabet-m-box-outline|letter-m-box-outline|alphabet-m-circle|letter-m-circle|alphabet-m-circle-outline|letter-m-circle-outline|alphabet-n|letter-n|neutral|alphabet-n-box|letter-n-box|alphabet-n-box-outline|letter-n-box-outline|alphabet-n-circle|letter-n-circle|alphabet-n-circle-outline|letter-n-circle-outline|alphabet-o|letter-o|alphabet-o-box|letter-o-box|alphabet-o-box-outline|letter-o-box-outline|alphabet-o-circle|letter-o-circle|alphabet-o-circle-outline|letter-o-circle-outline|alphabet-p|letter-p|park|alphabet-p-box|letter-p-box|alphabet-p-box-outline|letter-p-box-outline|alphabet-p-circle|letter-p-circle|alphabet-p-circle-outline|letter-p-circle-outline|alphabet-q|letter-q|alphabet-q-box|letter-q-box|alphabet-q-box-outline|letter-q-box-outline|alphabet-q-circle|letter-q-circle|alphabet-q-circle-outline|letter-q-circle-outline|alphabet-r|letter-r|reverse|alphabet-r-box|letter-r-box|alphabet-r-box-outline|letter-r-box-outline|alphabet-r-circle|letter-r-circle|alphabet-r-circle-outline|letter-r-circle-outline|alphabet-s|letter-s|alphabet-s-box|letter-s-box|alphabet-s-box-outline|letter-s-box-outline|alphabet-s-circle|letter-s-circle|alphabet-s-circle-outline|letter-s-circle-outline|alphabet-t|letter-t|alphabet-t-box|letter-t-box|alphabet-t-box-outline|letter-t-box-outline|alphabet-t-circle|letter-t-circle|alphabet-t-circle-outline|letter-t-circle-outline|alphabet-u|letter-u|alphabet-u-box|letter-u-box|alphabet-u-box-outline|letter-u-box-outline|alphabet-u-circle|letter-u-circle|alphabet-u-circle-outline|letter-u-circle-outline|alphabet-v|letter-v|roman-numeral-5|alphabet-v-box|letter-v-box|alphabet-v-box-outline|letter-v-box-outline|alphabet-v-circle|letter-v-circle|alphabet-v-circle-outline|letter-v-circle-outline|alphabet-w|letter-w|alphabet-w-box|letter-w-box|alphabet-w-box-outline|letter-w-box-outline|alphabet-w-circle|letter-w-circle|alphabet-w-circle-outline|letter-w-circle-outline|alphabet-x|letter-x|roman-numeral-10|alphabet-x-box|letter-x-box|alphabet-x-box-outline|letter-x-box-outline|alphabet-x-circle|letter-x-circle|alphabet-x-circle-outline|letter-x-circle-outline|alphabet-y|letter-y|alphabet-y-box|letter-y-box|alphabet-y-box-outline|letter-y-box-outline|alphabet-y-circle|letter-y-circle|alphabet-y-circle-outline|letter-y-circle-outline|alphabet-z|letter-z|alphabet-z-box|letter-z-box|alphabet-z-box-outline|letter-z-box-outline|alphabet-z-circle|letter-z-circle|alphabet-z-circle-outline|letter-z-circle-outline|writing-system-aurebesh|writing-system-cyrillic|writing-system-greek|writing-system-latin|writing-system-piqad|writing-system-tengwar|letters|a-b-c|abc|letters-off|abc-off|a-b-c-off|Transportation + Road|bullets|and|Christopher Schreiner|Transportation + Water|Brand / Logo|math-compass-variant|1.7.22|auto-awesome-motion|Nick|sergiocarlotto|apple-mobileme|iframe|iframe-array|iframe-array-outline|iframe-braces|iframe-braces-outline|iframe-brackets|iframe-brackets-outline|iframe-cog|application-settings|iframe-cog-outline|5.5.55|iframe-edit|iframe-edit-outline|iframe-export-outline|iframe-import-outline|web-asset|iframe-outline|iframe-parentheses|iframe-parentheses-outline|iframe-settings|iframe-settings-outline|CoreyVidal|iframe-variable|iframe-variable-outline|View|box|box-alert|box-alert-outline|box-arrow-down|this-side-down|frankgrinaert|this-side-down-outline|box-arrow-up|this-side-up|box-arrow-up-outline|this-side-up-outline|box-cancel|box-cancel-outline|box-check|archive-success|box-success|box-check-outline|archive-success-outline|box-success-outline|box-clock|box-time|archive-time|box-clock-outline|box-time-outline|archive-time-outline|box-cog|box-cog-outline|box-edit|box-edit-outline|archive-view|box-eye|box-view|archive-view-outline|box-eye-outline|box-view-outline|box-lock|box-lock-open|box-lock-open-outline|box-lock-outline|archive-location|box-marker|box-location|archive-location-outline|box-marker-outline|box-location-outline|box-minus|box-minus-outline|box-music|box-music-outline|box-off|box-off-outline|box-outline|James Coyle|archive-add|box-plus|box-add|archive-add-outline|box-plus-outline|box-add-outline|box-refresh|box-refresh-outline|box-remove|box-remove-outline|box-search|box-search-outline|box-settings|box-settings-outline|archive-favorite|box-star|box-favorite|archive-favorite-outline|box-star-outline|box-favorite-outline|box-sync|box-sync-outline|yuanruili|Arrange|Geographic Information System|Arrow|arrow-down-left|arrow-down-left-bold-outline|2.5.94|arrow-down-left-thick|arrow-bottom-left-bold|arrow-down-left-bold|Matt Stayner|arrow-down-right|arrow-down-right-bold-outline|arrow-down-right-thick|arrow-bottom-right-bold|arrow-down-right-bold|arrow-compress|arrow-compress-all|arrow-compress-down|arrow-compress-left|arrow-compress-right|arrow-compress-up|compress|proxy|proxy-auto|proxy-auto-outline|proxy-outline|arrow-downward|arrow-bottom|arrow-bottom-bold|arrow-bottom-bold-box|arrow-bottom-bold-box-outline|arrow-bottom-bold-circle|arrow-bottom-bold-circle-outline|arrow-bottom-bold-hexagon-outline|arrow-bottom-bold-outline|arrow-bottom-box|arrow-bottom-circle|arrow-bottom-circle-outline|arrow-drop-down-circle|arrow-bottom-drop-circle|arrow-bottom-drop-circle-outline|arrow-bottom-thick|arrow-down-bold|scroll-horizontal-lock|arrow-back|arrow-back-circle|ginlime|arrow-left-bold|turn-left|turn-left-bold|Gaming / RPG|Sport|arrow-forward|arrow-forward-circle|arrow-right-bold|turn-right|turn-right-bold|resize-vertical|resize|resize-horizontal|arrow-up-left|arrow-up-left-bold-outline|arrow-up-left-thick|arrow-top-left-bold|arrow-up-left-bold|arrow-up-right|arrow-up-right-bold-outline|arrow-up-right-thick|arrow-top-right-bold|arrow-up-right-bold|u-turn-left|u-turn-left-bold|u-turn-right|u-turn-right-bold|undo|redo|arrow-upward|arrow-top|arrow-top-bold|arrow-top-bold-box|arrow-top-bold-box-outline|arrow-top-bold-circle|arrow-top-bold-circle-outline|arrow-top-bold-hexagon-outline|arrow-top-bold-outline|arrow-top-circle|arrow-top-circle-outline|arrow-top-drop-circle|arrow-top-drop-circle-outline|arrow-top-thick|arrow-up-bold|scroll-vertical-lock|Drawing / Art|canvas|frame|Sintija|2.6.95|required|required-circle|mocking-mike|alternate-email|Science|orbit|paperclip-horizontal|attachment-tick|paperclip-check|paperclip-tick|paperclip-lock|paperclip-minus|paperclip-subtract|attachment-subtract|paperclip-off|paperclip-plus|paperclip-add|attachment-add|paperclip-remove|quad|trike|two-wheeler|all-terrain-vehicle|av-receiver|av-receiver-off|Weather|aurora-borealis|aurora-australis|northern-lights|southern-lights|polar-lights|Photography|magic|wand|auto-fix-high|7.2.96|clockwise-arrows|circular-arrows|circle-arrows|sync|clockwise-arrows-off|circular-arrows-off|circle-arrows-off|sync-off|marquise|sun-shade|marquise-outline|sun-shade-outline|3.6.95|Hardware / Tools",
+    "accelerometer|gyro|5.1.45|vertical-rotate-clockwise|vertical-rotate-counterclockwise|3.9.97|stroller|pram|carriage|Moma Design Studio|child-friendly|buggy|child-friendly-off|stroller-off|pram-off|buggy-off|emoji-baby|emoticon-baby|emoji-baby-outline|emoticon-baby-outline|hamburger-menu-back|erase|clear|erase-outline|clear-outline|clear-reverse|erase-reverse|clear-reverse-outline|erase-reverse-outline|settings-backup-restore|3.8.95|user-badge|person-badge|user-badge-alert|person-badge-alert|account-badge-warning|user-badge-warning|person-badge-warning|user-badge-alert-outline|person-badge-alert-outline|account-badge-warning-outline|user-badge-warning-outline|person-badge-warning-outline|user-badge-outline|person-badge-outline|shuttlecock|carry-on-luggage|carry-on-bag-tick|carry-on-bag-check|carry-on-luggage-off|luggage|backpack|backpack-off|backpack-off-outline|backpack-outline|property-tag|property-tag-outline|Food / Drink|bread|bakery|french-baguette|loaf|terrace|patio|veranda|Holiday|party-balloon|vote|vote-outline|vote-recount|vote-recount-outline|band-aid|plaster|account-balance|museum|5.7.55|museum-outline|bank-add|Rosemary Stanley|SarinManS|barcode-scanner|grain|wheat|gluten|gluten-free|grain-off|wheat-off|farm|oil-barrel|energy|fossil-fuel|oil-barrel-outline|fossil-fuel-outline|energy-outline|6.7.96|Shopping|shopping-basket|skip|skip-fill|shopping-basket-minus|skip-minus|shopping-basket-minus-outline|skip-minus-outline|shopping-basket-off|skip-off|shopping-basket-off-outline|skip-off-outline|shopping-basket-outline|skip-outline|shopping-basket-plus|skip-plus|shopping-basket-plus-outline|skip-plus-outline|shopping-basket-remove|skip-remove|shopping-basket-remove-outline|skip-remove-outline|youtube-sports|Animal|Battery|battery-full|battery-std|battery-100|battery-warning|battery-warning-bluetooth|battery-bluetooth-100|battery-bluetooth-full|battery-charging-full|battery-charging-wireless-full|battery-charging-wireless-100|battery-charging-wireless-warning|battery-charging-wireless-empty|battery-charging-wireless-0|battery-full-clock|battery-100-clock|batter-0-clock|battery-empty-clock|battery-0|battery-empty|battery-saver|battery-add|battery-recycle|battery-eco|battery-saver-outline|battery-eco-outline|battery-recycle-outline|parasol|hotel|guest-room|bed-schedule|bed-time|sleep-schedule|sleep-time|bedroom|bedroom-outline|hotel-outline|guest-room-outline|Nature|fly|insect|fly-flower|nature|honey-outline|apiarists|apiculturists|honey-farmer|guenth39|pint|pub|bar|drink|cup-full|drink-outline|cup-full-outline|pint-outline|pub-outline|bar-outline|notifications|bell-warning|bell-notification|bell-notification-outline|bell-settings|notification-settings|bell-settings-outline|notification-settings-outline|notifications-off|notifications-none|add-alert|bell-add|bell-add-outline|add-alert-outline|notifications-active|notifications-paused|human-biathlon|bike|cycling|bike-basket|bike-cargo|Teodor Sandu|bike-electric|bicycle-high-wheel|bicycle-antique|bicycle|directions-bike|velocity|bike-pedal-flat|pool|eight-ball|pool-table|pool-rack|snooker-rack|pool-triangle|billiards-triangle|snooker-triangle|Yasmina Lembachar|food-processor|food-processor-outline|roller-shade-closed|window-closed|blinds-open|mini-blinds|window-open|roller-shade-open|idevo89|window|bluetooth-searching|bluetooth-connected|bluetooth-disabled|settings-bluetooth|blur-on|blur-circular|git-repository|5.0.45|5.8.55|dictionary|book-schedule|book-time|book-settings|book-settings-outline|Religion|bible|book-favorite|book-love|book-favorite-outline|book-love-outline|encyclopedia|Terren|book-secure|book-unsecure|book-secure-outline|book-location|book-location-outline|books-minus|Perth Totty|books|audio-book|chrome-reader-mode|import-contacts|auto-stories|book-add|books-plus|book-multiple-add|books-add|books-remove|class|turned-in|collections-bookmark|library-bookmark|collections-bookmark-outline|library-bookmark-outline|bookmark-tick|bookmark-success|bookmark-success-outline|bookmark-border|turned-in-not|bookmark-add|bookmark-add-outline|Thomas de Saint-Exupéry|boom-arm|boom-barrier|arm-barrier|barrier|automatic-gate|boom-arm-alert|boom-barrier-alert|arm-barrier-alert|barrier-alert|automatic-gate-alert|boom-arm-alert-outline|boom-barrier-alert-outline|arm-barrier-alert-outline|barrier-alert-outline|automatic-gate-alert-outline|boom-arm-down|boom-barrier-down|arm-barrier-down|barrier-down|automatic-gate-down|boom-arm-down-outline|boom-barrier-down-outline|arm-barrier-down-outline|barrier-down-outline|automatic-gate-down-outline|boom-arm-up|boom-barrier-up|arm-barrier-up|barrier-up|automatic-gate-up|boom-arm-up-outline|boom-barrier-up-outline|arm-barrier-up-outline|barrier-up-outline|automatic-gate-up-outline|boom-arm-outline|boom-barrier-outline|arm-barrier-outline|barrier-outline|automatic-gate-outline|Color|border-colour|border-clear|border-outer|border-round-corners|bottle-coke|bottle-pop|bottle-coke-classic|bottle-pop-classic|bottle-coke-outline|bottle-pop-outline|flask|flask-outline|health-potion|health-potion-outline|poison|moonshine|poison-outline|moonshine-outline|Clothing|Thomas Hunsaker|mixing-bowl|mixing-bowl-outline|stanley-knife|nilsfast|touch-reading|hand-reading|work|briefcase-person|briefcase-user|briefcase-person-outline|briefcase-user-outline|briefcase-transfer|briefcase-exchange|briefcase-swap|briefcase-exchange-outline|briefcase-transfer-outline|briefcase-swap-outline|briefcase-tick|theminanaji|briefcase-view|briefcase-view-outline|work-outline|briefcase-add|briefcase-add-outline|theme-light-dark|brightness-low|brightness-medium|brightness-high|discount|sale|signal|signal-off|paintbrush|paintbrush-outline|sideboard|bug-report|bug-tick|bug-tick-outline|bug-start|car-horn|Louistwee|notice-board|announcement|megaphone|loudspeaker|announcement-outline|megaphone-outline|loudspeaker-outline|nlsve|target|target-arrow|directions-bus|bus-warning|departure-board|bus-location|bus-stop|fleet|education|Nicolas Gres|Form|counterclockwise-arrows|Andrew Nenakhov|birthday-cake|birthday-cake-outline|event|insert-invitation|calendar-user|calendar-user-outline|event-alert|calendar-warning|reschedule|calendar-today|event-blank-outline|event-available|calendar-task|calendar-tick|event-tick|event-check|event-available-outline|event-check-outline|event-tick-outline|calendar-task-outline|calendar-tick-outline|event-clock|event-time|calendar-time|event-edit|event-week-end-outline|event-heart|event-minus|ButchMonkey|event-multiple|calendars|events|event-multiple-check|calendar-multiple-tick|calendars-check|calendars-tick|event-multiple-tick|events-check|events-tick|event-outline|event-plus|calendar-add|event-add|calendar-rsvp|event-question|calendar-help|calendar-help-outline|date-range|calendar-week|event-range|event-range-outline|calendar-repeat|calendar-repeat-outline|event-busy|event-remove|event-busy-outline|event-remove-outline|event-search|event-star|calendar-favorite|calendar-auto|event-star-four-points|event-auto|event-note|event-text|event-text-outline|event-note-outline|calendar-day|calendar-day-outline|event-week|event-week-begin|event-week-begin-outline|event-week-outline|Crissov|Cellphone / Phone|merge-type|Video / Movie|photography|camera-alt|local-see|photo-camera|camera-user|burst-mode|overhead-projector|snis|overhead-projector-off|camera-sync|camera-refresh|camera-sync-outline|camera-refresh-outline|Device / Tech|camera-location|camera-location-outline|camera-metering-centre|Andy Martinez|switch-camera|prohibited|ban|do-not-disturb-alt|denied|block|forbid|no|candle|candelabrum|candelabrum-fire|candelabrum-flame|candelabra-flame|candle-fire|candle-flame|treat|chocolate|chocolate-off|treat-off|chocolate-off-outline|treat-off-outline|navi-off|chocolate-outline|treat-outline|navi|hey-listen|fairy|weed|pot|marijuana|directions-car|drive-eta|time-to-leave|hov-lane|high-occupancy-vehicle-lane|carpool-lane|anti-lock-brake-system|anti-lock-braking-system|car-parking-brake|car-handbrake|car-hand-brake|car-emergency-brake|car-brake-warning|car-settings|car-police|electronic-stability-program|car-suv|car-sports-utility-vehicle|car-rental|rent-a-car|head-light-dimmed|low-beam",
+    "head-light-fog|head-light-high|high-beam|car-find|tetzla|car-find-outline|car-location|car-transmission|car-manual-transmission|car-saloon|car-tyre-alert|car-tyre-warning|car-tire-warning|local-car-wash|car-front-glass|car-front-glass-outline|car-autonomous|car-self-driving|car-smart|car-repair|mechanic|karabiner|rock-climbing|button|Rynco Li|identification-card|user-card-details|id-card|person-card-details|drivers-license|business-card|identification-card-outline|user-card-details-outline|id-card-outline|person-card-details-outline|drivers-license-outline|business-card-outline|card-account-details-favorite|card-account-details-favorite-outline|contact-mail|contact-mail-outline|contact-phone|contact-phone-outline|button-outline|pageview|pageview-outline|suit-clubs|poker-club|suit-diamonds|poker-diamond|hov-lane-outline|high-occupancy-vehicle-lane-outline|carpool-lane-outline|poker-diamond-outline|suit-hearts|poker-heart|suit-spades|poker-spade|Case Sandberg|trolley|local-grocery-store|shopping-cart|shopping-cart-arrow-down|trolley-arrow-down|trolley-arrow-right|shopping-cart-arrow-right|shopping-cart-arrow-up|trolley-arrow-up|cart-favorite|shopping-favorite|shopping-cart-minus|trolley-minus|trolley-off|remove-shopping-cart|shopping-cart-off|trolley-outline|shopping-cart-outline|cart-discount|cart-sale|trolley-percent|trolley-plus|add-shopping-cart|shopping-cart-plus|cart-add|trolley-add|shopping-cart-add|trolley-remove|shopping-cart-remove|Doug C. Hardester|money|money-100|Lucas Crivellari Macieira|cash-schedule|payment-schedule|payment-clock|auto-pay|instant-deposit|instant-transfer|instant-cash|cod|cash-on-delivery|cash-location|cash-return|cash-chargeback|till|TheManuz|recurring-payment|scheduled-payment|cash-cycle|tape|cast-speaker|Kinetic Screen|apple-airplay|cast-school|school-online|cast-tutorial|apple|airplay|emoji-cat|emoticon-cat|closed-circuit-television|security-camera|closed-circuit-television-off|security-camera-off|ceiling-fan-on|ceiling-lamp|ceiling-lamp-multiple|ceiling-lamp-multiple-outline|mobile-phone|smartphone|stay-current-portrait|stay-primary-portrait|cellphone-system-update|mobile-phone-arrow-down|smartphone-arrow-down|cellphone-download|mobile-phone-basic|phonelink-setup|mobile-phone-settings-variant|smartphone-settings-variant|mobile-phone-dock|smartphone-dock|mobile-phone-information|smartphone-information|mobile-phone-key|smartphone-key|mobile-phone-link|smartphone-link|devices|mobile-phone-link-off|smartphone-link-off|phonelink-off|phonelink-lock|mobile-phone-lock|smartphone-lock|cellphone-location|cellphone-map|find-my-phone|cellphone-gps|mobile-phone-message|smartphone-message|mobile-phone-off|smartphone-off|mobile-off|phonelink-erase|mobile-phone-erase|smartphone-erase|cellphone-erase|mobile-phone-settings|smartphone-settings|settings-cell|phonelink-ring|mobile-phone-sound|smartphone-sound|mobile-phone-text|smartphone-text|mobile-phone-wireless|smartphone-wireless|diploma|seal|diploma-outline|seal-outline|office-chair|study-chair|desk|learn|ceiling-light|girandole|candelabra-lamp|suspended-light|super-chat-for-good|report-arc|widget-arc|report-areaspline|widget-areaspline|graph-areaspline|report-areaspline-variant|widget-areaspline-variant|graph-areaspline-variant|report-bar|widget-bar|graph-bar|report-bar-stacked|widget-bar-stacked|graph-bar-stacked|report-bell-curve|widget-bell-curve|graph-bell-curve|report-bell-curve-cumulative|widget-bell-curve-cumulative|graph-bell-curve-cumulative|poll-box|report-box|widget-box|graph-box|poll-box-outline|report-box-outline|widget-box-outline|graph-box-outline|report-box-plus-outline|widget-box-plus-outline|graph-box-plus-outline|bubble-chart|report-bubble|widget-bubble|chart-doughnut|data-usage|report-donut|widget-donut|chart-doughnut-variant|report-donut-variant|widget-donut-variant|report-gantt|timeline|widget-gantt|roadmap|report-histogram|widget-histogram|graph-histogram|report-line|widget-line|graph-line|report-line-stacked|widget-line-stacked|graph-line-stacked|show-chart|report-line-variant|widget-line-variant|graph-line-variant|report-multiline|widget-multiline|graph-multiline|report-multiple|widget-multiple|graph-multiple|report-pie|widget-pie|graph-pie|report-pie-outline|widget-pie-outline|graph-pie-outline|chart-production-possibility-frontier|report-ppf|widget-ppf|graph-ppf|chart-snakey|report-sankey|widget-sankey|graph-sankey|chart-snakey-variant|report-sankey-variant|widget-sankey-variant|graph-sankey-variant|report-scatter-plot|widget-scatter-plot|graph-scatter-plot|chart-scatterplot-hexbin|report-scatter-plot-hexbin|widget-scatter-plot-hexbin|graph-scatter-plot-hexbin|report-timeline|widget-timeline|graph-timeline|report-timeline-variant|widget-timeline-variant|graph-timeline-variant|report-timeline-variant-shimmer|widget-timeline-variant-shimmer|graph-timeline-variant-shimmer|report-line-shimmer|widget-line-shimmer|graph-line-shimmer|report-tree|widget-tree|chat-warning|chat-typing|chat-typing-outline|chat-help|chat-help-outline|tick|done|success|tick-all|done-all|check-multiple|checks|ticks|check-thick|success-thick|success-bold|tick-circle|success-circle|tick-circle-outline|success-circle-outline|verified|decagram-check|approve|approval|tick-decagram|tick-network|tick-network-outline|done-outline|tick-outline|sucess-outline|chequebook|cheque-book|chequebook-arrow-left|chequebook-arrow-right|checkbox-blank-notification|app-notification|app-badge|checkbox-blank-notification-outline|app-notification-outline|app-badge-outline|check-box-outline-blank|maximize|checkbox-indeterminate|checkbox-indeterminate-variant|Andy Giesen|check-box|task-auto|todo-auto|todo-minus|task-minus|task-plus|task-add|todo-plus|todo-add|checkboxes-blank|checkboxes-blank-circle|checkboxes-blank-circle-outline|checkboxes-blank-outline|checkboxes-marked|checkboxes-marked-circle|checkboxes-marked-circle-outline|checkboxes-marked-outline|check-boxes-outline|tick-box-multiple-outline|raster|raster-minus|raster-plus|raster-remove|swiss-cheese|toque|cook|crown|royalty|chess-horse|chess-castle|chess-tower|expand-more|keyboard-arrow-down|keyboard-arrow-left|navigate-before|keyboard-arrow-right|navigate-next|rank|expand-less|keyboard-arrow-up|caret|chilli-hot|pepper|spicy|chilli-medium|chilli-mild|chilli-off|pepper-off|spicy-off|integrated-circuit|Shape|lens|brightness-half|coins|toll|coins-outline|null-off|circle-transparent|null|bullet|multiplication|dot|location-city|city-swap|clipboard-user|assignment-ind|clipboard-person|clipboard-user-outline|clipboard-person-outline|assignment-ind-outline|clipboard-warning|assignment-late|clipboard-warning-outline|assignment-returned|clipboard-arrow-bottom|assignment-returned-outline|clipboard-arrow-bottom-outline|assignment-return|clipboard-arrow-top|clipboard-arrow-top-outline|assignment-turned-in|clipboard-tick|clipboard-tick-outline|Alison Moura|Files / Folders|kevin-hens|clipboard-add|clipboard-vitals|clipboard-vitals-outline|assignment|clipboard-text-date|clipboard-text-time|clipboard-text-history|clipboard-text-date-outline|clipboard-text-time-outline|clipboard-text-history-outline|watch-later|clock-warning|Sidney Alcantara|Dylan Oli|access-time|query-builder|schedule|clock-auto|clock-auto-outline|multiply|remove|cancel|multiply-box|clear-box|cancel-box|remove-box|Gabriel|close-boxes|library-remove|library-close|multiply-boxes|multiply-box-multiple|cancel-box-multiple|remove-box-multiple|close-boxes-outline|library-remove-outline|library-close-outline|multiply-boxes-outline|multiply-box-multiple-outline|multiply-box-outline|clear-box-outline|remove-box-outline|cancel-box-outline|remove-circle|cancel-circle|multiply-circle|clear-circle|remove-circle-multiple|coins-close|coins-remove|clear-circle-multiple|multiply-circle-multiple|remove-circle-multiple-outline|coins-close-outline|coins-remove-outline|cancel-circle-multiple-outline|multiply-circle-multiple-outline|clear-circle-multiple-outline|highlight-off|multiply-circle-outline|remove-circle-outline|clear-circle-outline|cancel-circle-outline|remove-network|cancel-network|multiply-network|clear-network|remove-network-outline|cancel-network-outline|multiply-network-outline",
+    "clear-network-outline|dangerous|multiply-octagon|remove-octagon|cancel-octagon|clear-octagon|stop-remove|remove-octagon-outline|multiply-octagon-outline|clear-octagon-outline|cancel-octagon-outline|stop-remove-outline|remove-outline|cancel-outline|multiply-outline|close-bold|remove-thick|remove-bold|multiply-thick|multiply-bold|clear-thick|clear-bold|cancel-thick|cancel-bold|cc|cc-outline|Cloud|wb-cloudy|cloud-warning|TheChilliPL|cloud-json|cloud-done|cloud-tick|cloud-queue|humidity|rain-chance|cloud-discount|cloud-discount-outline|humidity-outline|rain-chance-outline|Printer|cloud-xml|backup|backup-outline|luck|luck-outline|coach-light|carriage-lamp|carriage-light|Borre Haugen|foyer|hallway|entry-room|set|square-brackets|code-tags-tick|tea|cup|free-breakfast|local-cafe|espresso-maker|coffee-machine|espresso-machine|coffee-maker-done|coffee-maker-complete|coffee-maker-complete-outline|coffee-maker-done-outline|drink-off|tea-off|cup-off|free-breakfast-off|local-cafe-off|drink-off-outline|cup-off-outline|tea-off-outline|free-breakfast-off-outline|local-cafe-off-outline|tea-outline|cup-outline|free-breakfast-outline|local-cafe-outline|tea-to-go|drink-to-go|cup-to-go|free-breakfast-to-go|local-cafe-to-go|tea-to-go-outline|cup-to-go-outline|drink-to-go-outline|free-breakfast-to-go-outline|local-cafe-to-go-outline|death|dead|settings|gear|gear-box|settings-applications|settings-box|settings-off|settings-off-outline|gear-outline|settings-outline|settings-pause|gear-pause|settings-pause-outline|gear-pause-outline|settings-play|gear-play|settings-play-outline|gear-play-outline|settings-refresh|settings-refresh-outline|settings-stop|gear-stop|settings-stop-outline|gear-stop-outline|settings-sync|settings-sync-outline|settings-transfer|settings-transfer-outline|manufacturing|auto-awesome-mosaic|animation-minus|animation-minus-outline|colour-helper|comment-user|comment-person|comment-user-outline|comment-person-outline|comment-warning|comment-warning-outline|comment-previous|comment-previous-outline|comment-next|comment-next-outline|comment-tick|comment-tick-outline|comment-quick|comment-quick-outline|comments|comments-outline|comment-add|comment-add-outline|comment-help|comment-help-outline|feedback|feedback-outline|comments-text|comments-text-outline|explore|regeneration|regenerative-agriculture|plug|terminal|terminal-line|terminal-network|terminal-network-outline|Health / Beauty|scissors|clip|floppy-disc|floppy-disk|floppy-disc-alert|floppy-disc-alert-outline|floppy-disc-multiple|floppy-disc-multiple-outline|floppy-disc-cog|floppy-disc-cog-outline|floppy-disc-edit|floppy-disc-edit-outline|Hans Böhm|floppy-disc-move|floppy-disc-move-outline|content-save-add|content-save-add-outline|floppy-disc-settings|floppy-disc-settings-outline|Ruslan Garifullin|gamepad|gamepad-classic|gamepad-classic-outline|gamepad-off|biscuit|biscuit-alert|biscuit-alert-outline|biscuit-check|biscuit-check-outline|biscuit-clock|biscuit-clock-outline|biscuit-cog|biscuit-cog-outline|biscuit-edit|biscuit-edit-outline|biscuit-lock|biscuit-lock-outline|biscuit-minus|biscuit-minus-outline|biscuit-off|biscuit-off-outline|biscuit-outline|biscuit-plus|biscuit-plus-outline|biscuit-refresh|biscuit-refresh-outline|biscuit-remove|biscuit-remove-outline|biscuit-settings|cookie-crumbs|biscuit-crumbs|biscuit-settings-outline|cookie-crumbs-outline|biscuit-crumbs-outline|frequency|amplitude|score|numbers|odometer|kitchen-counter|sink|kitchen-counter-outline|sink-outline|emoji-cow|emoticon-cow|dairy-off|dairy-free|chip-32-bit|chip-64-bit|crib|bassinet|baby|nursery|baby-room|nursery-outline|baby-room-outline|auto-awesome|auto-awesome-outline|credit-card-icc-chip|credit-card-icc-chip-outline|credit-card-swipe|credit-card-swipe-outline|credit-card-location|payment-on-delivery|payment-on-delivery-outline|credit-card-location-outline|credit-cards|payment|credit-card-add|payment-settings|credit-card-contactless|cricket-bat|crop-5-4|christianity|religion-christian|religion-christian-outline|christianity-outline|gps-not-fixed|location-searching|gps-fixed|my-location|crosshairs-unknown|gps-unknown|family|crowd-source|crowdsource|checkers|checkers-outline|sugar-off|sugar-cube-off|sugar-free|sugar|sugar-cube|view-in-ar|view-in-augmented-reality|glass|glass-off|glass-off-outline|glass-outline|cup-empty|local-drink|glass-water|drink-water|cup-liquid|glass-liquid|taka|bangladeshi-taka|brazilian-real|bitcoin|yuan|renminbi|ethereum|xi|euro|euro-symbol|pound|sterling|rupee|yen|won|kazakhstani-tenge|currency-mongolian-tugrug|naira|philippine-peso|currency-riyal|currency-irr|currency-omr|currency-yer|currency-sar|ruble|currency-npr|currency-pkr|currency-lkr|currency-inr|currency-scarab|currency-thai-baht|lira|new-taiwan-dollar|currency-hryvnia|currency-ukraine|attach-money|dollar|money-off|dollar-off|alternating-current|direct-current|mchvn|cursor-hand|drapes|drapes-closed|human-dance-ballroom|kho-kho|human-dance-pole|David Koníř|Database|storage|database-tick|database-view|database-view-off|database-view-off-outline|database-view-outline|database-location|database-location-outline|database-add|sql-query|harry-potter|jump|starburst|starburst-outline|trash|bin|rubbish|garbage|rubbish-bin|trash-can|garbage-can|trash-circle|bin-circle|garbage-can-circle|garbage-circle|rubbish-bin-circle|rubbish-circle|trash-can-circle|bin-circle-outline|garbage-can-circle-outline|garbage-circle-outline|rubbish-bin-circle-outline|rubbish-circle-outline|trash-can-circle-outline|trash-circle-outline|trash-empty|bin-empty|rubbish-empty|rubbish-bin-empty|trash-can-empty|garbage-empty|garbage-can-empty|garbage-outline|bin-outline|rubbish-outline|garbage-can-outline|rubbish-bin-outline|trash-outline|trash-can-outline|trash-restore|bin-restore|restore-from-trash|trash-variant|bin-variant|cup-ice|drink-ice|change-history|Gabriel Grant|Chris Litherland|computer-classic|monitor|watch|smartwatch|cellphone|television|dharma-wheel|religion-buddhist|buddhism|hand-blood|keypad|circle-diameter|sphere-diameter|circle-diameter-outline|sphere-diameter-outline|circle-diameter-variant|sphere-diameter-variant|jewel|die-1|dice-one|die-2|dice-two|die-3|dice-three|die-4|dice-four|die-5|dice-five|die-6|dice-six|die-d10|die-d20|die-d4|die-d6|die-d8|die-multiple|cd-rom|dvd|disc-full|disc-warning|swim-dive|human-diving|obelus|helix|emoji-dog|emoticon-dog|guide-dog|k9|canine|hand-truck|porpoise|building|company|business|Tim Grelka|robber-mask|zorro-mask|patio-door|french-door|patio-door-lock|french-door-lock|patio-door-open|french-door-open|microsoft-dot-net|perimeter|more|ellipsis-horizontal|more-horiz|menu|ellipsis-horizontal-circle|more-circle|ellipsis-horizontal-circle-outline|more-circle-outline|ellipsis-vertical|more-vert|ellipsis-vertical-circle|ellipsis-vertical-circle-outline|file-download|get-app|downloads|comedy|tragedy|theatre|sign|signature|weights|fitness-center|gym|barbell|tipper-lorry|audio-induction-loop|telecoil|hearing-impaired|Henrique César Madeira|headphones|headphones-off|headphones-off-outline|headphones-outline|globe|public|planet|world|globe-arrow-right|world-arrow-right|planet-arrow-right|globe-box|world-box|planet-box|globe-box-minus|world-box-minus|planet-box-minus|Muhammet Balsoy|globe-box-off|world-box-off|planet-box-off|globe-box-plus|world-box-plus|planet-box-plus|globe-box-remove|world-box-remove|planet-box-remove|globe-minus|world-minus|planet-minus|globe-off|world-off|planet-off|globe-plus|world-plus|planet-plus|globe-remove|world-remove|planet-remove|paris|france|8-track|local-post-office|mail|markunread|envelope|email-warning|envelope-alert|envelope-warning|email-receive|email-receive-outline|email-send|email-arrow-right-outline|envelope-box|email-tick|email-tick-outline|envelope-fast|email-quick|email-sent|email-send-outline|email-sent-outline|envelope-fast-outline|email-quick-outline|love-letter|envelope-heart-outline|greeting-card|envelope-secure|email-secure|envelope-lock|email-secure-outline|drafts|envelope-open|love-letter-open|greeting-card-open|envelope-open-heart-outline|envelope-open-outline|mail-outline|envelope-outline|email-add|envelope-add|envelope-plus|email-add-outline|envelope-add-outline",
+    "envelope-plus-outline|email-certified|mail-certified|mail-seal|email-verified|mail-verified|email-verified-outline|email-certified-outline|mail-verified-outline|mail-certified-outline|mail-seal-outline|email-refresh|email-resend|email-refresh-outline|email-resend-outline|envelope-variant|Emoji|smiley|face|emoji|smiley-angry|face-angry|emoji-angry|smiley-angry-outline|face-angry-outline|emoji-angry-outline|face-confused|emoji-confused|face-confused-outline|emoji-confused-outline|smiley-cool|face-cool|face-sunglasses|emoji-cool|smiley-cool-outline|face-cool-outline|face-sunglasses-outline|emoji-cool-outline|smiley-cry|face-cry|emoji-cry|smiley-cry-outline|face-cry-outline|emoji-cry-outline|smiley-dead|face-dead|emoji-dead|smiley-dead-outline|face-dead-outline|emoji-dead-outline|smiley-devil|face-devil|emoji-devil|smiley-devil-outline|face-devil-outline|emoji-devil-outline|smiley-excited|face-excited|emoji-excited|smiley-excited-outline|face-excited-outline|emoji-excited-outline|face-frown|emoji-frown|face-frown-outline|emoji-frown-outline|smiley-happy|face-happy|emoji-happy|smiley-happy-outline|face-happy-outline|emoji-happy-outline|smiley-kiss|face-kiss|emoji-kiss|smiley-kiss-outline|face-kiss-outline|emoji-kiss-outline|face-lol|emoji-lol|face-lol-outline|emoji-lol-outline|smiley-neutral|face-neutral|emoji-neutral|smiley-neutral-outline|face-neutral-outline|emoji-neutral-outline|insert-emoticon|mood|sentiment-very-satisfied|tag-faces|smiley-outline|face-outline|emoji-outline|smiley-poop|face-poop|emoji-poop|face-poop-outline|emoji-poop-outline|smiley-sad|face-sad|emoji-sad|smiley-sad-outline|face-sad-outline|emoji-sad-outline|face-sick|fever|emoji-sick|face-sick-outline|fever-outline|emoji-sick-outline|smiley-tongue|face-tongue|emoji-tongue|smiley-tongue-outline|face-tongue-outline|emoji-tongue-outline|smiley-wink|face-wink|emoji-wink|smiley-wink-outline|face-wink-outline|emoji-wink-outline|motor|motor-off|motor-off-outline|motor-outline|ev-plug-ccs-combo-1|ev-charger-ccs1|ev-plug-ccs-combo-2|ev-charger-ccs2|ev-charger-chademo|ev-charger-tesla|ev-plug-j1772|ev-charger-type1|ev-plug-mennekes|ev-charger-type2|charging-station|ev-charger|wall-charger|wallbox|electric-vehicle-charger|evse|electric-charger|factorial|exclamation-bold|emergency-exit|animation-plus|animation-plus-outline|gpu|graphics-processing-unit|nic|network-interface-card|nice|power|power-box|output|ios-share|show|visibility|remove-red-eye|view-arrow-left|view-arrow-left-outline|view-arrow-right|view-arrow-right-outline|eye-tick|eye-tick-outline|hide|visibility-off|hide-outline|visibility-off-outline|show-outline|visibility-outline|eye-add|eye-add-outline|view-refresh|view-refresh-outline|pipette|colorize|colourise|pipette-variant|customer-service|support|emoji-agent|emoticon-agent|Mark Joseph Monserrat|face-male|emoji-man|emoticon-man|face-male-outline|emoji-man-outline|emoticon-man-outline|face-male-profile|emoji-man-profile|emoticon-man-profile|face-retouching-natural|face-male-shimmer|emoji-man-shimmer|emoticon-man-shimmer|face-retouching-natural-outline|face-male-shimmer-outline|emoji-man-shimmer-outline|emoticon-man-shimmer-outline|facial-recognition|scan|face-female|emoji-woman|emoticon-woman|face-female-outline|emoji-woman-outline|emoticon-woman-outline|face-female-profile|emoji-woman-profile|emoticon-woman-profile|face-retouching-natural-woman|face-female-shimmer|emoji-woman-shimmer|emoticon-woman-shimmer|face-retouching-natural-woman-outline|face-female-shimmer-outline|emoji-woman-shimmer-outline|emoticon-woman-shimmer-outline|Social Media|industrial|fan-speed-down|fan-speed-up|fan-clock|fan-schedule|fan-timer|fan-speed-low|fan-speed-medium|fan-speed-high|kitchen-tap|bathroom-tap|quill|railway|train-track|railway-electric|train-track-electric|sword-fight|cargo-ship|boat|ship|directions-boat|directions-ferry|insert-drive-file|draft|paper|file-user|resume|file-warning|file-warning-outline|file-exchange|file-transfer|file-swap|file-exchange-outline|file-swap-outline|file-transfer-outline|file-upload-download|file-upload-download-outline|filing-cabinet|file-report|file-graph|file-graph-outline|file-report-outline|file-tick|file-settings-cog|file-settings-cog-outline|file-csv|file-csv-outline|file-text|file-document-error|file-text-alert|file-text-error|file-document-error-outline|file-text-error-outline|file-text-alert-outline|file-document-move|file-text-move|file-text-arrow-right|file-document-move-outline|file-text-move-outline|file-text-arrow-right-outline|file-document-tick|file-text-tick|file-text-check|file-document-tick-outline|file-text-tick-outline|file-text-check-outline|contract|file-text-edit|contract-outline|file-text-edit-outline|file-text-minus|file-text-minus-outline|file-text-multiple|Robbert Gurdeep Singh|file-text-multiple-outline|file-text-outline|file-document-add|file-text-add|file-text-plus|file-document-add-outline|file-text-plus-outline|file-text-add-outline|file-document-delete|file-text-remove|file-text-delete|file-document-delete-outline|file-text-remove-outline|file-text-delete-outline|print-preview|find-in-page|file-image-location|file-image-location-outline|file-image-add|file-image-add-outline|file-jpeg-box|image-jpg-box|image-jpeg-box|file-location|file-location-outline|files|paper-outline|file-acrobat-box|adobe-acrobat|Victor|note-add|restore-page|file-rotate-counter-clockwise|file-rotate-ccw|file-rotate-counter-clockwise-outline|file-rotate-ccw-outline|file-rotate-clockwise|file-move|contract-sign|document-sign|file-favorite|file-auto|file-auto-outline|file-favorite-outline|Michael Miday|subtasks|Kai Faust|file-revert|file-discard|camera-roll|local-movies|theaters|library-movie|funnel|funnel-check|funnel-check-outline|funnel-settings|filter-settings|funnel-cog|filter-gear|funnel-gear|filter-settings-outline|filter-gear-outline|funnel-cog-outline|funnel-settings-outline|funnel-gear-outline|funnel-minus|funnel-minus-outline|funnel-multiple|funnel-multiple-outline|kikuchan|funnel-outline|funnel-plus|funnel-plus-outline|funnel-remove|funnel-remove-outline|filter-list|David Jackson|chart-finance|report-finance|whatshot|flame|gas|natural-gas|hot|flame-alert|flame-circle|hot-circle|gas-circle|natural-gas-circle|flame-off|fire-engine|mozilla-firefox|bottle-rocket|aquarium|aquarium-outline|assistant-photo|goal|flag-add|milestone|star|lightning-bolt|flash-on|electricity|lightning-alert|storm-advisory|lightning-alert-outline|storm-advisory-outline|lightning-bolt-outline|high-voltage|high-voltage-outline|torch|torch-off|floor-light|floor-light-dual|floor-light-dual-outline|floor-light-outline|floor-light-torchiere|floor-light-torchiere-variant|floor-light-torchiere-variant-outline|james-fry|local-florist|plant|local-florist-outline|allergy|allergy-outline|folder-user|folder-shared|folder-user-outline|folder-shared-outline|folder-warning|folder-warning-outline|folder-download|folder-download-outline|folder-upload|folder-transfer|folder-transfer-outline|folder-upload-outline|folder-cog|folder-cog-outline|folder-mydrive|folder-house|Mitch Berninger|folder-house-outline|folder-location|Andrea Antonello|folder-location-outline|folders|perm-media|folders-image|folders-outline|Özgür Görgülü|folder-open|folder-media|folder-music|folder-video|folder-media-outline|folder-music-outline|folder-video-outline|create-new-folder|folder-add|create-new-folder-outline|folder-add-outline|folder-hash|folder-hash-outline|folder-help|folder-help-outline|folder-special|folder-favorite|folder-favorite-multiple|folder-favorite-multiple-outline|folder-special-outline|folder-favorite-outline|folder-settings|folder-settings-outline|compressed-folder|compressed-folder-outline|fast-food|burger|hamburger|Alex Efremo|chicken-leg|turkey-leg|meat|chicken-leg-off|turkey-leg-off|meat-off|chicken-leg-off-outline|turkey-leg-off-outline|meat-off-outline|chicken-leg-outline|turkey-leg-outline|meat-outline|food-fork-cup|food-muslim|dietary-restriction|food-weiner|food-frankfurter|food-jewish|fast-food-off|burger-off|hamburger-off|beef|beef-off|dinner|thanksgiving|aardloper|football-american|forestry|pine-tree-multiple|forestry-outline|pine-tree-multiple-outline|Charlie Davis|rename",
+    "format-align-centre|format-annotation-add|format-colour-fill|paint|paint-bucket|ink-color|ink-colour|format-colour-highlight|format-color-redact|format-colour-text|format-float-centre|Andreas Gohr|format-heading-1|format-heading-2|format-heading-3|format-heading-4|format-heading-5|format-heading-6|format-heading-decease|format-heading-equal|format-heading-increase|format-header-hash|format-heading-pound|format-heading-hash|format-heading-markdown|format-horizontal-align-centre|arrow-horizontal-collapse|format-lowercase|format-uppercase|format-kerning|to-do|format-list-group-add|format-list-numbers|format-list-numbered-right-to-left|Yaroslav Bandura|Michael|format-textdirection-r-to-l|format-textdirection-l-to-r|rotate-90-degrees-ccw|format-rotate-ninety|font-size|strikethrough-s|exponent|format-underlined|format-vertical-align-centre|arrow-vertical-collapse|message-group|question-answer|chat|chat-minus|forum-subtract|chat-subtract|chat-minus-outline|forum-subtract-outline|chat-subtract-outline|chat-outline|chat-plus|forum-add|chat-add|chat-plus-outline|chat-add-outline|forum-add-outline|forum-delete|chat-remove|chat-delete|forum-delete-outline|chat-remove-outline|chat-delete-outline|chips|finger-chips|french-fry|fried-potatoes|fries|frites|faq|fridge-filled|refrigerator|kitchen|fridge-filled-top|refrigerator-bottom|refrigerator-outline|fridge-filled-bottom|refrigerator-top|fruit-lemon|fruit-lime|fruit-ananas|petrol|gasoline|battery|ruby-horizontal|zhuyin|ruby-vertical|games|controller|controller-circle|controller-circle-down|controller-circle-left|controller-circle-outline|controller-circle-right|controller-circle-up|controller-down|controller-left|controller-outline|games-outline|controller-right|controller-round|controller-round-down|controller-round-left|controller-round-outline|controller-round-right|controller-round-up|controller-square|controller-square-outline|controller-up|controller-variant|controller-variant-outline|garage-warning|stove-burner|cooktop-burner|grill|tank|oxygen-tank|gas-pump|petrol-pump|petrol-station|local-gas-station|fuel-station|fuel-pump|gas-pump-outline|petrol-pump-outline|petrol-station-outline|fuel-station-outline|fuel-pump-outline|logic-gate-and|logic-gate-nand|logic-gate-nor|logic-gate-not|logic-gate-or|logic-gate-xnor|logic-gate-xor|swap-driving-apps-wheel|barometer|court-hammer|venus|mars|mercury|gender-enby|freehand-line|interaction-double-tap|hand-double-tap|interaction-tap|hand-tap|gesture-touch|gesture-touch-box|call-to-action|cta|button-pointer|gesture-touch-button|gesture-touch-hold|inky|blinky|pinky|clyde|present|package|donate|present-off|package-off|donate-off|present-off-outline|package-off-outline|donate-off-outline|present-open|package-open|present-open-outline|package-open-outline|donate-outline|present-outline|package-outline|microsoft-github|local-bar|cocktail|martini|alcohol|glass-broken|beer|cart|gog-com|golf-course|cable-car|google-adwords|chromecast|dinosaur-pixel|t-rex|tyrannosaurus-rex|attach-drive|marble|pegman|g-translate|dependency|dependencies|lawn|headstone|tombstone|cemetery|graveyard|glasshouse|hothouse|shed|grid-on|bbq|barbecue|charcoal|barbecue-outline|bbq-outline|charcoal-outline|hail-taxi|hail-cab|pumpkin-face|pumpkin-carved|jack-o-lantern|emoji-halloween|emoticon-halloween|food|burger-check|burger-minus|food-off|burger-plus|burger-add|burger-remove|tools|communism|applause|applause-off|charity|donation|charity-outline|donation-outline|hand-bike|hand-open|hand-palm|hand-open-outline|hand-palm-outline|volunteer|love|hope|hand-wash|greeting|farewell|greeting-outline|farewell-outline|volleyball|human-handball|deal|help|partnership|business-outline|deal-outline|help-outline|partnership-outline|coat-hanger|clothes-hanger|closet|helmet|hdd|hdd-plus|hdd-remove|warning-lights|psychology|psychology-outline|head-thinking|head-thinking-outline|head-ache|head-ache-outline|head-love|head-love-outline|head-idea|head-bulb|head-idea-outline|head-bulb-outline|head-freeze|brain-freeze|head-freeze-outline|brain-freeze-outline|head-reload|head-refresh|head-reload-outline|head-refresh-outline|headset|headset-mic|favorite|favourite|aed|defibrillator|hearts|hearts-outline|favorite-border|favourite-border|favorite-outline|favourite-outline|heart-vitals|keep-warm|warmth|radiator-coil|heated-floor|Doodlemandk|question-mark|question-mark-box|quiz|question-box-multiple|quiz-outline|question-box-multiple-outline|question-box-outline|question-mark-circle|question-mark-circle-outline|question-network|question-network-outline|question-mark-rhombus|question-mark-rhombus-outline|hexagons|christmas-star|star-outline|christmas-star-outline|hd|hd-box|autobahn|motorway|human-hiking|recent|latest|clock-arrow|counterclockwise|restore-clock|house|home-user|house-account|house-user|home-warning|house-alert|house-warning|house-alert-outline|home-warning-outline|house-warning-outline|chart-home|home-chart|home-report|house-analytics|house-chart|house-automation|home-wireless|house-wireless|smart-home|smart-house|home-energy|home-power|home-electricity|house-energy|house-battery|house-power|home-energy-outline|home-power-outline|home-electricity-outline|house-battery-outline|house-power-outline|house-energy-outline|house-circle|bentraynham|house-circle-outline|house-city|house-city-outline|home-time|home-schedule|house-time|house-clock|house-schedule|home-time-outline|home-schedule-outline|house-clock-outline|house-time-outline|house-schedule-outline|house-edit|house-edit-outline|house-export-outline|house-flood|house-floor-0|home-floor-zero|house-floor-zero|house-floor-1|home-floor-one|house-floor-one|home-floor-first|house-floor-first|house-floor-2|home-floor-two|house-floor-two|home-floor-second|house-floor-second|house-floor-3|home-floor-three|house-floor-three|home-floor-third|house-floor-third|home-floor-attic|house-floor-a|house-floor-attic|home-floor-basement|house-floor-b|house-floor-basement|home-floor-ground|house-floor-g|house-floor-ground|home-floor-loft|home-floor-lower|house-floor-l|house-floor-loft|house-floor-lower|house-floor-negative-1|home-floor-negative-one|home-floor-minus-1|home-floor-minus-one|house-floor-negative-one|house-floor-minus-1|house-floor-minus-one|house-group|neighbourhood|estate|housing-estate|house-group-minus|house-group-plus|home-group-add|house-group-add|LEANNOVATORS.TECH|house-group-remove|house-heart|house-import-outline|home-bulb|house-lightbulb|house-bulb|home-bulb-outline|house-lightbulb-outline|house-bulb-outline|home-flash|house-lightning-bolt|house-flash|house-lightning-bolt-outline|house-flash-outline|house-lock|home-secure|house-secure|house-lock-open|house-map-marker|home-location|house-minus|house-minus-outline|house-modern|house-off|house-off-outline|house-outline|home-add|house-plus|house-add|house-plus-outline|house-add-outline|house-remove|house-remove-outline|home-chimney|home-attic|house-roof|house-attic|house-chimney|house-search|home-find|house-find|house-search-outline|home-find-outline|house-find-outline|farm-house|farm-home|farm-house-outline|farm-home-outline|home-swap|house-switch|house-swap|home-swap-outline|house-swap-outline|house-switch-outline|home-climate|home-temperature|house-thermometer|house-climate|house-temperature|home-climate-outline|home-temperature-outline|house-thermometer-outline|house-climate-outline|house-temperature-outline|house-variant|house-variant-outline|green-house|equestrian|horseback-riding|horse-riding|equestrian-variant|swiss-cross|dispensary|local-hospital|swiss-cross-box|dispensary-box|swiss-cross-box-outline|dispensary-box-outline|hospital-location|accessibility|elderly|human-capacity-reduce|human-hand-truck|human-trolley|woman|mother|mom|woman-child|mum|ballet|woman-woman|women|human-hello|human-welcome|connect-without-contact|human-hello-variant|man|teacher|teaching|lecture|college|blackboard|whiteboard|human-man-board|teach-poll|MaksUr|father|dad|man-child|wc|man-woman|mom-dad-child|man-man|men|human-genderless|human-transgender|pregnant-woman|human-line|human-accessible|human-blind|heating|ventilation|air-conditioning|heating-off|ventilation-off|air-conditioning-off|hydraulic-turbine|water-turbine|watermill",
+    "popsicle|Nikos Pappas|key|ideogram-chinese-japanese-korean|writing-system-cjk|ideogram-chinese-japanese-korean-variant|writing-system-cjk-variant|insert-photo|photo-album|book-image|image-filter|broken-image|filter-b-and-w|image-filter-centre-focus|image-filter-centre-focus-weak|mountain|landscape|mountain-outline|landscape-outline|image-secure|image-secure-outline|image-location|image-location-outline|collections|photo-library|images|images-outline|image-add|image-add-outline|image-description|input|move-to-inbox|move-from-inbox|inboxes|inboxes-outline|anonymous|spy|anonymous-circle|spy-circle|anonymous-circle-off|spy-circle-off|spy-off|anonymous-off|ignition|about|information-circle|info-circle|about-circle|info|info-box|info-box-outline|info-off|info-circle-off|information-circle-off|info-circle-off-outline|information-circle-off-outline|information-off-outline|info-off-outline|info-outline|about-outline|information-circle-outline|info-circle-outline|about-circle-outline|info-slab-box|info-slab-box-outline|info-slab-circle|info-slab-circle-outline|info-slab-symbol|info-symbol|info-variant|about-variant|information-serif-symbol|info-variant-symbol|info-variant-box|information-serif-box|info-serif-box|info-variant-box-outline|information-serif-box-outline|info-serif-box-outline|information-serif-circle|info-serif-circle|info-variant-circle|information-serif-circle-outline|info-variant-circle-outline|info-serif-circle-outline|dinner-bell|icc|chip|invert-colours|invert-colours-off|internet-protocol|internet-protocol-outline|apple-ipod|flatiron|smoothing-iron|flatiron-outline|smoothing-iron-outline|wrestling|human-kabaddi|marsupial|martial-arts|kickboxing|human-karate|human-kayaking|tea-kettle|kettle-full|tea-kettle-full|tea-kettle-alert|kettle-full-alert|tea-kettle-full-alert|tea-kettle-alert-outline|kettle-empty-alert|tea-kettle-empty-alert|tea-kettle-off|tea-kettle-full-off|kettle-full-off|tea-kettle-off-outline|kettle-empty-off|tea-kettle-empty-off|tea-kettle-outline|kettle-empty|tea-kettle-empty|tea-kettle-steam|kettle-full-steam|tea-kettle-full-steam|tea-kettle-steam-outline|kettle-empty-steam|tea-kettle-empty-steam|vpn-key|Mateo Silguero|foreign-key|sql-foreign-key|key-add|primary-key|sql-primary-key|key-favorite|keyboard-clear|keyboard-erase|keyboard-capslock|keyboard-hide|keyboard-hide-outline|mpardieck|sikh|silverware-knife|cutlery-knife|dagger|volume-knob|volume-control|dial|tuner|switch|adjuster|emoji-koala|emoticon-koala|Claire Casaregola|bugfood|ladybird|lights|lights-outline|local-area-network|local-area-network-connect|local-area-network-disconnect|local-area-network-pending|avalanche|mudslide|avalanche-outline|mudslide-outline|xaml|microsoft-xaml|computer|teleconference|virtual-meeting|video-chat|John Brissette|layers-clear|green-circle|organic|green-circle-outline|organic-outline|proximity-sensor|proximity-sensor-off|podium|dais|rostrum|lecturn|light-strip|light-strip-variant|light-strip-variant-off|local-library|local-library-outline|ribbon|prize|award|life-preserver|overboard|floodlight-down|floodlight-up|can-light|pot-light|high-hat-light|hi-hat-light|downlight|toggle-switch|rocker-switch|Matthias de Baat|toggle-switch-off|rocker-switch-off|idea|bulb|lightbulb-error|lightbulb-error-outline|lightbulb-automatic|lightbulb-motion|lightbulb-automatic-outline|lightbulb-motion-outline|bulb-cfl|bulb-cfl-off|bulb-cfl-spiral|undearius|bulb-cfl-spiral-off|bulb-group|bulb-group-off|bulb-group-off-outline|bulb-group-outline|lightbulbs|bulb-multiple|bulbs|lightbulbs-off|bulb-multiple-off|bulbs-off|lightbulbs-off-outline|bulb-multiple-off-outline|bulbs-off-outline|lightbulbs-outline|bulb-multiple-outline|bulbs-outline|night-light|nite-light|lightbulb-moon-star|night-light-outline|nite-light-outline|lightbulb-moon-star-outline|bulb-off|bulb-off-outline|bulb-on|lightbulb-dimmer-100|lightbulb-dimmer-10|lightbulb-dimmer-20|lightbulb-dimmer-30|lightbulb-dimmer-40|lightbulb-dimmer-50|lightbulb-dimmer-60|lightbulb-dimmer-70|lightbulb-dimmer-80|lightbulb-dimmer-90|bulb-on-outline|bulb-outline|lightbulb-help|lightbulb-help-outline|lightbulb-halogen|lightbulb-gu10|lightbulb-halogen-off|lightbulb-gu10-off|lightbulb-edison|lightbulb-filament|lightbulb-edison-outline|lightbulb-filament-outline|beacon|thunder|storm|Brooke Clifton|amp|offline-bolt|flash-circle|electricity-circle|energy-circle|thunder-circle|storm-circle|thunder-outline|storm-outline|electricity-outline|TheSnowfield|underwear|bra|panties|Kristian Mohl|insert-link|block-chain|link-add|tux|iiiiiiines|ink-spot|puddle|water|blood|spill|oil|dirty|booze|beverages|whiskey|rum|wine|tequila|spirits|form|form-outline|Kateryna Porshnieva|presence-enter|presence-exit|https|password|secure|protected|encryption|lock-warning|password-alert|encryption-alert|password-warning|encryption-warning|lock-warning-outline|password-alert-outline|encryption-alert-outline|password-warning-outline|encryption-warning-outline|password-check|password-secure|encryption-check|encryption-secure|password-verified|encryption-verified|password-check-outline|password-secure-outline|encryption-check-outline|encryption-secure-outline|password-verified-outline|encryption-verified-outline|confidential-mode|password-clock|password-expiration|encryption-expiration|password-minus|encryption-minus|password-minus-outline|password-off|not-protected|unsecure|encryption-off|password-off-outline|unsecure-outline|not-protected-outline|encryption-off-outline|unlocked|decrypted|unlocked-alert|decrypted-alert|lock-open-warning|unlocked-warning|decrypted-warning|unlocked-alert-outline|lock-open-warning-outline|decrypted-alert-outline|unlocked-warning-outline|decrypted-warning-outline|unlocked-check|decrypted-check|unlocked-check-outline|decrypted-check-outline|unlocked-minus|decrypted-minus|unlocked-minus-outline|decrypted-minus-outline|unlocked-outline|decrypted-outline|unlocked-plus|decrypted-plus|lock-open-add|unlocked-add|decrypted-add|unlocked-plus-outline|lock-open-add-outline|unlocked-add-outline|decrypted-plus-outline|decrypted-add-outline|unlocked-remove|decrypted-remove|unlocked-remove-outline|decrypted-remove-outline|unlocked-variant|decrypted-variant|unlocked-variant-outline|decrypted-variant-outline|password-outline|secure-outline|https-outline|protected-outline|encryption-outline|lock-rate|lock-rate-open|lock-rate-open-outline|lock-rate-open-variant|lock-rate-open-variant-outline|lock-rate-outline|enhanced-encryption|lock-add|encryption-add|password-add|password-plus|encryption-plus|lock-add-outline|password-plus-outline|password-add-outline|encryption-plus-outline|encryption-add-outline|forgot-password|password-question|encryption-question|password-remove|encryption-remove|password-remove-outline|encryption-remove-outline|password-reset|encryption-reset|lockers|log-in|sign-in|log-in-variant|sign-in-variant|log-out|sign-out|log-out-variant|sign-out-variant|rainbow|hand-sanitizer|hand-sanitizer-outline|zoom-plus|circle-plus-outline|magnify|ammunition-pistol|Andrew Laws|ammunition-rifle|staff-shimmer|magic-wand|search|search-expand|zoom-out|search-minus|zoom-out-cursor|zoom-out-outline|search-minus-outline|zoom-in|magnify-add|search-plus|search-add|zoom-in-cursor|magnify-add-cursor|zoom-in-outline|magnify-add-outline|search-plus-outline|search-add-outline|map-tick|map-tick-outline|timezone|timezone-outline|location|address-marker|location-on|place|room|location-alert|location-warning|location-alert-outline|location-warning-outline|map-marker-tick|where-to-vote|location-check|location-check-outline|where-to-vote-outline|explore-nearby|location-circle|location-distance|location-down|location-left|location-left-outline|location-minus|location-minus-outline|map-markers|location-multiple|locations|locations-outline|location-multiple-outline|map-markers-outline|location-off|location-off-outline|location-outline|address-marker-outline|location-on-outline|place-outline|location-path|location-plus|map-marker-add|location-add|map-marker-add-outline|location-plus-outline|location-add-outline|location-question|location-question-outline|location-radius|location-radius-outline|location-remove|location-remove-outline",
+    "location-remove-variant-outline|location-right|location-right-outline|map-marker-favorite|location-star|location-favorite|map-marker-favorite-outline|location-star-outline|location-favorite-outline|location-up|map-add|highlighter|beenhere|marker-tick|maths-compass|math-cosine|maths-cos|code-or|parallel|code-or-box|parallel-box|math-sine|maths-sin|math-tangent|maths-tan|first-aid-kit|medicine|covid-test|pill-bottle|medicine-bottle|bottle-plus|pill-bottle-outline|medicine-bottle-outline|bottle-plus-outline|human-meditation|candelabra|menorah-flame|candelabra-fire|hamburger-menu|arrow-drop-down|caret-down|caret-down-outline|arrow-left|arrow-right|arrow-drop-up|caret-up|caret-up-outline|chat-bubble|message-warning|sms-failed|message-warning-outline|sms-failed-outline|message-unread|message-notification|message-unread-outline|message-notification-outline|speaker-notes|speaker-notes-off|rate-review|message-quick|message-quick-outline|mms|message-secure|chat-bubble-outline|message-add|Mike Behnke|sms|textsms|mode-comment|comment|insert-comment|message-text-secure|voice-chat|power-meter|power-meter-outline|natural-gas-outline|tempo|bpm|beats-per-minute|tempo-tick|bpm-tick|beats-per-minute-tick|keyboard-voice|tts|text-to-speech|tts-off|text-to-speech-off|microphone-remove|mic-off|mic-none|microphone-add|microphone-help|microphone-help-outline|settings-voice|microsoft-edge|visualstudio|vs-code|microsoft-windows|xbox-live|microsoft|microsoft-xbox-gamepad|xbox-controller-battery-warning|microsoft-xbox-gamepad-battery-alert|microsoft-xbox-gamepad-battery-charging|microsoft-xbox-gamepad-battery-empty|microsoft-xbox-gamepad-battery-full|microsoft-xbox-gamepad-battery-low|microsoft-xbox-gamepad-battery-medium|microsoft-xbox-gamepad-battery-unknown|microsoft-xbox-gamepad-off|microwave-oven|microsoft-minecraft|horizontal-line|minimize|indeterminate-check-box|library-minus|library-minus-outline|checkbox-indeterminate-outline|do-not-disturb-on|do-not-enter|pill-tablet|pharmaceutical|coins-minus|coins-minus-outline|do-not-disturb-off|remove-circle-off|do-not-enter-off|do-not-disturb-off-outline|remove-circle-off-outline|do-not-enter-off-outline|do-not-enter-outline|do-not-disturb-outline|pill-tablet-outline|medicine-outline|mma|glove|carbon-monoxide|gas-co|periodic-table-carbon-dioxide|gas-co2|desktop-windows|monitor-download|monitor-mobile-phone|monitor-smartphone|important-devices|monitor-mobile-phone-star|monitor-smartphone-star|monitor-cellphone-favorite|monitors|monitor-clean|monitor-crt|monitor-favorite|scooter|vespa|delivery-dining|scooter-electric|vespa-electric|delivery-dining-electric|scooter-electric-outline|vespa-electric-outline|delivery-dining-electric-outline|scooter-outline|vespa-outline|delivery-dining-outline|chemist|local-pharmacy|mortar-pestle|islam|muslim|breast-feed|motion-detector|motorcycle|motorcycle-electric|motorcycle-off|slate|clapperboard|film|movie-creation|slate-check|clapperboard-check|film-check|slate-check-outline|clapperboard-check-outline|film-check-outline|slate-cog|clapperboard-cog|film-cog|slate-cog-outline|clapperboard-cog-outline|film-cog-outline|slate-edit|clapperboard-edit|film-edit|slate-edit-outline|clapperboard-edit-outline|film-edit-outline|slate-minus|clapperboard-minus|film-minus|slate-minus-outline|clapperboard-minus-outline|film-minus-outline|slate-off|clapperboard-off|film-off|slate-off-outline|clapperboard-off-outline|film-off-outline|slate-open|clapperboard-open|film-open|slate-open-check|clapperboard-open-check|film-open-check|slate-open-check-outline|clapperboard-open-check-outline|film-open-check-outline|slate-open-cog|clapperboard-open-cog|film-open-cog|slate-open-cog-outline|clapperboard-open-cog-outline|film-open-cog-outline|slate-open-edit|clapperboard-open-edit|film-open-edit|slate-open-edit-outline|clapperboard-open-edit-outline|film-open-edit-outline|slate-open-minus|clapperboard-open-minus|film-open-minus|slate-open-minus-outline|clapperboard-open-minus-outline|film-open-minus-outline|slate-open-off|clapperboard-open-off|film-open-off|slate-open-off-outline|clapperboard-open-off-outline|film-open-off-outline|slate-open-outline|clapperboard-open-outline|film-open-outline|slate-open-play|clapperboard-open-play|film-open-play|slate-open-play-outline|clapperboard-open-play-outline|film-open-play-outline|clapperboard-open-plus|slate-open-plus|flim-open-plus|slate-open-plus-outline|clapperboard-open-plus-outline|film-open-plus-outline|slate-open-remove|clapperboard-open-remove|film-open-remove|slate-open-remove-outline|clapperboard-open-remove-outline|film-open-remove-outline|slate-open-settings|clapperboard-open-settings|film-open-settings|slate-open-settings-outline|clapperboard-open-settings-outline|film-open-settings-outline|slate-open-star|clapperboard-open-star|film-open-star|movie-open-favorite|slate-open-star-outline|clapperboard-open-star-outline|film-open-star-outline|movie-open-favorite-outline|slate-outline|clapperboard-outline|film-outline|slate-play|clapperboard-play|film-play|slate-play-outline|clapperboard-play-outline|film-play-outline|slate-plus|clapperboard-plus|film-plus|slate-plus-outline|clapperboard-plus-outline|film-plus-outline|slate-remove|clapperboard-remove|film-remove|slate-remove-outline|clapperboard-remove-outline|film-remove-outline|film-reel|fraaalk|slate-settings|clapperboard-settings|film-settings|slate-settings-outline|clapperboard-settings-outline|film-settings-outline|slate-star|clapperboard-star|film-star|movie-favorite|slate-star-outline|clapperboard-star-outline|film-star-outline|movie-favorite-outline|multiplex|broadcast|audio|video|image|music|movie|picture|fungus|Chris Thron|fungus-outline|library-music|library-music-outline|note-circle|note-circle-outline|music-c-clef|music-clef-tenor|music-clef-soprano|music-clef-baritone|music-f-clef|music-g-clef|music-note-add|network-attached-storage|arrow-compass|syringe|injection|shot|drug|immunization|syringe-off|injection-off|medicine-off|shot-off|drug-off|immunization-off|pharmaceutical-off|network-point-of-sale|network-cash-box|emeraldmor|network-strength-1-warning|network-strength-2-warning|network-strength-3-warning|network-strength-4-warning|network-strength-4-settings|data-settings|network-strength-0|fiber-new|near-field-communication|near-field-communication-tap|near-field-communication-variant|near-field-communication-off|nintendo-switch-online|nintendo-wii|nintendo-wiiu|food-ramen|asian-noodles|sticky-note|post-it-note|paper-alert|sticky-note-alert|post-it-note-alert|paper-alert-outline|post-it-note-alert-outline|sticky-note-alert-outline|paper-check|sticky-note-check|post-it-note-check|paper-check-outline|sticky-note-check-outline|post-it-note-check-outline|paper-edit|sticky-note-edit|post-it-note-edit|paper-edit-outline|sticky-note-edit-outline|post-it-note-edit-outline|paper-minus|sticky-note-minus|post-it-note-minus|paper-minus-outline|sticky-note-minus-outline|post-it-note-minus-outline|notes|papers|sticky-notes|post-it-notes|notes-outline|papers-outline|sticky-notes-outline|post-it-notes-outline|paper-off|sticky-note-off|post-it-note-off|paper-off-outline|sticky-note-off-outline|post-it-note-off-outline|sticky-note-outline|post-it-note-outline|paper-plus|paper-add|sticky-note-plus|sticky-note-add|post-it-note-plus|post-it-note-add|note-add-outline|paper-plus-outline|paper-add-outline|sticky-note-plus-outline|sticky-note-add-outline|post-it-note-plus-outline|post-it-note-add-outline|paper-remove|sticky-note-remove|post-it-note-remove|paper-search|sticky-note-search|post-it-note-search|paper-search-outline|sticky-note-search-outline|post-it-note-search-outline|paper-text|sticky-note-text|post-it-note-text|paper-text-outline|sticky-note-text-outline|post-it-note-text-outline|journal|planner|diary|notebook-favorite|notebook-love|notebook-favorite-outline|notebook-love-outline|journal-multiple|planner-multiple|journal-outline|planner-outline|nuclear|atomic-bomb|1-2-3|one-two-three|123|number-0|numeric-zero|numeric-zero-box|number-0-box|numeric-zero-box-multiple-outline|numeric-0-boxes-outline|number-0-box-multiple-outline|numeric-zero-box-outline|number-0-box-outline|numeric-zero-circle|number-0-circle",
+    "number-zero-circle|numeric-zero-circle-outline|number-0-circle-outline|number-zero-circle-outline|number-1|numeric-one|looks-one|numeric-one-box|number-1-box|filter-1|numeric-one-box-multiple-outline|numeric-1-boxes-outline|number-1-box-multiple-outline|numeric-one-box-outline|number-1-box-outline|numeric-one-circle|number-1-circle|number-one-circle|numeric-one-circle-outline|number-1-circle-outline|number-one-circle-outline|number-2|numeric-two|looks-two|numeric-two-box|number-2-box|filter-2|numeric-two-box-multiple-outline|numeric-2-boxes-outline|number-2-box-multiple-outline|numeric-two-box-outline|number-2-box-outline|numeric-two-circle|number-2-circle|number-two-circle|numeric-two-circle-outline|number-2-circle-outline|number-two-circle-outline|number-3|numeric-three|looks-3|numeric-three-box|number-3-box|filter-3|numeric-three-box-multiple-outline|numeric-3-boxes-outline|number-3-box-multiple-outline|numeric-three-box-outline|number-3-box-outline|numeric-three-circle|number-3-circle|number-three-circle|numeric-three-circle-outline|number-3-circle-outline|number-three-circle-outline|number-4|numeric-four|looks-4|numeric-four-box|number-4-box|filter-4|numeric-four-box-multiple-outline|numeric-4-boxes-outline|number-4-box-multiple-outline|numeric-four-box-outline|number-4-box-outline|numeric-four-circle|number-4-circle|number-four-circle|numeric-four-circle-outline|number-4-circle-outline|number-four-circle-outline|number-5|numeric-five|looks-5|numeric-five-box|number-5-box|filter-5|numeric-five-box-multiple-outline|numeric-5-boxes-outline|number-5-box-multiple-outline|numeric-five-box-outline|number-5-box-outline|numeric-five-circle|number-5-circle|number-five-circle|numeric-five-circle-outline|number-5-circle-outline|number-five-circle-outline|number-6|numeric-six|looks-6|numeric-six-box|number-6-box|filter-6|numeric-six-box-multiple-outline|numeric-6-boxes-outline|number-6-box-multiple-outline|numeric-six-box-outline|number-6-box-outline|numeric-six-circle|number-6-circle|number-six-circle|numeric-six-circle-outline|number-6-circle-outline|number-six-circle-outline|number-7|numeric-seven|numeric-seven-box|number-7-box|filter-7|numeric-seven-box-multiple-outline|numeric-7-boxes-outline|number-7-box-multiple-outline|numeric-seven-box-outline|number-7-box-outline|numeric-seven-circle|number-7-circle|number-seven-circle|numeric-seven-circle-outline|number-7-circle-outline|number-seven-circle-outline|number-8|numeric-eight|numeric-eight-box|number-8-box|filter-8|numeric-eight-box-multiple-outline|numeric-8-boxes-outline|number-8-box-multiple-outline|numeric-eight-box-outline|number-8-box-outline|numeric-eight-circle|number-8-circle|number-eight-circle|numeric-eight-circle-outline|number-8-circle-outline|number-eight-circle-outline|number-9|numeric-nine|numeric-nine-box|number-9-box|filter-9|numeric-nine-box-multiple-outline|numeric-9-boxes-outline|number-9-box-multiple-outline|numeric-nine-box-outline|number-9-box-outline|numeric-nine-circle|number-9-circle|number-nine-circle|numeric-nine-circle-outline|number-9-circle-outline|number-nine-circle-outline|numeric-nine-plus-box|number-9-plus-box|filter-9-plus|numeric-nine-plus-box-multiple-outline|numeric-9-plus-boxes-outline|number-9-plus-box-multiple-outline|numeric-nine-plus-box-outline|number-9-plus-box-outline|numeric-nine-plus-circle|number-9-plus-circle|number-nine-plus-circle|numeric-nine-plus-circle-outline|number-9-plus-circle-outline|number-nine-plus-circle-outline|decrement|minus-one|numbers-off|123-off|one-two-three-off|Piotr Ładoński|increment|plus-one|open-container-initiative|optical-character-recognition|stop|stop-outline|starburst-edit|starburst-edit-outline|starburst-plus|starburst-minus-outline|ok-ru|office-building-settings|Joshua Solomon|office-building-settings-outline|office-building-location|office-building-location-outline|arnoldlepineux|wish|genie-lamp|religion-hindu|hinduism|ohm|electrical-resistance|1up|extra-life|1password|open-in-browser|external-link|camera-flip|order-checkbox-ascending|order-checkbox-descending|outdoor-light|fullscreen|package-delivered|archive|box-down|unarchive|box-up|box-variant|box-variant-closed|package-variant-closed-delivered|package-variant-closed-subtract|box-variant-closed-minus|box-variant-closed-subtract|Ferenc Szabo|box-variant-closed-plus|package-variant-closed-add|box-variant-closed-add|box-variant-closed-remove|box-variant-minus|package-variant-subtract|box-variant-subtract|box-variant-plus|package-variant-add|box-variant-add|box-variant-remove|first-page|chevron-left-first|last-page|chevron-right-last|page-layout-marginals|read-more|read-more-outline|bucket|bucket-minus|bucket-minus-outline|bucket-off|bucket-off-outline|bucket-outline|bucket-plus|bucket-plus-outline|bucket-remove|bucket-remove-outline|color-lens|colour-lens|art|color|paint-outline|3.5.95|style|material|style-outline|Erdem YILMAZ|pan-down-left|pan-down-right|pan-up-left|pan-up-right|emoji-panda|emoticon-panda|panorama-fish-eye|panorama-360|panorama-360-outline|panorama-vr|image-vr|picture-vr|picture-360|image-360|panorama-vr-outline|image-vr-outline|picture-vr-outline|picture-360-outline|image-360-outline|lavatory-roll|bathroom-tissue|toilet-paper|kitchen-roll|paper-towels|receipt-roll|lavatory-roll-outline|bathroom-tissue-outline|kitchen-roll-outline|paper-towels-outline|toilet-paper-outline|receipt-roll-outline|attachment-vertical|attach-file|attachment-check|attachment-lock|attachment-minus|attachment-off|attachment-plus|attachment-remove|parasail|paraglide|car-park|local-parking|celebration|passport-electronic|food-italian|spaghetti|pause-circle-filled|stop-pause|stop-pause-outline|pets|allergen|food-allergy|allergen-off|food-allergy-off|allergen-off-outline|food-allergy-off-outline|allergen-outline|food-allergy-outline|pen-add|edit|create|mode-edit|edit-box|library-edit|library-edit-outline|edit-box-outline|edit-circle|edit-circle-outline|edit-off|edit-off-outline|edit-outline|create-outline|mode-edit-outline|pencil-add|pencil-add-outline|design|emoji-penguin|emoticon-penguin|linux|discount-box|sale-box|discount-box-outline|sale-box-outline|discount-circle|sale-circle|discount-circle-outline|sale-circle-outline|discount-outline|sale-outline|MC的wither菌|perspective-decrease|perspective-increase|acid|base|potential-of-hydrogen|power-of-hydrogen|call|local-phone|telephone|Patricia Cadenas|phone-bluetooth-speaker|telephone-bluetooth|phone-block|phone-schedule|phone-time|phone-keypad|phone-keypad-outline|phone-forwarded|telephone-forward|call-end|telephone-hangup|telephone-in-talk|telephone-in-talk-outline|telephone-incoming|telephone-locked|phone-locked|telephone-lock|telephone-outline|call-outline|add-call|phone-redial|phone-redial-outline|settings-phone|emoji-pig|emoticon-pig|capsule|medication|drugs|capsule-off|historic|column|keep|keep-off|keep-off-outline|At Abbey's side|2.3.54|keep-outline|forest|wildfire|controlled-burn|toys|toys-outline|monkey-wrench|gun|pizzeria|local-pizza|airport-shuttle|airport-taxi|airplane-car|airplane-train|play-arrow|slideshow|play-circle-filled|media-network|media-network-outline|subscriptions|playlist-add-check|playlist-tick|playlist-note|queue-music|playlist-note-outline|queue-music-outline|playlist-add|playlist-favorite|add|add-box|add-to-photos|library-add|queue|library-plus|add-circle|coins-plus|control-point-duplicate|plus-circles-outline|coins-plus-outline|add-circle-outline|control-point|circles-add|plus-secure|add-network|add-network-outline|add-thick|add-bold|plus-bold|podium-third|podium-first|podium-second|casino-chip|gambling-chip|bar-chart|performance|analytics|swimming-pool|pool-temperature|blog|post-light|benjocaz45|blog-outline|hashtag|hashtag-box|hashtag-box-outline|power-settings-new|shutdown|battery-backup|battery-backup-outline|power-off|settings-power|plug-socket|plug-socket-au|power-socket-type-i|power-socket-cn|power-socket-ar|power-socket-nz|power-socket-pg|power-socket-australia|power-socket-china|power-socket-argentina|power-socket-new-zealand|power-socket-papua-new-guinea|plug-socket-ch|power-socket-type-j|plug-socket-type-j|power-socket-switzerland|plug-socket-switzerland|Stautob|plug-socket-eu",
+    "power-socket-europe|Angelo Fan|plug-socket-uk|power-socket-type-g|power-socket-ie|power-socket-hk|power-socket-my|power-socket-cy|power-socket-mt|power-socket-sg|power-socket-united-kingdom|power-socket-ireland|power-socket-hong-kong|power-socket-malaysia|power-socket-cyprus|power-socket-malta|power-socket-singapore|plug-socket-us|power-socket-ca|power-socket-mx|power-socket-type-b|power-socket-united-states|power-socket-japan|power-socket-canada|power-socket-mexico|local-printshop|local-print-shop|Jon-Luke West|printer-warning|paper-jam|printer-preview|printer-view|printer-point-of-sale|printer-receipt|printer-point-of-sale-alert|printer-receipt-alert|printer-point-of-sale-alert-outline|printer-receipt-alert-outline|printer-point-of-sale-cancel|printer-receipt-cancel|printer-point-of-sale-cancel-outline|printer-receipt-cancel-outline|printer-point-of-sale-check|printer-receipt-check|printer-point-of-sale-check-outline|printer-receipt-check-outline|printer-point-of-sale-cog|printer-receipt-cog|printer-point-of-sale-cog-outline|printer-receipt-cog-outline|printer-point-of-sale-edit|printer-receipt-edit|printer-point-of-sale-edit-outline|printer-receipt-edit-outline|printer-point-of-sale-minus|printer-receipt-minus|printer-point-of-sale-minus-outline|printer-receipt-minus-outline|printer-point-of-sale-network|printer-receipt-network|printer-point-of-sale-network-outline|printer-receipt-network-outline|printer-point-of-sale-off|printer-receipt-off|printer-point-of-sale-off-outline|printer-receipt-off-outline|printer-point-of-sale-outline|printer-receipt-outline|printer-point-of-sale-pause|printer-receipt-pause|printer-point-of-sale-pause-outline|printer-receipt-pause-outline|printer-point-of-sale-play|printer-receipt-play|printer-point-of-sale-play-outline|printer-receipt-play-outline|printer-point-of-sale-plus|printer-receipt-plus|printer-point-of-sale-plus-outline|printer-receipt-plus-outline|printer-point-of-sale-refresh|printer-receipt-refresh|printer-point-of-sale-refresh-outline|printer-receipt-refresh-outline|printer-point-of-sale-remove|printer-receipt-remove|printer-point-of-sale-remove-outline|printer-receipt-remove-outline|printer-point-of-sale-star|printer-receipt-star|printer-favorite|printer-primary|printer-point-of-sale-star-outline|printer-receipt-star-outline|printer-point-of-sale-stop|printer-receipt-stop|printer-point-of-sale-stop-outline|printer-receipt-stop-outline|printer-point-of-sale-sync|printer-receipt-sync|printer-point-of-sale-sync-outline|printer-receipt-sync-outline|printer-point-of-sale-wrench|printer-receipt-wrench|printer-point-of-sale-wrench-outline|printer-receipt-wrench-outline|printer-magnify|low-priority|progress-warning|progress-tick|progress-auto|progress-spanner|pp81381|publish-disabled|vitals|Anton Verburg|extension|jigsaw|jigsaw-outline|extension-outline|puzzle-favorite|puzzle-favorite-outline|drone|high-quality|hq|low-quality|lq|medium-quality|mq|bunny|hare|easter|cruelty-free|easter-outline|bunny-outline|hare-outline|cruelty-free-outline|lacrosse|squash|track-changes|heater|heater-disabled|heater-off|zoara|radiation|radiation-circle|radiation-circle-outline|radiation-off|radio-button-unchecked|radio-button-indeterminate|radiobox-intermediate-variant|radio-button-checked|x-ray-box|x-ray-box-outline|circle-radius|sphere-radius|circle-radius-outline|sphere-radius-outline|railroad-crossing-light|train-crossing-light|level-crossing-signals|raspberrypi|cloth|fabric|swatch|receipt-pending|cloth-outline|fabric-outline|swatch-outline|invoice|invoice-arrow-left|invoice-receive|invoice-arrow-left-outline|invoice-receive-outline|invoice-arrow-right|invoice-send|invoice-arrow-right-outline|invoice-send-outline|invoice-check|invoice-check-outline|invoice-clock|invoice-schedule|receipt-text-pending|invoice-clock-outline|invoice-schedule-outline|invoice-edit|invoice-edit-outline|invoice-minus|invoice-minus-outline|invoice-outline|invoice-plus|invoice-add|receipt-text-add|invoice-remove|invoice-remove-outline|fiber-manual-record|arrow|loop|auto-start|automatic-start|auto-stop|automatic-stop|automatic|refresh-automatic|regular-expression|image-aspect-ratio|car-engine-start|rotate-clockwise|settings-remote|repost|repeat-one|twitter-retweet|drag|rotate-counter-clockwise|fast-rewind|diamond|diamond-outline|collection|emoji-robot|emoticon-robot|emoji-robot-angry|emoticon-robot-angry|emoji-robot-angry-outline|emoticon-robot-angry-outline|emoji-robot-confused|emoticon-robot-confused|emoji-robot-confused-outline|emoticon-robot-confused-outline|emoji-robot-dead|emoticon-robot-dead|emoji-robot-dead-outline|emoticon-robot-dead-outline|emoticon-robot-excited|emoji-robot-excited|emoji-robot-excited-outline|emoticon-robot-excited-outline|emoji-robot-happy|emoticon-robot-happy|emoji-robot-happy-outline|emoticon-robot-happy-outline|autonomous|assembly|emoji-robot-love|emoticon-robot-love|lawn-mower|lawn-mower-outline|emoji-robot-off|emoticon-robot-off|emoji-robot-outline|emoticon-robot-outline|roomba|robot-vacuum-error|neato|robot-vacuum-variant-error|mouse|rat|blinds-closed|rollup-js|call-bell|call-bell-outline|3d-rotation|arrow-rotate-left|arrow-rotate-right|sign-routes|human-rowing|rss-feed|rss-feed-box|carpet|rugby-ball|square|carpentry|architecture|mason|masonic|freemasonry|directions-run|human-run|human-run-fast|recreational-vehicle|campervan|safety-glasses|sailing|sail-boat-crash|sail-boat-wreck|SvenVdv|justice|legal|aroma|fragrance|smell|odor|aroma-off|smell-off|fragrance-off|odor-off|graduation-cap|university|academic-cap|academic-cap-outline|college-outline|graduation-cap-outline|university-outline|education-outline|learn-outline|screen-lock-rotation|scroll|scroll-outline|scroll-text|scroll-text-outline|sd-card|sd-storage|Tarilonte|search-globe|global-search|internet-search|event-seat|chair|chair-accent|home-theater|home-theatre|airline-seat-flat|airline-seat-flat-angled|airline-seat-individual-suite|airline-seat-legroom-extra|airline-seat-legroom-normal|airline-seat-legroom-reduced|event-seat-outline|chair-outline|chair-accent-outline|airline-seat-recline-extra|airline-seat-recline-normal|seat-belt|safety-belt|shield|uac|user-access-control|administrator|shield-network|uac-network|administrator-network|seed-add|seed-add-outline|playground-seesaw|select-colour|selection-invert|select-location|select-multiple-location|John Martini|selection-location|selection-multiple-location|rdf|resource-description-framework|owl|web-ontology-language|w3c|paper-airplane|paper-plane|send-secure|paper-airplane-outline|paper-plane-outline|paper-plane-variant|paper-airplane-variant|paper-airplane-variant-outline|paper-plane-variant-outline|vga|server-remove|server-add|server-shield|set-union|set-or|full-outer-join|sql-full-outer-join|set-centre|set-intersection|set-and|inner-join|sql-inner-join|set-centre-right|outer-join-right|sql-right-outer-join|difference-left|set-left-centre|outer-join-left|sql-left-outer-join|exclusion|set-xor|s-ki|set-null|set-not|venn-diagram|difference-right|fish-food|salt|fish-food-outline|category|theme|shape-circle-add|theme-outline|category-outline|shape-add|category-plus|shape-add-outline|category-plus-outline|shape-polygon-add|shape-rectangle-add|shape-square-add|forward|forward-off|forward-off-outline|forward-outline|jaws|jaws-off|emoji-sheep|emoticon-sheep|security-account|shield-user|shield-person|alarm-arm-home|security-account-outline|shield-user-outline|shield-person-outline|alarm-arm-home-outline|shield-aeroplane|shield-plane|plane-shield|shield-aeroplane-outline|shield-plane-outline|shield-warning|shield-warning-outline|antivirus|antivirus-outline|car-security|car-insurance|verified-user|shield-tick|shield-tick-outline|shield-templar|shield-christianity|shield-templar-outline|shield-christianity-outline|administrator-outline|security-home|shield-house|shield-house-outline|security-lock|alarm-arm-away|shield-unlocked|shield-unlocked-outline|alarm-arm-away-outline|security-lock-outline|alarm-arm-night|alarm-arm-night-outline|security-off|shield-add|shield-add-outline|badge|shield-favorite|badge-outline|shield-favorite-outline|sun-protection|sun-protection-outline|moderator|moderator-outline|sparkles",
+    "voyager|helm|slippers-ballet|footprints|shoe-running|local-mall|marketplace|local-mall-outline|marketplace-outline|Ken Gregory|gardening|bathtub|bathroom|ninja-star|summation|milestone-minus|milestone-plus|sign-direction-add|milestone-add|milestone-remove|give-way|signal-cellular-0|farm-outline|Benjamin Watson|local-dining|restaurant-menu|local-restaurant|cutlery|silverware-shimmer|cutlery-clean|cutlery-fork|restaurant|fortnite|cutlery-fork-knife|place-setting|cutlery-spoon|cutlery-variant|sim-card|subscriber-identity-module|subscriber-identification-module|sim-warning|sim-card-alert|signal-cellular-no-sim|sim-card-outline|subscriber-identity-module-outline|subscriber-identification-module-outline|current-ac|wave|analog|workflow|flowchart|workflow-outline|flowchart-outline|size-large|size-medium|size-small|size-extra-large|size-extra-small|size-extra-extra-large|size-extra-extra-small|ice-skate|human-skateboarding|skew-decrease|skew-increase|human-ski|nordic-walking|human-ski-cross-country|human-ski-water|title-backward|previous-title|title-forward|next-title|jolly-roger|jolly-roger-outline|x-ray|radiology|x-ray-outline|radiology-outline|microsoft-skype|divide|division|divide-box|division-box|human-sledding|playground-slide|casino|gambling|casino-outline|gambling-outline|smog|fire|nest-protect|subwoofer|cigarette|smoking-area|smoking-rooms|no-smoking|cigarette-off|smoke-free|gastropod|reptile|human-snowboard|cold-alert|snow-advisory|freeze-advisory|snowflake-approve|defrost|frost-point|freezing-point|snowflake-temperature|football|football-pitch|couch|living-room|family-room|couch-outline|living-room-outline|family-room-outline|loveseat|love-seat|loveseat-outline|love-seat-outline|solar-energy|solar-electricity|solar-panel-energy|solar-panel-electricity|solar-energy-outline|solar-electricity-outline|sony-playstation|playstation-network|Samuele Dassatti|sort-by-alpha|sort-alphabetically|sort-checkbox-ascending|sort-checkbox-descending|sort-date-ascending|sort-date-descending|sort-time-ascending|sort-time-ascending-outline|sort-time-descending|sort-time-descending-outline|sort-numerically|speaker-bar|source-repositories|soya-sauce|flower-lotus|flower-lotus-outline|speakers|staff|fishing|arachnid|bug|arachnid-outline|arachnid-thread|cobweb|arachnid-web|aerosol|cleaning|irrigation|sprinkler-mist|mister|sprinkler-head|seedling|ecology|environment|seedling-outline|plant-outline|ecology-outline|environment-outline|vegetarian|lacto-vegetarian|square-transparent|push-notification|push-notification-outline|stackexchange|stackoverflow|arena|arena-outline|grade|star-rate|favorite-box|favorite-box-multiple|favorite-box-multiple-outline|favorite-box-outline|favorite-check|favorite-check-outline|stars|favorite-circle|feature-highlight|favorite-circle-outline|favorite-cog|favorite-cog-outline|religion-islamic|religion-muslim|jewish|religion-judaic|judaism|magen-david|favorite-face|emoji-star|emoticon-star|auto-box|auto-box-outline|auto-circle|auto-circle-outline|favorite-half|favorite-half-full|favorite-minus|favorite-minus-outline|favorite-off|favorite-off-outline|star-border|favorite-plus|star-add|favorite-add|star-add-outline|favorite-plus-outline|favorite-add-outline|favorite-remove|favorite-remove-outline|favorite-settings|favorite-settings-outline|favorite-shooting|favorite-shooting-outline|search-hands-free|search-hands-free-off|frame-backward|frame-forward|propane-tank|gas-tank|propane-tank-outline|gas-tank-outline|shop|store-mall-directory|local-convenience-store|shop-24-hour|shop-alert|shop-alert-outline|shop-check|shop-complete|store-complete|store-complete-outline|shop-check-outline|store-schedule|store-hours|shop-clock|shop-hours|shop-schedule|store-time|shop-time|shop-clock-outline|store-hours-outline|shop-hours-outline|store-time-outline|shop-time-outline|store-schedule-outline|shop-schedule-outline|store-settings|shop-settings|store-settings-outline|shop-settings-outline|shop-cog-outline|shop-edit|shop-edit-outline|store-location|shop-marker|shop-location|store-location-outline|shop-marker-outline|shop-location-outline|shop-minus|shop-minus-outline|shop-off|shop-off-outline|shop-outline|store-mall-directory-outline|shop-plus|shop-plus-outline|shop-remove|store-delete|shop-delete|shop-remove-outline|store-delete-outline|shop-delete-outline|shop-search|store-find|shop-find|store-locator|shop-locator|store-look-up|shop-look-up|store-find-outline|shop-search-outline|shop-find-outline|store-locator-outline|shop-locator-outline|store-look-up-outline|shop-look-up-outline|awning|cooker|oven|football-play|italian-lights|christmas-lights|fairy-lights|italian-lights-off|christmas-lights-off|fairy-lights-off|metro|tube|underground|subway-warning-variant|metro-variant|tube-variant|underground-variant|directions-subway|directions-transit|peak|solar-angle|solar-angle-outline|sun-schedule|sun-time|time-of-day|sun-schedule-outline|sun-time-outline|time-of-day-outline|sun-azimuth|solar-compass|solar-asimuth|hot-cold|heat-cool|heat-index|sun-temperature|day-temperature|external-temperature|outdoor-temperature|outside-temperature|weather-sun-wireless|illuminance|uv-ray|ultraviolet|weather-sun-wireless-outline|illuminance-outline|uv-ray-outline|ultraviolet-outline|stereo|arrow-left-right|transfer|exchange|arrow-left-right-bold|import-export|arrow-up-down|arrow-up-down-bold|import-export-bold|swap-calls|writing-system-hangul|writing-system-hiragana|writing-system-katakana|writing-system-katakana-half-width|shul|temple|temple-outline|shul-outline|jewish-outline|sync-warning|sync-problem|sync-disabled|tab-add|tab-find|Arno Cellarier|table-user|table-download|table-import|table-share|table-export|table-upload|dining|dining-room|table-settings|table-column-add-after|table-column-add-before|table-favorite|table-large-add|toc|table-add|table-help|table-row-add-after|table-row-add-before|Che de Bruin|Michał Kleszczyński|ping-pong|whiff-whaff|mobile-devices|tablet-mobile-phone|tablet-smartphone|local-offer|tag-approve|tag-approve-outline|tag-emoji|tag-emoticon|loyalty|tags|tag-add|tag-find|tag-find-outline|counting-1|one|counting-2|two|counting-3|three|counting-4|four|counting-5|five|puzzle|SLembas|fuel-truck|oil-truck|water-truck|tanker|Zach Gover|measuring-tape|registration-mark|crosshairs-account|target-user|local-taxi|cab|child-toy|children-toy|kids-room|childrens-room|play-room|Andy Allsopp|tv|tv-box|tv-guide|tv-classic|tv-classic-off|tv-off|television-clean|temperature-centigrade|tennis-racquet|tennis-racket|camping|biography|text-user|drive-document|file-document-box|file-document-box-tick|file-document-box-check|file-document-box-tick-outline|file-document-box-check-outline|file-document-box-minus|file-document-box-minus-outline|file-document-boxes|file-document-box-multiple|file-document-boxes-outline|file-document-box-multiple-outline|file-document-box-outline|file-document-box-plus|file-document-box-plus-outline|file-document-box-remove|file-document-box-remove-outline|file-document-box-search|file-document-box-search-outline|text-subject|notes-search|notes-search-variant|surface-area|cinema|sun-moon-stars|temperature|thermometer-warning|temperature-alert|temperature-warning|temperature-auto|temperature-bluetooth|thermometer-approve|temperature-check|temperature-approve|temperature-chevron-down|temperature-decrease|thermometer-decrease|temperature-chevron-up|temperature-increase|thermometer-increase|temperature-high|temperature-lines|temperature-low|temperature-minus|temperature-off|thermometer-add|temperature-plus|temperature-add|dew-point|water-temperature|boiling-point|nest|comic-bubble|thinking|comic-thought-bubble-outline|thinking-outline|think-outline|dislike|thumbs-down|dislike-outline|thumbs-down-outline|like|thumbs-up|like-outline|thumbs-up-outline|like-dislike|like-dislike-outline|local-activity|local-play|local-attraction|ticket-user|confirmation-number|confirmation-number-outline|coupon|voucher|coupon-outline|voucher-outline|timeline-help|timeline-help-outline|stopwatch|timer-ten|timer-three|stopwatch-alert|stopwatch-alert-outline|stopwatch-cancel|stopwatch-cancel-outline|stopwatch-check|timer-tick|stopwatch-tick|timer-tick-outline",
+    "stopwatch-check-outline|stopwatch-tick-outline|timer-settings|timer-settings-outline|stopwatch-edit|stopwatch-edit-outline|stopwatch-lock|timer-secure|stopwatch-secure|stopwatch-lock-open|stopwatch-lock-open-outline|stopwatch-lock-outline|stopwatch-secure-outline|timer-secure-outline|stopwatch-marker|timer-location|stopwatch-location|stopwatch-marker-outline|timer-location-outline|stopwatch-location-outline|timer-subtract|stopwatch-minus|stopwatch-subtract|timer-subtract-outline|stopwatch-minus-outline|stopwatch-subtract-outline|stopwatch-music|stopwatch-music-outline|stopwatch-off|stopwatch-off-outline|stopwatch-outline|stopwatch-pause|stopwatch-pause-outline|timer-start|stopwatch-play|stopwatch-start|timer-start-outline|stopwatch-play-outline|stopwatch-start-outline|timer-add|stopwatch-plus|stopwatch-add|timer-add-outline|stopwatch-plus-outline|stopwatch-add-outline|stopwatch-refresh|stopwatch-refresh-outline|stopwatch-remove|stopwatch-remove-outline|hourglass|hourglass-complete|hourglass-empty|hourglass-full|hourglass-paused|timer-favorite|stopwatch-star|stopwatch-favorite|timer-favorite-outline|stopwatch-star-outline|stopwatch-favorite-outline|stopwatch-stop|stopwatch-stop-outline|stopwatch-sync|stopwatch-sync-outline|tyre|wheel|light-switch-on|light-switch-off|lavatory|bidet|service-toolbox|wrench|screwdriver|Tooltip|tooltip-user|tooltip-person|account-location|tooltip-add|tooltip-outline-plus|tooltip-add-outline|tooltip-help|tooltip-help-outline|dentist|oral-hygiene|olympics|turtle|optical-audio|Jackie Yang|bracket|auto-towing|truck|school|lego|plugin|lego-location|toy-brick-location|lego-location-outline|toy-brick-location-outline|plugin-outline|lego-outline|agriculture|tm|traffic-signal|stop-light|traffic-signal-outline|stop-light-outline|directions-railway|locomotive|railroad|commute|transportation|travel|locomotive-variant|railroad-variant|Myron Netterlund|transfer-within-a-station|animation|motion|translate|masked-transitions|language|spoken-language|pylon|powerline|grid|power-from-grid|energy-from-grid|electricity-from-grid|power-to-grid|energy-to-grid|electricity-to-grid|return-to-grid|powerline-off|pylon-off|grid-off|delete|trashcan|delete-outline|trashcan-outline|printer|inbox|tray-download|tray-upload|jewelry-box|jewel-case|jewel-case-outline|jewelry-box-outline|trending-flat|trending-down-variant|trending-up-variant|zelda|achievement|achievement-award|achievement-outline|achievement-variant|achievement-variant-outline|lorry|local-shipping|courier|truck-error|truck-error-outline|truck-shipping|truck-tick|lorry-check|courier-check|lorry-delivery|lorry-fast|courier-fast|truck-flatbed-tow|truck-subtract|truck-subtract-outline|truck-add|truck-add-outline|truck-refrigerator|truck-freezer|t-shirt-crew|t-shirt-crew-outline|t-shirt-v|t-shirt-v-outline|laundry-room|laundry-room-alert|laundry-room-off|mixer-settings|equaliser|equalizer|equaliser-vertical|instant-mix|settings-vertical|mixer-settings-vertical|equalizer-vertical|jet-engine|wind-turbine|uplay|unidentified-flying-object|alien|unidentified-flying-object-outline|uhd|chevron-down-up|collapse-horizontal|chevron-right-left|collapse-vertical|chevron-up-down|expand-horizontal|chevron-left-right|expand-vertical|fantasy|fantasy-variant|unreal-engine|clockwise|file-upload|uploads|file-upload-outline|vacuum-cleaner|vacuum-cleaner-outline|van-candy|Vector|bezier|vector-point-add|mdi|vector-square-subtract|vector-square-add|vector-square-delete|video-home-system|vhs-cassette|vhs-tape|vibration|videocam|cezar-darac|Matther Miller|4k|video-user|settings-input-antenna|video-input-composite|settings-input-component|settings-input-composite|video-input-ypbpr|rca|settings-input-hdmi|settings-input-svideo|video-location|video-location-outline|video-remove|videocam-off|videocam-off-outline|videocam-outline|video-call|video-add|video-stabilisation|switch-video|video-film|video-classic|Mike G Chambers|Saulo Pratti|view-grid-add|vr|eruption|eruption-outline|Ron Schaeffer|speaker|speakerphone|volume-decrease|mute|audio-off|speaker-off|speakerphone-off|volume-increase|how-to-vote|how-to-vote-outline|virtual-private-network|vue-js|directions-walk|walker|walking|human-walk|bricks|firewall|ceiling-light-flat|pot-light-flat|pot-light-flat-variant|pot-light-round|pot-light-round-variant|account-balance-wallet|card-giftcard|redeem|card-membership|account-balance-wallet-outline|wallet-add|wallet-add-outline|card-travel|wide-area-network|closet-outline|laundrette|local-laundry-service|Bradley Nelson|drop|water-drop|trans-fat|ink|drop-alert|blood-alert|ink-alert|drop-alert-outline|blood-alert-outline|ink-alert-outline|water-heater|gas-water-boiler|electric-water-boiler|gas-water-heater|electric-water-heater|water-heater-alert|water-boiler-error|water-heater-error|water-heater-auto|water-heater-off|drop-check|blood-check|ink-check|drop-check-outline|blood-check-outline|ink-check-outline|drop-circle|blood-circle|ink-circle|drop-minus|blood-minus|ink-minus|drop-minus-outline|blood-minus-outline|ink-minus-outline|format-color-reset|trans-fat-off|blood-off|ink-off|drop-off-outline|blood-off-outline|trans-fat-off-outline|ink-off-outline|water-transparent|water-saver|blood-saver|blood-transparent|oil-saver|oil-transparent|drop-transparent|drop-saver|drop-outline|blood-outline|water-drop-outline|ink-outline|ink-percent|humidity-alert|ink-percent-alert|drop-plus|blood-plus|ink-plus|drop-plus-outline|blood-plus-outline|ink-plus-outline|tap|faucet|tap-off|kitchen-tap-off|faucet-off|drop-remove|blood-remove|ink-remove|drop-remove-outline|blood-remove-outline|ink-remove-outline|water-recycle|water-reuse|boil-point|dew-point-outline|water-temperature-outline|boil-point-outline|watering-pot|watering-pot-outline|branding-watermark|ocean|lake|flood|tide-in|water-flow|tide-out|water-evaporation|sea-level-rise|ocean-level-rise|climate-change|weather-history|weather-time|weather-date|dust-storm|windy|weather-mist|cyclone|cyclone-outline|weather-storm|weather-thunder|weather-flash|weather-thunder-rainy|moon-and-stars|night-sky|weather-partlycloudy|weather-heavy-rain|weather-drizzle|weather-spitting|flurries|weather-sleet|heat-alert|heat-advisory|sun-advisory|sunrise|internet|world-wide-web|language-box|internet-box|Samuel Jones|web-camera|weight-kg|crossfit|human-barbell|weight-lb|accessible|isa|international-symbol-of-access|wb-auto|wb-incandescent|wb-iridescent|wb-sunny|wifi-location|wifi-favourite|network-favourite|wifi-favorite|network-favorite|wifi-strength-1-warning|wifi-strength-2-warning|wifi-strength-3-warning|wifi-strength-4-warning|wifi-strength-warning-outline|wifi-strength-0-alert|wifi-strength-0-warning|wifi-strength-0-lock|wifi-strength-0|wind-energy|wind-electricity|wind-energy-outline|wind-electricity-outline|wind-power|wind-power-alert|wind-turbine-warning|wind-power-check|wind-turbine-success|wind-power-success|close|window-shutter-settings|wiper-fluid|washer-fluid|wiper-fluid-alert|washer-fluid-alert|wiper-fluid-low|washer-fluid-low|unwrap|Leo SF|build|spanner|scheduled-maintenance|wrench-time|tool-time|tool-clock|wrench-settings|wrench-settings-outline|build-outline|spanner-outline|microsoft-xamarin|code|taoism|video-youtube|youtube-play|youtube-creator-studio|zwave|compressed-file|compressed-file-outline|horoscope-aquarius|horoscope-aries|horoscope-cancer|horoscope-capricorn|horoscope-gemini|horoscope-leo|horoscope-libra|horoscope-pisces|horoscope-sagittarius|horoscope-scorpio|horoscope-taurus|horoscope-virgo"
+  };
+
+  public static final String[] ICONS = {
+    "ab-testing F01C9 0  1 2|abacus F16E0 3  4 5|abjad-arabic F1328 6 7 8 9|abjad-hebrew F1329 6 a 8 9|abugida-devanagari F132A 6 b 8 9|abugida-thai F132B 6 c 8 9|access-point F0003  d e f|access-point-check F1538  g,h 4 i|access-point-minus F1539   4 i|access-point-network F0002   e f|access-point-network-off F0BE1   j k|access-point-off F1511   4 i|access-point-plus F153A   4 i|access-point-remove F153B   4 i|account F0004 l,m n,o p f|account-alert F0005 l,q r,s,t,u,v w f|account-alert-outline F0B50 l,q x,y,z,10,11 12 13|account-arrow-down F1868 l 14 4 15|account-arrow-down-outline F1869 l 16 4 15|account-arrow-left F0B51 l 17,18 12 13|account-arrow-left-outline F0B52 l 19,1a 12 13|account-arrow-right F0B53 l 1b,1c 12 13|account-arrow-right-outline F0B54 l 1d,1e 12 13|account-arrow-up F1867 l 1f 4 15|account-arrow-up-outline F186A l 1g 4 15|account-badge F1B0A l 1h,1i 1j 1k|account-badge-outline F1B0B l 1l,1m 1j 1k|account-box F0006 l 1n,1o,1p,1q p f|account-box-multiple F0934 l 1r,1s,1t,1u,1v,1w p 1x|account-box-multiple-outline F100A l  j 1y|account-box-outline F0007 l 1z,20,21,22,23 p f|account-cancel F12DF l 24,25,26,27 e 28|account-cancel-outline F12E0 l 29,2a,2b,2c e 28|account-card F1BA4 l  2d 2e|account-card-outline F1BA5 l  2d 2e|account-cash F1097 l,2f,2g  2h 2i|account-cash-outline F1098 l,2f,2g  2h 2i|account-check F0008 l 2j,2k,2l,2m,2n,2o,2p p f|account-check-outline F0BE2 l 2q,2r,2s,2t,2u,2v,2w p k|account-child F0A89 l 2x,2y,2z p 30|account-child-circle F0A8A l 31,32,33 p 30|account-child-outline F10C8 l  34 35|account-circle F0009 l 36,37 p f|account-circle-outline F0B55 l 38,39 p 13|account-clock F0B56 l,3a 3b,3c,3d 12 13|account-clock-outline F0B57 l,3a 3e,3f,3g 12 13|account-cog F1370 l,3h 3i j 9|account-cog-outline F1371 l,3h 3j j 9|account-convert F000A l 3k,3l w f|account-convert-outline F1301 l  e 28|account-cowboy-hat F0E9B l,3m 3n 3o 3p|account-cowboy-hat-outline F17F3 l,3m 3q 2d 3r|account-credit-card F1BA6 l,2f 3s,3t 2d 2e|account-credit-card-outline F1BA7 l,2f 3u,3v 2d 2e|account-details F0631 l,3h 3w,3x p 3y|account-details-outline F1372 l,3h 3z,40 e 9|account-edit F06BC l,41 42,43 1 44|account-edit-outline F0FFB l,41  1 2|account-eye F0420 l 45 j f|account-eye-outline F127B l 46 j 47|account-filter F0936 l 48,49 j 1x|account-filter-outline F0F9D l 4a,4b j 2|account-group F0849 l,m 4c,4d,4e,4f,4g 4h 4i|account-group-outline F0B58 l 4j,4k,4l,4m,4n 4h 13|account-hard-hat F05B5 l 4o,4p w f|account-hard-hat-outline F1A1F l 4q,4r 4s 4t|account-heart F0899 l,4u 4v,4w j 4x|account-heart-outline F0BE3 l,4u 4y,4z j k|account-injury F1815 4u,l 50,51 p 3r|account-injury-outline F1816 l,4u 52,53 p 3r|account-key F000B l 54,55 56 f|account-key-outline F0BE4 l 57,58 j k|account-lock F115E l,59 5a,5b,5c,5d j 5e|account-lock-open F1960 l,59 5f,5g,5h j 5i|account-lock-open-outline F1961 l,59 5j,5k,5l j 5i|account-lock-outline F115F l,59 5m,5n,5o,5p j 5e|account-minus F000D l 5q,5r 56 f|account-minus-outline F0AEC l 5s,5t 5u 5v|account-multiple F000E l 5w,5x,5y,5z,60,61 p f|account-multiple-check F08C5 l 62,63,64,65,66,67,68,69,6a,6b,6c,6d 6e 6f|account-multiple-check-outline F11FE l 6g,6h,6i,6j,6k,6l,6m,6n,6o,6p,6q,6r 1 6s|account-multiple-minus F05D3 l 6t,6u,6v,6w,6x p f|account-multiple-minus-outline F0BE5 l 6y,6z,70,71,72 p k|account-multiple-outline F000F l 73,74,75,76 p f|account-multiple-plus F0010 l 77,78,79,7a,7b,7c,7d,7e,7f,7g,7h,7i,7j p f|account-multiple-plus-outline F0800 l 7k,7l,7m,7n,7o,7p,7q,7r,7s,7t,7u,7v,7j p 7w|account-multiple-remove F120A l 7x,7y 1 6s|account-multiple-remove-outline F120B l 7z,80 1 6s|account-music F0803 l 81 p 7w|account-music-outline F0CE9 l 82 4h 83|account-network F0011 l 84,85 w f|account-network-off F1AF1 l  j 1k|account-network-off-outline F1AF2 l  j 1k|account-network-outline F0BE6 l 86,87 j k|account-off F0012 l 88,89 e f|account-off-outline F0BE7 l 8a,8b w k|account-outline F0013 l 8c,8d,8e p f|account-plus F0014 l,m 8f,8g,8h,8i,8j,8k,7j p f|account-plus-outline F0801 l 8l,8m,8n,8o,8p,8q,7j 4h 7w|account-question F0B59 l 8r,8s,8t,8u,8v,8w 12 13|account-question-outline F0B5A l 8x,8y,8z,90,91,92 12 13|account-reactivate F152B l  93 i|account-reactivate-outline F152C l  93 i|account-remove F0015 l 94,95 56 f|account-remove-outline F0AED l 96,97 w 5v|account-school F1A20 l 98,99 4s 4t|account-school-outline F1A21 l 9a,9b 4s 4t|account-search F0016 l 9c,9d 4h f|account-search-outline F0935 l 9e,9f 4h 1x|account-settings F0630 l,3h 9g,9h w 3y|account-settings-outline F10C9 l,3h  34 35|account-star F0017 l 9i,9j,9k 56 f|account-star-outline F0BE8 l 9l,9m j k|account-supervisor F0A8B l 9n,9o p 30|account-supervisor-circle F0A8C l 9p,9q p 30|account-supervisor-circle-outline F14EC l  p i|account-supervisor-outline F112D l  34 5e|account-switch F0019 l 9r,9s,9t,9u,9v w f|account-switch-outline F04CB l  e f|account-sync F191B l 9w j 9x|account-sync-outline F191C l 9y j 9x|account-tag F1C1B l  9z a0|account-tag-outline F1C1C l  9z a0|account-tie F0CE3 l,a1 a2,a3 j 83|account-tie-hat F1898 l,a4 a5 j a6|account-tie-hat-outline F1899 l,a4 a7 j a6|account-tie-outline F10CA l  34 35|account-tie-voice F1308 l  j 28|account-tie-voice-off F130A l  j 28|account-tie-voice-off-outline F130B l  j 28|account-tie-voice-outline F1309 l  j 28|account-tie-woman F1A8C l,a1 a8 e a9|account-voice F05CB l aa,ab,ac,ad,ae p f|account-voice-off F0ED4 l  p af|account-wrench F189A l ag j a6|account-wrench-outline F189B l ah j a6|adjust F001A   p f|advertisements F192A  ai j 9x|advertisements-off F192B  aj j 9x|air-conditioner F001B m,ak al e f|air-filter F0D43 m am,an j ao|air-horn F0DAC   4 ap|air-humidifier F1099 m  j 2i|air-humidifier-off F1466 m aq j ar|air-purifier F0D44 m  p ao|air-purifier-off F1B57 m  1j 2e|airbag F0BE9 ak  j k|airballoon F001C as,a4 at w f|airballoon-outline F100B a4 au j 1y|airplane F001D a4,av aw,ax,ay,az,b0,b1 4 f|airplane-alert F187A a4,q  4 15|airplane-check F187B a4 b2,b3 4 15|airplane-clock F187C a4,3a b4,b5,b6 4 15|airplane-cog F187D a4,3h b7 4 15|airplane-edit F187E a4,41  4 15|airplane-landing F05D4 a4 b8,b9,ba p f|airplane-marker F187F a4,av bb,bc 4 15|airplane-minus F1880 a4  4 15|airplane-off F001E a4 bd,be,bf,bg 4 f|airplane-plus F1881 a4  4 15|airplane-remove F1882 a4  4 15|airplane-search F1883 a4 bh 4 15|airplane-settings F1884 a4,3h  4 15|airplane-takeoff F05D5 a4 bi,bj,bk,bl p f|airport F084B bm,a4  j 4i|alarm F0020 3a bn,bo p f|alarm-bell F078E bp  1 bq|alarm-check F0021 3a br,bs,bt,bu,bv p f|alarm-light F078F m  1 bq|alarm-light-off F171E m  j 5|alarm-light-off-outline F171F m  j 5|alarm-light-outline F0BEA m  w k|alarm-multiple F0022 3a bw,bx,by w f|alarm-note F0E71   1 3p|alarm-note-off F0E72   1 3p|alarm-off F0023 3a bz p f|alarm-panel F15C4 m  j c0|alarm-panel-outline F15C5 m  j c0|alarm-plus F0024 3a c1,c2,c3,c4 p f|alarm-snooze F068E 3a c5 p c6|album F0025 c7,c8 c9,ca p f|alert F0026 q cb,cc p f|alert-box F0027 q cd w f|alert-box-outline F0CE4 q ce 5u 83|alert-circle F0028 q cf,cg p f|alert-circle-check F11ED q ch w ci|alert-circle-check-outline F11EE q cj w ci|alert-circle-outline F05D6 q ck,cl,cm p f|alert-decagram F06BD q cn,co p 44|alert-decagram-outline F0CE5 q cp 5u 83|alert-minus F14BB q  j cq|alert-minus-outline F14BE q  cr cq|alert-octagon F0029 q cs,ct,cu p f|alert-octagon-outline F0CE6 q cv,cw 5u 83|alert-octagram F0767 q cx w cy|alert-octagram-outline F0CE7 q cz 5u 83|alert-outline F002A q d0 e f|alert-plus F14BA q  w cq|alert-plus-outline F14BD q  cr cq|alert-remove F14BC q  j cq|alert-remove-outline F14BF q  j cq|alert-rhombus F11CE q  1 ci|alert-rhombus-outline F11CF q  1 ci|alien F089A   w 4x|alien-outline F10CB   34 35|align-horizontal-center F11C3  d1 p ci|align-horizontal-distribute F1962 d2  p 5i|align-horizontal-left F11C2   p ci|align-horizontal-right F11C4   p ci|align-vertical-bottom F11C5   p ci|align-vertical-center F11C6  d3 p ci|align-vertical-distribute F1963 d2  p 5i|align-vertical-top F11C7   p ci|all-inclusive F06BE  d4,d5 p 44|all-inclusive-box F188D  d6,d7 4 15|all-inclusive-box-outline F188E  d8,d9 4 15|allergy F1258 4u da,db,dc 1 47|alpha F002B 6  w f|alpha-a F0AEE 6 dd,de 4h 5v|alpha-a-box F0B08 6 df,dg 4h 5v",
+    "alpha-a-box-outline F0BEB 6 dh,di 4s k|alpha-a-circle F0BEC 6 dj,dk 4s k|alpha-a-circle-outline F0BED 6 dl,dm 4s k|alpha-b F0AEF 6 dn,do 4h 5v|alpha-b-box F0B09 6 dp,dq 4h 5v|alpha-b-box-outline F0BEE 6 dr,ds 4s k|alpha-b-circle F0BEF 6 dt,du 4s k|alpha-b-circle-outline F0BF0 6 dv,dw 4s k|alpha-c F0AF0 6 dx,dy 4h 5v|alpha-c-box F0B0A 6 dz,e0 4h 5v|alpha-c-box-outline F0BF1 6 e1,e2 4s k|alpha-c-circle F0BF2 6 e3,e4 4s k|alpha-c-circle-outline F0BF3 6 e5,e6 4s k|alpha-d F0AF1 ak,6 e7,e8,e9 4h 5v|alpha-d-box F0B0B 6 ea,eb 4h 5v|alpha-d-box-outline F0BF4 6 ec,ed 4s k|alpha-d-circle F0BF5 6 ee,ef 4s k|alpha-d-circle-outline F0BF6 6 eg,eh 4s k|alpha-e F0AF2 6 ei,ej 4h 5v|alpha-e-box F0B0C 6 ek,el 4h 5v|alpha-e-box-outline F0BF7 6 em,en 4s k|alpha-e-circle F0BF8 6 eo,ep 4s k|alpha-e-circle-outline F0BF9 6 eq,er 4s k|alpha-f F0AF3 6 es,et 4h 5v|alpha-f-box F0B0D 6 eu,ev 4h 5v|alpha-f-box-outline F0BFA 6 ew,ex 4s k|alpha-f-circle F0BFB 6 ey,ez 4s k|alpha-f-circle-outline F0BFC 6 f0,f1 4s k|alpha-g F0AF4 6 f2,f3 4h 5v|alpha-g-box F0B0E 6 f4,f5 4h 5v|alpha-g-box-outline F0BFD 6 f6,f7 4s k|alpha-g-circle F0BFE 6 f8,f9 4s k|alpha-g-circle-outline F0BFF 6 fa,fb 4s k|alpha-h F0AF5 6 fc,fd 4h 5v|alpha-h-box F0B0F 6 fe,ff 4h 5v|alpha-h-box-outline F0C00 6 fg,fh 4s k|alpha-h-circle F0C01 6 fi,fj 4s k|alpha-h-circle-outline F0C02 6 fk,fl,fm 4s k|alpha-i F0AF6 6 fn,fo,fp 4h 5v|alpha-i-box F0B10 6 fq,fr 4h 5v|alpha-i-box-outline F0C03 6 fs,ft 4s k|alpha-i-circle F0C04 6 fu,fv 4s k|alpha-i-circle-outline F0C05 6 fw,fx 4s k|alpha-j F0AF7 6 fy,fz 4h 5v|alpha-j-box F0B11 6 g0,g1 4h 5v|alpha-j-box-outline F0C06 6 g2,g3 4s k|alpha-j-circle F0C07 6 g4,g5 4s k|alpha-j-circle-outline F0C08 6 g6,g7 4s k|alpha-k F0AF8 6 g8,g9 4h 5v|alpha-k-box F0B12 6 ga,gb 4h 5v|alpha-k-box-outline F0C09 6 gc,gd 4s k|alpha-k-circle F0C0A 6 ge,gf 4s k|alpha-k-circle-outline F0C0B 6 gg,gh 4s k|alpha-l F0AF9 6 gi,gj 4h 5v|alpha-l-box F0B13 6 gk,gl 4h 5v|alpha-l-box-outline F0C0C 6 gm,gn 4s k|alpha-l-circle F0C0D 6 go,gp 4s k|alpha-l-circle-outline F0C0E 6 gq,gr 4s k|alpha-m F0AFA 6 gs,gt 4h 5v|alpha-m-box F0B14 6 gu,gv 4h 5v|alpha-m-box-outline F0C0F 6 gw,gx 4s k|alpha-m-circle F0C10 6 gy,gz 4s k|alpha-m-circle-outline F0C11 6 h0,h1 4s k|alpha-n F0AFB ak,6 h2,h3,h4 4h 5v|alpha-n-box F0B15 6 h5,h6 4h 5v|alpha-n-box-outline F0C12 6 h7,h8 4s k|alpha-n-circle F0C13 6 h9,ha 4s k|alpha-n-circle-outline F0C14 6 hb,hc 4s k|alpha-o F0AFC 6 hd,he 4h 5v|alpha-o-box F0B16 6 hf,hg 4h 5v|alpha-o-box-outline F0C15 6 hh,hi 4s k|alpha-o-circle F0C16 6 hj,hk 4s k|alpha-o-circle-outline F0C17 6 hl,hm 4s k|alpha-p F0AFD ak,6 hn,ho,hp 4h 5v|alpha-p-box F0B17 6 hq,hr 4h 5v|alpha-p-box-outline F0C18 6 hs,ht 4s k|alpha-p-circle F0C19 6 hu,hv 4s k|alpha-p-circle-outline F0C1A 6 hw,hx 4s k|alpha-q F0AFE 6 hy,hz 4h 5v|alpha-q-box F0B18 6 i0,i1 4h 5v|alpha-q-box-outline F0C1B 6 i2,i3 4s k|alpha-q-circle F0C1C 6 i4,i5 4s k|alpha-q-circle-outline F0C1D 6 i6,i7 4s k|alpha-r F0AFF ak,6 i8,i9,ia 4h 5v|alpha-r-box F0B19 6 ib,ic 4h 5v|alpha-r-box-outline F0C1E 6 id,ie 4s k|alpha-r-circle F0C1F 6 if,ig 4s k|alpha-r-circle-outline F0C20 6 ih,ii 4s k|alpha-s F0B00 6 ij,ik 4h 5v|alpha-s-box F0B1A 6 il,im 4h 5v|alpha-s-box-outline F0C21 6 in,io 4s k|alpha-s-circle F0C22 6 ip,iq 4s k|alpha-s-circle-outline F0C23 6 ir,is 4s k|alpha-t F0B01 6 it,iu 4h 5v|alpha-t-box F0B1B 6 iv,iw 4h 5v|alpha-t-box-outline F0C24 6 ix,iy 4s k|alpha-t-circle F0C25 6 iz,j0 4s k|alpha-t-circle-outline F0C26 6 j1,j2 4s k|alpha-u F0B02 6 j3,j4 4h 5v|alpha-u-box F0B1C 6 j5,j6 4h 5v|alpha-u-box-outline F0C27 6 j7,j8 4s k|alpha-u-circle F0C28 6 j9,ja 4s k|alpha-u-circle-outline F0C29 6 jb,jc 4s k|alpha-v F0B03 6 jd,je,jf 4h 5v|alpha-v-box F0B1D 6 jg,jh 4h 5v|alpha-v-box-outline F0C2A 6 ji,jj 4s k|alpha-v-circle F0C2B 6 jk,jl 4s k|alpha-v-circle-outline F0C2C 6 jm,jn 4s k|alpha-w F0B04 6 jo,jp 4h 5v|alpha-w-box F0B1E 6 jq,jr 4h 5v|alpha-w-box-outline F0C2D 6 js,jt 4s k|alpha-w-circle F0C2E 6 ju,jv 4s k|alpha-w-circle-outline F0C2F 6 jw,jx 4s k|alpha-x F0B05 6 jy,jz,k0 4h 5v|alpha-x-box F0B1F 6 k1,k2 4h 5v|alpha-x-box-outline F0C30 6 k3,k4 4s k|alpha-x-circle F0C31 6 k5,k6 4s k|alpha-x-circle-outline F0C32 6 k7,k8 4s k|alpha-y F0B06 6 k9,ka 4h 5v|alpha-y-box F0B20 6 kb,kc 4h 5v|alpha-y-box-outline F0C33 6 kd,ke 4s k|alpha-y-circle F0C34 6 kf,kg 4s k|alpha-y-circle-outline F0C35 6 kh,ki 4s k|alpha-z F0B07 6 kj,kk 4h 5v|alpha-z-box F0B21 6 kl,km 4h 5v|alpha-z-box-outline F0C36 6 kn,ko 4s k|alpha-z-circle F0C37 6 kp,kq 4s k|alpha-z-circle-outline F0C38 6 kr,ks 4s k|alphabet-aurebesh F132C 6 kt 8 9|alphabet-cyrillic F132D 6 ku 8 9|alphabet-greek F132E 6 kv 8 9|alphabet-latin F132F 6 kw 8 9|alphabet-piqad F1330 6 kx 8 9|alphabet-tengwar F1337 6 ky 8 9|alphabetical F002C 6 kz,l0,l1 w f|alphabetical-off F100C 6 l2,l3,l4 1 1y|alphabetical-variant F100D 6 kz,l1,l0 1 1y|alphabetical-variant-off F100E 6 l2,l3,l4 1 1y|altimeter F05D7   e f|ambulance F002F l5,4u  w f|ammunition F0CE8  l6 j 83|ampersand F0A8D  l7 j 30|amplifier F0030 m,c8  l8 f|amplifier-off F11B5   j ci|anchor F0031 l9  p f|android F0032 la  p f|android-studio F0034 la lb p f|angle-acute F0937 3  8 1x|angle-obtuse F0938 3  8 1x|angle-right F0939 3  8 1x|angular F06B2 la,0  4s lc|angularjs F06BF la,0  4s 44|animation F05D8  ld p f|animation-outline F0A8F   j 30|animation-play F093A   p 1x|animation-play-outline F0A90   j 30|ansible F109A 0,la  4s 2i|antenna F1119   p 35|anvil F089B   le 4x|apache-kafka F100F la,0  4s 1y|api F109B 0  p 2i|api-off F1257 0  lf 6s|apple F0035 la  4s f|apple-finder F0036 la  4s f|apple-icloud F0038 la lg 4s f|apple-ios F0037 la  4s f|apple-keyboard-caps F0632   w 3y|apple-keyboard-command F0633   w 3y|apple-keyboard-control F0634   w 3y|apple-keyboard-option F0635   w 3y|apple-keyboard-shift F0636   w 3y|apple-safari F0039 la  4s f|application F08C6  lh j 6f|application-array F10F5 0 li j 35|application-array-outline F10F6 0 lj j 35|application-braces F10F7 0 lk j 35|application-braces-outline F10F8 0 ll j 35|application-brackets F0C8B 0 lm 1 k|application-brackets-outline F0C8C 0 ln 1 k|application-cog F0675 3h lo j c6|application-cog-outline F1577 3h lp,lq j lr|application-edit F00AE 41 ls j f|application-edit-outline F0619 41 lt j 3y|application-export F0DAD  lu w ap|application-import F0DAE  lv w ap|application-outline F0614  lw,lx w 3y|application-parentheses F10F9 0 ly j 35|application-parentheses-outline F10FA 0 lz j 35|application-settings F0B60 3h m0 j 13|application-settings-outline F1555 3h m1 m2 lr|application-variable F10FB 0 m3 j 35|application-variable-outline F10FC 0 m4 j 35|approximately-equal F0F9E 3  j 2|approximately-equal-box F0F9F 3  j 2|apps F003B m5  p f|apps-box F0D46   p ao|arch F08C7 la  4s 6f|archive F003C  m6 w f|archive-alert F14FD q m7 w i|archive-alert-outline F14FE q m8 w i|archive-arrow-down F1259  m9,ma mb 47|archive-arrow-down-outline F125A  m9,mc mb 47|archive-arrow-up F125B  md,me mb 47|archive-arrow-up-outline F125C  mf,mg mb 47|archive-cancel F174B  mh 4 3r|archive-cancel-outline F174C  mi 4 3r|archive-check F174D  mj,mk,ml 4 3r|archive-check-outline F174E  mm,mn,mo 4 3r|archive-clock F174F 3a mp,mq,mr 4 3r|archive-clock-outline F1750 3a ms,mt,mu 4 3r|archive-cog F1751 3h mv 4 3r|archive-cog-outline F1752 3h mw 4 3r|archive-edit F1753 41 mx 4 3r|archive-edit-outline F1754 41 my 4 3r|archive-eye F1755  mz,n0,n1 4 3r|archive-eye-outline F1756  n2,n3,n4 4 3r|archive-lock F1757 59 n5 4 3r|archive-lock-open F1758 59 n6 4 3r|archive-lock-open-outline F1759 59 n7 4 3r|archive-lock-outline F175A 59 n8 4 3r|archive-marker F175B av n9,na,nb 4 3r|archive-marker-outline F175C av nc,nd,ne 4 3r|archive-minus F175D  nf 4 3r|archive-minus-outline F175E  ng 4 3r|archive-music F175F c8 nh 4 3r|archive-music-outline F1760 c8 ni 4 3r|archive-off F1761  nj 4 3r|archive-off-outline F1762  nk 4 3r|archive-outline F120E  nl nm 6s|archive-plus F1763  nn,no,np 4 3r|archive-plus-outline F1764  nq,nr,ns 4 3r|archive-refresh F1765  nt 4 3r|archive-refresh-outline F1766  nu 4 3r|archive-remove F1767  nv 4 3r|archive-remove-outline F1768  nw 4 3r|archive-search F1769  nx 4 3r|archive-search-outline F176A  ny 4 3r|archive-settings F176B 3h nz 4 3r",
+    "archive-settings-outline F176C 3h o0 4 3r|archive-star F176D  o1,o2,o3 4 3r|archive-star-outline F176E  o4,o5,o6 4 3r|archive-sync F176F  o7 4 3r|archive-sync-outline F1770  o8 4 3r|arm-flex F0FD7   o9 2i|arm-flex-outline F0FD6   o9 2i|arrange-bring-forward F003D oa,ob  w f|arrange-bring-to-front F003E oa,ob  w f|arrange-send-backward F003F oa,ob  w f|arrange-send-to-back F0040 oa,ob  w f|arrow-all F0041 oc  w f|arrow-bottom-left F0042 oc od w f|arrow-bottom-left-bold-box F1964 oc  j 5i|arrow-bottom-left-bold-box-outline F1965 oc  j 5i|arrow-bottom-left-bold-outline F09B7 oc oe j of|arrow-bottom-left-thick F09B8 oc og,oh,oi j of|arrow-bottom-left-thin F19B6 oc  oj 5i|arrow-bottom-left-thin-circle-outline F1596 oc  p lr|arrow-bottom-right F0043 oc ok w f|arrow-bottom-right-bold-box F1966 oc  j 5i|arrow-bottom-right-bold-box-outline F1967 oc  j 5i|arrow-bottom-right-bold-outline F09B9 oc ol j of|arrow-bottom-right-thick F09BA oc om,on,oo j of|arrow-bottom-right-thin F19B7 oc  oj 5i|arrow-bottom-right-thin-circle-outline F1595 oc  p lr|arrow-collapse F0615 oc op w 3y|arrow-collapse-all F0044 oc oq w f|arrow-collapse-down F0792 oc or 1 bq|arrow-collapse-horizontal F084C oc  p 4i|arrow-collapse-left F0793 oc os 1 bq|arrow-collapse-right F0794 oc ot 1 bq|arrow-collapse-up F0795 oc ou 1 bq|arrow-collapse-vertical F084D oc ov p 4i|arrow-decision F09BB oc ow 1 of|arrow-decision-auto F09BC  ox 1 of|arrow-decision-auto-outline F09BD  oy 1 of|arrow-decision-outline F09BE oc oz 1 of|arrow-down F0045 oc p0,p1 w f|arrow-down-bold F072E oc p2 w cy|arrow-down-bold-box F072F oc p3 w cy|arrow-down-bold-box-outline F0730 oc p4 w cy|arrow-down-bold-circle F0047 oc p5 w f|arrow-down-bold-circle-outline F0048 oc p6 w f|arrow-down-bold-hexagon-outline F0049 oc p7 w f|arrow-down-bold-outline F09BF oc p8 j of|arrow-down-box F06C0 oc p9 w 44|arrow-down-circle F0CDB oc pa w 83|arrow-down-circle-outline F0CDC oc pb w 83|arrow-down-drop-circle F004A oc pc,pd p f|arrow-down-drop-circle-outline F004B oc pe w f|arrow-down-left F17A1 oc  4 3r|arrow-down-left-bold F17A2 oc  4 3r|arrow-down-right F17A3 oc  4 3r|arrow-down-right-bold F17A4 oc  4 3r|arrow-down-thick F0046 oc pf,pg,p2 w f|arrow-down-thin F19B3 oc  oj 5i|arrow-down-thin-circle-outline F1599 oc  p lr|arrow-expand F0616 oc  w 3y|arrow-expand-all F004C oc,ob  w f|arrow-expand-down F0796 oc  1 bq|arrow-expand-horizontal F084E oc  p 4i|arrow-expand-left F0797 oc  1 bq|arrow-expand-right F0798 oc  1 bq|arrow-expand-up F0799 oc  1 bq|arrow-expand-vertical F084F oc  p 4i|arrow-horizontal-lock F115B 59,oc ph j 5e|arrow-left F004D oc pi p f|arrow-left-bold F0731 oc,ak  w cy|arrow-left-bold-box F0732 oc  w cy|arrow-left-bold-box-outline F0733 oc  w cy|arrow-left-bold-circle F004F oc  w f|arrow-left-bold-circle-outline F0050 oc  w f|arrow-left-bold-hexagon-outline F0051 oc  w f|arrow-left-bold-outline F09C0 oc,ak  j of|arrow-left-bottom F17A5   4 3r|arrow-left-bottom-bold F17A6   4 3r|arrow-left-box F06C1 oc  w 44|arrow-left-circle F0CDD oc pj w 83|arrow-left-circle-outline F0CDE oc  w 83|arrow-left-drop-circle F0052 oc  w f|arrow-left-drop-circle-outline F0053 oc  w f|arrow-left-right F0E73 oc  pk 3p|arrow-left-right-bold F0E74 oc  w 3p|arrow-left-right-bold-outline F09C1 oc  j of|arrow-left-thick F004E oc pl w f|arrow-left-thin F19B1 oc  oj 5i|arrow-left-thin-circle-outline F159A oc  p lr|arrow-left-top F17A7  pm 4 3r|arrow-left-top-bold F17A8  pn 4 3r|arrow-projectile F1840 po,pp  4 15|arrow-projectile-multiple F183F po,pp  4 15|arrow-right F0054 oc pq p f|arrow-right-bold F0734 oc,ak  w cy|arrow-right-bold-box F0735 oc  w cy|arrow-right-bold-box-outline F0736 oc  w cy|arrow-right-bold-circle F0056 oc  w f|arrow-right-bold-circle-outline F0057 oc  w f|arrow-right-bold-hexagon-outline F0058 oc  w f|arrow-right-bold-outline F09C2 oc,ak  j of|arrow-right-bottom F17A9   4 3r|arrow-right-bottom-bold F17AA   4 3r|arrow-right-box F06C2 oc  w 44|arrow-right-circle F0CDF oc pr w 83|arrow-right-circle-outline F0CE0 oc  w 83|arrow-right-drop-circle F0059 oc  w f|arrow-right-drop-circle-outline F005A oc  w f|arrow-right-thick F0055 oc ps w f|arrow-right-thin F19B0 oc  oj 5i|arrow-right-thin-circle-outline F1598 oc  p lr|arrow-right-top F17AB  pt 4 3r|arrow-right-top-bold F17AC  pu 4 3r|arrow-split-horizontal F093B oc pv,pw 1 1x|arrow-split-vertical F093C oc px,pw 1 1x|arrow-top-left F005B oc py w f|arrow-top-left-bold-box F1968 oc  j 5i|arrow-top-left-bold-box-outline F1969 oc  j 5i|arrow-top-left-bold-outline F09C3 oc pz j of|arrow-top-left-bottom-right F0E75 oc  pk 3p|arrow-top-left-bottom-right-bold F0E76 oc  w 3p|arrow-top-left-thick F09C4 oc q0,q1,q2 j of|arrow-top-left-thin F19B5 oc  oj 5i|arrow-top-left-thin-circle-outline F1593 oc  p lr|arrow-top-right F005C oc q3 w f|arrow-top-right-bold-box F196A oc  j 5i|arrow-top-right-bold-box-outline F196B oc  j 5i|arrow-top-right-bold-outline F09C5 oc q4 j of|arrow-top-right-bottom-left F0E77 oc  pk 3p|arrow-top-right-bottom-left-bold F0E78 oc  w 3p|arrow-top-right-thick F09C6 oc q5,q6,q7 j of|arrow-top-right-thin F19B4 oc  oj 5i|arrow-top-right-thin-circle-outline F1594 oc  p lr|arrow-u-down-left F17AD  q8 4 3r|arrow-u-down-left-bold F17AE  q9 4 3r|arrow-u-down-right F17AF  qa 4 3r|arrow-u-down-right-bold F17B0  qb 4 3r|arrow-u-left-bottom F17B1  qc 4 3r|arrow-u-left-bottom-bold F17B2  qc 4 3r|arrow-u-left-top F17B3  qc 4 3r|arrow-u-left-top-bold F17B4  qc 4 3r|arrow-u-right-bottom F17B5  qd 4 3r|arrow-u-right-bottom-bold F17B6  qd 4 3r|arrow-u-right-top F17B7  qd 4 3r|arrow-u-right-top-bold F17B8  qd 4 3r|arrow-u-up-left F17B9   4 3r|arrow-u-up-left-bold F17BA   4 3r|arrow-u-up-right F17BB   4 3r|arrow-u-up-right-bold F17BC   4 3r|arrow-up F005D oc qe,qf w f|arrow-up-bold F0737 oc qg w cy|arrow-up-bold-box F0738 oc qh w cy|arrow-up-bold-box-outline F0739 oc qi w cy|arrow-up-bold-circle F005F oc qj w f|arrow-up-bold-circle-outline F0060 oc qk w f|arrow-up-bold-hexagon-outline F0061 oc ql w f|arrow-up-bold-outline F09C7 oc qm j of|arrow-up-box F06C3 oc  w 44|arrow-up-circle F0CE1 oc qn w 83|arrow-up-circle-outline F0CE2 oc qo w 83|arrow-up-down F0E79 oc  pk 3p|arrow-up-down-bold F0E7A oc  w 3p|arrow-up-down-bold-outline F09C8 oc  j of|arrow-up-drop-circle F0062 oc qp w f|arrow-up-drop-circle-outline F0063 oc qq w f|arrow-up-left F17BD   4 3r|arrow-up-left-bold F17BE   4 3r|arrow-up-right F17BF   4 3r|arrow-up-right-bold F17C0   4 3r|arrow-up-thick F005E oc qr,qs,qg w f|arrow-up-thin F19B2 oc  oj 5i|arrow-up-thin-circle-outline F1597 oc  p lr|arrow-vertical-lock F115C 59,oc qt j 5e|artboard F1B9A qu qv,qw qx 2e|artstation F0B5B la  4s 13|aspect-ratio F0A24   p qy|assistant F0064   p f|asterisk F06C4  qz j 44|asterisk-circle-outline F1A27  r0 r1 4t|at F0065  r2 p f|atlassian F0804 la  4s 7w|atm F0D47   p ao|atom F0768 r3  6e cy|atom-variant F0E7B r3 r4 w 3p|attachment F0066  r5 p f|attachment-check F1AC1  r6,r7,r8 4 a9|attachment-lock F19C4 59 r9 e 4t|attachment-minus F1AC2  ra,rb,rc 4 a9|attachment-off F1AC3  rd 4 a9|attachment-plus F1AC4  re,rf,rg 4 a9|attachment-remove F1AC5  rh 4 a9|atv F1B70 as,pp ri,rj,rk,rl p 2e|audio-input-rca F186B c7  4h 15|audio-input-stereo-minijack F186C c7  4h 15|audio-input-xlr F186D c7  4h 15|audio-video F093D m,c7 rm 1 1x|audio-video-off F11B6 m,c7 rn j ci|augmented-reality F0850   4h 4i|aurora F1BB9 r3,ro rp,rq,rr,rs,rt 2d a0|auto-download F137E   1 9|auto-fix F0068 ru rv,rw,rx p f|auto-mode F1C20   2d ry|auto-upload F0069   p f|autorenew F006A oc rz,s0,s1,s2 p f|autorenew-off F19E7 oc s3,s4,s5,s6 4 4t|av-timer F006B 3a  p f|awning F1B87 m s7,s8 2d 2e|awning-outline F1B88 m s9,sa 2d 2e|aws F0E0F la  4s sb|axe F08C8 sc  le 6f|axe-battle F1842 po  4 15|axis F0D48   w ao|axis-arrow F0D49 oc sd,se w ao|axis-arrow-info F140E oc  w sf|axis-arrow-lock F0D4A 59,oc  w ao|axis-lock F0D4B 59  w ao|axis-x-arrow F0D4C oc  w ao|axis-x-arrow-lock F0D4D 59,oc  w ao|axis-x-rotate-clockwise F0D4E   w ao|axis-x-rotate-counterclockwise F0D4F   w ao|axis-x-y-arrow-lock F0D50 59,oc  w ao|axis-y-arrow F0D51 oc  w ao|axis-y-arrow-lock F0D52 59,oc  w ao|axis-y-rotate-clockwise F0D53   w ao|axis-y-rotate-counterclockwise F0D54   w ao|axis-z-arrow F0D55 oc  w ao",
+    "axis-z-arrow-lock F0D56 59,oc  w ao|axis-z-rotate-clockwise F0D57  sg j ao|axis-z-rotate-counterclockwise F0D58  sh j ao|babel F0A25 la  4s qy|baby F006C a1  p f|baby-bottle F0F39 a1  1 si|baby-bottle-outline F0F3A a1  1 si|baby-buggy F13E0 a1 sj,sk,sl sm sf|baby-buggy-off F1AF3 a1  j 1k|baby-carriage F068F a1 sn,sj,sk,so p c6|baby-carriage-off F0FA0 a1 sp,sq,sr,ss 1 2|baby-face F0E7C a1 st,su p 3p|baby-face-outline F0E7D a1 sv,sw p 3p|backburger F006D  sx w f|backspace F006E  sy,sz p f|backspace-outline F0B5C  t0,t1 p 13|backspace-reverse F0E7E  t2,t3 j 3p|backspace-reverse-outline F0E7F  t4,t5 j 3p|backup-restore F006F  t6 p f|bacteria F0ED5 r3,4u  j t7|bacteria-outline F0ED6 r3,4u  j t7|badge-account F0DA7 l t8,t9 1 ap|badge-account-alert F0DA8 l,q ta,tb,tc,td,te 1 ap|badge-account-alert-outline F0DA9 l,q tf,tg,th,ti,tj 1 ap|badge-account-horizontal F0E0D l  p sb|badge-account-horizontal-outline F0E0E l  p sb|badge-account-outline F0DAA l tk,tl 1 ap|badminton F0851 pp tm le 4i|bag-carry-on F0F3B a4 tn p si|bag-carry-on-check F0D65 a4 to,tp p ao|bag-carry-on-off F0F3C a4 tq p si|bag-checked F0F3D a4 tr p si|bag-personal F0E10 a4 ts 1 sb|bag-personal-off F0E11 a4 tt 1 sb|bag-personal-off-outline F0E12 a4 tu 1 sb|bag-personal-outline F0E13 a4 tv 1 sb|bag-personal-tag F1B0C  tw 9z 1k|bag-personal-tag-outline F1B0D  tx 9z 1k|bag-suitcase F158B a4  p lr|bag-suitcase-off F158D a4  p lr|bag-suitcase-off-outline F158E a4  p lr|bag-suitcase-outline F158C a4  p lr|baguette F0F3E ty tz,u0,u1,u2 le si|balcony F1817 m u3,u4,u5 p 3r|balloon F0A26 u6 u7 1 qy|ballot F09C9  u8 p of|ballot-outline F09CA  u9 p of|ballot-recount F0C39  ua j k|ballot-recount-outline F0C3A  ub j k|bandage F0DAF  uc,ud p ap|bank F0070 2f,bm ue,uf p f|bank-check F1655 2f  4 ug|bank-circle F1C03 2f  2d a0|bank-circle-outline F1C04 2f  2d a0|bank-minus F0DB0 2f  w ap|bank-off F1656 2f  4 ug|bank-off-outline F1657 2f  4 ug|bank-outline F0E80 2f uh p 3p|bank-plus F0DB1 2f ui uj ap|bank-remove F0DB2 2f  w ap|bank-transfer F0A27 2f  uk qy|bank-transfer-in F0A28 2f  uk qy|bank-transfer-out F0A29 2f  uk qy|barcode F0071   w f|barcode-off F1236   j 6s|barcode-scan F0072  ul e f|barley F0073 3m,ty um,un,uo w f|barley-off F0B5D 3m up,uq,ur e 13|barn F0B5E 3m us uk 13|barrel F0074  ut,uu,uv p f|barrel-outline F1A28  uw,ux,uy p uz|baseball F0852 pp  le 4i|baseball-bat F0853 pp  le 4i|baseball-diamond F15EC pp  j c0|baseball-diamond-outline F15ED pp  j c0|baseball-outline F1C5A pp  2d ry|bash F1183 0  1 5e|basket F0076 v0 v1,v2 p f|basket-check F18E5 v0  j a6|basket-check-outline F18E6 v0  j a6|basket-fill F0077 v0 v3 w f|basket-minus F1523 v0 v4,v5 j i|basket-minus-outline F1524 v0 v6,v7 j i|basket-off F1525 v0 v8,v9 j i|basket-off-outline F1526 v0 va,vb j i|basket-outline F1181 v0 vc,vd p 5e|basket-plus F1527 v0 ve,vf j i|basket-plus-outline F1528 v0 vg,vh j i|basket-remove F1529 v0 vi,vj j i|basket-remove-outline F152A v0 vk,vl j i|basket-unfill F0078 v0  w f|basketball F0806 pp vm p 7w|basketball-hoop F0C3B pp  1 k|basketball-hoop-outline F0C3C pp  1 k|bat F0B5F u6,vn  w 13|bathtub F1818 m  p 3r|bathtub-outline F1819 m  p 3r|battery F0079 vo,m,ak vp,vq,vr p f|battery-10 F007A vo,m,ak  p f|battery-10-bluetooth F093E vo  4h 1x|battery-20 F007B vo,m,ak  p f|battery-20-bluetooth F093F vo  4h 1x|battery-30 F007C vo,m,ak  p f|battery-30-bluetooth F0940 vo  4h 1x|battery-40 F007D vo,m,ak  p f|battery-40-bluetooth F0941 vo  4h 1x|battery-50 F007E vo,m,ak  p f|battery-50-bluetooth F0942 vo  4h 1x|battery-60 F007F vo,m,ak  p f|battery-60-bluetooth F0943 vo  4h 1x|battery-70 F0080 vo,m,ak  p f|battery-70-bluetooth F0944 vo  4h 1x|battery-80 F0081 vo,m,ak  p f|battery-80-bluetooth F0945 vo  4h 1x|battery-90 F0082 vo,m,ak  p f|battery-90-bluetooth F0946 vo  4h 1x|battery-alert F0083 vo,m,q vs p f|battery-alert-bluetooth F0947 q,vo vt 4h 1x|battery-alert-variant F10CC vo,q  w 35|battery-alert-variant-outline F10CD vo,q  w 35|battery-arrow-down F17DE vo  93 3r|battery-arrow-down-outline F17DF vo  93 3r|battery-arrow-up F17E0 vo  93 3r|battery-arrow-up-outline F17E1 vo  93 3r|battery-bluetooth F0948 vo vu,vv 4h 1x|battery-bluetooth-variant F0949 vo  4h 1x|battery-charging F0084 vo,m,ak vw p f|battery-charging-10 F089C ak,vo  p 4x|battery-charging-100 F0085 vo,m,ak  p f|battery-charging-20 F0086 vo,m,ak  p f|battery-charging-30 F0087 vo,m,ak  p f|battery-charging-40 F0088 vo,m,ak  p f|battery-charging-50 F089D ak,vo  p 4x|battery-charging-60 F0089 vo,m,ak  p f|battery-charging-70 F089E ak,vo  p 4x|battery-charging-80 F008A vo,m,ak  p f|battery-charging-90 F008B vo,m,ak  p f|battery-charging-high F12A6 vo  j 47|battery-charging-low F12A4 vo  j 47|battery-charging-medium F12A5 vo  j 47|battery-charging-outline F089F ak,vo  p 4x|battery-charging-wireless F0807 vo,m vx,vy 1 7w|battery-charging-wireless-10 F0808 vo,m  1 7w|battery-charging-wireless-20 F0809 vo,m  1 7w|battery-charging-wireless-30 F080A vo,m  1 7w|battery-charging-wireless-40 F080B vo,m  1 7w|battery-charging-wireless-50 F080C vo,m  1 7w|battery-charging-wireless-60 F080D vo,m  1 7w|battery-charging-wireless-70 F080E vo,m  1 7w|battery-charging-wireless-80 F080F vo,m  1 7w|battery-charging-wireless-90 F0810 vo,m  1 7w|battery-charging-wireless-alert F0811 vo,m,q vz 1 7w|battery-charging-wireless-outline F0812 vo,m w0,w1 1 7w|battery-check F17E2 vo  93 3r|battery-check-outline F17E3 vo  93 3r|battery-clock F19E5 vo,m,3a w2,w3 4 4t|battery-clock-outline F19E6 vo,m,3a w4,w5 4 4t|battery-heart F120F vo  1 6s|battery-heart-outline F1210 vo  1 6s|battery-heart-variant F1211 vo  1 6s|battery-high F12A3 vo  w 47|battery-lock F179C vo,59  93 3r|battery-lock-open F179D vo,59  93 3r|battery-low F12A1 vo  w 47|battery-medium F12A2 vo  w 47|battery-minus F17E4 vo  93 3r|battery-minus-outline F17E5 vo  93 3r|battery-minus-variant F008C vo,m  w f|battery-negative F008D vo,m  w f|battery-off F125D vo  1 47|battery-off-outline F125E vo  1 47|battery-outline F008E vo,m,ak w6,w7 p f|battery-plus F17E6 vo  93 3r|battery-plus-outline F17E7 vo  93 3r|battery-plus-variant F008F vo,m w8,w9 w f|battery-positive F0090 vo,m  w f|battery-remove F17E8 vo  93 3r|battery-remove-outline F17E9 vo  93 3r|battery-sync F1834 vo w8,wa,wb j 15|battery-sync-outline F1835 vo wc,wd,we j 15|battery-unknown F0091 vo,m  p f|battery-unknown-bluetooth F094A vo  4h 1x|beach F0092 bm wf w f|beaker F0CEA r3  j 83|beaker-alert F1229 q,r3  w 6s|beaker-alert-outline F122A q,r3  w 6s|beaker-check F122B r3  w 6s|beaker-check-outline F122C r3  w 6s|beaker-minus F122D r3  w 6s|beaker-minus-outline F122E r3  w 6s|beaker-outline F0690 r3  e c6|beaker-plus F122F r3  w 6s|beaker-plus-outline F1230 r3  w 6s|beaker-question F1231 r3  w 6s|beaker-question-outline F1232 r3  w 6s|beaker-remove F1233 r3  w 6s|beaker-remove-outline F1234 r3  w 6s|bed F02E3 m,u6 wg,wh p f|bed-clock F1B94 3a wi,wj,wk,wl j 2e|bed-double F0FD4 m,u6 wm 1 2i|bed-double-outline F0FD3 m,u6 wn p 2i|bed-empty F08A0 m,u6  4h 4x|bed-king F0FD2 m,u6 wm p 2i|bed-king-outline F0FD1 m,u6 wn 1 2i|bed-outline F0099 m,u6 wo,wp p f|bed-queen F0FD0 m,u6 wm 1 2i|bed-queen-outline F0FDB m,u6 wn 1 2i|bed-single F106D m,u6 wm e 2i|bed-single-outline F106E m,u6 wn e 2i|bee F0FA1 wq,3m,vn wr,ws p 2|bee-flower F0FA2 wq,3m wt,wu p 2|beehive-off-outline F13ED wq,3m  j sf|beehive-outline F10CE wq,3m wv j 35|beekeeper F14E2 wq,3m ww,wx,wy wz i|beer F0098 ty x0,x1,x2,x3,x4 w f|beer-outline F130C ty x5,x6,x7,x8,x9 e 28|bell F009A bp,m,c8 xa p f|bell-alert F0D59 q,bp xb e ao|bell-alert-outline F0E81 q,bp  e 3p|bell-badge F116B bp xc j 5e|bell-badge-outline F0178 bp xd j f|bell-cancel F13E7 bp  e sf|bell-cancel-outline F13E8 bp  e sf|bell-check F11E5 bp  4h ci|bell-check-outline F11E6 bp  4h ci|bell-circle F0D5A bp  p ao|bell-circle-outline F0D5B bp  p ao|bell-cog F1A29 bp,3h xe,xf 4 uz|bell-cog-outline F1A2A bp,3h xg,xh 4 uz|bell-minus F13E9 bp  e sf|bell-minus-outline F13EA bp  e sf|bell-off F009B bp xi p f|bell-off-outline F0A91 bp  p 30|bell-outline F009C bp,c8,m xj p f|bell-plus F009D bp xk,xl e f|bell-plus-outline F0A92 bp xm,xn e 30|bell-remove F13EB bp  e sf|bell-remove-outline F13EC bp  e sf|bell-ring F009E bp xo p f|bell-ring-outline F009F bp  p f",
+    "bell-sleep F00A0 bp xp p f|bell-sleep-outline F0A93 bp  p 30|bench F1C21   2d ry|bench-back F1C22   2d ry|beta F00A1 6  w f|betamax F09CB   4h of|biathlon F0E14 pp,a1 xq p sb|bicycle F109C as,pp xr,xs 93 2i|bicycle-basket F1235 as,pp xt 93 6s|bicycle-cargo F189C as,pp xu xv a6|bicycle-electric F15B4 as xw j c0|bicycle-penny-farthing F15E9 as,pp xx,xy 4 c0|bike F00A3 as,pp xz,xs,y0 p f|bike-fast F111F as,pp y1 4h 35|bike-pedal F1C23 as,pp y2 2d ry|bike-pedal-clipless F1C24 as,pp  2d ry|bike-pedal-mountain F1C25 as,pp  2d ry|billboard F1010   1 1y|billiards F0B61 pp y3,y4 1 13|billiards-rack F0B62 pp y5,y6,y7,y8,y9,ya 1 13|binoculars F00A5   w f|bio F00A6   w f|biohazard F00A7 r3  yb f|bird F15C6 vn  j c0|bitbucket F00A8 la  4s f|bitcoin F0813 la,2f,2g  4s 7w|black-mesa F00A9 la,po  4s f|blender F0CEB ty,m yc p 83|blender-outline F181A m,ty yd p 3r|blender-software F00AB la  4s f|blinds F00AC m ye,yf w f|blinds-horizontal F1A2B m yg,yh,yi p uz|blinds-horizontal-closed F1A2C m yh,yf p uz|blinds-open F1011 m yj,yi yk 1y|blinds-vertical F1A2D m yl p uz|blinds-vertical-closed F1A2E m yf p uz|block-helper F00AD   w f|blood-bag F0CEC 4u  j 83|bluetooth F00AF   4s f|bluetooth-audio F00B0 c7 ym p f|bluetooth-connect F00B1  yn p f|bluetooth-off F00B2  yo p f|bluetooth-settings F00B3 3h yp p f|bluetooth-transfer F00B4   p f|blur F00B5  yq p f|blur-linear F00B6   p f|blur-off F00B7   p f|blur-radial F00B8  yr p f|bolt F0DB3 sc  j ap|bomb F0691 po  w c6|bomb-off F06C5 po  6e 44|bone F00B9 vn,u6  w f|bone-off F19E0 vn,u6  e 4t|book F00BA  ys p f|book-account F13AD l  1 yt|book-account-outline F13AE l  1 yt|book-alert F167C q  4 yu|book-alert-outline F167D q  4 yu|book-alphabet F061D  yv l8 3y|book-arrow-down F167E   4 yu|book-arrow-down-outline F167F   4 yu|book-arrow-left F1680   4 yu|book-arrow-left-outline F1681   4 yu|book-arrow-right F1682   4 yu|book-arrow-right-outline F1683   4 yu|book-arrow-up F1684   4 yu|book-arrow-up-outline F1685   4 yu|book-cancel F1686   4 yu|book-cancel-outline F1687   4 yu|book-check F14F3   w i|book-check-outline F14F4   w i|book-clock F1688 3a yw,yx 4 yu|book-clock-outline F1689 3a yw,yx 4 yu|book-cog F168A 3h yy 4 yu|book-cog-outline F168B 3h yz 4 yu|book-cross F00A2 z0 z1 l8 f|book-edit F168C 41  4 yu|book-edit-outline F168D 41  4 yu|book-education F16C9   4 yu|book-education-outline F16CA   4 yu|book-heart F1A1D  z2,z3 w 4t|book-heart-outline F1A1E  z4,z5 w 4t|book-information-variant F106F  z6 z7 2i|book-lock F079A 59 z8 1 bq|book-lock-open F079B 59 z9 1 bq|book-lock-open-outline F168E 59  4 yu|book-lock-outline F168F 59 za 4 yu|book-marker F1690 av zb 4 yu|book-marker-outline F1691 av zc 4 yu|book-minus F05D9   e f|book-minus-multiple F0A94  zd ze 30|book-minus-multiple-outline F090B   1 6f|book-minus-outline F1692   4 yu|book-multiple F00BB  zf w f|book-multiple-outline F0436   1 f|book-music F0067 c7,c8 zg w f|book-music-outline F1693 c8  4 yu|book-off F1694   4 yu|book-off-outline F1695   4 yu|book-open F00BD  zh p f|book-open-blank-variant F00BE  zi p f|book-open-outline F0B63   p 13|book-open-page-variant F05DA  zj p f|book-open-page-variant-outline F15D6   p c0|book-open-variant F14F7   p i|book-outline F0B64   p 13|book-play F0E82   w 3p|book-play-outline F0E83   w 3p|book-plus F05DB  zk e f|book-plus-multiple F0A95  zl,zm,zn ze 30|book-plus-multiple-outline F0ADE   1 30|book-plus-outline F1696   4 yu|book-refresh F1697   4 yu|book-refresh-outline F1698   4 yu|book-remove F0A97   ze 30|book-remove-multiple F0A96  zo ze 30|book-remove-multiple-outline F04CA   1 f|book-remove-outline F1699   4 yu|book-search F0E84   w 3p|book-search-outline F0E85   w 3p|book-settings F169A 3h  4 yu|book-settings-outline F169B 3h  4 yu|book-sync F169C   4 yu|book-sync-outline F16C8   4 yu|book-variant F00BF  zp p f|bookmark F00C0  zq p f|bookmark-box F1B75   2d 2e|bookmark-box-multiple F196C  zr,zs p 5i|bookmark-box-multiple-outline F196D  zt,zu j 5i|bookmark-box-outline F1B76   2d 2e|bookmark-check F00C1  zv,zw p f|bookmark-check-outline F137B  zx e 9|bookmark-minus F09CC   j of|bookmark-minus-outline F09CD   j of|bookmark-multiple F0E15   p sb|bookmark-multiple-outline F0E16   p sb|bookmark-music F00C2 c8  w f|bookmark-music-outline F1379 c8  e 9|bookmark-off F09CE   j of|bookmark-off-outline F09CF   j of|bookmark-outline F00C3  zy,zz p f|bookmark-plus F00C5  100 w f|bookmark-plus-outline F00C4  101 p f|bookmark-remove F00C6   w f|bookmark-remove-outline F137A   e 9|bookshelf F125F   102 47|boom-gate F0E86 l5,m 103,104,105,106,107 1 3p|boom-gate-alert F0E87 q,l5 108,109,10a,10b,10c 1 3p|boom-gate-alert-outline F0E88 q,l5 10d,10e,10f,10g,10h 1 3p|boom-gate-arrow-down F0E89 l5 10i,10j,10k,10l,10m 1 3p|boom-gate-arrow-down-outline F0E8A l5 10n,10o,10p,10q,10r 1 3p|boom-gate-arrow-up F0E8C l5 10s,10t,10u,10v,10w 1 3p|boom-gate-arrow-up-outline F0E8D l5 10x,10y,10z,110,111 1 3p|boom-gate-outline F0E8B l5,m 112,113,114,115,116 1 3p|boom-gate-up F17F9 l5,m 10s,10t,10u,10v,10w j 3r|boom-gate-up-outline F17FA l5,m 10x,10y,10z,110,111 j 3r|boombox F05DC m  p f|boomerang F10CF po  j 35|bootstrap F06C6 la,0  4s 44|border-all F00C7 d2  p f|border-all-variant F08A1 d2  w 4x|border-bottom F00C8 d2  p f|border-bottom-variant F08A2 d2  w 4x|border-color F00C9 117,d2 118 p f|border-horizontal F00CA d2  p f|border-inside F00CB d2  p f|border-left F00CC d2  p f|border-left-variant F08A3 d2  w 4x|border-none F00CD d2 119 p f|border-none-variant F08A4 d2  w 4x|border-outside F00CE d2 11a p f|border-radius F1AF4 d2 11b qx 1k|border-right F00CF d2  p f|border-right-variant F08A5 d2  w 4x|border-style F00D0 d2  p f|border-top F00D1 d2  p f|border-top-variant F08A6 d2  w 4x|border-vertical F00D2 d2  p f|bottle-soda F1070 ty 11c,11d 1 2i|bottle-soda-classic F1071 ty 11e,11f 1 2i|bottle-soda-classic-outline F1363   e 9|bottle-soda-outline F1072 ty 11g,11h 1 2i|bottle-tonic F112E r3 11i j 5e|bottle-tonic-outline F112F r3 11j j 5e|bottle-tonic-plus F1130 po 11k j 5e|bottle-tonic-plus-outline F1131 po 11l j 5e|bottle-tonic-skull F1132 po,u6 11m,11n j 5e|bottle-tonic-skull-outline F1133 po,u6 11o,11p j 5e|bottle-wine F0854 ty  nm 4i|bottle-wine-outline F1310 ty  e 28|bow-arrow F1841 po,pp  4 15|bow-tie F0678 11q  11r c6|bowl F028E ty  j f|bowl-mix F0617 ty 11s w 3y|bowl-mix-outline F02E4 ty 11t e f|bowl-outline F02A9 ty  j f|bowling F00D3 pp  w f|box F00D4 la  4s f|box-cutter F00D5 sc 11u e f|box-cutter-off F0B4A   11v 5v|box-shadow F0637   e 3y|boxing-glove F0B65 pp  j 13|braille F09D0  11w,11x 1 of|brain F09D1 4u  1 of|bread-slice F0CEE ty  le 83|bread-slice-outline F0CEF ty  le 83|bridge F0618 bm  w 3y|briefcase F00D6  11y p f|briefcase-account F0CF0 l 11z,120 j 83|briefcase-account-outline F0CF1 l 121,122 j 83|briefcase-arrow-left-right F1A8D  123,124,125 j a9|briefcase-arrow-left-right-outline F1A8E  126,127,128 j a9|briefcase-arrow-up-down F1A8F  124,123,125 j a9|briefcase-arrow-up-down-outline F1A90  126,127,128 j a9|briefcase-check F00D7  129 p f|briefcase-check-outline F131E   j 28|briefcase-clock F10D0 3a  1 35|briefcase-clock-outline F10D1 3a  1 35|briefcase-download F00D8   p f|briefcase-download-outline F0C3D   j k|briefcase-edit F0A98 41  12a 30|briefcase-edit-outline F0C3E 41  j k|briefcase-eye F17D9  12b j 3r|briefcase-eye-outline F17DA  12c 1j 3r|briefcase-minus F0A2A   j qy|briefcase-minus-outline F0C3F   j k|briefcase-off F1658   4 ug|briefcase-off-outline F1659   4 ug|briefcase-outline F0814  12d p 7w|briefcase-plus F0A2B  12e j qy|briefcase-plus-outline F0C40  12f j k|briefcase-remove F0A2C   j qy|briefcase-remove-outline F0C41   j k|briefcase-search F0A2D   w qy|briefcase-search-outline F0C42   j k|briefcase-upload F00D9   w f|briefcase-upload-outline F0C43   j k|briefcase-variant F1494   p cq|briefcase-variant-off F165A   4 ug|briefcase-variant-off-outline F165B   4 ug|briefcase-variant-outline F1495   p cq|brightness-1 F00DA   p f|brightness-2 F00DB   p f|brightness-3 F00DC   p f|brightness-4 F00DD  12g p f|brightness-5 F00DE  12h p f|brightness-6 F00DF  12i,12g p f|brightness-7 F00E0 m 12j p f|brightness-auto F00E1   p f|brightness-percent F0CF2 v0 12k,12l j 83|broadcast F1720 ro 12m p 5|broadcast-off F1721 ro 12n p 5",
+    "broom F00E2   w f|brush F00E3 qu 12o p f|brush-off F1771   xv 3r|brush-outline F1A0D qu 12p p 4t|brush-variant F1813 qu 12o p 3r|bucket F1415   w sf|bucket-outline F1416   w sf|buffet F0578 m 12q 11v f|bug F00E4 wq,vn 12r p f|bug-check F0A2E vn 12s 1 qy|bug-check-outline F0A2F vn 12t 1 qy|bug-outline F0A30 wq,vn  p qy|bug-pause F1AF5   j 1k|bug-pause-outline F1AF6   j 1k|bug-play F1AF7  12u w 1k|bug-play-outline F1AF8   j 1k|bug-stop F1AF9   j 1k|bug-stop-outline F1AFA   j 1k|bugle F0DB4 ak,c8 12v j ap|bulkhead-light F1A2F m  j uz|bulldozer F0B22 sc  12w 5v|bullet F0CF3   j 83|bulletin-board F00E5  12x e f|bullhorn F00E6  12y,12z,130 p f|bullhorn-outline F0B23  131,132,133 p 5v|bullhorn-variant F196E  12y,12z,130 134 5i|bullhorn-variant-outline F196F  131,132,133 134 5i|bullseye F05DD pp 135 e f|bullseye-arrow F08C9 pp 136 e 6f|bulma F12E7 0,la  4s 28|bunk-bed F1302 m  e 28|bunk-bed-outline F0097 m  e f|bus F00E7 av,l5 137 p f|bus-alert F0A99 q,l5 138 p 30|bus-articulated-end F079C l5  4h bq|bus-articulated-front F079D l5  4h bq|bus-clock F08CA 3a,l5 139 p 6f|bus-double-decker F079E l5  4h bq|bus-electric F191D l5  j 9x|bus-marker F1212 av 13a,13b 1 6s|bus-multiple F0F3F l5 13c 1 si|bus-school F079F l5 13d 4h bq|bus-side F07A0 l5  4h bq|bus-stop F1012 l5,av  1 1y|bus-stop-covered F1013 l5,av  1 1y|bus-stop-uncovered F1014 l5,av  1 1y|butterfly F1589 wq,vn  13e lr|butterfly-outline F158A wq,vn  13e lr|button-cursor F1B4F 13f  1j 1k|button-pointer F1B50 13f  1j 1k|cabin-a-frame F188C m  2d 15|cable-data F1394   4h yt|cached F00E8 oc 13g,s0,s1,s2 p f|cactus F0DB5 wq  13h ap|cake F00E9 u6,ty 13i p f|cake-layered F00EA u6,ty 13i p f|cake-variant F00EB u6,ty 13i p f|cake-variant-outline F17F0 u6,ty 13j p 3r|calculator F00EC 3  w f|calculator-variant F0A9A 3  p 30|calculator-variant-outline F15A6 3  p lr|calendar F00ED 3a 13k,13l p f|calendar-account F0ED7 3a,l 13m 1 t7|calendar-account-outline F0ED8 3a,l 13n 1 t7|calendar-alert F0A31 3a,q 13o,13p e qy|calendar-alert-outline F1B62 3a,q  j 2e|calendar-arrow-left F1134 3a 13q z7 5e|calendar-arrow-right F1135 3a 13q z7 5e|calendar-badge F1B9D 3a  j 2e|calendar-badge-outline F1B9E 3a  j 2e|calendar-blank F00EE 3a 13r w f|calendar-blank-multiple F1073 3a  nm 2i|calendar-blank-outline F0B66 3a 13s p 13|calendar-check F00EF 3a 13t,13u,13v,13w,13x p f|calendar-check-outline F0C44 3a 13y,13z,140,141,142 p k|calendar-clock F00F0 3a 143,144,145 w f|calendar-clock-outline F16E1 3a  4h 5|calendar-collapse-horizontal F189D 3a  w a6|calendar-collapse-horizontal-outline F1B63 3a  j 2e|calendar-cursor F157B 3a  j lr|calendar-cursor-outline F1B64 3a  j 2e|calendar-edit F08A7 3a,41 146 1 4x|calendar-edit-outline F1B65 3a,41  j 2e|calendar-end F166C 3a  w ug|calendar-end-outline F1B66 3a  j 2e|calendar-expand-horizontal F189E 3a  w a6|calendar-expand-horizontal-outline F1B67 3a  j 2e|calendar-export F0B24 3a  1 5v|calendar-export-outline F1B68 3a  j 2e|calendar-filter F1A32 3a  1j uz|calendar-filter-outline F1A33 3a 147 1j uz|calendar-heart F09D2 3a 148 w of|calendar-heart-outline F1B69 3a  j 2e|calendar-import F0B25 3a  1 5v|calendar-import-outline F1B6A 3a  j 2e|calendar-lock F1641 3a,59  4 ug|calendar-lock-open F1B5B 59,3a  1j 2e|calendar-lock-open-outline F1B5C 59,3a  1j 2e|calendar-lock-outline F1642 3a,59  4 ug|calendar-minus F0D5C 3a 149 14a ao|calendar-minus-outline F1B6B 3a  j 2e|calendar-month F0E17 3a  z7 sb|calendar-month-outline F0E18 3a  z7 sb|calendar-multiple F00F1 3a 14b,14c,14d w f|calendar-multiple-check F00F2 3a 14e,14f,14g,14h,14i,14j,14k w f|calendar-multiselect F0A32 3a  w qy|calendar-multiselect-outline F1B55 3a  1j 2e|calendar-outline F0B67 3a 14l p 13|calendar-plus F00F3 3a 14m,14n,14o w f|calendar-plus-outline F1B6C 3a  j 2e|calendar-question F0692 3a 14p,14q,14r e c6|calendar-question-outline F1B6D 3a 14s j 2e|calendar-range F0679 3a 14t,14u,14v p c6|calendar-range-outline F0B68 3a 14w p 13|calendar-refresh F01E1 3a 14x j f|calendar-refresh-outline F0203 3a 14y j f|calendar-remove F00F4 3a 14z,150 p f|calendar-remove-outline F0C45 3a 151,152 p k|calendar-search F094C 3a 153 4h 1x|calendar-search-outline F1B6E 3a  j 2e|calendar-star F09D3 3a 154,155 1 of|calendar-star-four-points F1C1F 3a 156,157,158 2d ry|calendar-star-outline F1B53 3a  1j 1k|calendar-start F166D 3a  w ug|calendar-start-outline F1B6F 3a  j 2e|calendar-sync F0E8E 3a 14x 1 3p|calendar-sync-outline F0E8F 3a 14y 1 3p|calendar-text F00F5 3a 159,15a p f|calendar-text-outline F0C46 3a 15b,15c p k|calendar-today F00F6 3a 15d p f|calendar-today-outline F1A30 3a 15e j uz|calendar-week F0A33 3a 15f e qy|calendar-week-begin F0A34 3a 15g e qy|calendar-week-begin-outline F1A31 3a 15h j uz|calendar-week-outline F1A34 3a 15i j uz|calendar-weekend F0ED9 3a  15j t7|calendar-weekend-outline F0EDA 3a  15j t7|call-made F00F7 15k,oc  p f|call-merge F00F8 15k,oc 15l p f|call-missed F00F9 15k,oc  p f|call-received F00FA 15k,oc  p f|call-split F00FB 15k,oc  p f|camcorder F00FC 15m  w f|camcorder-off F00FF 15m  j f|camera F0100 ru,m 15n,15o,15p,15q p f|camera-account F08CB l,ru 15r p 6f|camera-burst F0693 ru 15s p c6|camera-control F0B69 ru  p 13|camera-document F1871 ru 15t 15u 15|camera-document-off F1872 ru 15v 15u 15|camera-enhance F0101 ru  p f|camera-enhance-outline F0B6A ru  p 13|camera-flip F15D9 ru 15w,15x j c0|camera-flip-outline F15DA ru 15y,15z j c0|camera-front F0102 ru  p f|camera-front-variant F0103 ru  p f|camera-gopro F07A1 ru,160  1 bq|camera-image F08CC ru  p 6f|camera-iris F0104 ru  p f|camera-lock F1A14 ru,59  w 4t|camera-lock-open F1C0D ru  j a0|camera-lock-open-outline F1C0E ru  j a0|camera-lock-outline F1A15 ru,59  w 4t|camera-marker F19A7 ru,av 161 e 5i|camera-marker-outline F19A8 ru,av 162 e 5i|camera-metering-center F07A2 ru 163 164 bq|camera-metering-matrix F07A3 ru  164 bq|camera-metering-partial F07A4 ru  164 bq|camera-metering-spot F07A5 ru  164 bq|camera-off F05DF ru  w f|camera-off-outline F19BF ru  4 5i|camera-outline F0D5D ru  p ao|camera-party-mode F0105 ru  p f|camera-plus F0EDB ru  p t7|camera-plus-outline F0EDC ru  p t7|camera-rear F0106 ru  p f|camera-rear-variant F0107 ru  p f|camera-retake F0E19 ru  1 sb|camera-retake-outline F0E1A ru  1 sb|camera-switch F0108 ru 165 p f|camera-switch-outline F084A ru  p 4i|camera-timer F0109 3a,ru  w f|camera-wireless F0DB6 ru  p ap|camera-wireless-outline F0DB7 ru  p ap|campfire F0EDD   j t7|cancel F073A  166,167,168,169,16a,16b,16c,sz p cy|candelabra F17D2 m,u6 16d,16e 4 3r|candelabra-fire F17D3 m,u6 16f,16g,16h,16i,16j 4 3r|candle F05E2 u6,m 16j,16i p f|candy F1970 ty 16k,16l j 5i|candy-off F1971 ty 16m,16n j 5i|candy-off-outline F1972 ty,po 16o,16p,16q j 5i|candy-outline F1973 ty,po 16r,16s,16t,16u,16v j 5i|candycane F010A u6,ty  w f|cannabis F07A6 wq,4u 16w,16x,16y w bq|cannabis-off F166E   4 ug|caps-lock F0A9B d2  j 30|car F010B l5,av,ak 16z,170,171 p f|car-2-plus F1015 l5,ak 172,173,174 j 1y|car-3-plus F1016 l5,ak 172,173,174 j 1y|car-arrow-left F13B2 ak,l5  j yt|car-arrow-right F13B3 ak,l5  j yt|car-back F0E1B ak,l5  1 sb|car-battery F010C vo,ak  e f|car-brake-abs F0C47 ak 175,176 j k|car-brake-alert F0C48 ak,q 177,178,179,17a,17b j k|car-brake-fluid-level F1909 ak  j 9x|car-brake-hold F0D5E ak  j ao|car-brake-low-pressure F190A ak  j 9x|car-brake-parking F0D5F ak  j ao|car-brake-retarder F1017 ak  j 1y|car-brake-temperature F190B ak  j 9x|car-brake-worn-linings F190C ak  j 9x|car-child-seat F0FA3 ak,a1  j 2|car-clock F1974 3a,ak  j 5i|car-clutch F1018 ak  j 1y|car-cog F13CC ak,3h,l5 17c e sf|car-connected F010D l5,ak  e f|car-convertible F07A7 l5,ak  4h bq|car-coolant-level F1019 ak  j 1y|car-cruise-control F0D60 ak  j ao|car-defrost-front F0D61 ak  j ao|car-defrost-rear F0D62 ak  j ao|car-door F0B6B ak  w 13|car-door-lock F109D ak,59  1 2i|car-electric F0B6C l5,ak  p 13|car-electric-outline F15B5 l5,ak  p c0|car-emergency F160F l5,ak 17d 4h c0|car-esp F0C49 ak 17e j k|car-estate F07A8 l5,ak 17f,17g 4h bq|car-hatchback F07A9 l5,ak  4h bq|car-info F11BE ak  1 ci|car-key F0B6D l5,ak 17h,17i 4h 13|car-lifted-pickup F152D ak,3m  w i|car-light-alert F190D q,ak  j 9x|car-light-dimmed F0C4A ak 17j,17k j k|car-light-fog F0C4B ak 17l j k",
+    "car-light-high F0C4C ak 17m,17n j k|car-limousine F08CD l5,ak  4h 6f|car-multiple F0B6E l5,ak  1 13|car-off F0E1C ak  1 sb|car-outline F14ED ak  p i|car-parking-lights F0D63 ak  j ao|car-pickup F07AA l5,ak,3m  4h bq|car-search F1B8D ak 17o 17p 2e|car-search-outline F1B8E ak 17q 17p 2e|car-seat F0FA4 ak  j 2|car-seat-cooler F0FA5 ak  j 2|car-seat-heater F0FA6 ak  j 2|car-select F1879 ak 17r 2d 15|car-settings F13CD ak,3h  e sf|car-shift-pattern F0F40 ak 17s,17t 4 si|car-side F07AB l5,ak 17u 4h bq|car-speed-limiter F190E ak  j 9x|car-sports F07AC l5,pp,ak  4h bq|car-tire-alert F0C4D ak,q 17v,17w,17x j k|car-traction-control F0D64 ak  j ao|car-turbocharger F101A ak  j 1y|car-wash F010E l5,bm,ak 17y p f|car-windshield F101B ak 17z 1 1y|car-windshield-outline F101C ak 180 1 1y|car-wireless F1878 ak 181,182,183 j 15|car-wrench F1814 ak,sc 184,185 4 3r|carabiner F14C0 pp 186,187 p cq|caravan F07AD l5,m,ak  4h bq|card F0B6F 13f 188 189 13|card-account-details F05D2 l 18a,18b,18c,18d,18e,18f l8 f|card-account-details-outline F0DAB l 18g,18h,18i,18j,18k,18l 1 ap|card-account-details-star F02A3 l 18m 1 f|card-account-details-star-outline F06DB l 18n 1 44|card-account-mail F018E l 18o p f|card-account-mail-outline F0E98 l 18p p 3p|card-account-phone F0E99 l 18q p 3p|card-account-phone-outline F0E9A l 18r p 3p|card-bulleted F0B70   189 13|card-bulleted-off F0B71   189 13|card-bulleted-off-outline F0B72   189 13|card-bulleted-outline F0B73   189 13|card-bulleted-settings F0B74 3h  189 13|card-bulleted-settings-outline F0B75 3h  189 13|card-minus F1600   4 c0|card-minus-outline F1601   4 c0|card-multiple F17F1   2d 3r|card-multiple-outline F17F2   2d 3r|card-off F1602   4 c0|card-off-outline F1603   4 c0|card-outline F0B76 13f 18s 189 13|card-plus F11FF   j 6s|card-plus-outline F1200   j 6s|card-remove F1604   4 c0|card-remove-outline F1605   4 c0|card-search F1074  18t p 2i|card-search-outline F1075  18u p 2i|card-text F0B77   189 13|card-text-outline F0B78   189 13|cards F0638 po  e 3y|cards-club F08CE po 18v,18w le 6f|cards-club-outline F189F   j a6|cards-diamond F08CF po,l5 18x,172,173,174,18y le 6f|cards-diamond-outline F101D l5 18z,190,191,192 1 1y|cards-heart F08D0 po 193,194 le 6f|cards-heart-outline F18A0   j a6|cards-outline F0639 po  e 3y|cards-playing F18A1 po  j a6|cards-playing-club F18A2 po  4h a6|cards-playing-club-multiple F18A3 po  4h a6|cards-playing-club-multiple-outline F18A4 po  4h a6|cards-playing-club-outline F18A5 po  4h a6|cards-playing-diamond F18A6 po  4h a6|cards-playing-diamond-multiple F18A7 po  4h a6|cards-playing-diamond-multiple-outline F18A8 po  4h a6|cards-playing-diamond-outline F18A9 po  4h a6|cards-playing-heart F18AA po  4h a6|cards-playing-heart-multiple F18AB po  4h a6|cards-playing-heart-multiple-outline F18AC po  4h a6|cards-playing-heart-outline F18AD po  4h a6|cards-playing-outline F063A po  e 3y|cards-playing-spade F18AE po  4h a6|cards-playing-spade-multiple F18AF po  4h a6|cards-playing-spade-multiple-outline F18B0 po  4h a6|cards-playing-spade-outline F18B1 po  4h a6|cards-spade F08D1 po 195,196 le 6f|cards-spade-outline F18B2 po  j a6|cards-variant F06C7 po  197 44|carrot F010F 3m,ty  w f|cart F0110 v0 198,199,19a p f|cart-arrow-down F0D66 v0 19b,19c e ao|cart-arrow-right F0C4E v0 19d,19e 1 k|cart-arrow-up F0D67 v0 19f,19g e ao|cart-check F15EA v0  4 c0|cart-heart F18E0 v0 19h,19i j a6|cart-minus F0D68 v0 19j,19k e ao|cart-off F066B v0 19l,19m,19n p 3y|cart-outline F0111 v0 19o,19p p f|cart-percent F1BAE v0 19q,19r,19s j 2e|cart-plus F0112 v0 19t,19u,19v,19w,19x,19y p f|cart-remove F0D69 v0 19z,1a0 e ao|cart-variant F15EB v0  4 c0|case-sensitive-alt F0113   1a1 f|cash F0114 2g,2f,v0 1a2 w f|cash-100 F0115 2g,2f 1a3 p f|cash-check F14EE 2g,2f  1a4 i|cash-clock F1A91 2f,2g,3a 1a5,1a6,1a7,1a8 j a9|cash-fast F185C 2g,2f 1a9,1aa,1ab 2d 15|cash-lock F14EA 59,2g,2f  w i|cash-lock-open F14EB 59,2g,2f  w i|cash-marker F0DB8 2f,2g,av 1ac,1ad,1ae j ap|cash-minus F1260 2g,2f  lf 47|cash-multiple F0116 2g,2f 1a2 w f|cash-off F1C79 2g,2f  1j ry|cash-plus F1261 2g,2f  lf 47|cash-refund F0A9C 2f,2g 1af,1ag 1 30|cash-register F0CF4 v0,2f 1ah 1ai 83|cash-remove F1262 2g,2f  w 47|cash-sync F1A92 2f,2g 1a8,1aj,1ak,1al j a9|cassette F09D4 c8 1am 4h of|cast F0118 m  p f|cast-audio F101E c7 1an 1ao 1y|cast-audio-variant F1749  1ap 4 3r|cast-connected F0119 m  p f|cast-education F0E1D  1aq,1ar,1as p sb|cast-off F078A m  e cy|cast-variant F001F m 1at,1au p f|castle F011A bm  w f|cat F011B vn,u6 1av,1aw w f|cctv F07AE m 1ax,1ay 6e bq|cctv-off F185F m 1az,1b0 4 15|ceiling-fan F1797 m  11v 3r|ceiling-fan-light F1798 m 1b1 11v 3r|ceiling-light F0769 m 1b2 4h cy|ceiling-light-multiple F18DD m 1b3 j a6|ceiling-light-multiple-outline F18DE m 1b4 j a6|ceiling-light-outline F17C7 m  xv 3r|cellphone F011C 15k,160 1b5,1b6,1b7,1b8 p f|cellphone-arrow-down F09D5 15k,160 1b9,1ba,1bb p of|cellphone-arrow-down-variant F19C5 15k 1bc j 4t|cellphone-basic F011E 15k,160 1bd e f|cellphone-charging F1397 15k  sm yt|cellphone-check F17FD 15k  j 3r|cellphone-cog F0951 3h,15k,160 1be,1bf,1bg p 1x|cellphone-dock F011F 15k,160 1bh,1bi p f|cellphone-information F0F41 15k 1bj,1bk p si|cellphone-key F094E 15k,160 1bl,1bm 4h 1x|cellphone-link F0121 15k,160 1bn,1bo,1bp p f|cellphone-link-off F0122 15k,160 1bq,1br,1bs p f|cellphone-lock F094F 15k,59,160 1bt,1bu,1bv p 1x|cellphone-marker F183A 15k,av 1bw,1bx,1by,1bz j 15|cellphone-message F08D3 15k,160 1c0,1c1 w 6f|cellphone-message-off F10D2 15k  z7 35|cellphone-nfc F0E90 ak,15k,160  p 3p|cellphone-nfc-off F12D8 15k  j 28|cellphone-off F0950 15k,160 1c2,1c3,1c4 p 1x|cellphone-play F101F 15k  p 1y|cellphone-remove F094D 15k,160 1c5,1c6,1c7,1c8 j 1x|cellphone-screenshot F0A35 15k,160  p qy|cellphone-settings F0123 15k,3h,160 1c9,1ca,1cb p f|cellphone-sound F0952 15k,160 1cc,1cd,1ce p 1x|cellphone-text F08D2 15k,160 1cf,1cg w 6f|cellphone-wireless F0815 15k,160 1ch,1ci w 7w|centos F111A la  4s 35|certificate F0124  1cj,1ck e f|certificate-outline F1188  1cl,1cm 1 5e|chair-rolling F0F48 m 1cn,1co j si|chair-school F0125  1cp,13d,1cq w f|chandelier F1793 m 1cr,1cs,1ct,1cu j 3r|charity F0C4F  1cv p k|chart-arc F0126 3 1cw,1cx w f|chart-areaspline F0127 3 1cy,1cz,1d0 w f|chart-areaspline-variant F0E91 3 1d1,1d2,1d3 1 3p|chart-bar F0128 3 1d4,1d5,1d6 w f|chart-bar-stacked F076A 3 1d7,1d8,1d9 w cy|chart-bell-curve F0C50 3 1da,1db,1dc j k|chart-bell-curve-cumulative F0FA7 3 1dd,1de,1df j 2|chart-box F154D 3 1dg,1dh,1di,1dj p i|chart-box-outline F154E 3 1dk,1dl,1dm,1dn p i|chart-box-plus-outline F154F 3 1do,1dp,1dq p i|chart-bubble F05E3 3 1dr,1ds,1dt p f|chart-donut F07AF 3 1du,1dv,1dw,1dx p bq|chart-donut-variant F07B0 3 1dy,1dz,1e0 w bq|chart-gantt F066C 3 1e1,1e2,1e3,1e4 w 3y|chart-histogram F0129 3 1e5,1e6,1e7 w f|chart-line F012A 3 1e8,1e9,1ea w f|chart-line-stacked F076B 3 1eb,1ec,1ed 8 cy|chart-line-variant F07B1 3 1ee,1ef,1eg,1eh p bq|chart-multiline F08D4 3 1ei,1ej,1ek p 6f|chart-multiple F1213 3 1el,1em,1en 1 6s|chart-pie F012B 3 1eo,1ep,1eq p f|chart-pie-outline F1BDF 3 1er,1es,1et p a0|chart-ppf F1380 3 1eu,1ev,1ew,1ex e 9|chart-sankey F11DF 3 1ey,1ez,1f0,1f1 1 ci|chart-sankey-variant F11E0 3 1f2,1f3,1f4,1f5 1 ci|chart-scatter-plot F0E92 3 1f6,1f7,1f8 j 3p|chart-scatter-plot-hexbin F066D 3 1f9,1fa,1fb,1fc w 3y|chart-timeline F066E 3 1fd,1fe,1ff,1e4 w 3y|chart-timeline-variant F0E93 3 1fg,1fh,1fi,1e8,1e9,1ea p 3p|chart-timeline-variant-shimmer F15B6 3 1fj,1fk,1fl,1fm,1fn,1fo p c0|chart-tree F0E94 3 1fp,1fq p 3p|chart-waterfall F1918 3  j 9x|chat F0B79   w 13|chat-alert F0B7A q 1fr w 13|chat-alert-outline F12C9 q  j 28|chat-minus F1410   w sf|chat-minus-outline F1413   w sf|chat-outline F0EDE   1 t7|chat-plus F140F   w sf|chat-plus-outline F1412   w sf|chat-processing F0B7B  1fs w 13|chat-processing-outline F12CA  1ft j 28|chat-question F1738  1fu 4 5|chat-question-outline F1739  1fv 4 5|chat-remove F1411   w sf|chat-remove-outline F1414   w sf|chat-sleep F12D1   j 28|chat-sleep-outline F12D2   j 28|check F012C 13f 1fw,1fx,1fy p f|check-all F012D  1fz,1g0,1g1,1g2,1g3 p f|check-bold F0E1E  1g4,1g5,1g6 1 sb|check-circle F05E0 13f 1g7,1g8 p f|check-circle-outline F05E1 13f 1g9,1ga p f",
+    "check-decagram F0791  1gb,1gc,1gd,1ge,1gf 1 bq|check-decagram-outline F1740  1gd,1ge,1gb 2d 5|check-network F0C53  1gg 1 k|check-network-outline F0C54  1gh j k|check-outline F0855  1gi,1gj,1gk p 4i|check-underline F0E1F   w sb|check-underline-circle F0E20   j sb|check-underline-circle-outline F0E21   j sb|checkbook F0A9D 2f 1gl,1gm p 30|checkbook-arrow-left F1C1D 2f 1gn 2d ry|checkbook-arrow-right F1C1E 2f 1go 2d ry|checkbox-blank F012E 13f  p f|checkbox-blank-badge F1176 bp,13f 1gp,1gq,1gr j 5e|checkbox-blank-badge-outline F0117 bp,13f 1gs,1gt,1gu j f|checkbox-blank-circle F012F 13f  p f|checkbox-blank-circle-outline F0130 13f  p f|checkbox-blank-off F12EC 13f  j 28|checkbox-blank-off-outline F12ED 13f  j 28|checkbox-blank-outline F0131 13f 1gv,1gw p f|checkbox-intermediate F0856 13f 1gx 1 4i|checkbox-intermediate-variant F1B54 13f 1gy 1gz 1k|checkbox-marked F0132 13f 1h0 p f|checkbox-marked-circle F0133 13f  p f|checkbox-marked-circle-auto-outline F1C26 13f 1h1,1h2 2d ry|checkbox-marked-circle-minus-outline F1C27 13f 1h3,1h4 2d ry|checkbox-marked-circle-outline F0134 13f  p f|checkbox-marked-circle-plus-outline F1927 13f 1h5,1h6,1h7,1h8 xv 9x|checkbox-marked-outline F0135 13f  p f|checkbox-multiple-blank F0136 13f 1h9 w f|checkbox-multiple-blank-circle F063B 13f 1ha e 3y|checkbox-multiple-blank-circle-outline F063C 13f 1hb e 3y|checkbox-multiple-blank-outline F0137 13f 1hc w f|checkbox-multiple-marked F0138 13f 1hd w f|checkbox-multiple-marked-circle F063D 13f 1he e 3y|checkbox-multiple-marked-circle-outline F063E 13f 1hf e 3y|checkbox-multiple-marked-outline F0139 13f 1hg w f|checkbox-multiple-outline F0C51 13f 1hh,1hi 1 k|checkbox-outline F0C52 13f  1 k|checkerboard F013A po,ob 1hj w f|checkerboard-minus F1202 ob 1hk j 6s|checkerboard-plus F1201 ob 1hl j 6s|checkerboard-remove F1203 ob 1hm j 6s|cheese F12B9 ty 1hn 102 47|cheese-off F13EE ty  j sf|chef-hat F0B7C 11q 1ho,1hp e 13|chemical-weapon F013B   e f|chess-bishop F085C po  1 4i|chess-king F0857 po 1hq,1hr 1 4i|chess-knight F0858 po 1hs 1 4i|chess-pawn F0859 po  1 4i|chess-queen F085A po 1hq,1hr 1 4i|chess-rook F085B po 1ht,1hu 1 4i|chevron-double-down F013C oc  w f|chevron-double-left F013D oc  w f|chevron-double-right F013E oc  w f|chevron-double-up F013F oc  w f|chevron-down F0140 oc 1hv,1hw p f|chevron-down-box F09D6 13f,oc  j of|chevron-down-box-outline F09D7 13f,oc  j of|chevron-down-circle F0B26 oc  uk 5v|chevron-down-circle-outline F0B27 oc  uk 5v|chevron-left F0141 oc 1hx,1hy p f|chevron-left-box F09D8 oc  j of|chevron-left-box-outline F09D9 oc  j of|chevron-left-circle F0B28 oc  uk 5v|chevron-left-circle-outline F0B29 oc  uk 5v|chevron-right F0142 oc 1hz,1i0 p f|chevron-right-box F09DA oc  j of|chevron-right-box-outline F09DB oc  j of|chevron-right-circle F0B2A oc  uk 5v|chevron-right-circle-outline F0B2B oc  uk 5v|chevron-triple-down F0DB9   p ap|chevron-triple-left F0DBA   p ap|chevron-triple-right F0DBB   p ap|chevron-triple-up F0DBC  1i1 p ap|chevron-up F0143 oc,3 1i2,1i3,1i4 p f|chevron-up-box F09DC oc  j of|chevron-up-box-outline F09DD oc  j of|chevron-up-circle F0B2C oc  uk 5v|chevron-up-circle-outline F0B2D oc  uk 5v|chili-alert F17EA q  4 3r|chili-alert-outline F17EB q  4 3r|chili-hot F07B2 ty 1i5,1i6,1i7 164 bq|chili-hot-outline F17EC   4 3r|chili-medium F07B3 ty 1i8,1i6,1i7 164 bq|chili-medium-outline F17ED   4 3r|chili-mild F07B4 ty,3m 1i9,1i6,1i7 164 bq|chili-mild-outline F17EE   4 3r|chili-off F1467 ty 1ia,1ib,1ic j ar|chili-off-outline F17EF   4 3r|chip F061A  1id w 3y|church F0144 z0,bm  p f|church-outline F1B02 bm,z0  p 1k|cigar F1189   1 5e|cigar-off F141B   j ar|circle F0765 1ie 1if w cy|circle-box F15DC   j c0|circle-box-outline F15DD   j c0|circle-double F0E95 1ie  pk 3p|circle-edit-outline F08D5 41  p 6f|circle-expand F0E96   p 3p|circle-half F1395 1ie 1ig e yt|circle-half-full F1396 1ie  e yt|circle-medium F09DE   j of|circle-multiple F0B38 2g,2f 1ih 1 5v|circle-multiple-outline F0695 2g,2f 1ii,1ij p c6|circle-off-outline F10D3  1ik e 35|circle-opacity F1853 1ie,qu 1il j 15|circle-outline F0766 1ie 1im w cy|circle-slice-1 F0A9E   uk 30|circle-slice-2 F0A9F   uk 30|circle-slice-3 F0AA0   uk 30|circle-slice-4 F0AA1   uk 30|circle-slice-5 F0AA2   uk 30|circle-slice-6 F0AA3   uk 30|circle-slice-7 F0AA4   uk 30|circle-slice-8 F0AA5   uk 30|circle-small F09DF 3 1in,1io,1ip j of|circular-saw F0E22 sc  3o sb|city F0146 bm 1iq p f|city-switch F1C28 bm 1ir 2d ry|city-variant F0A36 bm  1 qy|city-variant-outline F0A37 bm  1 qy|clipboard F0147   w f|clipboard-account F0148 l 1is,1it,1iu p f|clipboard-account-outline F0C55 l 1iv,1iw,1ix nm k|clipboard-alert F0149 q 1iy,1iz p f|clipboard-alert-outline F0CF7 q 1j0 nm 83|clipboard-arrow-down F014A  1j1,1j2 p f|clipboard-arrow-down-outline F0C56  1j3,1j4 p k|clipboard-arrow-left F014B  1j5 p f|clipboard-arrow-left-outline F0CF8   nm 83|clipboard-arrow-right F0CF9   nm 83|clipboard-arrow-right-outline F0CFA   nm 83|clipboard-arrow-up F0C57  1j6 nm k|clipboard-arrow-up-outline F0C58  1j7 nm k|clipboard-check F014E  1j8,1j9 p f|clipboard-check-multiple F1263   mb 47|clipboard-check-multiple-outline F1264   mb 47|clipboard-check-outline F08A8  1ja nm 4x|clipboard-clock F16E2 3a  4 5|clipboard-clock-outline F16E3 3a  4 5|clipboard-edit F14E5 41  1jb i|clipboard-edit-outline F14E6 41  1jb i|clipboard-file F1265 1jc  mb 47|clipboard-file-outline F1266 1jc  mb 47|clipboard-flow F06C8   1 44|clipboard-flow-outline F1117   j 35|clipboard-list F10D4   j 35|clipboard-list-outline F10D5   1jd 35|clipboard-minus F1618   4 ug|clipboard-minus-outline F1619   4 ug|clipboard-multiple F1267   mb 47|clipboard-multiple-outline F1268   mb 47|clipboard-off F161A   4 ug|clipboard-off-outline F161B   4 ug|clipboard-outline F014C   w f|clipboard-play F0C59   1 k|clipboard-play-multiple F1269   mb 47|clipboard-play-multiple-outline F126A   mb 47|clipboard-play-outline F0C5A   1 k|clipboard-plus F0751  1je w cy|clipboard-plus-outline F131F   j 28|clipboard-pulse F085D 4u 1jf e 4i|clipboard-pulse-outline F085E 4u 1jg e 4i|clipboard-remove F161C   4 ug|clipboard-remove-outline F161D   4 ug|clipboard-search F161E   4 ug|clipboard-search-outline F161F   4 ug|clipboard-text F014D  1jh p f|clipboard-text-clock F18F9 3a 1ji,1jj,1jk j a6|clipboard-text-clock-outline F18FA 3a 1jl,1jm,1jn j a6|clipboard-text-multiple F126B   mb 47|clipboard-text-multiple-outline F126C   mb 47|clipboard-text-off F1620   4 ug|clipboard-text-off-outline F1621   4 ug|clipboard-text-outline F0A38   1 qy|clipboard-text-play F0C5B   1 k|clipboard-text-play-outline F0C5C   1 k|clipboard-text-search F1622   4 ug|clipboard-text-search-outline F1623   4 ug|clippy F014F   4s f|clock F0954 3a 1jo p 1x|clock-alert F0955 3a,q 1jp e 1x|clock-alert-outline F05CE 3a,q 1jp e f|clock-check F0FA8 3a  j 2|clock-check-outline F0FA9 3a  j 2|clock-digital F0E97 3a,m  4h 3p|clock-edit F19BA 3a,41  1jq 5i|clock-edit-outline F19BB 3a,41  1jq 5i|clock-end F0151 3a  e f|clock-fast F0152 3a y1 w f|clock-in F0153 3a  e f|clock-minus F1863 3a  j 15|clock-minus-outline F1864 3a  1jr 15|clock-out F0154 3a  e f|clock-outline F0150 3a 1js,1jt,1ju p f|clock-plus F1861 3a  j 15|clock-plus-outline F1862 3a  1jr 15|clock-remove F1865 3a  j 15|clock-remove-outline F1866 3a  1jr 15|clock-star-four-points F1C29 3a 1jv 2d ry|clock-star-four-points-outline F1C2A 3a 1jw 2d ry|clock-start F0155 3a  e f|clock-time-eight F1446 3a  j ar|clock-time-eight-outline F1452 3a  j ar|clock-time-eleven F1449 3a  j ar|clock-time-eleven-outline F1455 3a  j ar|clock-time-five F1443 3a  j ar|clock-time-five-outline F144F 3a  j ar|clock-time-four F1442 3a  j ar|clock-time-four-outline F144E 3a  j ar|clock-time-nine F1447 3a  j ar|clock-time-nine-outline F1453 3a  j ar|clock-time-one F143F 3a  j ar|clock-time-one-outline F144B 3a  j ar|clock-time-seven F1445 3a  j ar|clock-time-seven-outline F1451 3a  j ar|clock-time-six F1444 3a  j ar|clock-time-six-outline F1450 3a  j ar|clock-time-ten F1448 3a  j ar|clock-time-ten-outline F1454 3a  j ar|clock-time-three F1441 3a  j ar|clock-time-three-outline F144D 3a  j ar|clock-time-twelve F144A 3a  j ar|clock-time-twelve-outline F1456 3a  j ar|clock-time-two F1440 3a  j ar",
+    "clock-time-two-outline F144C 3a  j ar|close F0156 3,13f sz,1jx,1jy,1jz p f|close-box F0157 3,13f 1k0,1k1,1k2,1k3 1k4 f|close-box-multiple F0C5D 13f 1k5,1k6,1k7,1k8,1k9,1ka,1kb 1 k|close-box-multiple-outline F0C5E 13f 1kc,1kd,1ke,1kf,1kg,1kb,1ka 1 k|close-box-outline F0158 3,13f 1kh,1ki,1kj,1kk 1k4 f|close-circle F0159 13f 1kl,1km,1kn,1ko w f|close-circle-multiple F062A 13f 1kp,1kq,1kr,1ks,1kt j 3y|close-circle-multiple-outline F0883 13f 1ku,1kv,1kw,1kx,1ky,1kz j 4i|close-circle-outline F015A 13f 1l0,1l1,1l2,1l3,1l4 p f|close-network F015B  1l5,1l6,1l7,1l8 w f|close-network-outline F0C5F  1l9,1la,1lb,1lc j k|close-octagon F015C  1ld,1le,1lf,1lg,1lh,1li e f|close-octagon-outline F015D  1lj,1lk,1ll,1lm,1ln e f|close-outline F06C9  1lo,1lp,1lq,t1 j 44|close-thick F1398  1lr,1ls,1lt,1lu,1lv,1lw,1lx,1ly,1lz w yt|closed-caption F015E  1m0 p f|closed-caption-outline F0DBD  1m1 p ap|cloud F015F 1m2,ro 1m3 p f|cloud-alert F09E0 q,1m2,ro 1m4 1m5 of|cloud-alert-outline F1BE0 q,ro,1m2  4 a0|cloud-arrow-down F1BE1 1m2,ro  4 a0|cloud-arrow-down-outline F1BE2 1m2,ro  4 a0|cloud-arrow-left F1BE3 ro,1m2  4 a0|cloud-arrow-left-outline F1BE4 ro,1m2  4 a0|cloud-arrow-right F1BE5 ro,1m2  4 a0|cloud-arrow-right-outline F1BE6 ro,1m2  4 a0|cloud-arrow-up F1BE7 1m2,ro  4 a0|cloud-arrow-up-outline F1BE8 ro,1m2  4 a0|cloud-braces F07B5 1m2,0 1m6 164 bq|cloud-cancel F1BE9 1m2,ro  4 a0|cloud-cancel-outline F1BEA 1m2,ro  4 a0|cloud-check F1BEB 1m2,ro  4 a0|cloud-check-outline F1BEC 1m2,ro  4 a0|cloud-check-variant F0160 1m2,ro 1m7,1m8 p f|cloud-check-variant-outline F12CC 1m2,ro  j 28|cloud-circle F0161 1m2,ro  p f|cloud-circle-outline F1BED 1m2,ro  p a0|cloud-clock F1BEE ro,1m2  4 a0|cloud-clock-outline F1BEF 1m2,ro  4 a0|cloud-cog F1BF0 1m2,ro  4 a0|cloud-cog-outline F1BF1 1m2,ro  4 a0|cloud-download F0162 1m2,ro  p f|cloud-download-outline F0B7D 1m2,ro  p 13|cloud-lock F11F1 1m2,59  1 ci|cloud-lock-open F1BF2 1m2  4 a0|cloud-lock-open-outline F1BF3 1m2  4 a0|cloud-lock-outline F11F2 1m2,59  1 ci|cloud-minus F1BF4 1m2  4 a0|cloud-minus-outline F1BF5 1m2  4 a0|cloud-off F1BF6 1m2,ro  p a0|cloud-off-outline F0164 1m2,ro  p f|cloud-outline F0163 1m2,ro 1m9 p f|cloud-percent F1A35 ro,1m2,wq 1ma,1mb,1mc e uz|cloud-percent-outline F1A36 ro,1m2,wq 1md,1me,1mf e uz|cloud-plus F1BF7 1m2  4 a0|cloud-plus-outline F1BF8 1m2  4 a0|cloud-print F0165 1m2,1mg,m  e f|cloud-print-outline F0166 1m2,1mg,m  e f|cloud-question F0A39 1m2,ro  j qy|cloud-question-outline F1BF9 1m2,ro  4 a0|cloud-refresh F1BFA 1m2,ro  4 a0|cloud-refresh-outline F1BFB 1m2,ro  4 a0|cloud-refresh-variant F052A 1m2,ro  w f|cloud-refresh-variant-outline F1BFC 1m2,ro  4 a0|cloud-remove F1BFD 1m2  4 a0|cloud-remove-outline F1BFE 1m2,ro  4 a0|cloud-search F0956 1m2,ro  1 1x|cloud-search-outline F0957 1m2,ro  1 1x|cloud-sync F063F 1m2,ro  j 3y|cloud-sync-outline F12D6 1m2,ro  j 28|cloud-tags F07B6 1m2 1mh 164 bq|cloud-upload F0167 1m2,ro 1mi p f|cloud-upload-outline F0B7E 1m2,ro 1mj p 13|clouds F1B95 ro,1m2  j 2e|clover F0816 wq 1mk 1 7w|clover-outline F1C62 wq 1ml 2d ry|coach-lamp F1020 m 1mm,1mn,1mo 1mp 1y|coach-lamp-variant F1A37 m 1mm,1mo,1mn 1mp uz|coat-rack F109E m,11q 1mq,1mr,1ms 1 2i|code-array F0168 0  w f|code-braces F0169 0,3 1mt e f|code-braces-box F10D6 0  j 35|code-brackets F016A 0,3 1mu e f|code-equal F016B 0  e f|code-greater-than F016C 0,3  e f|code-greater-than-or-equal F016D 0,3  e f|code-json F0626 0  w 3y|code-less-than F016E 0,3  e f|code-less-than-or-equal F016F 0,3  e f|code-not-equal F0170 0  e f|code-not-equal-variant F0171 0  e f|code-parentheses F0172 0  e f|code-parentheses-box F10D7 0  j 35|code-string F0173 0  w f|code-tags F0174 0  p f|code-tags-check F0694 0 1mv e c6|codepen F0175 la,0  4s f|coffee F0176 ty 1mw,1mx,1my,1mz,x3 p f|coffee-maker F109F m,ty 1n0,1n1,1n2 p 2i|coffee-maker-check F1931 m,ty 1n3,1n4 j 9x|coffee-maker-check-outline F1932 m,ty 1n5,1n6 j 9x|coffee-maker-outline F181B m  p 3r|coffee-off F0FAA ty 1n7,1n8,1n9,1na,1nb j si|coffee-off-outline F0FAB ty 1nc,1nd,1ne,1nf,1ng j si|coffee-outline F06CA ty 1nh,1ni,x5,1nj,1nk p 44|coffee-to-go F0177 ty 1nl,1nm,1nn,1no,1np w f|coffee-to-go-outline F130E ty 1nq,1nr,1ns,1nt,1nu e 28|coffin F0B7F u6 1nv,1nw j 13|cog F0493 3h 1nx,1ny p f|cog-box F0494 3h 1nz,1o0,1o1 p f|cog-clockwise F11DD 3h  93 ci|cog-counterclockwise F11DE 3h  93 ci|cog-off F13CE 3h 1o2 e sf|cog-off-outline F13CF 3h 1o3 j sf|cog-outline F08BB 3h 1o4,1o5 p 4x|cog-pause F1933 3h 1o6,1o7 j 9x|cog-pause-outline F1934 3h 1o8,1o9 j 9x|cog-play F1935 3h 1oa,1ob j 9x|cog-play-outline F1936 3h 1oc,1od j 9x|cog-refresh F145E 3h 1oe j ar|cog-refresh-outline F145F 3h 1of j ar|cog-stop F1937 3h 1og,1oh j 9x|cog-stop-outline F1938 3h 1oi,1oj j 9x|cog-sync F1460 3h 1ok j ar|cog-sync-outline F1461 3h 1ol j ar|cog-transfer F105B 3h 1om 1 1y|cog-transfer-outline F105C 3h 1on 1 1y|cogs F08D6 3h 1nx,1oo p 6f|collage F0640  1op p 3y|collapse-all F0AA6  1oq j 30|collapse-all-outline F0AA7  1or j 30|color-helper F0179 d2,117 1os p f|comma F0E23   1 sb|comma-box F0E2B   1 sb|comma-box-outline F0E24   1 sb|comma-circle F0E25   1 sb|comma-circle-outline F0E26   1 sb|comment F017A   w f|comment-account F017B l 1ot,1ou w f|comment-account-outline F017C l 1ov,1ow w f|comment-alert F017D q 1ox w f|comment-alert-outline F017E q 1oy w f|comment-arrow-left F09E1  1oz j of|comment-arrow-left-outline F09E2  1p0 j of|comment-arrow-right F09E3  1p1 j of|comment-arrow-right-outline F09E4  1p2 j of|comment-bookmark F15AE   j lr|comment-bookmark-outline F15AF   j lr|comment-check F017F  1p3 w f|comment-check-outline F0180  1p4 w f|comment-edit F11BF 41  j ci|comment-edit-outline F12C4 41  j 28|comment-eye F0A3A   j qy|comment-eye-outline F0A3B   j qy|comment-flash F15B0  1p5 j lr|comment-flash-outline F15B1  1p6 j lr|comment-minus F15DF   4 c0|comment-minus-outline F15E0   4 c0|comment-multiple F085F  1p7 1 4i|comment-multiple-outline F0181  1p8 w f|comment-off F15E1   4 c0|comment-off-outline F15E2   4 c0|comment-outline F0182   w f|comment-plus F09E5  1p9 5u of|comment-plus-outline F0183  1pa w f|comment-processing F0184   w f|comment-processing-outline F0185   w f|comment-question F0817  1pb w 7w|comment-question-outline F0186  1pc e f|comment-quote F1021  1pd j 1y|comment-quote-outline F1022  1pe j 1y|comment-remove F05DE   w f|comment-remove-outline F0187   w f|comment-search F0A3C   4h qy|comment-search-outline F0A3D   4h qy|comment-text F0188   w f|comment-text-multiple F0860  1pf 1 4i|comment-text-multiple-outline F0861  1pg 1 4i|comment-text-outline F0189   w f|compare F018A  12g p f|compare-horizontal F1492 oc  p cq|compare-remove F18B3   11v a6|compare-vertical F1493 oc  p cq|compass F018B av,ob 1ph p f|compass-off F0B80 ob,av  p 13|compass-off-outline F0B81 ob,av  p 13|compass-outline F018C av,ob  1k4 f|compass-rose F1382 av  1 9|compost F1A38 3m,wq 1pi,1pj p uz|cone F194C 1ie  4 9x|cone-off F194D 1ie  4 9x|connection F1616 m 1pk j c0|console F018D  1pl w f|console-line F07B7  1pm w bq|console-network F08A9  1pn 1 4x|console-network-outline F0C60  1po j k|consolidate F10D8   j 35|contactless-payment F0D6A 2g  1 ao|contactless-payment-circle F0321 2g  p f|contactless-payment-circle-outline F0408 2g  j f|contacts F06CB   p 44|contacts-outline F05B8   p f|contain F0A3E   1 qy|contain-end F0A3F   1 qy|contain-start F0A40   1 qy|content-copy F018F d2  p f|content-cut F0190 1pp,d2 1pq,1pr p f|content-duplicate F0191   w f|content-paste F0192 d2  p f|content-save F0193  1ps,1pt p f|content-save-alert F0F42 q 1pu 1 si|content-save-alert-outline F0F43 q 1pv 1 si|content-save-all F0194  1pw w f|content-save-all-outline F0F44  1px j si|content-save-check F18EA   j a6|content-save-check-outline F18EB   j a6|content-save-cog F145B 3h 1py j ar|content-save-cog-outline F145C 3h 1pz j ar|content-save-edit F0CFB 41 1q0 j 83|content-save-edit-outline F0CFC 41 1q1 j 83|content-save-minus F1B43   1q2 1k|content-save-minus-outline F1B44   1q2 1k|content-save-move F0E27  1q3 1 sb|content-save-move-outline F0E28  1q4 1 sb|content-save-off F1643   4 ug|content-save-off-outline F1644   4 ug|content-save-outline F0818   p 7w|content-save-plus F1B41  1q5 1q2 1k|content-save-plus-outline F1B42  1q6 1q2 1k",
+    "content-save-settings F061B 3h 1q7 e 3y|content-save-settings-outline F0B2E 3h 1q8 1q9 5v|contrast F0195   w f|contrast-box F0196   p f|contrast-circle F0197   p f|controller F02B4 po 1qa p f|controller-classic F0B82 po 1qb w 13|controller-classic-outline F0B83 po 1qc w 13|controller-off F02B5 po 1qd p f|cookie F0198 ty 1qe p f|cookie-alert F16D0 ty,q 1qf 4 yu|cookie-alert-outline F16D1 ty,q 1qg 4 yu|cookie-check F16D2 ty 1qh 4 yu|cookie-check-outline F16D3 ty 1qi 4 yu|cookie-clock F16E4 ty,3a 1qj 4 5|cookie-clock-outline F16E5 ty,3a 1qk 4 5|cookie-cog F16D4 ty,3h 1ql 4 yu|cookie-cog-outline F16D5 ty,3h 1qm 4 yu|cookie-edit F16E6 ty,41 1qn 4 5|cookie-edit-outline F16E7 ty,41 1qo 4 5|cookie-lock F16E8 ty,59 1qp 4 5|cookie-lock-outline F16E9 ty,59 1qq 4 5|cookie-minus F16DA ty 1qr 4 yu|cookie-minus-outline F16DB ty 1qs 4 yu|cookie-off F16EA ty 1qt 4 5|cookie-off-outline F16EB ty 1qu 4 5|cookie-outline F16DE ty 1qv 4 yu|cookie-plus F16D6 ty 1qw 4 yu|cookie-plus-outline F16D7 ty 1qx 4 yu|cookie-refresh F16EC ty 1qy 4 5|cookie-refresh-outline F16ED ty 1qz 4 5|cookie-remove F16D8 ty 1r0 4 yu|cookie-remove-outline F16D9 ty 1r1 4 yu|cookie-settings F16DC ty,3h 1r2,1r3,1r4 4 yu|cookie-settings-outline F16DD ty,3h 1r5,1r6,1r7 4 yu|coolant-temperature F03C8 ak  e f|copyleft F1939   j 9x|copyright F05E6   p f|cordova F0958 la,0  4s 1x|corn F07B8 3m,ty  11r bq|corn-off F13EF ty,3m  j sf|cosine-wave F1479 c7 1r8,1r9 8 ar|counter F0199 ak 1ra,1rb,1rc l8 f|countertop F181C m 1rd,1re p 3r|countertop-outline F181D m 1rf,1rg p 3r|cow F019A vn,3m 1rh,1ri w f|cow-off F18FC ty,3m,vn 1rj,1rk j 9x|cpu-32-bit F0EDF  1rl 4h t7|cpu-64-bit F0EE0  1rm 4h t7|cradle F198B a1,m 1rn,1ro,1rp,1rq,1rr p 5i|cradle-outline F1991 a1,m 1ro,1rn,1rp,1rs,1rt p 5i|crane F0862   j 4i|creation F0674  1ru p c6|creation-outline F1C2B  1rv 2d ry|creative-commons F0D6B la  4s ao|credit-card F0FEF 2f,2g  1 2|credit-card-check F13D0 2f  j sf|credit-card-check-outline F13D1 2f  j sf|credit-card-chip F190F 2f 1rw 2d 9x|credit-card-chip-outline F1910 2f 1rx 2d 9x|credit-card-clock F0EE1 2f,3a  1 t7|credit-card-clock-outline F0EE2 2f,3a  1 t7|credit-card-edit F17D7 41,2f  2d 3r|credit-card-edit-outline F17D8 41,2f  2d 3r|credit-card-fast F1911 2f 1ry 2d 9x|credit-card-fast-outline F1912 2f 1rz 2d 9x|credit-card-lock F18E7 2f,59  j a6|credit-card-lock-outline F18E8 2f,59  j a6|credit-card-marker F06A8 2f,av 1s0,1s1 j c6|credit-card-marker-outline F0DBE 2f,av 1ac,1s2,1s3 j ap|credit-card-minus F0FAC 2f  1 2|credit-card-minus-outline F0FAD 2f  1 2|credit-card-multiple F0FF0 2f  1 2|credit-card-multiple-outline F019C 2f 1s4 w f|credit-card-off F0FF1 2f  1 2|credit-card-off-outline F05E4 2f  w f|credit-card-outline F019B v0,2f,2g 1s5 p f|credit-card-plus F0FF2 2f  1 2|credit-card-plus-outline F0676 2f 1s6 w c6|credit-card-refresh F1645 2f  4 ug|credit-card-refresh-outline F1646 2f  4 ug|credit-card-refund F0FF3 2f  1 2|credit-card-refund-outline F0AA8 2f  1 30|credit-card-remove F0FAE 2f  1 2|credit-card-remove-outline F0FAF 2f  1 2|credit-card-scan F0FF4 2f  1 2|credit-card-scan-outline F019D 2f  w f|credit-card-search F1647 2f  4 ug|credit-card-search-outline F1648 2f  4 ug|credit-card-settings F0FF5 2f,3h  1 2|credit-card-settings-outline F08D7 2f,3h 1s7 5u 6f|credit-card-sync F1649 2f  4 ug|credit-card-sync-outline F164A 2f  4 ug|credit-card-wireless F0802 2g,2f  j 7w|credit-card-wireless-off F057A 2f  e f|credit-card-wireless-off-outline F057B 2f  e f|credit-card-wireless-outline F0D6C 2g,2f 1s8 1 ao|cricket F0D6D pp 1s9 p ao|crop F019E   p f|crop-free F019F   p f|crop-landscape F01A0  1sa p f|crop-portrait F01A1   p f|crop-rotate F0696   p c6|crop-square F01A2   p f|cross F0953 z0,u6 1sb,1sc le 1x|cross-bolnisi F0CED z0  j 83|cross-celtic F0CF5 z0,u6  j 83|cross-outline F0CF6 z0 1sd,1se j 83|crosshairs F01A3 ob 1sf,1sg p f|crosshairs-gps F01A4 av,ob 1sh,1si p f|crosshairs-off F0F45 ob  p si|crosshairs-question F1136 av,ob 1sj,1sk p 5e|crowd F1975 l,a1 1sl,1sm,1sn p 5i|crown F01A5   w f|crown-circle F17DC po 1so j 3r|crown-circle-outline F17DD po 1sp j 3r|crown-outline F11D0   mb ci|cryengine F0959 la  4s 1x|crystal-ball F0B2F po  w 5v|cube F01A6 1ie  w f|cube-off F141C   j ar|cube-off-outline F141D ty 1sq,1sr,1ss j ar|cube-outline F01A7 1ie,ty 1st,1su w f|cube-scan F0B84  1sv,1sw p 13|cube-send F01A8   e f|cube-unfolded F01A9   w f|cup F01AA ty 1sx,x3 w f|cup-off F05E5 ty 1sy,1n7 w f|cup-off-outline F137D ty 1sz,1nc e 9|cup-outline F130F ty 1t0,x5,1t1 e 28|cup-water F01AB ty 1t2,1t3,1t4,1t5,1t6 p f|cupboard F0F46 m  4h si|cupboard-outline F0F47 m  4h si|cupcake F095A ty  le 1x|curling F0863 pp  le 4i|currency-bdt F0864 2f,2g 1t7,1t8 1 4i|currency-brl F0B85 2f,2g 1t9 w 13|currency-btc F01AC 2g,2f 1ta p f|currency-cny F07BA 2g,2f 1tb,1tc p bq|currency-eth F07BB 2g,2f 1td,1te 5u bq|currency-eur F01AD 2g,2f 1tf,1tg p f|currency-eur-off F1315 2g,2f  j 28|currency-fra F1A39 2g,2f  p uz|currency-gbp F01AE 2g,2f 1th,1ti p f|currency-ils F0C61 2f,2g  w k|currency-inr F01AF 2g,2f 1tj w f|currency-jpy F07BC 2g,2f 1tk p bq|currency-krw F07BD 2g,2f 1tl 8 bq|currency-kzt F0865 2f,2g 1tm 3o 4i|currency-mnt F1512 2g,2f 1tn 4 i|currency-ngn F01B0 2g,2f 1to w f|currency-php F09E6 2f,2g 1tp 1 of|currency-rial F0E9C 2g,2f 1tq,1tr,1ts,1tt,1tu 8 3p|currency-rub F01B1 2g,2f 1tv p f|currency-rupee F1976 2f,2g 1tw,1tx,1ty,1tz p 5i|currency-sign F07BE 2g,2f 1u0 1 bq|currency-thb F1C05 2f 1u1 j a0|currency-try F01B2 2g,2f 1u2 p f|currency-twd F07BF 2g,2f 1u3 8 bq|currency-uah F1B9B 2f 1u4,1u5 j 2e|currency-usd F01C1 2g,2f 1u6,1u7 p f|currency-usd-off F067A 2g,2f 1u8,1u9 p c6|current-ac F1480  1ua j cq|current-dc F095C vo 1ub le 1x|cursor-default F01C0   w f|cursor-default-click F0CFD   j 83|cursor-default-click-outline F0CFE   j 83|cursor-default-gesture F1127   j 35|cursor-default-gesture-outline F1128   1uc 35|cursor-default-outline F01BF   w f|cursor-move F01BE   w f|cursor-pointer F01BD  1ud w f|cursor-text F05E7   w f|curtains F1846 m 1ue,yl xv 15|curtains-closed F1847 m 1uf,yf xv 15|cylinder F194E 1ie  4 9x|cylinder-off F194F 1ie  4 9x|dance-ballroom F15FB a1 1ug j c0|dance-pole F1578 pp,a1 1uh,1ui 8 lr|data-matrix F153C   1uj i|data-matrix-edit F153D 41  1uj i|data-matrix-minus F153E   1uj i|data-matrix-plus F153F   1uj i|data-matrix-remove F1540   1uj i|data-matrix-scan F1541   1uj i|database F01BC ob,1uk 1ul e f|database-alert F163A 1uk,q  4 ug|database-alert-outline F1624 1uk,q  4 ug|database-arrow-down F163B 1uk  4 ug|database-arrow-down-outline F1625 1uk  4 ug|database-arrow-left F163C 1uk  4 ug|database-arrow-left-outline F1626 1uk  4 ug|database-arrow-right F163D 1uk  4 ug|database-arrow-right-outline F1627 1uk  4 ug|database-arrow-up F163E 1uk  4 ug|database-arrow-up-outline F1628 1uk  4 ug|database-check F0AA9 ob,1uk 1um 13h 30|database-check-outline F1629 1uk  4 ug|database-clock F163F 1uk,3a  4 ug|database-clock-outline F162A 1uk,3a  4 ug|database-cog F164B 1uk,3h  4 ug|database-cog-outline F164C 1uk,3h  4 ug|database-edit F0B86 41,ob,1uk  1 13|database-edit-outline F162B 1uk,41  4 ug|database-export F095E ob,1uk  1 1x|database-export-outline F162C 1uk  4 ug|database-eye F191F 1uk 1un j 9x|database-eye-off F1920 1uk 1uo j 9x|database-eye-off-outline F1921 1uk 1up j 9x|database-eye-outline F1922 1uk 1uq j 9x|database-import F095D ob,1uk  1 1x|database-import-outline F162D 1uk  4 ug|database-lock F0AAA 59,ob,1uk  13h 30|database-lock-outline F162E 1uk,59  4 ug|database-marker F12F6 ob,1uk,av 1ur j 28|database-marker-outline F162F 1uk,av 1us 4 ug|database-minus F01BB ob,1uk  e f|database-minus-outline F1630 1uk  4 ug|database-off F1640 1uk  4 ug|database-off-outline F1631 1uk  4 ug|database-outline F1632 1uk  4 ug|database-plus F01BA ob,1uk 1ut e f|database-plus-outline F1633 1uk  4 ug|database-refresh F05C2 1uk  1 f|database-refresh-outline F1634 1uk  4 ug|database-remove F0D00 ob,1uk  1 83|database-remove-outline F1635 1uk  4 ug|database-search F0866 ob,1uk 1uu 4h 4i|database-search-outline F1636 1uk  4 ug|database-settings F0D01 3h,ob,1uk  1 83|database-settings-outline F1637 1uk,3h  4 ug|database-sync F0CFF ob,1uk  1 83|database-sync-outline F1638 1uk  4 ug|death-star F08D8   4 6f",
+    "death-star-variant F08D9   4 6f|deathly-hallows F0B87  1uv 1 13|debian F08DA la  4s 6f|debug-step-into F01B9   w f|debug-step-out F01B8   w f|debug-step-over F01B7  v2,1uw w f|decagram F076C 1ie 1ux w cy|decagram-outline F076D 1ie 1uy w cy|decimal F10A1 3  1 2i|decimal-comma F10A2 3  1 2i|decimal-comma-decrease F10A3 3  1 2i|decimal-comma-increase F10A4 3  1 2i|decimal-decrease F01B6 3  e f|decimal-increase F01B5 3  e f|delete F01B4  1uz,1v0,1v1,1v2,1v3,1v4,1v5 p f|delete-alert F10A5 q  yk 2i|delete-alert-outline F10A6 q  yk 2i|delete-circle F0683  1v6,1v7,1v8,1v9,1va,1vb,1vc w c6|delete-circle-outline F0B88  1vd,1ve,1vf,1vg,1vh,1vi,1vj 1m5 13|delete-clock F1556 3a  m2 lr|delete-clock-outline F1557 3a  m2 lr|delete-empty F06CC  1vk,1vl,1vm,1vn,1vo,1vp,1vq w 44|delete-empty-outline F0E9D   w 3p|delete-forever F05E8   p f|delete-forever-outline F0B89   p 13|delete-off F10A7   yk 2i|delete-off-outline F10A8   yk 2i|delete-outline F09E7  1vr,1vs,1vt,1vu,1vv,1vw,1vx p of|delete-restore F0819  1vy,1vz,1w0 p 7w|delete-sweep F05E9   p f|delete-sweep-outline F0C62   p k|delete-variant F01B3  1w1,1w2,1w3,1w4 w f|delta F01C2 3,6 1w5 p f|desk F1239   1w6 6s|desk-lamp F095F m  4s 1x|desk-lamp-off F1B1F m  j 1k|desk-lamp-on F1B20 m  j 1k|deskphone F01C3 15k,160  1w7 f|desktop-classic F07C0 160,m 1w8 4h bq|desktop-tower F01C5 160,m  1w7 f|desktop-tower-monitor F0AAB 160  uk 30|details F01C6   p f|dev-to F0D6E la  4s ao|developer-board F0697   p c6|deviantart F01C7 la  4s f|devices F0FB0 160,m,15k 1w9,1wa,1wb,1b6,1wc,1wd p 2|dharmachakra F094B z0 1we,1wf,1wg le 1x|diabetes F1126 4u 1wh 1 35|dialpad F061C  1wi p 3y|diameter F0C63 3 1wj,1wk 1 k|diameter-outline F0C64 3 1wl,1wm 1 k|diameter-variant F0C65 3 1wn,1wo 1 k|diamond F0B8A   1 13|diamond-outline F0B8B   1 13|diamond-stone F01C8  1wp e f|dice-1 F01CA po 1wq,1wr yb f|dice-1-outline F114A po  j 5e|dice-2 F01CB po 1ws,1wt yb f|dice-2-outline F114B po  j 5e|dice-3 F01CC po 1wu,1wv yb f|dice-3-outline F114C po  j 5e|dice-4 F01CD po 1ww,1wx yb f|dice-4-outline F114D po  j 5e|dice-5 F01CE po 1wy,1wz yb f|dice-5-outline F114E po  j 5e|dice-6 F01CF po 1x0,1x1 yb f|dice-6-outline F114F po  j 5e|dice-d10 F1153 po  j 5e|dice-d10-outline F076F po 1x2 w cy|dice-d12 F1154 po  j 5e|dice-d12-outline F0867 po  1 4i|dice-d20 F1155 po  j 5e|dice-d20-outline F05EA po 1x3 w f|dice-d4 F1150 po  j 5e|dice-d4-outline F05EB po 1x4 w f|dice-d6 F1151 po  j 5e|dice-d6-outline F05ED po 1x5 w f|dice-d8 F1152 po  j 5e|dice-d8-outline F05EC po 1x6 w f|dice-multiple F076E po 1x7 1 cy|dice-multiple-outline F1156 po  j 5e|digital-ocean F1237 0,la  1 6s|dip-switch F07C1   w bq|directions F01D0   p f|directions-fork F0641   p 3y|disc F05EE c8 1x8,1x9 e f|disc-alert F01D1 q 1xa,1xb p f|disc-player F0960 m,160  w 1x|dishwasher F0AAC m  p 30|dishwasher-alert F11B8 m,q  j ci|dishwasher-off F11B9 m  j ci|disqus F01D2 la  4s f|distribute-horizontal-center F11C9   j ci|distribute-horizontal-left F11C8   j ci|distribute-horizontal-right F11CA   j ci|distribute-vertical-bottom F11CB   j ci|distribute-vertical-center F11CC   j ci|distribute-vertical-top F11CD   j ci|diversify F1877   e 15|diving F1977 pp,a1 1xc,1xd p 5i|diving-flippers F0DBF pp  1 ap|diving-helmet F0DC0   1 ap|diving-scuba F1B77 pp  p 2e|diving-scuba-flag F0DC2   1 ap|diving-scuba-mask F0DC1 pp  1 ap|diving-scuba-tank F0DC3   1 ap|diving-scuba-tank-multiple F0DC4   1 ap|diving-snorkel F0DC5 pp  1 ap|division F01D4 3 1xe w f|division-box F01D5 3  w f|dlna F0A41 la  4s qy|dna F0684 r3 1xf 8 c6|dns F01D6   p f|dns-outline F0B8C   p 13|dock-bottom F10A9   1 2i|dock-left F10AA   1 2i|dock-right F10AB   1 2i|dock-top F1513   j i|dock-window F10AC   1 2i|docker F0868 la  4s 4i|doctor F0A42 4u  3o qy|dog F0A43 vn 1xg,1xh j qy|dog-service F0AAD vn 1xi,1xj,1xk 1 30|dog-side F0A44 vn 1xj,1xk le qy|dog-side-off F16EE vn  4 5|dolby F06B3 c7,la,m  4s lc|dolly F0E9E  1xl,198 j 3p|dolphin F18B4 vn 1xm 4 a6|domain F01D7 bm 1xn,1xo,1xp p f|domain-off F0D6F   p ao|domain-plus F10AD   1 2i|domain-remove F10AE   1 2i|domain-switch F1C2C   2d ry|dome-light F141E   1xq ar|domino-mask F1023  1xr,1xs 13h 1y|donkey F07C2 vn  4s bq|door F081A m  8 7w|door-closed F081B m  8 7w|door-closed-lock F10AF m,59  1 2i|door-open F081C m  8 7w|door-sliding F181E m 1xt,1xu p 3r|door-sliding-lock F181F m,59 1xv,1xw j 3r|door-sliding-open F1820 m 1xx,1xy j 3r|doorbell F12E6 m  j 28|doorbell-video F0869 m  4h 4i|dot-net F0AAE 0,la 1xz 4s 30|dots-circle F1978  1y0 j 5i|dots-grid F15FC   2d c0|dots-hexagon F15FF   2d c0|dots-horizontal F01D8  1y1,1y2,1y3,1y4 p f|dots-horizontal-circle F07C3  1y5,1y6,1y4 p bq|dots-horizontal-circle-outline F0B8D  1y7,1y8,1y4 1 13|dots-square F15FD  1y0 2d c0|dots-triangle F15FE   2d c0|dots-vertical F01D9  1y9,1ya,1y4 p f|dots-vertical-circle F07C4  1yb,1y4 w bq|dots-vertical-circle-outline F0B8E  1yc,1y4 1 13|download F01DA  1yd,1ye p f|download-box F1462   w ar|download-box-outline F1463   w ar|download-circle F1464   w ar|download-circle-outline F1465   w ar|download-lock F1320 59  1 9|download-lock-outline F1321 59  1 9|download-multiple F09E9  1yf 4h of|download-network F06F4   w 44|download-network-outline F0C66   j k|download-off F10B0   j 2i|download-off-outline F10B1   j 2i|download-outline F0B8F   p 13|drag F01DB   w f|drag-horizontal F01DC   w f|drag-horizontal-variant F12F0   p 28|drag-variant F0B90   w 13|drag-vertical F01DD   w f|drag-vertical-variant F12F1   j 28|drama-masks F0D02  1yg,1yh,1yi 3o 83|draw F0F49 qu,13f 1yj,1yk j si|draw-pen F19B9 13f,qu 1yj,1yk j 5i|drawing F01DE qu,1ie  w f|drawing-box F01DF qu,1ie  p f|dresser F0F4A m  4h si|dresser-outline F0F4B m  4h si|drone F01E2 a4  w f|dropbox F01E3 la  4s f|drupal F01E4 la  4s f|duck F01E5 vn  w f|dumbbell F01E6 pp 1yl,1ym,1yn,1yo p f|dump-truck F0C67 l5,sc 1yp j k|ear-hearing F07C5 4u  p bq|ear-hearing-loop F1AEE 4u 1yq,1yr j a9|ear-hearing-off F0A45 4u 1ys 1yt qy|earbuds F184F c7,c8 1yu 4 15|earbuds-off F1850 c7,c8 1yv 4 15|earbuds-off-outline F1851 c7,c8 1yw 4 15|earbuds-outline F1852 c7,c8 1yx 4 15|earth F01E7 ob,av 1yy,1yz,1z0,1z1 p f|earth-arrow-right F1311 av 1z2,1z3,1z4 j 28|earth-box F06CD av 1z5,1z6,1z7 4h 44|earth-box-minus F1407 av 1z8,1z9,1za 1zb sf|earth-box-off F06CE av 1zc,1zd,1ze 4h 44|earth-box-plus F1406 av 1zf,1zg,1zh 1zb sf|earth-box-remove F1408 av 1zi,1zj,1zk 1zb sf|earth-minus F1404 av 1zl,1zm,1zn 1zb sf|earth-off F01E8 ob,av 1zo,1zp,1zq w f|earth-plus F1403 av 1zr,1zs,1zt 1zb sf|earth-remove F1405 av 1zu,1zv,1zw 1zb sf|egg F0AAF ty,3m  1 30|egg-easter F0AB0 u6  1 30|egg-fried F184A ty  j 15|egg-off F13F0 ty,3m  j sf|egg-off-outline F13F1 ty,3m  j sf|egg-outline F13F2 ty,3m  j sf|eiffel-tower F156B bm 1zx,1zy 13e lr|eight-track F09EA c8 1zz 4h of|eject F01EA   p f|eject-circle F1B23   j 1k|eject-circle-outline F1B24   j 1k|eject-outline F0B91   p 13|electric-switch F0E9F   12w 3p|electric-switch-closed F10D9   j 35|electron-framework F1024 la,0  4s 1y|elephant F07C6 vn  4s bq|elevation-decline F01EB   w f|elevation-rise F01EC   w f|elevator F01ED as  w f|elevator-down F12C2 as  w 28|elevator-passenger F1381 as  p 9|elevator-passenger-off F1979 as  j 5i|elevator-passenger-off-outline F197A as  j 5i|elevator-passenger-outline F197B as  p 5i|elevator-up F12C1 as  w 28|ellipse F0EA0 1ie  1 3p|ellipse-outline F0EA1 1ie  1 3p|email F01EE  200,201,202,203 p f|email-alert F06CF q 204,205,206 w 44|email-alert-outline F0D42 q  j ao|email-arrow-left F10DA  207 1 35|email-arrow-left-outline F10DB  208 1 35|email-arrow-right F10DC  209 1 35|email-arrow-right-outline F10DD  20a 1 35|email-box F0D03  20b 4h 83|email-check F0AB1  20c 13h 30|email-check-outline F0AB2  20d 13h 30|email-edit F0EE3 41  1 t7|email-edit-outline F0EE4 41  1 t7|email-fast F186F  20e,20f,20g,209 4 15|email-fast-outline F1870  20h,20i,20j,20k 4 15|email-heart-outline F1C5B  20l,20m,20n 2d ry|email-lock F01F1 59 20o,20p,20q e f|email-lock-outline F1B61 59 20r j 2e|email-mark-as-unread F0B92   p 13|email-minus F0EE5   j t7|email-minus-outline F0EE6   j t7|email-multiple F0EE7   w t7|email-multiple-outline F0EE8   w t7|email-newsletter F0FB1   4h 2|email-off F13E3   j sf|email-off-outline F13E4   j sf|email-open F01EF  20s,20t w f",
+    "email-open-heart-outline F1C5C  20u,20v,20w 2d ry|email-open-multiple F0EE9   w t7|email-open-multiple-outline F0EEA   w t7|email-open-outline F05EF  20x w f|email-outline F01F0  20y,20z p f|email-plus F09EB  210,211,212 4h of|email-plus-outline F09EC  213,214,215 4h of|email-remove F1661   4 ug|email-remove-outline F1662   4 ug|email-seal F195B  216,217,218,219,21a j 9x|email-seal-outline F195C  21b,21c,21d,21e,21f j 9x|email-search F0961   4h 1x|email-search-outline F0962   4h 1x|email-sync F12C7  21g,21h e 28|email-sync-outline F12C8  21i,21j e 28|email-variant F05F0  21k w f|ember F0B30 la  4s 5v|emby F06B4 la  4s lc|emoticon F0C68 21l 21m,21n,21o p k|emoticon-angry F0C69 21l 21p,21q,21r j k|emoticon-angry-outline F0C6A 21l 21s,21t,21u j k|emoticon-confused F10DE 21l 21v,21w 1 35|emoticon-confused-outline F10DF 21l 21x,21y 1 35|emoticon-cool F0C6B 21l 21z,220,221,222 j k|emoticon-cool-outline F01F3 21l 223,224,225,226 w f|emoticon-cry F0C6C 21l 227,228,229 j k|emoticon-cry-outline F0C6D 21l 22a,22b,22c j k|emoticon-dead F0C6E 21l 22d,22e,22f p k|emoticon-dead-outline F069B 21l 22g,22h,22i p c6|emoticon-devil F0C6F 21l 22j,22k,22l w k|emoticon-devil-outline F01F4 21l 22m,22n,22o w f|emoticon-excited F0C70 21l 22p,22q,22r p k|emoticon-excited-outline F069C 21l 22s,22t,22u p c6|emoticon-frown F0F4C 21l 22v,22w j si|emoticon-frown-outline F0F4D 21l 22x,22y p si|emoticon-happy F0C71 21l 22z,230,231 j k|emoticon-happy-outline F01F5 21l 232,233,234 1k4 f|emoticon-kiss F0C72 21l 235,236,237 j k|emoticon-kiss-outline F0C73 21l 238,239,23a j k|emoticon-lol F1214 21l 23b,23c 1 6s|emoticon-lol-outline F1215 21l 23d,23e 1 6s|emoticon-neutral F0C74 21l 23f,23g,23h j k|emoticon-neutral-outline F01F6 21l 23i,23j,23k w f|emoticon-outline F01F2 21l 23l,23m,23n,23o,23p,23q,23r p f|emoticon-poop F01F7 21l 23s,23t,23u w f|emoticon-poop-outline F0C75 21l 23v,23w j k|emoticon-sad F0C76 21l 23x,23y,23z j k|emoticon-sad-outline F01F8 21l 240,241,242 1k4 f|emoticon-sick F157C 21l,4u 243,244,245 p lr|emoticon-sick-outline F157D 21l,4u 246,247,248 p lr|emoticon-tongue F01F9 21l 249,24a,24b w f|emoticon-tongue-outline F0C77 21l 24c,24d,24e j k|emoticon-wink F0C78 21l 24f,24g,24h j k|emoticon-wink-outline F0C79 21l 24i,24j,24k j k|engine F01FA ak 24l e f|engine-off F0A46 ak 24m j qy|engine-off-outline F0A47 ak 24n j qy|engine-outline F01FB ak 24o e f|epsilon F10E0 6  34 35|equal F01FC 3  w f|equal-box F01FD 3  w f|equalizer F0EA2 c7  p 3p|equalizer-outline F0EA3 c7  j 3p|eraser F01FE   w f|eraser-variant F0642   p 3y|escalator F01FF as  w f|escalator-box F1399   sm yt|escalator-down F12C0 as  w 28|escalator-up F12BF as  w 28|eslint F0C7A 0,la  4s k|et F0AB3   j 30|ethereum F086A la  4s 4i|ethernet F0200   e f|ethernet-cable F0201   e f|ethernet-cable-off F0202   e f|ev-plug-ccs1 F1519 ak 24p,24q j i|ev-plug-ccs2 F151A ak 24r,24s j i|ev-plug-chademo F151B ak 24t j i|ev-plug-tesla F151C ak 24u j i|ev-plug-type1 F151D ak 24v,24w j i|ev-plug-type2 F151E ak 24x,24y j i|ev-station F05F1 bm,ak 24z,250,251,252,253,254,255 p f|evernote F0204 la  4s f|excavator F1025 sc  j 1y|exclamation F0205 3 256 w f|exclamation-thick F1238  257 mb 6s|exit-run F0A48 m 258 e qy|exit-to-app F0206   p f|expand-all F0AB4  259 j 30|expand-all-outline F0AB5  25a j 30|expansion-card F08AE po 25b,25c,25d,25e 4h 4x|expansion-card-variant F0FB2  25c,25b,25e,25f 1 2|exponent F0963 3 25g le 1x|exponent-box F0964 3 25h le 1x|export F0207  25i w f|export-variant F0B93  25j p 13|eye F0208  25k,25l,25m p f|eye-arrow-left F18FD  25n j 9x|eye-arrow-left-outline F18FE  25o j 9x|eye-arrow-right F18FF  25p j 9x|eye-arrow-right-outline F1900  25q j 9x|eye-check F0D04  25r w 83|eye-check-outline F0D05  25s w 83|eye-circle F0B94   1 13|eye-circle-outline F0B95   1 13|eye-lock F1C06   j a0|eye-lock-open F1C07   j a0|eye-lock-open-outline F1C08   j a0|eye-lock-outline F1C09   j a0|eye-minus F1026   j 1y|eye-minus-outline F1027   j 1y|eye-off F0209  25t,25u p f|eye-off-outline F06D1  25v,25w w 44|eye-outline F06D0  25x,25y w 44|eye-plus F086B  25z 4h 4i|eye-plus-outline F086C  260 4h 4i|eye-refresh F197C  261 134 5i|eye-refresh-outline F197D  262 134 5i|eye-remove F15E3   4 c0|eye-remove-outline F15E4   4 c0|eye-settings F086D 3h  1 4i|eye-settings-outline F086E 3h  1 4i|eyedropper F020A 117,qu,r3 263 w f|eyedropper-minus F13DD r3  j sf|eyedropper-off F13DF r3  j sf|eyedropper-plus F13DC r3  j sf|eyedropper-remove F13DE r3  j sf|eyedropper-variant F020B 117,r3 264,265,266 p f|face-agent F0D70  267,268,269,26a 26b ao|face-man F0643 a1 26c,26d,26e p 3y|face-man-outline F0B96 a1 26f,26g,26h p 13|face-man-profile F0644 a1 26i,26j,26k p 3y|face-man-shimmer F15CC ru,l,1pp,a1 26l,26m,26n,26o p c0|face-man-shimmer-outline F15CD a1,ru,1pp,l 26p,26q,26r,26s e c0|face-mask F1586 4u,11q  j lr|face-mask-outline F1587 4u,11q  j lr|face-recognition F0C7B ru 26t,26u 1 k|face-woman F1077 a1 26v,26w,26x j 2i|face-woman-outline F1078 a1 26y,26z,270 j 2i|face-woman-profile F1076 a1 271,272,273 j 2i|face-woman-shimmer F15CE a1,ru,1pp,l 274,275,276,277 e c0|face-woman-shimmer-outline F15CF a1,ru,1pp,l 278,279,27a,27b e c0|facebook F020C la,27c  4s f|facebook-gaming F07DD la  4s bq|facebook-messenger F020E la,27c  4s f|facebook-workplace F0B31 la,27c  4s 5v|factory F020F bm 27d w f|family-tree F160E a1  e c0|fan F0210 m,ak  w f|fan-alert F146C m,q  j ar|fan-auto F171D   1q2 5|fan-chevron-down F146D m 27e 4h ar|fan-chevron-up F146E m 27f 4h ar|fan-clock F1A3A m,3a 27g,27h,27i j uz|fan-minus F1470 m  j ar|fan-off F081D m,ak  4h 7w|fan-plus F146F m  j ar|fan-remove F1471 m  j ar|fan-speed-1 F1472 m 27j j ar|fan-speed-2 F1473 m 27k j ar|fan-speed-3 F1474 m 27l j ar|fast-forward F0211   p f|fast-forward-10 F0D71   w ao|fast-forward-15 F193A   j 9x|fast-forward-30 F0D06   w 83|fast-forward-45 F1B12   j 1k|fast-forward-5 F11F8   w 6s|fast-forward-60 F160B   z7 c0|fast-forward-outline F06D2   p 44|faucet F1B29 m 27m,27n,1re j 1k|faucet-variant F1B2A m 27n,27m,1re j 1k|fax F0212 1mg,15k  p f|feather F06D3 wq 27o e 44|feature-search F0A49  m6,nx e qy|feature-search-outline F0A4A  m6,nl,ny e qy|fedora F08DB la  4s 6f|fence F179A m,3m 27p,27q j 3r|fence-electric F17F6 m,3m 27r,27s j 3r|fencing F14C1 pp 27t p cq|ferris-wheel F0EA4   p 3p|ferry F0213 l9,av 27u,27v,27w,27x,27y p f|file F0214 1jc 27z,280,281 p f|file-account F073B l,1jc 282,283 w cy|file-account-outline F1028 1jc,l  z7 1y|file-alert F0A4B 1jc,q 284 e qy|file-alert-outline F0A4C 1jc,q 285 e qy|file-arrow-left-right F1A93 1jc 286,287,288 4 a9|file-arrow-left-right-outline F1A94 1jc 289,28a,28b 4 a9|file-arrow-up-down F1A95 1jc 286,288,287,28c 4 a9|file-arrow-up-down-outline F1A96 1jc 289,28a,28b,28d 4 a9|file-cabinet F0AB6 1jc 28e j 30|file-cad F0EEB 1jc  4h t7|file-cad-box F0EEC 1jc  4h t7|file-cancel F0DC6 1jc 167,16b j ap|file-cancel-outline F0DC7 1jc 167,16b j ap|file-certificate F1186 1jc  1 5e|file-certificate-outline F1187 1jc  1 5e|file-chart F0215 1jc 28f,28g e f|file-chart-check F19C6 1jc  e 4t|file-chart-check-outline F19C7 1jc  e 4t|file-chart-outline F1029 1jc 28h,28i z7 1y|file-check F0216 1jc 28j e f|file-check-outline F0E29 1jc  e sb|file-clock F12E1 1jc,3a  e 28|file-clock-outline F12E2 1jc,3a  e 28|file-cloud F0217 1m2,1jc  w f|file-cloud-outline F102A 1jc,1m2  z7 1y|file-code F022E 1jc,0  w f|file-code-outline F102B 1jc,0  z7 1y|file-cog F107B 3h,1jc 28k e 2i|file-cog-outline F107C 3h,1jc 28l e 2i|file-compare F08AA 1jc  j 4x|file-delimited F0218 1jc 28m w f|file-delimited-outline F0EA5 1jc 28n z7 3p|file-document F0219 1jc 28o w f|file-document-alert F1A97 1jc,q 28p,28q,28r e a9|file-document-alert-outline F1A98 1jc,q 28s,28t,28u e a9|file-document-arrow-right F1C0F 1jc 28v,28w,28x 1j a0|file-document-arrow-right-outline F1C10 1jc 28y,28z,290 1j a0|file-document-check F1A99 1jc 291,292,293 e a9|file-document-check-outline F1A9A 1jc 294,295,296 e a9|file-document-edit F0DC8 41,1jc 297,298 4h ap|file-document-edit-outline F0DC9 41,1jc 299,29a j ap|file-document-minus F1A9B 1jc 29b e a9|file-document-minus-outline F1A9C 1jc 29c e a9|file-document-multiple F1517 1jc 29d 29e i|file-document-multiple-outline F1518 1jc 29f j i|file-document-outline F09EE 1jc 29g p of",
+    "file-document-plus F1A9D 1jc 29h,29i,29j e a9|file-document-plus-outline F1A9E 1jc 29k,29l,29m e a9|file-document-refresh F1C7A 1jc  2d ry|file-document-refresh-outline F1C7B 1jc  2d ry|file-document-remove F1A9F 1jc 29n,29o,29p e a9|file-document-remove-outline F1AA0 1jc 29q,29r,29s e a9|file-download F0965 1jc  j 1x|file-download-outline F0966 1jc  j 1x|file-edit F11E7 41,1jc  mb ci|file-edit-outline F11E8 41,1jc  mb ci|file-excel F021B 1jc  w f|file-excel-box F021C 1jc  p f|file-excel-box-outline F102C 1jc  z7 1y|file-excel-outline F102D 1jc  z7 1y|file-export F021D 1jc  e f|file-export-outline F102E 1jc  z7 1y|file-eye F0DCA 1jc  j ap|file-eye-outline F0DCB 1jc  j ap|file-find F021E 1jc 29t,29u p f|file-find-outline F0B97 1jc  p 13|file-gif-box F0D78 1jc  j ao|file-hidden F0613 1jc  w f|file-image F021F 1jc  w f|file-image-marker F1772 1jc,av 29v 4 3r|file-image-marker-outline F1773 1jc,av 29w 4 3r|file-image-minus F193B 1jc  j 9x|file-image-minus-outline F193C 1jc  j 9x|file-image-outline F0EB0 1jc  z7 3p|file-image-plus F193D 1jc 29x j 9x|file-image-plus-outline F193E 1jc 29y j 9x|file-image-remove F193F 1jc  j 9x|file-image-remove-outline F1940 1jc  j 9x|file-import F0220 1jc  e f|file-import-outline F102F 1jc  z7 1y|file-jpg-box F0225 1jc 29z,2a0,2a1 j f|file-key F1184 1jc  1 5e|file-key-outline F1185 1jc  1 5e|file-link F1177 1jc  j 5e|file-link-outline F1178 1jc  j 5e|file-lock F0221 59,1jc  e f|file-lock-open F19C8 59,1jc  e 4t|file-lock-open-outline F19C9 59,1jc  e 4t|file-lock-outline F1030 1jc,59  e 1y|file-marker F1774 1jc,av 2a2 4 3r|file-marker-outline F1775 1jc,av 2a3 4 3r|file-minus F1AA1 1jc  e a9|file-minus-outline F1AA2 1jc  e a9|file-move F0AB9 1jc  w 30|file-move-outline F1031 1jc  z7 1y|file-multiple F0222 1jc 2a4 e f|file-multiple-outline F1032 1jc  z7 1y|file-music F0223 1jc,c8  w f|file-music-outline F0E2A 1jc,c8  z7 sb|file-outline F0224 1jc 2a5 p f|file-pdf-box F0226 1jc 2a6,2a7 e f|file-percent F081E 1jc  1 7w|file-percent-outline F1033 1jc  z7 1y|file-phone F1179 1jc,15k  2a8 5e|file-phone-outline F117A 1jc,15k  2a8 5e|file-plus F0752 1jc 2a9 e cy|file-plus-outline F0EED 1jc  e t7|file-png-box F0E2D 1jc  j sb|file-powerpoint F0227 1jc  w f|file-powerpoint-box F0228 1jc  p f|file-powerpoint-box-outline F1034 1jc  z7 1y|file-powerpoint-outline F1035 1jc  z7 1y|file-presentation-box F0229 1jc  p f|file-question F086F 1jc  4h 4i|file-question-outline F1036 1jc  z7 1y|file-refresh F0918 1jc  w 6f|file-refresh-outline F0541 1jc  w f|file-remove F0B98 1jc  e 13|file-remove-outline F1037 1jc  e 1y|file-replace F0B32 1jc  1 5v|file-replace-outline F0B33 1jc  1 5v|file-restore F0670 1jc 2aa p 3y|file-restore-outline F1038 1jc  z7 1y|file-rotate-left F1A3B 1jc 2ab,2ac j uz|file-rotate-left-outline F1A3C 1jc 2ad,2ae j uz|file-rotate-right F1A3D 1jc 2af j uz|file-rotate-right-outline F1A3E 1jc 2af j uz|file-search F0C7C 1jc  1 k|file-search-outline F0C7D 1jc  1 k|file-send F022A 1jc 2ag w f|file-send-outline F1039 1jc  z7 1y|file-settings F1079 3h,1jc  e 2i|file-settings-outline F107A 3h,1jc  e 2i|file-sign F19C3 2f,1jc 2ah,2ai j 5i|file-star F103A 1jc 2aj j 1y|file-star-four-points F1C2D 1jc 2ak 2d ry|file-star-four-points-outline F1C2E 1jc 2al 2d ry|file-star-outline F103B 1jc 2am 2an 1y|file-swap F0FB4 1jc 287 1 2|file-swap-outline F0FB5 1jc 28b 1 2|file-sync F1216 1jc  j 6s|file-sync-outline F1217 1jc  j 6s|file-table F0C7E 1jc  1 k|file-table-box F10E1 1jc  j 35|file-table-box-multiple F10E2 1jc  j 35|file-table-box-multiple-outline F10E3 1jc  j 35|file-table-box-outline F10E4 1jc  j 35|file-table-outline F0C7F 1jc  1 k|file-tree F0645 1jc 2ao 2ap 3y|file-tree-outline F13D2 1jc  j sf|file-undo F08DC 1jc 2aq,2ar 1 6f|file-undo-outline F103C 1jc  z7 1y|file-upload F0A4D 1jc  1 qy|file-upload-outline F0A4E 1jc  1 qy|file-video F022B 15m,1jc  w f|file-video-outline F0E2C 1jc  5u sb|file-word F022C 1jc  w f|file-word-box F022D 1jc  p f|file-word-box-outline F103D 1jc  z7 1y|file-word-outline F103E 1jc  z7 1y|file-xml-box F1B4B 1jc  j 1k|film F022F ru,15m 2as p f|filmstrip F0230 15m 2at,2au p f|filmstrip-box F0332   w f|filmstrip-box-multiple F0D18 15m 2av p 83|filmstrip-off F0231 15m  w f|filter F0232  2aw w f|filter-check F18EC  2ax j a6|filter-check-outline F18ED  2ay j a6|filter-cog F1AA3 3h 2az,2b0,2b1,2b2,2b3 e a9|filter-cog-outline F1AA4 3h 2b4,2b5,2b6,2b7,2b8 e a9|filter-menu F10E5   1 35|filter-menu-outline F10E6   1 35|filter-minus F0EEE  2b9 4h t7|filter-minus-outline F0EEF  2ba 4h t7|filter-multiple F1A3F  2bb e uz|filter-multiple-outline F1A40  2bc e uz|filter-off F14EF   2bd i|filter-off-outline F14F0   2bd i|filter-outline F0233  2be w f|filter-plus F0EF0  2bf 4h t7|filter-plus-outline F0EF1  2bg 4h t7|filter-remove F0234  2bh w f|filter-remove-outline F0235  2bi w f|filter-settings F1AA5 3h 2az e a9|filter-settings-outline F1AA6 3h 2b7 e a9|filter-variant F0236  2bj p f|filter-variant-minus F1112   93 35|filter-variant-plus F1113   93 35|filter-variant-remove F103F   2bk 1y|finance F081F 2f,3 2bl,2bm,1d6 p 7w|find-replace F06D4   p 44|fingerprint F0237   p f|fingerprint-off F0EB1   1 3p|fire F0238 m 2bn,2bo,2bp,2bq,2br p f|fire-alert F15D7 q,m 2bs 4 c0|fire-circle F1807 m 2bt,2bu,2bv,2bw j 3r|fire-extinguisher F0EF2 sc,m  e t7|fire-hydrant F1137   j 5e|fire-hydrant-alert F1138 q  j 5e|fire-hydrant-off F1139   j 5e|fire-off F1722 m 2bx j 5|fire-truck F08AB l5 2by le 4x|firebase F0967 la  p 1x|firefox F0239 la 2bz 4s f|fireplace F0E2E m  j sb|fireplace-off F0E2F m  j sb|firewire F05BE   4s f|firework F0E30 u6 2c0 3o sb|firework-off F1723   j 5|fish F023A vn,ty  w f|fish-off F13F3 ty  j sf|fishbowl F0EF3 vn 2c1 j t7|fishbowl-outline F0EF4 vn 2c2 j t7|fit-to-page F0EF5 d2,oc  j t7|fit-to-page-outline F0EF6 d2,oc  j t7|fit-to-screen F18F4   p a6|fit-to-screen-outline F18F5   p a6|flag F023B  2c3 p f|flag-checkered F023C pp 2c4 w f|flag-minus F0B99   1 13|flag-minus-outline F10B2   1 2i|flag-off F18EE   j a6|flag-off-outline F18EF   j a6|flag-outline F023D   p f|flag-plus F0B9A  2c5 1 13|flag-plus-outline F10B3   1 2i|flag-remove F0B9B   1 13|flag-remove-outline F10B4   1 2i|flag-triangle F023F  2c6 w f|flag-variant F0240   w f|flag-variant-minus F1BB4   j 2e|flag-variant-minus-outline F1BB5   j 2e|flag-variant-off F1BB0   j 2e|flag-variant-off-outline F1BB1   j 2e|flag-variant-outline F023E   w f|flag-variant-plus F1BB2   j 2e|flag-variant-plus-outline F1BB3   j 2e|flag-variant-remove F1BB6   j 2e|flag-variant-remove-outline F1BB7   j 2e|flare F0D72  2c7 p ao|flash F0241 ro 2c8,2c9,2ca p f|flash-alert F0EF7 ro,q 2cb,2cc j t7|flash-alert-outline F0EF8 ro,q 2cd,2ce j t7|flash-auto F0242   p f|flash-off F0243   p f|flash-off-outline F1B45   4 1k|flash-outline F06D5 ro 2cf j 44|flash-red-eye F067B   w c6|flash-triangle F1B1D m 2cg 17p 1k|flash-triangle-outline F1B1E m 2ch 17p 1k|flashlight F0244  2ci w f|flashlight-off F0245  2cj w f|flask F0093 r3,po  w f|flask-empty F0094 r3,po  w f|flask-empty-minus F123A r3  w 6s|flask-empty-minus-outline F123B r3  w 6s|flask-empty-off F13F4   j sf|flask-empty-off-outline F13F5   j sf|flask-empty-outline F0095 r3,po  w f|flask-empty-plus F123C r3  w 6s|flask-empty-plus-outline F123D r3  w 6s|flask-empty-remove F123E r3  w 6s|flask-empty-remove-outline F123F r3  w 6s|flask-minus F1240 r3  w 6s|flask-minus-outline F1241 r3  w 6s|flask-off F13F6   j sf|flask-off-outline F13F7   j sf|flask-outline F0096 r3,po  w f|flask-plus F1242 r3  w 6s|flask-plus-outline F1243 r3  w 6s|flask-remove F1244 r3  w 6s|flask-remove-outline F1245 r3  w 6s|flask-round-bottom F124B r3  w 6s|flask-round-bottom-empty F124C r3  w 6s|flask-round-bottom-empty-outline F124D r3  w 6s|flask-round-bottom-outline F124E r3  w 6s|fleur-de-lis F1303   le 28|flip-horizontal F10E7 oa  p 35|flip-to-back F0247 oa  p f|flip-to-front F0248 oa  p f|flip-vertical F10E8 oa  p 35|floor-lamp F08DD m 2ck 4h 6f|floor-lamp-dual F1040 m 2cl 1mp 1y|floor-lamp-dual-outline F17CE m 2cm j 3r|floor-lamp-outline F17C8 m 2cn xv 3r|floor-lamp-torchiere F1747 m 2co j 3r|floor-lamp-torchiere-outline F17D6 m  j 3r|floor-lamp-torchiere-variant F1041 m 2cp 1mp 1y|floor-lamp-torchiere-variant-outline F17CF m 2cq j 3r",
+    "floor-plan F0821 m  2cr 7w|floppy F0249   w f|floppy-variant F09EF   4h of|flower F024A wq,3m 2cs,2ct p f|flower-outline F09F0 wq,3m 2cu,2ct p of|flower-pollen F1885 wq,3m 2cv 4 15|flower-pollen-outline F1886 wq,3m 2cw 4 15|flower-poppy F0D08 wq,3m 2ct 4 83|flower-tulip F09F1 wq,3m 2ct 1 of|flower-tulip-outline F09F2 wq,3m 2ct 1 of|focus-auto F0F4E ru  e si|focus-field F0F4F ru  e si|focus-field-horizontal F0F50 ru  e si|focus-field-vertical F0F51 ru  e si|folder F024B 1jc  p f|folder-account F024C l,1jc 2cx,2cy p f|folder-account-outline F0B9C 1jc,l 2cz,2d0 p 13|folder-alert F0DCC 1jc,q 2d1 j ap|folder-alert-outline F0DCD 1jc,q 2d2 j ap|folder-arrow-down F19E8 1jc 2d3 4 4t|folder-arrow-down-outline F19E9 1jc 2d4 4 4t|folder-arrow-left F19EA 1jc  4 4t|folder-arrow-left-outline F19EB 1jc  4 4t|folder-arrow-left-right F19EC 1jc  4 4t|folder-arrow-left-right-outline F19ED 1jc  4 4t|folder-arrow-right F19EE 1jc  4 4t|folder-arrow-right-outline F19EF 1jc  4 4t|folder-arrow-up F19F0 1jc 2d5 4 4t|folder-arrow-up-down F19F1 1jc 2d6 4 4t|folder-arrow-up-down-outline F19F2 1jc 2d7 4 4t|folder-arrow-up-outline F19F3 1jc 2d8 4 4t|folder-cancel F19F4 1jc  4 4t|folder-cancel-outline F19F5 1jc  4 4t|folder-check F197E 1jc  4 5i|folder-check-outline F197F 1jc  4 5i|folder-clock F0ABA 1jc,3a  4h 30|folder-clock-outline F0ABB 1jc,3a  w 30|folder-cog F107F 3h,1jc 2d9 e 2i|folder-cog-outline F1080 3h,1jc 2da e 2i|folder-download F024D 1jc  w f|folder-download-outline F10E9 1jc  1 35|folder-edit F08DE 1jc,41  4h 6f|folder-edit-outline F0DCE 41,1jc  j ap|folder-eye F178A 1jc  j 3r|folder-eye-outline F178B 1jc  j 3r|folder-file F19F6 1jc  4 4t|folder-file-outline F19F7 1jc  4 4t|folder-google-drive F024E 1jc,la 2db p f|folder-heart F10EA 1jc  j 35|folder-heart-outline F10EB 1jc  j 35|folder-hidden F179E 1jc  j 3r|folder-home F10B5 1jc,m 2dc 2dd 2i|folder-home-outline F10B6 1jc,m 2de 2dd 2i|folder-image F024F 1jc  w f|folder-information F10B7 1jc  j 2i|folder-information-outline F10B8 1jc  j 2i|folder-key F08AC 1jc  e 4x|folder-key-network F08AD 1jc  e 4x|folder-key-network-outline F0C80 1jc  j k|folder-key-outline F10EC 1jc  j 35|folder-lock F0250 59,1jc  j f|folder-lock-open F0251 59,1jc  4 f|folder-lock-open-outline F1AA7 1jc,59  4 a9|folder-lock-outline F1AA8 1jc,59  j a9|folder-marker F126D ob,1jc,av 2df 2dg 47|folder-marker-outline F126E ob,1jc,av 2dh 2dg 47|folder-minus F1B49 1jc  4 1k|folder-minus-outline F1B4A 1jc  4 1k|folder-move F0252 1jc  p f|folder-move-outline F1246 1jc  34 6s|folder-multiple F0253 1jc 2di w f|folder-multiple-image F0254 1jc 2dj,2dk p f|folder-multiple-outline F0255 1jc 2dl w f|folder-multiple-plus F147E 1jc  z7 cq|folder-multiple-plus-outline F147F 1jc  z7 cq|folder-music F1359 1jc,c8  2dm 9|folder-music-outline F135A 1jc,c8  2dm 9|folder-network F0870 1jc  e 4i|folder-network-outline F0C81 1jc  j k|folder-off F19F8 1jc  4 4t|folder-off-outline F19F9 1jc  4 4t|folder-open F0770 1jc  w cy|folder-open-outline F0DCF 1jc  j ap|folder-outline F0256 1jc 2dn p f|folder-play F19FA 1jc 2do,2dp,2dq 4 4t|folder-play-outline F19FB 1jc 2dr,2ds,2dt 4 4t|folder-plus F0257 1jc 2du,2dv w f|folder-plus-outline F0B9D 1jc 2dw,2dx p 13|folder-pound F0D09 1jc,0 2dy j 83|folder-pound-outline F0D0A 1jc,0 2dz j 83|folder-question F19CA 1jc 2e0 j 4t|folder-question-outline F19CB 1jc 2e1 j 4t|folder-refresh F0749 1jc  w cy|folder-refresh-outline F0542 1jc  w f|folder-remove F0258 1jc  w f|folder-remove-outline F0B9E 1jc  w 13|folder-search F0968 1jc  4h 1x|folder-search-outline F0969 1jc  4h 1x|folder-settings F107D 3h,1jc  e 2i|folder-settings-outline F107E 3h,1jc  e 2i|folder-star F069D 1jc 2e2,2e3 p c6|folder-star-multiple F13D3 1jc 2e4 j sf|folder-star-multiple-outline F13D4 1jc 2e5 j sf|folder-star-outline F0B9F 1jc 2e6,2e7 p 13|folder-swap F0FB6 1jc 2d6 1 2|folder-swap-outline F0FB7 1jc 2d7 1 2|folder-sync F0D0B 1jc  w 83|folder-sync-outline F0D0C 1jc  w 83|folder-table F12E3 1jc  e 28|folder-table-outline F12E4 1jc  e 28|folder-text F0C82 1jc  1 k|folder-text-outline F0C83 1jc  1 k|folder-upload F0259 1jc  w f|folder-upload-outline F10ED 1jc  1 35|folder-wrench F19FC 1jc 2e8 4 4t|folder-wrench-outline F19FD 1jc 2e9 4 4t|folder-zip F06EB 1jc 2ea j 44|folder-zip-outline F07B9 1jc 2eb j bq|font-awesome F003A la  4s f|food F025A ty 2ec,2ed,1mx,x3,2ee p f|food-apple F025B ty,3m  w f|food-apple-outline F0C84 ty,3m  1 k|food-croissant F07C8 ty  2ef bq|food-drumstick F141F ty 2eg,2eh,2ei j ar|food-drumstick-off F1468 ty 2ej,2ek,2el j ar|food-drumstick-off-outline F1469 ty 2em,2en,2eo j ar|food-drumstick-outline F1420 ty 2ep,2eq,2er j ar|food-fork-drink F05F2 ty 2es p f|food-halal F1572 ty 2et,2eu 8 lr|food-hot-dog F184B ty 2ev,2ew j 15|food-kosher F1573 ty 2ex,2eu 8 lr|food-off F05F3 ty 2ey,2ez,1n9,1n7,2f0 p f|food-off-outline F1915 ty  p 9x|food-outline F1916 ty  p 9x|food-steak F146A ty 2ei,2f1 j ar|food-steak-off F146B ty 2el,2f2 j ar|food-takeout-box F1836 ty  p 15|food-takeout-box-outline F1837 ty  p 15|food-turkey F171C ty,u6 2f3,2f4 4 5|food-variant F025C ty  w f|food-variant-off F13E5 ty  e sf|foot-print F0F52   2f5 si|football F025D pp 2f6 p f|football-australian F025E pp  w f|football-helmet F025F pp  w f|forest F1897 wq,3m,bm 2f7,2f8 p 15|forest-outline F1C63 wq,3m,bm 2f9,2fa 2d ry|forklift F07C9 l5  4h bq|form-dropdown F1400 13f  2fb sf|form-select F1401 13f  2fb sf|form-textarea F1095 13f  1 2i|form-textbox F060E 13f 2fc w f|form-textbox-lock F135D 13f,59  w 9|form-textbox-password F07F5 13f  1 bq|format-align-bottom F0753 d2  w cy|format-align-center F0260 d2 2fd p f|format-align-justify F0261 d2  p f|format-align-left F0262 d2  p f|format-align-middle F0754 d2  w cy|format-align-right F0263 d2  p f|format-align-top F0755 d2  w cy|format-annotation-minus F0ABC d2  j 30|format-annotation-plus F0646 d2 2fe 2ap 3y|format-bold F0264 d2  p f|format-clear F0265 d2  p f|format-color-fill F0266 d2,117 2ff,2fg,2fh,2fi,2fj p f|format-color-highlight F0E31 117,d2 2fk w sb|format-color-marker-cancel F1313 d2,117 2fl j 28|format-color-text F069E d2,117 2fm p c6|format-columns F08DF d2  5u 6f|format-float-center F0267 d2 2fn 2fo f|format-float-left F0268 d2  2fo f|format-float-none F0269 d2  2fo f|format-float-right F026A d2  2fo f|format-font F06D6 d2  8 44|format-font-size-decrease F09F3 d2  j of|format-font-size-increase F09F4 d2  j of|format-header-1 F026B d2 2fp w f|format-header-2 F026C d2 2fq w f|format-header-3 F026D d2 2fr w f|format-header-4 F026E d2 2fs w f|format-header-5 F026F d2 2ft w f|format-header-6 F0270 d2 2fu w f|format-header-decrease F0271 d2 2fv 2fo f|format-header-equal F0272 d2 2fw 2fo f|format-header-increase F0273 d2 2fx 2fo f|format-header-pound F0274 d2 2fy,2fz,2g0,2g1 w f|format-horizontal-align-center F061E d2 2g2,2g3 w 3y|format-horizontal-align-left F061F d2  w 3y|format-horizontal-align-right F0620 d2  w 3y|format-indent-decrease F0275 d2  p f|format-indent-increase F0276 d2  p f|format-italic F0277 d2  p f|format-letter-case F0B34 d2  w 5v|format-letter-case-lower F0B35 d2 2g4 w 5v|format-letter-case-upper F0B36 d2 2g5 w 5v|format-letter-ends-with F0FB8 d2  e 2|format-letter-matches F0FB9 d2  e 2|format-letter-spacing F1956 d2 2g6 j 9x|format-letter-spacing-variant F1AFB d2  qx 1k|format-letter-starts-with F0FBA d2  e 2|format-line-height F1AFC d2  qx 1k|format-line-spacing F0278 d2  p f|format-line-style F05C8 d2,qu  p f|format-line-weight F05C9 d2,qu  p f|format-list-bulleted F0279 d2  p f|format-list-bulleted-square F0DD0 d2  p ap|format-list-bulleted-triangle F0EB2 d2  1 3p|format-list-bulleted-type F027A d2  w f|format-list-checkbox F096A d2  p 1x|format-list-checks F0756 d2 2g7 w cy|format-list-group F1860 d2  w 15|format-list-group-plus F1B56 d2 2g8 1gz 2e|format-list-numbered F027B d2 2g9 p f|format-list-numbered-rtl F0D0D d2 2ga p 83|format-list-text F126F d2  2gb 47|format-overline F0EB3 d2  2gc 3p|format-page-break F06D7 d2  p 44|format-page-split F1917 d2  j 9x|format-paint F027C d2,117,qu  p f|format-paragraph F027D d2  w f|format-paragraph-spacing F1AFD d2  qx 1k|format-pilcrow F06D8 d2  1 44|format-pilcrow-arrow-left F0286 d2 2gd p f|format-pilcrow-arrow-right F0285 d2 2ge p f",
+    "format-quote-close F027E d2  p f|format-quote-close-outline F11A8 d2  e ci|format-quote-open F0757 d2  w cy|format-quote-open-outline F11A7 d2  e ci|format-rotate-90 F06AA d2 2gf,2gg p c6|format-section F069F d2  1 c6|format-size F027F d2 2gh p f|format-strikethrough F0280 d2  p f|format-strikethrough-variant F0281 d2 2gi p f|format-subscript F0282 d2  w f|format-superscript F0283 d2,3 2gj w f|format-text F0284 d2  w f|format-text-rotation-angle-down F0FBB d2  p 2|format-text-rotation-angle-up F0FBC d2  p 2|format-text-rotation-down F0D73 d2  p ao|format-text-rotation-down-vertical F0FBD d2  j 2|format-text-rotation-none F0D74 d2  p ao|format-text-rotation-up F0FBE d2  p 2|format-text-rotation-vertical F0FBF d2  p 2|format-text-variant F0E32 d2  j sb|format-text-variant-outline F150F d2  8 i|format-text-wrapping-clip F0D0E d2  p 83|format-text-wrapping-overflow F0D0F d2  p 83|format-text-wrapping-wrap F0D10 d2  p 83|format-textbox F0D11 d2  p 83|format-title F05F4 d2  p f|format-underline F0287 d2 2gk p f|format-underline-wavy F18E9 d2  j a6|format-vertical-align-bottom F0621 d2  p 3y|format-vertical-align-center F0622 d2 2gl,2gm p 3y|format-vertical-align-top F0623 d2  p 3y|format-wrap-inline F0288 d2  2fo f|format-wrap-square F0289 d2  2fo f|format-wrap-tight F028A d2  2fo f|format-wrap-top-bottom F028B d2  2fo f|forum F028C  2gn,2go,2gp p f|forum-minus F1AA9  2gq,2gr,2gs 134 a9|forum-minus-outline F1AAA  2gt,2gu,2gv 134 a9|forum-outline F0822  2gw p 7w|forum-plus F1AAB  2gx,2gy,2gz 134 a9|forum-plus-outline F1AAC  2h0,2h1,2h2 134 a9|forum-remove F1AAD  2h3,2h4,2h5 j a9|forum-remove-outline F1AAE  2h6,2h7,2h8 j a9|forward F028D oc  p f|forwardburger F0D75   j ao|fountain F096B   3o 1x|fountain-pen F0D12 qu  j 83|fountain-pen-tip F0D13 qu  j 83|fraction-one-half F1992   j 5i|freebsd F08E0 la  4s 6f|french-fries F1957 ty 2h9,2ha,2hb,2hc,2hd,2he 4 9x|frequently-asked-questions F0EB4  2hf w 3p|fridge F0290 m 2hg,2hh,2hi e f|fridge-alert F11B1 m,q  j ci|fridge-alert-outline F11B2 m,q  j ci|fridge-bottom F0292 m 2hj,2hk e f|fridge-industrial F15EE m  4 c0|fridge-industrial-alert F15EF m,q  4 c0|fridge-industrial-alert-outline F15F0 m,q  4 c0|fridge-industrial-off F15F1 m  4 c0|fridge-industrial-off-outline F15F2 m  4 c0|fridge-industrial-outline F15F3 m  4 c0|fridge-off F11AF m  j ci|fridge-off-outline F11B0 m  j ci|fridge-outline F028F m 2hi,2hl w f|fridge-top F0291 m 2hm,2hn e f|fridge-variant F15F4 m  4 c0|fridge-variant-alert F15F5 m,q  4 c0|fridge-variant-alert-outline F15F6 m,q  4 c0|fridge-variant-off F15F7 m  4 c0|fridge-variant-off-outline F15F8 m  4 c0|fridge-variant-outline F15F9 m  4 c0|fruit-cherries F1042 ty,3m  j 1y|fruit-cherries-off F13F8 ty,3m  j sf|fruit-citrus F1043 ty,3m 2ho,2hp j 1y|fruit-citrus-off F13F9 ty,3m  j sf|fruit-grapes F1044 ty,3m  j 1y|fruit-grapes-outline F1045 ty,3m  j 1y|fruit-pear F1A0E ty  4s 4t|fruit-pineapple F1046 ty,3m 2hq j 1y|fruit-watermelon F1047 ty,3m  j 1y|fuel F07CA ak 2hr,2hs 8 bq|fuel-cell F18B5 ak,vo 2ht 1q2 a6|fullscreen F0293   p f|fullscreen-exit F0294   p f|function F0295 3  w f|function-variant F0871 3  1 4i|furigana-horizontal F1081 d2 2hu 8 2i|furigana-vertical F1082 d2 2hv,2hw 8 2i|fuse F0C85 ak  j k|fuse-alert F142D ak,q  j ar|fuse-blade F0C86 ak  j k|fuse-off F142C ak  j ar|gamepad F0296 m,po 2hx,2hy p f|gamepad-circle F0E33 po 2hz 8 sb|gamepad-circle-down F0E34 po 2i0 8 sb|gamepad-circle-left F0E35 po 2i1 8 sb|gamepad-circle-outline F0E36 po 2i2 8 sb|gamepad-circle-right F0E37 po 2i3 8 sb|gamepad-circle-up F0E38 po 2i4 8 sb|gamepad-down F0E39 po 2i5 4h sb|gamepad-left F0E3A po 2i6 4h sb|gamepad-outline F1919 po,m 2i7,2i8 j 9x|gamepad-right F0E3B po 2i9 4h sb|gamepad-round F0E3C po 2ia 8 sb|gamepad-round-down F0E3D po 2ib 8 sb|gamepad-round-left F0E3E po 2ic 8 sb|gamepad-round-outline F0E3F po 2id 8 sb|gamepad-round-right F0E40 po 2ie 8 sb|gamepad-round-up F0E41 po 2if 8 sb|gamepad-square F0EB5 po 2ig p 3p|gamepad-square-outline F0EB6 po 2ih p 3p|gamepad-up F0E42 po 2ii 4h sb|gamepad-variant F0297 po 2ij w f|gamepad-variant-outline F0EB7 po 2ik 1 3p|gamma F10EE 6  34 35|gantry-crane F0DD1   1 ap|garage F06D9 m  2ef 44|garage-alert F0872 m,q 2il 1 4i|garage-alert-variant F12D5 m,q  j 28|garage-lock F17FB m,59  j 3r|garage-open F06DA m  2ef 44|garage-open-variant F12D4 m  j 28|garage-variant F12D3 m  j 28|garage-variant-lock F17FC m,59  j 3r|gas-burner F1A1B m 2im,2in,2io w 4t|gas-cylinder F0647  2ip,2iq e 3y|gas-station F0298 bm,ak 2ir,2is,2it,2iu,2iv,2iw p f|gas-station-off F1409   4 sf|gas-station-off-outline F140A   4 sf|gas-station-outline F0EB8  2ix,2iy,2iz,2j0,2j1 p 3p|gate F0299 m  e f|gate-alert F17F8 m,q  j 3r|gate-and F08E1  2j2 le 6f|gate-arrow-left F17F7 m  j 3r|gate-arrow-right F1169 m  e 5e|gate-buffer F1AFE   j 1k|gate-nand F08E2  2j3 le 6f|gate-nor F08E3  2j4 le 6f|gate-not F08E4  2j5 le 6f|gate-open F116A m  e 5e|gate-or F08E5  2j6 le 6f|gate-xnor F08E6  2j7 le 6f|gate-xor F08E7  2j8 le 6f|gatsby F0E43 0,la  4s sb|gauge F029A m,ak 2j9,2ja p f|gauge-empty F0873 ak,m  4h 4i|gauge-full F0874 ak,m  4h 4i|gauge-low F0875 ak,m  4h 4i|gavel F029B  2jb w f|gender-female F029C  2jc w f|gender-male F029D  2jd w f|gender-male-female F029E   w f|gender-male-female-variant F113F  2je e 5e|gender-non-binary F1140  2jf j 5e|gender-transgender F029F   w f|gentoo F08E8 la  4s 6f|gesture F07CB qu 2jg p bq|gesture-double-tap F073C  2jh,2ji 1 cy|gesture-pinch F0ABD   1 30|gesture-spread F0ABE   1 30|gesture-swipe F0D76   p ao|gesture-swipe-down F073D   1 cy|gesture-swipe-horizontal F0ABF   4h 30|gesture-swipe-left F073E   1 cy|gesture-swipe-right F073F   1 cy|gesture-swipe-up F0740   1 cy|gesture-swipe-vertical F0AC0   4h 30|gesture-tap F0741  2jj,2jk,2jl 1 cy|gesture-tap-box F12A9  2jm j 47|gesture-tap-button F12A8 13f 2jn,2jo,2jp,2jq j 47|gesture-tap-hold F0D77  2jr p ao|gesture-two-double-tap F0742   1 cy|gesture-two-tap F0743   1 cy|ghost F02A0 po 2js,2jt,2ju,2jv e f|ghost-off F09F5 po  1 of|ghost-off-outline F165C po  4 ug|ghost-outline F165D po  4 ug|gift F0E44 u6 2jw,2jx,2jy e sb|gift-off F16EF u6 2jz,2k0,2k1 4 5|gift-off-outline F16F0 u6 2k2,2k3,2k4 4 5|gift-open F16F1 u6 2k5,2k6 4 5|gift-open-outline F16F2 u6 2k7,2k8 4 5|gift-outline F02A1 v0,u6 2k9,2ka,2kb w f|git F02A2 la,0  4s f|github F02A4 0,la 2kc 4s f|gitlab F0BA0 0,la  4s 13|glass-cocktail F0356 ty 2kd,2ke,2kf,2kg,x2,1mx,x3 p f|glass-cocktail-off F15E6 ty  4 c0|glass-flute F02A5 ty 2kg,2ke,1mx,x3 w f|glass-fragile F1873 ty 2kh 4 15|glass-mug F02A6 ty x1,x2,2ki,2kg,1mx,x3,2kd w f|glass-mug-off F15E7 ty  4 c0|glass-mug-variant F1116 ty x1,x2,2ki,x3,2kg,1mx,2kd e 35|glass-mug-variant-off F15E8 ty  4 c0|glass-pint-outline F130D ty  e 28|glass-stange F02A7 ty 2kg,x2,2ke,1mx,x3 w f|glass-tulip F02A8 ty x2,2kg,2ke,1mx,x3 w f|glass-wine F0876 ty x2,2kg,2ke,1mx,x3 1 4i|glasses F02AA 11q  e f|globe-light F066F m  j 3y|globe-light-outline F12D7 m  j 28|globe-model F08E9   e 6f|gmail F02AB la  p f|gnome F02AC la  4s f|go-kart F0D79 pp 2kj 1 ao|go-kart-track F0D7A   1 ao|gog F0BA1 la,po 2kk 4s 13|gold F124F   w 6s|golf F0823 pp 2kl p 7w|golf-cart F11A4 pp,as  1 ci|golf-tee F1083 pp  p 2i|gondola F0686 as 2km w c6|goodreads F0D7B la  4s ao|google F02AD la  p f|google-ads F0C87 la 2kn p k|google-analytics F07CC la  p bq|google-assistant F07CD la  p bq|google-cardboard F02AE la  p f|google-chrome F02AF la 2ko p f|google-circles F02B0 la  p f|google-circles-communities F02B1 la  p f|google-circles-extended F02B2 la  p f|google-circles-group F02B3 la  p f|google-classroom F02C0 la  p f|google-cloud F11F6 la  p 6s|google-downasaur F1362 vn,po 2kp,2kq,2kr e 9|google-drive F02B6 la 2ks p f|google-earth F02B7 la 2kt p f|google-fit F096C la  p 1x|google-glass F02B8 la  p f|google-hangouts F02C9 la  p f|google-keep F06DC la  p 44|google-lens F09F6 la  p of|google-maps F05F5 av,la  p f|google-my-business F1048   p 1y|google-nearby F02B9   p f|google-play F02BC la  p f|google-plus F02BD la,27c  p f|google-podcast F0EB9   p 3p|google-spreadsheet F09F7   p of|google-street-view F0C88  2ku p k|google-translate F02BF la 2kv p f|gradient-horizontal F174A qu  2d 3r|gradient-vertical F06A0 qu  p c6|grain F0D7C ru,15m,3m  p ao",
+    "graph F1049  2kw,2kx e 1y|graph-outline F104A  2kw,2kx e 1y|graphql F0877 la  4s 4i|grass F1510 wq,3m 2ky p i|grave-stone F0BA2 u6 2kz,2l0,2l1,2l2 w 13|grease-pencil F0648 qu  p 3y|greater-than F096D 3  le 1x|greater-than-or-equal F096E 3  le 1x|greenhouse F002D m,3m,wq 2l3,2l4,2l5 2d f|grid F02C1  2l6 p f|grid-large F0758   w cy|grid-off F02C2   p f|grill F0E45 ty 2l7,2l8,2l9 p sb|grill-outline F118A ty 2la,2lb,2lc p 5e|group F02C3   e f|guitar-acoustic F0771 c8  8 cy|guitar-electric F02C4 c8  8 f|guitar-pick F02C5 c8  1k4 f|guitar-pick-outline F02C6 c8  1k4 f|guy-fawkes-mask F0825   3o 7w|gymnastics F1A41 pp  p uz|hail F0AC1 l5,av 2ld,2le p 30|hair-dryer F10EF 1pp  1 35|hair-dryer-outline F10F0 1pp  1 35|halloween F0BA3 u6 2lf,2lg,2lh,2li,2lj w 13|hamburger F0685 ty 2ed,2ec,2lk 8 c6|hamburger-check F1776 ty 2ll 4 3r|hamburger-minus F1777 ty 2lm 4 3r|hamburger-off F1778 ty 2ez,2ey,2ln 4 3r|hamburger-plus F1779 ty 2lo,2lp 4 3r|hamburger-remove F177A ty 2lq 4 3r|hammer F08EA sc  p 6f|hammer-screwdriver F1322 sc 2lr p 9|hammer-sickle F1887  2ls 4 15|hammer-wrench F1323 sc 2lr p 9|hand-back-left F0E46   p sb|hand-back-left-off F1830   j 3r|hand-back-left-off-outline F1832   j 3r|hand-back-left-outline F182C   p 3r|hand-back-right F0E47   p sb|hand-back-right-off F1831   j 3r|hand-back-right-off-outline F1833   j 3r|hand-back-right-outline F182D   p 3r|hand-clap F194B  2lt j 9x|hand-clap-off F1A42  2lu j uz|hand-coin F188F 2f 2lv,2lw 2d 15|hand-coin-outline F1890 2f 2lx,2ly 2d 15|hand-cycle F1B9C pp 2lz j 2e|hand-extended F18B6  2m0,2m1 j a6|hand-extended-outline F18B7  2m2,2m3 j a6|hand-front-left F182B   p 3r|hand-front-left-outline F182E   p 3r|hand-front-right F0A4F   p qy|hand-front-right-outline F182F   p 3r|hand-heart F10F1  2m4,2m5,2m6 p 35|hand-heart-outline F157E   j lr|hand-okay F0A50   j qy|hand-peace F0A51   j qy|hand-peace-variant F0A52   j qy|hand-pointing-down F0A53   j qy|hand-pointing-left F0A54   j qy|hand-pointing-right F02C7   w f|hand-pointing-up F0A55   j qy|hand-saw F0E48 sc  j sb|hand-wash F157F 4u  p lr|hand-wash-outline F1580 4u  p lr|hand-water F139F 4u 2m7 sm yt|hand-wave F1821  2m8,2m9 p 3r|hand-wave-outline F1822  2ma,2mb p 3r|handball F0F53 pp,a1 2mc,2md p si|handcuffs F113E   j 5e|hands-pray F0579   4 f|handshake F1218  1xp,2me,2mf,2mg 1 6s|handshake-outline F15A1  2mh,2mi,2mj,2mk j lr|hanger F02C8 11q,m 2ml,2mm,2mn sm f|hard-hat F096F sc,11q 2mo 1 1x|harddisk F02CA  2mp w f|harddisk-plus F104B  2mq 1 1y|harddisk-remove F104C  2mr 1 1y|hat-fedora F0BA4 11q  p 13|hazard-lights F0C89 ak 2ms j k|hdmi-port F1BB8 15m,m  j 2e|hdr F0D7D   p ao|hdr-off F0D7E   p ao|head F135E   j 9|head-alert F1338 q  j 9|head-alert-outline F1339 q  j 9|head-check F133A   j 9|head-check-outline F133B   j 9|head-cog F133C 3h 2mt p 9|head-cog-outline F133D 3h 2mu j 9|head-dots-horizontal F133E  2mv j 9|head-dots-horizontal-outline F133F  2mw j 9|head-flash F1340  2mx j 9|head-flash-outline F1341  2my j 9|head-heart F1342  2mz j 9|head-heart-outline F1343  2n0 j 9|head-lightbulb F1344  2n1,2n2 j 9|head-lightbulb-outline F1345  2n3,2n4 j 9|head-minus F1346   j 9|head-minus-outline F1347   j 9|head-outline F135F   j 9|head-plus F1348   j 9|head-plus-outline F1349   j 9|head-question F134A   j 9|head-question-outline F134B   j 9|head-remove F134C   j 9|head-remove-outline F134D   j 9|head-snowflake F134E  2n5,2n6 j 9|head-snowflake-outline F134F  2n7,2n8 j 9|head-sync F1350  2n9,2na j 9|head-sync-outline F1351  2nb,2nc j 9|headphones F02CB c7,160,c8 2nd p f|headphones-bluetooth F0970   4h 1x|headphones-box F02CC c7,c8  p f|headphones-off F07CE c7,160,c8  4h bq|headphones-settings F02CD c7,3h  w f|headset F02CE c7,160 2ne p f|headset-dock F02CF c7  1w7 f|headset-off F02D0 c7,160  w f|heart F02D1 1ie,po,4u 2nf,2ng p f|heart-box F02D2   w f|heart-box-outline F02D3   w f|heart-broken F02D4   w f|heart-broken-outline F0D14   j 83|heart-circle F0971   4h 1x|heart-circle-outline F0972   4h 1x|heart-cog F1663 3h  4 ug|heart-cog-outline F1664 3h  4 ug|heart-flash F0EF9 4u 2nh,2ni j t7|heart-half F06DF po  w 44|heart-half-full F06DE po  197 44|heart-half-outline F06E0 po  w 44|heart-minus F142F   j ar|heart-minus-outline F1432   j ar|heart-multiple F0A56  2nj j qy|heart-multiple-outline F0A57  2nk j qy|heart-off F0759 4u  w cy|heart-off-outline F1434 4u  j ar|heart-outline F02D5 1ie,po,4u 2nl,2nm,2nn,2no p f|heart-plus F142E   e ar|heart-plus-outline F1431   j ar|heart-pulse F05F6 4u 2np p f|heart-remove F1430   j ar|heart-remove-outline F1433   j ar|heart-settings F1665 3h  4 ug|heart-settings-outline F1666 3h  4 ug|heat-pump F1A43 m  p uz|heat-pump-outline F1A44 m  p uz|heat-wave F1A45 m,ro,3m 2nq,2nr j uz|heating-coil F1AAF m 2ns,2nt j a9|helicopter F0AC2 a4  2nu 30|help F02D6  2nv w f|help-box F078B  2nw w cy|help-box-multiple F1C0A  2nx,2ny 1j a0|help-box-multiple-outline F1C0B  2nz,2o0 1j a0|help-box-outline F1C0C  2o1 j a0|help-circle F02D7  2o2 p f|help-circle-outline F0625  2mj,2o3 p 3y|help-network F06F5  2o4 w 44|help-network-outline F0C8A  2o5 j k|help-rhombus F0BA5  2o6 j 13|help-rhombus-outline F0BA6  2o7 j 13|hexadecimal F12A7 0  j 47|hexagon F02D8 1ie  w f|hexagon-multiple F06E1 1ie 2o8 w 44|hexagon-multiple-outline F10F2 wq  j 35|hexagon-outline F02D9 1ie  w f|hexagon-slice-1 F0AC3   uk 30|hexagon-slice-2 F0AC4   uk 30|hexagon-slice-3 F0AC5   uk 30|hexagon-slice-4 F0AC6   uk 30|hexagon-slice-5 F0AC7   uk 30|hexagon-slice-6 F0AC8   uk 30|hexagram F0AC9 1ie,u6 2c7,2o9 j 30|hexagram-outline F0ACA 1ie,u6 2oa,2ob j 30|high-definition F07CF 15m 2oc w bq|high-definition-box F0878 15m 2od,2oc p 4i|highway F05F7 l5 2oe,2of l8 f|hiking F0D7F pp,a1 2og p ao|history F02DA 3a 2oh,2oi,2oj,2ok,2ol p f|hockey-puck F0879 pp  le 4i|hockey-sticks F087A pp  p 4i|hololens F02DB po  w f|home F02DC m,bm 2om p f|home-account F0826 l,m 2on,2oo,2op 4h 7w|home-alert F087B m,q 2oq,2or,2os 1 4i|home-alert-outline F15D0 m,q 2ot,2ou,2ov j c0|home-analytics F0EBA m 2ow,2ox,2oy,2oz,2p0 1 3p|home-assistant F07D0 la,m  4s bq|home-automation F07D1 m 2p1,2p2,2p3,2p4,2p5 4h bq|home-battery F1901 m,vo 2p6,2p7,2p8,2p9,2pa,2pb j 9x|home-battery-outline F1902 m,vo 2pc,2pd,2pe,2pf,2pg,2ph j 9x|home-circle F07D2 m 2pi 2pj bq|home-circle-outline F104D m 2pk z7 1y|home-city F0D15 m 2pl p 83|home-city-outline F0D16 m,bm 2pm p 83|home-clock F1A12 m,3a 2pn,2po,2pp,2pq,2pr 4 4t|home-clock-outline F1A13 m,3a 2ps,2pt,2pu,2pv,2pw 4 4t|home-edit F1159 m,41 2px e 5e|home-edit-outline F115A m,41 2py e 5e|home-export-outline F0F9B m 2pz j si|home-flood F0EFA ro,m,wq 2q0 p t7|home-floor-0 F0DD2 m 2q1,2q2,2q3 j ap|home-floor-1 F0D80 m 2q4,2q5,2q6,2q7,2q8 4h ao|home-floor-2 F0D81 m 2q9,2qa,2qb,2qc,2qd 4h ao|home-floor-3 F0D82 m 2qe,2qf,2qg,2qh,2qi 4h ao|home-floor-a F0D83 m 2qj,2qk,2ql 4h ao|home-floor-b F0D84 m 2qm,2qn,2qo 4h ao|home-floor-g F0D85 m 2qp,2qq,2qr 4h ao|home-floor-l F0D86 m 2qs,2qt,2qu,2qv,2qw 4h ao|home-floor-negative-1 F0DD3 m 2qx,2qy,2qz,2r0,2r1,2r2,2r3 j ap|home-group F0DD4 m 2r4,2r5,2r6,2r7 1 ap|home-group-minus F19C1 m 2r8 j 5i|home-group-plus F19C0 m 2r9,2ra,2rb 2rc 5i|home-group-remove F19C2 m 2rd j 5i|home-heart F0827 m,a1 1sl,2re p 7w|home-import-outline F0F9C m 2rf j si|home-lightbulb F1251 m 2rg,2rh,2ri 1 6s|home-lightbulb-outline F1252 m 2rj,2rk,2rl 1 6s|home-lightning-bolt F1903 m 2p6,2p7,2p8,2rm,2rn,2ro j 9x|home-lightning-bolt-outline F1904 m 2p6,2p7,2p8,2rm,2rp,2rq j 9x|home-lock F08EB m,59 2rr,2rs,2rt le 6f|home-lock-open F08EC m,59 2ru le 6f|home-map-marker F05F8 m,av 2rv,2rw e f|home-minus F0974 m 2rx 5u 1x|home-minus-outline F13D5 m 2ry j sf|home-modern F02DD m 2rz w f|home-off F1A46 m 2s0 j uz|home-off-outline F1A47 m 2s1 j uz|home-outline F06A1 m,bm 2s2 p c6|home-percent F1C7C   2d ry|home-percent-outline F1C7D m  2d ry|home-plus F0975 m 2s3,2s4,2s5 5u 1x|home-plus-outline F13D6 m 2s6,2s7 j sf|home-remove F1247 m 2s8 j 6s|home-remove-outline F13D7 m 2s9 j sf|home-roof F112B m 2sa,2sb,2sc,2sd,2se j 35|home-search F13B0 m 2sf,2sg,2sh j yt|home-search-outline F13B1 m 2si,2sj,2sk j yt|home-silo F1BA0 m,3m 2sl,2sm 2d 2e|home-silo-outline F1BA1 3m,m 2sn,2so 2d 2e|home-sound-in F1C2F m  2d ry|home-sound-in-outline F1C30 m  2d ry|home-sound-out F1C31 m  2d ry",
+    "home-sound-out-outline F1C32 m  2d ry|home-switch F1794 m 2sp,2sq,2sr j 3r|home-switch-outline F1795 m 2ss,2st,2su j 3r|home-thermometer F0F54 m 2sv,2sw,2sx,2sy,2sz 1xq si|home-thermometer-outline F0F55 m 2t0,2t1,2t2,2t3,2t4 1q2 si|home-variant F02DE m 2t5 p f|home-variant-outline F0BA7 m 2t6 p 13|hook F06E2   1 44|hook-off F06E3   1 44|hoop-house F0E56 3m,m 2t7 2d sb|hops F02DF ty,3m  w f|horizontal-rotate-clockwise F10F3   j 35|horizontal-rotate-counterclockwise F10F4   j 35|horse F15BF as,vn,3m 2t8 4 c0|horse-human F15C0 as,3m,a1 2t9,2ta,2t8 4 c0|horse-variant F15C1 vn,3m 2tb 4 c0|horse-variant-fast F186E vn,3m  4 15|horseshoe F0A58 pp,3m 1mk j qy|hospital F0FF6 4u 2tc,2td j 2|hospital-box F02E0 4u 2te,2tf,2tg p f|hospital-box-outline F0FF7 4u 2th,2ti j 2|hospital-building F02E1 bm,4u  w f|hospital-marker F02E2 4u,av 2tj w f|hot-tub F0828   p 7w|hours-24 F1478 3a  8 ar|hubspot F0D17   4s 83|hulu F0829 la  4s 7w|human F02E6 a1 2tk p f|human-baby-changing-table F138B a1,4u  sm yt|human-cane F1581 4u,a1 2tl p lr|human-capacity-decrease F159B l,as,a1 2tm p lr|human-capacity-increase F159C l,as,a1  e lr|human-child F02E7 a1  w f|human-dolly F1980 a1 2tn,2to j 5i|human-edit F14E8 a1,41  w i|human-female F0649 a1 2tp p 3y|human-female-boy F0A59 a1 2tq,2tr,2ts,2tt 1yt qy|human-female-dance F15C9 a1,pp 2tu 1 c0|human-female-female F0A5A a1 2tv,2tw 1yt qy|human-female-girl F0A5B a1 2tq,2tr,2ts,2tt 1yt qy|human-greeting F17C4 a1 2tx,2ty p 3r|human-greeting-proximity F159D l,a1 2tz p lr|human-greeting-variant F064A a1 2u0 p 3y|human-handsdown F064B a1  p 3y|human-handsup F064C a1  p 3y|human-male F064D a1 2u1 p 3y|human-male-board F0890 a1 2u2,2u3,2u4,2u5,2u6,2u7,2u8 1 4i|human-male-board-poll F0846 a1 2u9 2ua 7w|human-male-boy F0A5C a1 2ub,2uc,2ud 1yt qy|human-male-child F138C a1  sm yt|human-male-female F02E8 a1 2ue,2uf p f|human-male-female-child F1823 a1 1sl,2ug p 3r|human-male-girl F0A5D a1 2ub,2uc,2ud 1yt qy|human-male-height F0EFB 4u,a1  1 t7|human-male-height-variant F0EFC 4u,a1  1 t7|human-male-male F0A5E a1 2uh,2ui 1yt qy|human-non-binary F1848 a1 2uj,2uk j 15|human-pregnant F05CF a1 2ul p f|human-queue F1571 a1 2um 8 lr|human-scooter F11E9 pp,as,a1  p ci|human-walker F1B71 a1,4u  p 2e|human-wheelchair F138D a1,4u 2un sm yt|human-white-cane F1981 a1,4u 2uo j 5i|humble-bundle F0744 la  4s cy|hvac F1352 m 2up,2uq,2ur p 9|hvac-off F159E m 2us,2ut,2uu j lr|hydraulic-oil-level F1324 ak  j 9|hydraulic-oil-temperature F1325 ak  j 9|hydro-power F12E5 160,3m 2uv,2uw,2ux 1q2 28|hydrogen-station F1894 ak  1q2 15|ice-cream F082A ty  p 7w|ice-cream-off F0E52 ty  e sb|ice-pop F0EFD ty 2uy 2uz t7|id-card F0FC0   e 2|identifier F0EFE 0 2v0 w t7|ideogram-cjk F1331 6 2v1,2v2 8 9|ideogram-cjk-variant F1332 6 2v3,2v4 8 9|image F02E9  2v5 p f|image-album F02EA  2v6,2v7 p f|image-area F02EB   w f|image-area-close F02EC   w f|image-auto-adjust F0FC1 ru 2v8 p 2|image-broken F02ED   w f|image-broken-variant F02EE  2v9 p f|image-check F1B25   1j 1k|image-check-outline F1B26   1j 1k|image-edit F11E3 41  mb ci|image-edit-outline F11E4 41  j ci|image-filter-black-white F02F0 ru 2va p f|image-filter-center-focus F02F1 ru 2vb p f|image-filter-center-focus-strong F0EFF ru  p t7|image-filter-center-focus-strong-outline F0F00 ru  p t7|image-filter-center-focus-weak F02F2 ru 2vc p f|image-filter-drama F02F3 ru,wq,1m2  p f|image-filter-drama-outline F1BFF ru,wq,1m2  p a0|image-filter-frames F02F4 ru  p f|image-filter-hdr F02F5 ru,wq 2vd,2ve p f|image-filter-hdr-outline F1C64 ru,wq 2vf,2vg 2d ry|image-filter-none F02F6 ru  p f|image-filter-tilt-shift F02F7 ru  p f|image-filter-vintage F02F8 ru,wq  p f|image-frame F0E49 m 1mr,1mq,1ms p sb|image-lock F1AB0 59,ru 2vh e a9|image-lock-outline F1AB1 ru,59 2vi e a9|image-marker F177B av 2vj 4 3r|image-marker-outline F177C av 2vk 4 3r|image-minus F1419   w sf|image-minus-outline F1B47   4 1k|image-move F09F8   1 of|image-multiple F02F9  2vl,2vm,2vn p f|image-multiple-outline F02EF ru 2v8,2vo p f|image-off F082B   4h 7w|image-off-outline F11D1   mb ci|image-outline F0976   4h 1x|image-plus F087C  2vp 4h 4i|image-plus-outline F1B46  2vq 4 1k|image-refresh F19FE ru  4 4t|image-refresh-outline F19FF ru  4 4t|image-remove F1418   w sf|image-remove-outline F1B48   4 1k|image-search F0977   p 1x|image-search-outline F0978   p 1x|image-size-select-actual F0C8D   p k|image-size-select-large F0C8E   p k|image-size-select-small F0C8F   p k|image-sync F1A00 ru  4 4t|image-sync-outline F1A01 ru  4 4t|image-text F160D  2vr p c0|import F02FA  2vs w f|inbox F0687   p c6|inbox-arrow-down F02FB  2vt p f|inbox-arrow-down-outline F1270   1 47|inbox-arrow-up F03D1  2vu w f|inbox-arrow-up-outline F1271   1 47|inbox-full F1272   1 47|inbox-full-outline F1273   1 47|inbox-multiple F08B0  2vv p 4x|inbox-multiple-outline F0BA8  2vw p 13|inbox-outline F1274   1 47|inbox-remove F159F   z7 lr|inbox-remove-outline F15A0   z7 lr|incognito F05F9  2vx,2vy l8 f|incognito-circle F1421  2vz,2w0 p ar|incognito-circle-off F1422  2w1,2w2 j ar|incognito-off F0075  2w3,2w4 11v f|induction F184C m,ak 2w5 j 15|infinity F06E4 3  w 44|information F02FC 3h 2w6,2w7,2w8,2w9,2wa p f|information-box F1C65 3h 2wb 2d ry|information-box-outline F1C66 3h 2wc 2d ry|information-off F178C  2wd,2we,2wf j 3r|information-off-outline F178D  2wg,2wh,2wi,2wj j 3r|information-outline F02FD 3h 2wk,2wl,2wm,2wn,2wo p f|information-slab-box F1C67 3h 2wp 2d ry|information-slab-box-outline F1C68 3h 2wq 2d ry|information-slab-circle F1C69 3h 2wr 2d ry|information-slab-circle-outline F1C6A 3h 2ws 2d ry|information-slab-symbol F1C6B 3h 2wt 2d ry|information-symbol F1C6C 3h 2wu 2d ry|information-variant F064E  2wv,2ww,2wx,2wy e 3y|information-variant-box F1C6D 3h 2wz,2x0,2x1 2d ry|information-variant-box-outline F1C6E 3h 2x2,2x3,2x4 2d ry|information-variant-circle F1C6F 3h 2x5,2x6,2x7 2d ry|information-variant-circle-outline F1C70 3h 2x8,2x9,2xa 2d ry|instagram F02FE la  4s f|instrument-triangle F104E c8 2xb j 1y|integrated-circuit-chip F1913 2f 2xc,2xd 2d 9x|invert-colors F0301 117 2xe p f|invert-colors-off F0E4A 117 2xf p sb|iobroker F12E8 la  4s 28|ip F0A5F  2xg 1 qy|ip-network F0A60   1 qy|ip-network-outline F0C90   j k|ip-outline F1982  2xh j 5i|ipod F0C91  2xi 4h k|iron F1824 m,11q 2xj,2xk p 3r|iron-board F1838 m,11q  4 15|iron-outline F1825 m,11q 2xl,2xm p 3r|island F104F bm  j 1y|iv-bag F10B9 4u  j 2i|jabber F0DD5 la  4s ap|jeepney F0302 l5  w f|jellyfish F0F01 vn  e t7|jellyfish-outline F0F02 vn  e t7|jira F0303 la  4s f|jquery F087D la  4s 4i|jsfiddle F0304 la  4s f|jump-rope F12FF pp  j 28|kabaddi F0D87 pp,a1 2xn,2xo p ao|kangaroo F1558 vn 2xp 4 lr|karate F082C pp,a1 2xq,2xr,2xs p 7w|kayaking F08AF pp,a1 2xt p 4x|keg F0305 ty  w f|kettle F05FA m,ty 2xu,2xv,2xw e f|kettle-alert F1317 m,q,ty 2xx,2xy,2xz j 28|kettle-alert-outline F1318 m,q,ty 2y0,2y1,2y2 j 28|kettle-off F131B m,ty 2y3,2y4,2y5 j 28|kettle-off-outline F131C m,ty 2y6,2y7,2y8 j 28|kettle-outline F0F56 ty,m 2y9,2ya,2yb le si|kettle-pour-over F173C   11v 5|kettle-steam F1319 m,ty 2yc,2yd,2ye j 28|kettle-steam-outline F131A m,ty 2yf,2yg,2yh j 28|kettlebell F1300 pp  j 28|key F0306 ak 2yi p f|key-alert F1983 q  j 5i|key-alert-outline F1984 q  j 5i|key-arrow-right F1312   j 28|key-chain F1574 ak,m  2yj lr|key-chain-variant F1575 ak,m  2yj lr|key-change F0307   w f|key-link F119F  2yk,2yl 8 5e|key-minus F0308   w f|key-outline F0DD6   p ap|key-plus F0309  2ym w f|key-remove F030A   w f|key-star F119E  2yn,2yo,2yp 8 5e|key-variant F030B ak  w f|key-wireless F0FC2   1 2|keyboard F030C   p f|keyboard-backspace F030D  2yq,2yr p f|keyboard-caps F030E  2ys p f|keyboard-close F030F  2yt p f|keyboard-close-outline F1C00  2yu 2yv a0|keyboard-esc F12B7   w 47|keyboard-f1 F12AB   w 47|keyboard-f10 F12B4   w 47|keyboard-f11 F12B5   w 47|keyboard-f12 F12B6   w 47|keyboard-f2 F12AC   w 47|keyboard-f3 F12AD   w 47|keyboard-f4 F12AE   w 47|keyboard-f5 F12AF   w 47|keyboard-f6 F12B0   w 47|keyboard-f7 F12B1   w 47|keyboard-f8 F12B2   w 47|keyboard-f9 F12B3   w 47|keyboard-off F0310   w f|keyboard-off-outline F0E4B   j sb|keyboard-outline F097B   p 1x|keyboard-return F0311   p f|keyboard-settings F09F9 3h  1 of|keyboard-settings-outline F09FA 3h  1 of",
+    "keyboard-space F1050   1 1y|keyboard-tab F0312   p f|keyboard-tab-reverse F0325   j f|keyboard-variant F0313   w f|khanda F10FD z0 2yw j 35|kickstarter F0745 la  4s cy|kite F1985 pp  p 5i|kite-outline F1986 pp  p 5i|kitesurfing F1744   p 3r|klingon F135B   w 9|knife F09FB  2yx,2yy 3o of|knife-military F09FC po 2yz e of|knob F1B96 c7 2z0,2z1,2z2,2z3,2z4,2z5 j 2e|koala F173F vn 2xp,2z6,2z7 2z8 5|kodi F0314 la  4s f|kubernetes F10FE 0,la  4s 35|label F0315   p f|label-multiple F1375   11v 9|label-multiple-outline F1376   11v 9|label-off F0ACB   p 30|label-off-outline F0ACC   p 30|label-outline F0316   p f|label-percent F12EA   j 28|label-percent-outline F12EB   j 28|label-variant F0ACD   p 30|label-variant-outline F0ACE   p 30|ladder F15A2 sc  j lr|ladybug F082D wq 2z9,2za p 7w|lambda F0627 po,3  w 3y|lamp F06B5 m  4h lc|lamp-outline F17D0 m  j 3r|lamps F1576 m 2zb j lr|lamps-outline F17D1 m 2zc j 3r|lan F0317  2zd e f|lan-check F12AA   1 47|lan-connect F0318  2ze e f|lan-disconnect F0319  2zf e f|lan-pending F031A  2zg e f|land-fields F1AB2 3m  2d a9|land-plots F1AB3 3m  2d a9|land-plots-circle F1AB4 3m  2d a9|land-plots-circle-variant F1AB5 3m  2d a9|land-plots-marker F1C5D 3m  2d ry|land-rows-horizontal F1AB6 3m  2d a9|land-rows-vertical F1AB7 3m  2d a9|landslide F1A48 wq 2zh,2zi p uz|landslide-outline F1A49 wq 2zj,2zk p uz|language-c F0671 0,la  4s 3y|language-cpp F0672 0,la  4s 3y|language-csharp F031B 0,la  4s f|language-css3 F031C 0,la  4s f|language-fortran F121A 0,la  4s 6s|language-go F07D3 0,la  p bq|language-haskell F0C92 0,la  4s k|language-html5 F031D 0,la  4s f|language-java F0B37 0,la  4s 5v|language-javascript F031E 0,la  4s f|language-kotlin F1219 0,la  4s 6s|language-lua F08B1 0,la  4s 4x|language-markdown F0354 0,la  w f|language-markdown-outline F0F5B 0,la  4s si|language-php F031F 0,la  4s f|language-python F0320 0,la  w f|language-r F07D4 0,la  4s bq|language-ruby F0D2D 0,la  4s 83|language-ruby-on-rails F0ACF 0,la  4s 30|language-rust F1617 0,la  4s c0|language-swift F06E5 0,la  4s 44|language-typescript F06E6 0,la  4s 44|language-xaml F0673 0,la 2zl,2zm 4s 3y|laptop F0322 160,m 2zn p f|laptop-account F1A4A l,160 2zo,2zp,2zq 2zr uz|laptop-off F06E7 160  1 44|laravel F0AD0 la  4s 30|laser-pointer F1484   p cq|lasso F0F03   12w t7|lastpass F0446 la  4s f|latitude F0F57 av,ob  1 si|launch F0327   p f|lava-lamp F07D5 m  4h bq|layers F0328 ob  p f|layers-edit F1892 ob,41  14a 15|layers-minus F0E4C ob  w sb|layers-off F0329 ob 2zs p f|layers-off-outline F09FD ob  p of|layers-outline F09FE ob  p of|layers-plus F0E4D ob  w sb|layers-remove F0E4E ob  w sb|layers-search F1206 ob  j 6s|layers-search-outline F1207 ob  j 6s|layers-triple F0F58   4h si|layers-triple-outline F0F59   4h si|lead-pencil F064F qu  p 3y|leaf F032A wq,ty,3m  w f|leaf-circle F1905 wq,3m 2zt,2zu 2d 9x|leaf-circle-outline F1906 3m,wq 2zv,2zw 2d 9x|leaf-maple F0C93 wq  1 k|leaf-maple-off F12DA wq  j 28|leaf-off F12D9 wq,ty,3m  j 28|leak F0DD7  2zx p ap|leak-off F0DD8  2zy p ap|lectern F1AF0  2zz,300,301,302 j 4t|led-off F032B m  e f|led-on F032C m  e f|led-outline F032D m  e f|led-strip F07D6 m 303 4h bq|led-strip-variant F1051 m 304 1mp 1y|led-strip-variant-off F1A4B m 305 j uz|led-variant-off F032E m  e f|led-variant-on F032F m  e f|led-variant-outline F0330 m  e f|leek F117D ty  e 5e|less-than F097C 3  le 1x|less-than-or-equal F097D 3  le 1x|library F0331 bm 306 p f|library-outline F1A22 bm 307 2d 4t|library-shelves F0BA9   p 13|license F0FC3  308,309,30a,1ck p 2|lifebuoy F087E l9 30b,268,2mf,30c e 4i|light-flood-down F1987 m 30d 1xq 5i|light-flood-up F1988 m 30e 1xq 5i|light-recessed F179B m 30f,30g,30h,30i,30j j 3r|light-switch F097E m 30k,30l 30m 1x|light-switch-off F1A24 m 30n,30o 30m 4t|lightbulb F0335 m 30p,30q p f|lightbulb-alert F19E1 m,q 30r j 4t|lightbulb-alert-outline F19E2 m,q 30s j 4t|lightbulb-auto F1800 m 30t,30u j 3r|lightbulb-auto-outline F1801 m 30v,30w j 3r|lightbulb-cfl F1208 m 30x 4h 6s|lightbulb-cfl-off F1209 m 30y j 6s|lightbulb-cfl-spiral F1275 m 30z 310 47|lightbulb-cfl-spiral-off F12C3 m 311 j 28|lightbulb-fluorescent-tube F1804 m  4h 3r|lightbulb-fluorescent-tube-outline F1805 m  4h 3r|lightbulb-group F1253 m 312 1 6s|lightbulb-group-off F12CD m 313 j 28|lightbulb-group-off-outline F12CE m 314 j 28|lightbulb-group-outline F1254 m 315 1 6s|lightbulb-multiple F1255 m 316,317,318 1 6s|lightbulb-multiple-off F12CF m 319,31a,31b j 28|lightbulb-multiple-off-outline F12D0 m 31c,31d,31e j 28|lightbulb-multiple-outline F1256 m 31f,31g,31h 1 6s|lightbulb-night F1A4C m 31i,31j,31k j uz|lightbulb-night-outline F1A4D m 31l,31m,31n j uz|lightbulb-off F0E4F m 31o 1q2 sb|lightbulb-off-outline F0E50 m 31p 1q2 sb|lightbulb-on F06E8 m 30p,31q,31r w 44|lightbulb-on-10 F1A4E m 31s j uz|lightbulb-on-20 F1A4F m 31t j uz|lightbulb-on-30 F1A50 m 31u j uz|lightbulb-on-40 F1A51 m 31v j uz|lightbulb-on-50 F1A52 m 31w j uz|lightbulb-on-60 F1A53 m 31x j uz|lightbulb-on-70 F1A54 m 31y j uz|lightbulb-on-80 F1A55 m 31z j uz|lightbulb-on-90 F1A56 m 320 j uz|lightbulb-on-outline F06E9 m 30p,321 w 44|lightbulb-outline F0336 m 30p,322 w f|lightbulb-question F19E3 m 323 j 4t|lightbulb-question-outline F19E4 m 324 j 4t|lightbulb-spot F17F4 m 325,326 4h 3r|lightbulb-spot-off F17F5 m 327,328 j 3r|lightbulb-variant F1802 m 329,32a j 3r|lightbulb-variant-outline F1803 m 32b,32c j 3r|lighthouse F09FF  32d j of|lighthouse-on F0A00  32d j of|lightning-bolt F140B m,ro 32e,32f,uu,2ca 32g sf|lightning-bolt-circle F0820 m,ro 32h,32i,32j,32k,32l,32m,32n p 7w|lightning-bolt-outline F140C m,ro 32o,32p,uy,32q 32g sf|line-scan F0624   32r 3y|lingerie F1476 11q 32s,32t,32u 32v ar|link F0337  32w p f|link-box F0D1A   j 83|link-box-outline F0D1B   j 83|link-box-variant F0D1C   j 83|link-box-variant-outline F0D1D   j 83|link-lock F10BA 59 32x 1 2i|link-off F0338   p f|link-plus F0C94  32y p k|link-variant F0339   w f|link-variant-minus F10FF   j 35|link-variant-off F033A   w f|link-variant-plus F1100   j 35|link-variant-remove F1101   j 35|linkedin F033B la,27c  4s f|linux F033D vn,la 32z 4s f|linux-mint F08ED la  4s 6f|lipstick F13B5 1pp  330 yt|liquid-spot F1826 ak,4u 331,332,333,334,335,336,337 j 3r|liquor F191E ty 338,2kg,339,33a,33b,33c,33d,2ki,33e p 9x|list-box F1B7B  33f mb 2e|list-box-outline F1B7C  33g mb 2e|list-status F15AB d2  p lr|litecoin F0A61 2f,la,2g  4s qy|loading F0772   33h cy|location-enter F0FC4 m 33i 1 2|location-exit F0FC5 m 33j 1 2|lock F033E 59,m,ak 33k,33l,33m,33n,33o p f|lock-alert F08EE 59,q,m 33p,33q,33r,33s,33t e 6f|lock-alert-outline F15D1 m,q,59 33u,33v,33w,33x,33y j c0|lock-check F139A 59 33z,340,341,342,343,344 93 yt|lock-check-outline F16A8 59 345,346,347,348,349,34a 4 yu|lock-clock F097F 59,3a 34b,34c,34d,34e p 1x|lock-minus F16A9 59 34f,34g 4 yu|lock-minus-outline F16AA 59 34h,34g 4 yu|lock-off F1671 59 34i,34j,34k,34l 4 ug|lock-off-outline F1672 59 34m,34n,34o,34p 4 ug|lock-open F033F 59,m,ak 34q,34r p f|lock-open-alert F139B q,m,59 34s,34t,34u,34v,34w 93 yt|lock-open-alert-outline F15D2 m,q,59 34x,34y,34z,350,351 j c0|lock-open-check F139C 59 352,353 93 yt|lock-open-check-outline F16AB 59 354,355 4 yu|lock-open-minus F16AC 59 356,357 4 yu|lock-open-minus-outline F16AD 59 358,359 4 yu|lock-open-outline F0340 59,m,ak 35a,35b p f|lock-open-plus F16AE 59 35c,35d,35e,35f,35g 4 yu|lock-open-plus-outline F16AF 59 35h,35i,35j,35k,35l 4 yu|lock-open-remove F16B0 59 35m,35n 4 yu|lock-open-remove-outline F16B1 59 35o,35p 4 yu|lock-open-variant F0FC6 59,m 35q,35r 4h 2|lock-open-variant-outline F0FC7 59,m 35s,35t 4h 2|lock-outline F0341 59,m,ak 35u,35v,35w,35x,35y p f|lock-pattern F06EA   8 44|lock-percent F1C12  35z r1 a0|lock-percent-open F1C13  360 r1 a0|lock-percent-open-outline F1C14  361 r1 a0|lock-percent-open-variant F1C15  362 r1 a0|lock-percent-open-variant-outline F1C16  363 r1 a0|lock-percent-outline F1C17  364 r1 a0|lock-plus F05FB 59 365,366,367,368,369,36a 4 f|lock-plus-outline F16B2 59 36b,36c,36d,36e,36f 4 yu|lock-question F08EF 59 36g,36h,36i e 6f|lock-remove F16B3 59 36j,36k 4 yu|lock-remove-outline F16B4 59 36l,36m 4 yu|lock-reset F0773 59 36n,36o p cy|lock-smart F08B2 m  4h 4x|locker F07D7   w bq|locker-multiple F07D8  36p w bq",
+    "login F0342  36q,36r w f|login-variant F05FC  36s,36t w f|logout F0343  36u,36v w f|logout-variant F05FD  36w,36x w f|longitude F0F5A av,ob  1 si|looks F0344 ro,117 36y p f|lotion F1582 4u,1pp  j lr|lotion-outline F1583 4u,1pp  j lr|lotion-plus F1584 4u 36z p lr|lotion-plus-outline F1585 4u 370 p lr|loupe F0345  371,372,373 p f|lumx F0346 la  4s f|lungs F1084 4u  j 2i|mace F1843 po  4 15|magazine-pistol F0324  374 375 f|magazine-rifle F0323  376 375 f|magic-staff F1844 po 377,378 4 15|magnet F0347   e f|magnet-on F0348   e f|magnify F0349 ob 379 p f|magnify-close F0980   1 1x|magnify-expand F1874 ob 37a 15u 15|magnify-minus F034A  37b,37c w f|magnify-minus-cursor F0A62  37d 1 qy|magnify-minus-outline F06EC ob 37e,37f p 44|magnify-plus F034B  37g,37h,37i,37j w f|magnify-plus-cursor F0A63  37k,37l 1 qy|magnify-plus-outline F06ED ob 37m,37n,37o,37p p 44|magnify-remove-cursor F120C   j 6s|magnify-remove-outline F120D ob  j 6s|magnify-scan F1276   34 47|mail F0EBB   j 3p|mailbox F06EE   1 44|mailbox-open F0D88   1 ao|mailbox-open-outline F0D89   1 ao|mailbox-open-up F0D8A   1 ao|mailbox-open-up-outline F0D8B   1 ao|mailbox-outline F0D8C   1 ao|mailbox-up F0D8D   1 ao|mailbox-up-outline F0D8E   1 ao|manjaro F160A la  4s c0|map F034D av,ob  p f|map-check F0EBC av,ob 37q r1 3p|map-check-outline F0EBD av,ob 37r r1 3p|map-clock F0D1E av,ob,3a 37s 3o 83|map-clock-outline F0D1F av,ob,3a 37t 3o 83|map-legend F0A01 av,ob  ze of|map-marker F034E av,ob 37u,37v,37w,37x,37y p f|map-marker-account F18E3 av,l  p a6|map-marker-account-outline F18E4 av,l  p a6|map-marker-alert F0F05 av,q,ob 37z,380 93 t7|map-marker-alert-outline F0F06 av,q,ob 381,382 93 t7|map-marker-check F0C95 av,ob 383,384,385 p k|map-marker-check-outline F12FB av,ob 386,387 j 28|map-marker-circle F034F av,ob 388,389 p f|map-marker-distance F08F0 av,ob 38a 1 6f|map-marker-down F1102 av,ob 38b 93 35|map-marker-left F12DB av,ob 38c j 28|map-marker-left-outline F12DD av,ob 38d j 28|map-marker-minus F0650 av,ob 38e e 3y|map-marker-minus-outline F12F9 ob,av 38f j 28|map-marker-multiple F0350 av,ob 38g,38h,38i w f|map-marker-multiple-outline F1277 av,ob 38j,38k,38l w 47|map-marker-off F0351 av,ob 38m w f|map-marker-off-outline F12FD av,ob 38n j 28|map-marker-outline F07D9 av,ob 38o,38p,38q,38r p bq|map-marker-path F0D20 av,ob 38s w 83|map-marker-plus F0651 av,ob 38t,38u,38v e 3y|map-marker-plus-outline F12F8 ob,av 38w,38x,38y j 28|map-marker-question F0F07 av,ob 38z p t7|map-marker-question-outline F0F08 av,ob 390 p t7|map-marker-radius F0352 av,ob,m 391 w f|map-marker-radius-outline F12FC av,ob,m 392 j 28|map-marker-remove F0F09 av,ob 393 4h t7|map-marker-remove-outline F12FA ob,av 394 j 28|map-marker-remove-variant F0F0A av,ob 395 4h t7|map-marker-right F12DC av,ob 396 j 28|map-marker-right-outline F12DE av,ob 397 j 28|map-marker-star F1608 av 398,399,39a j c0|map-marker-star-outline F1609 av 39b,39c,39d j c0|map-marker-up F1103 av,ob 39e 93 35|map-minus F0981 av,ob  5u 1x|map-outline F0982 av,ob  p 1x|map-plus F0983 av,ob 39f 5u 1x|map-search F0984 av,ob  4h 1x|map-search-outline F0985 av,ob  4h 1x|mapbox F0BAA la  4s 13|margin F0353   w f|marker F0652 d2 39g p 3y|marker-cancel F0DD9 d2  j ap|marker-check F0355  39h,39i p f|mastodon F0AD1 la  4s 30|material-design F0986 la  p 1x|material-ui F0357 la  4s f|math-compass F0358 3,qu,av 39j 1k4 f|math-cos F0C96 3 39k,39l j k|math-integral F0FC8 3  j 2|math-integral-box F0FC9 3  j 2|math-log F1085 3  j 2i|math-norm F0FCA 3,0 39m,39n j 2|math-norm-box F0FCB 3,0 39o,39p j 2|math-sin F0C97 3 39q,39r j k|math-tan F0C98 3 39s,39t j k|matrix F0628   w 3y|medal F0987 po,pp 30a 1 1x|medal-outline F1326 pp  1 9|medical-bag F06EF 4u 39u,39v 11r 44|medical-cotton-swab F1AB8 4u 39w,39v p a9|medication F1B14 1pp,4u 39x,39y,39z p 1k|medication-outline F1B15 1pp,4u 3a0,3a1,3a2 p 1k|meditation F117B pp,a1 3a3 p 5e|memory F035B  2xd p f|menorah F17D4 z0,u6 16e,3a4,16d 4 3r|menorah-fire F17D5 z0,u6 3a5,16j,16h,3a6,16i,16f,16g 4 3r|menu F035C  3a7 p f|menu-down F035D oc 3a8,3a9 p f|menu-down-outline F06B6 oc 3aa w lc|menu-left F035E oc 3ab w f|menu-left-outline F0A02   5u of|menu-open F0BAB   p 13|menu-right F035F oc 3ac w f|menu-right-outline F0A03   5u of|menu-swap F0A64 oc  4h qy|menu-swap-outline F0A65 oc  4h qy|menu-up F0360 oc 3ad,3ae p f|menu-up-outline F06B7 oc 3af w lc|merge F0F5C   p si|message F0361  3ag p f|message-alert F0362 q 1pd,3ah,12y,3ai p f|message-alert-outline F0A04 q 131,1pe,3aj,3ak 4 of|message-arrow-left F12F2   j 28|message-arrow-left-outline F12F3   j 28|message-arrow-right F12F4   j 28|message-arrow-right-outline F12F5   j 28|message-badge F1941 bp 3al,3am p 9x|message-badge-outline F1942 bp 3an,3ao p 9x|message-bookmark F15AC   p lr|message-bookmark-outline F15AD   p lr|message-bulleted F06A2  3ap p c6|message-bulleted-off F06A3  3aq p c6|message-check F1B8A   1j 2e|message-check-outline F1B8B   1j 2e|message-cog F06F1 3h  1 44|message-cog-outline F1172 3h  j 5e|message-draw F0363  3ar p f|message-fast F19CC   e 4t|message-fast-outline F19CD   e 4t|message-flash F15A9  3as p lr|message-flash-outline F15AA  3at p lr|message-image F0364  3au p f|message-image-outline F116C   j 5e|message-lock F0FCC 59 3av e 2|message-lock-outline F116D 59  j 5e|message-minus F116E   j 5e|message-minus-outline F116F   j 5e|message-off F164D   4 ug|message-off-outline F164E   4 ug|message-outline F0365  3aw p f|message-plus F0653  3ax e 3y|message-plus-outline F10BB   3ay 2i|message-processing F0366  3az,3b0 p f|message-processing-outline F1170   j 5e|message-question F173A   4 5|message-question-outline F173B   4 5|message-reply F0367  3b1 p f|message-reply-outline F173D   4 5|message-reply-text F0368  3b2,3b3 p f|message-reply-text-outline F173E   4 5|message-settings F06F0 3h  1 44|message-settings-outline F1171 3h  j 5e|message-star F069A   xv c6|message-star-outline F1250   xv 6s|message-text F0369  2gp p f|message-text-clock F1173 3a  j 5e|message-text-clock-outline F1174 3a  j 5e|message-text-fast F19CE   e 4t|message-text-fast-outline F19CF   e 4t|message-text-lock F0FCD 59 3b4 e 2|message-text-lock-outline F1175 59  j 5e|message-text-outline F036A   w f|message-video F036B 15m 3b5 p f|meteor F0629 la  4s 3y|meter-electric F1A57 m 3b6,2ca p uz|meter-electric-outline F1A58 m 3b7,32q p uz|meter-gas F1A59 m 2bq p uz|meter-gas-outline F1A5A m 3b8 p uz|metronome F07DA c8 3b9,3ba,3bb 8 bq|metronome-tick F07DB c8 3bc,3bd,3be 8 bq|micro-sd F07DC   4h bq|microphone F036C c8 3bf p f|microphone-message F050A  3bg,3bh w f|microphone-message-off F050B  3bi,3bj w f|microphone-minus F08B3  3bk 1 4x|microphone-off F036D c8 3bl p f|microphone-outline F036E c8 3bm p f|microphone-plus F08B4  3bn 1 4x|microphone-question F1989 c7,c8 3bo j 5i|microphone-question-outline F198A c7,c8 3bp j 5i|microphone-settings F036F 3h 3bq p f|microphone-variant F0370 c8  w f|microphone-variant-off F0371 c8  w f|microscope F0654 r3  e 3y|microsoft F0372 la  4s f|microsoft-access F138E la  4s yt|microsoft-azure F0805 la  4s 7w|microsoft-azure-devops F0FD5 la  4s 2i|microsoft-bing F00A4 la  4s f|microsoft-dynamics-365 F0988 la  4s 1x|microsoft-edge F01E9 la 3br 4s f|microsoft-excel F138F la  4s yt|microsoft-internet-explorer F0300 la  4s f|microsoft-office F03C6 la  4s f|microsoft-onedrive F03CA la  4s f|microsoft-onenote F0747 la  4s cy|microsoft-outlook F0D22 la  4s 83|microsoft-powerpoint F1390 la  4s yt|microsoft-sharepoint F1391 la  4s yt|microsoft-teams F02BB la  4s f|microsoft-visual-studio F0610 la 3bs 4s f|microsoft-visual-studio-code F0A1E 0,la 3bt 4s of|microsoft-windows F05B3 la,po 3bu 4s f|microsoft-windows-classic F0A21 la  4s of|microsoft-word F1392 la  4s yt|microsoft-xbox F05B9 27c,la,po 3bv,3bw 4s f|microsoft-xbox-controller F05BA po 3bx w f|microsoft-xbox-controller-battery-alert F074B vo,po,q 3by,3bz w cy|microsoft-xbox-controller-battery-charging F0A22 po,vo 3c0 4s of|microsoft-xbox-controller-battery-empty F074C vo,po 3c1 w cy|microsoft-xbox-controller-battery-full F074D vo,po 3c2 w cy|microsoft-xbox-controller-battery-low F074E vo,po 3c3 w cy|microsoft-xbox-controller-battery-medium F074F vo,po 3c4 w cy|microsoft-xbox-controller-battery-unknown F0750 vo,po 3c5 w cy",
+    "microsoft-xbox-controller-menu F0E6F po  4h sb|microsoft-xbox-controller-off F05BB po 3c6 w f|microsoft-xbox-controller-view F0E70 po  4h sb|microwave F0C99 m,ty 3c7 4h k|microwave-off F1423 m  j ar|middleware F0F5D oc  1 si|middleware-outline F0F5E oc  1 si|midi F08F1 la,c8  4s 6f|midi-port F08F2 c8  4h 6f|mine F0DDA   1 ap|minecraft F0373 la 3c8 4s f|mini-sd F0A05   4h of|minidisc F0A06   4h of|minus F0374 3 1jy,3c9,3ca p f|minus-box F0375 3,13f 3cb p f|minus-box-multiple F1141 13f 3cc j 5e|minus-box-multiple-outline F1142 13f 3cd j 5e|minus-box-outline F06F2 3,13f 3ce p 44|minus-circle F0376 l5,4u,13f 3cf,1kl,3cg,3ch,39v,3ci p f|minus-circle-multiple F035A 13f 3cj j f|minus-circle-multiple-outline F0AD3 13f 3ck j 30|minus-circle-off F1459  3cl,3cm,3cn j ar|minus-circle-off-outline F145A  3co,3cp,3cq j ar|minus-circle-outline F0377 l5,4u,13f 1l2,3cr,3cs,3ct,3cu,3ci p f|minus-network F0378   w f|minus-network-outline F0C9A   j k|minus-thick F1639   4 ug|mirror F11FD m  w 6s|mirror-rectangle F179F m  j 3r|mirror-variant F17A0 m  j 3r|mixed-martial-arts F0D8F pp 3cv,3cw p ao|mixed-reality F087F   4h 4i|molecule F0BAC r3  w 13|molecule-co F12FE m,r3 3cx,3cy j 28|molecule-co2 F07E4 r3,m 3cz,3d0 4h bq|monitor F0379 160 3d1 p f|monitor-account F1A5B l,160 2zo,2zp,2zq 2zr uz|monitor-arrow-down F19D0 160 3d2 j 4t|monitor-arrow-down-variant F19D1 160 3d2 j 4t|monitor-cellphone F0989 15k,160 3d3,3d4 p 1x|monitor-cellphone-star F098A 15k,160 3d5,3d6,3d7,3d8 p 1x|monitor-dashboard F0A07 160  w of|monitor-edit F12C6 41  1 28|monitor-eye F13B4   2ua yt|monitor-lock F0DDB 160,59  w ap|monitor-multiple F037A 160 3d9 1w7 f|monitor-off F0D90 160  p ao|monitor-screenshot F0E51 160  p sb|monitor-share F1483   p cq|monitor-shimmer F1104 160 3da 1jd 35|monitor-small F1876 160 3db j 15|monitor-speaker F0F5F 160  1q2 si|monitor-speaker-off F0F60 160  1q2 si|monitor-star F0DDC 160 3dc w ap|monitor-vertical F1C33   2d ry|moon-first-quarter F0F61 ro  j si|moon-full F0F62 ro  j si|moon-last-quarter F0F63 ro  j si|moon-new F0F64 ro  j si|moon-waning-crescent F0F65 ro  j si|moon-waning-gibbous F0F66 ro  j si|moon-waxing-crescent F0F67 ro  j si|moon-waxing-gibbous F0F68 ro  j si|moped F1086 l5,as 3dd,3de,3df p 2i|moped-electric F15B7 l5 3dg,3dh,3di p c0|moped-electric-outline F15B8 l5 3dj,3dk,3dl p c0|moped-outline F15B9 l5 3dm,3dn,3do p c0|more F037B   p f|mortar-pestle F1748   4 3r|mortar-pestle-plus F03F1 4u 3dp,3dq,3dr,3ci p f|mosque F0D45 z0 3ds,3dt p ao|mosque-outline F1827 bm,z0 3ds,3dt p 3r|mother-heart F1314 a1  j 28|mother-nurse F0D21 4u,a1 3du j 83|motion F15B2   p lr|motion-outline F15B3   p lr|motion-pause F1590 15m  p lr|motion-pause-outline F1592 15m  p lr|motion-play F158F 15m  p lr|motion-play-outline F1591 15m  p lr|motion-sensor F0D91 m 3dv e ao|motion-sensor-off F1435 m  j ar|motorbike F037C l5,pp 3dw p f|motorbike-electric F15BA l5 3dx j c0|motorbike-off F1B16 l5 3dy j 1k|mouse F037D   p f|mouse-bluetooth F098B   w 1x|mouse-move-down F1550   j lr|mouse-move-up F1551   j lr|mouse-move-vertical F1552   j lr|mouse-off F037E   w f|mouse-variant F037F   w f|mouse-variant-off F0380   w f|move-resize F0655   e 3y|move-resize-variant F0656   e 3y|movie F0381 15m 3dz,3e0,3e1,3e2 p f|movie-check F16F3 15m 3e3,3e4,3e5 4 5|movie-check-outline F16F4 15m 3e6,3e7,3e8 4 5|movie-cog F16F5 15m,3h 3e9,3ea,3eb 4 5|movie-cog-outline F16F6 15m,3h 3ec,3ed,3ee 4 5|movie-edit F1122 15m,41 3ef,3eg,3eh l8 35|movie-edit-outline F1123 15m,41 3ei,3ej,3ek l8 35|movie-filter F1124 15m  p 35|movie-filter-outline F1125 15m  p 35|movie-minus F16F7 15m 3el,3em,3en 4 5|movie-minus-outline F16F8 15m 3eo,3ep,3eq 4 5|movie-off F16F9 15m 3er,3es,3et 4 5|movie-off-outline F16FA 15m 3eu,3ev,3ew 4 5|movie-open F0FCE 15m 3ex,3ey,3ez,3e2 4h 2|movie-open-check F16FB 15m 3f0,3f1,3f2 4 5|movie-open-check-outline F16FC 15m 3f3,3f4,3f5 4 5|movie-open-cog F16FD 15m,3h 3f6,3f7,3f8 4 5|movie-open-cog-outline F16FE 15m,3h 3f9,3fa,3fb 4 5|movie-open-edit F16FF 15m,41 3fc,3fd,3fe 4 5|movie-open-edit-outline F1700 15m,41 3ff,3fg,3fh 4 5|movie-open-minus F1701 15m 3fi,3fj,3fk 4 5|movie-open-minus-outline F1702 15m 3fl,3fm,3fn 4 5|movie-open-off F1703 15m 3fo,3fp,3fq 4 5|movie-open-off-outline F1704 15m 3fr,3fs,3ft 4 5|movie-open-outline F0FCF 15m 3fu,3fv,3fw,3e2 4h 2|movie-open-play F1705 15m 3fx,3fy,3fz 4 5|movie-open-play-outline F1706 15m 3g0,3g1,3g2 4 5|movie-open-plus F1707 15m 3g3,3g4,3g5 4 5|movie-open-plus-outline F1708 15m 3g6,3g7,3g8 4 5|movie-open-remove F1709 15m 3g9,3ga,3gb 4 5|movie-open-remove-outline F170A 15m 3gc,3gd,3ge 4 5|movie-open-settings F170B 15m,3h 3gf,3gg,3gh 4 5|movie-open-settings-outline F170C 15m,3h 3gi,3gj,3gk 4 5|movie-open-star F170D 15m 3gl,3gm,3gn,3go 4 5|movie-open-star-outline F170E 15m 3gp,3gq,3gr,3gs 4 5|movie-outline F0DDD 15m 3gt,3gu,3gv p ap|movie-play F170F 15m 3gw,3gx,3gy 4 5|movie-play-outline F1710 15m 3gz,3h0,3h1 4 5|movie-plus F1711 15m 3h2,3h3,3h4 4 5|movie-plus-outline F1712 15m 3h5,3h6,3h7 4 5|movie-remove F1713 15m 3h8,3h9,3ha 4 5|movie-remove-outline F1714 15m 3hb,3hc,3hd 4 5|movie-roll F07DE 15m 3he 3hf bq|movie-search F11D2 15m  mb ci|movie-search-outline F11D3 15m  mb ci|movie-settings F1715 15m,3h 3hg,3hh,3hi 4 5|movie-settings-outline F1716 15m,3h 3hj,3hk,3hl 4 5|movie-star F1717 15m 3hm,3hn,3ho,3hp 4 5|movie-star-outline F1718 15m 3hq,3hr,3hs,3ht 4 5|mower F166F sc,m  4 ug|mower-bag F1670 sc,m  4 ug|mower-bag-on F1B60 sc,m  1j 2e|mower-on F1B5F sc,m  1j 2e|muffin F098C ty  le 1x|multicast F1893  3hu,3hv e 15|multimedia F1B97 c7,15m,ru 3hw,3hx,3hy,3hz,3i0,3i1 j 2e|multiplication F0382 3  w f|multiplication-box F0383 3  w f|mushroom F07DF wq,ty,3m 3i2 3i3 bq|mushroom-off F13FA ty,wq,3m  j sf|mushroom-off-outline F13FB ty,wq,3m  j sf|mushroom-outline F07E0 wq,ty,3m 3i4 3i3 bq|music F075A c7,c8  w cy|music-accidental-double-flat F0F69 c8  j si|music-accidental-double-sharp F0F6A c8  j si|music-accidental-flat F0F6B c8  j si|music-accidental-natural F0F6C c8  j si|music-accidental-sharp F0F6D c8  j si|music-box F0384 c7,c8  w f|music-box-multiple F0333 c8 3i5 p f|music-box-multiple-outline F0F04 c8 3i6 j t7|music-box-outline F0385 c7,c8  w f|music-circle F0386 c7,c8 3i7 w f|music-circle-outline F0AD4 c8,c7 3i8 w 30|music-clef-alto F0F6E c8 3i9,3ia,3ib,3ic 8 si|music-clef-bass F0F6F c8 3id 8 si|music-clef-treble F0F70 c8 3ie 8 si|music-note F0387 c7,c8  w f|music-note-bluetooth F05FE c7,c8  e f|music-note-bluetooth-off F05FF c7,c8  e f|music-note-eighth F0388 c7,c8  w f|music-note-eighth-dotted F0F71 c8  j si|music-note-half F0389 c7,c8  w f|music-note-half-dotted F0F72 c8  j si|music-note-minus F1B89   j 2e|music-note-off F038A c7,c8  w f|music-note-off-outline F0F73 c8  j si|music-note-outline F0F74 c8  j si|music-note-plus F0DDE c7,c8 3if 4h ap|music-note-quarter F038B c7,c8  w f|music-note-quarter-dotted F0F75 c8  j si|music-note-sixteenth F038C c7,c8  w f|music-note-sixteenth-dotted F0F76 c8  j si|music-note-whole F038D c7,c8  w f|music-note-whole-dotted F0F77 c8  j si|music-off F075B c7,c8  w cy|music-rest-eighth F0F78 c8  j si|music-rest-half F0F79 c8  j si|music-rest-quarter F0F7A c8  j si|music-rest-sixteenth F0F7B c8  j si|music-rest-whole F0F7C c8  j si|mustache F15DE   p c0|nail F0DDF sc  j ap|nas F08F3  3ig e 6f|nativescript F0880 la  4s 4i|nature F038E wq,3m 2ct p f|nature-outline F1C71 wq  2d ry|nature-people F038F l,wq 2ct p f|nature-people-outline F1C72 l,wq  2d ry|navigation F0390 av 3ih p f|navigation-outline F1607 av  p c0|navigation-variant F18F0 av  p a6|navigation-variant-outline F18F1 av  p a6|near-me F05CD   p f|necklace F0F0B 11q  1 t7|needle F0391 4u 3ii,3ij,39v,3ik,3il,3im,3ci w f|needle-off F19D2 4u 3in,3io,3ip,3iq,3ir,3is,3it j 4t|netflix F0746 la  4s cy|network F06F3   w 44|network-off F0C9B   1 k|network-off-outline F0C9C   1 k|network-outline F0C9D   j k|network-pos F1ACB 2f 3iu,3iv 3iw a9|network-strength-1 F08F4 15k  e 6f|network-strength-1-alert F08F5 15k,q 3ix e 6f|network-strength-2 F08F6 15k  e 6f|network-strength-2-alert F08F7 15k,q 3iy e 6f|network-strength-3 F08F8 15k  e 6f|network-strength-3-alert F08F9 15k,q 3iz e 6f|network-strength-4 F08FA 15k  e 6f|network-strength-4-alert F08FB 15k,q 3j0 e 6f",
+    "network-strength-4-cog F191A 3h 3j1,3j2 j 9x|network-strength-off F08FC 15k  e 6f|network-strength-off-outline F08FD 15k  e 6f|network-strength-outline F08FE 15k 3j3 e 6f|new-box F0394  3j4 p f|newspaper F0395   p f|newspaper-check F1943   j 9x|newspaper-minus F0F0C   j t7|newspaper-plus F0F0D   j t7|newspaper-remove F1944   j 9x|newspaper-variant F1001   p 2|newspaper-variant-multiple F1002   j 2|newspaper-variant-multiple-outline F1003   j 2|newspaper-variant-outline F1004   p 2|nfc F0396 la 3j5 4s f|nfc-search-variant F0E53   z7 sb|nfc-tap F0397  3j6 w f|nfc-variant F0398 m 3j7 p f|nfc-variant-off F0E54 m 3j8 1m5 sb|ninja F0774   1 cy|nintendo-game-boy F1393 po  4h yt|nintendo-switch F07E1 la 3j9 4s bq|nintendo-wii F05AB la,po 3ja 4s f|nintendo-wiiu F072D la,po 3jb 4s 44|nix F1105 0,la  4s 35|nodejs F0399 la  4s f|noodles F117E ty 3jc,3jd p 5e|not-equal F098D   le 1x|not-equal-variant F098E 3  le 1x|note F039A  281,3je,3jf w f|note-alert F177D q 3jg,3jh,3ji 4 3r|note-alert-outline F177E q 3jj,3jk,3jl 4 3r|note-check F177F  3jm,3jn,3jo 4 3r|note-check-outline F1780  3jp,3jq,3jr 4 3r|note-edit F1781 41 3js,3jt,3ju 4 3r|note-edit-outline F1782 41 3jv,3jw,3jx 4 3r|note-minus F164F  3jy,3jz,3k0 4 ug|note-minus-outline F1650  3k1,3k2,3k3 4 ug|note-multiple F06B8  3k4,3k5,3k6,3k7 w lc|note-multiple-outline F06B9  3k8,3k9,3ka,3kb w lc|note-off F1783  3kc,3kd,3ke 4 3r|note-off-outline F1784  3kf,3kg,3kh 4 3r|note-outline F039B  2a5,3ki,3kj w f|note-plus F039C  2a9,3kk,3kl,3km,3kn,3ko,3kp w f|note-plus-outline F039D  3kq,3kr,3ks,3kt,3ku,3kv,3kw w f|note-remove F1651  3kx,3ky,3kz 4 ug|note-remove-outline F1652   4 ug|note-search F1653  3l0,3l1,3l2 4 ug|note-search-outline F1654  3l3,3l4,3l5 4 ug|note-text F039E  3l6,3l7,3l8 w f|note-text-outline F11D7  3l9,3la,3lb 1 ci|notebook F082E  3lc,3ld,3le 1w6 7w|notebook-check F14F5   w i|notebook-check-outline F14F6   w i|notebook-edit F14E7 41  w i|notebook-edit-outline F14E9 41  w i|notebook-heart F1A0B  3lf,3lg w 4t|notebook-heart-outline F1A0C  3lh,3li w 4t|notebook-minus F1610   j c0|notebook-minus-outline F1611   j c0|notebook-multiple F0E55  3lj,3lk 1w6 sb|notebook-outline F0EBF  3ll,3lm w 3p|notebook-plus F1612   j c0|notebook-plus-outline F1613   j c0|notebook-remove F1614   j c0|notebook-remove-outline F1615   j c0|notification-clear-all F039F bp  p f|npm F06F7 la  4s 44|nuke F06A4  3ln,3lo 4h c6|null F07E2   w bq|numeric F03A0 6 1rb,3lp,3lq,3lr w f|numeric-0 F0B39 6 3ls,3lt 4h 5v|numeric-0-box F03A1 6 3lu,3lv p f|numeric-0-box-multiple F0F0E 6  4s t7|numeric-0-box-multiple-outline F03A2 6 3lw,3lx,3ly p f|numeric-0-box-outline F03A3 6 3lz,3m0 p f|numeric-0-circle F0C9E 6 3m1,3m2,3m3 4s k|numeric-0-circle-outline F0C9F 6 3m4,3m5,3m6 4s k|numeric-1 F0B3A 6 3m7,3m8 4h 5v|numeric-1-box F03A4 6 3m9,3ma,3mb p f|numeric-1-box-multiple F0F0F 6  4s t7|numeric-1-box-multiple-outline F03A5 6 3mc,3md,3me,3mf p f|numeric-1-box-outline F03A6 6 3mg,3mh p f|numeric-1-circle F0CA0 6 3mi,3mj,3mk 4s k|numeric-1-circle-outline F0CA1 6 3ml,3mm,3mn 4s k|numeric-10 F0FE9 6  4h 2|numeric-10-box F0F7D 6  j si|numeric-10-box-multiple F0FEA 6  4s 2|numeric-10-box-multiple-outline F0FEB 6  4s 2|numeric-10-box-outline F0F7E 6  j si|numeric-10-circle F0FEC 6  4s 2|numeric-10-circle-outline F0FED 6  4s 2|numeric-2 F0B3B 6 3mo,3mp 4h 5v|numeric-2-box F03A7 6 3mq,3mr,3ms p f|numeric-2-box-multiple F0F10 6  4s t7|numeric-2-box-multiple-outline F03A8 6 3mt,3mu,3mv,3mw p f|numeric-2-box-outline F03A9 6 3mx,3my p f|numeric-2-circle F0CA2 6 3mz,3n0,3n1 4s k|numeric-2-circle-outline F0CA3 6 3n2,3n3,3n4 4s k|numeric-3 F0B3C 6 3n5,3n6 4h 5v|numeric-3-box F03AA 6 3n7,3n8,3n9 p f|numeric-3-box-multiple F0F11 6  4s t7|numeric-3-box-multiple-outline F03AB 6 3na,3nb,3nc,3nd p f|numeric-3-box-outline F03AC 6 3ne,3nf p f|numeric-3-circle F0CA4 6 3ng,3nh,3ni 4s k|numeric-3-circle-outline F0CA5 6 3nj,3nk,3nl 4s k|numeric-4 F0B3D 6 3nm,3nn 4h 5v|numeric-4-box F03AD 6 3no,3np,3nq p f|numeric-4-box-multiple F0F12 6  4s t7|numeric-4-box-multiple-outline F03B2 6 3nr,3ns,3nt,3nu p f|numeric-4-box-outline F03AE 6 3nv,3nw p f|numeric-4-circle F0CA6 6 3nx,3ny,3nz 4s k|numeric-4-circle-outline F0CA7 6 3o0,3o1,3o2 4s k|numeric-5 F0B3E 6 3o3,3o4 4h 5v|numeric-5-box F03B1 6 3o5,3o6,3o7 p f|numeric-5-box-multiple F0F13 6  4s t7|numeric-5-box-multiple-outline F03AF 6 3o8,3o9,3oa,3ob p f|numeric-5-box-outline F03B0 6 3oc,3od p f|numeric-5-circle F0CA8 6 3oe,3of,3og 4s k|numeric-5-circle-outline F0CA9 6 3oh,3oi,3oj 4s k|numeric-6 F0B3F 6 3ok,3ol 4h 5v|numeric-6-box F03B3 6 3om,3on,3oo p f|numeric-6-box-multiple F0F14 6  4s t7|numeric-6-box-multiple-outline F03B4 6 3op,3oq,3or,3os p f|numeric-6-box-outline F03B5 6 3ot,3ou p f|numeric-6-circle F0CAA 6 3ov,3ow,3ox 4s k|numeric-6-circle-outline F0CAB 6 3oy,3oz,3p0 4s k|numeric-7 F0B40 6 3p1,3p2 4h 5v|numeric-7-box F03B6 6 3p3,3p4 p f|numeric-7-box-multiple F0F15 6  4s t7|numeric-7-box-multiple-outline F03B7 6 3p5,3p6,3p7,3p8 p f|numeric-7-box-outline F03B8 6 3p9,3pa p f|numeric-7-circle F0CAC 6 3pb,3pc,3pd 4s k|numeric-7-circle-outline F0CAD 6 3pe,3pf,3pg 4s k|numeric-8 F0B41 6 3ph,3pi 4h 5v|numeric-8-box F03B9 6 3pj,3pk p f|numeric-8-box-multiple F0F16 6  4s t7|numeric-8-box-multiple-outline F03BA 6 3pl,3pm,3pn,3po p f|numeric-8-box-outline F03BB 6 3pp,3pq p f|numeric-8-circle F0CAE 6 3pr,3ps,3pt 4s k|numeric-8-circle-outline F0CAF 6 3pu,3pv,3pw 4s k|numeric-9 F0B42 6 3px,3py 4h 5v|numeric-9-box F03BC 6 3pz,3q0 p f|numeric-9-box-multiple F0F17 6  4s t7|numeric-9-box-multiple-outline F03BD 6 3q1,3q2,3q3,3q4 p f|numeric-9-box-outline F03BE 6 3q5,3q6 p f|numeric-9-circle F0CB0 6 3q7,3q8,3q9 4s k|numeric-9-circle-outline F0CB1 6 3qa,3qb,3qc 4s k|numeric-9-plus F0FEE 6  4h 2|numeric-9-plus-box F03BF 6 3qd,3qe p f|numeric-9-plus-box-multiple F0F18 6  4s t7|numeric-9-plus-box-multiple-outline F03C0 6 3qf,3qg,3qh,3qi p f|numeric-9-plus-box-outline F03C1 6 3qj,3qk p f|numeric-9-plus-circle F0CB2 6 3ql,3qm,3qn 4s k|numeric-9-plus-circle-outline F0CB3 6 3qo,3qp,3qq 4s k|numeric-negative-1 F1052 6 3qr,3qs 4s 1y|numeric-off F19D3 6 3qt,3qu,3qv 3qw 4t|numeric-positive-1 F15CB 6 3qx,3qy j c0|nut F06F8 sc  e 44|nutrition F03C2 ty  w f|nuxt F1106 0,la  4s 35|oar F067C   11r c6|ocarina F0DE0 c8,po  j ap|oci F12E9 0,la 3qz 4s 28|ocr F113A  3r0 e 5e|octagon F03C3 1ie,l5 3r1 e f|octagon-outline F03C4 1ie,l5 3r2 e f|octagram F06F9 1ie 1ux w 44|octagram-edit F1C34 1ie 3r3 2d ry|octagram-edit-outline F1C35 1ie 3r4 2d ry|octagram-minus F1C36 1ie 3r5 2d ry|octagram-minus-outline F1C37 1ie 3r6 2d ry|octagram-outline F0775 1ie 1uy w cy|octagram-plus F1C38 1ie 3r5 2d ry|octagram-plus-outline F1C39   2d ry|octahedron F1950 1ie  4 9x|octahedron-off F1951 1ie  4 9x|odnoklassniki F03C5 la 3r7 4s f|offer F121B   e 6s|office-building F0991 bm  4h 1x|office-building-cog F1949 3h,bm 3r8 3r9 9x|office-building-cog-outline F194A 3h,bm 3ra 3r9 9x|office-building-marker F1520 av,bm 3rb 3r9 i|office-building-marker-outline F1521 av,bm 3rc 3r9 i|office-building-minus F1BAA   j 2e|office-building-minus-outline F1BAB   j 2e|office-building-outline F151F bm  3r9 i|office-building-plus F1BA8   j 2e|office-building-plus-outline F1BA9   3rd 2e|office-building-remove F1BAC   j 2e|office-building-remove-outline F1BAD   j 2e|oil F03C7 ak  w f|oil-lamp F0F19  3re,3rf 1 t7|oil-level F1053 ak  j 1y|oil-temperature F0FF8 ak  j 2|om F0973 z0 3rg,3rh le 1x|omega F03C9  3ri,3rj w f|one-up F0BAD po 3rk,3rl j 13|onepassword F0881 la 3rm 4s 4i|opacity F05CC   p f|open-in-app F03CB  3rn p f|open-in-new F03CC  3ro p f|open-source-initiative F0BAE la  4s 13|openid F03CD la  4s f|opera F03CE la  4s f|orbit F0018 r3  6e f|orbit-variant F15DB ru 3rp j c0|order-alphabetical-ascending F020D d2  e f|order-alphabetical-descending F0D07 d2  e 83|order-bool-ascending F02BE d2  e f|order-bool-ascending-variant F098F d2 3rq e 1x|order-bool-descending F1384 d2 3rr e yt|order-bool-descending-variant F0990 d2  e 1x|order-numeric-ascending F0545 d2  e f|order-numeric-descending F0546 d2  e f|origin F0B43 la  4s 5v|ornament F03CF u6  w f|ornament-variant F03D0 u6  w f|outdoor-lamp F1054 m 3rs 1mp 1y|overscan F1005  3rt p 2|owl F03D2 vn,u6  e f|pac-man F0BAF po  1 13|package F03D3  m6 w f",
+    "package-check F1B51  3ru 1q2 1k|package-down F03D4  3rv,3rw,ma p f|package-up F03D5  3rx,3ry,me w f|package-variant F03D6  3rz w f|package-variant-closed F03D7  3s0 w f|package-variant-closed-check F1B52  3s1 1q2 1k|package-variant-closed-minus F19D4  3s2,3s3,3s4 3s5 4t|package-variant-closed-plus F19D5  3s6,3s7,3s8 3s5 4t|package-variant-closed-remove F19D6  3s9 3s5 4t|package-variant-minus F19D7  3sa,3sb,3sc j 4t|package-variant-plus F19D8  3sd,3se,3sf j 4t|package-variant-remove F19D9  3sg j 4t|page-first F0600  3sh,3si p f|page-last F0601  3sj,3sk p f|page-layout-body F06FA   w 44|page-layout-footer F06FB   w 44|page-layout-header F06FC   w 44|page-layout-header-footer F0F7F  3sl j si|page-layout-sidebar-left F06FD   w 44|page-layout-sidebar-right F06FE   w 44|page-next F0BB0  3sm 1 13|page-next-outline F0BB1  3sn 1 13|page-previous F0BB2   1 13|page-previous-outline F0BB3   1 13|pail F1417  3so w sf|pail-minus F1437  3sp j ar|pail-minus-outline F143C  3sq j ar|pail-off F1439  3sr j ar|pail-off-outline F143E  3ss j ar|pail-outline F143A  3st j ar|pail-plus F1436  3su j ar|pail-plus-outline F143B  3sv j ar|pail-remove F1438  3sw j ar|pail-remove-outline F143D  3sx j ar|palette F03D8 117,qu 3sy,3sz,2fg,3t0,3t1 p f|palette-advanced F03D9 117,qu 2fg w f|palette-outline F0E0C qu,117,ob 3t2 p 3t3|palette-swatch F08B5 qu,117 3t4,2fg,3t5 p 4x|palette-swatch-outline F135C qu,117 3t6,3t2 p 9|palette-swatch-variant F195A qu,117 3t4,2fg,3t5 3t7 9x|palm-tree F1055 wq  j 1y|pan F0BB4   e 13|pan-bottom-left F0BB5  3t8 e 13|pan-bottom-right F0BB6  3t9 e 13|pan-down F0BB7   e 13|pan-horizontal F0BB8   e 13|pan-left F0BB9   e 13|pan-right F0BBA   e 13|pan-top-left F0BBB  3ta e 13|pan-top-right F0BBC  3tb e 13|pan-up F0BBD   e 13|pan-vertical F0BBE   e 13|panda F03DA vn 3tc,3td w f|pandora F03DB la  4s f|panorama F03DC ru  p f|panorama-fisheye F03DD  3te p f|panorama-horizontal F1928 ru  p 9x|panorama-horizontal-outline F03DE ru  p f|panorama-outline F198C ru  p 5i|panorama-sphere F198D ru 3tf p 5i|panorama-sphere-outline F198E ru 3tg p 5i|panorama-variant F198F ru 3th,3ti,3tj,3tk,3tl p 5i|panorama-variant-outline F1990 ru 3tm,3tn,3to,3tp,3tq p 5i|panorama-vertical F1929 ru  p 9x|panorama-vertical-outline F03DF ru  p f|panorama-wide-angle F195F ru  p 9x|panorama-wide-angle-outline F03E0 ru  p f|paper-cut-vertical F03E1   w f|paper-roll F1157 m,1mg 3tr,3ts,3tt,3tu,3tv,3tw e 5e|paper-roll-outline F1158 m,1mg 3tx,3ty,3tz,3u0,3u1,3u2 e 5e|paperclip F03E2  3u3,3u4 p f|paperclip-check F1AC6  r8,3u5,r6 4 a9|paperclip-lock F19DA 59 3u6 e 4t|paperclip-minus F1AC7  rb,3u7,rc 4 a9|paperclip-off F1AC8  3u8 4 a9|paperclip-plus F1AC9  rf,3u9,rg 4 a9|paperclip-remove F1ACA  3ua 4 a9|parachute F0CB4 a4  j k|parachute-outline F0CB5 a4  j k|paragliding F1745 pp 3ub,3uc p 3r|parking F03E3 bm 3ud,3ue p f|party-popper F1056 u6 3uf p 1y|passport F07E3   4h bq|passport-biometric F0DE1  3ug 4h ap|pasta F1160 ty 3uh,3ui p 5e|patio-heater F0F80 m  j si|patreon F0882 la  4s 4i|pause F03E4 m  p f|pause-box F00BC c7,c8  j f|pause-box-outline F1B7A c7,c8  j 2e|pause-circle F03E5  3uj p f|pause-circle-outline F03E6   p f|pause-octagon F03E7  3uk w f|pause-octagon-outline F03E8  3ul w f|paw F03E9 vn,wq 3um e f|paw-off F0657 vn  e 3y|paw-off-outline F1676 vn  4 ug|paw-outline F1675 vn  4 ug|peace F0884   1 4i|peanut F0FFC ty,3m 3un,3uo 1 2|peanut-off F0FFD ty,3m 3up,3uq 1 2|peanut-off-outline F0FFF ty,3m 3ur,3us 1 2|peanut-outline F0FFE ty,3m 3ut,3uu 1 2|pen F03EA qu  w f|pen-lock F0DE2 59  j ap|pen-minus F0DE3   j ap|pen-off F0DE4   j ap|pen-plus F0DE5  3uv j ap|pen-remove F0DE6   j ap|pencil F03EB qu,41 3uw,3ux,3uy p f|pencil-box F03EC qu 3uz w f|pencil-box-multiple F1144 41 3v0 j 5e|pencil-box-multiple-outline F1145 41 3v1 j 5e|pencil-box-outline F03ED qu 3v2 w f|pencil-circle F06FF qu 3v3 4h 44|pencil-circle-outline F0776 qu 3v4 w cy|pencil-lock F03EE 59  e f|pencil-lock-outline F0DE7 59  j ap|pencil-minus F0DE8   j ap|pencil-minus-outline F0DE9   j ap|pencil-off F03EF  3v5 e f|pencil-off-outline F0DEA  3v6 j ap|pencil-outline F0CB6 qu,41 3v7,3v8,3v9 p k|pencil-plus F0DEB  3va j ap|pencil-plus-outline F0DEC  3vb j ap|pencil-remove F0DED   j ap|pencil-remove-outline F0DEE   j ap|pencil-ruler F1353 qu 3vc j 9|pencil-ruler-outline F1C11 qu  mb a0|penguin F0EC0 vn 3vd,3ve,3vf 3o 3p|pentagon F0701 1ie  j 44|pentagon-outline F0700 1ie  j 44|pentagram F1667   w ug|percent F03F0 3,v0 12k,12l e f|percent-box F1A02 3,v0 3vg,3vh 4 4t|percent-box-outline F1A03 3,v0 3vi,3vj 4 4t|percent-circle F1A04 3,v0 3vk,3vl 4 4t|percent-circle-outline F1A05 3,v0 3vm,3vn 4 4t|percent-outline F1278 3,v0 3vo,3vp 3vq 47|periodic-table F08B6 r3  e 4x|perspective-less F0D23 3 3vr j 83|perspective-more F0D24 3 3vs j 83|ph F17C5 r3,m 3vt,3vu,3vv,3vw j 3r|phone F03F2 15k 3vx,3vy,3vz p f|phone-alert F0F1A 15k,q  3w0 t7|phone-alert-outline F118E 15k,q  j ci|phone-bluetooth F03F3 15k 3w1,3w2 p f|phone-bluetooth-outline F118F 15k  p ci|phone-cancel F10BC 15k 3w3 3w0 2i|phone-cancel-outline F1190 15k  j ci|phone-check F11A9 15k  1 ci|phone-check-outline F11AA 15k  1 ci|phone-classic F0602 15k  e f|phone-classic-off F1279   w 47|phone-clock F19DB 15k,3a 3w4,3w5 e 4t|phone-dial F1559 15k 3w6 93 lr|phone-dial-outline F155A 15k 3w7 93 lr|phone-forward F03F4 15k 3w8,3w9 p f|phone-forward-outline F1191 15k  p ci|phone-hangup F03F5 15k 3wa,3wb p f|phone-hangup-outline F1192 15k  p ci|phone-in-talk F03F6 15k 3wc p f|phone-in-talk-outline F1182 15k 3wd p 5e|phone-incoming F03F7 15k 3we e f|phone-incoming-outgoing F1B3F 15k  j 1k|phone-incoming-outgoing-outline F1B40 15k  j 1k|phone-incoming-outline F1193 15k  p ci|phone-lock F03F8 15k,59 3wf,3wg,3wh p f|phone-lock-outline F1194 15k,59  p ci|phone-log F03F9 15k  e f|phone-log-outline F1195 15k  e ci|phone-message F1196 15k  p ci|phone-message-outline F1197 15k  p ci|phone-minus F0658 15k  p 3y|phone-minus-outline F1198 15k  p ci|phone-missed F03FA 15k  p f|phone-missed-outline F11A5 15k  p ci|phone-off F0DEF 15k  4h ap|phone-off-outline F11A6 15k  p ci|phone-outgoing F03FB 15k  e f|phone-outgoing-outline F1199 15k  e ci|phone-outline F0DF0 15k 3wi,3wj p ap|phone-paused F03FC 15k  p f|phone-paused-outline F119A 15k  p ci|phone-plus F0659 15k 3wk p 3y|phone-plus-outline F119B 15k  p ci|phone-refresh F1993 15k 3wl j 5i|phone-refresh-outline F1994 15k 3wm j 5i|phone-remove F152F 15k  j i|phone-remove-outline F1530 15k  j i|phone-return F082F 15k  1 7w|phone-return-outline F119C 15k  1 ci|phone-ring F11AB 15k  p ci|phone-ring-outline F11AC 15k  p ci|phone-rotate-landscape F0885 15k  1 4i|phone-rotate-portrait F0886 15k  1 4i|phone-settings F03FD 3h,15k 3wn p f|phone-settings-outline F119D 15k,3h  p ci|phone-sync F1995 15k 3wl j 5i|phone-sync-outline F1996 15k 3wm j 5i|phone-voip F03FE 15k  e f|pi F03FF 3  e f|pi-box F0400 3  e f|pi-hole F0DF1 la  4s ap|piano F067D c8  p c6|piano-off F0698 c8  p c6|pickaxe F08B7   1 4x|picture-in-picture-bottom-right F0E57   p sb|picture-in-picture-bottom-right-outline F0E58   p sb|picture-in-picture-top-right F0E59   p sb|picture-in-picture-top-right-outline F0E5A   p sb|pier F0887 bm,l9  j 4i|pier-crane F0888 l9,bm  j 4i|pig F0401 vn,3m 3wo,3wp w f|pig-variant F1006 vn,3m  p 2|pig-variant-outline F1678 3m,vn  p ug|piggy-bank F1007 2f  p 2|piggy-bank-outline F1679 2f  p ug|pill F0402 4u 39v,3wq,3il,3ci w f|pill-multiple F1B4C 4u 39v,3wr,3ws 1q2 1k|pill-off F1A5C 4u 3ip,3wt,3ir,3it 4s uz|pillar F0702  3wu,3wv 4h 44|pin F0403  3ww p f|pin-off F0404  3wx w f|pin-off-outline F0930  3wy 3wz 3x0|pin-outline F0931  3x1 p 3x0|pine-tree F0405 u6,wq,bm,3m 3x2,2ct w f|pine-tree-box F0406 u6,wq,3m 2ct w f|pine-tree-fire F141A wq,3m 3x3,3x4 w ar|pine-tree-variant F1C73 wq,bm,3m  2d ry|pine-tree-variant-outline F1C74 bm,wq,3m  2d ry|pinterest F0407 la  4s f|pinwheel F0AD5  3x5 p 30|pinwheel-outline F0AD6  3x6 p 30|pipe F07E5 m  1 bq|pipe-disconnected F07E6 m  1 bq|pipe-leak F0889 m  4h 4i|pipe-valve F184D m  j 15|pipe-wrench F1354 sc 3x7 p 9|pirate F0A08   j of|pistol F0703  3x8 1 44|piston F088A ak  1 4i|pitchfork F1553 sc  j lr|pizza F0409 ty,bm 3x9,3xa p f|plane-car F1AFF a4,l5 3xb,3xc,3xd j 1k|plane-train F1B00 a4,as 3xb,3xe j 1k|play F040A m 3xf p f",
+    "play-box F127A   mb 47|play-box-edit-outline F1C3A   qx ry|play-box-lock F1A16 15m,59  e 4t|play-box-lock-open F1A17 15m,59  e 4t|play-box-lock-open-outline F1A18 15m,59  e 4t|play-box-lock-outline F1A19 15m,59  e 4t|play-box-multiple F0D19   p 83|play-box-multiple-outline F13E6   p sf|play-box-outline F040B  3xg p f|play-circle F040C  3xh p f|play-circle-outline F040D   p f|play-network F088B  3xi 1 4i|play-network-outline F0CB7  3xj j k|play-outline F0F1B   j t7|play-pause F040E m  e f|play-protected-content F040F   p f|play-speed F08FF   p 6f|playlist-check F05C7  3xk,3xl,3xm p f|playlist-edit F0900 41  4h 6f|playlist-minus F0410   w f|playlist-music F0CB8 c8 3xn,3xo p k|playlist-music-outline F0CB9 c8 3xp,3xq p k|playlist-play F0411   p f|playlist-plus F0412  3xr p f|playlist-remove F0413   p f|playlist-star F0DF2  3xs p ap|plex F06BA la  4s lc|pliers F19A4 sc  j 5i|plus F0415 3 3xt p f|plus-box F0416 3 3xu p f|plus-box-multiple F0334  3xv,3xw,3xx,3xy p f|plus-box-multiple-outline F1143   j 5e|plus-box-outline F0704 3  p 44|plus-circle F0417  3xz p f|plus-circle-multiple F034C  3y0 j f|plus-circle-multiple-outline F0418  3y1,3y2,3y3 p f|plus-circle-outline F0419  3y4,3y5,3y6 p f|plus-lock F1A5D 59 3y7 4s uz|plus-lock-open F1A5E 59  4s uz|plus-minus F0992 3  le 1x|plus-minus-box F0993 3  le 1x|plus-minus-variant F14C9 3  w cq|plus-network F041A  3y8 w f|plus-network-outline F0CBA  3y9 j k|plus-outline F0705   j 44|plus-thick F11EC 3 3ya,3yb,3yc w ci|podcast F0994   p 1x|podium F0D25 pp  1 83|podium-bronze F0D26 pp 3yd 1 83|podium-gold F0D27 pp 3ye 1 83|podium-silver F0D28 pp 3yf 1 83|point-of-sale F0D92   2ef ao|pokeball F041D po  w f|pokemon-go F0A09 po,la  4s of|poker-chip F0830 po 3yg,3yh 1 7w|polaroid F041E   w f|police-badge F1167   j 5e|police-badge-outline F1168   j 5e|police-station F1839 bm  4 15|poll F041F  3yi,ct,3yj,3yk w f|polo F14C3 pp  p cq|polymer F0421 la,0  4s f|pool F0606 bm,m 3yl w f|pool-thermometer F1A5F m 3ym j uz|popcorn F0422 ty  w f|post F1008  3yn p 2|post-lamp F1A60 m 3yo 3yp uz|post-outline F1009  3yq j 2|postage-stamp F0CBB   e k|pot F02E5 ty,u6  e f|pot-mix F065B ty,u6  e 3y|pot-mix-outline F0677 ty,u6  e c6|pot-outline F02FF ty,u6  e f|pot-steam F065A ty,u6  e 3y|pot-steam-outline F0326 ty,u6  e f|pound F0423  3yr w f|pound-box F0424  3ys w f|pound-box-outline F117F  3yt 1 5e|power F0425 m 3yu,3yv p f|power-cycle F0901   1 6f|power-off F0902   1 6f|power-on F0903   1 6f|power-plug F06A5 m  p c6|power-plug-battery F1C3B m,vo 3yw 2d ry|power-plug-battery-outline F1C3C m,vo 3yx 2d ry|power-plug-off F06A6 m 3yy e c6|power-plug-off-outline F1424 m  j ar|power-plug-outline F1425 m  j ar|power-settings F0426 3h 3yz p f|power-sleep F0904   1 6f|power-socket F0427 m 3z0 e f|power-socket-au F0905 m 3z1,3z2,3z3,3z4,3z5,3z6,3z7,3z8,3z9,3za,3zb 4h 6f|power-socket-ch F0FB3 m 3zc,3zd,3ze,3zf,3zg 3zh 2|power-socket-de F1107 m  4h 35|power-socket-eu F07E7 m 3zi,3zj 4h bq|power-socket-fr F1108 m  4h 35|power-socket-it F14FF   3zk i|power-socket-jp F1109 m  8 35|power-socket-uk F07E8 m 3zl,3zm,3zn,3zo,3zp,3zq,3zr,3zs,3zt,3zu,3zv,3zw,3zx,3zy,3zz 4h bq|power-socket-us F07E9 m 400,401,402,403,404,405,406,407 4h bq|power-standby F0906   1 6f|powershell F0A0A   4s of|prescription F0706 4u  6e 44|presentation F0428   w f|presentation-play F0429   w f|pretzel F1562 ty  13e lr|printer F042A 1mg,m 408,409 p f|printer-3d F042B 1mg,m  w f|printer-3d-nozzle F0E5B 1mg  40a sb|printer-3d-nozzle-alert F11C0 q,1mg  w ci|printer-3d-nozzle-alert-outline F11C1 q,1mg  w ci|printer-3d-nozzle-heat F18B8 1mg  1ao a6|printer-3d-nozzle-heat-outline F18B9 1mg  1ao a6|printer-3d-nozzle-off F1B19 1mg  j 1k|printer-3d-nozzle-off-outline F1B1A 1mg  j 1k|printer-3d-nozzle-outline F0E5C 1mg  40a sb|printer-3d-off F1B0E 1mg  1q2 1k|printer-alert F042C 1mg,m,q 40b,40c w f|printer-check F1146 1mg  z7 5e|printer-eye F1458 1mg 40d,40e j ar|printer-off F0E5D 1mg  4h sb|printer-off-outline F1785 1mg  p 3r|printer-outline F1786 1mg  p 3r|printer-pos F1057 1mg 40f,40g 1 1y|printer-pos-alert F1BBC q,1mg 40h,40i 4 a0|printer-pos-alert-outline F1BBD 1mg,q 40j,40k 4 a0|printer-pos-cancel F1BBE 1mg 40l,40m 4 a0|printer-pos-cancel-outline F1BBF 1mg 40n,40o 4 a0|printer-pos-check F1BC0 1mg 40p,40q 4 a0|printer-pos-check-outline F1BC1 1mg 40r,40s 4 a0|printer-pos-cog F1BC2 1mg 40t,40u 4 a0|printer-pos-cog-outline F1BC3 1mg 40v,40w 4 a0|printer-pos-edit F1BC4 1mg 40x,40y 4 a0|printer-pos-edit-outline F1BC5 1mg 40z,410 4 a0|printer-pos-minus F1BC6 1mg 411,412 4 a0|printer-pos-minus-outline F1BC7 1mg 413,414 4 a0|printer-pos-network F1BC8 1mg 415,416 4 a0|printer-pos-network-outline F1BC9 1mg 417,418 4 a0|printer-pos-off F1BCA 1mg 419,41a 4 a0|printer-pos-off-outline F1BCB 1mg 41b,41c 4 a0|printer-pos-outline F1BCC 1mg 41d,41e 4 a0|printer-pos-pause F1BCD 1mg 41f,41g 4 a0|printer-pos-pause-outline F1BCE 1mg 41h,41i 4 a0|printer-pos-play F1BCF 1mg 41j,41k 4 a0|printer-pos-play-outline F1BD0 1mg 41l,41m 4 a0|printer-pos-plus F1BD1 1mg 41n,41o 4 a0|printer-pos-plus-outline F1BD2 1mg 41p,41q 4 a0|printer-pos-refresh F1BD3 1mg 41r,41s 4 a0|printer-pos-refresh-outline F1BD4 1mg 41t,41u 4 a0|printer-pos-remove F1BD5 1mg 41v,41w 4 a0|printer-pos-remove-outline F1BD6 1mg 41x,41y 4 a0|printer-pos-star F1BD7 1mg 41z,420,421,422 4 a0|printer-pos-star-outline F1BD8 1mg 423,424 4 a0|printer-pos-stop F1BD9 1mg 425,426 4 a0|printer-pos-stop-outline F1BDA 1mg 427,428 4 a0|printer-pos-sync F1BDB 1mg 429,42a 4 a0|printer-pos-sync-outline F1BDC 1mg 42b,42c 4 a0|printer-pos-wrench F1BDD 1mg 42d,42e 4 a0|printer-pos-wrench-outline F1BDE 1mg 42f,42g 4 a0|printer-search F1457 1mg 40d,42h j ar|printer-settings F0707 3h,1mg  e 44|printer-wireless F0A0B 1mg  1 of|priority-high F0603   p f|priority-low F0604  42i p f|professional-hexagon F042D   w f|progress-alert F0CBC q 42j 1 k|progress-check F0995  42k 4h 1x|progress-clock F0996 3a  5u 1x|progress-close F110A   j 35|progress-download F0997   w 1x|progress-helper F1BA2   2d 2e|progress-pencil F1787   xv 3r|progress-question F1522   j i|progress-star F1788   xv 3r|progress-star-four-points F1C3D  42l 2d ry|progress-upload F0998   w 1x|progress-wrench F0CBD sc 42m j k|projector F042E 160,m  e f|projector-off F1A23 160,m  z7 4t|projector-screen F042F 160,m  e f|projector-screen-off F180D m  42n 3r|projector-screen-off-outline F180E m  42n 3r|projector-screen-outline F1724 m  j 5|projector-screen-variant F180F m  42n 3r|projector-screen-variant-off F1810 m  42n 3r|projector-screen-variant-off-outline F1811 m  42n 3r|projector-screen-variant-outline F1812 m  42n 3r|propane-tank F1357   p 9|propane-tank-outline F1358   p 9|protocol F0FD8   1 2|publish F06A7   p c6|publish-off F1945 oc 42o j 9x|pulse F0430 4u 42p w f|pump F1402   42q sf|pump-off F1B22   j 1k|pumpkin F0BBF u6  w 13|purse F0F1C   4 t7|purse-outline F0F1D   4 t7|puzzle F0431 po 42r,42s p f|puzzle-check F1426 po  w ar|puzzle-check-outline F1427 po  w ar|puzzle-edit F14D3 po,41  j cq|puzzle-edit-outline F14D9 po,41  j cq|puzzle-heart F14D4 po  j cq|puzzle-heart-outline F14DA po  j cq|puzzle-minus F14D1 po  j cq|puzzle-minus-outline F14D7 po  j cq|puzzle-outline F0A66 po 42t,42u p qy|puzzle-plus F14D0 po  j cq|puzzle-plus-outline F14D6 po  j cq|puzzle-remove F14D2 po  j cq|puzzle-remove-outline F14D8 po  j cq|puzzle-star F14D5 po 42v j cq|puzzle-star-outline F14DB po 42w j cq|pyramid F1952 1ie  4 9x|pyramid-off F1953 1ie  4 9x|qi F0999 la  4s 1x|qqchat F0605 la  4s f|qrcode F0432   w f|qrcode-edit F08B8 41  1 4x|qrcode-minus F118C   5u 5e|qrcode-plus F118B   5u 5e|qrcode-remove F118D   5u 5e|qrcode-scan F0433   e f|quadcopter F0434  42x w f|quality-high F0435 15m 42y,42z p f|quality-low F0A0C  430,431 j of|quality-medium F0A0D  432,433 j of|quora F0D29   4s 83|rabbit F0907 vn,wq 434,435 3o 6f|rabbit-variant F1A61 vn,u6,wq 434,436,435,437 p uz|rabbit-variant-outline F1A62 vn,u6,wq 438,439,43a,43b p uz|racing-helmet F0D93 pp  p ao|racquetball F0D94 pp 43c,43d p ao|radar F0437  43e p f|radiator F0438 m 43f w f|radiator-disabled F0AD7 m 43g j 30|radiator-off F0AD8 m 43h j 30|radio F0439 c7,160  p f|radio-am F0CBE c7  1 k|radio-fm F0CBF c7  1 k|radio-handheld F043A 160  e f|radio-off F121C   43i 6s",
+    "radio-tower F043B   w f|radioactive F043C r3 43j yb f|radioactive-circle F185D r3 43k 2an 15|radioactive-circle-outline F185E r3 43l 2an 15|radioactive-off F0EC1 r3 43m 1m5 3p|radiobox-blank F043D 13f 43n p f|radiobox-indeterminate-variant F1C5E 13f 43o,43p 2d ry|radiobox-marked F043E 13f 43q,ca p f|radiology-box F14C5 4u 43r e cq|radiology-box-outline F14C6 4u 43s j cq|radius F0CC0 3 43t,43u 1 k|radius-outline F0CC1 3 43v,43w 1 k|railroad-light F0F1E as 43x,43y,43z 1 t7|rake F1544 sc  j i|raspberry-pi F043F  440 w f|raw F1A0F ru  p 4t|raw-off F1A10 ru  p 4t|ray-end F0440   w f|ray-end-arrow F0441   w f|ray-start F0442   w f|ray-start-arrow F0443   w f|ray-start-end F0444   w f|ray-start-vertex-end F15D8   p c0|ray-vertex F0445   w f|razor-double-edge F1997 1pp,sc  e 5i|razor-single-edge F1998 sc  j 5i|react F0708 la,0  4s 44|read F0447   w f|receipt F0824  441,442,443 j 7w|receipt-clock F1C3E  444 2d ry|receipt-clock-outline F1C3F  444 2d ry|receipt-outline F04F7  445,446,447 j f|receipt-send F1C40   2d ry|receipt-send-outline F1C41   2d ry|receipt-text F0449  448 p f|receipt-text-arrow-left F1C42  449,44a 2d ry|receipt-text-arrow-left-outline F1C43  44b,44c 2d ry|receipt-text-arrow-right F1C44  44d,44e 2d ry|receipt-text-arrow-right-outline F1C45  44f,44g 2d ry|receipt-text-check F1A63  44h e uz|receipt-text-check-outline F1A64  44i j uz|receipt-text-clock F1C46  44j,44k,44l 2d ry|receipt-text-clock-outline F1C47  44m,44n,44l 2d ry|receipt-text-edit F1C48  44o 2d ry|receipt-text-edit-outline F1C49  44p 2d ry|receipt-text-minus F1A65  44q e uz|receipt-text-minus-outline F1A66  44r j uz|receipt-text-outline F19DC  44s p 4t|receipt-text-plus F1A67  44t,44u,44v e uz|receipt-text-plus-outline F1A68  44t,44u,44v j uz|receipt-text-remove F1A69  44w e uz|receipt-text-remove-outline F1A6A  44x j uz|receipt-text-send F1C4A   2d ry|receipt-text-send-outline F1C4B   2d ry|record F044A m 44y e f|record-circle F0EC2   5u 3p|record-circle-outline F0EC3   5u 3p|record-player F099A m  w 1x|record-rec F044B m  e f|rectangle F0E5E 1ie  z7 sb|rectangle-outline F0E5F 1ie  z7 sb|recycle F044C   w f|recycle-variant F139D   sm yt|reddit F044D 27c,la  4s f|redhat F111B la  4s 35|redo F044E  44z p f|redo-variant F044F  44z w f|reflect-horizontal F0A0E   w of|reflect-vertical F0A0F   w of|refresh F0450 oc 450 p f|refresh-auto F18F2 ak 451,452,453,454,455,456 j a6|refresh-circle F1377   93 9|regex F0451  457 1a1 f|registered-trademark F0A67   j qy|reiterate F1588 oc  13e lr|relation-many-to-many F1496 1uk  1 cq|relation-many-to-one F1497 1uk  1 cq|relation-many-to-one-or-many F1498 1uk  1 cq|relation-many-to-only-one F1499 1uk  1 cq|relation-many-to-zero-or-many F149A 1uk  1 cq|relation-many-to-zero-or-one F149B 1uk  1 cq|relation-one-or-many-to-many F149C 1uk  1 cq|relation-one-or-many-to-one F149D 1uk  1 cq|relation-one-or-many-to-one-or-many F149E 1uk  1 cq|relation-one-or-many-to-only-one F149F 1uk  1 cq|relation-one-or-many-to-zero-or-many F14A0 1uk  1 cq|relation-one-or-many-to-zero-or-one F14A1 1uk  1 cq|relation-one-to-many F14A2 1uk  1 cq|relation-one-to-one F14A3 1uk  1 cq|relation-one-to-one-or-many F14A4 1uk  1 cq|relation-one-to-only-one F14A5 1uk  1 cq|relation-one-to-zero-or-many F14A6 1uk  1 cq|relation-one-to-zero-or-one F14A7 1uk  1 cq|relation-only-one-to-many F14A8 1uk  1 cq|relation-only-one-to-one F14A9 1uk  1 cq|relation-only-one-to-one-or-many F14AA 1uk  1 cq|relation-only-one-to-only-one F14AB 1uk  1 cq|relation-only-one-to-zero-or-many F14AC 1uk  1 cq|relation-only-one-to-zero-or-one F14AD 1uk  1 cq|relation-zero-or-many-to-many F14AE 1uk  1 cq|relation-zero-or-many-to-one F14AF 1uk  1 cq|relation-zero-or-many-to-one-or-many F14B0 1uk  1 cq|relation-zero-or-many-to-only-one F14B1 1uk  1 cq|relation-zero-or-many-to-zero-or-many F14B2 1uk  1 cq|relation-zero-or-many-to-zero-or-one F14B3 1uk  1 cq|relation-zero-or-one-to-many F14B4 1uk  1 cq|relation-zero-or-one-to-one F14B5 1uk  1 cq|relation-zero-or-one-to-one-or-many F14B6 1uk  1 cq|relation-zero-or-one-to-only-one F14B7 1uk  1 cq|relation-zero-or-one-to-zero-or-many F14B8 1uk  1 cq|relation-zero-or-one-to-zero-or-one F14B9 1uk  1 cq|relative-scale F0452  458 p f|reload F0453 ak,oc 459,450,45a w f|reload-alert F110B q  j 35|reminder F088C   p 4i|remote F0454 m 45b p f|remote-desktop F08B9   e 4x|remote-off F0EC4   yk 3p|remote-tv F0EC5 160  4h 3p|remote-tv-off F0EC6 160  yk 3p|rename F1C18   p a0|rename-box F0455   mb f|rename-box-outline F1C19   j a0|rename-outline F1C1A   p a0|reorder-horizontal F0688   p c6|reorder-vertical F0689   w c6|repeat F0456 oc 45c p f|repeat-off F0457   w f|repeat-once F0458  45d p f|repeat-variant F0547 oc 45e,45c w f|replay F0459   p f|reply F045A oc  p f|reply-all F045B oc  p f|reply-all-outline F0F1F oc  j t7|reply-circle F11AE oc  j ci|reply-outline F0F20 oc  j t7|reproduction F045C 4u  w f|resistor F0B44   12w 5v|resistor-nodes F0B45   12w 5v|resize F0A68   w qy|resize-bottom-right F045D  45f w f|responsive F045E   1k4 f|restart F0709   p 44|restart-alert F110C q  j 35|restart-off F0D95   j ao|restore F099B oc 450,45g p 1x|restore-alert F110D q  j 35|rewind F045F  45h p f|rewind-10 F0D2A   w 83|rewind-15 F1946   j 9x|rewind-30 F0D96   w ao|rewind-45 F1B13   j 1k|rewind-5 F11F9   w 6s|rewind-60 F160C   z7 c0|rewind-outline F070A   p 44|rhombus F070B 1ie 45i j 44|rhombus-medium F0A10 1ie  j of|rhombus-medium-outline F14DC 1ie  e cq|rhombus-outline F070C 1ie 45j j 44|rhombus-split F0A11 1ie 45k j of|rhombus-split-outline F14DD 1ie  e cq|ribbon F0460   p f|rice F07EA ty  4 bq|rickshaw F15BB l5,as  11v c0|rickshaw-electric F15BC l5,as  11v c0|ring F07EB   4 bq|rivet F0E60 sc  e sb|road F0461 l5  e f|road-variant F0462 l5  w f|robber F1058   13h 1y|robot F06A9 m 45l,45m 4h c6|robot-angry F169D  45n,45o 4 yu|robot-angry-outline F169E  45p,45q 4 yu|robot-confused F169F  45r,45s 4 yu|robot-confused-outline F16A0  45t,45u 4 yu|robot-dead F16A1  45v,45w 4 yu|robot-dead-outline F16A2  45x,45y 4 yu|robot-excited F16A3  45z,460 4 yu|robot-excited-outline F16A4  461,462 4 yu|robot-happy F1719  463,464 4 5|robot-happy-outline F171A  465,466 4 5|robot-industrial F0B46  467,468 1 5v|robot-industrial-outline F1A1A   w 4t|robot-love F16A5  469,46a 4 yu|robot-love-outline F16A6   4 yu|robot-mower F11F7 m 46b 32v 6s|robot-mower-outline F11F3 m 46c 32v ci|robot-off F16A7  46d,46e 4 yu|robot-off-outline F167B   4 ug|robot-outline F167A  46f,46g 4 ug|robot-vacuum F070D 160,m 46h 6e 44|robot-vacuum-alert F1B5D q,m 46i j 2e|robot-vacuum-off F1C01 m  j a0|robot-vacuum-variant F0908 m 46j 4h 6f|robot-vacuum-variant-alert F1B5E q,m 46k j 2e|robot-vacuum-variant-off F1C02 m  j a0|rocket F0463 a4,r3  p f|rocket-launch F14DE r3,a4  j cq|rocket-launch-outline F14DF r3,a4  j cq|rocket-outline F13AF r3,a4  p yt|rodent F1327 vn 46l,46m p 9|roller-shade F1A6B m yg,yi p uz|roller-shade-closed F1A6C m 46n,yf p uz|roller-skate F0D2B pp  j 83|roller-skate-off F0145 pp  j f|rollerblade F0D2C pp  j 83|rollerblade-off F002E pp  j f|rollupjs F0BC0 la,0 46o 4s 13|rolodex F1AB9   3rd a9|rolodex-outline F1ABA   j a9|roman-numeral-1 F1088 6  4s 2i|roman-numeral-10 F1091 6  4s 2i|roman-numeral-2 F1089 6  j 2i|roman-numeral-3 F108A 6  j 2i|roman-numeral-4 F108B 6  j 2i|roman-numeral-5 F108C 6  4s 2i|roman-numeral-6 F108D 6  j 2i|roman-numeral-7 F108E 6  j 2i|roman-numeral-8 F108F 6  j 2i|roman-numeral-9 F1090 6  j 2i|room-service F088D  46p p 4i|room-service-outline F0D97  46q p ao|rotate-360 F1999 oc  p 5i|rotate-3d F0EC7   p 3p|rotate-3d-variant F0464  46r w f|rotate-left F0465 oc 46s p f|rotate-left-variant F0466   w f|rotate-orbit F0D98  se,sd j ao|rotate-right F0467 oc 46t p f|rotate-right-variant F0468   w f|rounded-corner F0607   p f|router F11E2   lf ci|router-network F1087   e 2i|router-wireless F0469   p f|router-wireless-off F15A3   4 lr|router-wireless-settings F0A69 3h  p qy|routes F046A  46u w f|routes-clock F1059 3a  93 1y|rowing F0608 pp,l9,a1 46v p f|rss F046B  46w p f|rss-box F046C  46x 1k4 f|rss-off F0F21   1 t7|rug F1475 m 46y 1 ar|rugby F0D99 pp 46z p ao|ruler F046D sc,qu  w f|ruler-square F0CC2 sc,qu 470,471,472 1 k|ruler-square-compass F0EBE sc 473,474,475 1 3p",
+    "run F070E pp,a1 476,477 p 44|run-fast F046E m,pp,a1 y1,478 w f|rv-truck F11D4 l5 479,47a 1 ci|sack F0D2E po  j 83|sack-outline F1C4C   2d ry|sack-percent F0D2F   j 83|safe F0A6A 2f  4h qy|safe-square F127C   2gb 47|safe-square-outline F127D   2gb 47|safety-goggles F0D30 r3 47b j 83|sail-boat F0EC8 pp,l9 47c,27v p 3p|sail-boat-sink F1AEF l9 47d,47e j a9|sale F046F v0 12k e f|sale-outline F1A06 v0 3vo w 4t|salesforce F088E la  4s 4i|sass F07EC la,0  4s bq|satellite F0470   p f|satellite-uplink F0909   e 6f|satellite-variant F0471   w f|sausage F08BA ty  le 4x|sausage-off F1789 ty  47f 3r|saw-blade F0E61 sc  j sb|sawtooth-wave F147A c7  8 ar|saxophone F0609 c8  p f|scale F0472 ty,r3  w f|scale-balance F05D1 r3 47g,47h e f|scale-bathroom F0473 m,4u  w f|scale-off F105A r3  1 1y|scale-unbalanced F19B8   j 5i|scan-helper F13D8   5u sf|scanner F06AB 160  p c6|scanner-off F090A 160  4h 6f|scatter-plot F0EC9   p 3p|scatter-plot-outline F0ECA   p 3p|scent F1958  47i,47j,47k,47l j 9x|scent-off F1959  47m,47n,47o,47p j 9x|school F0474  47q,47r,2u5,47s,13d,1cq p f|school-outline F1180  47t,47u,47v,47w,47x,47y p 5e|scissors-cutting F0A6B   j qy|scooter F15BD as  p c0|scooter-electric F15BE as  p c0|scoreboard F127E pp  2gb 47|scoreboard-outline F127F pp  2gb 47|screen-rotation F0475   p f|screen-rotation-lock F0478 59 47z p f|screw-flat-top F0DF3 sc  j ap|screw-lag F0DF4 sc  j ap|screw-machine-flat-top F0DF5 sc  j ap|screw-machine-round-top F0DF6 sc  j ap|screw-round-top F0DF7 sc  j ap|screwdriver F0476 sc  e f|script F0BC1 po 480 j 13|script-outline F0477 po 481 w f|script-text F0BC2 po 482 j 13|script-text-key F1725   2z8 5|script-text-key-outline F1726   j 5|script-text-outline F0BC3 po 483 w 13|script-text-play F1727   2z8 5|script-text-play-outline F1728   j 5|sd F0479  484,485 p f|seal F047A  308,309,30a w f|seal-variant F0FD9  308,309,30a 486 2|search-web F070F  487,488,489 1 44|seat F0CC3 m 48a,48b,48c,48d,48e p k|seat-flat F047B  48f p f|seat-flat-angled F047C  48g p f|seat-individual-suite F047D  48h p f|seat-legroom-extra F047E  48i p f|seat-legroom-normal F047F  48j p f|seat-legroom-reduced F0480  48k p f|seat-outline F0CC4 m 48l,48m,48n,48d,48e p k|seat-passenger F1249   j 6s|seat-recline-extra F0481  48o p f|seat-recline-normal F0482  48p p f|seatbelt F0CC5 ak 48q,48r j k|security F0483  48s,48t,48u,48v p f|security-network F0484  48w,48x,48y w f|seed F0E62 3m,wq,ty  j sb|seed-off F13FD wq,ty,3m  j sf|seed-off-outline F13FE wq,ty,3m  j sf|seed-outline F0E63 3m,wq,ty  j sb|seed-plus F1A6D 3m,wq 48z 2d uz|seed-plus-outline F1A6E 3m,wq 490 2d uz|seesaw F15A4  491 j lr|segment F0ECB   p 3p|select F0485   w f|select-all F0486   p f|select-arrow-down F1B59   qx 2e|select-arrow-up F1B58   qx 2e|select-color F0D31 117 492 p 83|select-compare F0AD9   j 30|select-drag F0A6C   w qy|select-group F0F82   p si|select-inverse F0487  493 w f|select-marker F1280 av 494 w 47|select-multiple F1281   w 47|select-multiple-marker F1282 av 495 w 47|select-off F0488   w f|select-place F0FDA   j 2|select-remove F17C1   496 3r|select-search F1204   j 6s|selection F0489   1a1 f|selection-drag F0A6D   w qy|selection-ellipse F0D32   w 83|selection-ellipse-arrow-inside F0F22   p t7|selection-ellipse-remove F17C2   496 3r|selection-marker F1283 av 497 w 47|selection-multiple F1285   w 47|selection-multiple-marker F1284 av 498 w 47|selection-off F0777   w cy|selection-remove F17C3   496 3r|selection-search F1205   j 6s|semantic-web F1316 0,la 499,49a,49b,49c,49d 4s 28|send F048A  49e,49f p f|send-check F1161   e 5e|send-check-outline F1162   e 5e|send-circle F0DF8   e ap|send-circle-outline F0DF9   w ap|send-clock F1163 3a  p 5e|send-clock-outline F1164 3a  p 5e|send-lock F07ED 59 49g 1 bq|send-lock-outline F1166 59  j 5e|send-outline F1165  49h,49i e 5e|send-variant F1C4D  49j,49k p ry|send-variant-clock F1C7E   2d ry|send-variant-clock-outline F1C7F   2d ry|send-variant-outline F1C4E  49l,49m p ry|serial-port F065C  49n e 3y|server F048B  1ul w f|server-minus F048C  49o w f|server-network F048D   w f|server-network-off F048E   w f|server-off F048F   w f|server-plus F0490  49p w f|server-remove F0491   w f|server-security F0492  49q w f|set-all F0778 1uk 49r,49s,49t,49u e cy|set-center F0779 1uk 49v,49w,49x,49y,49z e cy|set-center-right F077A 1uk 4a0,4a1,4a2 e cy|set-left F077B 1uk 4a3 e cy|set-left-center F077C 1uk 4a4,4a5,4a6 e cy|set-left-right F077D 1uk 4a7,4a8 e cy|set-merge F14E0   4a9 cq|set-none F077E 1uk 4aa,4ab,4ac e cy|set-right F077F 1uk 4ad e cy|set-split F14E1   4a9 cq|set-square F145D sc  p ar|set-top-box F099F m  w 1x|settings-helper F0A6E 3h  5u qy|shaker F110E ty 1i6,4ae j 35|shaker-outline F110F ty 4af,4ag j 35|shape F0831 1ie 4ah,4ai p 7w|shape-circle-plus F065D 1ie 4aj 2ap 3y|shape-outline F0832 1ie 4ak,4al p 7w|shape-oval-plus F11FA   w 6s|shape-plus F0495 1ie 4am,4an w f|shape-plus-outline F1C4F 1ie 4ao,4ap 2d ry|shape-polygon-plus F065E 1ie 4aq 2ap 3y|shape-rectangle-plus F065F 1ie 4ar 2ap 3y|shape-square-plus F0660 1ie 4as 2ap 3y|shape-square-rounded-plus F14FA   2d i|share F0496 oc 4at p f|share-all F11F4   lf 6s|share-all-outline F11F5   lf 6s|share-circle F11AD oc  j ci|share-off F0F23 oc 4au 4h t7|share-off-outline F0F24 oc 4av 4h t7|share-outline F0932 oc 4aw le 3x0|share-variant F0497   p f|share-variant-outline F1514   j i|shark F18BA vn 4ax 4 a6|shark-fin F1673 vn  4 ug|shark-fin-outline F1674 vn  4 ug|shark-off F18BB vn 4ay 4 a6|sheep F0CC6 vn,3m 4az,4b0 j k|shield F0498 po  w f|shield-account F088F l,m 4b1,4b2,4b3,4b4 1 4i|shield-account-outline F0A12 l,m 4b5,4b6,4b7,4b8 4h of|shield-account-variant F15A7 l  p lr|shield-account-variant-outline F15A8 l  p lr|shield-airplane F06BB a4 4b9,4ba,4bb 4h lc|shield-airplane-outline F0CC7 a4 4bc,4bd j k|shield-alert F0ECC q 4be 5u 3p|shield-alert-outline F0ECD q 4bf 5u 3p|shield-bug F13DA  4bg 1 sf|shield-bug-outline F13DB  4bh 2ua sf|shield-car F0F83 ak 4bi,4bj le si|shield-check F0565 l 4bk,4bl,1gb p f|shield-check-outline F0CC8  4bm j k|shield-cross F0CC9 po,z0 4bn,4bo j k|shield-cross-outline F0CCA po,z0 4bp,4bq j k|shield-crown F18BC po 48v 2an a6|shield-crown-outline F18BD po 4br 2an a6|shield-edit F11A0 41  93 ci|shield-edit-outline F11A1 41  93 ci|shield-half F1360   j 9|shield-half-full F0780   4h cy|shield-home F068A m 4bs,4bt,4b4 w c6|shield-home-outline F0CCB m 4bu,4b4 j k|shield-key F0BC4   p 13|shield-key-outline F0BC5   p 13|shield-link-variant F0D33   j 83|shield-link-variant-outline F0D34   j 83|shield-lock F099D 59,m 4bv,4bw 4h 1x|shield-lock-open F199A m,59 4bx j 5i|shield-lock-open-outline F199B m,59 4by j 5i|shield-lock-outline F0CCC 59,m 4bz,4c0 j k|shield-moon F1828 m 4c1 j 3r|shield-moon-outline F1829 m 4c2 j 3r|shield-off F099E  4c3 1 1x|shield-off-outline F099C   1 1x|shield-outline F0499 po  w f|shield-plus F0ADA  4c4 p 30|shield-plus-outline F0ADB  4c5 p 30|shield-refresh F00AA   j f|shield-refresh-outline F01E0   j f|shield-remove F0ADC   w 30|shield-remove-outline F0ADD   w 30|shield-search F0D9A   p ao|shield-star F113B  4c6,4c7 j 5e|shield-star-outline F113C  4c8,4c9 j 5e|shield-sun F105D ro 4ca ze 1y|shield-sun-outline F105E ro 4cb ze 1y|shield-sword F18BE po 4cc 2an a6|shield-sword-outline F18BF po 4cd 2an a6|shield-sync F11A2   93 ci|shield-sync-outline F11A3   93 ci|shimmer F1545  4ce w i|ship-wheel F0833 l9 4cf,4cg p 7w|shipping-pallet F184E   xv 15|shoe-ballet F15CA pp,11q 4ch j c0|shoe-cleat F15C7 pp,11q  j c0|shoe-formal F0B47 11q  uk 5v|shoe-heel F0B48 11q  uk 5v|shoe-print F0DFA  4ci j ap|shoe-sneaker F15C8 pp,11q 4cj j c0|shopping F049A v0 4ck,4cl p f|shopping-music F049B v0  w f|shopping-outline F11D5 v0 4cm,4cn p ci|shopping-search F0F84 v0  1 si|shopping-search-outline F1A6F v0  4co uz|shore F14F9   2d i|shovel F0710 sc 4cp 1 44|shovel-off F0711 sc  1 44|shower F09A0 m 4cq,4cr 3o 1x|shower-head F09A1 m 4cr 3o 1x|shredder F049C   e f|shuffle F049D oc  p f|shuffle-disabled F049E oc  e f|shuffle-variant F049F oc  e f|shuriken F137F  4cs 1 9|sickle F18C0 sc  j a6|sigma F04A0 3 4ct p f|sigma-lower F062B   w 3y|sign-caution F04A1 l5 106 w f|sign-direction F0781  2c6 w cy|sign-direction-minus F1000  4cu 1 2|sign-direction-plus F0FDC  4cv,4cw,4cx 1 2",
+    "sign-direction-remove F0FDD  4cy 1 2|sign-language F1B4D   p 1k|sign-language-outline F1B4E   p 1k|sign-pole F14F8   2d i|sign-real-estate F1118   1 35|sign-text F0782   w cy|sign-yield F1BAF l5 4cz j 2e|signal F04A2 15k  e f|signal-2g F0712 15k  4h 44|signal-3g F0713 15k  4h 44|signal-4g F0714 15k  4h 44|signal-5g F0A6F 15k  4h qy|signal-cellular-1 F08BC 15k  1 4x|signal-cellular-2 F08BD 15k  1 4x|signal-cellular-3 F08BE 15k  1 4x|signal-cellular-outline F08BF 15k 4d0 1 4x|signal-distance-variant F0E64   w sb|signal-hspa F0715 15k  4h 44|signal-hspa-plus F0716 15k  4h 44|signal-off F0783 15k  4h cy|signal-variant F060A   w f|signature F0DFB 13f  j ap|signature-freehand F0DFC 13f  j ap|signature-image F0DFD 13f  j ap|signature-text F0DFE 13f  j ap|silo F1B9F 3m us 2d 2e|silo-outline F0B49 3m 4d1 4d2 5v|silverware F04A3 ty 4d3,4d4,4d5,4d6 p f|silverware-clean F0FDE ty 4d7,4d8 e 2|silverware-fork F04A4 ty 4d9 w f|silverware-fork-knife F0A70 ty 4da,4db,4dc,4dd p qy|silverware-spoon F04A5 ty 4de w f|silverware-variant F04A6 ty,bm 4df w f|sim F04A7 15k 4dg,4dh,4di p f|sim-alert F04A8 q,15k 4dj,4dk p f|sim-alert-outline F15D3 15k,q  j c0|sim-off F04A9 15k 4dl p f|sim-off-outline F15D4 15k  j c0|sim-outline F15D5 15k 4dm,4dn,4do j c0|simple-icons F131D la  4s 28|sina-weibo F0ADF la  4s 30|sine-wave F095B c7 1ua,4dp,4dq,4dr,1r8,1r9 le 1x|sitemap F04AA  4ds,4dt e f|sitemap-outline F199C  4du,4dv j 5i|size-l F13A6  4dw w yt|size-m F13A5  4dx w yt|size-s F13A4  4dy w yt|size-xl F13A7  4dz w yt|size-xs F13A3  4e0 w yt|size-xxl F13A8  4e1 w yt|size-xxs F13A2  4e2 w yt|size-xxxl F13A9   w yt|skate F0D35 pp 4e3 p 83|skate-off F0699 pp  j c6|skateboard F14C2 pp  p cq|skateboarding F0501 pp,a1 4e4 p f|skew-less F0D36 3 4e5 j 83|skew-more F0D37 3 4e6 j 83|ski F1304 pp,a1 4e7 p 28|ski-cross-country F1305 pp,a1 4e8,4e9 p 28|ski-water F1306 pp,a1,l9 4ea j 28|skip-backward F04AB m 4eb,4ec e f|skip-backward-outline F0F25   j t7|skip-forward F04AC m 4ed,4ee e f|skip-forward-outline F0F26   j t7|skip-next F04AD m  p f|skip-next-circle F0661   e 3y|skip-next-circle-outline F0662   e 3y|skip-next-outline F0F27   j t7|skip-previous F04AE m  p f|skip-previous-circle F0663   e 3y|skip-previous-circle-outline F0664   e 3y|skip-previous-outline F0F28   j t7|skull F068C u6,po  8 c6|skull-crossbones F0BC6 po,u6 4ef j 13|skull-crossbones-outline F0BC7 po,u6 4eg j 13|skull-outline F0BC8 u6,po  j 13|skull-scan F14C7 4u 4eh,4ei e cq|skull-scan-outline F14C8 4u 4ej,4ek j cq|skype F04AF la 4el 4s f|skype-business F04B0 la  4s f|slack F04B1 la  4s f|slash-forward F0FDF 3 4em,4en j 2|slash-forward-box F0FE0 3 4eo,4ep j 2|sledding F041B pp,a1 4eq p f|sleep F04B2   p f|sleep-off F04B3   e f|slide F15A5  4er j lr|slope-downhill F0DFF   1 ap|slope-uphill F0E00   1 ap|slot-machine F1114  4es,4et j 35|slot-machine-outline F1115  4eu,4ev j 35|smart-card F10BD l  1 2i|smart-card-off F18F7 l  j a6|smart-card-off-outline F18F8 l  j a6|smart-card-outline F10BE l  1 2i|smart-card-reader F10BF l  1 2i|smart-card-reader-outline F10C0 l  1 2i|smog F0A71   e qy|smoke F1799  4ew,4ex j 3r|smoke-detector F0392 160,m 4ey,4ez p f|smoke-detector-alert F192E m,q  j 9x|smoke-detector-alert-outline F192F m,q  j 9x|smoke-detector-off F1809 m  4 3r|smoke-detector-off-outline F180A m  4 3r|smoke-detector-outline F1808 m  4 3r|smoke-detector-variant F180B m  j 3r|smoke-detector-variant-alert F1930 m,q  j 9x|smoke-detector-variant-off F180C m  j 3r|smoking F04B4 ak 4f0,4f1,4f2 p f|smoking-off F04B5  4f3,4f4,4f5 p f|smoking-pipe F140D   8 sf|smoking-pipe-off F1428   j ar|snail F1677 vn 4f6 4 ug|snake F150E vn 4f7 4 i|snapchat F04B6 la  4s f|snowboard F1307 pp,a1 4f8 p 28|snowflake F0717 ro,u6,ak  p 44|snowflake-alert F0F29 ro,q,m 4f9,4fa,4fb j t7|snowflake-check F1A70 ro 4fc j uz|snowflake-melt F12CB ro 4fd j 28|snowflake-off F14E3 ro  j i|snowflake-thermometer F1A71 ro,m 4fe,4ff,4fg j uz|snowflake-variant F0F2A u6,ro  j t7|snowman F04B7 u6  w f|snowmobile F06DD as,pp  p 44|snowshoeing F1A72 pp  p uz|soccer F04B8 pp 4fh p f|soccer-field F0834 pp 4fi 4h 7w|social-distance-2-meters F1579 4u  j lr|social-distance-6-feet F157A 4u  p lr|sofa F04B9 m 4fj,4fk,4fl j f|sofa-outline F156D m 4fm,4fn,4fo j lr|sofa-single F156E m 4fp,4fq,4fj,48c,4fk,4fl j lr|sofa-single-outline F156F m 4fr,4fs,4fm,48n,4fn,4fo j lr|solar-panel F0D9B m 4ft,4fu 32v ao|solar-panel-large F0D9C m 4fv,4fw 32v ao|solar-power F0A72 m 4ft,4fu 1 qy|solar-power-variant F1A73 m 4ft,4fu p uz|solar-power-variant-outline F1A74 m 4fx,4fy p uz|soldering-iron F1092   e 2i|solid F068D   w c6|sony-playstation F0414 la,po 4fz,4g0 4s f|sort F04BA d2  e f|sort-alphabetical-ascending F05BD d2  mb f|sort-alphabetical-ascending-variant F1148 d2  4g1 5e|sort-alphabetical-descending F05BF d2  mb f|sort-alphabetical-descending-variant F1149 d2  4g1 5e|sort-alphabetical-variant F04BB d2 4g2,4g3 p f|sort-ascending F04BC d2  mb f|sort-bool-ascending F1385 d2  mb yt|sort-bool-ascending-variant F1386 d2 4g4 mb yt|sort-bool-descending F1387 d2  mb yt|sort-bool-descending-variant F1388 d2 4g5 mb yt|sort-calendar-ascending F1547 d2,3a 4g6 w i|sort-calendar-descending F1548 d2,3a 4g7 w i|sort-clock-ascending F1549 d2,3a 4g8 j i|sort-clock-ascending-outline F154A d2,3a 4g9 j i|sort-clock-descending F154B d2,3a 4ga j i|sort-clock-descending-outline F154C d2,3a 4gb j i|sort-descending F04BD d2  mb f|sort-numeric-ascending F1389 d2  mb yt|sort-numeric-ascending-variant F090D d2  j 6f|sort-numeric-descending F138A d2  mb yt|sort-numeric-descending-variant F0AD2 d2  j 30|sort-numeric-variant F04BE d2 4gc p f|sort-reverse-variant F033C d2  e f|sort-variant F04BF d2  p f|sort-variant-lock F0CCD d2,59  l8 k|sort-variant-lock-open F0CCE d2,59  l8 k|sort-variant-off F1ABB d2  j a9|sort-variant-remove F1147 d2  j 5e|soundbar F17DB m 4gd 4h 3r|soundcloud F04C0 la  4s f|source-branch F062C 0  w 3y|source-branch-check F14CF 0  j cq|source-branch-minus F14CB 0  j cq|source-branch-plus F14CA 0  j cq|source-branch-refresh F14CD 0  j cq|source-branch-remove F14CC 0  j cq|source-branch-sync F14CE 0  j cq|source-commit F0718   197 44|source-commit-end F0719   197 44|source-commit-end-local F071A   197 44|source-commit-local F071B   197 44|source-commit-next-local F071C   197 44|source-commit-start F071D   197 44|source-commit-start-next-local F071E   197 44|source-fork F04C1 0  w f|source-merge F062D 0  w 3y|source-pull F04C2 0  w f|source-repository F0CCF 0  w k|source-repository-multiple F0CD0 0 4ge w k|soy-sauce F07EE ty 4gf 4 bq|soy-sauce-off F13FC   j sf|spa F0CD1 wq 4gg,2ct p k|spa-outline F0CD2 wq 4gh,2ct p k|space-invaders F0BC9 po  1 13|space-station F1383   11v 9|spade F0E65 sc  4h sb|speaker F04C3 c7,m  p f|speaker-bluetooth F09A2 c7  4h 1x|speaker-message F1B11 m,c7 3bh j 1k|speaker-multiple F0D38 c7 4gi 1 83|speaker-off F04C4 c7,m  w f|speaker-pause F1B73 c7,c8  j 2e|speaker-play F1B72 c7,c8  j 2e|speaker-stop F1B74 c7,c8  j 2e|speaker-wireless F071F c7,m  e 44|spear F1845 po 4gj,4gk 4 15|speedometer F04C5 ak  w f|speedometer-medium F0F85 ak  4h si|speedometer-slow F0F86 ak  4h si|spellcheck F04C6   p f|sphere F1954 1ie  4 9x|sphere-off F1955 1ie  4 9x|spider F11EA u6,wq,vn 4gl,4gm 1 ci|spider-outline F1C75 vn,u6,wq 4gn 2d ry|spider-thread F11EB u6,wq,vn 4go,4gm 1 ci|spider-web F0BCA u6 4gp,4gq w 13|spirit-level F14F1 sc  j i|spoon-sugar F1429 ty  j ar|spotify F04C7 la  4s f|spotlight F04C8 m  w f|spotlight-beam F04C9 m  w f|spray F0665 3m,qu,117 2fg,4gr w 3y|spray-bottle F0AE0  4gs j 30|sprinkler F105F m,3m 4gt j 1y|sprinkler-fire F199D m,3m 4gu,4gv,4gw j 5i|sprinkler-variant F1060 m,3m 4gt j 1y|sprout F0E66 3m,wq 4gx,2ct,4gy,4gz j sb|sprout-outline F0E67 3m,wq 4h0,4h1,4h2,4h3 j sb|square F0764 1ie  w cy|square-circle F1500 ty 4h4,4h5 j i|square-circle-outline F1C50   2d ry|square-edit-outline F090C 41  4h 6f|square-medium F0A13 1ie  j of|square-medium-outline F0A14 1ie  j of|square-off F12EE   j 28|square-off-outline F12EF   j 28|square-opacity F1854 qu,1ie 4h6 j 15|square-outline F0763 1ie  w cy|square-root F0784 3  w cy|square-root-box F09A3   le 1x|square-rounded F14FB   2d i|square-rounded-badge F1A07 1ie,bp 1gr,4h7 2d 4t|square-rounded-badge-outline F1A08 1ie,bp 1gu,4h8 2d 4t",
+    "square-rounded-outline F14FC   2d i|square-small F0A15  1in j of|square-wave F147B c7  8 ar|squeegee F0AE1   j 30|ssh F08C0   4h 4x|stack-exchange F060B la 4h9 4s f|stack-overflow F04CC la 4ha 4s f|stackpath F0359 la  4s f|stadium F0FF9 pp,bm 4hb p 2|stadium-outline F1B03 pp,bm 4hc p 1k|stadium-variant F0720 bm,pp 4hb 2ef 44|stairs F04CD as  e f|stairs-box F139E   sm yt|stairs-down F12BE as  w 28|stairs-up F12BD as  w 28|stamper F0D39   le 83|standard-definition F07EF 15m  w bq|star F04CE 1ie 4hd,4he,2nf p f|star-box F0A73  4hf w qy|star-box-multiple F1286  4hg 2gb 47|star-box-multiple-outline F1287  4hh 2gb 47|star-box-outline F0A74  4hi w qy|star-check F1566 1ie 4hj j lr|star-check-outline F156A 1ie 4hk j lr|star-circle F04CF 1ie 4hl,4hm p f|star-circle-outline F09A4 1ie 4hn,4ho p 1x|star-cog F1668 3h 4hp 4 ug|star-cog-outline F1669 3h 4hq 4 ug|star-crescent F0979 z0 3ds,4hr,4hs le 1x|star-david F097A z0 4ht,4hu,4hv,4hw le 1x|star-face F09A5 po 4hx,4hy,4hz p 1x|star-four-points F0AE2 1ie  j 30|star-four-points-box F1C51 1ie 4i0 2d ry|star-four-points-box-outline F1C52 1ie 4i1 2d ry|star-four-points-circle F1C53 1ie 4i2 2d ry|star-four-points-circle-outline F1C54 1ie 4i3 2d ry|star-four-points-outline F0AE3 1ie  j 30|star-four-points-small F1C55 1ie  2d ry|star-half F0246 1ie 4i4 e f|star-half-full F04D0  4i5 p f|star-minus F1564 1ie 4i6 j lr|star-minus-outline F1568 1ie 4i7 j lr|star-off F04D1  4i8 w f|star-off-outline F155B  4i9 j lr|star-outline F04D2 1ie 4ia,2nn p f|star-plus F1563 1ie 4ib,4ic,4id j lr|star-plus-outline F1567 1ie 4ie,4if,4ig j lr|star-remove F1565 1ie 4ih j lr|star-remove-outline F1569 1ie 4ii j lr|star-settings F166A 3h 4ij 4 ug|star-settings-outline F166B 3h 4ik 4 ug|star-shooting F1741  4il 4 5|star-shooting-outline F1742  4im 4 5|star-three-points F0AE4 1ie  j 30|star-three-points-outline F0AE5 1ie  j 30|state-machine F11EF   mb ci|steam F04D3 la,po  4s f|steering F04D4 ak 4in p f|steering-off F090E ak 4io p 6f|step-backward F04D5   e f|step-backward-2 F04D6  4ip e f|step-forward F04D7   e f|step-forward-2 F04D8  4iq e f|stethoscope F04D9 4u  e f|sticker F1364   4 9|sticker-alert F1365 q  4 9|sticker-alert-outline F1366 q  4 9|sticker-check F1367   4 9|sticker-check-outline F1368   4 9|sticker-circle-outline F05D0   l8 f|sticker-emoji F0785 21l  p cy|sticker-minus F1369   4 9|sticker-minus-outline F136A   4 9|sticker-outline F136B   4 9|sticker-plus F136C   4 9|sticker-plus-outline F136D   4 9|sticker-remove F136E   4 9|sticker-remove-outline F136F   4 9|sticker-text F178E   4 3r|sticker-text-outline F178F   4 3r|stocking F04DA u6  w f|stomach F1093 4u  j 2i|stool F195D   xv 9x|stool-outline F195E   xv 9x|stop F04DB   p f|stop-circle F0666   e 3y|stop-circle-outline F0667   e 3y|storage-tank F1A75  4ir,4is p uz|storage-tank-outline F1A76  4it,4iu p uz|store F04DC bm,v0 4iv,4iw p f|store-24-hour F04DD bm,v0 4ix,4iy p f|store-alert F18C1 bm,v0,q 4iz 4 a6|store-alert-outline F18C2 bm,v0,q 4j0 4 a6|store-check F18C3 v0,bm 4j1,4j2,4j3 4 a6|store-check-outline F18C4 v0,bm 4j2,4j4,4j5 4 a6|store-clock F18C5 bm,v0 4j6,4j7,4j8,4j9,4ja,4jb,4jc 4 a6|store-clock-outline F18C6 bm,v0,3a 4jd,4je,4jf,4jg,4jh,4ji,4jj 4 a6|store-cog F18C7 bm,v0,3h 4jk,4jl 4 a6|store-cog-outline F18C8 bm,v0,3h 4jm,4jn,4jo 4 a6|store-edit F18C9 bm,v0,41 4jp 4 a6|store-edit-outline F18CA bm,v0,41 4jq 4 a6|store-marker F18CB bm,v0,av 4jr,4js,4jt 4 a6|store-marker-outline F18CC bm,v0,av 4ju,4jv,4jw 4 a6|store-minus F165E bm,v0 4jx 1jr ug|store-minus-outline F18CD bm,v0 4jy 4 a6|store-off F18CE bm,v0 4jz 4 a6|store-off-outline F18CF bm,v0 4k0 4 a6|store-outline F1361 bm,v0 4k1,4k2 p 9|store-plus F165F bm,v0 4k3 1jr ug|store-plus-outline F18D0 bm,v0 4k4 4 a6|store-remove F1660 bm,v0 4k5,4k6,4k7 1jr ug|store-remove-outline F18D1 bm,v0 4k8,4k9,4ka 4 a6|store-search F18D2 bm,v0 4kb,4kc,4kd,4ke,4kf,4kg,4kh 4 a6|store-search-outline F18D3 bm,v0 4ki,4kj,4kk,4kl,4km,4kn,4ko 4 a6|store-settings F18D4 bm,v0,3h 4jl 4 a6|store-settings-outline F18D5 bm,v0,3h 4jn 4 a6|storefront F07C7 bm 4kp e bq|storefront-check F1B7D   2d 2e|storefront-check-outline F1B7E   2d 2e|storefront-edit F1B7F 41  2d 2e|storefront-edit-outline F1B80 41  2d 2e|storefront-minus F1B83   j 2e|storefront-minus-outline F1B84   j 2e|storefront-outline F10C1 v0,bm 4kp p 2i|storefront-plus F1B81   2d 2e|storefront-plus-outline F1B82   2d 2e|storefront-remove F1B85   j 2e|storefront-remove-outline F1B86   j 2e|stove F04DE ty,m 4kq,4kr w f|strategy F11D6 pp 4ks 1 ci|stretch-to-page F0F2B d2,oc  j t7|stretch-to-page-outline F0F2C d2,oc  j t7|string-lights F12BA m 4kt,4ku,4kv j 47|string-lights-off F12BB m 4kw,4kx,4ky j 47|subdirectory-arrow-left F060C oc  p f|subdirectory-arrow-right F060D oc  p f|submarine F156C   375 lr|subtitles F0A16   p of|subtitles-outline F0A17   p of|subway F06AC as 4kz,4l0,4l1 p c6|subway-alert-variant F0D9D q,as 4l2 w ao|subway-variant F04DF as 4l3,4l4,4l5,4l6,4l7 p f|summit F0786  4l8 w cy|sun-angle F1B27 ro 4l9 j 1k|sun-angle-outline F1B28 ro 4la j 1k|sun-clock F1A77 ro,m 4lb,4lc,4ld 1q2 uz|sun-clock-outline F1A78 ro,m,3a 4le,4lf,4lg 1q2 uz|sun-compass F19A5 ro,m,av 4lh,4li,4lj j 5i|sun-snowflake F1796 ro,m 4lk,4ll p 3r|sun-snowflake-variant F1A79 m,ro 4lk,4ll 1q2 uz|sun-thermometer F18D6 ro,m 4lm,4ln,4lo,4lp,4lq j a6|sun-thermometer-outline F18D7 m,ro 4lp,4lr,4lm,4lo j a6|sun-wireless F17FE m,ro 4ls,4lt,4lu,4lv j 3r|sun-wireless-outline F17FF m,ro 4lw,4lx,4ly,4lz j 3r|sunglasses F04E0 11q  e f|surfing F1746   p 3r|surround-sound F05C5 c7  p f|surround-sound-2-0 F07F0 c7 4m0 w bq|surround-sound-2-1 F1729   4h 5|surround-sound-3-1 F07F1 c7  w bq|surround-sound-5-1 F07F2 c7  w bq|surround-sound-5-1-2 F172A   4h 5|surround-sound-7-1 F07F3 c7  w bq|svg F0721 la  w 44|swap-horizontal F04E1 oc 4m1,4m2,4m3,2z4 p f|swap-horizontal-bold F0BCD oc 4m4 p 13|swap-horizontal-circle F0FE1 oc  p 2|swap-horizontal-circle-outline F0FE2 oc  j 2|swap-horizontal-variant F08C1 oc  p 4x|swap-vertical F04E2 oc 4m5,4m6 p f|swap-vertical-bold F0BCE oc 4m7,4m8 p 13|swap-vertical-circle F0FE3 oc  j 2|swap-vertical-circle-outline F0FE4 oc  j 2|swap-vertical-variant F08C2 oc 4m9 p 4x|swim F04E3 pp  w f|switch F04E4   w f|sword F04E5 po  w f|sword-cross F0787 po  1 cy|syllabary-hangul F1333 6 4ma 8 9|syllabary-hiragana F1334 6 4mb 8 9|syllabary-katakana F1335 6 4mc 8 9|syllabary-katakana-halfwidth F1336 6 4md 8 9|symbol F1501   8 i|symfony F0AE6 la  4s 30|synagogue F1B04 bm,z0 4me,4mf,4ht p 1k|synagogue-outline F1B05 bm,z0 4mg,4mh,4mi p 1k|sync F04E6  450,13g,s0,s1 p f|sync-alert F04E7 q 4mj,4mk p f|sync-circle F1378   93 9|sync-off F04E8  4ml p f|tab F04E9   p f|tab-minus F0B4B   1 5v|tab-plus F075C  4mm w cy|tab-remove F0B4C   1 5v|tab-search F199E  4mn 4mo 5i|tab-unselected F04EA   p f|table F04EB d2  w f|table-account F13B9 l 4mp j sf|table-alert F13BA q  j sf|table-arrow-down F13BB  4mq j sf|table-arrow-left F13BC  4mr j sf|table-arrow-right F13BD  4ms,4mt j sf|table-arrow-up F13BE  4mu j sf|table-border F0A18 d2  j of|table-cancel F13BF   j sf|table-chair F1061 m 4da,2hi,4mv,4mw 1 1y|table-check F13C0   j sf|table-clock F13C1 3a  j sf|table-cog F13C2 3h 4mx j sf|table-column F0835 d2  w 7w|table-column-plus-after F04EC d2 4my w f|table-column-plus-before F04ED d2 4mz w f|table-column-remove F04EE d2  w f|table-column-width F04EF d2  w f|table-edit F04F0 41,d2  w f|table-eye F1094   z7 2i|table-eye-off F13C3   j sf|table-filter F1B8C   1j 2e|table-furniture F05BC m 2hi,4mw 11v f|table-headers-eye F121D   1 6s|table-headers-eye-off F121E   1 6s|table-heart F13C4  4n0 j sf|table-key F13C5   j sf|table-large F04F1 d2,ob  w f|table-large-plus F0F87 d2,ob 4n1 j si|table-large-remove F0F88 d2,ob  j si|table-lock F13C6 59  j sf|table-merge-cells F09A6 d2  p 1x|table-minus F13C7   j sf|table-multiple F13C8   j sf|table-network F13C9   j sf|table-of-contents F0836  4n2 p 7w|table-off F13CA   j sf|table-picnic F1743   2d 5|table-pivot F183C d2  xv 15|table-plus F0A75 d2 4n3 j qy|table-question F1B21  4n4 1j 1k|table-refresh F13A0   w yt|table-remove F0A76 d2  j qy|table-row F0837 d2  w 7w|table-row-height F04F2 d2  w f|table-row-plus-after F04F3 d2 4n5 w f|table-row-plus-before F04F4 d2 4n6 w f",
+    "table-row-remove F04F5 d2  w f|table-search F090F   1 6f|table-settings F0838 3h  4n7 7w|table-split-cell F142A d2  4n8 ar|table-star F13CB  4n0 j sf|table-sync F13A1   w yt|table-tennis F0E68 pp 4n9,4na p sb|tablet F04F6 160  p f|tablet-cellphone F09A7 15k,160 4nb,4nc,4nd p 1x|tablet-dashboard F0ECE 160  j 3p|taco F0762 ty  w cy|tag F04F9  4ne p f|tag-arrow-down F172B   j 5|tag-arrow-down-outline F172C   j 5|tag-arrow-left F172D   j 5|tag-arrow-left-outline F172E   j 5|tag-arrow-right F172F   j 5|tag-arrow-right-outline F1730   j 5|tag-arrow-up F1731   j 5|tag-arrow-up-outline F1732   j 5|tag-check F1A7A  4nf j uz|tag-check-outline F1A7B  4ng j uz|tag-faces F04FA  4nh,4ni p f|tag-heart F068B  4nj p c6|tag-heart-outline F0BCF   p 13|tag-hidden F1C76   2d ry|tag-minus F0910   4h 6f|tag-minus-outline F121F   1 6s|tag-multiple F04FB  4nk w f|tag-multiple-outline F12F7   j 28|tag-off F1220   1 6s|tag-off-outline F1221   1 6s|tag-outline F04FC   p f|tag-plus F0722  4nl 1 44|tag-plus-outline F1222   1 6s|tag-remove F0723   1 44|tag-remove-outline F1223   1 6s|tag-search F1907  4nm j 9x|tag-search-outline F1908  4nn j 9x|tag-text F1224   1 6s|tag-text-outline F04FD   w f|tailwind F13FF la  4s sf|tally-mark-1 F1ABC 3 4no,4np j a9|tally-mark-2 F1ABD 3 4nq,4nr j a9|tally-mark-3 F1ABE 3 4ns,4nt j a9|tally-mark-4 F1ABF 3 4nu,4nv j a9|tally-mark-5 F1AC0 3 4nw,4nx j a9|tangram F04F8 po 4ny 2d f|tank F0D3A   4nz 83|tanker-truck F0FE5 l5 4o0,4o1,4o2,4o3 j 2|tape-drive F16DF   4o4 yu|tape-measure F0B4D sc 4o5 4h 5v|target F04FE  4o6 1a1 f|target-account F0BD0 l 4o7,4o8 w 13|target-variant F0A77  4o6 j qy|taxi F04FF l5,av 4o9,4oa p f|tea F0D9E ty  p ao|tea-outline F0D9F ty  j ao|teamviewer F0500 la  4s f|teddy-bear F18FB u6,m 4ob,4oc,4od,4oe,4of 4og a6|telescope F0B4E r3  uk 5v|television F0502 160,m 4oh p f|television-ambient-light F1356 m  j 9|television-box F0839  4oi,4oj p 7w|television-classic F07F4 160,m 4ok 4h bq|television-classic-off F083A 160,m 4ol w 7w|television-guide F0503 160,m  w f|television-off F083B 160,m 4om w 7w|television-pause F0F89 160  4h si|television-play F0ECF 160  p 3p|television-shimmer F1110 160 4on 1jd 35|television-speaker F1B1B c7,15m  1q2 1k|television-speaker-off F1B1C c7,15m  1q2 1k|television-stop F0F8A 160  4h si|temperature-celsius F0504 ro 4oo w f|temperature-fahrenheit F0505 ro  w f|temperature-kelvin F0506 ro  w f|temple-buddhist F1B06 bm,z0  p 1k|temple-buddhist-outline F1B07 bm,z0  p 1k|temple-hindu F1B08 bm,z0  p 1k|temple-hindu-outline F1B09 bm,z0  p 1k|tennis F0DA0 pp 4op,4oq p ao|tennis-ball F0507 pp  p f|tennis-ball-outline F1C5F pp  2d ry|tent F0508  4or w f|terraform F1062 la  4s 1y|terrain F0509 wq  p f|test-tube F0668 r3  2ap 3y|test-tube-empty F0911 r3  w 6f|test-tube-off F0912 r3  w 6f|text F09A8 d2 3k4 p 1x|text-account F1570 l 4os,4ot 32g lr|text-box F021A 1jc 4ou,4ov p f|text-box-check F0EA6 1jc 4ow,4ox r1 3p|text-box-check-outline F0EA7 1jc 4oy,4oz r1 3p|text-box-edit F1A7C 1jc,41  j uz|text-box-edit-outline F1A7D 1jc,41  j uz|text-box-minus F0EA8 1jc 4p0 j 3p|text-box-minus-outline F0EA9 1jc 4p1 j 3p|text-box-multiple F0AB7 1jc 4p2,4p3 j 30|text-box-multiple-outline F0AB8 1jc 4p4,4p5 w 30|text-box-outline F09ED 1jc 4p6 4h of|text-box-plus F0EAA 1jc 4p7 j 3p|text-box-plus-outline F0EAB 1jc 4p8 j 3p|text-box-remove F0EAC 1jc 4p9 j 3p|text-box-remove-outline F0EAD 1jc 4pa j 3p|text-box-search F0EAE 1jc 4pb w 3p|text-box-search-outline F0EAF 1jc 4pc w 3p|text-long F09AA  4pd p 1x|text-recognition F113D   8 5e|text-search F13B8  4pe w sf|text-search-variant F1A7E  4pf j uz|text-shadow F0669   e 3y|text-short F09A9   p 1x|texture F050C   p f|texture-box F0FE6 3 4pg j 2|theater F050D bm,m 4ph,1yi w f|theme-light-dark F050E ro 4pi w f|thermometer F050F ro,m,ak 4pj w f|thermometer-alert F0E01 m,ro,q 4pk,4pl,4pm 1 ap|thermometer-auto F1B0F m,ro 4pn 1q2 1k|thermometer-bluetooth F1895 ro,m,ak 4po j 15|thermometer-check F1A7F ro,m 4pp,4pq,4pr j uz|thermometer-chevron-down F0E02 m,ro 4ps,4pt,4pu 1 ap|thermometer-chevron-up F0E03 m,ro 4pv,4pw,4px 1 ap|thermometer-high F10C2 m,ro 4py 1 2i|thermometer-lines F0510 ro,m 4pz w f|thermometer-low F10C3 m,ro 4q0 1 2i|thermometer-minus F0E04 m,ro 4q1,4pu,4pt 1 ap|thermometer-off F1531 ro,m 4q2 4 i|thermometer-plus F0E05 m,ro 4q3,4px,4q4,4q5,4pw 1 ap|thermometer-probe F1B2B   4 1k|thermometer-probe-off F1B2C   4 1k|thermometer-water F1A80 ro,m 4q6,4q7,4q8 j uz|thermostat F0393 160,m 4q9 p f|thermostat-auto F1B17 m  1q2 1k|thermostat-box F0891 m,160  4h 4i|thermostat-box-auto F1B18 m  j 1k|thermostat-cog F1C80   2d ry|thought-bubble F07F6  4qa,4qb w bq|thought-bubble-outline F07F7  4qc,4qd,4qe w bq|thumb-down F0511  4qf,4qg p f|thumb-down-outline F0512  4qh,4qi p f|thumb-up F0513  4qj,4qk p f|thumb-up-outline F0514  4ql,4qm p f|thumbs-up-down F0515  4qn p f|thumbs-up-down-outline F1914  4qo p 9x|ticket F0516  4qp,4qq,4qr p f|ticket-account F0517 l 4qs w f|ticket-confirmation F0518  4qt p f|ticket-confirmation-outline F13AA  4qu p yt|ticket-outline F0913   4h 6f|ticket-percent F0724  4qv,4qw 4h 44|ticket-percent-outline F142B  4qx,4qy 2dm ar|tie F0519 11q  w f|tilde F0725   j 44|tilde-off F18F3   j a6|timelapse F051A 3a  p f|timeline F0BD1   1 13|timeline-alert F0F95 q  w si|timeline-alert-outline F0F98 q  w si|timeline-check F1532   4 i|timeline-check-outline F1533   4 i|timeline-clock F11FB 3a  w 6s|timeline-clock-outline F11FC 3a  w 6s|timeline-minus F1534   4 i|timeline-minus-outline F1535   4 i|timeline-outline F0BD2   1 13|timeline-plus F0F96   w si|timeline-plus-outline F0F97   w si|timeline-question F0F99  4qz w si|timeline-question-outline F0F9A  4r0 w si|timeline-remove F1536   4 i|timeline-remove-outline F1537   4 i|timeline-text F0BD3   1 13|timeline-text-outline F0BD4   1 13|timer F13AB pp,3a 4r1 j yt|timer-10 F051C 3a 4r2 p f|timer-3 F051D 3a 4r3 p f|timer-alert F1ACC 3a,q 4r4 4 a9|timer-alert-outline F1ACD 3a,q 4r5 4 a9|timer-cancel F1ACE 3a 4r6 4 a9|timer-cancel-outline F1ACF 3a 4r7 4 a9|timer-check F1AD0 3a 4r8,4r9,4ra 4 a9|timer-check-outline F1AD1 3a 4rb,4rc,4rd 4 a9|timer-cog F1925 3a,3h 4re j 9x|timer-cog-outline F1926 3a,3h 4rf j 9x|timer-edit F1AD2 3a,41 4rg 4 a9|timer-edit-outline F1AD3 3a,41 4rh 4 a9|timer-lock F1AD4 3a,59 4ri,4rj,4rk 4 a9|timer-lock-open F1AD5 3a,59 4rl 4 a9|timer-lock-open-outline F1AD6 3a,59 4rm 4 a9|timer-lock-outline F1AD7 3a,59 4rn,4ro,4rp 4 a9|timer-marker F1AD8 3a,av 4rq,4rr,4rs 4 a9|timer-marker-outline F1AD9 3a,av 4rt,4ru,4rv 4 a9|timer-minus F1ADA 3a 4rw,4rx,4ry 4 a9|timer-minus-outline F1ADB 3a 4rz,4s0,4s1 4 a9|timer-music F1ADC 3a,c8 4s2 4 a9|timer-music-outline F1ADD 3a,c8 4s3 4 a9|timer-off F13AC 3a 4s4 j yt|timer-off-outline F051E 3a 4s5 p f|timer-outline F051B 3a,pp 4s6 p f|timer-pause F1ADE 3a 4s7 4 a9|timer-pause-outline F1ADF 3a 4s8 4 a9|timer-play F1AE0 3a 4s9,4sa,4sb 4 a9|timer-play-outline F1AE1 3a 4sc,4sd,4se 4 a9|timer-plus F1AE2 3a 4sf,4sg,4sh 4 a9|timer-plus-outline F1AE3 3a 4si,4sj,4sk 4 a9|timer-refresh F1AE4 3a 4sl 4 a9|timer-refresh-outline F1AE5 3a 4sm 4 a9|timer-remove F1AE6 3a 4sn 4 a9|timer-remove-outline F1AE7 3a 4so 4 a9|timer-sand F051F 3a 4sp w f|timer-sand-complete F199F 3a 4sq 2d 5i|timer-sand-empty F06AD 3a 4sr p c6|timer-sand-full F078C 3a 4ss p cy|timer-sand-paused F19A0 3a 4st 2d 5i|timer-settings F1923 3a,3h  j 9x|timer-settings-outline F1924 3a,3h  j 9x|timer-star F1AE8 3a 4su,4sv,4sw 4 a9|timer-star-outline F1AE9 3a 4sx,4sy,4sz 4 a9|timer-stop F1AEA 3a 4t0 4 a9|timer-stop-outline F1AEB 3a 4t1 4 a9|timer-sync F1AEC 3a 4t2 4 a9|timer-sync-outline F1AED 3a 4t3 4 a9|timetable F0520 3a  w f|tire F1896 ak,3m 4t4,4t5 j 15|toaster F1063 m  1 1y|toaster-off F11B7 m  j ci|toaster-oven F0CD3 m,ty  4h k|toggle-switch F0521   p f|toggle-switch-off F0522   p f|toggle-switch-off-outline F0A19   p of|toggle-switch-outline F0A1A   p of|toggle-switch-variant F1A25 m 4t6 30m 4t|toggle-switch-variant-off F1A26 m 4t7,30o 30m 4t|toilet F09AB m 4cr,4t8,4t9 3o 1x|toolbox F09AC sc  p 1x|toolbox-outline F09AD sc 4ta p 1x|tools F1064 sc 4tb,4tc 1 1y|tooltip F0523 4td  w f|tooltip-account F000C l,4td 4te,4tf,4tg p f|tooltip-cellphone F183B 15k,4td 1bw,1bz,1by j 15|tooltip-check F155C 4td  4 lr",
+    "tooltip-check-outline F155D 4td  4 lr|tooltip-edit F0524 4td,41  j f|tooltip-edit-outline F12C5 41,4td  j 28|tooltip-image F0525 4td  w f|tooltip-image-outline F0BD5 4td  w 13|tooltip-minus F155E 4td  4 lr|tooltip-minus-outline F155F 4td  4 lr|tooltip-outline F0526 4td  w f|tooltip-plus F0BD6 4td 4th w 13|tooltip-plus-outline F0527 4td 4ti,4tj w f|tooltip-question F1BBA 4td 4tk 2d a0|tooltip-question-outline F1BBB 4td 4tl 2d a0|tooltip-remove F1560 4td  4 lr|tooltip-remove-outline F1561 4td  4 lr|tooltip-text F0528 4td  w f|tooltip-text-outline F0BD7 4td  w 13|tooth F08C3 4u 4tm l8 4x|tooth-outline F0529 4u  l8 f|toothbrush F1129 4u 4tm,4tn j 35|toothbrush-electric F112C 4u 4tm,4tn e 5e|toothbrush-paste F112A 4u 4tm,4tn e 35|torch F1606 pp 4to j c0|tortoise F0D3B vn 4tp,4f7 le 83|toslink F12B8 c7 4tq j 47|touch-text-outline F1C60   4tr ry|tournament F09AE po,pp 4ts 4h 1x|tow-truck F083C l5 4tt,4tu p 7w|tower-beach F0681   11r c6|tower-fire F0682   11r c6|town-hall F1875 bm 4tv 11v 15|toy-brick F1288  4tw,4tx,42r 1 47|toy-brick-marker F1289 av 4tw,4tx,42r,4ty,4tz 1 47|toy-brick-marker-outline F128A av 42u,4u0,4u1,4u2,4u3 1 47|toy-brick-minus F128B  4tw,4tx,42r 1 47|toy-brick-minus-outline F128C  4tw,4tx,42r 1 47|toy-brick-outline F128D  4tw,4tx,42r 1 47|toy-brick-plus F128E  4tw,4tx,42r 1 47|toy-brick-plus-outline F128F  4tw,4tx,42r 1 47|toy-brick-remove F1290  4tw,4tx,42r 1 47|toy-brick-remove-outline F1291  4tw,4tx,42r 1 47|toy-brick-search F1292  4tw,4tx,42r 1 47|toy-brick-search-outline F1293  4tw,4tx,42r 1 47|track-light F0914 m  4h 6f|track-light-off F1B01   j 1k|trackpad F07F8   w bq|trackpad-lock F0933 59  e 3x0|tractor F0892 3m,l5 us 4h 4i|tractor-variant F14C4 3m 4u4 p cq|trademark F0A78  4u5 j qy|traffic-cone F137C l5  1 9|traffic-light F052B l5 4u6,4u7 p f|traffic-light-outline F182A l5 4u8,4u9 p 3r|train F052C av,as 4ua,4ub,4uc p f|train-car F0BD8 as 4ud,4ue,4uf p 13|train-car-autorack F1B2D as  4 1k|train-car-box F1B2E as  4 1k|train-car-box-full F1B2F as  4 1k|train-car-box-open F1B30 as  4 1k|train-car-caboose F1B31 as  4 1k|train-car-centerbeam F1B32 as  4 1k|train-car-centerbeam-full F1B33 as  4 1k|train-car-container F1B34 as  4 1k|train-car-flatbed F1B35 as  4 1k|train-car-flatbed-car F1B36 as  4 1k|train-car-flatbed-tank F1B37 as  4 1k|train-car-gondola F1B38 as  4 1k|train-car-gondola-full F1B39 as  4 1k|train-car-hopper F1B3A as  4 1k|train-car-hopper-covered F1B3B as  4 1k|train-car-hopper-full F1B3C as  4 1k|train-car-intermodal F1B3D as  4 1k|train-car-passenger F1733 as  4 5|train-car-passenger-door F1734 as  4 5|train-car-passenger-door-open F1735 as  4 5|train-car-passenger-variant F1736 as  4 5|train-car-tank F1B3E as  4 1k|train-variant F08C4 as 4ug,4uh p 4x|tram F052D av,as  p f|tram-side F0FE7 as  p 2|transcribe F052E   w f|transcribe-close F052F   w f|transfer F1065   e 1y|transfer-down F0DA1 oc  1 ao|transfer-left F0DA2 oc  1 ao|transfer-right F0530 oc  w f|transfer-up F0DA3 oc  1 ao|transit-connection F0D3C as,av  j 83|transit-connection-horizontal F1546 as  2d i|transit-connection-variant F0D3D as,av  j 83|transit-detour F0F8B as,av  4ui si|transit-skip F1515 as  2d i|transit-transfer F06AE as,av 4uj p c6|transition F0915  4uk,4ul,4um p 6f|transition-masked F0916  4un p 6f|translate F05CA  4uo p f|translate-off F0E06   3r9 ap|translate-variant F1B99 0 4up j 2e|transmission-tower F0D3E m 4uq,4ur,2ca,uu,25g,4us j 83|transmission-tower-export F192C m 4ut,4uu,4uv j 9x|transmission-tower-import F192D m 4uw,4ux,4uy,4uz j 9x|transmission-tower-off F19DD m 4v0,4v1,4v2 e 4t|trash-can F0A79  4v3,1v3,4v4,1v5 4h qy|trash-can-outline F0A7A  4v5,1vv,4v6,1vu 4h qy|tray F1294  3xx,4v7,4v8 1 47|tray-alert F1295 q 3xx,4v7,4v8 1 47|tray-arrow-down F0120 oc 4v9 3rd f|tray-arrow-up F011D oc 4va 3rd f|tray-full F1296  3xx,4v7,4v8 1 47|tray-minus F1297  3xx,4v7,4v8 1 47|tray-plus F1298  3xx,4v7,4v8 1 47|tray-remove F1299  3xx,4v7,4v8 1 47|treasure-chest F0726 po,v0,59 4vb,4vc 2ef 44|treasure-chest-outline F1C77 po,59,v0 4vd,4ve 2d ry|tree F0531 wq,3m 2ct w f|tree-outline F0E69 wq,3m 2ct e sb|trello F0532 la  4s f|trending-down F0533   p f|trending-neutral F0534  4vf p f|trending-up F0535   p f|triangle F0536 1ie  e f|triangle-down F1C56 1ie  2d ry|triangle-down-outline F1C57 1ie  2d ry|triangle-outline F0537 1ie  e f|triangle-small-down F1A09 1ie 4vg 2d 4t|triangle-small-up F1A0A 1ie 4vh 2d 4t|triangle-wave F147C c7  8 ar|triforce F0BD9 po 4vi w 13|trophy F0538 pp 4vj 1a1 f|trophy-award F0539 pp 4vk 1a1 f|trophy-broken F0DA4 pp  2uz ao|trophy-outline F053A pp 4vl e f|trophy-variant F053B pp 4vm 1a1 f|trophy-variant-outline F053C pp 4vn e f|truck F053D l5 4vo,4vp,4vq p f|truck-alert F19DE l5,q 4vr e 4t|truck-alert-outline F19DF l5,q 4vs e 4t|truck-cargo-container F18D8 l5 4vt 4 a6|truck-check F0CD4 l5 4vu,4vv,4vw w k|truck-check-outline F129A l5  w 47|truck-delivery F053E l5 4vx e f|truck-delivery-outline F129B l5  w 47|truck-fast F0788 l5 4vy,4vz w cy|truck-fast-outline F129C l5  w 47|truck-flatbed F1891 ak,l5 4w0 4 15|truck-minus F19AE l5 4w1 1 5i|truck-minus-outline F19BD l5 4w2 4 5i|truck-outline F129D l5  p 47|truck-plus F19AD l5,4u 4w3 1 5i|truck-plus-outline F19BC l5,4u 4w4 4 5i|truck-remove F19AF l5  1 5i|truck-remove-outline F19BE l5  4 5i|truck-snowflake F19A6 l5 4w5,4w6 3t7 5i|truck-trailer F0727 l5  1 44|trumpet F1096 c8  j 2i|tshirt-crew F0A7B 11q 4w7 1 qy|tshirt-crew-outline F053F 11q 4w8 w f|tshirt-v F0A7C 11q 4w9 1 qy|tshirt-v-outline F0540 11q 4wa w f|tsunami F1A81 wq,ro  p uz|tumble-dryer F0917 m 4wb 4h 6f|tumble-dryer-alert F11BA m,q 4wc j ci|tumble-dryer-off F11BB m 4wd j ci|tune F062E 3h,c7 4we,4wf,1nx p 3y|tune-variant F1542 c7,3h 1nx,4wg 4 i|tune-vertical F066A 3h,c7 4wh,4wi,4wj,4wk p 3y|tune-vertical-variant F1543 c7,3h 4wj,4wl 4 i|tunnel F183D l5,as  4 15|tunnel-outline F183E l5,as  4 15|turbine F1A82 a4 4wm,4wn 1q2 uz|turkey F171B vn,u6,3m 2f4 4 5|turnstile F0CD5   1 k|turnstile-outline F0CD6   1 k|turtle F0CD7 vn 4f7 le k|twitch F0543 27c,la  4s f|twitter F0544 la,27c  4s f|two-factor-authentication F09AF   4h 1x|typewriter F0F2D   1 t7|ubisoft F0BDA la,po 4wo 4s 13|ubuntu F0548 la  4s f|ufo F10C4  4wp,4wq j 2i|ufo-outline F10C5  4wr,4wq j 2i|ultra-high-definition F07F9 15m 4ws w bq|umbraco F0549 la  4s f|umbrella F054A ro  e f|umbrella-beach F188A ro  p 15|umbrella-beach-outline F188B ro  p 15|umbrella-closed F09B0 ro  e 1x|umbrella-closed-outline F13E2 ro  e sf|umbrella-closed-variant F13E1 ro  sm sf|umbrella-outline F054B ro  e f|undo F054C  44z p f|undo-variant F054D  44z w f|unfold-less-horizontal F054E  4wt,4wu p f|unfold-less-vertical F0760  4wv,4ww w cy|unfold-more-horizontal F054F  4wx,4wy p f|unfold-more-vertical F0761  4wz,4x0 w cy|ungroup F0550   w f|unicode F0ED0 0,la  4s 3p|unicorn F15C2 vn 4x1 4 c0|unicorn-variant F15C3 vn 4x2 4 c0|unicycle F15E5 pp,as  4 c0|unity F06AF la,po  4s c6|unreal F09B1 la,po 4x3 4s 1x|update F06B0 3a 4x4,2oj p c6|upload F0552  4x5 p f|upload-lock F1373 59  1 9|upload-lock-outline F1374 59  1 9|upload-multiple F083D  4x6 1 7w|upload-network F06F6   w 44|upload-network-outline F0CD8   j k|upload-off F10C6   j 2i|upload-off-outline F10C7   j 2i|upload-outline F0E07  4x7 j ap|usb F0553   p f|usb-flash-drive F129E   2gb 47|usb-flash-drive-outline F129F   2gb 47|usb-port F11F0   4h ci|vacuum F19A1 m 4x8 p 5i|vacuum-outline F19A2 m 4x9 p 5i|valve F1066 m  1 1y|valve-closed F1067 m  1 1y|valve-open F1068 m  1 1y|van-passenger F07FA l5  4h bq|van-utility F07FB l5 4xa 4h bq|vanish F07FC   pk bq|vanish-quarter F1554   j lr|vanity-light F11E1 m  1 ci|variable F0AE7 0,3  1 30|variable-box F1111 0  j 35|vector-arrange-above F0554 4xb,oa,ob  e f|vector-arrange-below F0555 4xb,oa,ob  e f|vector-bezier F0AE8 4xb  12w 30|vector-circle F0556 4xb,ob  e f|vector-circle-variant F0557 4xb  e f|vector-combine F0558 4xb,ob  e f|vector-curve F0559 4xb,ob 4xc w f|vector-difference F055A 4xb,ob  e f|vector-difference-ab F055B 4xb,ob  e f|vector-difference-ba F055C 4xb,ob  e f|vector-ellipse F0893 4xb,ob  w 4i|vector-intersection F055D 4xb,ob  e f|vector-line F055E 4xb,ob  e f|vector-link F0FE8 4xb,ob  e 2|vector-point F01C4 4xb  2dg f|vector-point-edit F09E8 4xb,41  2dg of",
+    "vector-point-minus F1B78 4xb  2dg 2e|vector-point-plus F1B79 4xb 4xd 2dg 2e|vector-point-select F055F 4xb,ob  w f|vector-polygon F0560 4xb,ob  e f|vector-polygon-variant F1856 4xb  2d 15|vector-polyline F0561 4xb,ob  2dg f|vector-polyline-edit F1225 41  2dg 6s|vector-polyline-minus F1226   2dg 6s|vector-polyline-plus F1227   2dg 6s|vector-polyline-remove F1228   j 6s|vector-radius F074A 4xb,ob  w cy|vector-rectangle F05C6 4xb,ob  w f|vector-selection F0562 4xb,ob  e f|vector-square F0001 4xb,ob 4xe w f|vector-square-close F1857 4xb  2d 15|vector-square-edit F18D9 4xb,41  2dg a6|vector-square-minus F18DA 4xb 4xf 2dg a6|vector-square-open F1858 4xb  2d 15|vector-square-plus F18DB 4xb 4xg 2dg a6|vector-square-remove F18DC 4xb 4xh 2dg a6|vector-triangle F0563 4xb,ob  e f|vector-union F0564 4xb,ob  e f|vhs F0A1B 15m 4xi,4xj,4xk 4h of|vibrate F0566  4xl p f|vibrate-off F0CD9   1 k|video F0567 15m,m 4xm p f|video-2d F1A1C 15m  w 4t|video-3d F07FD 15m  w bq|video-3d-off F13D9 15m  4xn sf|video-3d-variant F0ED1 15m  4xo 3p|video-4k-box F083E 15m 4xp p 7w|video-account F0919 l,15m 4xq p 6f|video-box F00FD 15m  p f|video-box-off F00FE 15m  p f|video-check F1069 15m  j 1y|video-check-outline F106A 15m  j 1y|video-high-definition F152E 15m  j i|video-image F091A 15m  p 6f|video-input-antenna F083F 15m 4xr p 7w|video-input-component F0840 15m 4xs,4xt,4xu,4xv,4xw p 7w|video-input-hdmi F0841 15m 4xx p 7w|video-input-scart F0F8C 15m  4h si|video-input-svideo F0842 15m 4xy p 7w|video-marker F19A9 15m,av 4xz e 5i|video-marker-outline F19AA 15m,av 4y0 e 5i|video-minus F09B2 15m 4y1 p 1x|video-minus-outline F02BA 15m  j f|video-off F0568 15m,m 4y2 p f|video-off-outline F0BDB 15m 4y3 p 13|video-outline F0BDC 15m 4y4 p 13|video-plus F09B3 15m 4y5,4y6 p 1x|video-plus-outline F01D3 15m  j f|video-stabilization F091B 15m 4y7 p 6f|video-switch F0569 15m 4y8 p f|video-switch-outline F0790 15m  p bq|video-vintage F0A1C 15m 4y9,4ya 4yb of|video-wireless F0ED2 15m  j 3p|video-wireless-outline F0ED3 15m  j 3p|view-agenda F056A m5  p f|view-agenda-outline F11D8 m5  p ci|view-array F056B m5  p f|view-array-outline F1485 m5  p cq|view-carousel F056C m5  p f|view-carousel-outline F1486 m5  p cq|view-column F056D m5  p f|view-column-outline F1487 m5  p cq|view-comfy F0E6A m5  p sb|view-comfy-outline F1488 m5  p cq|view-compact F0E6B m5  p sb|view-compact-outline F0E6C m5  p sb|view-dashboard F056E m5  p f|view-dashboard-edit F1947 m5,41  j 9x|view-dashboard-edit-outline F1948 m5,41  j 9x|view-dashboard-outline F0A1D m5  p of|view-dashboard-variant F0843 m5  p 7w|view-dashboard-variant-outline F1489 m5  j cq|view-day F056F m5  p f|view-day-outline F148A m5  p cq|view-gallery F1888 m5  4yc 15|view-gallery-outline F1889 m5  j 15|view-grid F0570 m5  e f|view-grid-compact F1C61   j ry|view-grid-outline F11D9 m5  1 ci|view-grid-plus F0F8D m5 4yd p si|view-grid-plus-outline F11DA m5  1 ci|view-headline F0571 m5  p f|view-list F0572 m5  p f|view-list-outline F148B m5  p cq|view-module F0573 m5  p f|view-module-outline F148C m5  p cq|view-parallel F0728 m5  j 44|view-parallel-outline F148D m5  j cq|view-quilt F0574 m5  p f|view-quilt-outline F148E m5  p cq|view-sequential F0729 m5  j 44|view-sequential-outline F148F m5  j cq|view-split-horizontal F0BCB m5  p 13|view-split-vertical F0BCC m5  p 13|view-stream F0575 m5  p f|view-stream-outline F1490 m5  p cq|view-week F0576 m5  p f|view-week-outline F1491 m5  p cq|vimeo F0577 la  4s f|violin F060F c8  p f|virtual-reality F0894  4ye 4h 4i|virus F13B6 r3,4u  j sf|virus-off F18E1 r3  j a6|virus-off-outline F18E2 r3  j a6|virus-outline F13B7 r3,4u  j sf|vlc F057C la  4s f|voicemail F057D   p f|volcano F1A83 wq 4yf p uz|volcano-outline F1A84 wq 4yg p uz|volleyball F09B4 pp  p 1x|volume-equal F1B10 c7  4yh 1k|volume-high F057E c7,m,15k 3hw,4yi,4yj p f|volume-low F057F c7,m,15k 3hw,4yi p f|volume-medium F0580 c7,m,15k 3hw,4yi p f|volume-minus F075E c7,m,15k 4yk w cy|volume-mute F075F c7,15k  w cy|volume-off F0581 c7,m,15k 4yl,4ym,4yn,4yo p f|volume-plus F075D c7,m,15k 4yp w cy|volume-source F1120 15k,c7  p 35|volume-variant-off F0E08 c7,15k  13h ap|volume-vibrate F1121 15k,c7  e 35|vote F0A1F  4yq p of|vote-outline F0A20  4yr p of|vpn F0582  4ys w f|vuejs F0844 la,0 4yt 4s 7w|vuetify F0E6D la  4s sb|walk F0583 pp,as,a1 4yu,4yv,4yw,4yx p f|wall F07FE  4yy w bq|wall-fire F1A11 160 4yz w 4t|wall-sconce F091C m  4h 6f|wall-sconce-flat F091D m 4z0,4z1 4h 6f|wall-sconce-flat-outline F17C9 m  xv 3r|wall-sconce-flat-variant F041C m 4z2 j f|wall-sconce-flat-variant-outline F17CA m  xv 3r|wall-sconce-outline F17CB m  j 3r|wall-sconce-round F0748 m 4z3 j cy|wall-sconce-round-outline F17CC m  j 3r|wall-sconce-round-variant F091E m 4z4 4h 6f|wall-sconce-round-variant-outline F17CD m  j 3r|wallet F0584 2g,2f 4z5 p f|wallet-bifold F1C58 2g,2f  2d ry|wallet-bifold-outline F1C59 2f,2g  2d ry|wallet-giftcard F0585 v0,2f 4z6,4z7 p f|wallet-membership F0586  4z8 p f|wallet-outline F0BDD 2g,2f 4z9 p 13|wallet-plus F0F8E 2f 4za 4h si|wallet-plus-outline F0F8F 2f 4zb 4h si|wallet-travel F0587  4zc p f|wallpaper F0E09   p ap|wan F0588  4zd e f|wardrobe F0F90 m 2mn 4h si|wardrobe-outline F0F91 m 4ze 4h si|warehouse F0F81 bm  486 si|washing-machine F072A m 4zf,4zg,4wb p 44|washing-machine-alert F11BC m,q 4wc j ci|washing-machine-off F11BD m 4wd j ci|watch F0589 160  p f|watch-export F058A 160  w f|watch-export-variant F0895 160  4zh 4i|watch-import F058B 160  w f|watch-import-variant F0896 160  4zh 4i|watch-variant F0897 160  4h 4i|watch-vibrate F06B1 160  4h c6|watch-vibrate-off F0CDA 160  1 k|water F058C m,1pp,ty,ro,3m 4zi,334,4zj,4zk,4zl p f|water-alert F1502 q,3m 4zm,4zn,4zo 4 i|water-alert-outline F1503 q,3m 4zp,4zq,4zr 4 i|water-boiler F0F92 m 4zs,4zt,4zu,4zv,4zw 4h si|water-boiler-alert F11B3 m,q 4zx,4zy,4zz j ci|water-boiler-auto F1B98 m 500 j 2e|water-boiler-off F11B4 m 501 j ci|water-check F1504  502,503,504 4 i|water-check-outline F1505  505,506,507 4 i|water-circle F1806 m 508,509,50a j 3r|water-minus F1506  50b,50c,50d 4 i|water-minus-outline F1507  50e,50f,50g 4 i|water-off F058D  50h,50i,50j,50k p f|water-off-outline F1508  50l,50m,50n,50o 4 i|water-opacity F1855 m,qu,ro 50p,50q,50r,50s,50t,50u,50v,50w j 15|water-outline F0E0A m,ro 50x,50y,50z,510 4h ap|water-percent F058E ro,m,wq 1ma,511 e f|water-percent-alert F1509 q,wq 512,513 4 i|water-plus F150A  514,515,516 4 i|water-plus-outline F150B  517,518,519 4 i|water-polo F12A0 pp  2gb 47|water-pump F058F 3m,m 51a,27m,51b w f|water-pump-off F0F93 3m,m 51c,51d,51e le si|water-remove F150C  51f,51g,51h 4 i|water-remove-outline F150D  51i,51j,51k 4 i|water-sync F17C6 3m 51l,51m 1q2 3r|water-thermometer F1A85 ro,m 51n,4q7,4q6 j uz|water-thermometer-outline F1A86 ro,m 51o,51p,51q j uz|water-well F106B   1 1y|water-well-outline F106C   1 1y|waterfall F1849 m,wq  xv 15|watering-can F1481 3m 51r wz cq|watering-can-outline F1482 3m 51s wz cq|watermark F0612  51t p f|wave F0F2E l9 333 j t7|waveform F147D c7  8 ar|waves F078D ro,l9,3m 51u,51v,51w,333 j cy|waves-arrow-left F1859 wq,ro 51x,51y j 15|waves-arrow-right F185A wq,ro 51z,51y j 15|waves-arrow-up F185B wq,ro 520,1ma,521,522,523 j 15|waze F0BDE la  4s 13|weather-cloudy F0590 ro,1m2,3m  w f|weather-cloudy-alert F0F2F ro,q,1m2  j t7|weather-cloudy-arrow-right F0E6E ro,1m2  j sb|weather-cloudy-clock F18F6 ro,1m2 524,525,526 j a6|weather-dust F1B5A ro,3m 527,528 1j 2e|weather-fog F0591 ro,3m 529 w f|weather-hail F0592 ro,3m  w f|weather-hazy F0F30 ro,3m  j t7|weather-hurricane F0898 ro,wq,3m 52a 1 4i|weather-hurricane-outline F1C78 ro,wq,3m 52b 2d ry|weather-lightning F0593 ro,3m 52c,52d,52e w f|weather-lightning-rainy F067E ro 52f,52c w c6|weather-night F0594 ro,u6 52g,52h w f|weather-night-partly-cloudy F0F31 ro,1m2  j t7|weather-partly-cloudy F0595 ro,1m2 52i w f|weather-partly-lightning F0F32 ro  j t7|weather-partly-rainy F0F33 ro  j t7|weather-partly-snowy F0F34 ro  j t7|weather-partly-snowy-rainy F0F35 ro  j t7|weather-pouring F0596 ro,3m 52j w f|weather-rainy F0597 ro,3m 52k,52l w f|weather-snowy F0598 ro  w f|weather-snowy-heavy F0F36 ro 52m j t7|weather-snowy-rainy F067F ro 52n w c6|weather-sunny F0599 ro  w f",
+    "weather-sunny-alert F0F37 ro,q,m 52o,52p,52q j t7|weather-sunny-off F14E4 ro  j i|weather-sunset F059A ro  w f|weather-sunset-down F059B ro  w f|weather-sunset-up F059C ro 52r w f|weather-tornado F0F38 ro  j t7|weather-windy F059D ro  w f|weather-windy-variant F059E ro  w f|web F059F ob 4uo,1yy,52s,52t p f|web-box F0F94 ob 52u,1z5,52v 52w si|web-cancel F1790   4 3r|web-check F0789   4 cy|web-clock F124A 3a  mb 6s|web-minus F10A0   4 2i|web-off F0A8E   4 30|web-plus F0033   4 f|web-refresh F1791   4 3r|web-remove F0551   4 f|web-sync F1792   4 3r|webcam F05A0 15m,m 52x 1w7 f|webcam-off F1737   4 5|webhook F062F   w 3y|webpack F072B la,0  4s 44|webrtc F1248 la  4s 6s|wechat F0611 la  4s f|weight F05A1   w f|weight-gram F0D3F   j 83|weight-kilogram F05A2  52y w f|weight-lifter F115D pp,a1 52z,1yn,1ym,530 j 5e|weight-pound F09B5  531 8 1x|whatsapp F05A3 la  4s f|wheel-barrow F14F2 sc  j i|wheelchair F1A87 4u,a1 532,533,534 j uz|wheelchair-accessibility F05A4 4u 532 1a1 f|whistle F09B6 pp  1 1x|whistle-outline F12BC pp  1 28|white-balance-auto F05A5 ru 535 p f|white-balance-incandescent F05A6 ru 536 p f|white-balance-iridescent F05A7 ru 537 p f|white-balance-sunny F05A8 ru,ro 538 p f|widgets F072C   p 44|widgets-outline F1355   p 9|wifi F05A9   w f|wifi-alert F16B5 q  4 yu|wifi-arrow-down F16B6   4 yu|wifi-arrow-left F16B7   4 yu|wifi-arrow-left-right F16B8   4 yu|wifi-arrow-right F16B9   4 yu|wifi-arrow-up F16BA   4 yu|wifi-arrow-up-down F16BB   4 yu|wifi-cancel F16BC   4 yu|wifi-check F16BD   4 yu|wifi-cog F16BE 3h  4 yu|wifi-lock F16BF 59  4 yu|wifi-lock-open F16C0 59  4 yu|wifi-marker F16C1 av 539 4 yu|wifi-minus F16C2   4 yu|wifi-off F05AA   e f|wifi-plus F16C3   4 yu|wifi-refresh F16C4   4 yu|wifi-remove F16C5   4 yu|wifi-settings F16C6 3h  4 yu|wifi-star F0E0B  53a,53b,53c,53d j ap|wifi-strength-1 F091F   e 6f|wifi-strength-1-alert F0920 q 53e e 6f|wifi-strength-1-lock F0921 59  e 6f|wifi-strength-1-lock-open F16CB 59  4 yu|wifi-strength-2 F0922   e 6f|wifi-strength-2-alert F0923 q 53f e 6f|wifi-strength-2-lock F0924 59  e 6f|wifi-strength-2-lock-open F16CC 59  4 yu|wifi-strength-3 F0925   e 6f|wifi-strength-3-alert F0926 q 53g e 6f|wifi-strength-3-lock F0927 59  e 6f|wifi-strength-3-lock-open F16CD 59  4 yu|wifi-strength-4 F0928   e 6f|wifi-strength-4-alert F0929 q 53h e 6f|wifi-strength-4-lock F092A 59  e 6f|wifi-strength-4-lock-open F16CE 59  4 yu|wifi-strength-alert-outline F092B q 53i,53j,53k e 6f|wifi-strength-lock-open-outline F16CF 59  4 yu|wifi-strength-lock-outline F092C 59 53l e 6f|wifi-strength-off F092D   e 6f|wifi-strength-off-outline F092E   e 6f|wifi-strength-outline F092F  53m e 6f|wifi-sync F16C7   4 yu|wikipedia F05AC la  4s f|wind-power F1A88 m 53n,53o p uz|wind-power-outline F1A89 m 53p,53q p uz|wind-turbine F0DA5 m 53r,53o p ao|wind-turbine-alert F19AB m,q 53s,53t j 5i|wind-turbine-check F19AC m 53u,53v,53w j 5i|window-close F05AD  1jz,53x w f|window-closed F05AE m  w f|window-closed-variant F11DB m  1 ci|window-maximize F05AF   w f|window-minimize F05B0   w f|window-open F05B1 m  w f|window-open-variant F11DC m  1 ci|window-restore F05B2   w f|window-shutter F111C m  yk 35|window-shutter-alert F111D m,q  yk 35|window-shutter-auto F1BA3 m  j 2e|window-shutter-cog F1A8A m,3h 53y j uz|window-shutter-open F111E m  yk 35|window-shutter-settings F1A8B m,3h  j uz|windsock F15FA ro  j c0|wiper F0AE9   j 30|wiper-wash F0DA6 ak 53z,540 j ao|wiper-wash-alert F18DF q,ak 541,542,543,544 j a6|wizard-hat F1477 11q,po  j ar|wordpress F05B4 la  4s f|wrap F05B6   1a1 f|wrap-disabled F0BDF  545 546 13|wrench F05B7 sc 547,548 p f|wrench-check F1B8F   1j 2e|wrench-check-outline F1B90   j 2e|wrench-clock F19A3 3a,sc 549,54a,54b,54c e 5i|wrench-clock-outline F1B93 3a  j 2e|wrench-cog F1B91 3h 54d 1j 2e|wrench-cog-outline F1B92 3h 54e j 2e|wrench-outline F0BE0 sc 54f,54g p 13|xamarin F0845 la 54h 4s 7w|xml F05C0 0 54i w f|xmpp F07FF la  4s bq|yahoo F0B4F la  4s 5v|yeast F05C1   w f|yin-yang F0680  54j w c6|yoga F117C pp  j 5e|youtube F05C3 la,27c 54k,54l p f|youtube-gaming F0848 la  p 7w|youtube-studio F0847 la 54m p 7w|youtube-subscription F0D40 la  p 83|youtube-tv F0448 la  p f|yurt F1516   4 i|z-wave F0AEA m,la 54n 4s 30|zend F0AEB 0,la  4s 30|zigbee F0D41 m,la  4s 83|zip-box F05C4 1jc 54o p f|zip-box-outline F0FFA 1jc 54p j 2|zip-disk F0A23   4h of|zodiac-aquarius F0A7D  54q 1 qy|zodiac-aries F0A7E  54r 1 qy|zodiac-cancer F0A7F  54s 1 qy|zodiac-capricorn F0A80  54t 1 qy|zodiac-gemini F0A81  54u 1 qy|zodiac-leo F0A82  54v 1 qy|zodiac-libra F0A83  54w 1 qy|zodiac-pisces F0A84  54x 1 qy|zodiac-sagittarius F0A85  54y 1 qy|zodiac-scorpio F0A86  54z 1 qy|zodiac-taurus F0A87  550 1 qy|zodiac-virgo F0A88  551 1 qy"
+  };
+}
@@ -57,6 +57,21 @@ public class AbstractMenuItem<V> extends BaseDominoElement<HTMLLIElement, Abstra
         TakesValue<V>,
         MenuStyles {
 
+  private static final ElementTemplate<HTMLLIElement> TEMPLATE =
+      ElementTemplate.of(
+          () ->
+              li().addCss(dui_menu_item)
+                  .appendChild(
+                      a("#")
+                          .setAttribute("tabindex", "0")
+                          .setAttribute("aria-expanded", "true")
+                          .addCss(dui_menu_item_anchor)
+                          .appendChild(div().addCss(dui_menu_item_prefix))
+                          .appendChild(div().addCss(dui_menu_item_body))
+                          .appendChild(div().addCss(dui_menu_item_postfix))
+                          .appendChild(div().addCss(dui_menu_item_nested_indicator)))
+                  .element());
+
   protected final LIElement root;
   protected final AnchorElement linkElement;
 
@@ -85,20 +100,18 @@ public class AbstractMenuItem<V> extends BaseDominoElement<HTMLLIElement, Abstra
 
   /** Default constructor to create a menu item. */
   public AbstractMenuItem() {
-    root = li().addCss(dui_menu_item);
-
-    linkElement =
-        a("#")
-            .setAttribute("tabindex", "0")
-            .setAttribute("aria-expanded", "true")
-            .addCss(dui_menu_item_anchor)
-            .appendChild(prefixElement = div().addCss(dui_menu_item_prefix))
-            .appendChild(bodyElement = div().addCss(dui_menu_item_body))
-            .appendChild(postfixElement = div().addCss(dui_menu_item_postfix))
-            .appendChild(nestedIndicatorElement = div().addCss(dui_menu_item_nested_indicator));
-    root.appendChild(linkElement);
-
-    indicatorIcon = createIndicator(Icons.menu_right());
+    HTMLLIElement item = TEMPLATE.create();
+    root = new LIElement(item);
+    linkElement = new AnchorElement(ElementTemplate.childAt(item, 0));
+    prefixElement = new DivElement(ElementTemplate.childAt(item, 0, 0));
+    bodyElement = new DivElement(ElementTemplate.childAt(item, 0, 1));
+    postfixElement = new DivElement(ElementTemplate.childAt(item, 0, 2));
+    nestedIndicatorElement = new DivElement(ElementTemplate.childAt(item, 0, 3));
+
+    indicatorIcon =
+        LazyChild.of(
+            SupplyOnce.<IsElement<?>>of(() -> elementOf(Icons.menu_right())),
+            nestedIndicatorElement);
 
     init(this);
     double[] startTime = new double[] {0};
@@ -141,11 +141,15 @@ public class Menu<V> extends BaseDominoElement<HTMLDivElement, Menu<V>>
   private boolean multiSelect = false;
   private boolean autoOpen = true;
   private boolean preserveSelectionStyles = true;
-  private boolean startScrollFollow = false;
-  private EventListener repositionListener =
-      evt -> {
-        if (isOpened() && startScrollFollow && evt.target != menuItemsList.element()) {
-          startScrollFollow = false;
+  private final FollowOnScroll.ScrollFollower scrollFollower =
+      new FollowOnScroll.ScrollFollower() {
+        @Override
+        public boolean isFollowerOpen() {
+          return isDropDown() && isOpened();
+        }
+
+        @Override
+        public void positionFollower() {
           position();
         }
       };
@@ -197,7 +201,6 @@ public class Menu<V> extends BaseDominoElement<HTMLDivElement, Menu<V>>
   private boolean closeOnBlur = DominoUIConfig.CONFIG.isClosePopupOnBlur();
   private OpenMenuCondition<V> openMenuCondition = (menu) -> true;
   private List<MediaQuery.MediaQueryListenerRecord> mediaQueryRecords = new ArrayList<>();
-  private EventListener windowResizeListener;
   private ObserverCallback<Menu<V>> onAttachHandler;
   private boolean shouldFocus;
   private ObserverCallback<Menu<V>> onDetachHandler;
@@ -240,20 +243,6 @@ public class Menu<V> extends BaseDominoElement<HTMLDivElement, Menu<V>>
           }
         });
 
-    windowResizeListener = evt -> position();
-    nowAndWhenAttached(
-        () -> {
-          if (isDropDown()) {
-            window.addEventListener("resize", windowResizeListener);
-          }
-        });
-    onDetached(
-        (target, mutationRecord) -> {
-          if (isDropDown()) {
-            window.removeEventListener("resize", windowResizeListener);
-          }
-        });
-
     EventListener addMissingEventListener =
         evt -> {
           evt.preventDefault();
@@ -487,15 +476,12 @@ public class Menu<V> extends BaseDominoElement<HTMLDivElement, Menu<V>>
                   }));
 
           DomGlobal.document.body.addEventListener("blur", lostFocusListener, true);
-          if (this.dropDown) {
-            document.addEventListener("scroll", repositionListener, true);
-          }
         });
 
     nowAndWhenDetached(
         () -> {
           DomGlobal.document.body.removeEventListener("blur", lostFocusListener, true);
-          document.removeEventListener("scroll", repositionListener, true);
+          PopupPositionScheduler.unregister(scrollFollower);
           mediaQueryRecords.forEach(MediaQuery.MediaQueryListenerRecord::remove);
           document.removeEventListener(PopupsCloser.DUI_AUTO_CLOSE, autoCloseListener);
         });
@@ -1522,7 +1508,7 @@ public class Menu<V> extends BaseDominoElement<HTMLDivElement, Menu<V>>
                 .position(
                     DropDirectionContext.of(
                         element.element(), target.getTargetElement().element(), fitToTargetWidth));
-            DomGlobal.setTimeout(p -> startScrollFollow = true);
+            PopupPositionScheduler.register(target.getTargetElement().element(), scrollFollower);
           });
     }
   }
@@ -1918,7 +1904,7 @@ public class Menu<V> extends BaseDominoElement<HTMLDivElement, Menu<V>>
     } else {
       this.removeAttribute("domino-ui-root-menu").removeAttribute(DOMINO_UI_AUTO_CLOSABLE);
       menuElement.elevate(Elevation.NONE);
-      document.removeEventListener("scroll", repositionListener);
+      PopupPositionScheduler.unregister(scrollFollower);
     }
     addCss(BooleanCssClass.of(dui_menu_drop, dropdown));
     this.dropDown = dropdown;
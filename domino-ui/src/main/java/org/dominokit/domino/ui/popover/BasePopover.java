@@ -74,6 +74,7 @@ public abstract class BasePopover<T extends BasePopover<T>>
   private boolean closeOthers = true;
   protected final EventListener closeListener;
   private final FollowOnScroll followOnScroll;
+  private DropDirectionContext measuredContext;
   private Supplier<Boolean> openCondition = () -> true;
   private EventListener lostFocusListener;
   private boolean closeOnBlur;
@@ -497,9 +498,22 @@ public abstract class BasePopover<T extends BasePopover<T>>
     return isAttached();
   }
 
+  /** Measures the popover and its target element ahead of {@link #positionFollower()}. */
+  @Override
+  public void measureFollower() {
+    measuredContext = DropDirectionContext.of(root.element(), targetElement);
+    measuredContext.getSpaceChecker();
+  }
+
   /** Positions the follower (popover) relative to its target element. */
   @Override
   public void positionFollower() {
-    doPosition();
+    if (nonNull(measuredContext)) {
+      DropDirectionContext context = measuredContext;
+      measuredContext = null;
+      popupPosition.position(context);
+    } else {
+      doPosition();
+    }
   }
 }
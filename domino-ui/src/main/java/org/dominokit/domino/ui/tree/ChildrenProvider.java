@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.tree;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Supplies the children of a {@link TreeNode} on demand. The provider is called the first time the
+ * node is expanded (or when a model search needs to reveal a path through it), so large trees only
+ * create the items the user actually opens.
+ *
+ * <p>The children can be delivered synchronously or later, e.g. after a server call, by invoking
+ * the consumer once.
+ *
+ * @param <V> the data type associated with each node
+ * @param <N> the node type
+ * @param <S> the selection type
+ */
+@FunctionalInterface
+public interface ChildrenProvider<V, N extends TreeNode<V, N, S>, S> {
+
+  /**
+   * Loads the children of the given node.
+   *
+   * @param parent the node being expanded
+   * @param childrenConsumer a consumer to be called once with the created child nodes
+   */
+  void getChildren(N parent, Consumer<List<N>> childrenConsumer);
+}
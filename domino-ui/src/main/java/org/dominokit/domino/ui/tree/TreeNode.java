@@ -29,12 +29,14 @@ import static org.dominokit.domino.ui.utils.Domino.ul;
 import elemental2.dom.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import org.dominokit.domino.ui.collapsible.Collapsible;
 import org.dominokit.domino.ui.config.HasComponentConfig;
 import org.dominokit.domino.ui.config.TreeConfig;
@@ -100,6 +102,11 @@ public abstract class TreeNode<V, N extends TreeNode<V, N, S>, S>
   private V value;
   private OriginalState originalState;
 
+  private ChildrenProvider<V, N, S> childrenProvider;
+  private boolean childrenLoaded = true;
+  private Object childrenRequest;
+  private final List<Runnable> childrenLoadedCallbacks = new ArrayList<>();
+
   private boolean selectionListenersPaused = false;
   private final Set<SelectionListener<? super N, ? super S>> selectionListeners = new HashSet<>();
   private final Set<SelectionListener<? super N, ? super S>> deselectionListeners = new HashSet<>();
@@ -333,6 +340,99 @@ public abstract class TreeNode<V, N extends TreeNode<V, N, S>, S>
     return (N) this;
   }
 
+  /**
+   * Adds a batch of child nodes with a single DOM insertion, this is what a {@link
+   * ChildrenProvider} result goes through and is cheaper than appending the nodes one by one.
+   *
+   * @param nodes the child nodes to add
+   * @return this node (for fluent API)
+   */
+  @SuppressWarnings("unchecked")
+  public N appendChildren(Collection<N> nodes) {
+    if (nodes.isEmpty()) {
+      return (N) this;
+    }
+    DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+    NodeIconSupplier<V, N, S> iconSupplier =
+        nonNull(parent) && nonNull(getRootNode()) ? getRootNode().getIconSupplier() : null;
+    for (N node : nodes) {
+      this.subNodes.add(node);
+      node.parent = this;
+      node.setToggleTarget(this.toggleTarget);
+      if (nonNull(iconSupplier)) {
+        node.onSuppliedIconChanged(iconSupplier);
+      }
+      fragment.appendChild(node.element());
+    }
+    subTree.element().appendChild(fragment);
+    updateIcon(isCollapsed());
+    return (N) this;
+  }
+
+  /**
+   * Sets a provider that creates the children of this node the first time it is expanded. Until
+   * then the node is rendered as a collapsed parent without any child items.
+   *
+   * @param childrenProvider the provider, or null to remove it
+   * @return this node (for fluent API)
+   */
+  @SuppressWarnings("unchecked")
+  public N setChildrenProvider(ChildrenProvider<V, N, S> childrenProvider) {
+    this.childrenProvider = childrenProvider;
+    this.childrenLoaded = isNull(childrenProvider);
+    this.childrenRequest = null;
+    this.childrenLoadedCallbacks.clear();
+    updateIcon(isCollapsed());
+    return (N) this;
+  }
+
+  /** @return the children provider of this node, or null if the children are static */
+  public ChildrenProvider<V, N, S> getChildrenProvider() {
+    return childrenProvider;
+  }
+
+  /**
+   * @return true if this node has no children provider or its provider already delivered the
+   *     children
+   */
+  public boolean isChildrenLoaded() {
+    return childrenLoaded;
+  }
+
+  /**
+   * Runs the callback once the children of this node are available, loading them from the {@link
+   * ChildrenProvider} if needed. Concurrent calls share a single provider call.
+   */
+  @SuppressWarnings("unchecked")
+  private void withChildren(Runnable callback) {
+    if (childrenLoaded) {
+      callback.run();
+      return;
+    }
+    childrenLoadedCallbacks.add(callback);
+    if (nonNull(childrenRequest)) {
+      return;
+    }
+    Object request = new Object();
+    this.childrenRequest = request;
+    childrenProvider.getChildren(
+        (N) this,
+        children -> {
+          if (request != this.childrenRequest) {
+            return;
+          }
+          this.childrenRequest = null;
+          this.childrenLoaded = true;
+          if (nonNull(children)) {
+            appendChildren(children);
+          }
+          List<Runnable> callbacks = new ArrayList<>(childrenLoadedCallbacks);
+          childrenLoadedCallbacks.clear();
+          callbacks.forEach(Runnable::run);
+          updateIcon(isCollapsed());
+        });
+  }
+
   /**
    * Adds multiple child nodes at once.
    *
@@ -607,17 +707,22 @@ public abstract class TreeNode<V, N extends TreeNode<V, N, S>, S>
   /** Toggles expand/collapse if this node has child nodes; otherwise, no operation. */
   private void toggle() {
     if (isParent()) {
-      toggleCollapse();
+      if (childrenLoaded) {
+        toggleCollapse();
+      } else {
+        expandNode();
+      }
     }
   }
 
   /**
-   * Checks if this node has one or more children.
+   * Checks if this node has one or more children, or children that are yet to be loaded from its
+   * {@link ChildrenProvider}.
    *
    * @return {@code true} if it has children, {@code false} otherwise
    */
   boolean isParent() {
-    return !subNodes.isEmpty();
+    return !subNodes.isEmpty() || !childrenLoaded;
   }
 
   /**
@@ -626,7 +731,7 @@ public abstract class TreeNode<V, N extends TreeNode<V, N, S>, S>
    * @return {@code true} if no children, {@code false} otherwise
    */
   public boolean isLeaf() {
-    return subNodes.isEmpty();
+    return !isParent();
   }
 
   /**
@@ -713,9 +818,12 @@ public abstract class TreeNode<V, N extends TreeNode<V, N, S>, S>
     }
   }
 
-  /** Recursively expands this node and all child sub-nodes. */
+  /**
+   * Recursively expands this node and all child sub-nodes. Nodes whose children are not loaded yet
+   * from a {@link ChildrenProvider} are left collapsed.
+   */
   public void expandAll() {
-    if (isParent() && isCollapsed()) {
+    if (childrenLoaded && isParent() && isCollapsed()) {
       addCss(dui_transition_none);
       this.expandNode();
       subNodes.forEach(TreeNode::expandAll);
@@ -780,7 +888,16 @@ public abstract class TreeNode<V, N extends TreeNode<V, N, S>, S>
     }
 
     if (isParent()) {
-      super.expand();
+      if (childrenLoaded) {
+        super.expand();
+      } else {
+        withChildren(
+            () -> {
+              if (isParent()) {
+                expand();
+              }
+            });
+      }
     }
     updateIcon(isCollapsed());
     return (N) this;
@@ -878,6 +995,43 @@ public abstract class TreeNode<V, N extends TreeNode<V, N, S>, S>
     return subNodes.stream().filter(treeItem -> treeItem.filter(searchToken)).count() > 0;
   }
 
+  /**
+   * Applies the result of a {@link TreeSearchModel} search to this node. Nodes that are not on a
+   * matching path are hidden, and only the nodes along the matching paths get their children
+   * loaded.
+   *
+   * @param searchToken the token being searched
+   * @param pathIndex the paths continuing through this node, or null if this node does not match
+   * @param current tells if the search is still the current one, a children load completing after
+   *     a newer search started is ignored
+   */
+  void filterPaths(String searchToken, TreePathIndex<V> pathIndex, BooleanSupplier current) {
+    if (isNull(originalState)) {
+      this.originalState = new TreeNode.OriginalState(isExpanded());
+    }
+    this.lastSearchToken = searchToken;
+    if (isNull(pathIndex)) {
+      addCss(dui_hidden);
+      return;
+    }
+    dui_hidden.remove(this);
+    if (pathIndex.isEmpty()) {
+      subNodes.forEach(node -> node.filterPaths(searchToken, null, current));
+      return;
+    }
+    withChildren(
+        () -> {
+          if (!current.getAsBoolean()) {
+            return;
+          }
+          subNodes.forEach(
+              node -> node.filterPaths(searchToken, pathIndex.get(node.getValue()), current));
+          if (isAutoExpandFound() && isCollapsed()) {
+            this.expandNode(true);
+          }
+        });
+  }
+
   /**
    * Indicates whether matching nodes should automatically be expanded (when found by a filter).
    *
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.tree;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prefix tree of the value paths returned by a {@link TreeSearchModel}, used to walk the rendered
+ * nodes level by level while applying a model search.
+ *
+ * @param <V> the data type associated with each node
+ */
+class TreePathIndex<V> {
+
+  private final Map<V, TreePathIndex<V>> children = new HashMap<>();
+
+  static <V> TreePathIndex<V> of(List<List<V>> paths) {
+    TreePathIndex<V> root = new TreePathIndex<>();
+    for (List<V> path : paths) {
+      TreePathIndex<V> current = root;
+      for (V value : path) {
+        current = current.children.computeIfAbsent(value, v -> new TreePathIndex<>());
+      }
+    }
+    return root;
+  }
+
+  /**
+   * @param value a node value
+   * @return the index of the paths going through the value, or null if no path goes through it
+   */
+  TreePathIndex<V> get(V value) {
+    return children.get(value);
+  }
+
+  /** @return true if no path continues below this level */
+  boolean isEmpty() {
+    return children.isEmpty();
+  }
+}
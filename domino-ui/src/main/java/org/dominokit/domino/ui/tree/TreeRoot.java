@@ -29,6 +29,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import org.dominokit.domino.ui.collapsible.CollapseStrategy;
 import org.dominokit.domino.ui.elements.DivElement;
 import org.dominokit.domino.ui.elements.SpanElement;
@@ -37,6 +38,7 @@ import org.dominokit.domino.ui.icons.Icon;
 import org.dominokit.domino.ui.icons.ToggleMdiIcon;
 import org.dominokit.domino.ui.icons.lib.Icons;
 import org.dominokit.domino.ui.search.Search;
+import org.dominokit.domino.ui.style.BooleanCssClass;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.ChildHandler;
 import org.dominokit.domino.ui.utils.HasSelectionListeners;
@@ -70,6 +72,8 @@ public abstract class TreeRoot<V, N extends TreeNode<V, N, S>, C extends TreeRoo
   private TreeItemFilter<N> filter =
       (treeItem, searchToken) ->
           treeItem.getTitle().toLowerCase().contains(searchToken.toLowerCase());
+  private TreeSearchModel<V> searchModel;
+  private int searchSequence;
 
   private boolean selectionListenersPaused;
   private final Set<SelectionListener<? super N, ? super S>> selectionListeners = new HashSet<>();
@@ -486,16 +490,88 @@ public abstract class TreeRoot<V, N extends TreeNode<V, N, S>, C extends TreeRoo
 
   /** Clears the search filter applied to tree items in this tree. */
   public void clearFilter() {
+    searchSequence++;
     subNodes.forEach(TreeNode::clearFilter);
   }
 
   /**
-   * Filters tree items in this tree based on the given search token.
+   * Filters tree items in this tree based on the given search token. When a {@link
+   * TreeSearchModel} is set the search runs over the model and only the matching paths are
+   * materialized, otherwise every rendered item is tested against the {@link TreeItemFilter}.
    *
    * @param searchToken The search token to filter tree items.
    */
   public void filter(String searchToken) {
-    subNodes.forEach(treeItem -> treeItem.filter(searchToken));
+    if (nonNull(searchModel)) {
+      filterModel(searchToken);
+    } else {
+      subNodes.forEach(treeItem -> treeItem.filter(searchToken));
+    }
+  }
+
+  private void filterModel(String searchToken) {
+    if (isNull(searchToken) || searchToken.isEmpty()) {
+      clearFilter();
+      return;
+    }
+    int sequence = ++searchSequence;
+    searchModel.search(
+        searchToken,
+        paths -> {
+          if (sequence != searchSequence) {
+            return;
+          }
+          TreePathIndex<V> pathIndex = TreePathIndex.of(paths);
+          BooleanSupplier current = () -> sequence == searchSequence;
+          subNodes.forEach(
+              node -> node.filterPaths(searchToken, pathIndex.get(node.getValue()), current));
+        });
+  }
+
+  /**
+   * Gets the model used to search this tree.
+   *
+   * @return the search model, or null if the rendered items are searched
+   */
+  public TreeSearchModel<V> getSearchModel() {
+    return searchModel;
+  }
+
+  /**
+   * Sets a model to search this tree data instead of its rendered items, use it with nodes that
+   * load their children from a {@link ChildrenProvider} so that a search does not need the whole
+   * tree to be created.
+   *
+   * @param searchModel the search model, or null to search the rendered items
+   * @return This `Tree` instance for method chaining.
+   */
+  @SuppressWarnings("unchecked")
+  public C setSearchModel(TreeSearchModel<V> searchModel) {
+    this.searchModel = searchModel;
+    return (C) this;
+  }
+
+  /**
+   * Enables or disables the virtualized rendering of the tree items. When enabled the browser skips
+   * the layout and painting of items scrolled out of the tree body, which keeps large expanded
+   * trees responsive.
+   *
+   * @param virtualized `true` to enable virtualized rendering, `false` otherwise.
+   * @return This `Tree` instance for method chaining.
+   */
+  @SuppressWarnings("unchecked")
+  public C setVirtualized(boolean virtualized) {
+    addCss(BooleanCssClass.of(dui_tree_virtualized, virtualized));
+    return (C) this;
+  }
+
+  /**
+   * Checks if the virtualized rendering of tree items is enabled.
+   *
+   * @return {@code true} if virtualized rendering is enabled, {@code false} otherwise.
+   */
+  public boolean isVirtualized() {
+    return dui_tree_virtualized.isAppliedTo(this);
   }
 
   /**
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.tree;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Searches the data behind a tree instead of its rendered items. The result is the list of value
+ * paths, from a top level value down to each matching value, and the tree only materializes and
+ * reveals the nodes along those paths.
+ *
+ * <p>Values are matched against the values of the nodes using {@link Object#equals(Object)}.
+ *
+ * @param <V> the data type associated with each node
+ */
+@FunctionalInterface
+public interface TreeSearchModel<V> {
+
+  /**
+   * Searches the model for the given token.
+   *
+   * @param searchToken the token to search for, never empty
+   * @param pathsConsumer a consumer to be called once with the paths of the matching values, each
+   *     path starts with a top level value and ends with the matching value
+   */
+  void search(String searchToken, Consumer<List<List<V>>> pathsConsumer);
+
+  /**
+   * Creates a search model that walks an in-memory data model synchronously.
+   *
+   * @param roots supplies the top level values of the tree
+   * @param children returns the child values of a value, may return null or an empty collection
+   * @param matcher tests a single value against the search token
+   * @param <V> the data type associated with each node
+   * @return a new search model
+   */
+  static <V> TreeSearchModel<V> of(
+      Supplier<? extends Collection<V>> roots,
+      Function<V, ? extends Collection<V>> children,
+      BiPredicate<V, String> matcher) {
+    return (searchToken, pathsConsumer) -> {
+      List<List<V>> paths = new ArrayList<>();
+      List<V> path = new ArrayList<>();
+      Deque<Iterator<V>> stack = new ArrayDeque<>();
+      stack.push(roots.get().iterator());
+      while (!stack.isEmpty()) {
+        Iterator<V> level = stack.peek();
+        if (!level.hasNext()) {
+          stack.pop();
+          if (!path.isEmpty()) {
+            path.remove(path.size() - 1);
+          }
+          continue;
+        }
+        V value = level.next();
+        path.add(value);
+        if (matcher.test(value, searchToken)) {
+          paths.add(new ArrayList<>(path));
+        }
+        Collection<V> subValues = children.apply(value);
+        stack.push(isNull(subValues) ? Collections.emptyIterator() : subValues.iterator());
+      }
+      pathsConsumer.accept(paths);
+    };
+  }
+}
@@ -31,4 +31,5 @@ public interface TreeStyles {
   CssClass dui_tree_item_content = () -> "dui-tree-item-content";
   CssClass dui_tree_anchor = () -> "dui-tree-anchor";
   CssClass dui_tree_item = () -> "dui-tree-item";
+  CssClass dui_tree_virtualized = () -> "dui-tree-virtualized";
 }
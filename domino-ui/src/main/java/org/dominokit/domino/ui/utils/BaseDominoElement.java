@@ -101,8 +101,10 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
 
   private static final String DOMINO_UUID = "domino-uuid";
 
-  public static String ATTACH_UID_KEY = "dui-on-attach-uid";
-  public static String DETACH_UID_KEY = "dui-on-detach-uid";
+  /** @deprecated attach listeners are no longer dispatched as events, the key is not set */
+  @Deprecated public static String ATTACH_UID_KEY = "dui-on-attach-uid";
+  /** @deprecated detach listeners are no longer dispatched as events, the key is not set */
+  @Deprecated public static String DETACH_UID_KEY = "dui-on-detach-uid";
   public static String ATTRIBUTE_CHANGE_UID_KEY = "dui-on-attribute-change-uid";
 
   @Editor.Ignore protected T element;
@@ -142,9 +144,6 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   /** A list of detach observers for this DOM element. */
   private Map<String, List<ObserverCallback<T>>> attributesObservers;
 
-  /** Optional ResizeObserver for this DOM element. */
-  private ResizeObserver resizeObserver;
-
   private LambdaFunction resizeInitializer;
   private List<ResizeHandler<T>> resizeHandlers;
 
@@ -165,8 +164,8 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
 
   private LambdaFunction dominoUuidInitializer;
 
-  private EventListener attachEventListener;
-  private EventListener detachEventListener;
+  private BodyObserver.ElementListener attachListener;
+  private BodyObserver.ElementListener detachListener;
   private EventListener attributeChangeEventListener;
   private List<Consumer<T>> onBeforeRemoveHandlers;
   private List<Consumer<T>> onRemoveHandlers;
@@ -207,51 +206,23 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
 
     resizeInitializer =
         () -> {
-          getResizeObserver()
-              .ifPresent(
-                  observer -> {
-                    observer.unobserve(element());
-                    observer.disconnect();
-                  });
           nowAndWhenAttached(
-              () -> {
-                ResizeObserver resizeObserver =
-                    new ResizeObserver(
-                        entries -> {
-                          getResizeObserver()
-                              .ifPresent(
-                                  observer -> {
-                                    for (int index = 0;
-                                        index < getResizeHandlers().size();
-                                        index++) {
-                                      getResizeHandlers()
-                                          .get(index)
-                                          .onResize((T) BaseDominoElement.this, observer, entries);
-                                    }
-                                  });
-                        });
-                this.resizeObserver = resizeObserver;
-                resizeObserver.observe(this.element());
-              });
-
-          onDetached(
-              (e, mutationRecord) -> {
-                getResizeObserver()
-                    .ifPresent(
-                        observer -> {
-                          observer.unobserve(element());
-                          observer.disconnect();
-                        });
-                this.resizeObserver = null;
-              });
+              () ->
+                  SharedResizeObserver.observe(
+                      element(),
+                      (observer, entries) -> {
+                        for (int index = 0; index < getResizeHandlers().size(); index++) {
+                          getResizeHandlers()
+                              .get(index)
+                              .onResize((T) BaseDominoElement.this, observer, entries);
+                        }
+                      }));
+
+          onDetached((e, mutationRecord) -> SharedResizeObserver.unobserve(element()));
           resizeInitializer = () -> {};
         };
   }
 
-  private Optional<ResizeObserver> getResizeObserver() {
-    return Optional.ofNullable(resizeObserver);
-  }
-
   private List<ResizeHandler<T>> getResizeHandlers() {
     if (isNull(this.resizeHandlers)) {
       this.resizeHandlers = new ArrayList<>();
@@ -740,23 +711,14 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   }
 
   private void initAttachListener() {
-    if (isNull(this.attachEventListener)) {
-      if (!hasAttribute(ATTACH_UID_KEY)) {
-        setAttribute(ATTACH_UID_KEY, DominoId.unique());
-      }
-      this.attachEventListener =
-          evt -> {
-            CustomEvent cevent = Js.uncheckedCast(evt);
-            getAttachObservers()
-                .forEach(
-                    callback -> callback.onObserved((T) this, Js.uncheckedCast(cevent.detail)));
+    if (isNull(this.attachListener)) {
+      this.attachListener =
+          mutationRecord -> {
+            getAttachObservers().forEach(callback -> callback.onObserved((T) this, mutationRecord));
             getAttachDetachObservers()
-                .forEach(
-                    callback -> callback.onObserved((T) this, Js.uncheckedCast(cevent.detail)));
+                .forEach(callback -> callback.onObserved((T) this, mutationRecord));
           };
-      this.element
-          .element()
-          .addEventListener(ObserverEventType.attachedType(this), this.attachEventListener);
+      BodyObserver.onAttached(this.element.element(), this.attachListener);
     }
   }
 
@@ -802,23 +764,15 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   }
 
   private void initDetachListener() {
-    if (isNull(this.detachEventListener)) {
-      if (!hasAttribute(DETACH_UID_KEY)) {
-        setAttribute(DETACH_UID_KEY, DominoId.unique());
-      }
-      this.detachEventListener =
-          evt -> {
-            CustomEvent cevent = Js.uncheckedCast(evt);
+    if (isNull(this.detachListener)) {
+      this.detachListener =
+          mutationRecord -> {
             getDetachObservers()
-                .forEach(
-                    observer -> observer.onObserved((T) this, Js.uncheckedCast(cevent.detail)));
+                .forEach(observer -> observer.onObserved((T) this, mutationRecord));
             getAttachDetachObservers()
-                .forEach(
-                    observer -> observer.onObserved((T) this, Js.uncheckedCast(cevent.detail)));
+                .forEach(observer -> observer.onObserved((T) this, mutationRecord));
           };
-      this.element
-          .element()
-          .addEventListener(ObserverEventType.detachedType(this), this.detachEventListener);
+      BodyObserver.onDetached(this.element.element(), this.detachListener);
     }
   }
 
@@ -997,7 +951,9 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   }
 
   /**
-   * Registers a resize handler to be notified when the size of this element changes.
+   * Registers a resize handler to be notified when the size of this element changes. The element
+   * is observed by the {@link SharedResizeObserver} while it is attached, and the handlers are
+   * called at most once per animation frame.
    *
    * @param resizeHandler The resize handler to be registered.
    * @return The modified DOM element.
@@ -4603,7 +4559,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
      * Handles element resizing.
      *
      * @param element The element being resized.
-     * @param observer The ResizeObserver instance.
+     * @param observer The shared ResizeObserver instance, must not be disconnected.
      * @param entries The ResizeObserver entries.
      */
     void onResize(T element, ResizeObserver observer, JsArray<ResizeObserverEntry> entries);
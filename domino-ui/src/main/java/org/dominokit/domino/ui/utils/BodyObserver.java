@@ -16,30 +16,33 @@
 package org.dominokit.domino.ui.utils;
 
 import static elemental2.dom.DomGlobal.document;
-import static org.dominokit.domino.ui.utils.BaseDominoElement.ATTACH_UID_KEY;
-import static org.dominokit.domino.ui.utils.BaseDominoElement.DETACH_UID_KEY;
-import static org.dominokit.domino.ui.utils.Domino.*;
-import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import elemental2.core.JsArray;
-import elemental2.dom.CustomEvent;
-import elemental2.dom.CustomEventInit;
+import elemental2.core.JsMap;
+import elemental2.core.JsWeakMap;
+import elemental2.core.WeakRef;
+import elemental2.dom.DomGlobal;
 import elemental2.dom.Element;
-import elemental2.dom.Event;
-import elemental2.dom.HTMLElement;
 import elemental2.dom.MutationObserver;
 import elemental2.dom.MutationObserverInit;
 import elemental2.dom.MutationRecord;
 import elemental2.dom.Node;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import jsinterop.base.Js;
 
 /**
  * The {@code BodyObserver} class is responsible for observing mutations in the document's body. It
- * tracks the addition and removal of elements with specific attributes and dispatches events
- * accordingly.
+ * tracks the addition and removal of the elements registered for attach and detach notifications
+ * and calls their listeners accordingly.
+ *
+ * <p>The listeners are kept in weak maps keyed by the registered elements, and the registered
+ * elements are kept as weak references, so the registry does not keep removed elements alive. The
+ * mutation records are processed in batches once per microtask, and the registered elements within
+ * the added and removed roots of a batch are found by walking up their ancestors in memory, without
+ * querying the DOM.
  */
 final class BodyObserver {
 
@@ -47,6 +50,15 @@ final class BodyObserver {
   private static boolean paused = false;
   private static MutationObserver mutationObserver;
 
+  private static final JsWeakMap<Element, List<ElementListener>> attachListeners =
+      new JsWeakMap<>();
+  private static final JsWeakMap<Element, List<ElementListener>> detachListeners =
+      new JsWeakMap<>();
+  private static final List<WeakRef<Element>> registered = new ArrayList<>();
+  private static final List<MutationRecord> pendingRecords = new ArrayList<>();
+  private static boolean flushScheduled = false;
+  private static double dispatchedCallbacks = 0;
+
   private BodyObserver() {}
 
   /**
@@ -73,14 +85,11 @@ final class BodyObserver {
                   MutationRecord[] recordsArray =
                       Js.uncheckedCast(records.asArray(new MutationRecord[records.length]));
                   for (MutationRecord record : recordsArray) {
-                    if (!record.removedNodes.asList().isEmpty()) {
-                      onElementsRemoved(record);
-                    }
-
-                    if (!record.addedNodes.asList().isEmpty()) {
-                      onElementsAppended(record);
+                    if (record.addedNodes.length > 0 || record.removedNodes.length > 0) {
+                      pendingRecords.add(record);
                     }
                   }
+                  scheduleFlush();
                 }
                 return null;
               });
@@ -97,67 +106,164 @@ final class BodyObserver {
     mutationObserver.observe(document.body, mutationObserverInit);
   }
 
-  private static void onElementsAppended(MutationRecord record) {
-    List<Node> nodes = record.addedNodes.asList();
-    Set<String> processed = new HashSet<>();
-    for (int i = 0; i < nodes.size(); i++) {
-      Node elementNode = Js.uncheckedCast(nodes.get(i));
-      if (Node.ELEMENT_NODE == elementNode.nodeType) {
-        HTMLElement element = Js.uncheckedCast(elementNode);
-        List<DominoElement<Element>> childElements =
-            elements.elementOf(element).querySelectorAll("[" + ATTACH_UID_KEY + "]");
-        if (element.hasAttribute(ATTACH_UID_KEY)) {
-          String type = ObserverEventType.attachedType(elements.elementOf(element));
-          if (!processed.contains(type)) {
-            processed.add(type);
-            element.dispatchEvent(new CustomEvent<>(type));
-          }
-        }
+  /**
+   * Registers a listener to be called when the element, or one of its ancestors, is added to the
+   * document body.
+   *
+   * @param element The observed element.
+   * @param listener The listener.
+   */
+  static void onAttached(Element element, ElementListener listener) {
+    register(attachListeners, element, listener);
+  }
+
+  /**
+   * Registers a listener to be called when the element, or one of its ancestors, is removed from
+   * the document body.
+   *
+   * @param element The observed element.
+   * @param listener The listener.
+   */
+  static void onDetached(Element element, ElementListener listener) {
+    register(detachListeners, element, listener);
+  }
+
+  /** @return the number of attach and detach listeners calls made since the page was loaded. */
+  static double getDispatchedCallbacks() {
+    return dispatchedCallbacks;
+  }
+
+  private static void register(
+      JsWeakMap<Element, List<ElementListener>> listeners,
+      Element element,
+      ElementListener listener) {
+    if (!attachListeners.has(element) && !detachListeners.has(element)) {
+      registered.add(new WeakRef<>(element));
+    }
+    List<ElementListener> elementListeners = listeners.get(element);
+    if (isNull(elementListeners)) {
+      elementListeners = new ArrayList<>();
+      listeners.set(element, elementListeners);
+    }
+    elementListeners.add(listener);
+  }
+
+  private static void scheduleFlush() {
+    if (!flushScheduled && !pendingRecords.isEmpty()) {
+      flushScheduled = true;
+      DomGlobal.queueMicrotask(BodyObserver::flush);
+    }
+  }
+
+  private static void flush() {
+    flushScheduled = false;
+    List<MutationRecord> records = new ArrayList<>(pendingRecords);
+    pendingRecords.clear();
 
-        childElements.forEach(
-            child -> {
-              CustomEventInit<MutationRecord> ceinit = CustomEventInit.create();
-              ceinit.setDetail(record);
-              String type = ObserverEventType.attachedType(elements.elementOf(child));
-              if (!processed.contains(type)) {
-                processed.add(type);
-                CustomEvent<MutationRecord> event = new CustomEvent<>(type, ceinit);
-                child.element().dispatchEvent(event);
-              }
-            });
+    JsMap<Node, Double> addedRoots = new JsMap<>();
+    JsMap<Node, Double> removedRoots = new JsMap<>();
+    for (int index = 0; index < records.size(); index++) {
+      MutationRecord record = records.get(index);
+      indexRoots(removedRoots, record.removedNodes.asList(), index);
+      indexRoots(addedRoots, record.addedNodes.asList(), index);
+    }
+    if (addedRoots.size == 0 && removedRoots.size == 0) {
+      return;
+    }
+
+    JsMap<Element, Double> addedAt = new JsMap<>();
+    JsMap<Element, Double> removedAt = new JsMap<>();
+    List<Element> affected = new ArrayList<>();
+    int live = 0;
+    for (int i = 0; i < registered.size(); i++) {
+      WeakRef<Element> reference = registered.get(i);
+      Element element = reference.deref();
+      if (isNull(element)) {
+        continue;
+      }
+      registered.set(live++, reference);
+      int removed = lastRootIndex(removedRoots, element);
+      int added = lastRootIndex(addedRoots, element);
+      if (removed > -1 || added > -1) {
+        affected.add(element);
+        removedAt.set(element, (double) removed);
+        addedAt.set(element, (double) added);
+      }
+    }
+    registered.subList(live, registered.size()).clear();
+
+    for (Element element : affected) {
+      int removed = removedAt.get(element).intValue();
+      int added = addedAt.get(element).intValue();
+      if (removed > -1 && removed < added) {
+        dispatch(detachListeners, element, records.get(removed));
+        dispatch(attachListeners, element, records.get(added));
+      } else {
+        if (added > -1) {
+          dispatch(attachListeners, element, records.get(added));
+        }
+        if (removed > -1) {
+          dispatch(detachListeners, element, records.get(removed));
+        }
       }
     }
   }
 
-  private static void onElementsRemoved(MutationRecord record) {
-    List<Node> nodes = record.removedNodes.asList();
-    Set<String> processed = new HashSet<>();
+  /**
+   * Indexes the added or removed element roots of a mutation record, a later record overrides the
+   * index of an earlier one.
+   *
+   * @param roots the roots indexed by their last mutation record index.
+   * @param nodes the added or removed nodes of the mutation record.
+   * @param recordIndex the index of the mutation record.
+   */
+  private static void indexRoots(JsMap<Node, Double> roots, List<Node> nodes, int recordIndex) {
     for (int i = 0; i < nodes.size(); i++) {
-      Node elementNode = Js.uncheckedCast(nodes.get(i));
-      if (Node.ELEMENT_NODE == elementNode.nodeType) {
-        HTMLElement element = Js.uncheckedCast(elementNode);
-        List<DominoElement<Element>> childElements =
-            elements.elementOf(element).querySelectorAll("[" + DETACH_UID_KEY + "]");
-        if (element.hasAttribute(DETACH_UID_KEY)) {
-          String type = ObserverEventType.detachedType(elements.elementOf(element));
-          if (!processed.contains(type)) {
-            processed.add(type);
-            element.dispatchEvent(new Event(type));
-          }
+      Node node = nodes.get(i);
+      if (Node.ELEMENT_NODE == node.nodeType) {
+        roots.set(node, (double) recordIndex);
+      }
+    }
+  }
+
+  /**
+   * @return the last mutation record index of the roots containing the element, or -1 when the
+   *     element is not within any of the roots.
+   */
+  private static int lastRootIndex(JsMap<Node, Double> roots, Element element) {
+    int index = -1;
+    if (roots.size > 0) {
+      for (Node node = element; nonNull(node); node = node.parentNode) {
+        if (roots.has(node)) {
+          index = Math.max(index, roots.get(node).intValue());
         }
+      }
+    }
+    return index;
+  }
 
-        childElements.forEach(
-            child -> {
-              String type = ObserverEventType.detachedType(elements.elementOf(child));
-              if (!processed.contains(type)) {
-                processed.add(type);
-                CustomEventInit<MutationRecord> ceinit = CustomEventInit.create();
-                ceinit.setDetail(record);
-                CustomEvent<MutationRecord> event = new CustomEvent<>(type, ceinit);
-                child.element().dispatchEvent(event);
-              }
-            });
+  private static void dispatch(
+      JsWeakMap<Element, List<ElementListener>> listeners,
+      Element element,
+      MutationRecord record) {
+    List<ElementListener> elementListeners = listeners.get(element);
+    if (nonNull(elementListeners)) {
+      for (ElementListener listener : new ArrayList<>(elementListeners)) {
+        dispatchedCallbacks++;
+        listener.onObserved(record);
       }
     }
   }
+
+  /** A listener for the attach or detach of a registered element. */
+  @FunctionalInterface
+  interface ElementListener {
+
+    /**
+     * Called when the element is attached or detached.
+     *
+     * @param record The mutation record that attached or detached the element.
+     */
+    void onObserved(MutationRecord record);
+  }
 }
@@ -16,8 +16,12 @@
 
 package org.dominokit.domino.ui.utils;
 
+import static java.util.Objects.isNull;
+
+import elemental2.dom.CSSStyleRule;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -38,9 +42,13 @@ import java.util.stream.Collectors;
  */
 public class DominoCSSRule {
 
+  private static final String IMPORTANT = "!important";
+
   private final String selector;
   private final String cssClass;
   private Map<String, String> cssProperties = new HashMap<>();
+  private final Map<String, String> changedProperties = new HashMap<>();
+  private CSSStyleRule liveRule;
 
   /**
    * Constructs a new DominoCSSRule with the specified selector and CSS class.
@@ -77,6 +85,7 @@ public class DominoCSSRule {
    * @return This DominoCSSRule instance for method chaining.
    */
   public DominoCSSRule clear() {
+    cssProperties.keySet().forEach(key -> changedProperties.put(key, null));
     cssProperties.clear();
     return this;
   }
@@ -89,7 +98,9 @@ public class DominoCSSRule {
    * @return This DominoCSSRule instance for method chaining.
    */
   public DominoCSSRule setProperty(String key, String value) {
-    cssProperties.put(key, value);
+    if (!Objects.equals(cssProperties.put(key, value), value)) {
+      changedProperties.put(key, value);
+    }
     return this;
   }
 
@@ -100,7 +111,10 @@ public class DominoCSSRule {
    * @return This DominoCSSRule instance for method chaining.
    */
   public DominoCSSRule removeProperty(String key) {
-    cssProperties.remove(key);
+    if (cssProperties.containsKey(key)) {
+      cssProperties.remove(key);
+      changedProperties.put(key, null);
+    }
     return this;
   }
 
@@ -117,4 +131,48 @@ public class DominoCSSRule {
             .collect(Collectors.joining(";"))
         + "}";
   }
+
+  /**
+   * Checks if this rule has property changes that are not yet applied to the style sheet it was
+   * flushed into.
+   *
+   * @return true if there are pending property changes.
+   */
+  public boolean isDirty() {
+    return !changedProperties.isEmpty();
+  }
+
+  /** @return the rule this rule was inserted as in a live style sheet, or null. */
+  CSSStyleRule getLiveRule() {
+    return liveRule;
+  }
+
+  /**
+   * Links this rule to the live rule it was inserted as, the live rule already reflects all the
+   * current properties.
+   */
+  void setLiveRule(CSSStyleRule liveRule) {
+    this.liveRule = liveRule;
+    changedProperties.clear();
+  }
+
+  /** Applies the pending property changes to the live rule in place. */
+  void patchLiveRule() {
+    if (isNull(liveRule)) {
+      return;
+    }
+    changedProperties.forEach(
+        (key, value) -> {
+          if (isNull(value)) {
+            liveRule.style.removeProperty(key);
+          } else if (value.trim().endsWith(IMPORTANT)) {
+            String trimmed = value.trim();
+            String priorityless = trimmed.substring(0, trimmed.length() - IMPORTANT.length());
+            liveRule.style.setProperty(key, priorityless.trim(), "important");
+          } else {
+            liveRule.style.setProperty(key, value);
+          }
+        });
+    changedProperties.clear();
+  }
 }
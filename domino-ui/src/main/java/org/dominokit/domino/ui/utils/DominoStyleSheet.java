@@ -15,21 +15,36 @@
  */
 package org.dominokit.domino.ui.utils;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
+import elemental2.dom.CSSRule;
 import elemental2.dom.CSSStyleSheet;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLStyleElement;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import jsinterop.base.Js;
 
-/** Represents a style sheet containing CSS rules and provides methods to manipulate them. */
+/**
+ * Represents a style sheet containing CSS rules and provides methods to manipulate them.
+ *
+ * <p>Flushing is incremental, each rule is inserted once into the target style sheet and later
+ * flushes only patch the properties of the rules that changed in place, several flushes requested
+ * within the same animation frame are applied once.
+ */
 public class DominoStyleSheet {
 
   private Map<String, DominoCSSRule> cssRules = new HashMap<>();
+  private final List<DominoCSSRule> removedRules = new ArrayList<>();
+  private CSSStyleSheet flushedSheet;
+  private boolean rebuild = true;
+  private HTMLStyleElement flushTarget;
+  private boolean flushScheduled;
 
   /**
    * Gets the map of CSS rules contained in this style sheet.
@@ -47,6 +62,7 @@ public class DominoStyleSheet {
    */
   public void setCssRules(Map<String, DominoCSSRule> cssRules) {
     this.cssRules = cssRules;
+    this.rebuild = true;
   }
 
   /**
@@ -55,7 +71,11 @@ public class DominoStyleSheet {
    * @param rule The CSS rule to add.
    */
   public void addCssRule(DominoCSSRule rule) {
-    cssRules.put(rule.getSelector(), rule);
+    DominoCSSRule previous = cssRules.put(rule.getSelector(), rule);
+    if (nonNull(previous) && previous != rule) {
+      removedRules.add(previous);
+    }
+    removedRules.remove(rule);
   }
 
   /**
@@ -64,7 +84,10 @@ public class DominoStyleSheet {
    * @param rule The CSS rule to remove.
    */
   public void removeRule(DominoCSSRule rule) {
-    cssRules.remove(rule.getSelector());
+    if (cssRules.get(rule.getSelector()) == rule) {
+      cssRules.remove(rule.getSelector());
+      removedRules.add(rule);
+    }
   }
 
   /**
@@ -78,27 +101,75 @@ public class DominoStyleSheet {
   }
 
   /**
-   * Flushes the CSS rules contained in this style sheet into an HTMLStyleElement.
+   * Flushes the CSS rules contained in this style sheet into an HTMLStyleElement. The flush happens
+   * in the next animation frame, only the added, removed or changed rules are written and multiple
+   * calls within the same frame result in a single flush.
    *
    * @param style The HTMLStyleElement to flush the CSS rules into.
    */
   public void flushInto(HTMLStyleElement style) {
-    DomGlobal.setTimeout(
-        p0 -> {
-          if (nonNull(style)) {
-            if (nonNull(style.sheet)) {
-              CSSStyleSheet cssStyleSheet = Js.uncheckedCast(style.sheet);
-              while (cssStyleSheet.cssRules.length > 0) {
-                cssStyleSheet.deleteRule(cssStyleSheet.cssRules.length - 1);
-              }
-              cssRules.forEach(
-                  (s, rule) -> {
-                    String cssText = rule.cssText();
-                    cssStyleSheet.insertRule(cssText, 0);
-                  });
-            }
+    this.flushTarget = style;
+    if (!flushScheduled) {
+      flushScheduled = true;
+      DomGlobal.requestAnimationFrame(
+          timestamp -> {
+            flushScheduled = false;
+            flushNow(flushTarget);
+          });
+    }
+  }
+
+  private void flushNow(HTMLStyleElement style) {
+    if (isNull(style) || isNull(style.sheet)) {
+      return;
+    }
+    CSSStyleSheet cssStyleSheet = Js.uncheckedCast(style.sheet);
+    if (rebuild || cssStyleSheet != flushedSheet) {
+      rebuildInto(cssStyleSheet);
+      return;
+    }
+    removedRules.forEach(rule -> deleteLiveRule(cssStyleSheet, rule));
+    removedRules.clear();
+    cssRules.forEach(
+        (s, rule) -> {
+          if (isNull(rule.getLiveRule())) {
+            insertRule(cssStyleSheet, rule);
+          } else if (rule.isDirty()) {
+            rule.patchLiveRule();
           }
-        },
-        0);
+        });
+  }
+
+  /**
+   * Rewrites the whole style sheet, used for the first flush and when the style element got a new
+   * sheet, e.g. after being moved in the DOM.
+   */
+  private void rebuildInto(CSSStyleSheet cssStyleSheet) {
+    while (cssStyleSheet.cssRules.length > 0) {
+      cssStyleSheet.deleteRule(cssStyleSheet.cssRules.length - 1);
+    }
+    removedRules.forEach(rule -> rule.setLiveRule(null));
+    removedRules.clear();
+    cssRules.forEach((s, rule) -> insertRule(cssStyleSheet, rule));
+    this.flushedSheet = cssStyleSheet;
+    this.rebuild = false;
+  }
+
+  private void insertRule(CSSStyleSheet cssStyleSheet, DominoCSSRule rule) {
+    int index = cssStyleSheet.insertRule(rule.cssText(), cssStyleSheet.cssRules.length);
+    rule.setLiveRule(Js.uncheckedCast(cssStyleSheet.cssRules.item(index)));
+  }
+
+  private void deleteLiveRule(CSSStyleSheet cssStyleSheet, DominoCSSRule rule) {
+    CSSRule liveRule = rule.getLiveRule();
+    if (nonNull(liveRule)) {
+      for (int i = cssStyleSheet.cssRules.length - 1; i >= 0; i--) {
+        if (cssStyleSheet.cssRules.item(i) == liveRule) {
+          cssStyleSheet.deleteRule(i);
+          break;
+        }
+      }
+      rule.setLiveRule(null);
+    }
   }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.isNull;
+
+import elemental2.dom.Element;
+import java.util.function.Supplier;
+import jsinterop.base.Js;
+
+/**
+ * Builds the static DOM skeleton of a component once and creates the component elements by deep
+ * cloning it, instead of creating, styling and wrapping every node of the skeleton for each
+ * instance.
+ *
+ * <p>The skeleton is built by the supplier on the first {@link #create()} call. It should only hold
+ * the structure, CSS classes and attributes shared by all the instances, and must not hold ids,
+ * event listeners or anything initialized on the Java side, since only the DOM is cloned. The
+ * nodes the component needs to manipulate are found in the clone with {@link #childAt(Element,
+ * int...)} and wrapped on demand.
+ *
+ * <p>Usage Example:
+ *
+ * <pre>
+ * private static final ElementTemplate&lt;HTMLLIElement&gt; TEMPLATE =
+ *     ElementTemplate.of(
+ *         () -&gt; li().addCss(dui_item).appendChild(div().addCss(dui_item_body)).element());
+ *
+ * HTMLLIElement item = TEMPLATE.create();
+ * DivElement body = new DivElement(ElementTemplate.childAt(item, 0));
+ * </pre>
+ *
+ * @param <E> The type of the skeleton root element.
+ */
+public final class ElementTemplate<E extends Element> {
+
+  private final Supplier<E> builder;
+  private E template;
+
+  private ElementTemplate(Supplier<E> builder) {
+    this.builder = builder;
+  }
+
+  /**
+   * Creates a template from a skeleton builder.
+   *
+   * @param builder Builds the skeleton, called once on the first {@link #create()} call.
+   * @param <E> The type of the skeleton root element.
+   * @return A new template.
+   */
+  public static <E extends Element> ElementTemplate<E> of(Supplier<E> builder) {
+    return new ElementTemplate<>(builder);
+  }
+
+  /** @return A deep clone of the skeleton. */
+  public E create() {
+    if (isNull(template)) {
+      template = builder.get();
+    }
+    return Js.uncheckedCast(template.cloneNode(true));
+  }
+
+  /**
+   * Finds a descendant of a cloned skeleton.
+   *
+   * @param root The skeleton root.
+   * @param path The indexes of the element children to follow from the root, an empty path
+   *     returns the root.
+   * @param <T> The type of the descendant.
+   * @return The descendant element.
+   */
+  public static <T extends Element> T childAt(Element root, int... path) {
+    Element element = root;
+    for (int index : path) {
+      element = element.firstElementChild;
+      for (int sibling = 0; sibling < index; sibling++) {
+        element = element.nextElementSibling;
+      }
+    }
+    return Js.uncheckedCast(element);
+  }
+}
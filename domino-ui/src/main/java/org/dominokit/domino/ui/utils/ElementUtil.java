@@ -183,6 +183,16 @@ public class ElementUtil {
     BodyObserver.startObserving();
   }
 
+  /**
+   * Gets the number of attach and detach observer callbacks dispatched by the body observer since
+   * the page was loaded, useful for diagnosing components that register too many observers.
+   *
+   * @return the number of dispatched attach and detach callbacks.
+   */
+  public static double getDispatchedAttachDetachCallbacks() {
+    return BodyObserver.getDispatchedCallbacks();
+  }
+
   /** Starts observing the body for elements attributes changes events. */
   public static void startObservingAttributes() {
     AttributesObserver.startObserving();
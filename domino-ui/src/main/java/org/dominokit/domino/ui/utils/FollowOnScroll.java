@@ -16,16 +16,17 @@
 
 package org.dominokit.domino.ui.utils;
 
-import static elemental2.dom.DomGlobal.document;
 import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
 
 import elemental2.dom.Element;
-import elemental2.dom.EventListener;
 
-/** A utility class for handling follow-on-scroll behavior. */
+/**
+ * A utility class for handling follow-on-scroll behavior. The follower is repositioned by the
+ * shared {@link PopupPositionScheduler}, once per animation frame at most.
+ */
 public class FollowOnScroll {
 
-  private final EventListener repositionListener;
+  private final ScrollFollower scrollFollower;
   private final DominoElement<Element> target;
   private ObserverCallback<DominoElement<Element>> observerCallback;
 
@@ -36,12 +37,7 @@ public class FollowOnScroll {
    * @param scrollFollower The ScrollFollower instance responsible for tracking the follower.
    */
   public FollowOnScroll(Element targetElement, ScrollFollower scrollFollower) {
-    repositionListener =
-        evt -> {
-          if (scrollFollower.isFollowerOpen()) {
-            scrollFollower.positionFollower();
-          }
-        };
+    this.scrollFollower = scrollFollower;
     target = elements.elementOf(targetElement);
     observerCallback =
         (e, mutationRecord) -> {
@@ -52,12 +48,12 @@ public class FollowOnScroll {
 
   /** Starts listening to scroll events to reposition the follower. */
   public void start() {
-    document.addEventListener("scroll", repositionListener, true);
+    PopupPositionScheduler.register(target.element(), scrollFollower);
   }
 
   /** Stops listening to scroll events, halting the follow-on-scroll behavior. */
   public void stop() {
-    document.removeEventListener("scroll", repositionListener, true);
+    PopupPositionScheduler.unregister(scrollFollower);
     target.removeDetachObserver(observerCallback);
   }
 
@@ -71,6 +67,13 @@ public class FollowOnScroll {
      */
     boolean isFollowerOpen();
 
+    /**
+     * Reads the layout needed by the next {@link #positionFollower()} call. Called for all the
+     * followers repositioned in the same animation frame before any of them is positioned, so the
+     * layout is not invalidated between the reads.
+     */
+    default void measureFollower() {}
+
     /** Positions the follower based on the scrolling behavior. */
     void positionFollower();
   }
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.nonNull;
+
+import elemental2.core.JsArray;
+import elemental2.core.JsWeakMap;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Dispatches the entries of an observer shared by many elements, like a {@link ResizeObserver} or
+ * an {@link IntersectionObserver}, to the listeners of the observed elements. The listeners are
+ * registered in a weak map keyed by the observed element so a registration does not keep a removed
+ * element alive, and the entries are delivered once per animation frame with only the latest entry
+ * of each element.
+ *
+ * @param <E> The type of the observer entries.
+ * @param <L> The type of the listeners.
+ */
+final class FrameBatchedObserver<E, L> {
+
+  private final JsWeakMap<Element, L> listeners = new JsWeakMap<>();
+  private final Map<Element, E> pendingEntries = new LinkedHashMap<>();
+  private final Function<E, Element> targetProvider;
+  private final BiConsumer<L, E> dispatcher;
+  private boolean dispatchScheduled = false;
+
+  /**
+   * @param targetProvider Provides the observed element of an entry.
+   * @param dispatcher Calls a listener with the latest entry of its element.
+   */
+  FrameBatchedObserver(Function<E, Element> targetProvider, BiConsumer<L, E> dispatcher) {
+    this.targetProvider = targetProvider;
+    this.dispatcher = dispatcher;
+  }
+
+  /**
+   * Registers the listener of an element, replacing any listener previously registered for it.
+   *
+   * @param element The observed element.
+   * @param listener The listener of the element.
+   */
+  void register(Element element, L listener) {
+    listeners.set(element, listener);
+  }
+
+  /**
+   * Removes the listener of an element and drops its pending entry.
+   *
+   * @param element The observed element.
+   * @return true if the element had a listener, false otherwise.
+   */
+  boolean unregister(Element element) {
+    if (listeners.has(element)) {
+      listeners.delete(element);
+      pendingEntries.remove(element);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Keeps the latest entry of each element and schedules their dispatch in the next animation
+   * frame, this is the callback of the shared observer.
+   *
+   * @param entries The observer entries.
+   */
+  void onEntries(JsArray<E> entries) {
+    for (int index = 0; index < entries.length; index++) {
+      E entry = entries.getAt(index);
+      pendingEntries.put(targetProvider.apply(entry), entry);
+    }
+    if (!dispatchScheduled) {
+      dispatchScheduled = true;
+      DomGlobal.requestAnimationFrame(timestamp -> dispatch());
+    }
+  }
+
+  private void dispatch() {
+    dispatchScheduled = false;
+    List<E> entries = new ArrayList<>(pendingEntries.values());
+    pendingEntries.clear();
+    for (E entry : entries) {
+      L listener = listeners.get(targetProvider.apply(entry));
+      if (nonNull(listener)) {
+        dispatcher.accept(listener, entry);
+      }
+    }
+  }
+}
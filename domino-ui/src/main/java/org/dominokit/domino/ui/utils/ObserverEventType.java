@@ -25,7 +25,9 @@ public class ObserverEventType {
    *
    * @param element The element that has been attached.
    * @return A string representing the event type for attached elements.
+   * @deprecated attach and detach listeners are no longer dispatched as events
    */
+  @Deprecated
   public static String attachedType(HasAttributes<?> element) {
     return "dui-attached-" + element.getAttribute(BaseDominoElement.ATTACH_UID_KEY);
   }
@@ -35,7 +37,9 @@ public class ObserverEventType {
    *
    * @param element The element that has been detached.
    * @return A string representing the event type for detached elements.
+   * @deprecated attach and detach listeners are no longer dispatched as events
    */
+  @Deprecated
   public static String detachedType(HasAttributes<?> element) {
     return "dui-detached-" + element.getAttribute(BaseDominoElement.DETACH_UID_KEY);
   }
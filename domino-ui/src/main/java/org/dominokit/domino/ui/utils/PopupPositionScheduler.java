@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.window;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.dom.DOMRect;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.EventListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.dominokit.domino.ui.events.EventOptions;
+import org.dominokit.domino.ui.events.EventType;
+
+/**
+ * Repositions the open popups, like popovers, tooltips and drop down menus, when the page scrolls
+ * or the window is resized.
+ *
+ * <p>A single passive scroll listener and a single passive resize listener are shared by all the
+ * registered popups, and the popups are repositioned at most once per animation frame. Within a
+ * frame the layout is read for all the popups before any of them is positioned: the target of each
+ * popup is measured and {@link FollowOnScroll.ScrollFollower#measureFollower()} is called, then
+ * {@link FollowOnScroll.ScrollFollower#positionFollower()} is called only for the popups whose
+ * target moved or whose viewport changed. Popups that are closed or whose target is hidden or out
+ * of the viewport are skipped.
+ */
+public final class PopupPositionScheduler {
+
+  private static final Map<FollowOnScroll.ScrollFollower, Registration> registrations =
+      new LinkedHashMap<>();
+  private static final EventListener scheduleListener = evt -> schedule();
+  private static boolean listening = false;
+  private static boolean frameScheduled = false;
+
+  private PopupPositionScheduler() {}
+
+  /**
+   * Registers a popup to be repositioned, replacing its target if it is already registered.
+   *
+   * @param target The element the popup is positioned against, or null to reposition the popup on
+   *     every frame with a scroll or resize.
+   * @param follower The popup.
+   */
+  public static void register(Element target, FollowOnScroll.ScrollFollower follower) {
+    Registration registration = registrations.get(follower);
+    if (isNull(registration) || registration.target != target) {
+      registrations.put(follower, new Registration(target, follower));
+    }
+    if (!listening) {
+      listening = true;
+      document.addEventListener(
+          EventType.scroll.getName(), scheduleListener, EventOptions.of(true, false, true).get());
+      window.addEventListener(
+          EventType.resize.getName(), scheduleListener, EventOptions.of(false, false, true).get());
+    }
+  }
+
+  /**
+   * Stops repositioning a popup.
+   *
+   * @param follower The popup.
+   */
+  public static void unregister(FollowOnScroll.ScrollFollower follower) {
+    registrations.remove(follower);
+    if (registrations.isEmpty() && listening) {
+      listening = false;
+      document.removeEventListener(EventType.scroll.getName(), scheduleListener, true);
+      window.removeEventListener(EventType.resize.getName(), scheduleListener);
+    }
+  }
+
+  /** Requests the registered popups to be repositioned in the next animation frame. */
+  public static void schedule() {
+    if (!frameScheduled && !registrations.isEmpty()) {
+      frameScheduled = true;
+      DomGlobal.requestAnimationFrame(timestamp -> reposition());
+    }
+  }
+
+  private static void reposition() {
+    frameScheduled = false;
+    int viewportWidth = window.innerWidth;
+    int viewportHeight = window.innerHeight;
+    List<Registration> moved = new ArrayList<>();
+    for (Registration registration : new ArrayList<>(registrations.values())) {
+      if (registration.measure(viewportWidth, viewportHeight)) {
+        moved.add(registration);
+      }
+    }
+    for (Registration registration : moved) {
+      if (registrations.get(registration.follower) == registration) {
+        registration.follower.positionFollower();
+      }
+    }
+  }
+
+  private static final class Registration {
+    private final Element target;
+    private final FollowOnScroll.ScrollFollower follower;
+    private double[] lastLayout;
+
+    private Registration(Element target, FollowOnScroll.ScrollFollower follower) {
+      this.target = target;
+      this.follower = follower;
+    }
+
+    /**
+     * Reads the layout of the popup.
+     *
+     * @return true if the popup needs to be positioned.
+     */
+    private boolean measure(int viewportWidth, int viewportHeight) {
+      if (!follower.isFollowerOpen()) {
+        return false;
+      }
+      if (nonNull(target)) {
+        DOMRect rect = target.getBoundingClientRect();
+        boolean visible =
+            (rect.width > 0 || rect.height > 0)
+                && rect.bottom >= 0
+                && rect.right >= 0
+                && rect.top <= viewportHeight
+                && rect.left <= viewportWidth;
+        if (!visible) {
+          return false;
+        }
+        double[] next = {
+          rect.top, rect.left, rect.width, rect.height, viewportWidth, viewportHeight
+        };
+        if (Arrays.equals(lastLayout, next)) {
+          return false;
+        }
+        lastLayout = next;
+      }
+      follower.measureFollower();
+      return true;
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.isNull;
+
+import elemental2.dom.Element;
+
+/**
+ * A single {@link IntersectionObserver} with the default options, the viewport as root and a zero
+ * threshold, shared by all the elements observing their visibility, instead of creating one
+ * observer per element. The entries are delivered by a {@link FrameBatchedObserver}, once per
+ * animation frame with only the latest entry of each element.
+ */
+public final class SharedIntersectionObserver {
+
+  private static final FrameBatchedObserver<IntersectionObserverEntry, IntersectionListener>
+      dispatcher =
+          new FrameBatchedObserver<>(
+              IntersectionObserverEntry::getTarget, IntersectionListener::onIntersection);
+  private static IntersectionObserver intersectionObserver;
+
+  private SharedIntersectionObserver() {}
+
+  /**
+   * Starts observing the intersection of the element with the viewport, replacing any listener
+   * previously registered for the same element.
+   *
+   * @param element The element to observe.
+   * @param listener The listener to call when the element intersection changes.
+   */
+  public static void observe(Element element, IntersectionListener listener) {
+    dispatcher.register(element, listener);
+    getIntersectionObserver().observe(element);
+  }
+
+  /**
+   * Stops observing the intersection of the element and removes its listener.
+   *
+   * @param element The observed element.
+   */
+  public static void unobserve(Element element) {
+    if (dispatcher.unregister(element)) {
+      getIntersectionObserver().unobserve(element);
+    }
+  }
+
+  private static IntersectionObserver getIntersectionObserver() {
+    if (isNull(intersectionObserver)) {
+      intersectionObserver =
+          new IntersectionObserver(dispatcher::onEntries, IntersectionObserverOptions.create());
+    }
+    return intersectionObserver;
+  }
+
+  /** Functional interface for handling the intersection changes of an observed element. */
+  @FunctionalInterface
+  public interface IntersectionListener {
+
+    /**
+     * Handles the intersection change of the observed element.
+     *
+     * @param entry The latest intersection entry of the observed element.
+     */
+    void onIntersection(IntersectionObserverEntry entry);
+  }
+}
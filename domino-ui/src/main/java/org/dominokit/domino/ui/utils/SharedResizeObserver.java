@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.isNull;
+
+import elemental2.core.JsArray;
+import elemental2.dom.Element;
+
+/**
+ * A single {@link ResizeObserver} shared by all the elements observing their size, instead of
+ * creating one observer per element. The entries are delivered by a {@link FrameBatchedObserver},
+ * once per animation frame with only the latest entry of each element.
+ *
+ * <p>The observer passed to the listeners is shared and must not be disconnected, use {@link
+ * #unobserve(Element)} to stop observing an element.
+ */
+public final class SharedResizeObserver {
+
+  private static ResizeObserver resizeObserver;
+  private static final FrameBatchedObserver<ResizeObserverEntry, ResizeListener> dispatcher =
+      new FrameBatchedObserver<>(
+          entry -> entry.target,
+          (listener, entry) -> listener.onResize(resizeObserver, JsArray.of(entry)));
+
+  private SharedResizeObserver() {}
+
+  /**
+   * Starts observing the size of the element, replacing any listener previously registered for the
+   * same element.
+   *
+   * @param element The element to observe.
+   * @param listener The listener to call when the element size changes.
+   */
+  public static void observe(Element element, ResizeListener listener) {
+    dispatcher.register(element, listener);
+    getResizeObserver().observe(element);
+  }
+
+  /**
+   * Stops observing the size of the element and removes its listener.
+   *
+   * @param element The observed element.
+   */
+  public static void unobserve(Element element) {
+    if (dispatcher.unregister(element)) {
+      getResizeObserver().unobserve(element);
+    }
+  }
+
+  private static ResizeObserver getResizeObserver() {
+    if (isNull(resizeObserver)) {
+      resizeObserver = new ResizeObserver(dispatcher::onEntries);
+    }
+    return resizeObserver;
+  }
+
+  /** Functional interface for handling the size changes of an observed element. */
+  @FunctionalInterface
+  public interface ResizeListener {
+
+    /**
+     * Handles the size change of the observed element.
+     *
+     * @param observer The shared ResizeObserver instance.
+     * @param entries The ResizeObserver entries of the observed element.
+     */
+    void onResize(ResizeObserver observer, JsArray<ResizeObserverEntry> entries);
+  }
+}
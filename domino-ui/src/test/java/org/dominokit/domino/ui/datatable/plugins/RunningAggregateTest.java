@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.plugins;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class RunningAggregateTest {
+
+  private final RunningAggregate aggregate = new RunningAggregate();
+
+  @Test
+  public void hasNoAggregatesWithoutValues() {
+    assertTrue(aggregate.isEmpty());
+    assertEquals(0, aggregate.getCount());
+    assertEquals(0, aggregate.getSum(), 0);
+    assertNull(aggregate.getAverage());
+    assertNull(aggregate.getMin());
+    assertNull(aggregate.getMax());
+  }
+
+  @Test
+  public void aggregatesTheAddedValues() {
+    add(4, -2, 10, 4);
+
+    assertFalse(aggregate.isEmpty());
+    assertEquals(4, aggregate.getCount());
+    assertEquals(16, aggregate.getSum(), 0);
+    assertEquals(4, aggregate.getAverage(), 0);
+    assertEquals(-2, aggregate.getMin(), 0);
+    assertEquals(10, aggregate.getMax(), 0);
+  }
+
+  @Test
+  public void keepsTheMinAndMaxOfTheRemainingValues() {
+    add(1, 5, 5, 9);
+
+    aggregate.remove(9);
+    assertEquals(5, aggregate.getMax(), 0);
+    aggregate.remove(5);
+    assertEquals(5, aggregate.getMax(), 0);
+    aggregate.remove(5);
+    assertEquals(1, aggregate.getMax(), 0);
+    aggregate.remove(1);
+    assertTrue(aggregate.isEmpty());
+    assertNull(aggregate.getMin());
+    assertNull(aggregate.getMax());
+  }
+
+  @Test
+  public void ignoresTheRemovalOfValuesThatWereNotAdded() {
+    add(1, 2);
+
+    aggregate.remove(3);
+    assertEquals(2, aggregate.getCount());
+    assertEquals(3, aggregate.getSum(), 0);
+    assertEquals(1, aggregate.getMin(), 0);
+    assertEquals(2, aggregate.getMax(), 0);
+  }
+
+  @Test
+  public void doesNotAccumulateRoundingErrorsOverReplacements() {
+    add(0.1, 0.2, 0.3);
+
+    aggregate.remove(0.1);
+    aggregate.remove(0.2);
+    assertEquals(0.3, aggregate.getSum(), 0);
+
+    for (int i = 0; i < 1000; i++) {
+      aggregate.remove(0.3);
+      aggregate.add(0.7);
+      aggregate.remove(0.7);
+      aggregate.add(0.3);
+    }
+    assertEquals(1, aggregate.getCount());
+    assertEquals(0.3, aggregate.getSum(), 0);
+  }
+
+  @Test
+  public void resetsTheSumWhenTheLastValueIsRemoved() {
+    add(0.1, 0.2);
+
+    aggregate.remove(0.2);
+    aggregate.remove(0.1);
+    assertEquals(0, aggregate.getSum(), 0);
+    assertNull(aggregate.getAverage());
+  }
+
+  @Test
+  public void clearsAllTheValues() {
+    add(1, 2, 3);
+
+    aggregate.clear();
+    assertTrue(aggregate.isEmpty());
+    assertEquals(0, aggregate.getSum(), 0);
+    assertNull(aggregate.getMin());
+
+    aggregate.add(7);
+    assertEquals(7, aggregate.getSum(), 0);
+    assertEquals(7, aggregate.getMin(), 0);
+  }
+
+  private void add(double... values) {
+    for (double value : values) {
+      aggregate.add(value);
+    }
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.plugins.summary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ColumnAggregatorTest {
+
+  @Test
+  public void sumsTheValuesOfTheRecords() {
+    ColumnAggregator<Item> aggregator = ColumnAggregator.sum(item -> item.amount);
+
+    Object first = add(aggregator, new Item("a", 2.5));
+    add(aggregator, new Item("b", 4.0));
+    add(aggregator, new Item("c", null));
+    assertEquals(6.5, aggregator.getValue());
+
+    aggregator.remove(first);
+    assertEquals(4.0, aggregator.getValue());
+  }
+
+  @Test
+  public void replacesTheValuesOfARecordChangedInPlace() {
+    ColumnAggregator<Item> aggregator = ColumnAggregator.max(item -> item.amount);
+    Item item = new Item("a", 10.0);
+    Object value = add(aggregator, item);
+    add(aggregator, new Item("b", 3.0));
+
+    item.amount = 1.0;
+    aggregator.remove(value);
+    value = add(aggregator, item);
+    assertEquals(3.0, aggregator.getValue());
+
+    item.amount = 10.0;
+    aggregator.remove(value);
+    add(aggregator, item);
+    assertEquals(10.0, aggregator.getValue());
+  }
+
+  @Test
+  public void averagesMinimizesAndMaximizesTheNonNullValues() {
+    ColumnAggregator<Item> average = ColumnAggregator.average(item -> item.amount);
+    ColumnAggregator<Item> min = ColumnAggregator.min(item -> item.amount);
+    ColumnAggregator<Item> max = ColumnAggregator.max(item -> item.amount);
+    assertNull(average.getValue());
+    assertNull(min.getValue());
+    assertNull(max.getValue());
+    assertEquals("", average.getFormattedValue());
+
+    for (Item item : new Item[] {new Item("a", 1.0), new Item("b", null), new Item("c", 5.0)}) {
+      add(average, item);
+      add(min, item);
+      add(max, item);
+    }
+    assertEquals(3.0, average.getValue());
+    assertEquals(1.0, min.getValue());
+    assertEquals(5.0, max.getValue());
+  }
+
+  @Test
+  public void countsTheRecordsOrTheirNonNullValues() {
+    ColumnAggregator<Item> records = ColumnAggregator.count();
+    ColumnAggregator<Item> amounts = ColumnAggregator.count(item -> item.amount);
+    Item withAmount = new Item("a", 1.0);
+    Item withoutAmount = new Item("b", null);
+
+    for (Item item : new Item[] {withAmount, withoutAmount}) {
+      add(records, item);
+      add(amounts, item);
+    }
+    assertEquals(2, records.getValue());
+    assertEquals(1, amounts.getValue());
+
+    records.remove(records.valueOf(withoutAmount));
+    amounts.remove(amounts.valueOf(withoutAmount));
+    assertEquals(1, records.getValue());
+    assertEquals(1, amounts.getValue());
+  }
+
+  @Test
+  public void countsTheDistinctValues() {
+    ColumnAggregator<Item> aggregator = ColumnAggregator.distinctCount(item -> item.name);
+    Object first = add(aggregator, new Item("a", null));
+    add(aggregator, new Item("a", null));
+    add(aggregator, new Item("b", null));
+    assertEquals(2, aggregator.getValue());
+
+    aggregator.remove(first);
+    assertEquals(2, aggregator.getValue());
+    aggregator.remove(first);
+    assertEquals(1, aggregator.getValue());
+  }
+
+  @Test
+  public void ignoresTheRemovalOfValuesThatWereNotAdded() {
+    ColumnAggregator<Item> count = ColumnAggregator.count(item -> item.name);
+    ColumnAggregator<Item> sum = ColumnAggregator.sum(item -> item.amount);
+    add(count, new Item("a", 1.0));
+    add(sum, new Item("a", 1.0));
+
+    count.remove("b");
+    count.remove(null);
+    sum.remove(2.0);
+    assertEquals(1, count.getValue());
+    assertEquals(1.0, sum.getValue());
+  }
+
+  @Test
+  public void clearsTheAggregate() {
+    ColumnAggregator<Item> count = ColumnAggregator.distinctCount(item -> item.name);
+    ColumnAggregator<Item> sum = ColumnAggregator.sum(item -> item.amount);
+    add(count, new Item("a", 1.0));
+    add(sum, new Item("a", 1.0));
+
+    count.clear();
+    sum.clear();
+    assertEquals(0, count.getValue());
+    assertEquals(0.0, sum.getValue());
+  }
+
+  @Test
+  public void reportsTheChangesSinceTheAggregateWasLastRendered() {
+    ColumnAggregator<Item> aggregator = ColumnAggregator.min(item -> item.amount);
+    assertFalse(aggregator.markRendered());
+
+    Object value = add(aggregator, new Item("a", 2.0));
+    assertTrue(aggregator.markRendered());
+    assertFalse(aggregator.markRendered());
+
+    add(aggregator, new Item("b", 3.0));
+    assertFalse(aggregator.markRendered());
+
+    aggregator.remove(value);
+    assertTrue(aggregator.markRendered());
+  }
+
+  @Test
+  public void formatsTheAggregateWithTheFormatter() {
+    ColumnAggregator<Item> aggregator =
+        ColumnAggregator.<Item>count().setFormatter(value -> value + " items");
+    add(aggregator, new Item("a", null));
+
+    assertEquals("1 items", aggregator.getFormattedValue());
+  }
+
+  private static Object add(ColumnAggregator<Item> aggregator, Item item) {
+    Object value = aggregator.valueOf(item);
+    aggregator.add(value);
+    return value;
+  }
+
+  private static class Item {
+    private final String name;
+    private Double amount;
+
+    private Item(String name, Double amount) {
+      this.name = name;
+      this.amount = amount;
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.model.Category;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.model.FilterTypes;
+import org.dominokit.domino.ui.datatable.model.Operator;
+import org.junit.Test;
+
+public class CompiledSearchFilterTest {
+
+  private final CompiledSearchFilter<Person> filter =
+      CompiledSearchFilter.<Person>create()
+          .withField("name", person -> person.name)
+          .withField("age", person -> person.age);
+
+  @Test
+  public void filtersRecordsWithTheCompiledFilters() {
+    SearchEvent event =
+        search(
+            text("name", Operator.like, "an"),
+            number("age", Operator.greaterThanOrEquals, "30"));
+
+    assertTrue(filter.filterRecord(event, new Person("Anna", 30)));
+    assertFalse(filter.filterRecord(event, new Person("Anna", 29)));
+    assertFalse(filter.filterRecord(event, new Person("Bob", 40)));
+  }
+
+  @Test
+  public void aLongerTextNarrowsTheContainedText() {
+    assertTrue(isNarrowing(text("name", Operator.like, "an"), text("name", Operator.like, "ann")));
+    assertTrue(isNarrowing(text("name", Operator.like, "an"), text("name", Operator.like, "AN")));
+    assertFalse(isNarrowing(text("name", Operator.like, "ann"), text("name", Operator.like, "an")));
+    assertFalse(isNarrowing(text("name", Operator.like, "an"), text("name", Operator.like, "bo")));
+  }
+
+  @Test
+  public void aLongerPrefixNarrowsThePrefix() {
+    assertTrue(
+        isNarrowing(
+            text("name", Operator.startsWith, "a"), text("name", Operator.startsWith, "an")));
+    assertFalse(
+        isNarrowing(
+            text("name", Operator.startsWith, "a"), text("name", Operator.startsWith, "ba")));
+    assertFalse(
+        isNarrowing(text("name", Operator.startsWith, "a"), text("name", Operator.like, "an")));
+  }
+
+  @Test
+  public void aTighterBoundNarrowsTheRange() {
+    assertTrue(
+        isNarrowing(
+            number("age", Operator.greaterThan, "20"), number("age", Operator.greaterThan, "25")));
+    assertFalse(
+        isNarrowing(
+            number("age", Operator.greaterThan, "25"), number("age", Operator.greaterThan, "20")));
+    assertTrue(
+        isNarrowing(
+            number("age", Operator.lessThanOrEquals, "40"),
+            number("age", Operator.lessThanOrEquals, "35")));
+    assertFalse(
+        isNarrowing(
+            number("age", Operator.lessThanOrEquals, "35"),
+            number("age", Operator.lessThanOrEquals, "40")));
+  }
+
+  @Test
+  public void anInnerRangeNarrowsTheBetweenRange() {
+    assertTrue(
+        isNarrowing(
+            number("age", Operator.between, "10", "50"),
+            number("age", Operator.between, "20", "40")));
+    assertFalse(
+        isNarrowing(
+            number("age", Operator.between, "20", "40"),
+            number("age", Operator.between, "10", "50")));
+    assertFalse(
+        isNarrowing(
+            number("age", Operator.between, "10", "50"),
+            number("age", Operator.between, "20", "60")));
+  }
+
+  @Test
+  public void droppingAFilterDoesNotNarrowTheSearch() {
+    Filter name = text("name", Operator.like, "an");
+    Filter age = number("age", Operator.greaterThan, "20");
+
+    assertFalse(filter.isNarrowing(search(name, age), search(name)));
+    assertTrue(filter.isNarrowing(search(name), search(name, age)));
+  }
+
+  @Test
+  public void filtersThatDoNotFilterAnyRecordAreIgnored() {
+    Filter name = text("name", Operator.like, "an");
+
+    assertTrue(filter.isNarrowing(search(name, text("name", Operator.like, "")), search(name)));
+    assertTrue(filter.isNarrowing(search(name, text("unknown", Operator.like, "x")), search(name)));
+  }
+
+  private boolean isNarrowing(Filter previous, Filter next) {
+    return filter.isNarrowing(search(previous), search(next));
+  }
+
+  private static SearchEvent search(Filter... filters) {
+    return new SearchEvent(new ArrayList<>(asList(filters)));
+  }
+
+  private static Filter text(String field, Operator operator, String value) {
+    return filter(field, FilterTypes.STRING, operator, value);
+  }
+
+  private static Filter number(String field, Operator operator, String... values) {
+    return filter(field, FilterTypes.INTEGER, operator, values);
+  }
+
+  private static Filter filter(
+      String field, FilterTypes type, Operator operator, String... values) {
+    List<String> filterValues = new ArrayList<>(asList(values));
+    return new Filter(field, type, operator, filterValues, Category.HEADER_FILTER);
+  }
+
+  private static class Person {
+    private final String name;
+    private final Integer age;
+
+    private Person(String name, Integer age) {
+      this.name = name;
+      this.age = age;
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RecordsIndexTest {
+
+  private RecordsIndex<Item> index;
+  private List<Item> records;
+
+  @Before
+  public void setUp() {
+    index = new RecordsIndex<>(item -> item.id);
+    records = new ArrayList<>(Arrays.asList(new Item("a"), new Item("b"), new Item("c")));
+  }
+
+  @Test
+  public void findsThePositionOfARecordByItsKey() {
+    assertEquals(0, index.indexOf(records, new Item("a")));
+    assertEquals(2, index.indexOf(records, new Item("c")));
+    assertEquals(-1, index.indexOf(records, new Item("x")));
+  }
+
+  @Test
+  public void findsTheFirstRecordOfDuplicatedKeys() {
+    records.add(new Item("a"));
+    assertEquals(0, index.indexOf(records, new Item("a")));
+  }
+
+  @Test
+  public void rebuildsWhenAStaleHitPointsToAnotherRecord() {
+    index.indexOf(records, records.get(0));
+    records.remove(0);
+    assertEquals(0, index.indexOf(records, new Item("b")));
+    assertEquals(1, index.indexOf(records, new Item("c")));
+    assertEquals(-1, index.indexOf(records, new Item("a")));
+  }
+
+  @Test
+  public void rebuildsWhenAStaleHitIsOutOfTheList() {
+    index.indexOf(records, records.get(0));
+    records.remove(2);
+    records.remove(1);
+    assertEquals(-1, index.indexOf(records, new Item("c")));
+    assertEquals(0, index.indexOf(records, new Item("a")));
+  }
+
+  @Test
+  public void rebuildsAfterInvalidation() {
+    index.indexOf(records, records.get(0));
+    records.add(0, new Item("z"));
+    index.invalidate();
+    assertEquals(0, index.indexOf(records, new Item("z")));
+    assertEquals(1, index.indexOf(records, new Item("a")));
+  }
+
+  @Test
+  public void rebuildsForAnotherList() {
+    index.indexOf(records, records.get(0));
+    List<Item> other = Arrays.asList(new Item("c"), new Item("a"));
+    assertEquals(1, index.indexOf(other, new Item("a")));
+  }
+
+  @Test
+  public void replacedUpdatesTheKeyOfTheReplacedRecord() {
+    index.indexOf(records, records.get(0));
+    Item replacement = new Item("d");
+    Item replaced = records.set(1, replacement);
+    index.replaced(replaced, replacement, 1);
+    assertEquals(1, index.indexOf(records, new Item("d")));
+    assertEquals(-1, index.indexOf(records, new Item("b")));
+    assertEquals(2, index.indexOf(records, new Item("c")));
+  }
+
+  @Test
+  public void replacedKeepsThePositionOfARecordWithTheSameKey() {
+    index.indexOf(records, records.get(0));
+    Item replacement = new Item("b");
+    Item replaced = records.set(1, replacement);
+    index.replaced(replaced, replacement, 1);
+    assertEquals(1, index.indexOf(records, new Item("b")));
+  }
+
+  @Test
+  public void replacedIsIgnoredUntilTheIndexIsBuilt() {
+    Item replacement = new Item("d");
+    Item replaced = records.set(0, replacement);
+    index.replaced(replaced, replacement, 0);
+    assertEquals(0, index.indexOf(records, new Item("d")));
+    assertEquals(-1, index.indexOf(records, new Item("a")));
+  }
+
+  private static class Item {
+    private final String id;
+
+    private Item(String id) {
+      this.id = id;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Arrays.asList;
+import static org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection.ASC;
+import static org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection.DESC;
+import static org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection.NONE;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public class RecordsSortingTest {
+
+  private static final SortKeyProvider<Item> KEYS =
+      (field, item) -> "group".equals(field) ? item.group : item.value;
+
+  @Test
+  public void sortsAscendingAndDescending() {
+    List<Item> items = items("a:3", "b:1", "c:2");
+
+    RecordsSorting.sortByKeys(items, KEYS, asList("value"), asList(ASC));
+    assertEquals(asList("b", "c", "a"), names(items));
+
+    RecordsSorting.sortByKeys(items, KEYS, asList("value"), asList(DESC));
+    assertEquals(asList("a", "c", "b"), names(items));
+  }
+
+  @Test
+  public void keepsTheOrderOfEqualKeys() {
+    List<Item> items = items("a:2", "b:1", "c:2", "d:1", "e:2");
+
+    RecordsSorting.sortByKeys(items, KEYS, asList("value"), asList(ASC));
+    assertEquals(asList("b", "d", "a", "c", "e"), names(items));
+
+    RecordsSorting.sortByKeys(items, KEYS, asList("value"), asList(DESC));
+    assertEquals(asList("a", "c", "e", "b", "d"), names(items));
+  }
+
+  @Test
+  public void usesTheNextKeyOnlyForEqualKeys() {
+    List<Item> items = items("a:x:1", "b:y:3", "c:x:2", "d:y:1");
+
+    RecordsSorting.sortByKeys(items, KEYS, asList("group", "value"), asList(ASC, DESC));
+
+    assertEquals(asList("c", "a", "b", "d"), names(items));
+  }
+
+  @Test
+  public void ignoresTheSortsWithoutDirection() {
+    List<Item> items = items("a:y:1", "b:x:2", "c:x:1");
+
+    RecordsSorting.sortByKeys(items, KEYS, asList("group", "value"), asList(NONE, ASC));
+    assertEquals(asList("a", "c", "b"), names(items));
+
+    RecordsSorting.sortByKeys(items, KEYS, asList("group"), asList(NONE));
+    assertEquals(asList("a", "c", "b"), names(items));
+  }
+
+  @Test
+  public void sortsNullKeysFirstAscendingAndLastDescending() {
+    List<Item> items = items("a:2", "b", "c:1");
+
+    RecordsSorting.sortByKeys(items, KEYS, asList("value"), asList(ASC));
+    assertEquals(asList("b", "c", "a"), names(items));
+
+    RecordsSorting.sortByKeys(items, KEYS, asList("value"), asList(DESC));
+    assertEquals(asList("a", "c", "b"), names(items));
+  }
+
+  @Test
+  public void extractsTheKeysOfEachRecordOnce() {
+    List<Item> items = items("a:x:5", "b:y:4", "c:x:3", "d:y:2", "e:x:1");
+    int[] calls = {0};
+    SortKeyProvider<Item> countingKeys =
+        (field, item) -> {
+          calls[0]++;
+          return KEYS.getSortKey(field, item);
+        };
+
+    RecordsSorting.sortByKeys(items, countingKeys, asList("group", "value"), asList(ASC, ASC));
+
+    assertEquals(asList("e", "c", "a", "d", "b"), names(items));
+    assertEquals(10, calls[0]);
+  }
+
+  /** Creates items from {@code name[:group]:value} or {@code name} specs. */
+  private static List<Item> items(String... specs) {
+    List<Item> items = new ArrayList<>();
+    for (String spec : specs) {
+      String[] parts = spec.split(":");
+      String group = parts.length > 2 ? parts[1] : null;
+      Integer value = parts.length > 1 ? Integer.valueOf(parts[parts.length - 1]) : null;
+      items.add(new Item(parts[0], group, value));
+    }
+    return items;
+  }
+
+  private static List<String> names(List<Item> items) {
+    return items.stream().map(item -> item.name).collect(Collectors.toList());
+  }
+
+  private static class Item {
+    private final String name;
+    private final String group;
+    private final Integer value;
+
+    private Item(String name, String group, Integer value) {
+      this.name = name;
+      this.group = group;
+      this.value = value;
+    }
+  }
+}